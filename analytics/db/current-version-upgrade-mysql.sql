@@ -0,0 +1,60 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * Adds the current version indicators to the AdministrativeSegment and ArrestReportSegment tables of an existing search_nibrs_staging 
+ * database and sets them from the existing versions: the latest version of each report for its agency, and the latest version of 
+ * each report for its agency and owner.  Run it while the staging data service is stopped.
+ */
+use search_nibrs_staging;
+
+ALTER TABLE AdministrativeSegment 
+	ADD COLUMN CurrentVersionIndicator BOOLEAN DEFAULT FALSE NOT NULL,
+	ADD COLUMN CurrentOwnerVersionIndicator BOOLEAN DEFAULT FALSE NOT NULL;
+ALTER TABLE ArrestReportSegment 
+	ADD COLUMN CurrentVersionIndicator BOOLEAN DEFAULT FALSE NOT NULL,
+	ADD COLUMN CurrentOwnerVersionIndicator BOOLEAN DEFAULT FALSE NOT NULL;
+
+UPDATE AdministrativeSegment a 
+	JOIN (SELECT max(AdministrativeSegmentID) AS AdministrativeSegmentID FROM AdministrativeSegment 
+			WHERE IncidentNumber IS NOT NULL 
+			GROUP BY IncidentNumber, AgencyID) latest 
+		ON latest.AdministrativeSegmentID = a.AdministrativeSegmentID 
+	SET a.CurrentVersionIndicator = TRUE;
+UPDATE AdministrativeSegment a 
+	JOIN (SELECT max(AdministrativeSegmentID) AS AdministrativeSegmentID FROM AdministrativeSegment 
+			WHERE IncidentNumber IS NOT NULL AND OwnerId IS NOT NULL 
+			GROUP BY IncidentNumber, AgencyID, OwnerId) latest 
+		ON latest.AdministrativeSegmentID = a.AdministrativeSegmentID 
+	SET a.CurrentOwnerVersionIndicator = TRUE;
+
+UPDATE ArrestReportSegment a 
+	JOIN (SELECT max(ArrestReportSegmentID) AS ArrestReportSegmentID FROM ArrestReportSegment 
+			WHERE ArrestTransactionNumber IS NOT NULL 
+			GROUP BY ArrestTransactionNumber, AgencyID) latest 
+		ON latest.ArrestReportSegmentID = a.ArrestReportSegmentID 
+	SET a.CurrentVersionIndicator = TRUE;
+UPDATE ArrestReportSegment a 
+	JOIN (SELECT max(ArrestReportSegmentID) AS ArrestReportSegmentID FROM ArrestReportSegment 
+			WHERE ArrestTransactionNumber IS NOT NULL AND OwnerId IS NOT NULL 
+			GROUP BY ArrestTransactionNumber, AgencyID, OwnerId) latest 
+		ON latest.ArrestReportSegmentID = a.ArrestReportSegmentID 
+	SET a.CurrentOwnerVersionIndicator = TRUE;
+
+ALTER TABLE AdministrativeSegment ADD INDEX `idx_current_version_agencyid` (`CurrentVersionIndicator`, `AgencyID`, `IncidentDate`);
+ALTER TABLE AdministrativeSegment ADD INDEX `idx_current_owner_version_ownerid` (`CurrentOwnerVersionIndicator`, `OwnerId`, `AgencyID`, `IncidentDate`);
+ALTER TABLE ArrestReportSegment ADD INDEX `idx_current_version_agencyid` (`CurrentVersionIndicator`, `AgencyID`, `ArrestDate`);
+ALTER TABLE ArrestReportSegment ADD INDEX `idx_current_owner_version_ownerid` (`CurrentOwnerVersionIndicator`, `OwnerId`, `AgencyID`, `ArrestDate`);
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * Adds the IdGenerator table to an existing search_nibrs_staging database, starting each segment table's ids after its current maximum.
+ * LastId holds the next free id, so each row is seeded with the table's maximum id plus one.
+ * Run it while the staging data service is stopped.
+ */
+use search_nibrs_staging;
+
+CREATE TABLE IF NOT EXISTS IdGenerator (
+                GeneratorName VARCHAR(50) NOT NULL,
+                LastId INT NOT NULL,
+                PRIMARY KEY (GeneratorName)
+);
+
+REPLACE INTO IdGenerator (GeneratorName, LastId) SELECT 'AdministrativeSegment', COALESCE(MAX(AdministrativeSegmentID), 0) + 1 FROM AdministrativeSegment;
+REPLACE INTO IdGenerator (GeneratorName, LastId) SELECT 'OffenseSegment', COALESCE(MAX(OffenseSegmentID), 0) + 1 FROM OffenseSegment;
+REPLACE INTO IdGenerator (GeneratorName, LastId) SELECT 'PropertySegment', COALESCE(MAX(PropertySegmentID), 0) + 1 FROM PropertySegment;
+REPLACE INTO IdGenerator (GeneratorName, LastId) SELECT 'VictimSegment', COALESCE(MAX(VictimSegmentID), 0) + 1 FROM VictimSegment;
+REPLACE INTO IdGenerator (GeneratorName, LastId) SELECT 'OffenderSegment', COALESCE(MAX(OffenderSegmentID), 0) + 1 FROM OffenderSegment;
+REPLACE INTO IdGenerator (GeneratorName, LastId) SELECT 'ArresteeSegment', COALESCE(MAX(ArresteeSegmentID), 0) + 1 FROM ArresteeSegment;
+REPLACE INTO IdGenerator (GeneratorName, LastId) SELECT 'ArrestReportSegment', COALESCE(MAX(ArrestReportSegmentID), 0) + 1 FROM ArrestReportSegment;
+REPLACE INTO IdGenerator (GeneratorName, LastId) SELECT 'ArresteeSegmentWasArmedWith', COALESCE(MAX(ArresteeSegmentWasArmedWithID), 0) + 1 FROM ArresteeSegmentWasArmedWith;
+REPLACE INTO IdGenerator (GeneratorName, LastId) SELECT 'ArrestReportSegmentWasArmedWith', COALESCE(MAX(ArrestReportSegmentWasArmedWithID), 0) + 1 FROM ArrestReportSegmentWasArmedWith;
+REPLACE INTO IdGenerator (GeneratorName, LastId) SELECT 'SuspectedDrugType', COALESCE(MAX(SuspectedDrugTypeID), 0) + 1 FROM SuspectedDrugType;
+REPLACE INTO IdGenerator (GeneratorName, LastId) SELECT 'TypeOfWeaponForceInvolved', COALESCE(MAX(TypeOfWeaponForceInvolvedID), 0) + 1 FROM TypeOfWeaponForceInvolved;
+REPLACE INTO IdGenerator (GeneratorName, LastId) SELECT 'VictimOffenderAssociation', COALESCE(MAX(VictimOffenderAssociationID), 0) + 1 FROM VictimOffenderAssociation;
+REPLACE INTO IdGenerator (GeneratorName, LastId) SELECT 'PropertyType', COALESCE(MAX(PropertyTypeID), 0) + 1 FROM PropertyType;
@@ -0,0 +1,24 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * Widens the Submission MessageIdentifier of an existing search_nibrs_staging database to hold the message identifiers of the
+ * documents converted straight from the flat files, which are larger than any segment id.  Run it while the staging data
+ * service and the FBI service are stopped.
+ */
+use search_nibrs_staging;
+
+ALTER TABLE Submission MODIFY MessageIdentifier BIGINT NOT NULL;
@@ -0,0 +1,25 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * Adds the indexes the report and pre-certification error searches sort and page on to an existing search_nibrs_staging 
+ * database, so the newest page of a search is read from the index instead of sorting every matching row. 
+ */
+use search_nibrs_staging;
+
+ALTER TABLE AdministrativeSegment ADD INDEX `idx_report_timestamp` (`ReportTimestamp`, `AdministrativeSegmentID`);
+ALTER TABLE ArrestReportSegment ADD INDEX `idx_report_timestamp` (`ReportTimestamp`, `ArrestReportSegmentID`);
+ALTER TABLE PreCertificationError ADD INDEX `idx_precertificationerror_timestamp` (`PreCertificationErrorTimestamp`, `PreCertificationErrorId`);
@@ -60,7 +60,7 @@ CREATE TABLE NibrsErrorCodeType (
 CREATE TABLE Submission (
                 SubmissionID INT AUTO_INCREMENT NOT NULL,
                 IncidentIdentifier VARCHAR(50) NOT NULL,
-                MessageIdentifier INT NOT NULL,
+                MessageIdentifier BIGINT NOT NULL,
                 RequestFilePath VARCHAR(300) NOT NULL,
                 ResponseFilePath VARCHAR(300),
                 AcceptedIndicator BOOLEAN DEFAULT false NOT NULL,
@@ -446,6 +446,7 @@ CREATE TABLE ArrestReportSegment (
                 StateCode CHAR(2) NOT NULL,
                 MonthOfTape VARCHAR(2),
                 YearOfTape VARCHAR(4),
+                SubmissionPeriod INT,
                 CityIndicator VARCHAR(4),
                 AgencyID INT NOT NULL,
                 ORI VARCHAR(9),
@@ -467,6 +468,8 @@ CREATE TABLE ArrestReportSegment (
                 SubmissionID INT,
                 OwnerId INT,
                 ReportTimestamp TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+                CurrentVersionIndicator BOOLEAN DEFAULT FALSE NOT NULL,
+                CurrentOwnerVersionIndicator BOOLEAN DEFAULT FALSE NOT NULL,
                 PRIMARY KEY (ArrestReportSegmentID)
 );
 
@@ -489,6 +492,7 @@ CREATE TABLE AdministrativeSegment (
                 StateCode CHAR(2) NOT NULL,
                 MonthOfTape VARCHAR(2),
                 YearOfTape VARCHAR(4),
+                SubmissionPeriod INT,
                 CityIndicator VARCHAR(4),
                 ORI VARCHAR(9),
                 AgencyID INT NOT NULL,
@@ -504,6 +508,8 @@ CREATE TABLE AdministrativeSegment (
                 SubmissionID INT,
                 OwnerId INT,
                 ReportTimestamp TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+                CurrentVersionIndicator BOOLEAN DEFAULT FALSE NOT NULL,
+                CurrentOwnerVersionIndicator BOOLEAN DEFAULT FALSE NOT NULL,
                 PRIMARY KEY (AdministrativeSegmentID)
 );
 
@@ -1302,4 +1308,29 @@ ON UPDATE NO ACTION;
 ALTER TABLE administrativesegment ADD INDEX `idx_incidentnum_agencyid` (`AgencyID` ASC,`IncidentNumber` ASC);
 ALTER TABLE arrestreportsegment ADD INDEX `idx_atn_agencyid` (`AgencyID` ASC, `ArrestTransactionNumber` ASC);
 ALTER TABLE administrativesegment ADD INDEX `idx_incidentnum_agencyid_ownerId` (`AgencyID` ASC,`IncidentNumber` ASC, `ownerId` asc);
-ALTER TABLE arrestreportsegment ADD INDEX `idx_atn_agencyid_ownerId` (`AgencyID` ASC, `ArrestTransactionNumber` ASC, `ownerId` asc);
\ No newline at end of file
+ALTER TABLE arrestreportsegment ADD INDEX `idx_atn_agencyid_ownerId` (`AgencyID` ASC, `ArrestTransactionNumber` ASC, `ownerId` asc);
+ALTER TABLE administrativesegment ADD INDEX `idx_current_version_agencyid` (`CurrentVersionIndicator`, `AgencyID`, `IncidentDate`);
+ALTER TABLE administrativesegment ADD INDEX `idx_current_owner_version_ownerid` (`CurrentOwnerVersionIndicator`, `OwnerId`, `AgencyID`, `IncidentDate`);
+ALTER TABLE arrestreportsegment ADD INDEX `idx_current_version_agencyid` (`CurrentVersionIndicator`, `AgencyID`, `ArrestDate`);
+ALTER TABLE arrestreportsegment ADD INDEX `idx_current_owner_version_ownerid` (`CurrentOwnerVersionIndicator`, `OwnerId`, `AgencyID`, `ArrestDate`);
+ALTER TABLE administrativesegment ADD INDEX `idx_incidentdate_current_version` (`IncidentDate`, `CurrentVersionIndicator`);
+ALTER TABLE administrativesegment ADD INDEX `idx_exceptionalclearancedate` (`ExceptionalClearanceDate`);
+ALTER TABLE administrativesegment ADD INDEX `idx_ori_submission_period` (`ORI`, `SubmissionPeriod`);
+ALTER TABLE administrativesegment ADD INDEX `idx_agencyid_submission_period` (`AgencyID`, `SubmissionPeriod`);
+ALTER TABLE arresteesegment ADD INDEX `idx_arrestdate` (`ArrestDate`, `AdministrativeSegmentID`);
+ALTER TABLE arrestreportsegment ADD INDEX `idx_arrestdate_current_version` (`ArrestDate`, `CurrentVersionIndicator`);
+ALTER TABLE arrestreportsegment ADD INDEX `idx_ori_submission_period` (`ORI`, `SubmissionPeriod`);
+ALTER TABLE arrestreportsegment ADD INDEX `idx_agencyid_submission_period` (`AgencyID`, `SubmissionPeriod`);
+ALTER TABLE administrativesegment ADD INDEX `idx_report_timestamp` (`ReportTimestamp`, `AdministrativeSegmentID`);
+ALTER TABLE arrestreportsegment ADD INDEX `idx_report_timestamp` (`ReportTimestamp`, `ArrestReportSegmentID`);
+ALTER TABLE precertificationerror ADD INDEX `idx_precertificationerror_timestamp` (`PreCertificationErrorTimestamp`, `PreCertificationErrorId`);
+
+/*
+ * The next free id for each segment table.  The staging data service reserves ids in blocks, from LastId up, so that its inserts can be
+ * batched, and adds a table's row the first time it needs one; see id-generator-upgrade-mysql.sql for existing databases.
+ */
+CREATE TABLE IdGenerator (
+                GeneratorName VARCHAR(50) NOT NULL,
+                LastId INT NOT NULL,
+                PRIMARY KEY (GeneratorName)
+);
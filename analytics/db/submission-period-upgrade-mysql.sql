@@ -0,0 +1,41 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * Adds the SubmissionPeriod (yyyymm) column to the AdministrativeSegment and ArrestReportSegment tables of an existing 
+ * search_nibrs_staging database, sets it from the YearOfTape and MonthOfTape, and adds the indexes for the date range and 
+ * submission period predicates of the summary, search and submission queries.  Run it while the staging data service is stopped.
+ */
+use search_nibrs_staging;
+
+ALTER TABLE AdministrativeSegment ADD COLUMN SubmissionPeriod INT AFTER YearOfTape;
+ALTER TABLE ArrestReportSegment ADD COLUMN SubmissionPeriod INT AFTER YearOfTape;
+
+UPDATE AdministrativeSegment 
+	SET SubmissionPeriod = CAST(YearOfTape AS UNSIGNED) * 100 + CAST(MonthOfTape AS UNSIGNED) 
+	WHERE YearOfTape IS NOT NULL AND MonthOfTape IS NOT NULL;
+UPDATE ArrestReportSegment 
+	SET SubmissionPeriod = CAST(YearOfTape AS UNSIGNED) * 100 + CAST(MonthOfTape AS UNSIGNED) 
+	WHERE YearOfTape IS NOT NULL AND MonthOfTape IS NOT NULL;
+
+ALTER TABLE AdministrativeSegment ADD INDEX `idx_incidentdate_current_version` (`IncidentDate`, `CurrentVersionIndicator`);
+ALTER TABLE AdministrativeSegment ADD INDEX `idx_exceptionalclearancedate` (`ExceptionalClearanceDate`);
+ALTER TABLE AdministrativeSegment ADD INDEX `idx_ori_submission_period` (`ORI`, `SubmissionPeriod`);
+ALTER TABLE AdministrativeSegment ADD INDEX `idx_agencyid_submission_period` (`AgencyID`, `SubmissionPeriod`);
+ALTER TABLE ArresteeSegment ADD INDEX `idx_arrestdate` (`ArrestDate`, `AdministrativeSegmentID`);
+ALTER TABLE ArrestReportSegment ADD INDEX `idx_arrestdate_current_version` (`ArrestDate`, `CurrentVersionIndicator`);
+ALTER TABLE ArrestReportSegment ADD INDEX `idx_ori_submission_period` (`ORI`, `SubmissionPeriod`);
+ALTER TABLE ArrestReportSegment ADD INDEX `idx_agencyid_submission_period` (`AgencyID`, `SubmissionPeriod`);
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016 Research Triangle Institute
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.apps;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.flatfile.importer.IncidentBuilder;
+import org.search.nibrs.importer.ReportListener;
+import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.validation.SubmissionValidator;
+import org.search.nibrs.validation.ValidatorProperties;
+import org.search.nibrs.validation.groupa.GroupAIncidentReportValidator;
+import org.search.nibrs.validation.groupb.GroupBArrestReportValidator;
+import org.search.nibrs.xml.exporter.NibrsNiemDocumentWriter;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Executable class (via main) that accepts a flat file submission (via stdin, or
+ * optionally a specified file or folder of files), validates each report and writes
+ * the valid ones as NIEM XML documents to the specified output folder.  The reports
+ * are converted as they are parsed, without the staging database.
+ */
+public class NIBRSConverter {
+
+	public static void main(String[] args) throws ParseException, IOException {
+
+		CommandLineParser parser = new DefaultParser();
+		Options options = buildOptions();
+		CommandLine cl = parser.parse(options, args);
+
+		if (cl.hasOption("h") || !cl.hasOption("o")) {
+			HelpFormatter hf = new HelpFormatter();
+			hf.printHelp("NIBRSConverter", options);
+			return;
+		}
+
+		final Path outputFolder = Paths.get(cl.getOptionValue("o"));
+		final List<String> skippedReports = new ArrayList<>();
+		final int[] convertedCount = {0};
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(SubmissionValidator.class, 
+				ValidatorProperties.class, GroupAIncidentReportValidator.class, GroupBArrestReportValidator.class)) {
+			SubmissionValidator submissionValidator = context.getBean(SubmissionValidator.class);
+			ValidatorProperties validatorProperties = context.getBean(ValidatorProperties.class);
+			NibrsNiemDocumentWriter niemDocumentWriter = new NibrsNiemDocumentWriter(cl.getOptionValue("s", "SUBORI123"),
+					NibrsNiemDocumentWriter.getDefaultNonNumericAgeCodeMapping(), validatorProperties.getStateToFbiRaceCodeMapping());
+
+			ReportListener converterListener = new ReportListener() {
+				@Override
+				public void newReport(AbstractReport report, List<NIBRSError> el) {
+					if (!el.isEmpty() || !submissionValidator.validateReport(report).isEmpty()) {
+						skippedReports.add(report.getUniqueReportDescription());
+						return;
+					}
+					try {
+						niemDocumentWriter.writeToFolder(report, outputFolder);
+						convertedCount[0]++;
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}
+			};
+
+			if (cl.hasOption("f")) {
+				String fileName = cl.getOptionValue("f");
+				File file = new File(fileName);
+
+				if (!file.exists()) {
+					System.err.println("File " + fileName + " does not exist.");
+					System.exit(1);
+				}
+
+				File[] files = file.isDirectory() ? file.listFiles() : new File[]{file};
+				for (File fileEntry : files) {
+					if (fileEntry.isFile()) {
+						try (Reader reader = new BufferedReader(new InputStreamReader(new FileInputStream(fileEntry), StandardCharsets.UTF_8))) {
+							convert(converterListener, reader, fileEntry.getAbsolutePath());
+						}
+					}
+				}
+			} else {
+				Reader inputReader = new BufferedReader(new InputStreamReader(System.in));
+				convert(converterListener, inputReader, "console");
+				inputReader.close();
+			}
+		}
+
+		System.out.println("Converted " + convertedCount[0] + " reports to " + outputFolder.toAbsolutePath());
+		if (!skippedReports.isEmpty()) {
+			System.out.println("Skipped " + skippedReports.size() + " reports with errors:");
+			skippedReports.forEach(System.out::println);
+		}
+
+	}
+
+	private static void convert(ReportListener converterListener, Reader reader, String readerLocationName) throws IOException {
+		IncidentBuilder incidentBuilder = new IncidentBuilder();
+		incidentBuilder.addIncidentListener(converterListener);
+		incidentBuilder.buildIncidents(reader, readerLocationName);
+	}
+
+	private static final Options buildOptions() {
+		Options options = new Options();
+		options.addOption("h", "help", false, "Print usage and options info");
+		options.addOption("f", "in", true, "Input submission file, or a folder of submission files");
+		options.addOption("o", "out", true, "Output folder for the XML documents (required)");
+		options.addOption("s", "submitter", true, "ORI of the submitting agency, defaults to SUBORI123");
+		return options;
+	}
+
+}
@@ -16,6 +16,7 @@
 package org.search.nibrs.common;
 
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -38,7 +39,10 @@ import org.search.nibrs.model.codes.NIBRSErrorCode;
 
 /**
  * A class for objects that represent an error encountered in processing NIBRS data.
- *
+ * <br/>
+ * An error holds on to the few fields of its report that error listings need (ORI, year and month of tape, and action type) rather than the
+ * report itself, so that keeping the errors for a large submission does not keep every erroneous report in memory.  The report remains
+ * available from getReport() for as long as something else (a validator, a listener) still holds it.
  */
 public class NIBRSError implements Serializable{
 	
@@ -47,7 +51,12 @@ public class NIBRSError implements Serializable{
 	@SuppressWarnings("unused")
 	private static final Logger LOG = LogManager.getLogger(NIBRSError.class);
 	
-	private AbstractReport report;
+	private transient WeakReference<AbstractReport> reportReference;
+	private boolean reportAssociated;
+	private String ori;
+	private Integer yearOfTape;
+	private Integer monthOfTape;
+	private char reportActionType;
 	private ReportSource context;
 	private String reportUniqueIdentifier;
 	private Object value;
@@ -72,7 +81,12 @@ public class NIBRSError implements Serializable{
 		this.nibrsErrorCode = e.nibrsErrorCode;
 		this.dataElementIdentifier = e.dataElementIdentifier;
 		this.warning = e.warning;
-		this.report = e.report;
+		this.reportReference = e.reportReference;
+		this.reportAssociated = e.reportAssociated;
+		this.ori = e.ori;
+		this.yearOfTape = e.yearOfTape;
+		this.monthOfTape = e.monthOfTape;
+		this.reportActionType = e.reportActionType;
 		this.crossSegment = e.crossSegment;
 	}
 	
@@ -107,14 +121,65 @@ public class NIBRSError implements Serializable{
 	}
 	
 	/**
-	 * Get the report object (Group A Incident or Group B Arrest) with which this error is associated
-	 * @return the report
+	 * Get the report object (Group A Incident or Group B Arrest) with which this error is associated.  The error does not keep the
+	 * report in memory, so once nothing else refers to the report this returns null; use hasReport() and the report field getters
+	 * (getOri() and so on) when the error may outlive the report.
+	 * @return the report, or null if there is none or it is no longer in memory
 	 */
 	public AbstractReport getReport() {
-		return report;
+		return reportReference == null ? null : reportReference.get();
 	}
 	public void setReport(AbstractReport report) {
-		this.report = report;
+		this.reportReference = report == null ? null : new WeakReference<>(report);
+		this.reportAssociated = report != null;
+		this.ori = report == null ? null : report.getOri();
+		this.yearOfTape = report == null ? null : report.getYearOfTape();
+		this.monthOfTape = report == null ? null : report.getMonthOfTape();
+		this.reportActionType = report == null ? 0 : report.getReportActionType();
+	}
+
+	/**
+	 * Whether this error is associated with a report (whether or not the report is still in memory).
+	 * @return whether the error has a report
+	 */
+	public boolean hasReport() {
+		return reportAssociated;
+	}
+
+	/**
+	 * The ORI of the report with which this error is associated.
+	 * @return the ORI
+	 */
+	public String getOri() {
+		AbstractReport report = getReport();
+		return report == null ? ori : report.getOri();
+	}
+
+	/**
+	 * The year of tape of the report with which this error is associated.
+	 * @return the year of tape
+	 */
+	public Integer getYearOfTape() {
+		AbstractReport report = getReport();
+		return report == null ? yearOfTape : report.getYearOfTape();
+	}
+
+	/**
+	 * The month of tape of the report with which this error is associated.
+	 * @return the month of tape
+	 */
+	public Integer getMonthOfTape() {
+		AbstractReport report = getReport();
+		return report == null ? monthOfTape : report.getMonthOfTape();
+	}
+
+	/**
+	 * The action type of the report with which this error is associated.
+	 * @return the action type
+	 */
+	public char getReportActionType() {
+		AbstractReport report = getReport();
+		return report == null ? reportActionType : report.getReportActionType();
 	}
 
 	/**
@@ -333,22 +398,24 @@ public class NIBRSError implements Serializable{
 	public String getReportUniqueIdentifierOutput() {
 		StringBuilder sb = new StringBuilder(36);
 		
-		sb.append(String.valueOf(report.getYearOfTape()));
-		sb.append(StringUtils.leftPad(String.valueOf(report.getMonthOfTape()), 2, '0'));
+		sb.append(String.valueOf(getYearOfTape()));
+		sb.append(StringUtils.leftPad(String.valueOf(getMonthOfTape()), 2, '0'));
 		sb.append(StringUtils.leftPad(String.valueOf(this.getContext().getSourceLocation()), 7, '0'));
-		sb.append(String.valueOf(this.getReport().getReportActionType()));
-		sb.append(String.valueOf(this.getReport().getOri()));
+		sb.append(String.valueOf(getReportActionType()));
+		sb.append(String.valueOf(getOri()));
 		sb.append(StringUtils.rightPad(this.getReportUniqueIdentifier(), 12));
 		return sb.toString();
 	}
 	
 	public String getDateOfTape(){
 		StringBuilder sb = new StringBuilder(6);
-		if ( report != null && report.getYearOfTape() != null){
-			sb.append(String.valueOf(report.getYearOfTape()));
+		Integer yearOfTape = getYearOfTape();
+		Integer monthOfTape = getMonthOfTape();
+		if (yearOfTape != null){
+			sb.append(String.valueOf(yearOfTape));
 		}
-		if ( report!= null && report.getMonthOfTape() != null){
-			sb.append(StringUtils.leftPad(String.valueOf(report.getMonthOfTape()), 2, '0'));
+		if (monthOfTape != null){
+			sb.append(StringUtils.leftPad(String.valueOf(monthOfTape), 2, '0'));
 		}
 		return sb.toString();
 	}
@@ -15,12 +15,16 @@
  */
 package org.search.nibrs.common;
 
+import java.io.Serializable;
+
 /**
  * The interface for objects that serve as a source of NIBRS reports (e.g., files, databases, etc.)  Importers or other sources of NIBRS reports use these
  * objects to report information about where each report came from.
  */
-public class ReportSource {
+public class ReportSource implements Serializable {
 	
+	private static final long serialVersionUID = -3268546385739207136L;
+
 	private String sourceName;
 	private String sourceLocation;
 	
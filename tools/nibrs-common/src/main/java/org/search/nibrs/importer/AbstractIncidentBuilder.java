@@ -43,7 +43,9 @@ public class AbstractIncidentBuilder {
 		public int reportCount = 0;
 		public int errorCount = 0;
 		public void newReport(AbstractReport newReport, List<NIBRSError> errorList) {
-			log.info("Created " + newReport.getUniqueReportDescription());
+			if (log.isInfoEnabled()) {
+				log.info("Created " + newReport.getUniqueReportDescription());
+			}
 			reportCount++;
 			errorCount += errorList.size();
 		}
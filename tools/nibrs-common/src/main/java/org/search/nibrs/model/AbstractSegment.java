@@ -15,6 +15,8 @@
  */
 package org.search.nibrs.model;
 
+import java.io.Serializable;
+
 import org.search.nibrs.common.NIBRSError;
 import org.search.nibrs.common.ValidationTarget;
 
@@ -23,8 +25,10 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 /**
  * Base class for NIBRS segments
  */
-public abstract class AbstractSegment implements ValidationTarget {
+public abstract class AbstractSegment implements ValidationTarget, Serializable {
 	
+	private static final long serialVersionUID = 2871352695870435164L;
+
 	private AbstractReport parentReport;
 	protected char segmentType;
 	
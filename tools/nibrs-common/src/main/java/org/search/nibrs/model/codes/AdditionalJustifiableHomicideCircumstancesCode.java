@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public enum AdditionalJustifiableHomicideCircumstancesCode {
@@ -40,18 +39,14 @@ public enum AdditionalJustifiableHomicideCircumstancesCode {
 	public String description;	
 	
 	
-	public static Set<String> codeSet(){
-		
-		Set<String> rCodeSet = new HashSet<>();
-		
-		for(AdditionalJustifiableHomicideCircumstancesCode iCircsCode : values()){
-			
-			String sCode = iCircsCode.code;
-			
-			rCodeSet.add(sCode);
-		}
-		
-		return rCodeSet;
+	private static final CodeIndex<AdditionalJustifiableHomicideCircumstancesCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
+	public static Set<String> codeSet() {
+		return CODE_INDEX.codeSet();
+	}
+
+	public static AdditionalJustifiableHomicideCircumstancesCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 	
 }
@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public enum AgeOfVictimCode {
@@ -44,17 +43,13 @@ public enum AgeOfVictimCode {
 	public String description;
 	
 	
-	public static Set<String> codeSet(){
-		
-		Set<String> rCodeSet = new HashSet<>();
-		
-		for(AgeOfVictimCode iAgeOfVictimCode : values()){
-			
-			String iCode = iAgeOfVictimCode.code;
-			
-			rCodeSet.add(iCode);
-		}
-		
-		return rCodeSet;
+	private static final CodeIndex<AgeOfVictimCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
+	public static Set<String> codeSet() {
+		return CODE_INDEX.codeSet();
+	}
+
+	public static AgeOfVictimCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 }
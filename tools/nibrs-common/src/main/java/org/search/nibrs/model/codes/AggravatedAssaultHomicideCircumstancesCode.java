@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public enum AggravatedAssaultHomicideCircumstancesCode {
@@ -53,15 +52,14 @@ public enum AggravatedAssaultHomicideCircumstancesCode {
 		this.description = description;
 	}
 
-	public static Set<String> codeSet(){
-	
-		Set<String> rCodeSet = new HashSet<String>();
-		
-		for(AggravatedAssaultHomicideCircumstancesCode assaultCode : values()){
-			
-			rCodeSet.add(assaultCode.code);
-		}
-		return rCodeSet;
+	private static final CodeIndex<AggravatedAssaultHomicideCircumstancesCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
+	public static Set<String> codeSet() {
+		return CODE_INDEX.codeSet();
+	}
+
+	public static AggravatedAssaultHomicideCircumstancesCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 	
 }
@@ -16,17 +16,9 @@
 package org.search.nibrs.model.codes;
 
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
-
-import org.apache.commons.lang3.StringUtils;
 
 /**
  * Code enum for Arrestee Was Armed With (data element 46)
@@ -52,33 +44,21 @@ public enum ArresteeWasArmedWithCode {
 	
 	private static final List<ArresteeWasArmedWithCode> FIREARMS = Arrays.asList(new ArresteeWasArmedWithCode[] {_11, _12, _13, _14, _15});
 	
-	private static final Map<String,ArresteeWasArmedWithCode> ENUM_MAP;
-	
-	private static final Set<String> CODE_SET;
-	
-	static {
-		Map<String,ArresteeWasArmedWithCode> map = new HashMap<String, ArresteeWasArmedWithCode>();
-		for (ArresteeWasArmedWithCode instance : ArresteeWasArmedWithCode.values()) {
-		    map.put(instance.code.toLowerCase(),instance);
-		}
-		ENUM_MAP = Collections.unmodifiableMap(map);
-		
-		CODE_SET = Arrays.stream(values()).map(item->item.code)
-				.collect(Collectors.toSet()); 
-	}
+
+	private static final CodeIndex<ArresteeWasArmedWithCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
 
 	public static final Set<String> codeSet() {
-		return CODE_SET;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static final ArresteeWasArmedWithCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 
 	public static final Set<ArresteeWasArmedWithCode> asSet() {
 		return EnumSet.allOf(ArresteeWasArmedWithCode.class);
 	}
 	
-	public static final ArresteeWasArmedWithCode forCode(String code) {
-		return ENUM_MAP.get(StringUtils.lowerCase(code));
-	}
-
 	public boolean isFirearm() {
 		return FIREARMS.contains(this);
 	}
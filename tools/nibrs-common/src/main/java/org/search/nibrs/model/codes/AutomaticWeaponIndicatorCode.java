@@ -16,7 +16,6 @@
 package org.search.nibrs.model.codes;
 
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -39,12 +38,14 @@ public enum AutomaticWeaponIndicatorCode {
 		return EnumSet.allOf(AutomaticWeaponIndicatorCode.class);
 	}
 
+	private static final CodeIndex<AutomaticWeaponIndicatorCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (AutomaticWeaponIndicatorCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static final AutomaticWeaponIndicatorCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 
 }
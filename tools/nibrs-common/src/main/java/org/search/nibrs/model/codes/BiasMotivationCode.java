@@ -15,9 +15,8 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.Arrays;
 import java.util.EnumSet;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -76,27 +75,28 @@ public enum BiasMotivationCode {
 		return EnumSet.allOf(BiasMotivationCode.class);
 	}
 	
+	private static final CodeIndex<BiasMotivationCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+	private static final Map<String, BiasMotivationCode> IEPD_CODE_MAP = CodeIndex.mapByCode(values(), v -> v.iepdCode);
+	private static final Set<String> NONE_OR_UNKNOWN_VALUE_CODE_SET = CodeIndex.codeSetOf(_88.code, _99.code);
+
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (BiasMotivationCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static final BiasMotivationCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 	
 	public static final Set<String> noneOrUnknownValueCodeSet() {
-		Set<String> ret = new HashSet<>();
-		ret.add(_88.code);
-		ret.add(_99.code);
-		return ret;
+		return NONE_OR_UNKNOWN_VALUE_CODE_SET;
 	}
 	
 	public static final BiasMotivationCode valueOfIepdCode(String iepdCode){
-		return	Arrays.stream(BiasMotivationCode.values()).filter(i->i.iepdCode.equals(iepdCode)).findFirst().orElse(null); 
+		return IEPD_CODE_MAP.get(iepdCode);
 	}
 
 	public static final BiasMotivationCode valueOfCode(String code){
-		return	Arrays.stream(BiasMotivationCode.values()).filter(i->i.code.equals(code)).findFirst().orElse(null); 
+		return forCode(code);
 	}
 	
 }
@@ -16,7 +16,6 @@
 package org.search.nibrs.model.codes;
 
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -40,12 +39,14 @@ public enum CargoTheftIndicatorCode {
 		return EnumSet.allOf(CargoTheftIndicatorCode.class);
 	}
 	
+	private static final CodeIndex<CargoTheftIndicatorCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (CargoTheftIndicatorCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static final CargoTheftIndicatorCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 
 }
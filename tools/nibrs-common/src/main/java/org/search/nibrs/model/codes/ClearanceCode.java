@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public enum ClearanceCode {
@@ -34,17 +33,13 @@ public enum ClearanceCode {
 		this.description = description;
 	}
 
-	public static Set<String> codeSet(){
-		
-		Set<String> rCodeSet = new HashSet<String>();
-		
-		for(ClearanceCode clearanceCode : values()){
-			
-			String iCode = clearanceCode.code;
-			
-			rCodeSet.add(iCode);
-		}
-		
-		return rCodeSet;
+	private static final CodeIndex<ClearanceCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
+	public static Set<String> codeSet() {
+		return CODE_INDEX.codeSet();
+	}
+
+	public static ClearanceCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}	
 }
@@ -15,8 +15,8 @@
  */
 package org.search.nibrs.model.codes;
 
+import java.util.Arrays;
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -44,16 +44,18 @@ public enum ClearedExceptionallyCode {
 	}
 	
 	public static final Set<String> applicableCodeSet(){
-		Set<String> ret = codeSet();
-		ret.remove(ClearedExceptionallyCode.N.code);
-		return ret;
+		return APPLICABLE_CODE_SET;
 	}
+
+	private static final CodeIndex<ClearedExceptionallyCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+	private static final Set<String> APPLICABLE_CODE_SET = CodeIndex.codeSetOf(Arrays.stream(values()).filter(v -> v != N).map(v -> v.code).toArray(String[]::new));
+
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (ClearedExceptionallyCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static final ClearedExceptionallyCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.model.codes;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The code set of a code enum, and a lookup of its values by code, built once when the enum is initialized.
+ * <br/>
+ * Lookups are case-insensitive, as OffenseCode.forCode always has been.  When every code is a single ASCII character (the
+ * majority of the enums), the lookup is a straight index into an array; otherwise it is a map lookup on the code as given,
+ * falling back to its lower case form only if that misses.
+ */
+final class CodeIndex<E extends Enum<E>> {
+
+	private static final int ASCII_LIMIT = 128;
+
+	private final Set<String> codeSet;
+	private final Map<String, E> valuesByCode;
+	private final Object[] valuesBySingleCharacterCode;
+
+	CodeIndex(E[] values, Function<E, String> codeFunction) {
+		Set<String> codes = new HashSet<>();
+		Map<String, E> map = new HashMap<>();
+		boolean singleCharacterCodes = true;
+		for (E value : values) {
+			String code = codeFunction.apply(value);
+			codes.add(code);
+			map.putIfAbsent(code, value);
+			map.putIfAbsent(code.toLowerCase(), value);
+			singleCharacterCodes &= code.length() == 1 && code.charAt(0) < ASCII_LIMIT;
+		}
+		codeSet = Collections.unmodifiableSet(codes);
+		valuesByCode = Collections.unmodifiableMap(map);
+		if (singleCharacterCodes) {
+			valuesBySingleCharacterCode = new Object[ASCII_LIMIT];
+			for (Map.Entry<String, E> entry : map.entrySet()) {
+				char c = entry.getKey().charAt(0);
+				valuesBySingleCharacterCode[c] = entry.getValue();
+				valuesBySingleCharacterCode[Character.toUpperCase(c)] = entry.getValue();
+			}
+		} else {
+			valuesBySingleCharacterCode = null;
+		}
+	}
+
+	/**
+	 * The (unmodifiable) set of all the codes.
+	 */
+	Set<String> codeSet() {
+		return codeSet;
+	}
+
+	/**
+	 * The value with the specified code, ignoring case, or null if there is none.
+	 */
+	@SuppressWarnings("unchecked")
+	E forCode(String code) {
+		if (code == null) {
+			return null;
+		}
+		if (valuesBySingleCharacterCode != null) {
+			if (code.length() != 1 || code.charAt(0) >= ASCII_LIMIT) {
+				return null;
+			}
+			return (E) valuesBySingleCharacterCode[code.charAt(0)];
+		}
+		E ret = valuesByCode.get(code);
+		return ret == null ? valuesByCode.get(code.toLowerCase()) : ret;
+	}
+
+	/**
+	 * An unmodifiable map of values by some other code (such as an IEPD code), matched exactly; where two values share a code, the
+	 * first one wins.
+	 */
+	static <E extends Enum<E>> Map<String, E> mapByCode(E[] values, Function<E, String> codeFunction) {
+		Map<String, E> map = new HashMap<>();
+		for (E value : values) {
+			map.putIfAbsent(codeFunction.apply(value), value);
+		}
+		return Collections.unmodifiableMap(map);
+	}
+
+	/**
+	 * An unmodifiable set of the specified codes, for the subsets that enums expose.
+	 */
+	static Set<String> codeSetOf(String... codes) {
+		return Collections.unmodifiableSet(new HashSet<>(Arrays.asList(codes)));
+	}
+
+}
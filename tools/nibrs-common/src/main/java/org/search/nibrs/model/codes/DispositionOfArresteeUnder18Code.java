@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -34,12 +33,14 @@ public enum DispositionOfArresteeUnder18Code {
 	public String code;
 	public String description;
 
+	private static final CodeIndex<DispositionOfArresteeUnder18Code> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
 	public static Set<String> codeSet() {
-		Set<String> codeSet = new HashSet<String>();
-		for (DispositionOfArresteeUnder18Code code : values()) {
-			codeSet.add(code.code);
-		}
-		return codeSet;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static DispositionOfArresteeUnder18Code forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 
 }
@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -35,11 +34,13 @@ public enum EthnicityCode {
 	public String code;
 	public String description;
 
+	private static final CodeIndex<EthnicityCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
 	public static Set<String> codeSet() {
-		Set<String> codeSet = new HashSet<String>();
-		for (EthnicityCode codeValue : values()) {
-			codeSet.add(codeValue.code);
-		}
-		return codeSet;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static EthnicityCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 }
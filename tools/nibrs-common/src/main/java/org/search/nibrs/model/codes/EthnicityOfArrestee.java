@@ -15,10 +15,8 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
-
 public enum EthnicityOfArrestee {
 
 	H("H","Hispanic or Latino"),
@@ -36,17 +34,13 @@ public enum EthnicityOfArrestee {
 	
 	private String description;
 	
-	public static Set<String> codeSet(){
-		
-		Set<String> rCodeSet = new HashSet<String>();
-		
-		for(EthnicityOfArrestee ethnicityOfVictim : values()){
-			
-			String iCode = ethnicityOfVictim.code;
-			
-			rCodeSet.add(iCode);
-		}
-		
-		return rCodeSet;
+	private static final CodeIndex<EthnicityOfArrestee> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
+	public static Set<String> codeSet() {
+		return CODE_INDEX.codeSet();
+	}
+
+	public static EthnicityOfArrestee forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 }
@@ -16,7 +16,6 @@
 package org.search.nibrs.model.codes;
 
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -91,12 +90,14 @@ public enum LocationTypeCode {
 		return EnumSet.allOf(LocationTypeCode.class);
 	}
 
+	private static final CodeIndex<LocationTypeCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (LocationTypeCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static final LocationTypeCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 
 }
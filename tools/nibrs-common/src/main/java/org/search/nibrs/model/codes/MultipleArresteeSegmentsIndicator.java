@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -35,12 +34,14 @@ public enum MultipleArresteeSegmentsIndicator {
 		this.description = description;
 	}
 
+	private static final CodeIndex<MultipleArresteeSegmentsIndicator> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
 	public static Set<String> codeSet() {
-		Set<String> codeSet = new HashSet<>();
-		for (MultipleArresteeSegmentsIndicator arrestCode : values()) {
-			codeSet.add(arrestCode.code);
-		}
-		return codeSet;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static MultipleArresteeSegmentsIndicator forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 
 }
@@ -17,7 +17,6 @@ package org.search.nibrs.model.codes;
 
 import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -42,12 +41,14 @@ public enum OffenderSuspectedOfUsingCode {
 		return EnumSet.allOf(OffenderSuspectedOfUsingCode.class);
 	}
 
+	private static final CodeIndex<OffenderSuspectedOfUsingCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (OffenderSuspectedOfUsingCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static final OffenderSuspectedOfUsingCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 
 	public static final Set<String> noneOrUnknownValueCodeSet() {
@@ -15,17 +15,9 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-
-import org.apache.commons.lang3.StringUtils;
 
 /**
  * Enum for NIBRS OffenseSegment Codes.
@@ -130,20 +122,6 @@ public enum OffenseCode {
 	public String group;
 	private CrimeAgainstCode crimeAgainst;
 	
-	private static final Map<String,OffenseCode> ENUM_MAP;
-	private static final Set<String> CODE_SET;  
-	
-	static {
-		Map<String,OffenseCode> map = new HashMap<String, OffenseCode>();
-		for (OffenseCode instance : OffenseCode.values()) {
-		    map.put(instance.code.toLowerCase(),instance);
-		}
-		ENUM_MAP = Collections.unmodifiableMap(map);
-		
-		CODE_SET = Arrays.stream(values()).map(item->item.code)
-				.collect(Collectors.toSet()); 
-	}
-
 	private OffenseCode(String code, String description, String group
 			, CrimeAgainstCode crimeAgainstCode) {
 		this.code = code;
@@ -156,19 +134,100 @@ public enum OffenseCode {
 		return EnumSet.allOf(OffenseCode.class);
 	}
 
+	private static final CodeIndex<OffenseCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
+	private static final Set<String> CRIME_AGAINST_PERSON_CODES = CodeIndex.codeSetOf(_13A.code, _13B.code, _13C.code, 
+		_09A.code, _09B.code, _09C.code, _64A.code, _64B.code, _100.code,
+		_11A.code, _11B.code, _11C.code, _11D.code, _36A.code,
+		_36B.code);
+
+	private static final Set<String> CRIME_AGAINST_SOCIETY_CODES = CodeIndex.codeSetOf(_720.code,
+		_35A.code, _35B.code, _39A.code, _39B.code,
+		_39C.code, _39D.code, _370.code, _40A.code,
+		_40B.code, _40C.code, _520.code, _90A.code, 
+		_90B.code, _90C.code, _90D.code, _90E.code,
+		_90F.code, _90G.code, _90H.code, _90J.code,
+		_90Z.code);
+
+	private static final Set<String> COMMERCE_VIOLATION_CODES = CodeIndex.codeSetOf(
+			_58A.code, _58B.code, _61A.code, _61B.code,
+			_620.code);
+
+	private static final Set<String> CRIME_AGAINST_PROPERTY_CODES = CodeIndex.codeSetOf(_200.code, _26H.code, 
+			_510.code, _220.code, _250.code,
+			_290.code, _270.code, _210.code,
+			_26A.code, _26B.code, _26C.code,
+			_26D.code, _26E.code, _26F.code,
+			_26G.code, _23A.code, _23B.code,
+			_23C.code, _23D.code, _23E.code,
+			_23F.code, _23G.code, _23H.code,
+			_240.code, _120.code, _280.code);
+
+	private static final Set<String> CRIME_AGAINST_STOLEN_VEHICLE_PROPERTY_CODES = CodeIndex.codeSetOf(
+			_510.code, _220.code, 
+			_270.code, _210.code,
+			_26A.code, _26B.code, _26C.code,
+			_26D.code, _26E.code, _26F.code,
+			_26G.code, _23A.code, _23B.code,
+			_23C.code, _23D.code, _23E.code,
+			_23F.code, _23G.code, _23H.code,
+			_240.code, _120.code);
+
+	private static final Set<String> CRIME_ALLOWING_LOCATION_TYPE_CYBERSPACE_CODES = CodeIndex.codeSetOf(
+			_210.code, _250.code, _270.code, 
+			_280.code, _290.code, _370.code,  
+			_510.code, _26A.code, _26B.code,  
+			_26C.code, _26D.code, _26E.code, 
+			_26F.code, _26G.code, _39A.code, 
+			_39B.code, _39C.code, _13C.code, 
+			_35A.code, _35B.code, _520.code, 
+			_64A.code, _64B.code, _40A.code,  
+			_40B.code, _40C.code);
+
+	private static final Set<String> DRUG_NARCOTIC_OFFENSE_CODES = CodeIndex.codeSetOf(_35A.code, _35B.code);
+
+	private static final Set<String> AGGRAVATED_ASSAULT_HOMICIDE_CIRCUMSTANCES_OFFENSE_CODES = CodeIndex.codeSetOf(_09A.code, _09B.code, _09C.code, _13A.code);
+
+	private static final Set<String> CRIME_REQUIRING_INCIDENT_HOUR_CODES = CodeIndex.codeSetOf(_09A.code, _13A.code, _13B.code, _13C.code);
+
+	private static final Set<String> CRIME_REQUIRING_TYPE_OF_WEAPON_FORCE_INVOLVED_CODES = CodeIndex.codeSetOf(
+			_09A.code,
+			_09B.code,
+			_09C.code,
+			_100.code,
+			_11A.code,
+			_11B.code,
+			_11C.code,
+			_11D.code,
+			_120.code,
+			_13A.code,
+			_13B.code,
+			_210.code,
+			_520.code,
+			_64A.code,
+			_64B.code);
+
+	// formerly matched with the regular expressions 39[ABCD], 11[ABC] and 23[ABCDEFGH]
+	private static final Set<String> GAMBLING_OFFENSE_CODES = CodeIndex.codeSetOf(_39A.code, _39B.code, _39C.code, _39D.code);
+	private static final Set<String> RETURN_A_RAPE_CODES = CodeIndex.codeSetOf(_11A.code, _11B.code, _11C.code);
+	private static final Set<String> LARCENY_OFFENSE_CODES = CodeIndex.codeSetOf(_23A.code, _23B.code, _23C.code, _23D.code,
+			_23E.code, _23F.code, _23G.code, _23H.code);
+
+	private static final Set<String> OFFENSE_HAVING_ILLOGICAL_PROPERTY_DESCRIPTIONS_CODES = CodeIndex.codeSetOf(
+			_220.code, _240.code, _23A.code, _23B.code,
+			_23C.code, _23D.code, _23E.code,
+			_23F.code, _23G.code, _23H.code);
+
 	public static final Set<String> codeSet() {
-		return CODE_SET;
+		return CODE_INDEX.codeSet();
 	}
 	
 	public static final OffenseCode forCode(String code) {
-		return ENUM_MAP.get(StringUtils.lowerCase(code));
+		return CODE_INDEX.forCode(code);
 	}
 	
 	public static final boolean isCrimeAgainstPersonCode(String code) {
-		return Arrays.asList(_13A.code, _13B.code, _13C.code, 
-		_09A.code, _09B.code, _09C.code, _64A.code, _64B.code, _100.code,
-		_11A.code, _11B.code, _11C.code, _11D.code, _36A.code,
-		_36B.code).contains(code);
+		return CRIME_AGAINST_PERSON_CODES.contains(code);
 	}
 	
 	public static final boolean containsCrimeAgainstPersonCode(Collection<String> codes) {
@@ -176,19 +235,11 @@ public enum OffenseCode {
 	}
 
 	public static final boolean isCrimeAgainstSocietyCode(String code) {
-		return Arrays.asList(_720.code,
-		_35A.code, _35B.code, _39A.code, _39B.code,
-		_39C.code, _39D.code, _370.code, _40A.code,
-		_40B.code, _40C.code, _520.code, _90A.code, 
-		_90B.code, _90C.code, _90D.code, _90E.code,
-		_90F.code, _90G.code, _90H.code, _90J.code,
-		_90Z.code).contains(code);
+		return CRIME_AGAINST_SOCIETY_CODES.contains(code);
 	}
 	
 	public static final boolean isCommerceViolations(String code) {
-		return Arrays.asList(
-				_58A.code, _58B.code, _61A.code, _61B.code,
-				_620.code).contains(code);
+		return COMMERCE_VIOLATION_CODES.contains(code);
 	}
 	
 	public static final boolean containsCrimeAgainstSocietyCode(Collection<String> codes) {
@@ -196,51 +247,23 @@ public enum OffenseCode {
 	}
 
 	public static final boolean isCrimeAgainstPropertyCode(String code) {
-		return Arrays.asList(_200.code, _26H.code, 
-				_510.code, _220.code, _250.code,
-				_290.code, _270.code, _210.code,
-				_26A.code, _26B.code, _26C.code,
-				_26D.code, _26E.code, _26F.code,
-				_26G.code, _23A.code, _23B.code,
-				_23C.code, _23D.code, _23E.code,
-				_23F.code, _23G.code, _23H.code,
-				_240.code, _120.code, _280.code					
-		).contains(code);
+		return CRIME_AGAINST_PROPERTY_CODES.contains(code);
 	}
 	
 	public static final boolean isCrimeAgainstStolenVehiclePropertyCode(String code) {
-		return Arrays.asList(
-				_510.code, _220.code, 
-				_270.code, _210.code,
-				_26A.code, _26B.code, _26C.code,
-				_26D.code, _26E.code, _26F.code,
-				_26G.code, _23A.code, _23B.code,
-				_23C.code, _23D.code, _23E.code,
-				_23F.code, _23G.code, _23H.code,
-				_240.code, _120.code					
-				).contains(code);
+		return CRIME_AGAINST_STOLEN_VEHICLE_PROPERTY_CODES.contains(code);
 	}
 	
 	public static final boolean isCrimeAllowingLocationTypeCyberspace(String code) {
-		return Arrays.asList(
-				_210.code, _250.code, _270.code, 
-				_280.code, _290.code, _370.code,  
-				_510.code, _26A.code, _26B.code,  
-				_26C.code, _26D.code, _26E.code, 
-				_26F.code, _26G.code, _39A.code, 
-				_39B.code, _39C.code, _13C.code, 
-				_35A.code, _35B.code, _520.code, 
-				_64A.code, _64B.code, _40A.code,  
-				_40B.code, _40C.code					
-				).contains(code);
+		return CRIME_ALLOWING_LOCATION_TYPE_CYBERSPACE_CODES.contains(code);
 	}
 	
 	public static final boolean isDrugNarcoticOffense(String code) {
-		return Arrays.asList(_35A.code, _35B.code).contains(code);
+		return DRUG_NARCOTIC_OFFENSE_CODES.contains(code);
 	}
 	
 	public static final boolean isAggravatedAssaultHomicideCircumstancesOffense(String code) {
-		return Arrays.asList(_09A.code, _09B.code, _09C.code, _13A.code).contains(code);
+		return AGGRAVATED_ASSAULT_HOMICIDE_CIRCUMSTANCES_OFFENSE_CODES.contains(code);
 	}
 	
 	public static final boolean containsCrimeAgainstPropertyCode(Collection<String> codes) {
@@ -259,45 +282,26 @@ public enum OffenseCode {
 	}
 	
 	public static final boolean isCrimeRequireIncidentHour(String code) {
-		return Arrays.asList(_09A.code, _13A.code, _13B.code, _13C.code).contains(code);
+		return CRIME_REQUIRING_INCIDENT_HOUR_CODES.contains(code);
 	}
 	
 	public static final boolean isCrimeRequiringTypeOfWeaponForceInvolved(String code) {
-		return Arrays.asList(
-				_09A.code,
-				_09B.code,
-				_09C.code,
-				_100.code,
-				_11A.code,
-				_11B.code,
-				_11C.code,
-				_11D.code,
-				_120.code,
-				_13A.code,
-				_13B.code,
-				_210.code,
-				_520.code,
-				_64A.code,
-				_64B.code).contains(code);
+		return CRIME_REQUIRING_TYPE_OF_WEAPON_FORCE_INVOLVED_CODES.contains(code);
 	}
 	
 	public static final boolean isGamblingOffenseCode(String code) {
-		return codeMatchesRegex(code, "39[ABCD]");
+		return GAMBLING_OFFENSE_CODES.contains(code);
 	}
 	public static final boolean isReturnARapeCode(String code) {
-		return codeMatchesRegex(code, "11[ABC]");
+		return RETURN_A_RAPE_CODES.contains(code);
 	}
 
-	private static boolean codeMatchesRegex(String code, String regex) {
-		return code!= null && Pattern.compile(regex).matcher(code).matches();
-	}
-	
 	public static final boolean containsGamblingOffenseCode(Collection<String> codes) {
 		return codes.stream().anyMatch(code -> isGamblingOffenseCode(code));
 	}
 
 	public static final boolean isLarcenyOffenseCode(String code) {
-		return codeMatchesRegex(code, "23[ABCDEFGH]");
+		return LARCENY_OFFENSE_CODES.contains(code);
 	}
 	
 	public static final boolean containsLarcenyOffenseCode(Collection<String> codes) {
@@ -305,11 +309,7 @@ public enum OffenseCode {
 	}
 	
 	public static final boolean isOffenseHavingIllogicalPropertyDescriptions(String code){
-		return Arrays.asList(
-				_220.code, _240.code, _23A.code, _23B.code,
-				_23C.code, _23D.code, _23E.code,
-				_23F.code, _23G.code, _23H.code
-		).contains(code);
+		return OFFENSE_HAVING_ILLOGICAL_PROPERTY_DESCRIPTIONS_CODES.contains(code);
 
 	}
 
@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public enum OfficerAssignmentType {
@@ -39,18 +38,14 @@ public enum OfficerAssignmentType {
 		this.description = description;
 	}
 		
-	public static Set<String> codeSet(){
-		
-		Set<String> rCodeSet = new HashSet<>();
-		
-		for(OfficerAssignmentType officerAssignmentType : values()){
-			
-			String iCode = officerAssignmentType.code;
-			
-			rCodeSet.add(iCode);
-		}
-		
-		return rCodeSet;		
+	private static final CodeIndex<OfficerAssignmentType> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
+	public static Set<String> codeSet() {
+		return CODE_INDEX.codeSet();
+	}
+
+	public static OfficerAssignmentType forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}	
 
 }
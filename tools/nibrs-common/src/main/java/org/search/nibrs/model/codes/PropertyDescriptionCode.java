@@ -19,7 +19,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -314,17 +313,22 @@ public enum PropertyDescriptionCode {
 		return EnumSet.allOf(PropertyDescriptionCode.class);
 	}
 
+	private static final CodeIndex<PropertyDescriptionCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+	private static final Set<String> MOTOR_VEHICLE_CODE_SET = CodeIndex.codeSetOf(_03.code, _05.code, 
+			_24.code, _28.code, _37.code);
+	private static final Set<String> BLANK_PROPERTY_VALUE_ALLOWED_CODE_SET = CodeIndex.codeSetOf(_10.code, _77.code, 
+			_99.code, _09.code, _22.code, _48.code, _65.code, _66.code);
+
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (PropertyDescriptionCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static final PropertyDescriptionCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 	
 	public static final boolean isMotorVehicleCode(String code) {
-		return Arrays.asList(_03.code, _05.code, 
-				_24.code, _28.code, _37.code ).contains(code);
+		return MOTOR_VEHICLE_CODE_SET.contains(code);
 	}
 	
 	public static final boolean containsMotorVehicleCode(Collection<String> codes) {
@@ -332,8 +336,7 @@ public enum PropertyDescriptionCode {
 	}
 	
 	public static final boolean allowsBlankPropertyValue(String code) {
-		return Arrays.asList(_10.code, _77.code, 
-				_99.code, _09.code, _22.code, _48.code, _65.code, _66.code ).contains(code);
+		return BLANK_PROPERTY_VALUE_ALLOWED_CODE_SET.contains(code);
 	}
 	
 	public static List<String> getIllogicalPropertyDescriptions(String offenseCode){
@@ -15,7 +15,7 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.Set;
 
 /**
@@ -38,18 +38,19 @@ public enum RaceCode {
 	public String code;
 	public String description;
 
+	private static final CodeIndex<RaceCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+	private static final Set<String> KNOWN_CODE_SET = CodeIndex.codeSetOf(Arrays.stream(values()).filter(v -> v != U).map(v -> v.code).toArray(String[]::new));
+
 	public static Set<String> codeSet() {
-		Set<String> codeSet = new HashSet<String>();
-		for (RaceCode codeValue : values()) {
-			codeSet.add(codeValue.code);
-		}
-		return codeSet;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static RaceCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 	
 	public static Set<String> knownCodeSet(){
-		Set<String> codeSet = codeSet();
-		codeSet.remove(RaceCode.U.code);
-		return codeSet;
+		return KNOWN_CODE_SET;
 	}
 
 }
@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public enum RaceOfArresteeCode {
@@ -38,15 +37,14 @@ public enum RaceOfArresteeCode {
 		this.description = description;
 	}
 	
+	private static final CodeIndex<RaceOfArresteeCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
 	public static final Set<String> codeSet() {
-		
-		Set<String> rCodeSet = new HashSet<>();
-		
-		for(RaceOfArresteeCode v : values()) {
-			
-			rCodeSet.add(v.code);
-		}		
-		return rCodeSet;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static final RaceOfArresteeCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}		
 
 }
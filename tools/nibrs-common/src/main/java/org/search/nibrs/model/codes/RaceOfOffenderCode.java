@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public enum RaceOfOffenderCode {
@@ -37,15 +36,14 @@ public enum RaceOfOffenderCode {
 		this.description = description;
 	}
 	
+	private static final CodeIndex<RaceOfOffenderCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
 	public static final Set<String> codeSet() {
-		
-		Set<String> rCodeSet = new HashSet<>();
-		
-		for(RaceOfOffenderCode v : values()) {
-			
-			rCodeSet.add(v.code);
-		}		
-		return rCodeSet;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static final RaceOfOffenderCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}		
 
 }
@@ -15,8 +15,7 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 public enum RelationshipOfVictimToOffenderCode {
@@ -59,22 +58,19 @@ public enum RelationshipOfVictimToOffenderCode {
 	public String description;
 	public String iepdCode;
 		
-	public static Set<String> codeSet(){
-		
-		Set<String> rCodeSet = new HashSet<>();
-		
-		for(RelationshipOfVictimToOffenderCode relationshipCode : values()){
-			
-			String sCode = relationshipCode.code;
-			
-			rCodeSet.add(sCode);
-		}		
-		return rCodeSet;
+	private static final CodeIndex<RelationshipOfVictimToOffenderCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+	private static final Map<String, RelationshipOfVictimToOffenderCode> IEPD_CODE_MAP = CodeIndex.mapByCode(values(), v -> v.iepdCode);
+
+	public static Set<String> codeSet() {
+		return CODE_INDEX.codeSet();
+	}
+
+	public static RelationshipOfVictimToOffenderCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}		
 
 	public static final RelationshipOfVictimToOffenderCode valueOfIepdCode(String iepdCode){
-		return	Arrays.stream(RelationshipOfVictimToOffenderCode.values())
-					.filter(i->i.iepdCode.equals(iepdCode)).findFirst().orElse(null); 
+		return IEPD_CODE_MAP.get(iepdCode);
 	}
 
 
@@ -15,7 +15,7 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.Set;
 
 /**
@@ -35,17 +35,18 @@ public enum SexCode {
 	public String code;
 	public String description;
 
+	private static final CodeIndex<SexCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+	private static final Set<String> KNOWN_CODE_SET = CodeIndex.codeSetOf(Arrays.stream(values()).filter(v -> v != U).map(v -> v.code).toArray(String[]::new));
+
 	public static Set<String> codeSet() {
-		Set<String> codeSet = new HashSet<String>();
-		for(SexCode codeValue : values()){
-			codeSet.add(codeValue.code);
-		}
-		return codeSet;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static SexCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 	
 	public static Set<String> knownCodeSet(){
-		Set<String> codeSet =  codeSet(); 
-		codeSet.remove(SexCode.U.code); 
-		return codeSet; 
+		return KNOWN_CODE_SET;
 	}
 }
@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public enum SexOfArresteeCode {
@@ -35,15 +34,13 @@ public enum SexOfArresteeCode {
 	}
 	
 	
+	private static final CodeIndex<SexOfArresteeCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
 	public static final Set<String> codeSet() {
-		
-		Set<String> rCodeSet = new HashSet<>();
-		
-		for (SexOfArresteeCode v : values()) {
-			
-			rCodeSet.add(v.code);
-		}
-		
-		return rCodeSet;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static final SexOfArresteeCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 }
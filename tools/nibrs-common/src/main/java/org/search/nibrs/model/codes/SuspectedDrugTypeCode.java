@@ -16,7 +16,6 @@
 package org.search.nibrs.model.codes;
 
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Set;
 
 public enum SuspectedDrugTypeCode {
@@ -52,12 +51,14 @@ public enum SuspectedDrugTypeCode {
 		return EnumSet.allOf(SuspectedDrugTypeCode.class);
 	}
 
+	private static final CodeIndex<SuspectedDrugTypeCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (SuspectedDrugTypeCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static final SuspectedDrugTypeCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 
 }
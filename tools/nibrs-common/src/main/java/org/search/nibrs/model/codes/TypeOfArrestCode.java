@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -35,13 +34,14 @@ public enum TypeOfArrestCode {
 	public String code;
 	public String description;
 
+	private static final CodeIndex<TypeOfArrestCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
 	public static Set<String> codeSet() {
-		Set<String> rCodeSet = new HashSet<>();
-		for (TypeOfArrestCode iArrestCode : values()) {
-			String sArrestCode = iArrestCode.code;
-			rCodeSet.add(sArrestCode);
-		}
-		return rCodeSet;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static TypeOfArrestCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 
 }
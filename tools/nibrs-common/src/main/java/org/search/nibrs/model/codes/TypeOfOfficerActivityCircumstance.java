@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public enum TypeOfOfficerActivityCircumstance {
@@ -43,17 +42,13 @@ public enum TypeOfOfficerActivityCircumstance {
 		this.description = description;
 	}
 
-	public static Set<String> codeSet(){
-		
-		Set<String> rCodeSet = new HashSet<>();
-		
-		for(TypeOfOfficerActivityCircumstance iTypeOfOfficerActivityCircumstance : values()){
-			
-			String iCode = iTypeOfOfficerActivityCircumstance.code;
-			
-			rCodeSet.add(iCode);
-		}
-		
-		return rCodeSet;		
+	private static final CodeIndex<TypeOfOfficerActivityCircumstance> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
+	public static Set<String> codeSet() {
+		return CODE_INDEX.codeSet();
+	}
+
+	public static TypeOfOfficerActivityCircumstance forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 }
@@ -15,9 +15,8 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.Arrays;
 import java.util.EnumSet;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -72,30 +71,25 @@ public enum TypeOfPropertyLossCode {
 		return EnumSet.allOf(TypeOfPropertyLossCode.class);
 	}
 
+	private static final CodeIndex<TypeOfPropertyLossCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+	private static final Map<String, TypeOfPropertyLossCode> IEPD_CODE_MAP = CodeIndex.mapByCode(values(), v -> v.iepdCode);
+	private static final Set<String> NONE_OR_UNKNOWN_VALUE_CODE_SET = CodeIndex.codeSetOf(_1.code, _8.code);
+	private static final Set<String> REQUIRE_PROPERTY_DESCRIPTION_VALUE_CODE_SET = CodeIndex.codeSetOf(_2.code, _3.code, _4.code, _5.code, _6.code, _7.code);
+
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (TypeOfPropertyLossCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_INDEX.codeSet();
+	}
+
+	public static final TypeOfPropertyLossCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 
 	public static final Set<String> noneOrUnknownValueCodeSet() {
-		Set<String> ret = new HashSet<>();
-		ret.add(_1.code);
-		ret.add(_8.code);
-		return ret;
+		return NONE_OR_UNKNOWN_VALUE_CODE_SET;
 	}
 
 	public static final Set<String> requirePropertyDescriptionValueCodeSet() {
-		Set<String> ret = new HashSet<>();
-		ret.add(_2.code);
-		ret.add(_3.code);
-		ret.add(_4.code);
-		ret.add(_5.code);
-		ret.add(_6.code);
-		ret.add(_7.code);
-		return ret;
+		return REQUIRE_PROPERTY_DESCRIPTION_VALUE_CODE_SET;
 	}
 
 	public String getIepdCode() {
@@ -107,11 +101,11 @@ public enum TypeOfPropertyLossCode {
 	}
 	
 	public static final TypeOfPropertyLossCode valueOfIepdCode(String iepdCode){
-		return	Arrays.stream(TypeOfPropertyLossCode.values()).filter(i->i.iepdCode.equals(iepdCode)).findFirst().orElse(null); 
+		return IEPD_CODE_MAP.get(iepdCode);
 	}
 
 	public static final TypeOfPropertyLossCode valueOfCode(String code){
-		return	Arrays.stream(TypeOfPropertyLossCode.values()).filter(i->i.code.equals(code)).findFirst().orElse(null); 
+		return forCode(code);
 	}
 	
 	
@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public enum TypeOfVictimCode {
@@ -41,14 +40,13 @@ public enum TypeOfVictimCode {
 		this.description = description;
 	}
 	
-	public static Set<String> codeSet(){
-		
-		Set<String> rCodeSet = new HashSet<String>();
-		
-		for(TypeOfVictimCode iVictimCodeType : values()){
-			
-			rCodeSet.add(iVictimCodeType.code);
-		}
-		return rCodeSet;
+	private static final CodeIndex<TypeOfVictimCode> CODE_INDEX = new CodeIndex<>(values(), v -> v.code);
+
+	public static Set<String> codeSet() {
+		return CODE_INDEX.codeSet();
+	}
+
+	public static TypeOfVictimCode forCode(String code) {
+		return CODE_INDEX.forCode(code);
 	}
 }
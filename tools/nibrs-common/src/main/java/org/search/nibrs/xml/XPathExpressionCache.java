@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.xml;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import javax.xml.xpath.XPathVariableResolver;
+
+import org.w3c.dom.Node;
+
+/**
+ * Registry of compiled XPath expressions, keyed by expression string and bound to the NIBRS namespace context.
+ * <br/>
+ * Neither XPath nor XPathExpression objects are thread-safe, so each thread gets its own XPath instance and its own
+ * (size-bounded, least-recently-used) map of compiled expressions; the registry as a whole is safe to use from any thread.
+ * Expressions that need a value from the data (an s:id reference, for example) should refer to it as an XPath variable
+ * (e.g., "nc:Person[@s:id = $ref]") rather than concatenating it into the expression, so that they compile only once.
+ */
+public final class XPathExpressionCache {
+
+	static final int MAX_EXPRESSIONS_PER_THREAD = 1024;
+
+	private static final XPathFactory XPATH_FACTORY = XPathFactory.newInstance();
+
+	private static final ThreadLocal<ThreadExpressions> THREAD_EXPRESSIONS = new ThreadLocal<ThreadExpressions>() {
+		@Override
+		protected ThreadExpressions initialValue() {
+			synchronized (XPATH_FACTORY) {
+				return new ThreadExpressions(XPATH_FACTORY.newXPath());
+			}
+		}
+	};
+
+	private XPathExpressionCache() {
+	}
+
+	/**
+	 * Get the compiled form of the specified expression for the current thread, compiling it on first use.
+	 * @param expression the xpath expression
+	 * @return the compiled expression, which must only be used on the calling thread
+	 * @throws XPathExpressionException if the expression cannot be compiled
+	 */
+	public static XPathExpression getExpression(String expression) throws XPathExpressionException {
+		return THREAD_EXPRESSIONS.get().getExpression(expression);
+	}
+
+	/**
+	 * Evaluate the specified expression against the context node, with the specified variable bound for the duration of the evaluation.
+	 * @param context the context node
+	 * @param expression the xpath expression, referring to the variable as $variableName
+	 * @param variableName the name of the variable
+	 * @param variableValue the value of the variable
+	 * @param returnType one of the XPathConstants return types
+	 * @return the result of the evaluation
+	 * @throws XPathExpressionException if the expression cannot be compiled or evaluated
+	 */
+	public static Object evaluate(Node context, String expression, String variableName, Object variableValue, QName returnType) throws XPathExpressionException {
+		ThreadExpressions threadExpressions = THREAD_EXPRESSIONS.get();
+		XPathExpression xPathExpression = threadExpressions.getExpression(expression);
+		threadExpressions.variables.put(variableName, variableValue);
+		try {
+			return xPathExpression.evaluate(context, returnType);
+		} finally {
+			threadExpressions.variables.remove(variableName);
+		}
+	}
+
+	static int getCachedExpressionCount() {
+		return THREAD_EXPRESSIONS.get().expressions.size();
+	}
+
+	private static final class ThreadExpressions implements XPathVariableResolver {
+
+		private final XPath xpath;
+		private final Map<String, Object> variables = new HashMap<>();
+
+		@SuppressWarnings("serial")
+		private final Map<String, XPathExpression> expressions = new LinkedHashMap<String, XPathExpression>(64, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest) {
+				return size() > MAX_EXPRESSIONS_PER_THREAD;
+			}
+		};
+
+		ThreadExpressions(XPath xpath) {
+			this.xpath = xpath;
+			xpath.setNamespaceContext(new NibrsNamespaceContext());
+			xpath.setXPathVariableResolver(this);
+		}
+
+		XPathExpression getExpression(String expression) throws XPathExpressionException {
+			XPathExpression ret = expressions.get(expression);
+			if (ret == null) {
+				ret = xpath.compile(expression);
+				expressions.put(expression, ret);
+			}
+			return ret;
+		}
+
+		@Override
+		public Object resolveVariable(QName variableName) {
+			return variables.get(variableName.getLocalPart());
+		}
+
+	}
+
+}
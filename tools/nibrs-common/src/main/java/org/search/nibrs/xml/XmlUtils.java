@@ -35,11 +35,9 @@ import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
@@ -180,9 +178,7 @@ public class XmlUtils {
         }
         
         try{
-	        XPath xpath = XPathFactory.newInstance().newXPath();
-	        xpath.setNamespaceContext(NAMESPACE_CONTEXT);
-	        XPathExpression expression = xpath.compile(xPath);
+	        XPathExpression expression = XPathExpressionCache.getExpression(xPath);
 	        return (Node) expression.evaluate(context, XPathConstants.NODE);
         }
         catch (Exception e){
@@ -191,6 +187,32 @@ public class XmlUtils {
         }
     }
 
+    /**
+     * Search the context node for a node that matches the specified xpath, which refers to the specified variable.  Use this in place of
+     * building the xpath string from data values, so that the expression is only compiled once.  A null value is bound as the
+     * empty string.
+     * 
+     * @param context the node that's the context for the xpath
+     * @param xPath the xpath query, referring to the variable as $variableName
+     * @param variableName the name of the variable
+     * @param variableValue the value of the variable
+     * @return the matching object, or null if no match
+     */
+    public static final Node xPathNodeSearch(Node context, String xPath, String variableName, String variableValue){
+        if (xPath == null)
+        {
+            return null;
+        }
+        
+        try{
+	        return (Node) XPathExpressionCache.evaluate(context, xPath, variableName, StringUtils.defaultString(variableValue), XPathConstants.NODE);
+        }
+        catch (Exception e){
+        	log.warn(e);
+        	return null; 
+        }
+    }
+
     /**
      * Search the context node for a String that matches the specified xpath
      * @param context the node that's the context for the xpath
@@ -204,12 +226,9 @@ public class XmlUtils {
             return null;
         }
         
-        XPath xpath = XPathFactory.newInstance().newXPath();
-        xpath.setNamespaceContext(NAMESPACE_CONTEXT);
-        XPathExpression expression;
         String value = null;
 		try {
-			expression = xpath.compile(xPath);
+			XPathExpression expression = XPathExpressionCache.getExpression(xPath);
 			value = (String) expression.evaluate(context, XPathConstants.STRING);
 		} catch (XPathExpressionException e) {
 			log.warn(e);
@@ -218,6 +237,30 @@ public class XmlUtils {
         
     }    
     
+    /**
+     * Search the context node for a String that matches the specified xpath, which refers to the specified variable.
+     * @param context the node that's the context for the xpath
+     * @param xPath the xpath query, referring to the variable as $variableName
+     * @param variableName the name of the variable
+     * @param variableValue the value of the variable
+     * @return the matching string, or null if no match
+     */
+    public static final String xPathStringSearch(Node context, String xPath, String variableName, String variableValue){
+    	
+        if (xPath == null) {
+            return null;
+        }
+        
+        String value = null;
+		try {
+			value = (String) XPathExpressionCache.evaluate(context, xPath, variableName, StringUtils.defaultString(variableValue), XPathConstants.STRING);
+		} catch (XPathExpressionException e) {
+			log.warn(e);
+		}
+        return org.apache.commons.lang3.StringUtils.trimToNull(value);
+        
+    }    
+    
     /**
      * Search the context node for a node set that matches the specified xpath
      * @param context the node that's the context for the xpath
@@ -231,12 +274,9 @@ public class XmlUtils {
             return null;
         }
         
-        XPath xpath = XPathFactory.newInstance().newXPath();
-        xpath.setNamespaceContext(NAMESPACE_CONTEXT);
-        XPathExpression expression;
         NodeList result = null;
 		try {
-			expression = xpath.compile(xPath);
+			XPathExpression expression = XPathExpressionCache.getExpression(xPath);
 			result = (NodeList) expression.evaluate(context, XPathConstants.NODESET);
 		} catch (XPathExpressionException e) {
 			log.warn(e);
@@ -246,6 +286,31 @@ public class XmlUtils {
 
     }
     
+    /**
+     * Search the context node for a node set that matches the specified xpath, which refers to the specified variable.
+     * @param context the node that's the context for the xpath
+     * @param xPath the xpath query, referring to the variable as $variableName
+     * @param variableName the name of the variable
+     * @param variableValue the value of the variable
+     * @return the matching nodes, or null if the expression is in error
+     */
+    public static final NodeList xPathNodeListSearch(Node context, String xPath, String variableName, String variableValue){
+    	
+        if (xPath == null) {
+            return null;
+        }
+        
+        NodeList result = null;
+		try {
+			result = (NodeList) XPathExpressionCache.evaluate(context, xPath, variableName, StringUtils.defaultString(variableValue), XPathConstants.NODESET);
+		} catch (XPathExpressionException e) {
+			log.warn(e);
+		}
+        		
+        return result;
+
+    }
+    
     private static final Transformer setupTransformerOptions(Transformer t) {
         t.setOutputProperty(OutputKeys.INDENT, "yes");
         t.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
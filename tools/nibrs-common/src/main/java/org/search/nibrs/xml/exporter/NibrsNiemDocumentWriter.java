@@ -0,0 +1,817 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.xml.exporter;
+
+import static org.search.nibrs.xml.NibrsNamespaceContext.Namespace.CJIS;
+import static org.search.nibrs.xml.NibrsNamespaceContext.Namespace.J;
+import static org.search.nibrs.xml.NibrsNamespaceContext.Namespace.NC;
+import static org.search.nibrs.xml.NibrsNamespaceContext.Namespace.NIBRS;
+import static org.search.nibrs.xml.NibrsNamespaceContext.Namespace.S;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.commons.lang3.StringUtils;
+import org.search.nibrs.common.ParsedObject;
+import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.model.ArresteeSegment;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.GroupBArrestReport;
+import org.search.nibrs.model.NIBRSAge;
+import org.search.nibrs.model.OffenderSegment;
+import org.search.nibrs.model.OffenseSegment;
+import org.search.nibrs.model.PropertySegment;
+import org.search.nibrs.model.VictimSegment;
+import org.search.nibrs.model.codes.BiasMotivationCode;
+import org.search.nibrs.model.codes.PropertyDescriptionCode;
+import org.search.nibrs.model.codes.RelationshipOfVictimToOffenderCode;
+import org.search.nibrs.model.codes.TypeOfPropertyLossCode;
+import org.search.nibrs.xml.NibrsNamespaceContext.Namespace;
+
+/**
+ * Writes Group A incident and Group B arrest reports as NIBRS IEPD (NIEM) submission documents, straight from the
+ * flat file model and the code enums.  The documents have the same content as those the staging data XmlReportGenerator
+ * writes from the persisted segments, but nothing is looked up in the database and each document is streamed with StAX
+ * rather than built as a DOM.
+ *
+ * The codes of the reports are written as they are, so the reports are expected to have passed validation.  Instances
+ * hold no state besides their settings and can be shared by threads.
+ *
+ * The message identifier of each document is a number issued by nextMessageIdentifier, as the FBI service records it as a
+ * number.  XmlReportGenerator writes the segment id instead, which the staging data service uses to link the submission to
+ * its segment.
+ */
+public class NibrsNiemDocumentWriter {
+
+	static final String MESSAGE_IMPLEMENTATION_VERSION = "2019.1";
+	static final DateTimeFormatter MESSAGE_DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+	static final DateTimeFormatter FILE_NAME_TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS");
+
+	private static final List<Namespace> DECLARED_NAMESPACES = Arrays.asList(NIBRS, CJIS, J, NC, S);
+	private static final String STOLEN_LOSS_CODE = TypeOfPropertyLossCode._7.code;
+	private static final String DRUGS_NARCOTICS_PROPERTY_CODE = "10";
+	private static final String DRUG_NARCOTIC_VIOLATIONS_OFFENSE_CODE = "35A";
+	private static final String UNKNOWN_AGE = "00";
+
+	private static final AtomicLong lastMessageIdentifier = new AtomicLong();
+
+	private final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+
+	private final String submittingAgencyOri;
+	private final Map<String, String> nonNumericAgeCodeMapping;
+	private final Map<String, String> raceCodeMapping;
+
+	/**
+	 * A writer using the default mapping of the non-numeric ages and writing the race codes as they are.
+	 */
+	public NibrsNiemDocumentWriter(String submittingAgencyOri) {
+		this(submittingAgencyOri, getDefaultNonNumericAgeCodeMapping(), Collections.emptyMap());
+	}
+
+	/**
+	 * @param submittingAgencyOri the ORI of the agency submitting the documents to the FBI
+	 * @param nonNumericAgeCodeMapping the nc:MeasureValueText of the non-numeric ages (NN, NB, BB and 00)
+	 * @param raceCodeMapping the FBI race codes of state race codes, for states reporting their own race codes.
+	 * Codes without a mapping are written as they are.
+	 */
+	public NibrsNiemDocumentWriter(String submittingAgencyOri, Map<String, String> nonNumericAgeCodeMapping,
+			Map<String, String> raceCodeMapping) {
+		this.submittingAgencyOri = submittingAgencyOri;
+		this.nonNumericAgeCodeMapping = new HashMap<>(nonNumericAgeCodeMapping);
+		this.raceCodeMapping = new HashMap<>(raceCodeMapping);
+	}
+
+	/**
+	 * The next message identifier: the current time in microseconds since the epoch, or one more than the last identifier issued
+	 * in this JVM.  The identifiers are unique among the documents of this JVM, and among those of earlier runs unless they
+	 * averaged more than a thousand documents a millisecond.  They are larger than any int, so they are never taken for the
+	 * segment ids XmlReportGenerator writes.
+	 */
+	static long nextMessageIdentifier() {
+		long now = System.currentTimeMillis() * 1000;
+		return lastMessageIdentifier.updateAndGet(last -> Math.max(last + 1, now));
+	}
+
+	public static final Map<String, String> getDefaultNonNumericAgeCodeMapping() {
+		Map<String, String> mapping = new HashMap<>();
+		mapping.put("NN", "NEONATAL");
+		mapping.put("NB", "NEWBORN");
+		mapping.put("BB", "BABY");
+		mapping.put(UNKNOWN_AGE, "UNKNOWN");
+		return mapping;
+	}
+
+	/**
+	 * Write the document of the report into the folder, named as XmlReportGenerator names it: GroupAIncident or
+	 * GroupBArrestReport, then the identifier of the report and the time it was written.
+	 * @return the path of the document
+	 */
+	public Path writeToFolder(AbstractReport report, Path folder) throws IOException {
+		Files.createDirectories(folder);
+		String prefix = report instanceof GroupAIncidentReport ? "GroupAIncident" : "GroupBArrestReport";
+		Path file = folder.resolve(prefix + report.getIdentifier() + "-" + LocalDateTime.now().format(FILE_NAME_TIMESTAMP_FORMAT) + ".xml");
+
+		try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file))) {
+			write(report, outputStream);
+		}
+		catch (XMLStreamException e) {
+			throw new IOException("Failed to write the document of " + report.getUniqueReportDescription() + " to " + file, e);
+		}
+		return file;
+	}
+
+	/**
+	 * Write the document of the report, UTF-8 encoded, to the stream.  The stream is left open.
+	 */
+	public void write(AbstractReport report, OutputStream outputStream) throws XMLStreamException {
+		XMLStreamWriter writer = outputFactory.createXMLStreamWriter(outputStream, "UTF-8");
+		try {
+			writer.writeStartDocument("UTF-8", "1.0");
+			write(report, writer);
+			writer.writeEndDocument();
+			writer.flush();
+		}
+		finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Write the nibrs:Submission element of the report.
+	 */
+	public void write(AbstractReport report, XMLStreamWriter writer) throws XMLStreamException {
+		if (report instanceof GroupAIncidentReport) {
+			writeGroupAIncidentReport((GroupAIncidentReport) report, writer);
+		}
+		else if (report instanceof GroupBArrestReport) {
+			writeGroupBArrestReport((GroupBArrestReport) report, writer);
+		}
+		else {
+			throw new IllegalArgumentException("No NIEM document for " + report.getUniqueReportDescription());
+		}
+	}
+
+	private void writeGroupAIncidentReport(GroupAIncidentReport report, XMLStreamWriter writer) throws XMLStreamException {
+		writeSubmissionStart(report, writer);
+		writeReportHeader(report, "GROUP A INCIDENT REPORT", writer);
+		writeIncident(report, writer);
+		writeOffenses(report, writer);
+		writeLocations(report, writer);
+		writeItems(report, writer);
+		writeSubstances(report, writer);
+		writePersons(report, writer);
+		writeEnforcementOfficials(report, writer);
+		writeVictims(report, writer);
+		writeSubjects(report, writer);
+		for (ArresteeSegment arrestee : report.getArrestees()) {
+			writeArrestee(arrestee, arrestee.getMultipleArresteeSegmentsIndicator(), writer);
+		}
+		for (ArresteeSegment arrestee : report.getArrestees()) {
+			writeArrest(arrestee, writer);
+		}
+		for (ArresteeSegment arrestee : report.getArrestees()) {
+			writeArrestSubjectAssociation(arrestee, writer);
+		}
+		writeOffenseLocationAssociations(report, writer);
+		writeOffenseVictimAssociations(report, writer);
+		writeSubjectVictimAssociations(report, writer);
+		writeSubmissionEnd(writer);
+	}
+
+	private void writeGroupBArrestReport(GroupBArrestReport report, XMLStreamWriter writer) throws XMLStreamException {
+		ArresteeSegment arrestee = report.getArrestee();
+		if (arrestee == null) {
+			throw new IllegalArgumentException("No arrestee in " + report.getUniqueReportDescription());
+		}
+
+		writeSubmissionStart(report, writer);
+		writeReportHeader(report, "GROUP B ARREST REPORT", writer);
+		writeArresteePerson(arrestee, writer);
+		writeArrestee(arrestee, null, writer);
+		writeArrest(arrestee, writer);
+		writeArrestSubjectAssociation(arrestee, writer);
+		writeSubmissionEnd(writer);
+	}
+
+	private void writeSubmissionStart(AbstractReport report, XMLStreamWriter writer) throws XMLStreamException {
+		writeStartElement(writer, NIBRS, "Submission");
+		for (Namespace namespace : DECLARED_NAMESPACES) {
+			writer.writeNamespace(namespace.prefix, namespace.uri);
+		}
+
+		writeStartElement(writer, CJIS, "MessageMetadata");
+		writeElement(writer, CJIS, "MessageDateTime", LocalDateTime.now().format(MESSAGE_DATETIME_FORMAT));
+		writeIdentification(writer, CJIS, "MessageIdentification", String.valueOf(nextMessageIdentifier()));
+		writeElement(writer, CJIS, "MessageImplementationVersion", MESSAGE_IMPLEMENTATION_VERSION);
+		writeStartElement(writer, CJIS, "MessageSubmittingOrganization");
+		writeStartElement(writer, J, "OrganizationAugmentation");
+		writeIdentification(writer, J, "OrganizationORIIdentification", submittingAgencyOri);
+		writer.writeEndElement();
+		writer.writeEndElement();
+		writer.writeEndElement();
+
+		writeStartElement(writer, NIBRS, "Report");
+	}
+
+	private void writeSubmissionEnd(XMLStreamWriter writer) throws XMLStreamException {
+		writer.writeEndElement();
+		writer.writeEndElement();
+	}
+
+	private void writeReportHeader(AbstractReport report, String reportCategoryCode, XMLStreamWriter writer) throws XMLStreamException {
+		writeStartElement(writer, NIBRS, "ReportHeader");
+		writeElement(writer, NIBRS, "NIBRSReportCategoryCode", reportCategoryCode);
+		writeElement(writer, NIBRS, "ReportActionCategoryCode", String.valueOf(report.getReportActionType()).trim());
+
+		writeStartElement(writer, NIBRS, "ReportDate");
+		String monthOfTape = Optional.ofNullable(report.getMonthOfTape())
+				.map(month -> StringUtils.leftPad(String.valueOf(month), 2, '0')).orElse(null);
+		writeElement(writer, NC, "YearMonthDate", report.getYearOfTape() + "-" + monthOfTape);
+		writer.writeEndElement();
+
+		String ori = report.getOri();
+		String cityIndicator = report.getCityIndicator();
+		if (StringUtils.isNotBlank(ori) || StringUtils.isNotBlank(cityIndicator)) {
+			writeStartElement(writer, NIBRS, "ReportingAgency");
+			if (StringUtils.isNotBlank(ori)) {
+				writeStartElement(writer, J, "OrganizationAugmentation");
+				writeIdentification(writer, J, "OrganizationORIIdentification", ori);
+				writer.writeEndElement();
+			}
+			if (StringUtils.isNotBlank(cityIndicator)) {
+				writeStartElement(writer, CJIS, "OrganizationAugmentation");
+				writeIdentification(writer, CJIS, "DirectReportingCityIdentification", cityIndicator);
+				writer.writeEndElement();
+			}
+			writer.writeEndElement();
+		}
+		writer.writeEndElement();
+	}
+
+	private void writeIncident(GroupAIncidentReport report, XMLStreamWriter writer) throws XMLStreamException {
+		writeStartElement(writer, NC, "Incident");
+		writeIdentification(writer, NC, "ActivityIdentification", report.getIncidentNumber());
+
+		LocalDate incidentDate = valueOf(report.getIncidentDate());
+		if (incidentDate != null) {
+			writeStartElement(writer, NC, "ActivityDate");
+			Integer incidentHour = valueOf(report.getIncidentHour());
+			if (incidentHour != null) {
+				writeElement(writer, NC, "DateTime",
+						incidentDate + "T" + StringUtils.leftPad(String.valueOf(incidentHour), 2, '0') + ":00:00");
+			}
+			else {
+				writeElement(writer, NC, "Date", incidentDate.toString());
+			}
+			writer.writeEndElement();
+		}
+
+		writeStartElement(writer, CJIS, "IncidentAugmentation");
+		if ("R".equals(report.getReportDateIndicator())) {
+			writeElement(writer, CJIS, "IncidentReportDateIndicator", Boolean.TRUE.toString());
+		}
+		writer.writeEndElement();
+
+		writeStartElement(writer, J, "IncidentAugmentation");
+		writeElement(writer, J, "IncidentExceptionalClearanceCode", report.getExceptionalClearanceCode());
+		LocalDate exceptionalClearanceDate = valueOf(report.getExceptionalClearanceDate());
+		if (exceptionalClearanceDate != null) {
+			writeStartElement(writer, J, "IncidentExceptionalClearanceDate");
+			writeElement(writer, NC, "Date", exceptionalClearanceDate.toString());
+			writer.writeEndElement();
+		}
+		writer.writeEndElement();
+
+		writer.writeEndElement();
+	}
+
+	private void writeOffenses(GroupAIncidentReport report, XMLStreamWriter writer) throws XMLStreamException {
+		for (OffenseSegment offense : report.getOffenses()) {
+			writeStartElement(writer, J, "Offense");
+			writeAttribute(writer, "id", "Offense-" + offense.getUcrOffenseCode());
+			writeElement(writer, NIBRS, "OffenseUCRCode", offense.getUcrOffenseCode());
+
+			for (String criminalActivity : distinctCodes(offense.getTypeOfCriminalActivity())) {
+				writeElement(writer, NIBRS, "CriminalActivityCategoryCode", criminalActivity);
+			}
+
+			for (String biasMotivation : distinctCodes(offense.getBiasMotivation())) {
+				writeElement(writer, J, "OffenseFactorBiasMotivationCode",
+						Optional.ofNullable(BiasMotivationCode.valueOfCode(biasMotivation)).map(code -> code.iepdCode).orElse(null));
+			}
+
+			writeElement(writer, J, "OffenseStructuresEnteredQuantity",
+					Optional.ofNullable(valueOf(offense.getNumberOfPremisesEntered())).map(String::valueOf).orElse(null));
+
+			for (String offenderSuspectedOfUsing : distinctCodes(offense.getOffendersSuspectedOfUsing())) {
+				writeStartElement(writer, J, "OffenseFactor");
+				writeElement(writer, J, "OffenseFactorCode", offenderSuspectedOfUsing);
+				writer.writeEndElement();
+			}
+
+			if (StringUtils.isNotBlank(offense.getMethodOfEntry())) {
+				writeStartElement(writer, J, "OffenseEntryPoint");
+				writeElement(writer, J, "PassagePointMethodCode", offense.getMethodOfEntry());
+				writer.writeEndElement();
+			}
+
+			for (String typeOfWeaponForceInvolved : weaponCodes(offense.getTypeOfWeaponForceInvolved(), offense.getAutomaticWeaponIndicator())) {
+				writeStartElement(writer, J, "OffenseForce");
+				writeElement(writer, J, "ForceCategoryCode", typeOfWeaponForceInvolved);
+				writer.writeEndElement();
+			}
+
+			writeElement(writer, J, "OffenseAttemptedIndicator", String.valueOf(offense.getOffenseAttemptedIndicator()));
+			writer.writeEndElement();
+		}
+	}
+
+	private void writeLocations(GroupAIncidentReport report, XMLStreamWriter writer) throws XMLStreamException {
+		for (OffenseSegment offense : report.getOffenses()) {
+			writeStartElement(writer, NC, "Location");
+			writeAttribute(writer, "id", "Location-" + offense.getUcrOffenseCode());
+			writeElement(writer, NIBRS, "LocationCategoryCode", offense.getLocationType());
+			writer.writeEndElement();
+		}
+	}
+
+	private void writeItems(GroupAIncidentReport report, XMLStreamWriter writer) throws XMLStreamException {
+		boolean contains35A = containsDrugNarcoticViolations(report);
+
+		for (PropertySegment property : report.getProperties()) {
+			String typeOfPropertyLoss = property.getTypeOfPropertyLoss();
+
+			if ((TypeOfPropertyLossCode._1.code.equals(typeOfPropertyLoss) && suspectedDrugTypeIndexes(property).isEmpty())
+					|| TypeOfPropertyLossCode._8.code.equals(typeOfPropertyLoss)) {
+				writeStartElement(writer, NC, "Item");
+				writeStartElement(writer, NC, "ItemStatus");
+				writeElement(writer, CJIS, "ItemStatusCode", TypeOfPropertyLossCode.valueOfCode(typeOfPropertyLoss).description.toUpperCase());
+				writer.writeEndElement();
+				writer.writeEndElement();
+				continue;
+			}
+
+			for (int i = 0; i < property.getPopulatedPropertyDescriptionCount(); i++) {
+				String propertyDescription = StringUtils.trimToNull(property.getPropertyDescription(i));
+				if (propertyDescription == null ||
+						(DRUGS_NARCOTICS_PROPERTY_CODE.equals(propertyDescription) && contains35A && !STOLEN_LOSS_CODE.equals(typeOfPropertyLoss))) {
+					continue;
+				}
+
+				writeStartElement(writer, NC, "Item");
+				writeItemStatus(property, writer);
+				writeItemValue(property, i, writer);
+				writeElement(writer, J, "ItemCategoryNIBRSPropertyCategoryCode", propertyDescription);
+
+				if (PropertyDescriptionCode.isMotorVehicleCode(propertyDescription)) {
+					Integer recoveredMotorVehicles = valueOf(property.getNumberOfRecoveredMotorVehicles());
+					Integer stolenMotorVehicles = valueOf(property.getNumberOfStolenMotorVehicles());
+					if (recoveredMotorVehicles != null || stolenMotorVehicles != null) {
+						writeElement(writer, NC, "ItemQuantity",
+								String.valueOf(recoveredMotorVehicles != null ? recoveredMotorVehicles : stolenMotorVehicles));
+					}
+				}
+				writer.writeEndElement();
+			}
+		}
+	}
+
+	private void writeSubstances(GroupAIncidentReport report, XMLStreamWriter writer) throws XMLStreamException {
+		if (!containsDrugNarcoticViolations(report)) {
+			return;
+		}
+
+		for (PropertySegment property : report.getProperties()) {
+			List<Integer> suspectedDrugTypeIndexes = suspectedDrugTypeIndexes(property);
+
+			if (TypeOfPropertyLossCode._1.code.equals(property.getTypeOfPropertyLoss()) && !suspectedDrugTypeIndexes.isEmpty()) {
+				for (int i : suspectedDrugTypeIndexes) {
+					writeStartElement(writer, NC, "Substance");
+					writeItemStatus(property, writer);
+					writeElement(writer, J, "DrugCategoryCode", property.getSuspectedDrugType(i));
+					writer.writeEndElement();
+				}
+				continue;
+			}
+
+			for (int i = 0; i < property.getPopulatedPropertyDescriptionCount(); i++) {
+				String propertyDescription = StringUtils.trimToNull(property.getPropertyDescription(i));
+
+				//Per FBI exception,  use nc:item only for stolen drugs.
+				if (!DRUGS_NARCOTICS_PROPERTY_CODE.equals(propertyDescription) || STOLEN_LOSS_CODE.equals(property.getTypeOfPropertyLoss())) {
+					continue;
+				}
+
+				if (suspectedDrugTypeIndexes.isEmpty()) {
+					writeStartElement(writer, NC, "Substance");
+					writeItemStatus(property, writer);
+					writeItemValue(property, i, writer);
+					writeElement(writer, J, "ItemCategoryNIBRSPropertyCategoryCode", propertyDescription);
+					writer.writeEndElement();
+				}
+
+				for (int drugIndex : suspectedDrugTypeIndexes) {
+					writeStartElement(writer, NC, "Substance");
+					writeItemStatus(property, writer);
+					writeItemValue(property, i, writer);
+					writeElement(writer, J, "ItemCategoryNIBRSPropertyCategoryCode", propertyDescription);
+					writeElement(writer, J, "DrugCategoryCode", property.getSuspectedDrugType(drugIndex));
+
+					Double estimatedDrugQuantity = valueOf(property.getEstimatedDrugQuantity(drugIndex));
+					String typeDrugMeasurement = StringUtils.trimToNull(property.getTypeDrugMeasurement(drugIndex));
+					if (estimatedDrugQuantity != null || typeDrugMeasurement != null) {
+						writeStartElement(writer, NC, "SubstanceQuantityMeasure");
+						writeElement(writer, NC, "MeasureDecimalValue", Optional.ofNullable(estimatedDrugQuantity)
+								.map(String::valueOf)
+								.map(item -> "1.0".equals(item) ? "1" : item)
+								.orElse(null));
+						writeElement(writer, J, "SubstanceUnitCode", typeDrugMeasurement);
+						writer.writeEndElement();
+					}
+					writer.writeEndElement();
+				}
+			}
+		}
+	}
+
+	private void writeItemStatus(PropertySegment property, XMLStreamWriter writer) throws XMLStreamException {
+		writeStartElement(writer, NC, "ItemStatus");
+		writeElement(writer, CJIS, "ItemStatusCode", Optional.ofNullable(TypeOfPropertyLossCode.valueOfCode(property.getTypeOfPropertyLoss()))
+				.map(TypeOfPropertyLossCode::getIepdCode).orElse(null));
+		writer.writeEndElement();
+	}
+
+	private void writeItemValue(PropertySegment property, int index, XMLStreamWriter writer) throws XMLStreamException {
+		Integer valueOfProperty = valueOf(property.getValueOfProperty(index));
+		if (valueOfProperty != null) {
+			writeStartElement(writer, NC, "ItemValue");
+			writeStartElement(writer, NC, "ItemValueAmount");
+			writeElement(writer, NC, "Amount", String.valueOf(valueOfProperty));
+			writer.writeEndElement();
+
+			LocalDate dateRecovered = valueOf(property.getDateRecovered(index));
+			if (dateRecovered != null) {
+				writeStartElement(writer, NC, "ItemValueDate");
+				writeElement(writer, NC, "Date", dateRecovered.toString());
+				writer.writeEndElement();
+			}
+			writer.writeEndElement();
+		}
+	}
+
+	private void writePersons(GroupAIncidentReport report, XMLStreamWriter writer) throws XMLStreamException {
+		for (VictimSegment victim : report.getVictims()) {
+			if (isPersonVictim(victim)) {
+				writeStartElement(writer, NC, "Person");
+				writeAttribute(writer, "id", "PersonVictim-" + valueOf(victim.getVictimSequenceNumber()));
+
+				NIBRSAge age = victim.getAge();
+				if (!writeNumericAge(age, writer) && age != null && age.isNonNumeric()) {
+					writeNonNumericAge(age.getNonNumericAge(), writer);
+				}
+				writePersonCodes(victim.getEthnicity(), victim.getRace(), victim.getResidentStatus(), victim.getSex(), writer);
+				writer.writeEndElement();
+			}
+		}
+
+		for (OffenderSegment offender : report.getOffenders()) {
+			Integer offenderSequenceNumber = valueOf(offender.getOffenderSequenceNumber());
+			if (Objects.equals(offenderSequenceNumber, 0)) {
+				continue;
+			}
+			writeStartElement(writer, NC, "Person");
+			writeAttribute(writer, "id", "PersonOffender-" + offenderSequenceNumber);
+			writeAge(offender.getAge(), writer);
+			writePersonCodes(offender.getEthnicity(), offender.getRace(), null, offender.getSex(), writer);
+			writer.writeEndElement();
+		}
+
+		for (ArresteeSegment arrestee : report.getArrestees()) {
+			writeArresteePerson(arrestee, writer);
+		}
+	}
+
+	private void writeArresteePerson(ArresteeSegment arrestee, XMLStreamWriter writer) throws XMLStreamException {
+		writeStartElement(writer, NC, "Person");
+		writeAttribute(writer, "id", "PersonArrestee-" + valueOf(arrestee.getArresteeSequenceNumber()));
+		writeAge(arrestee.getAge(), writer);
+		writePersonCodes(arrestee.getEthnicity(), arrestee.getRace(), arrestee.getResidentStatus(), arrestee.getSex(), writer);
+		writer.writeEndElement();
+	}
+
+	/**
+	 * Write the age of an offender or an arrestee, who have no non-numeric age but unknown.
+	 */
+	private void writeAge(NIBRSAge age, XMLStreamWriter writer) throws XMLStreamException {
+		if (!writeNumericAge(age, writer) && age != null && UNKNOWN_AGE.equals(age.getNonNumericAge())) {
+			writeNonNumericAge(UNKNOWN_AGE, writer);
+		}
+	}
+
+	private boolean writeNumericAge(NIBRSAge age, XMLStreamWriter writer) throws XMLStreamException {
+		Integer ageMin = age == null ? null : age.getAgeMin();
+		if (ageMin == null || ageMin <= 0) {
+			return false;
+		}
+
+		Integer ageMax = age.getAgeMax();
+		writeStartElement(writer, NC, "PersonAgeMeasure");
+		if (ageMax == null || ageMin.equals(ageMax)) {
+			writeElement(writer, NC, "MeasureIntegerValue", String.valueOf(ageMin));
+		}
+		else {
+			writeStartElement(writer, NC, "MeasureIntegerRange");
+			writeElement(writer, NC, "RangeMaximumIntegerValue", String.valueOf(ageMax));
+			writeElement(writer, NC, "RangeMinimumIntegerValue", String.valueOf(ageMin));
+			writer.writeEndElement();
+		}
+		writer.writeEndElement();
+		return true;
+	}
+
+	private void writeNonNumericAge(String nonNumericAge, XMLStreamWriter writer) throws XMLStreamException {
+		if (nonNumericAgeCodeMapping.containsKey(nonNumericAge)) {
+			writeStartElement(writer, NC, "PersonAgeMeasure");
+			writeElement(writer, NC, "MeasureValueText", nonNumericAgeCodeMapping.get(nonNumericAge));
+			writer.writeEndElement();
+		}
+	}
+
+	private void writePersonCodes(String ethnicity, String race, String residentStatus, String sex, XMLStreamWriter writer)
+			throws XMLStreamException {
+		writeElement(writer, J, "PersonEthnicityCode", ethnicity);
+		writeElement(writer, J, "PersonRaceNDExCode", raceCodeMapping.getOrDefault(race, race));
+		writeElement(writer, J, "PersonResidentCode", residentStatus);
+		writeElement(writer, J, "PersonSexCode", sex);
+	}
+
+	private void writeEnforcementOfficials(GroupAIncidentReport report, XMLStreamWriter writer) throws XMLStreamException {
+		for (VictimSegment victim : report.getVictims()) {
+			if (victim.isLawEnforcementOfficer()) {
+				writeStartElement(writer, J, "EnforcementOfficial");
+				writeRole(writer, NC, "RoleOfPerson", "PersonVictim-" + valueOf(victim.getVictimSequenceNumber()));
+				writeElement(writer, J, "EnforcementOfficialActivityCategoryCode", victim.getTypeOfOfficerActivityCircumstance());
+				writeElement(writer, J, "EnforcementOfficialAssignmentCategoryCode", victim.getOfficerAssignmentType());
+
+				if (victim.getOfficerOtherJurisdictionORI() != null) {
+					writeStartElement(writer, J, "EnforcementOfficialUnit");
+					writeStartElement(writer, J, "OrganizationAugmentation");
+					writeStartElement(writer, J, "OrganizationORIIdentification");
+					writeElement(writer, NC, "IdentificationID", victim.getOfficerOtherJurisdictionORI());
+					writer.writeEndElement();
+					writer.writeEndElement();
+					writer.writeEndElement();
+				}
+				writer.writeEndElement();
+			}
+		}
+	}
+
+	private void writeVictims(GroupAIncidentReport report, XMLStreamWriter writer) throws XMLStreamException {
+		for (VictimSegment victim : report.getVictims()) {
+			Integer victimSequenceNumber = valueOf(victim.getVictimSequenceNumber());
+			writeStartElement(writer, J, "Victim");
+			writeAttribute(writer, "id", "Victim-" + victimSequenceNumber);
+			if (isPersonVictim(victim)) {
+				writeRole(writer, NC, "RoleOfPerson", "PersonVictim-" + victimSequenceNumber);
+			}
+			writeElement(writer, J, "VictimSequenceNumberText", String.valueOf(victimSequenceNumber));
+
+			for (String typeOfInjury : distinctCodes(victim.getTypeOfInjury())) {
+				writeStartElement(writer, J, "VictimInjury");
+				writeElement(writer, J, "InjuryCategoryCode", typeOfInjury);
+				writer.writeEndElement();
+			}
+
+			writeElement(writer, J, "VictimCategoryCode", victim.getTypeOfVictim());
+			for (String circumstance : distinctCodes(victim.getAggravatedAssaultHomicideCircumstances())) {
+				writeElement(writer, J, "VictimAggravatedAssaultHomicideFactorCode", circumstance);
+			}
+			writeElement(writer, J, "VictimJustifiableHomicideFactorCode", victim.getAdditionalJustifiableHomicideCircumstances());
+			writer.writeEndElement();
+		}
+	}
+
+	private void writeSubjects(GroupAIncidentReport report, XMLStreamWriter writer) throws XMLStreamException {
+		for (OffenderSegment offender : report.getOffenders()) {
+			Integer offenderSequenceNumber = valueOf(offender.getOffenderSequenceNumber());
+			writeStartElement(writer, J, "Subject");
+			writeAttribute(writer, "id", "Offender-" + offenderSequenceNumber);
+
+			String offenderSequenceNumberText = String.valueOf(offenderSequenceNumber);
+			if (Objects.equals(offenderSequenceNumber, 0)) {
+				offenderSequenceNumberText = StringUtils.leftPad(offenderSequenceNumberText, 2, "0");
+			}
+			else {
+				writeRole(writer, NC, "RoleOfPerson", "PersonOffender-" + offenderSequenceNumber);
+			}
+			writeElement(writer, J, "SubjectSequenceNumberText", offenderSequenceNumberText);
+			writer.writeEndElement();
+		}
+	}
+
+	private void writeArrestee(ArresteeSegment arrestee, String multipleArresteeSegmentsIndicator, XMLStreamWriter writer)
+			throws XMLStreamException {
+		Integer arresteeSequenceNumber = valueOf(arrestee.getArresteeSequenceNumber());
+		writeStartElement(writer, J, "Arrestee");
+		writeAttribute(writer, "id", "Arrestee-" + arresteeSequenceNumber);
+		writeRole(writer, NC, "RoleOfPerson", "PersonArrestee-" + arresteeSequenceNumber);
+		writeElement(writer, J, "ArrestSequenceID", String.valueOf(arresteeSequenceNumber));
+
+		for (String armedWith : weaponCodes(arrestee.getArresteeArmedWith(), arrestee.getAutomaticWeaponIndicator())) {
+			writeElement(writer, J, "ArresteeArmedWithCode", armedWith);
+		}
+		writeElement(writer, J, "ArresteeJuvenileDispositionCode", arrestee.getDispositionOfArresteeUnder18());
+		writeElement(writer, J, "ArrestSubjectCountCode", multipleArresteeSegmentsIndicator);
+		writer.writeEndElement();
+	}
+
+	private void writeArrest(ArresteeSegment arrestee, XMLStreamWriter writer) throws XMLStreamException {
+		writeStartElement(writer, J, "Arrest");
+		writeAttribute(writer, "id", "Arrest-" + valueOf(arrestee.getArresteeSequenceNumber()));
+		writeIdentification(writer, NC, "ActivityIdentification", arrestee.getArrestTransactionNumber());
+
+		LocalDate arrestDate = valueOf(arrestee.getArrestDate());
+		if (arrestDate != null) {
+			writeStartElement(writer, NC, "ActivityDate");
+			writeElement(writer, NC, "Date", arrestDate.toString());
+			writer.writeEndElement();
+		}
+
+		writeStartElement(writer, J, "ArrestCharge");
+		writeElement(writer, NIBRS, "ChargeUCRCode", arrestee.getUcrArrestOffenseCode());
+		writer.writeEndElement();
+		writeElement(writer, J, "ArrestCategoryCode", arrestee.getTypeOfArrest());
+		writer.writeEndElement();
+	}
+
+	private void writeArrestSubjectAssociation(ArresteeSegment arrestee, XMLStreamWriter writer) throws XMLStreamException {
+		Integer arresteeSequenceNumber = valueOf(arrestee.getArresteeSequenceNumber());
+		writeStartElement(writer, J, "ArrestSubjectAssociation");
+		writeRole(writer, NC, "Activity", "Arrest-" + arresteeSequenceNumber);
+		writeRole(writer, J, "Subject", "Arrestee-" + arresteeSequenceNumber);
+		writer.writeEndElement();
+	}
+
+	private void writeOffenseLocationAssociations(GroupAIncidentReport report, XMLStreamWriter writer) throws XMLStreamException {
+		for (OffenseSegment offense : report.getOffenses()) {
+			writeStartElement(writer, J, "OffenseLocationAssociation");
+			writeRole(writer, J, "Offense", "Offense-" + offense.getUcrOffenseCode());
+			writeRole(writer, NC, "Location", "Location-" + offense.getUcrOffenseCode());
+			writer.writeEndElement();
+		}
+	}
+
+	private void writeOffenseVictimAssociations(GroupAIncidentReport report, XMLStreamWriter writer) throws XMLStreamException {
+		Set<String> offenseCodes = report.getOffenses().stream()
+				.map(OffenseSegment::getUcrOffenseCode)
+				.collect(Collectors.toSet());
+
+		for (VictimSegment victim : report.getVictims()) {
+			for (String ucrOffenseCode : distinctCodes(victim.getUcrOffenseCodeConnection())) {
+				if (offenseCodes.contains(ucrOffenseCode)) {
+					writeStartElement(writer, J, "OffenseVictimAssociation");
+					writeRole(writer, J, "Offense", "Offense-" + ucrOffenseCode);
+					writeRole(writer, J, "Victim", "Victim-" + valueOf(victim.getVictimSequenceNumber()));
+					writer.writeEndElement();
+				}
+			}
+		}
+	}
+
+	private void writeSubjectVictimAssociations(GroupAIncidentReport report, XMLStreamWriter writer) throws XMLStreamException {
+		for (VictimSegment victim : report.getVictims()) {
+			for (int i = 0; i < victim.getPopulatedOffenderNumberRelatedCount(); i++) {
+				Integer offenderSequenceNumber = valueOf(victim.getOffenderNumberRelated(i));
+				if (offenderSequenceNumber == null || report.getOffenderForSequenceNumber(offenderSequenceNumber) == null) {
+					continue;
+				}
+
+				writeStartElement(writer, J, "SubjectVictimAssociation");
+				writeRole(writer, J, "Subject", "Offender-" + offenderSequenceNumber);
+				writeRole(writer, J, "Victim", "Victim-" + valueOf(victim.getVictimSequenceNumber()));
+				writeElement(writer, NIBRS, "VictimToSubjectRelationshipCode",
+						Optional.ofNullable(RelationshipOfVictimToOffenderCode.forCode(StringUtils.trimToNull(victim.getVictimOffenderRelationship(i))))
+						.map(code -> code.iepdCode).orElse(null));
+				writer.writeEndElement();
+			}
+		}
+	}
+
+	private boolean containsDrugNarcoticViolations(GroupAIncidentReport report) {
+		return report.getOffenses().stream()
+				.anyMatch(offense -> DRUG_NARCOTIC_VIOLATIONS_OFFENSE_CODE.equals(offense.getUcrOffenseCode()));
+	}
+
+	private boolean isPersonVictim(VictimSegment victim) {
+		return "L".equals(victim.getTypeOfVictim()) || "I".equals(victim.getTypeOfVictim());
+	}
+
+	private List<Integer> suspectedDrugTypeIndexes(PropertySegment property) {
+		List<Integer> indexes = new ArrayList<>();
+		Set<String> suspectedDrugTypes = new LinkedHashSet<>();
+		for (int i = 0; i < property.getPopulatedSuspectedDrugTypeCount(); i++) {
+			String suspectedDrugType = StringUtils.trimToNull(property.getSuspectedDrugType(i));
+			if (suspectedDrugType != null && suspectedDrugTypes.add(suspectedDrugType)) {
+				indexes.add(i);
+			}
+		}
+		return indexes;
+	}
+
+	/**
+	 * The distinct non-blank codes, in the order of the segment.
+	 */
+	private Set<String> distinctCodes(String[] codes) {
+		return Arrays.stream(codes)
+				.map(StringUtils::trimToNull)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	/**
+	 * The distinct weapon codes, each followed by its automatic weapon indicator.
+	 */
+	private Set<String> weaponCodes(String[] weaponCodes, String[] automaticWeaponIndicators) {
+		Set<String> codes = new LinkedHashSet<>();
+		for (int i = 0; i < weaponCodes.length; i++) {
+			String weaponCode = StringUtils.trimToNull(weaponCodes[i]);
+			if (weaponCode != null) {
+				codes.add(weaponCode + StringUtils.trimToEmpty(automaticWeaponIndicators[i]));
+			}
+		}
+		return codes;
+	}
+
+	private static <T> T valueOf(ParsedObject<T> parsedObject) {
+		return parsedObject == null ? null : parsedObject.getValue();
+	}
+
+	private void writeStartElement(XMLStreamWriter writer, Namespace namespace, String name) throws XMLStreamException {
+		writer.writeStartElement(namespace.prefix, name, namespace.uri);
+	}
+
+	private void writeAttribute(XMLStreamWriter writer, String name, String value) throws XMLStreamException {
+		writer.writeAttribute(S.prefix, S.uri, name, value);
+	}
+
+	/**
+	 * Write the element with the text, or nothing when the text is blank.
+	 */
+	private void writeElement(XMLStreamWriter writer, Namespace namespace, String name, String text) throws XMLStreamException {
+		if (StringUtils.isNotBlank(text)) {
+			writeStartElement(writer, namespace, name);
+			writer.writeCharacters(text);
+			writer.writeEndElement();
+		}
+	}
+
+	private void writeIdentification(XMLStreamWriter writer, Namespace namespace, String name, String id) throws XMLStreamException {
+		if (StringUtils.isNotBlank(id)) {
+			writeStartElement(writer, namespace, name);
+			writeElement(writer, NC, "IdentificationID", id);
+			writer.writeEndElement();
+		}
+	}
+
+	private void writeRole(XMLStreamWriter writer, Namespace namespace, String name, String ref) throws XMLStreamException {
+		writer.writeEmptyElement(namespace.prefix, name, namespace.uri);
+		writeAttribute(writer, "ref", ref);
+	}
+
+}
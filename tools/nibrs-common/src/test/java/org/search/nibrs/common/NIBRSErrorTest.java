@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+
+import org.junit.Test;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+
+public class NIBRSErrorTest {
+
+	@Test
+	public void testReportFields() {
+		NIBRSError e = newError();
+		assertTrue(e.hasReport());
+		assertEquals("WA1234567", e.getOri());
+		assertEquals(Integer.valueOf(2016), e.getYearOfTape());
+		assertEquals(Integer.valueOf(5), e.getMonthOfTape());
+		assertEquals('I', e.getReportActionType());
+		assertEquals("201605", e.getDateOfTape());
+		assertEquals("2016050000012IWA123456754236732    ", e.getReportUniqueIdentifierOutput());
+
+		NIBRSError copy = new NIBRSError(e);
+		assertTrue(copy.hasReport());
+		assertEquals("WA1234567", copy.getOri());
+
+		NIBRSError noReport = new NIBRSError();
+		assertFalse(noReport.hasReport());
+		assertNull(noReport.getReport());
+		assertNull(noReport.getOri());
+		assertEquals("", noReport.getDateOfTape());
+	}
+
+	@Test
+	public void testErrorDoesNotKeepReportInMemory() throws Exception {
+		GroupAIncidentReport incident = newIncident();
+		NIBRSError e = incident.getErrorTemplate();
+		assertSame(incident, e.getReport());
+		WeakReference<GroupAIncidentReport> incidentReference = new WeakReference<>(incident);
+		incident = null;
+		for (int i = 0; i < 50 && incidentReference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull(incidentReference.get());
+		assertNull(e.getReport());
+		assertTrue(e.hasReport());
+		assertEquals("WA1234567", e.getOri());
+		assertEquals(Integer.valueOf(2016), e.getYearOfTape());
+		assertEquals(Integer.valueOf(5), e.getMonthOfTape());
+		assertEquals('I', e.getReportActionType());
+	}
+
+	private static NIBRSError newError() {
+		// the incident goes out of scope here, but the error's report fields do not depend on whether it has been collected
+		NIBRSError e = newIncident().getErrorTemplate();
+		e.setNIBRSErrorCode(NIBRSErrorCode._101);
+		return e;
+	}
+
+	private static GroupAIncidentReport newIncident() {
+		GroupAIncidentReport incident = new GroupAIncidentReport();
+		incident.setOri("WA1234567");
+		incident.setIncidentNumber("54236732");
+		incident.setYearOfTape(2016);
+		incident.setMonthOfTape(5);
+		incident.setReportActionType('I');
+		ReportSource source = new ReportSource();
+		source.setSourceLocation("12");
+		incident.setSource(source);
+		return incident;
+	}
+
+}
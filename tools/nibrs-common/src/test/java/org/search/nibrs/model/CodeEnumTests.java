@@ -22,7 +22,12 @@ import java.util.Set;
 
 import org.junit.Test;
 import org.search.nibrs.model.codes.ArresteeWasArmedWithCode;
+import org.search.nibrs.model.codes.BiasMotivationCode;
+import org.search.nibrs.model.codes.LocationTypeCode;
 import org.search.nibrs.model.codes.OffenseCode;
+import org.search.nibrs.model.codes.RelationshipOfVictimToOffenderCode;
+import org.search.nibrs.model.codes.SexCode;
+import org.search.nibrs.model.codes.TypeOfPropertyLossCode;
 
 public class CodeEnumTests {
 	
@@ -45,4 +50,42 @@ public class CodeEnumTests {
 		assertFalse(OffenseCode.containsGamblingOffenseCode(codes));
 	}
 
+	@Test
+	public void testForCode() {
+		assertEquals(OffenseCode._13A, OffenseCode.forCode("13A"));
+		assertEquals(OffenseCode._13A, OffenseCode.forCode("13a"));
+		assertNull(OffenseCode.forCode("13Z"));
+		assertNull(OffenseCode.forCode(null));
+		assertEquals(SexCode.F, SexCode.forCode("F"));
+		assertEquals(SexCode.F, SexCode.forCode("f"));
+		assertNull(SexCode.forCode("FF"));
+		assertNull(SexCode.forCode(""));
+		assertNull(SexCode.forCode("\u00e9"));
+		assertEquals(LocationTypeCode._14, LocationTypeCode.forCode("14"));
+		assertEquals(BiasMotivationCode._88, BiasMotivationCode.valueOfCode("88"));
+		assertEquals(BiasMotivationCode._88, BiasMotivationCode.valueOfIepdCode(BiasMotivationCode._88.iepdCode));
+		assertEquals(RelationshipOfVictimToOffenderCode.SE, RelationshipOfVictimToOffenderCode.valueOfIepdCode("Family Member_Spouse"));
+		assertNull(RelationshipOfVictimToOffenderCode.valueOfIepdCode("family member_spouse"));
+		assertEquals(TypeOfPropertyLossCode._8, TypeOfPropertyLossCode.valueOfIepdCode("UNKNOWN"));
+	}
+	
+	@Test
+	public void testCodeSets() {
+		assertSame(OffenseCode.codeSet(), OffenseCode.codeSet());
+		assertEquals(OffenseCode.values().length, OffenseCode.codeSet().size());
+		assertTrue(SexCode.codeSet().contains(SexCode.U.code));
+		assertFalse(SexCode.knownCodeSet().contains(SexCode.U.code));
+		assertTrue(SexCode.knownCodeSet().contains(SexCode.F.code));
+		try {
+			SexCode.codeSet().remove(SexCode.U.code);
+			fail("Code sets are shared and should not be modifiable");
+		} catch (UnsupportedOperationException e) {
+			assertTrue(SexCode.codeSet().contains(SexCode.U.code));
+		}
+		assertTrue(OffenseCode.isReturnARapeCode(OffenseCode._11B.code));
+		assertFalse(OffenseCode.isReturnARapeCode(OffenseCode._11D.code));
+		assertTrue(OffenseCode.isLarcenyOffenseCode(OffenseCode._23H.code));
+		assertFalse(OffenseCode.isLarcenyOffenseCode(null));
+	}
+
 }
@@ -17,6 +17,7 @@ package org.search.nibrs.model;
 
 import static org.junit.Assert.*;
 
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
 import java.util.Random;
 
@@ -57,9 +58,9 @@ public class EqualsTests {
 			}
 		});
 		
-		builder.randomize(FieldDefinitionBuilder.field().named("report").ofType(AbstractReport.class).get(), new Randomizer<AbstractReport>() {
+		builder.randomize(FieldDefinitionBuilder.field().named("reportReference").ofType(WeakReference.class).get(), new Randomizer<WeakReference<AbstractReport>>() {
 			@Override
-			public AbstractReport getRandomValue() {
+			public WeakReference<AbstractReport> getRandomValue() {
 				return null;
 			}
 		});
@@ -17,6 +17,12 @@ package org.search.nibrs.xml;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 
 import org.junit.Test;
 import org.search.nibrs.xml.NibrsNamespaceContext.Namespace;
@@ -41,5 +47,51 @@ public class TestXmlUtils {
 		Node c2 = XmlUtils.xPathNodeSearch(d, "/" + Namespace.NIBRS.prefix + ":child1/" + Namespace.NIBRS.prefix + ":child2");
 		assertNotNull(c2);
 	}
+	
+	@Test
+	public void testVariableSearch() throws Exception {
+		
+		Document d = XmlUtils.createNewDocument();
+		Element root = XmlUtils.appendChildElement(d, Namespace.NIBRS, "Report");
+		for (String id : new String[] {"Person1", "Person2"}) {
+			Element person = XmlUtils.appendChildElement(root, Namespace.NC, "Person");
+			XmlUtils.addAttribute(person, Namespace.S, "id", id);
+			XmlUtils.appendChildElement(person, Namespace.J, "PersonSexCode").setTextContent(id.substring(6));
+		}
+		
+		String xPath = "nc:Person[@s:id = $ref]/j:PersonSexCode";
+		assertEquals("1", XmlUtils.xPathStringSearch(root, xPath, "ref", "Person1"));
+		assertEquals("2", XmlUtils.xPathStringSearch(root, xPath, "ref", "Person2"));
+		assertNull(XmlUtils.xPathStringSearch(root, xPath, "ref", "Person3"));
+		assertEquals("Person2", ((Element) XmlUtils.xPathNodeSearch(root, "nc:Person[@s:id = $ref]", "ref", "Person2")).getAttributeNS(Namespace.S.uri, "id"));
+		assertEquals(1, XmlUtils.xPathNodeListSearch(root, "nc:Person[@s:id != $ref]", "ref", "Person2").getLength());
+		
+	}
+	
+	@Test
+	public void testExpressionsAreCachedPerThread() throws Exception {
+		
+		XPathExpression expression = XPathExpressionCache.getExpression("nc:Person/@s:id");
+		assertSame(expression, XPathExpressionCache.getExpression("nc:Person/@s:id"));
+		
+		XPathExpression[] otherThreadExpression = new XPathExpression[1];
+		Thread t = new Thread(() -> {
+			try {
+				otherThreadExpression[0] = XPathExpressionCache.getExpression("nc:Person/@s:id");
+			} catch (XPathExpressionException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		t.start();
+		t.join();
+		assertNotNull(otherThreadExpression[0]);
+		assertNotSame(expression, otherThreadExpression[0]);
+		
+		for (int i = 0; i < XPathExpressionCache.MAX_EXPRESSIONS_PER_THREAD + 10; i++) {
+			XPathExpressionCache.getExpression("nc:Person[" + (i + 1) + "]");
+		}
+		assertEquals(XPathExpressionCache.MAX_EXPRESSIONS_PER_THREAD, XPathExpressionCache.getCachedExpressionCount());
+		
+	}
 
 }
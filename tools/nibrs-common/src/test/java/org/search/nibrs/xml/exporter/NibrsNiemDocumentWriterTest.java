@@ -0,0 +1,289 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.xml.exporter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.search.nibrs.common.ParsedObject;
+import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.model.ArresteeSegment;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.GroupBArrestReport;
+import org.search.nibrs.model.NIBRSAge;
+import org.search.nibrs.model.OffenderSegment;
+import org.search.nibrs.model.OffenseSegment;
+import org.search.nibrs.model.PropertySegment;
+import org.search.nibrs.model.VictimSegment;
+import org.search.nibrs.xml.XmlUtils;
+import org.w3c.dom.Document;
+
+public class NibrsNiemDocumentWriterTest {
+
+	private NibrsNiemDocumentWriter writer;
+
+	@Before
+	public void init() {
+		writer = new NibrsNiemDocumentWriter("SUBORI123", NibrsNiemDocumentWriter.getDefaultNonNumericAgeCodeMapping(),
+				Collections.singletonMap("C", "A"));
+	}
+
+	@Test
+	public void testGroupAIncidentReport() throws Exception {
+		Document document = write(createGroupAIncidentReport());
+
+		assertTrue(messageIdentifier(document) > Integer.MAX_VALUE);
+		assertEquals("SUBORI123", XmlUtils.xPathStringSearch(document,
+				"/nibrs:Submission/cjis:MessageMetadata/cjis:MessageSubmittingOrganization/j:OrganizationAugmentation/j:OrganizationORIIdentification/nc:IdentificationID"));
+
+		String report = "/nibrs:Submission/nibrs:Report/";
+		assertEquals("GROUP A INCIDENT REPORT", XmlUtils.xPathStringSearch(document, report + "nibrs:ReportHeader/nibrs:NIBRSReportCategoryCode"));
+		assertEquals("I", XmlUtils.xPathStringSearch(document, report + "nibrs:ReportHeader/nibrs:ReportActionCategoryCode"));
+		assertEquals("2019-03", XmlUtils.xPathStringSearch(document, report + "nibrs:ReportHeader/nibrs:ReportDate/nc:YearMonthDate"));
+		assertEquals("WVNDX01", XmlUtils.xPathStringSearch(document,
+				report + "nibrs:ReportHeader/nibrs:ReportingAgency/j:OrganizationAugmentation/j:OrganizationORIIdentification/nc:IdentificationID"));
+
+		assertEquals("2019-03-02T07:00:00", XmlUtils.xPathStringSearch(document, report + "nc:Incident/nc:ActivityDate/nc:DateTime"));
+		assertEquals("A", XmlUtils.xPathStringSearch(document, report + "nc:Incident/j:IncidentAugmentation/j:IncidentExceptionalClearanceCode"));
+		assertEquals("2019-03-05", XmlUtils.xPathStringSearch(document,
+				report + "nc:Incident/j:IncidentAugmentation/j:IncidentExceptionalClearanceDate/nc:Date"));
+
+		assertEquals("13A", XmlUtils.xPathStringSearch(document, report + "j:Offense[@s:id='Offense-13A']/nibrs:OffenseUCRCode"));
+		assertEquals("ANTIWHITE", XmlUtils.xPathStringSearch(document, report + "j:Offense[@s:id='Offense-13A']/j:OffenseFactorBiasMotivationCode"));
+		assertEquals("11A", XmlUtils.xPathStringSearch(document, report + "j:Offense[@s:id='Offense-13A']/j:OffenseForce/j:ForceCategoryCode"));
+		assertEquals("false", XmlUtils.xPathStringSearch(document, report + "j:Offense[@s:id='Offense-13A']/j:OffenseAttemptedIndicator"));
+		assertEquals("15", XmlUtils.xPathStringSearch(document, report + "nc:Location[@s:id='Location-13A']/nibrs:LocationCategoryCode"));
+
+		assertEquals("STOLEN", XmlUtils.xPathStringSearch(document, report + "nc:Item/nc:ItemStatus/cjis:ItemStatusCode"));
+		assertEquals("500", XmlUtils.xPathStringSearch(document, report + "nc:Item/nc:ItemValue/nc:ItemValueAmount/nc:Amount"));
+		assertEquals("03", XmlUtils.xPathStringSearch(document, report + "nc:Item/j:ItemCategoryNIBRSPropertyCategoryCode"));
+		assertEquals("1", XmlUtils.xPathStringSearch(document, report + "nc:Item/nc:ItemQuantity"));
+		assertFalse(XmlUtils.nodeExists(document, report + "nc:Substance"));
+
+		assertEquals("20", XmlUtils.xPathStringSearch(document,
+				report + "nc:Person[@s:id='PersonVictim-1']/nc:PersonAgeMeasure/nc:MeasureIntegerRange/nc:RangeMinimumIntegerValue"));
+		assertEquals("22", XmlUtils.xPathStringSearch(document,
+				report + "nc:Person[@s:id='PersonVictim-1']/nc:PersonAgeMeasure/nc:MeasureIntegerRange/nc:RangeMaximumIntegerValue"));
+		assertEquals("A", XmlUtils.xPathStringSearch(document, report + "nc:Person[@s:id='PersonVictim-1']/j:PersonRaceNDExCode"));
+		assertEquals("R", XmlUtils.xPathStringSearch(document, report + "nc:Person[@s:id='PersonVictim-1']/j:PersonResidentCode"));
+		assertEquals("UNKNOWN", XmlUtils.xPathStringSearch(document, report + "nc:Person[@s:id='PersonOffender-1']/nc:PersonAgeMeasure/nc:MeasureValueText"));
+		assertEquals("25", XmlUtils.xPathStringSearch(document, report + "nc:Person[@s:id='PersonArrestee-1']/nc:PersonAgeMeasure/nc:MeasureIntegerValue"));
+
+		assertEquals("1", XmlUtils.xPathStringSearch(document, report + "j:Victim[@s:id='Victim-1']/j:VictimSequenceNumberText"));
+		assertEquals("PersonVictim-1", XmlUtils.xPathStringSearch(document, report + "j:Victim[@s:id='Victim-1']/nc:RoleOfPerson/@s:ref"));
+		assertEquals("N", XmlUtils.xPathStringSearch(document, report + "j:Victim[@s:id='Victim-1']/j:VictimInjury/j:InjuryCategoryCode"));
+		assertEquals("01", XmlUtils.xPathStringSearch(document, report + "j:Victim[@s:id='Victim-1']/j:VictimAggravatedAssaultHomicideFactorCode"));
+		assertEquals("1", XmlUtils.xPathStringSearch(document, report + "j:Subject[@s:id='Offender-1']/j:SubjectSequenceNumberText"));
+
+		assertEquals("12", XmlUtils.xPathStringSearch(document, report + "j:Arrestee[@s:id='Arrestee-1']/j:ArresteeArmedWithCode"));
+		assertEquals("N", XmlUtils.xPathStringSearch(document, report + "j:Arrestee[@s:id='Arrestee-1']/j:ArrestSubjectCountCode"));
+		assertEquals("2019-03-04", XmlUtils.xPathStringSearch(document, report + "j:Arrest[@s:id='Arrest-1']/nc:ActivityDate/nc:Date"));
+		assertEquals("13A", XmlUtils.xPathStringSearch(document, report + "j:Arrest[@s:id='Arrest-1']/j:ArrestCharge/nibrs:ChargeUCRCode"));
+		assertEquals("Arrestee-1", XmlUtils.xPathStringSearch(document, report + "j:ArrestSubjectAssociation/j:Subject/@s:ref"));
+
+		assertEquals("Location-13A", XmlUtils.xPathStringSearch(document, report + "j:OffenseLocationAssociation/nc:Location/@s:ref"));
+		assertEquals("Offense-13A", XmlUtils.xPathStringSearch(document, report + "j:OffenseVictimAssociation/j:Offense/@s:ref"));
+		assertEquals("Offender-1", XmlUtils.xPathStringSearch(document, report + "j:SubjectVictimAssociation/j:Subject/@s:ref"));
+		assertEquals("Family Member_Spouse", XmlUtils.xPathStringSearch(document,
+				report + "j:SubjectVictimAssociation/nibrs:VictimToSubjectRelationshipCode"));
+
+		assertEquals(1, XmlUtils.xPathNodeListSearch(document, report + "j:SubjectVictimAssociation").getLength());
+	}
+
+	@Test
+	public void testDrugProperty() throws Exception {
+		GroupAIncidentReport incident = createGroupAIncidentReport();
+		incident.getOffenses().get(0).setUcrOffenseCode("35A");
+		PropertySegment property = incident.getProperties().get(0);
+		property.setTypeOfPropertyLoss("6");
+		property.setPropertyDescription(0, "10");
+		property.setValueOfProperty(0, new ParsedObject<>(100));
+		property.setSuspectedDrugType(0, "E");
+		property.setEstimatedDrugQuantity(0, new ParsedObject<>(1.0));
+		property.setTypeDrugMeasurement(0, "GM");
+
+		Document document = write(incident);
+
+		String substance = "/nibrs:Submission/nibrs:Report/nc:Substance/";
+		assertFalse(XmlUtils.nodeExists(document, "/nibrs:Submission/nibrs:Report/nc:Item"));
+		assertEquals("SEIZED", XmlUtils.xPathStringSearch(document, substance + "nc:ItemStatus/cjis:ItemStatusCode"));
+		assertEquals("100", XmlUtils.xPathStringSearch(document, substance + "nc:ItemValue/nc:ItemValueAmount/nc:Amount"));
+		assertEquals("E", XmlUtils.xPathStringSearch(document, substance + "j:DrugCategoryCode"));
+		assertEquals("1", XmlUtils.xPathStringSearch(document, substance + "nc:SubstanceQuantityMeasure/nc:MeasureDecimalValue"));
+		assertEquals("GM", XmlUtils.xPathStringSearch(document, substance + "nc:SubstanceQuantityMeasure/j:SubstanceUnitCode"));
+	}
+
+	@Test
+	public void testGroupBArrestReport() throws Exception {
+		GroupBArrestReport arrestReport = new GroupBArrestReport();
+		arrestReport.setReportActionType('A');
+		arrestReport.setOri("WVNDX01");
+		arrestReport.setYearOfTape(2019);
+		arrestReport.setMonthOfTape(11);
+		ArresteeSegment arrestee = createArrestee(ArresteeSegment.GROUP_B_ARRESTEE_SEGMENT_TYPE_IDENTIFIER);
+		arrestee.setArrestTransactionNumber("12345");
+		arrestee.setUcrArrestOffenseCode("90A");
+		arrestee.setAge(NIBRSAge.getUnknownAge());
+		arrestee.setDispositionOfArresteeUnder18("H");
+		arrestReport.addArrestee(arrestee);
+
+		Document document = write(arrestReport);
+
+		String report = "/nibrs:Submission/nibrs:Report/";
+		assertTrue(messageIdentifier(document) > Integer.MAX_VALUE);
+		assertEquals("GROUP B ARREST REPORT", XmlUtils.xPathStringSearch(document, report + "nibrs:ReportHeader/nibrs:NIBRSReportCategoryCode"));
+		assertEquals("2019-11", XmlUtils.xPathStringSearch(document, report + "nibrs:ReportHeader/nibrs:ReportDate/nc:YearMonthDate"));
+		assertEquals("UNKNOWN", XmlUtils.xPathStringSearch(document, report + "nc:Person[@s:id='PersonArrestee-1']/nc:PersonAgeMeasure/nc:MeasureValueText"));
+		assertEquals("H", XmlUtils.xPathStringSearch(document, report + "j:Arrestee[@s:id='Arrestee-1']/j:ArresteeJuvenileDispositionCode"));
+		assertNull(XmlUtils.xPathStringSearch(document, report + "j:Arrestee[@s:id='Arrestee-1']/j:ArrestSubjectCountCode"));
+		assertEquals("12345", XmlUtils.xPathStringSearch(document, report + "j:Arrest[@s:id='Arrest-1']/nc:ActivityIdentification/nc:IdentificationID"));
+		assertEquals("90A", XmlUtils.xPathStringSearch(document, report + "j:Arrest[@s:id='Arrest-1']/j:ArrestCharge/nibrs:ChargeUCRCode"));
+		assertEquals("Arrest-1", XmlUtils.xPathStringSearch(document, report + "j:ArrestSubjectAssociation/nc:Activity/@s:ref"));
+	}
+
+	@Test
+	public void testMessageIdentifiersAreUnique() throws Exception {
+		GroupAIncidentReport incident = createGroupAIncidentReport();
+		NibrsNiemDocumentWriter otherWriter = new NibrsNiemDocumentWriter("SUBORI456");
+
+		Set<Long> messageIdentifiers = new HashSet<>();
+		for (int i = 0; i < 100; i++) {
+			assertTrue(messageIdentifiers.add(messageIdentifier(write(incident))));
+			assertTrue(messageIdentifiers.add(NibrsNiemDocumentWriter.nextMessageIdentifier()));
+			assertTrue(messageIdentifiers.add(messageIdentifier(write(otherWriter, incident))));
+		}
+	}
+
+	@Test
+	public void testWriteToFolder() throws Exception {
+		Path folder = Files.createTempDirectory("niem");
+		try {
+			Path file = writer.writeToFolder(createGroupAIncidentReport(), folder.resolve("conversion"));
+			assertTrue(file.getFileName().toString().startsWith("GroupAIncident54236732-"));
+			assertEquals("54236732", XmlUtils.xPathStringSearch(XmlUtils.toDocument(file.toFile()),
+					"/nibrs:Submission/nibrs:Report/nc:Incident/nc:ActivityIdentification/nc:IdentificationID"));
+			Files.delete(file);
+		}
+		finally {
+			Files.delete(folder.resolve("conversion"));
+			Files.delete(folder);
+		}
+	}
+
+	private Document write(AbstractReport report) throws Exception {
+		return write(writer, report);
+	}
+
+	private static Document write(NibrsNiemDocumentWriter writer, AbstractReport report) throws Exception {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		writer.write(report, outputStream);
+		return XmlUtils.toDocument(new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	private static long messageIdentifier(Document document) throws Exception {
+		return Long.parseLong(XmlUtils.xPathStringSearch(document,
+				"/nibrs:Submission/cjis:MessageMetadata/cjis:MessageIdentification/nc:IdentificationID"));
+	}
+
+	private GroupAIncidentReport createGroupAIncidentReport() {
+		GroupAIncidentReport incident = new GroupAIncidentReport();
+		incident.setReportActionType('I');
+		incident.setOri("WVNDX01");
+		incident.setYearOfTape(2019);
+		incident.setMonthOfTape(3);
+		incident.setIncidentNumber("54236732");
+		incident.setIncidentDate(new ParsedObject<>(LocalDate.of(2019, 3, 2)));
+		incident.setIncidentHour(new ParsedObject<>(7));
+		incident.setExceptionalClearanceCode("A");
+		incident.setExceptionalClearanceDate(new ParsedObject<>(LocalDate.of(2019, 3, 5)));
+
+		OffenseSegment offense = new OffenseSegment();
+		offense.setUcrOffenseCode("13A");
+		offense.setOffenseAttemptedCompleted("C");
+		offense.setLocationType("15");
+		offense.setBiasMotivation(0, "11");
+		offense.setTypeOfWeaponForceInvolved(0, "11");
+		offense.setAutomaticWeaponIndicator(0, "A");
+		incident.addOffense(offense);
+
+		PropertySegment property = new PropertySegment();
+		property.setTypeOfPropertyLoss("7");
+		property.setPropertyDescription(0, "03");
+		property.setValueOfProperty(0, new ParsedObject<>(500));
+		property.setNumberOfStolenMotorVehicles(new ParsedObject<>(1));
+		incident.addProperty(property);
+
+		VictimSegment victim = new VictimSegment();
+		victim.setVictimSequenceNumber(new ParsedObject<>(1));
+		victim.setTypeOfVictim("I");
+		victim.setAge(NIBRSAge.getAge(20, 22));
+		victim.setSex("F");
+		victim.setRace("C");
+		victim.setEthnicity("N");
+		victim.setResidentStatus("R");
+		victim.setUcrOffenseCodeConnection(0, "13A");
+		victim.setTypeOfInjury(0, "N");
+		victim.setAggravatedAssaultHomicideCircumstances(0, "01");
+		victim.setOffenderNumberRelated(0, new ParsedObject<>(1));
+		victim.setVictimOffenderRelationship(0, "SE");
+		victim.setOffenderNumberRelated(1, new ParsedObject<>(2));
+		victim.setVictimOffenderRelationship(1, "AQ");
+		incident.addVictim(victim);
+
+		OffenderSegment offender = new OffenderSegment();
+		offender.setOffenderSequenceNumber(new ParsedObject<>(1));
+		offender.setAge(NIBRSAge.getUnknownAge());
+		offender.setSex("M");
+		offender.setRace("W");
+		incident.addOffender(offender);
+
+		ArresteeSegment arrestee = createArrestee(ArresteeSegment.GROUP_A_ARRESTEE_SEGMENT_TYPE_IDENTIFIER);
+		arrestee.setArrestTransactionNumber("A54236732");
+		arrestee.setUcrArrestOffenseCode("13A");
+		arrestee.setAge(NIBRSAge.getAge(25, 25));
+		arrestee.setArresteeArmedWith(0, "12");
+		arrestee.setMultipleArresteeSegmentsIndicator("N");
+		incident.addArrestee(arrestee);
+
+		return incident;
+	}
+
+	private ArresteeSegment createArrestee(char segmentType) {
+		ArresteeSegment arrestee = new ArresteeSegment(segmentType);
+		arrestee.setArresteeSequenceNumber(new ParsedObject<>(1));
+		arrestee.setArrestDate(new ParsedObject<>(LocalDate.of(2019, 3, 4)));
+		arrestee.setTypeOfArrest("O");
+		arrestee.setSex("M");
+		arrestee.setRace("W");
+		arrestee.setEthnicity("N");
+		arrestee.setResidentStatus("R");
+		return arrestee;
+	}
+
+}
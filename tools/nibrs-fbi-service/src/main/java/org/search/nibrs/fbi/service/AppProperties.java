@@ -32,6 +32,38 @@ public class AppProperties {
 	private String fbiKeyPassword="";
 	private String fbiKeystoreLocation="";
 	private String fbiKeystorePassword="";
+	
+	/*
+	 * The number of threads submitting the NIEM documents picked up from the input folder. 
+	 */
+	private Integer maxConcurrentSubmissions = 4;
+	/*
+	 * The sustained rate of calls to the FBI service, and how many calls may go out at once after a quiet period. 
+	 */
+	private Double submissionsPerSecond = 10.0;
+	private Integer submissionBurstSize = 10;
+	/*
+	 * A submission failing to reach the FBI service or answered with a fault is tried again up to maxSubmissionRetries 
+	 * times, waiting twice as long each time from submissionRetryDelayMillis up to submissionRetryMaxDelayMillis. 
+	 */
+	private Integer maxSubmissionRetries = 3;
+	private Long submissionRetryDelayMillis = 1000L;
+	private Long submissionRetryMaxDelayMillis = 60000L;
+	/*
+	 * The number of submission results persisted to the staging data service in one call, and how often what is left of a 
+	 * batch is persisted.  After a failed call the persister waits twice as long each time from 
+	 * submissionPersistRetryDelayMillis up to submissionPersistRetryMaxDelayMillis, and logs an error when more than 
+	 * submissionPersistAlarmSize results are waiting. 
+	 */
+	private Integer submissionPersistBatchSize = 50;
+	private Long submissionPersistIntervalMillis = 5000L;
+	private Long submissionPersistRetryDelayMillis = 5000L;
+	private Long submissionPersistRetryMaxDelayMillis = 300000L;
+	private Integer submissionPersistAlarmSize = 10000;
+	/*
+	 * Log the full request and response of every submissionPayloadLogInterval-th submission.  0 turns it off. 
+	 */
+	private Integer submissionPayloadLogInterval = 0;
 
 	public String getStagingDataRestServiceBaseUrl() {
 		return stagingDataRestServiceBaseUrl;
@@ -102,4 +134,100 @@ public class AppProperties {
 		this.fbiKeystorePassword = fbiKeystorePassword;
 	}
 
+	public Integer getMaxConcurrentSubmissions() {
+		return maxConcurrentSubmissions;
+	}
+
+	public void setMaxConcurrentSubmissions(Integer maxConcurrentSubmissions) {
+		this.maxConcurrentSubmissions = maxConcurrentSubmissions;
+	}
+
+	public Double getSubmissionsPerSecond() {
+		return submissionsPerSecond;
+	}
+
+	public void setSubmissionsPerSecond(Double submissionsPerSecond) {
+		this.submissionsPerSecond = submissionsPerSecond;
+	}
+
+	public Integer getSubmissionBurstSize() {
+		return submissionBurstSize;
+	}
+
+	public void setSubmissionBurstSize(Integer submissionBurstSize) {
+		this.submissionBurstSize = submissionBurstSize;
+	}
+
+	public Integer getMaxSubmissionRetries() {
+		return maxSubmissionRetries;
+	}
+
+	public void setMaxSubmissionRetries(Integer maxSubmissionRetries) {
+		this.maxSubmissionRetries = maxSubmissionRetries;
+	}
+
+	public Long getSubmissionRetryDelayMillis() {
+		return submissionRetryDelayMillis;
+	}
+
+	public void setSubmissionRetryDelayMillis(Long submissionRetryDelayMillis) {
+		this.submissionRetryDelayMillis = submissionRetryDelayMillis;
+	}
+
+	public Long getSubmissionRetryMaxDelayMillis() {
+		return submissionRetryMaxDelayMillis;
+	}
+
+	public void setSubmissionRetryMaxDelayMillis(Long submissionRetryMaxDelayMillis) {
+		this.submissionRetryMaxDelayMillis = submissionRetryMaxDelayMillis;
+	}
+
+	public Integer getSubmissionPersistBatchSize() {
+		return submissionPersistBatchSize;
+	}
+
+	public void setSubmissionPersistBatchSize(Integer submissionPersistBatchSize) {
+		this.submissionPersistBatchSize = submissionPersistBatchSize;
+	}
+
+	public Long getSubmissionPersistIntervalMillis() {
+		return submissionPersistIntervalMillis;
+	}
+
+	public void setSubmissionPersistIntervalMillis(Long submissionPersistIntervalMillis) {
+		this.submissionPersistIntervalMillis = submissionPersistIntervalMillis;
+	}
+
+	public Long getSubmissionPersistRetryDelayMillis() {
+		return submissionPersistRetryDelayMillis;
+	}
+
+	public void setSubmissionPersistRetryDelayMillis(Long submissionPersistRetryDelayMillis) {
+		this.submissionPersistRetryDelayMillis = submissionPersistRetryDelayMillis;
+	}
+
+	public Long getSubmissionPersistRetryMaxDelayMillis() {
+		return submissionPersistRetryMaxDelayMillis;
+	}
+
+	public void setSubmissionPersistRetryMaxDelayMillis(Long submissionPersistRetryMaxDelayMillis) {
+		this.submissionPersistRetryMaxDelayMillis = submissionPersistRetryMaxDelayMillis;
+	}
+
+	public Integer getSubmissionPersistAlarmSize() {
+		return submissionPersistAlarmSize;
+	}
+
+	public void setSubmissionPersistAlarmSize(Integer submissionPersistAlarmSize) {
+		this.submissionPersistAlarmSize = submissionPersistAlarmSize;
+	}
+
+	public Integer getSubmissionPayloadLogInterval() {
+		return submissionPayloadLogInterval;
+	}
+
+	public void setSubmissionPayloadLogInterval(Integer submissionPayloadLogInterval) {
+		this.submissionPayloadLogInterval = submissionPayloadLogInterval;
+	}
+
 }
\ No newline at end of file
@@ -15,6 +15,7 @@
  */
 package org.search.nibrs.fbi.service;
 import org.apache.camel.LoggingLevel;
+import org.apache.camel.ThreadPoolRejectedPolicy;
 import org.apache.camel.builder.RouteBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -35,6 +36,10 @@ public class CamelRouter extends RouteBuilder {
         
         fromF("file:%s/input?idempotent=true&moveFailed=%s/error&move=processed/&sortBy=file:modified;file:name", 
         		appProperties.getNibrsNiemDocumentFolder(), appProperties.getNibrsNiemDocumentFolder()).routeId("niemDocumentFileInput")
+        .threads(appProperties.getMaxConcurrentSubmissions(), appProperties.getMaxConcurrentSubmissions())
+        	.maxQueueSize(appProperties.getMaxConcurrentSubmissions())
+        	.rejectedPolicy(ThreadPoolRejectedPolicy.CallerRuns)
+        	.threadName("niemDocumentSubmission")
         .log(LoggingLevel.INFO, "File Name before calling is ${in.header.CamelFileName}")
         .transform().method("submissionRequestProcessor", "processSubmissionRequest")
         .end();
@@ -42,12 +47,10 @@ public class CamelRouter extends RouteBuilder {
         from("direct:submitNiemDocument").routeId("callFBINibrsNiemService")
         	.to("xslt:xsl/SOAPWrapper.xsl")
         	.wireTap("file:"+ appProperties.getNibrsNiemDocumentFolder() + "/request")
-        	.log(LoggingLevel.INFO, "About to send to FBI ${body}")
+        	.log(LoggingLevel.DEBUG, "About to send ${in.header.CamelFileName} to FBI")
         	.removeHeaders("*")
         	.to(appProperties.getNibrsNiemServiceEndpointUrl()).id("nibrsNiemServiceEndPoint")
-        	.log(LoggingLevel.INFO, "After calling the FBI service")
-        	.log(LoggingLevel.INFO, "MessageID after calling is ${id}.")
-        	.log(LoggingLevel.INFO, "File Name after calling is ${in.header.CamelFileName}")
+        	.log(LoggingLevel.DEBUG, "After calling the FBI service, MessageID ${id}")
         	.end();
         
     }
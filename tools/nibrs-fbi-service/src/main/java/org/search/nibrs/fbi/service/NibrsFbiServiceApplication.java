@@ -15,8 +15,10 @@
  */
 package org.search.nibrs.fbi.service;
 
+import org.search.nibrs.fbi.service.service.TokenBucketRateLimiter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.context.annotation.ImportResource;
 
@@ -31,4 +33,9 @@ public class NibrsFbiServiceApplication {
 //		Arrays.stream(applicationContext.getBeanDefinitionNames())
 //			.forEach(System.out::println);
 	}
+	
+	@Bean
+	public TokenBucketRateLimiter fbiServiceRateLimiter(AppProperties appProperties) {
+		return new TokenBucketRateLimiter(appProperties.getSubmissionsPerSecond(), appProperties.getSubmissionBurstSize());
+	}
 }
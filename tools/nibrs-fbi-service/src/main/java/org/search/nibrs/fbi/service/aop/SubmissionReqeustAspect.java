@@ -15,13 +15,16 @@
  */
 package org.search.nibrs.fbi.service.aop;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.Exchange;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -29,7 +32,8 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.search.nibrs.fbi.service.AppProperties;
-import org.search.nibrs.fbi.service.service.StagingDataRestClient;
+import org.search.nibrs.fbi.service.service.SubmissionAuditor;
+import org.search.nibrs.fbi.service.service.SubmissionBatchPersister;
 import org.search.nibrs.stagingdata.model.Submission;
 import org.search.nibrs.stagingdata.model.Violation;
 import org.search.nibrs.xml.XmlUtils;
@@ -47,7 +51,9 @@ public class SubmissionReqeustAspect {
 	private AppProperties appProperties;
 	
 	@Autowired
-	private StagingDataRestClient stagingDataRestClient;
+	private SubmissionBatchPersister submissionBatchPersister;
+	@Autowired
+	private SubmissionAuditor submissionAuditor;
 	
 	private String responseFilePath;
 	
@@ -68,39 +74,40 @@ public class SubmissionReqeustAspect {
         //Advice
 		
 		Document requestDocument = (Document)joinPoint.getArgs()[0];
-		log.info("Aspect request: " + XmlUtils.nodeToString(requestDocument)); 
-    	log.info(" Check for SubmissionRequestProcessor ");
 
     	String incidentIdentifier = XmlUtils.xPathStringSearch(requestDocument, "(nibrs:Submission/nibrs:Report/nc:Incident/nc:ActivityIdentification/nc:IdentificationID)"
     			+ "|(nibrs:Submission/nibrs:Report[not(nc:Incident)]/j:Arrest/nc:ActivityIdentification/nc:IdentificationID)");
-    	log.info("Incident Identifier: " + incidentIdentifier);
     	
     	Submission submission = new Submission();
     	submission.setIncidentIdentifier(incidentIdentifier);
     	
     	String messageIdentifier = XmlUtils.xPathStringSearch(requestDocument, "nibrs:Submission/cjis:MessageMetadata/cjis:MessageIdentification/nc:IdentificationID");
-    	submission.setMessageIdentifier(Integer.valueOf(messageIdentifier));
-    	
+
     	String nibrsReportCategoryCode = XmlUtils.xPathStringSearch(requestDocument, "nibrs:Submission/nibrs:Report/nibrs:ReportHeader/nibrs:NIBRSReportCategoryCode");
     	submission.setNibrsReportCategoryCode(nibrsReportCategoryCode);
     	
     	Exchange exchange = (Exchange)joinPoint.getArgs()[1];
-    	log.info("Aspect exchange messageID: " + exchange.getIn().getMessageId());
-    	
     	String fileName = (String) exchange.getIn().getHeader("CamelFileName"); 
-    	log.info("Aspect exchange Camel File Name: " + fileName); 
     	submission.setRequestFilePath(appProperties.getNibrsNiemDocumentFolder() + "/request/" + fileName);
     	submission.setSubmissionTimestamp(LocalDateTime.now());
+    	long startNanos = System.nanoTime();
     	try {
-    		log.info(" Allowed execution for " + joinPoint);
+    		/*
+    		 * A document without a numeric message identifier could not be recorded, so it is audited as a failure
+    		 * rather than submitted.
+    		 */
+    		submission.setMessageIdentifier(Long.valueOf(StringUtils.trimToEmpty(messageIdentifier)));
+
 			Document returnedDocument = (Document) joinPoint.proceed();
-			log.info("Aspect result: " + XmlUtils.nodeToString(returnedDocument));
+			long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
 			
 			submission.setResponseTimestamp(LocalDateTime.now());
 			
 			String responseFileName = responseFilePath + fileName;
 			submission.setResponseFilePath(responseFileName);
-			FileUtils.writeStringToFile(new File(responseFileName), XmlUtils.nodeToString(returnedDocument), "UTF-8");
+			try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(responseFileName))) {
+				XmlUtils.printNode(returnedDocument, outputStream);
+			}
 			
 			
 			String status = XmlUtils.xPathStringSearch(returnedDocument, "//return/ingestResponse/status");
@@ -124,10 +131,11 @@ public class SubmissionReqeustAspect {
 				submission.setFaultDescription(StringUtils.normalizeSpace(XmlUtils.xPathStringSearch(returnedDocument, "//faultstring")));
 			}
 			
-			stagingDataRestClient.persistSubmission(submission);
+			submissionAuditor.audit(submission, status, latencyMillis, requestDocument, returnedDocument);
+			submissionBatchPersister.add(submission);
 
 		} catch (Throwable e) {
-			e.printStackTrace();
+			submissionAuditor.auditFailure(submission, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), e);
 		}
     	
     }
@@ -16,6 +16,7 @@
 package org.search.nibrs.fbi.service.controller;
 
 import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -29,7 +30,7 @@ import org.w3c.dom.Document;
 public class SampleResponseController {
 	private final Log log = LogFactory.getLog(SampleResponseController.class);
 	
-	private Integer count = 0; 
+	private final AtomicInteger count = new AtomicInteger(); 
 
 	@RequestMapping(value = "/response/accepted")
 	@ResponseBody
@@ -64,6 +65,7 @@ public class SampleResponseController {
 	@ResponseBody
 	public String getSampleResponse() throws Exception{
 		String document = null;
+		int count = this.count.getAndIncrement(); 
 		if (count % 40 == 0 ) {
 			document = getSampleFaultResponse();
 		}
@@ -77,7 +79,6 @@ public class SampleResponseController {
 			document = getSampleAcceptedResponse();
 		}
 		
-		count ++; 
 		return document;
 	}
 	
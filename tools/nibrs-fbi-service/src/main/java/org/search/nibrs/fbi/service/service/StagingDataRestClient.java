@@ -51,6 +51,12 @@ public class StagingDataRestClient {
 		logger.info("Called the %s%s to persist the  ", appProperties.getStagingDataRestServiceBaseUrl(),  "submission"); 
 	}
 
+	public void persistSubmissions(List<Submission> submissions) {
+		logger.debug("about to persist " + submissions.size() + " submissions");
+		restTemplate.postForLocation(appProperties.getStagingDataRestServiceBaseUrl() + "submissions/batch", submissions);
+		logger.info("Persisted {} submissions", submissions.size()); 
+	}
+
 
 	
 	private List<HttpMessageConverter<?>> getMessageConverters() {
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.fbi.service.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.search.nibrs.fbi.service.AppProperties;
+import org.search.nibrs.stagingdata.model.Submission;
+import org.search.nibrs.xml.XmlUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.metrics.CounterService;
+import org.springframework.boot.actuate.metrics.GaugeService;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Document;
+
+/**
+ * Records one audit line and the actuator metrics for each submission to the FBI service, from the metadata already
+ * extracted into the Submission, so the documents are not serialized for the logs.  The full request and response are
+ * logged only for every submissionPayloadLogInterval-th submission, when the interval is set.
+ */
+@Component
+public class SubmissionAuditor {
+	private final Log log = LogFactory.getLog(this.getClass());
+
+	private final AtomicLong submissionCount = new AtomicLong();
+
+	@Autowired
+	private AppProperties appProperties;
+	@Autowired
+	private CounterService counterService;
+	@Autowired
+	private GaugeService gaugeService;
+
+	public void audit(Submission submission, String status, long latencyMillis, Document requestDocument, Document responseDocument) {
+		String statusName = StringUtils.defaultIfBlank(StringUtils.trim(status), "FAULT");
+		int violationCount = submission.getViolations() == null ? 0 : submission.getViolations().size();
+
+		log.info("Submission messageId=" + submission.getMessageIdentifier()
+				+ " incidentId=" + submission.getIncidentIdentifier()
+				+ " category=\"" + submission.getNibrsReportCategoryCode() + "\""
+				+ " status=" + statusName
+				+ " accepted=" + submission.getAcceptedIndicator()
+				+ " violations=" + violationCount
+				+ (submission.getFaultCode() == null ? "" : " faultCode=" + submission.getFaultCode())
+				+ " latencyMs=" + latencyMillis);
+
+		counterService.increment("nibrs.submission." + statusName.toLowerCase());
+		gaugeService.submit("nibrs.submission.latency", latencyMillis);
+
+		long count = submissionCount.incrementAndGet();
+		int payloadLogInterval = appProperties.getSubmissionPayloadLogInterval();
+		if (payloadLogInterval > 0 && count % payloadLogInterval == 0) {
+			try {
+				log.info("Sampled submission messageId=" + submission.getMessageIdentifier() + " request:\n"
+						+ XmlUtils.nodeToString(requestDocument));
+				log.info("Sampled submission messageId=" + submission.getMessageIdentifier() + " response:\n"
+						+ XmlUtils.nodeToString(responseDocument));
+			}
+			catch (Exception e) {
+				log.warn("Failed to log the sampled submission " + submission.getMessageIdentifier(), e);
+			}
+		}
+	}
+
+	/**
+	 * Record a submission that never got a response.
+	 */
+	public void auditFailure(Submission submission, long latencyMillis, Throwable e) {
+		log.error("Submission messageId=" + submission.getMessageIdentifier()
+				+ " incidentId=" + submission.getIncidentIdentifier()
+				+ " status=FAILED latencyMs=" + latencyMillis, e);
+		counterService.increment("nibrs.submission.failed");
+	}
+}
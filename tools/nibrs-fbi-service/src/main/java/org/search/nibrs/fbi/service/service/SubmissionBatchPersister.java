@@ -0,0 +1,141 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.fbi.service.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.search.nibrs.fbi.service.AppProperties;
+import org.search.nibrs.stagingdata.model.Submission;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.metrics.GaugeService;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects the submission results and persists them to the staging data service in batches.  The calls to the staging data
+ * service are made only on the persister thread: the full batches as soon as add() signals one is ready, and every
+ * submissionPersistIntervalMillis what is left.  A batch the staging data service fails to take is put back, and the
+ * persister waits before trying again, twice as long each time from submissionPersistRetryDelayMillis up to
+ * submissionPersistRetryMaxDelayMillis.  An error is logged when more than submissionPersistAlarmSize submissions are waiting.
+ */
+@Component
+public class SubmissionBatchPersister {
+	private final Log log = LogFactory.getLog(this.getClass());
+
+	private final BlockingQueue<Submission> pendingSubmissions = new LinkedBlockingQueue<>();
+	private final AtomicBoolean flushSignalled = new AtomicBoolean();
+	private final AtomicBoolean alarmRaised = new AtomicBoolean();
+
+	@Autowired
+	private StagingDataRestClient stagingDataRestClient;
+	@Autowired
+	private AppProperties appProperties;
+	@Autowired
+	private GaugeService gaugeService;
+
+	private ScheduledExecutorService persisterExecutor;
+
+	/*
+	 * Set only on the persister thread.  While the persister is backing off after a failure, add() does not signal it. 
+	 */
+	private volatile long retryAtNanos = System.nanoTime();
+	private long retryDelayMillis;
+
+	@PostConstruct
+	public void init() {
+		persisterExecutor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("submission-persister-"));
+		persisterExecutor.scheduleWithFixedDelay(() -> flush(false), appProperties.getSubmissionPersistIntervalMillis(),
+				appProperties.getSubmissionPersistIntervalMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	public void add(Submission submission) {
+		pendingSubmissions.add(submission);
+
+		int pendingCount = pendingSubmissions.size();
+		if (pendingCount > appProperties.getSubmissionPersistAlarmSize() && alarmRaised.compareAndSet(false, true)) {
+			log.error(pendingCount + " submissions are waiting to be persisted to the staging data service at "
+					+ appProperties.getStagingDataRestServiceBaseUrl());
+		}
+
+		if (pendingCount >= appProperties.getSubmissionPersistBatchSize() && System.nanoTime() - retryAtNanos >= 0
+				&& !persisterExecutor.isShutdown() && flushSignalled.compareAndSet(false, true)) {
+			persisterExecutor.execute(() -> flush(true));
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		persisterExecutor.shutdown();
+		if (!persisterExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+			log.warn("The submission persister did not stop, " + pendingSubmissions.size() + " submissions are not persisted");
+			return;
+		}
+
+		retryAtNanos = System.nanoTime();
+		flush(false);
+	}
+
+	/**
+	 * Persist the pending submissions, or only the full batches of them when signalled by add(). 
+	 */
+	private void flush(boolean fullBatchesOnly) {
+		if (fullBatchesOnly) {
+			flushSignalled.set(false);
+		}
+		if (System.nanoTime() - retryAtNanos < 0) {
+			return;
+		}
+
+		int batchSize = appProperties.getSubmissionPersistBatchSize();
+		while (pendingSubmissions.size() >= (fullBatchesOnly ? batchSize : 1)) {
+			List<Submission> batch = new ArrayList<>(batchSize);
+			pendingSubmissions.drainTo(batch, batchSize);
+			try {
+				stagingDataRestClient.persistSubmissions(batch);
+			}
+			catch (Exception e) {
+				pendingSubmissions.addAll(batch);
+				retryDelayMillis = retryDelayMillis == 0 ? appProperties.getSubmissionPersistRetryDelayMillis()
+						: Math.min(retryDelayMillis * 2, appProperties.getSubmissionPersistRetryMaxDelayMillis());
+				retryAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(retryDelayMillis);
+				log.error("Failed to persist the submissions with message identifiers "
+						+ batch.stream().map(Submission::getMessageIdentifier).collect(Collectors.toList())
+						+ ", " + pendingSubmissions.size() + " submissions are waiting, trying again in " + retryDelayMillis + " ms", e);
+				break;
+			}
+			retryDelayMillis = 0;
+		}
+
+		int pendingCount = pendingSubmissions.size();
+		gaugeService.submit("nibrs.submission.pending", pendingCount);
+		if (pendingCount <= appProperties.getSubmissionPersistAlarmSize()) {
+			alarmRaised.set(false);
+		}
+	}
+}
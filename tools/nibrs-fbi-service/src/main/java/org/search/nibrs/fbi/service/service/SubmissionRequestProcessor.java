@@ -18,27 +18,61 @@ package org.search.nibrs.fbi.service.service;
 import org.apache.camel.Body;
 import org.apache.camel.Exchange;
 import org.apache.camel.ProducerTemplate;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.search.nibrs.fbi.service.AppProperties;
 import org.search.nibrs.xml.XmlUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 import org.w3c.dom.Document;
 
+/**
+ * Sends a NIEM document to the FBI service through the direct:submitNiemDocument route.  Each call waits for a token from the 
+ * rate limiter, and a call that fails or is answered with a SOAP fault is tried again with an exponential backoff. 
+ */
 @Component
 @Scope("prototype")
 public class SubmissionRequestProcessor {
 	private final Log log = LogFactory.getLog(SubmissionRequestProcessor.class);
+	
+	@Autowired
+	private TokenBucketRateLimiter fbiServiceRateLimiter;
+	@Autowired
+	private AppProperties appProperties;
 
 	public Document processSubmissionRequest(@Body Document nibrsSubmission, Exchange exchange) throws Exception{
 
 		ProducerTemplate producerTemplate = exchange.getContext().createProducerTemplate(); 
-		log.debug(XmlUtils.nodeToString(nibrsSubmission));
-		log.debug("In processSubmissionRequest()");
-		Exchange returnedExchange = producerTemplate.send("direct:submitNiemDocument", exchange);
-		Document returnedResponse = returnedExchange.getIn().getBody(Document.class);
-		log.debug(XmlUtils.nodeToString(returnedResponse));
-		return returnedResponse; 
+		
+		try {
+			long retryDelayMillis = appProperties.getSubmissionRetryDelayMillis();
+			for (int attempt = 0; ; attempt++) {
+				fbiServiceRateLimiter.acquire();
+				Exchange returnedExchange = producerTemplate.send("direct:submitNiemDocument", exchange.copy());
+			
+				Exception exception = returnedExchange.getException();
+				Document returnedResponse = exception == null ? returnedExchange.getIn().getBody(Document.class) : null;
+				boolean fault = returnedResponse != null && StringUtils.isNotBlank(XmlUtils.xPathStringSearch(returnedResponse, "//faultcode"));
+			
+				if (exception == null && !fault || attempt >= appProperties.getMaxSubmissionRetries()) {
+					if (exception != null) {
+						throw exception;
+					}
+					return returnedResponse;
+				}
+			
+				log.warn("Submission of " + exchange.getIn().getHeader(Exchange.FILE_NAME) + " failed"
+						+ (exception != null ? " with " + exception : " with a fault") 
+						+ ", trying again in " + retryDelayMillis + " ms");
+				Thread.sleep(retryDelayMillis);
+				retryDelayMillis = Math.min(retryDelayMillis * 2, appProperties.getSubmissionRetryMaxDelayMillis());
+			}
+		}
+		finally {
+			producerTemplate.stop();
+		}
 	}
 	
 	
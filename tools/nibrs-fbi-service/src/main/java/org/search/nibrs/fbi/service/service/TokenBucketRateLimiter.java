@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.fbi.service.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket limiting the rate of the calls to the FBI service.  The bucket holds up to burstSize tokens and is refilled at
+ * permitsPerSecond.  Each call takes a token, waiting for one to be refilled if the bucket is empty.  A caller that has to wait
+ * reserves its token first, so the callers are let through in the order they asked.
+ */
+public class TokenBucketRateLimiter {
+
+	private final double nanosPerToken;
+	private final double burstSize;
+	private final LongSupplier nanoClock;
+
+	private double tokens;
+	private long lastRefillNanos;
+
+	public TokenBucketRateLimiter(double permitsPerSecond, int burstSize) {
+		this(permitsPerSecond, burstSize, System::nanoTime);
+	}
+
+	TokenBucketRateLimiter(double permitsPerSecond, int burstSize, LongSupplier nanoClock) {
+		if (permitsPerSecond <= 0 || burstSize < 1) {
+			throw new IllegalArgumentException("The rate and the burst size must be positive");
+		}
+		this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+		this.burstSize = burstSize;
+		this.nanoClock = nanoClock;
+		this.tokens = burstSize;
+		this.lastRefillNanos = nanoClock.getAsLong();
+	}
+
+	/**
+	 * Take a token, waiting until one is available.
+	 */
+	public void acquire() throws InterruptedException {
+		long waitNanos = reserve();
+		if (waitNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+
+	/**
+	 * Take a token, going into debt when the bucket is empty.
+	 * @return how long the caller has to wait before using the token, in nanoseconds
+	 */
+	synchronized long reserve() {
+		long now = nanoClock.getAsLong();
+		tokens = Math.min(burstSize, tokens + (now - lastRefillNanos) / nanosPerToken);
+		lastRefillNanos = now;
+
+		tokens -= 1;
+		return tokens >= 0 ? 0 : (long) Math.ceil(-tokens * nanosPerToken);
+	}
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.fbi.service.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.commons.logging.impl.SimpleLog;
+import org.junit.Before;
+import org.junit.Test;
+import org.search.nibrs.fbi.service.AppProperties;
+import org.search.nibrs.stagingdata.model.Submission;
+import org.search.nibrs.xml.XmlUtils;
+import org.springframework.boot.actuate.metrics.CounterService;
+import org.springframework.boot.actuate.metrics.GaugeService;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.w3c.dom.Document;
+
+public class SubmissionAuditorTest {
+
+	private AppProperties appProperties;
+	private RecordingCounterService counterService;
+	private List<Double> latencies;
+	private RecordingLog log;
+	private SubmissionAuditor submissionAuditor;
+
+	private Document requestDocument;
+	private Document responseDocument;
+
+	@Before
+	public void setUp() throws ParserConfigurationException {
+		appProperties = new AppProperties();
+		counterService = new RecordingCounterService();
+		latencies = new ArrayList<>();
+		log = new RecordingLog();
+
+		submissionAuditor = new SubmissionAuditor();
+		ReflectionTestUtils.setField(submissionAuditor, "appProperties", appProperties);
+		ReflectionTestUtils.setField(submissionAuditor, "counterService", counterService);
+		ReflectionTestUtils.setField(submissionAuditor, "gaugeService", (GaugeService) (name, value) -> {
+			assertEquals("nibrs.submission.latency", name);
+			latencies.add(value);
+		});
+		ReflectionTestUtils.setField(submissionAuditor, "log", log);
+
+		requestDocument = document("Request");
+		responseDocument = document("Response");
+	}
+
+	@Test
+	public void testAuditCountsTheResponseStatus() {
+		submissionAuditor.audit(submission(1L, true, null), "ACCEPTED", 120, requestDocument, responseDocument);
+		submissionAuditor.audit(submission(2L, false, null), " ERRORS ", 80, requestDocument, responseDocument);
+		submissionAuditor.audit(submission(3L, true, null), "WARNINGS", 95, requestDocument, responseDocument);
+		submissionAuditor.audit(submission(4L, false, "soap:Server"), "", 30, requestDocument, responseDocument);
+		submissionAuditor.audit(submission(5L, true, null), "ACCEPTED", 110, requestDocument, responseDocument);
+
+		Map<String, Integer> expectedCounts = new HashMap<>();
+		expectedCounts.put("nibrs.submission.accepted", 2);
+		expectedCounts.put("nibrs.submission.errors", 1);
+		expectedCounts.put("nibrs.submission.warnings", 1);
+		expectedCounts.put("nibrs.submission.fault", 1);
+		assertEquals(expectedCounts, counterService.counts);
+		assertEquals(Arrays.asList(120.0, 80.0, 95.0, 30.0, 110.0), latencies);
+
+		List<String> messages = log.messages();
+		assertEquals(5, messages.size());
+		assertEquals("Submission messageId=4 incidentId=INC4 category=\"GROUP A INCIDENT REPORT\" status=FAULT accepted=false "
+				+ "violations=0 faultCode=soap:Server latencyMs=30", messages.get(3));
+	}
+
+	@Test
+	public void testAuditFailureCountsTheFailedSubmission() {
+		submissionAuditor.auditFailure(submission(1L, null, null), 60000, new IllegalStateException("Read timed out"));
+
+		assertEquals(Collections.singletonMap("nibrs.submission.failed", 1), counterService.counts);
+		assertTrue(latencies.isEmpty());
+		assertEquals(Arrays.asList("Submission messageId=1 incidentId=INC1 status=FAILED latencyMs=60000"), log.messages());
+	}
+
+	@Test
+	public void testPayloadsAreLoggedForEveryNthSubmission() {
+		appProperties.setSubmissionPayloadLogInterval(3);
+		for (long messageIdentifier = 1; messageIdentifier <= 7; messageIdentifier++) {
+			submissionAuditor.audit(submission(messageIdentifier, true, null), "ACCEPTED", 100, requestDocument, responseDocument);
+		}
+
+		List<String> sampledMessages = log.messages().stream()
+				.filter(message -> message.startsWith("Sampled submission"))
+				.collect(Collectors.toList());
+		assertEquals(4, sampledMessages.size());
+		assertTrue(sampledMessages.get(0).startsWith("Sampled submission messageId=3 request:\n"));
+		assertTrue(sampledMessages.get(0).contains("Request"));
+		assertTrue(sampledMessages.get(1).startsWith("Sampled submission messageId=3 response:\n"));
+		assertTrue(sampledMessages.get(1).contains("Response"));
+		assertTrue(sampledMessages.get(2).startsWith("Sampled submission messageId=6 request:\n"));
+		assertTrue(sampledMessages.get(3).startsWith("Sampled submission messageId=6 response:\n"));
+	}
+
+	@Test
+	public void testPayloadsAreNotLoggedByDefault() {
+		for (long messageIdentifier = 1; messageIdentifier <= 7; messageIdentifier++) {
+			submissionAuditor.audit(submission(messageIdentifier, true, null), "ACCEPTED", 100, requestDocument, responseDocument);
+		}
+
+		assertEquals(7, log.messages().size());
+		assertTrue(log.messages().stream().noneMatch(message -> message.startsWith("Sampled submission")));
+	}
+
+	private static Submission submission(Long messageIdentifier, Boolean acceptedIndicator, String faultCode) {
+		Submission submission = new Submission();
+		submission.setMessageIdentifier(messageIdentifier);
+		submission.setIncidentIdentifier("INC" + messageIdentifier);
+		submission.setNibrsReportCategoryCode("GROUP A INCIDENT REPORT");
+		submission.setAcceptedIndicator(acceptedIndicator);
+		submission.setFaultCode(faultCode);
+		return submission;
+	}
+
+	private static Document document(String rootName) throws ParserConfigurationException {
+		Document document = XmlUtils.createNewDocument();
+		document.appendChild(document.createElement(rootName));
+		return document;
+	}
+
+	private static class RecordingCounterService implements CounterService {
+
+		private final Map<String, Integer> counts = new HashMap<>();
+
+		@Override
+		public void increment(String metricName) {
+			counts.merge(metricName, 1, Integer::sum);
+		}
+
+		@Override
+		public void decrement(String metricName) {
+			counts.merge(metricName, -1, Integer::sum);
+		}
+
+		@Override
+		public void reset(String metricName) {
+			counts.remove(metricName);
+		}
+	}
+
+	/**
+	 * Keeps the logged messages instead of writing them out. 
+	 */
+	private static class RecordingLog extends SimpleLog {
+		private static final long serialVersionUID = 1L;
+
+		private final List<String> messages = new ArrayList<>();
+
+		RecordingLog() {
+			super(SubmissionAuditor.class.getName());
+			setLevel(LOG_LEVEL_ALL);
+		}
+
+		@Override
+		protected void log(int type, Object message, Throwable t) {
+			messages.add(String.valueOf(message));
+		}
+
+		List<String> messages() {
+			return messages;
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.fbi.service.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.search.nibrs.fbi.service.AppProperties;
+import org.search.nibrs.stagingdata.model.Submission;
+import org.springframework.boot.actuate.metrics.GaugeService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class SubmissionBatchPersisterTest {
+
+	private AppProperties appProperties;
+	private RecordingStagingDataRestClient stagingDataRestClient;
+	private SubmissionBatchPersister submissionBatchPersister;
+
+	@Before
+	public void setUp() {
+		appProperties = new AppProperties();
+		appProperties.setSubmissionPersistBatchSize(3);
+		appProperties.setSubmissionPersistIntervalMillis(60000L);
+		appProperties.setSubmissionPersistRetryDelayMillis(100L);
+		appProperties.setSubmissionPersistRetryMaxDelayMillis(1000L);
+
+		stagingDataRestClient = new RecordingStagingDataRestClient();
+		submissionBatchPersister = new SubmissionBatchPersister();
+		ReflectionTestUtils.setField(submissionBatchPersister, "appProperties", appProperties);
+		ReflectionTestUtils.setField(submissionBatchPersister, "stagingDataRestClient", stagingDataRestClient);
+		ReflectionTestUtils.setField(submissionBatchPersister, "gaugeService", (GaugeService) (name, value) -> {});
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		submissionBatchPersister.shutdown();
+	}
+
+	@Test
+	public void testFullBatchesArePersistedOnThePersisterThread() throws InterruptedException {
+		submissionBatchPersister.init();
+		for (long messageIdentifier = 1; messageIdentifier <= 7; messageIdentifier++) {
+			submissionBatchPersister.add(submission(messageIdentifier));
+		}
+
+		await(() -> stagingDataRestClient.persistedCount() == 6, "the two full batches");
+		assertEquals(Arrays.asList(Arrays.asList(1L, 2L, 3L), Arrays.asList(4L, 5L, 6L)), stagingDataRestClient.persistedBatches());
+		assertTrue(stagingDataRestClient.callThreadNames().stream().allMatch(name -> name.startsWith("submission-persister-")));
+
+		submissionBatchPersister.shutdown();
+		assertEquals(Arrays.asList(7L), stagingDataRestClient.persistedBatches().get(2));
+	}
+
+	@Test
+	public void testFailedBatchIsTriedAgainAfterTheBackoff() throws InterruptedException {
+		appProperties.setSubmissionPersistIntervalMillis(20L);
+		stagingDataRestClient.failures = 2;
+		submissionBatchPersister.init();
+		for (long messageIdentifier = 1; messageIdentifier <= 3; messageIdentifier++) {
+			submissionBatchPersister.add(submission(messageIdentifier));
+		}
+
+		await(() -> stagingDataRestClient.persistedCount() == 3, "the batch after two failures");
+		List<Long> callNanos = stagingDataRestClient.callNanos();
+		assertEquals(3, callNanos.size());
+		assertTrue(callNanos.get(1) - callNanos.get(0) >= TimeUnit.MILLISECONDS.toNanos(100));
+		assertTrue(callNanos.get(2) - callNanos.get(1) >= TimeUnit.MILLISECONDS.toNanos(200));
+		assertEquals(Arrays.asList(1L, 2L, 3L), stagingDataRestClient.persistedBatches().stream()
+				.flatMap(List::stream).sorted().collect(Collectors.toList()));
+	}
+
+	private static Submission submission(long messageIdentifier) {
+		Submission submission = new Submission();
+		submission.setMessageIdentifier(messageIdentifier);
+		return submission;
+	}
+
+	private static void await(BooleanSupplier condition, String description) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() - deadline > 0) {
+				fail("Timed out waiting for " + description);
+			}
+			Thread.sleep(10);
+		}
+	}
+
+	/**
+	 * Records the batches, failing the first calls. 
+	 */
+	private static class RecordingStagingDataRestClient extends StagingDataRestClient {
+
+		private final List<List<Long>> persistedBatches = Collections.synchronizedList(new ArrayList<>());
+		private final List<String> callThreadNames = Collections.synchronizedList(new ArrayList<>());
+		private final List<Long> callNanos = Collections.synchronizedList(new ArrayList<>());
+		private volatile int failures;
+
+		@Override
+		public void persistSubmissions(List<Submission> submissions) {
+			callNanos.add(System.nanoTime());
+			callThreadNames.add(Thread.currentThread().getName());
+			if (failures > 0) {
+				failures--;
+				throw new IllegalStateException("The staging data service is down");
+			}
+			persistedBatches.add(submissions.stream().map(Submission::getMessageIdentifier).collect(Collectors.toList()));
+		}
+
+		int persistedCount() {
+			return persistedBatches().stream().mapToInt(List::size).sum();
+		}
+
+		List<List<Long>> persistedBatches() {
+			synchronized (persistedBatches) {
+				return new ArrayList<>(persistedBatches);
+			}
+		}
+
+		List<String> callThreadNames() {
+			synchronized (callThreadNames) {
+				return new ArrayList<>(callThreadNames);
+			}
+		}
+
+		List<Long> callNanos() {
+			synchronized (callNanos) {
+				return new ArrayList<>(callNanos);
+			}
+		}
+	}
+}
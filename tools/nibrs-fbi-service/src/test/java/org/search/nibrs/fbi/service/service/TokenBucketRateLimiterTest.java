@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.fbi.service.service;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class TokenBucketRateLimiterTest {
+
+	private final AtomicLong now = new AtomicLong();
+
+	@Test
+	public void testBurst() {
+		TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(2, 3, now::get);
+		assertEquals(0, rateLimiter.reserve());
+		assertEquals(0, rateLimiter.reserve());
+		assertEquals(0, rateLimiter.reserve());
+		assertEquals(TimeUnit.MILLISECONDS.toNanos(500), rateLimiter.reserve());
+		assertEquals(TimeUnit.MILLISECONDS.toNanos(1000), rateLimiter.reserve());
+	}
+
+	@Test
+	public void testRefill() {
+		TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(2, 1, now::get);
+		assertEquals(0, rateLimiter.reserve());
+
+		now.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+		assertEquals(TimeUnit.MILLISECONDS.toNanos(250), rateLimiter.reserve());
+
+		now.addAndGet(TimeUnit.MILLISECONDS.toNanos(750));
+		assertEquals(0, rateLimiter.reserve());
+	}
+
+	@Test
+	public void testRefillIsCappedAtTheBurstSize() {
+		TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(10, 2, now::get);
+		now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+		assertEquals(0, rateLimiter.reserve());
+		assertEquals(0, rateLimiter.reserve());
+		assertEquals(TimeUnit.MILLISECONDS.toNanos(100), rateLimiter.reserve());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidRate() {
+		new TokenBucketRateLimiter(0, 1);
+	}
+
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.route;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.search.nibrs.fbi.service.AppProperties;
+import org.search.nibrs.fbi.service.NibrsFbiServiceApplication;
+import org.search.nibrs.fbi.service.controller.SampleResponseController;
+import org.search.nibrs.fbi.service.service.StagingDataRestClient;
+import org.search.nibrs.fbi.service.service.TokenBucketRateLimiter;
+import org.search.nibrs.stagingdata.model.Submission;
+import org.search.nibrs.xml.XmlUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+import org.w3c.dom.Document;
+
+/**
+ * Runs documents through the input route against the SampleResponseController, which answers every 40th call with a fault, 
+ * with the staging data service and the rate limiter replaced by recording ones. 
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = {NibrsFbiServiceApplication.class, SubmissionRouteTest.RecordingConfiguration.class}, 
+		webEnvironment = WebEnvironment.DEFINED_PORT, 
+		properties = {
+				"server.port=" + SubmissionRouteTest.PORT, 
+				"nibrs.fbi.services.nibrsNiemDocumentFolder=" + SubmissionRouteTest.DOCUMENT_FOLDER, 
+				"nibrs.fbi.services.nibrsNiemServiceEndpointUrl=http://localhost:" + SubmissionRouteTest.PORT + "/response", 
+				"nibrs.fbi.services.maxConcurrentSubmissions=" + SubmissionRouteTest.MAX_CONCURRENT_SUBMISSIONS, 
+				"nibrs.fbi.services.submissionsPerSecond=" + SubmissionRouteTest.SUBMISSIONS_PER_SECOND, 
+				"nibrs.fbi.services.submissionBurstSize=1", 
+				"nibrs.fbi.services.submissionRetryDelayMillis=10", 
+				"nibrs.fbi.services.submissionPersistBatchSize=" + SubmissionRouteTest.PERSIST_BATCH_SIZE, 
+				"nibrs.fbi.services.submissionPersistIntervalMillis=600000"})
+@DirtiesContext
+public class SubmissionRouteTest {
+
+	static final int PORT = 18089;
+	static final String DOCUMENT_FOLDER = "target/submissionRouteTest";
+	static final int MAX_CONCURRENT_SUBMISSIONS = 4;
+	static final int SUBMISSIONS_PER_SECOND = 20;
+	static final int PERSIST_BATCH_SIZE = 10;
+
+	private static final int DOCUMENT_COUNT = 40;
+
+	@Autowired
+	private SampleResponseController sampleResponseController;
+	@Autowired
+	private RecordingStagingDataRestClient stagingDataRestClient;
+	@Autowired
+	private RecordingRateLimiter rateLimiter;
+
+	@BeforeClass
+	public static void cleanDocumentFolder() {
+		FileSystemUtils.deleteRecursively(new File(DOCUMENT_FOLDER));
+	}
+
+	@Test
+	public void testSubmissionsAreRetriedRateLimitedAndPersistedInBatches() throws Exception {
+		File stagingFolder = new File(DOCUMENT_FOLDER, "staging");
+		File inputFolder = new File(DOCUMENT_FOLDER, "input");
+		assertTrue(stagingFolder.mkdirs());
+		inputFolder.mkdirs();
+
+		Document document = XmlUtils.parseFileToDocument(new File("src/test/resources/xmlInstances/groupBArrestReport.xml"));
+		for (int messageIdentifier = 1; messageIdentifier <= DOCUMENT_COUNT; messageIdentifier++) {
+			XmlUtils.xPathNodeSearch(document, "nibrs:Submission/cjis:MessageMetadata/cjis:MessageIdentification/nc:IdentificationID")
+				.setTextContent(String.valueOf(messageIdentifier));
+			File file = new File(stagingFolder, "GroupBArrestReport" + messageIdentifier + ".xml");
+			try (OutputStream outputStream = new FileOutputStream(file)) {
+				XmlUtils.printNode(document, outputStream);
+			}
+			Files.move(file.toPath(), new File(inputFolder, file.getName()).toPath(), StandardCopyOption.ATOMIC_MOVE);
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+		while (stagingDataRestClient.persistedSubmissions().size() < DOCUMENT_COUNT) {
+			if (System.nanoTime() - deadline > 0) {
+				fail("Persisted only " + stagingDataRestClient.persistedSubmissions().size() + " of " + DOCUMENT_COUNT + " submissions");
+			}
+			Thread.sleep(100);
+		}
+
+		/*
+		 * The calls 0 and 40 are answered with a fault, and the documents they carried are sent again. 
+		 */
+		int responseCount = ((AtomicInteger) ReflectionTestUtils.getField(sampleResponseController, "count")).get();
+		assertEquals(DOCUMENT_COUNT + 2, responseCount);
+		List<Submission> persistedSubmissions = stagingDataRestClient.persistedSubmissions();
+		assertTrue(persistedSubmissions.stream().allMatch(submission -> submission.getFaultCode() == null));
+		assertEquals(LongStream.rangeClosed(1, DOCUMENT_COUNT).boxed().collect(Collectors.toList()), 
+				persistedSubmissions.stream().map(Submission::getMessageIdentifier).sorted().collect(Collectors.toList()));
+
+		assertEquals(Collections.nCopies(DOCUMENT_COUNT / PERSIST_BATCH_SIZE, PERSIST_BATCH_SIZE), stagingDataRestClient.batchSizes());
+
+		/*
+		 * With a burst of one, the n-th call goes out no sooner than (n - 1) / rate after the first, less the time between 
+		 * taking the first token and recording it. 
+		 */
+		List<Long> acquisitionNanos = rateLimiter.acquisitionNanos();
+		assertEquals(responseCount, acquisitionNanos.size());
+		long elapsedNanos = acquisitionNanos.get(acquisitionNanos.size() - 1) - acquisitionNanos.get(0);
+		assertTrue("Sent " + responseCount + " calls in " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms", 
+				elapsedNanos >= TimeUnit.SECONDS.toNanos(responseCount - 2) / SUBMISSIONS_PER_SECOND);
+
+		Set<String> submissionThreadNames = rateLimiter.threadNames().stream()
+				.filter(threadName -> threadName.contains("niemDocumentSubmission"))
+				.collect(Collectors.toSet());
+		assertTrue("Submitted on " + submissionThreadNames, 
+				submissionThreadNames.size() > 1 && submissionThreadNames.size() <= MAX_CONCURRENT_SUBMISSIONS);
+	}
+
+	@TestConfiguration
+	static class RecordingConfiguration {
+
+		@Bean
+		@Primary
+		public RecordingStagingDataRestClient recordingStagingDataRestClient() {
+			return new RecordingStagingDataRestClient();
+		}
+
+		@Bean
+		@Primary
+		public RecordingRateLimiter recordingRateLimiter(AppProperties appProperties) {
+			return new RecordingRateLimiter(appProperties.getSubmissionsPerSecond(), appProperties.getSubmissionBurstSize());
+		}
+	}
+
+	/**
+	 * Keeps the persisted submissions instead of sending them to the staging data service. 
+	 */
+	static class RecordingStagingDataRestClient extends StagingDataRestClient {
+
+		private final List<List<Submission>> batches = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public void persistSubmissions(List<Submission> submissions) {
+			batches.add(new ArrayList<>(submissions));
+		}
+
+		List<Submission> persistedSubmissions() {
+			synchronized (batches) {
+				return batches.stream().flatMap(List::stream).collect(Collectors.toList());
+			}
+		}
+
+		List<Integer> batchSizes() {
+			synchronized (batches) {
+				return batches.stream().map(List::size).collect(Collectors.toList());
+			}
+		}
+	}
+
+	/**
+	 * Records when and on which thread each call to the FBI service was let through. 
+	 */
+	static class RecordingRateLimiter extends TokenBucketRateLimiter {
+
+		private final List<Long> acquisitionNanos = Collections.synchronizedList(new ArrayList<>());
+		private final List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+
+		RecordingRateLimiter(double permitsPerSecond, int burstSize) {
+			super(permitsPerSecond, burstSize);
+		}
+
+		@Override
+		public void acquire() throws InterruptedException {
+			super.acquire();
+			synchronized (acquisitionNanos) {
+				acquisitionNanos.add(System.nanoTime());
+				threadNames.add(Thread.currentThread().getName());
+			}
+		}
+
+		List<Long> acquisitionNanos() {
+			synchronized (acquisitionNanos) {
+				List<Long> sortedNanos = new ArrayList<>(acquisitionNanos);
+				Collections.sort(sortedNanos);
+				return sortedNanos;
+			}
+		}
+
+		List<String> threadNames() {
+			synchronized (acquisitionNanos) {
+				return new ArrayList<>(threadNames);
+			}
+		}
+	}
+}
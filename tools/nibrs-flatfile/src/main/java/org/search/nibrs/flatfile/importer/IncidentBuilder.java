@@ -19,6 +19,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -28,7 +29,6 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.search.nibrs.common.NIBRSError;
 import org.search.nibrs.common.ParsedObject;
-import org.search.nibrs.common.ReportSource;
 import org.search.nibrs.flatfile.FlatfileConstants;
 import org.search.nibrs.flatfile.NIBRSAgeBuilder;
 import org.search.nibrs.flatfile.util.StringUtils;
@@ -64,9 +64,12 @@ import org.springframework.stereotype.Component;
 public class IncidentBuilder extends AbstractIncidentBuilder {
 	
 	private static final Log log = LogFactory.getLog(IncidentBuilder.class);;
+	
+	private final DateTimeFormatter defaultDateFormat;
 
 	public IncidentBuilder() {
 		super();
+		defaultDateFormat = getDateFormat();
 	}
 
 	public void addIncidentListener(ReportListener listener) {
@@ -102,12 +105,11 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 		
 		List<NIBRSError> errorList = new ArrayList<NIBRSError>();
 		
+		// one Segment is reused for every line; reports and errors only ever hold on to its ReportSource
+		Segment s = new Segment();
+		
 		while ((line = br.readLine()) != null && org.apache.commons.lang3.StringUtils.isNotBlank(line)) {
-			Segment s = new Segment();
-			ReportSource reportSource = new ReportSource();
-			reportSource.setSourceLocation(String.valueOf(lineNumber));
-			reportSource.setSourceName(readerLocationName);
-			List<NIBRSError> segmentErrors = s.setData(reportSource, line);
+			List<NIBRSError> segmentErrors = s.setData(readerLocationName, lineNumber, line);
 			errorList.addAll(segmentErrors);
 			if (segmentErrors.isEmpty()) {
 				char level = s.getSegmentLevel();
@@ -214,7 +216,7 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 				sequenceNumber.setValue(null);
 			} else {
 				try {
-					Integer sequenceNumberI = Integer.parseInt(sequenceNumberString);
+					Integer sequenceNumberI = StringUtils.parseInt(sequenceNumberString);
 					sequenceNumber.setValue(sequenceNumberI);
 				} catch (NumberFormatException nfe) {
 					NIBRSError e = new NIBRSError();
@@ -243,7 +245,7 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 				arrestDate.setValue(null);
 			} else {
 				try {
-					LocalDate d = LocalDate.parse(arrestDateString, getDateFormat());
+					LocalDate d = parseDate(arrestDateString);
 					arrestDate.setValue(d);
 				} catch (Exception pe) {
 					NIBRSError e = new NIBRSError();
@@ -323,7 +325,7 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 				incidentDate.setValue(null);
 			} else {
 				try {
-					LocalDate d = LocalDate.parse(incidentDateString, getDateFormat());
+					LocalDate d = parseDate(incidentDateString);
 					incidentDate.setValue(d);
 				} catch (Exception pe) {
 					NIBRSError e = new NIBRSError();
@@ -352,7 +354,7 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 					if (hourString.length() != 2){
 						throw new NumberFormatException(); 
 					}
-					Integer hourI = new Integer(hourString);
+					Integer hourI = StringUtils.parseInt(hourString);
 					hour.setValue(hourI);
 				} catch(NumberFormatException nfe) {
 					
@@ -391,7 +393,7 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 				clearanceDate.setValue(null);
 			} else {
 				try {
-					LocalDate d = LocalDate.parse(clearanceDateString, getDateFormat());
+					LocalDate d = parseDate(clearanceDateString);
 					clearanceDate.setValue(d);
 				} catch (Exception pe) {
 					NIBRSError e = new NIBRSError();
@@ -473,7 +475,7 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 		String sv = StringUtils.getStringBetween(startPos, endPos, s.getData());
 		Integer i = null;
 		try {
-			i = new Integer(sv);
+			i = StringUtils.parseInt(sv);
 		} catch (NumberFormatException nfe) {
 			NIBRSError e = new NIBRSError();
 			e.setContext(s.getReportSource());
@@ -487,6 +489,20 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 		return i;
 	}
 
+	/**
+	 * Parse a date with the configured date format.  Plain yyyyMMdd values, which is nearly all of them, are decoded directly when the
+	 * default format is in use, which avoids the (considerable) allocation and parsing overhead of DateTimeFormatter.
+	 */
+	private LocalDate parseDate(String dateString) {
+		if (getDateFormat() == defaultDateFormat) {
+			LocalDate ret = StringUtils.decodeDate(dateString);
+			if (ret != null) {
+				return ret;
+			}
+		}
+		return LocalDate.parse(dateString, getDateFormat());
+	}
+
 	private final void addSegmentToIncident(GroupAIncidentReport currentIncident, Segment s, List<NIBRSError> errorList) {
 		if (Objects.isNull(currentIncident)) return; 
 		
@@ -544,7 +560,7 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 				sequenceNumber.setValue(null);
 			} else {
 				try {
-					Integer sequenceNumberI = Integer.parseInt(sequenceNumberString);
+					Integer sequenceNumberI = StringUtils.parseInt(sequenceNumberString);
 					sequenceNumber.setValue(sequenceNumberI);
 				} catch (NumberFormatException nfe) {
 					NIBRSError e = new NIBRSError();
@@ -573,7 +589,7 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 				arrestDate.setValue(null);
 			} else {
 				try {
-					LocalDate d = LocalDate.parse(arrestDateString, getDateFormat());
+					LocalDate d = parseDate(arrestDateString);
 					arrestDate.setValue(d);
 				} catch (Exception pe) {
 					NIBRSError e = new NIBRSError();
@@ -634,7 +650,7 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 				sequenceNumber.setValue(null);
 			} else {
 				try {
-					Integer sequenceNumberI = Integer.parseInt(sequenceNumberString);
+					Integer sequenceNumberI = StringUtils.parseInt(sequenceNumberString);
 					sequenceNumber.setValue(sequenceNumberI);
 				} catch (NumberFormatException nfe) {
 					NIBRSError e = new NIBRSError();
@@ -696,7 +712,7 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 				errorList.add(e);
 			} else {
 				try {
-					sequenceNumberI = Integer.parseInt(sequenceNumberString);
+					sequenceNumberI = StringUtils.parseInt(sequenceNumberString);
 					sequenceNumber.setValue(sequenceNumberI);
 				} catch (NumberFormatException nfe) {
 					NIBRSError e = new NIBRSError();
@@ -725,7 +741,7 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 					offenderNumberRelated.setInvalid(false);
 				} else {
 					try {
-						Integer offenderNumberRelatedValue = Integer.parseInt(offenderNumberRelatedString);
+						Integer offenderNumberRelatedValue = StringUtils.parseInt(offenderNumberRelatedString);
 						offenderNumberRelated.setValue(offenderNumberRelatedValue);
 						newVictim.setOffenderNumberRelated(i, offenderNumberRelated);
 					} catch (NumberFormatException nfe) {
@@ -813,9 +829,8 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 					propertyValue.setMissing(true);
 				} else {
 					try {
-						String valueOfPropertyPattern = "\\d{1,9}";
-						if (propertyValueString.matches(valueOfPropertyPattern)){
-							Integer propertyValueI = Integer.parseInt(propertyValueString);
+						if (StringUtils.isDigits(propertyValueString, 9)){
+							Integer propertyValueI = StringUtils.parseInt(propertyValueString);
 							propertyValue.setValue(propertyValueI);
 						}
 						else{
@@ -847,7 +862,7 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 					d.setValue(null);
 				} else {
 					try {
-						LocalDate dd = LocalDate.parse(ds, getDateFormat());
+						LocalDate dd = parseDate(ds);
 						d.setValue(dd);
 					} catch (Exception pe) {
 						NIBRSError e = new NIBRSError();
@@ -883,7 +898,7 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 					String drugQuantityFullValueString = org.apache.commons.lang3.StringUtils.trimToEmpty(drugQuantityWholePartString) + "." + fractionalValueString;
 					
 					try{
-						Double doubleValue = new Double(drugQuantityFullValueString);
+						Double doubleValue = Double.valueOf(drugQuantityFullValueString);
 						newProperty.setEstimatedDrugQuantity(i, new ParsedObject<Double>(doubleValue));
 					}
 					catch (NumberFormatException ne){
@@ -939,7 +954,7 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 			parsedObject.setValue(null);
 		} else {
 			try {
-				parsedObject.setValue(Integer.parseInt(parsedString));
+				parsedObject.setValue(StringUtils.parseInt(parsedString));
 			} catch (NumberFormatException nfe) {
 				parsedObject.setInvalid(true);
 			}
@@ -970,7 +985,7 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 			} else {
 				
 				try {
-					Integer value = Integer.parseInt(premisesEnteredString);
+					Integer value = StringUtils.parseInt(premisesEnteredString);
 					premisesEntered.setValue(value);
 					premisesEntered.setMissing(false);
 					premisesEntered.setInvalid(false);
@@ -16,7 +16,6 @@
 package org.search.nibrs.flatfile.importer;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
@@ -43,21 +42,53 @@ public class Segment
     private int segmentLength;
     private char segmentLevel;
     private ReportSource reportSource;
+    private String sourceName;
+    private int lineNumber;
     
     public char getSegmentLevel() {
 		return segmentLevel;
 	}
 
 	public List<NIBRSError> setData(ReportSource reportSource, String data)
+    {
+		this.sourceName = reportSource.getSourceName();
+		this.lineNumber = 0;
+		this.reportSource = reportSource;
+		return parseData(data);
+    }
+
+	/**
+	 * Set the line of data for this segment, resetting all state from any line previously held.  This allows a single Segment to be
+	 * reused for every line of a file; the ReportSource for the line is only created if something asks for it (i.e., when the
+	 * segment starts a report or is in error).
+	 * @param sourceName the name of the source being read
+	 * @param lineNumber the (1-based) line number of the data within the source
+	 * @param data the line of data
+	 * @return errors found in the segment header
+	 */
+	public List<NIBRSError> setData(String sourceName, int lineNumber, String data)
+    {
+        this.sourceName = sourceName;
+        this.lineNumber = lineNumber;
+        this.reportSource = null;
+        return parseData(data);
+    }
+
+	private List<NIBRSError> parseData(String data)
     {
     	List<NIBRSError> ret = new ArrayList<NIBRSError>();
     	
         this.data = data;
-        this.reportSource = reportSource;
+        this.segmentUniqueIdentifier = null;
+        this.ori = null;
+        this.segmentType = 0;
+        this.actionType = 0;
+        this.segmentLength = 0;
+        this.segmentLevel = 0;
         NIBRSError e = null;
         if (data == null || data.length() < 37) {
         	e = new NIBRSError();
-        	e.setContext(reportSource);
+        	e.setContext(getReportSource());
         	e.setNIBRSErrorCode(NIBRSErrorCode._001);
         	e.setDataElementIdentifier("Segment Length");
         	if (data != null) {
@@ -66,45 +97,47 @@ public class Segment
 			ret.add(e);
         }
 		if (data.length() >= 5) {
-			segmentType = StringUtils.getStringBetween(5, 5, data).charAt(0);
+			segmentType = data.charAt(4);
 			if (e != null) {
 				e.setSegmentType(segmentType);
 			}
 		}
 		if (e == null) {
-			String sv = StringUtils.getStringBetween(1, 4, data);
-	        Integer i = null;
 	        try {
-				i = Integer.parseInt(sv);
-				this.segmentLength = i;
+				this.segmentLength = StringUtils.parseInt(StringUtils.getStringBetween(1, 4, data));
 	        } catch (NumberFormatException nfe) {
 	        	e = new NIBRSError();
-	        	e.setContext(reportSource);
+	        	e.setContext(getReportSource());
 	        	
 	        	NIBRSErrorCode nibrsErrorCode = NIBRSErrorCode._001;
-	        	if (Arrays.asList('0', '1').contains(segmentType)) {
+	        	if (segmentType == '0' || segmentType == '1') {
 	        		String errorCode = "_" + segmentType + "001";
 	        		nibrsErrorCode = NIBRSErrorCode.valueOf(errorCode);
 	        	}
         		e.setNIBRSErrorCode(nibrsErrorCode);
 	        	e.setDataElementIdentifier("Segment Length");
-	        	e.setValue(sv);
+	        	e.setValue(StringUtils.getStringBetween(1, 4, data));
 	        	ret.add(e);
 	        }
-	        if (i != data.length()) {
-	        	LOG.warn("Warning at line " + reportSource.getSourceLocation() + ":  expected segment length of " + i + ", actual length was " + data.length());
-	        }
 	        if (e == null) {
+	        	if (segmentLength != data.length()) {
+	        		LOG.warn("Warning at line " + getReportSource().getSourceLocation() + ":  expected segment length of " + segmentLength + ", actual length was " + data.length());
+	        	}
 	        	this.segmentUniqueIdentifier = StringUtils.getStringBetween(26, 37, data);
 	        	this.ori = StringUtils.getStringBetween(17, 25, data);
 	        	this.actionType =  data.charAt(5);
-	        	this.segmentLevel = StringUtils.getStringBetween(5, 5, data).charAt(0);
+	        	this.segmentLevel = segmentType;
 	        }
 		}
         return ret;
     }
 
 	public ReportSource getReportSource() {
+		if (reportSource == null) {
+			reportSource = new ReportSource();
+			reportSource.setSourceLocation(String.valueOf(lineNumber));
+			reportSource.setSourceName(sourceName);
+		}
 		return reportSource;
 	}
     public String getData()
@@ -16,6 +16,8 @@
 package org.search.nibrs.flatfile.util;
 
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
 
 /**
  * A class of String utilities
@@ -37,8 +39,17 @@ public final class StringUtils
         {
             return null;
         }
-        String substring = s.substring(begin-1, end).trim();
-        return substring.length() == 0 ? null : substring;
+        // trim against the offsets in the source string, so that at most one new String is created per field
+        int start = begin - 1;
+        while (start < end && s.charAt(start) <= ' ')
+        {
+            start++;
+        }
+        while (end > start && s.charAt(end - 1) <= ' ')
+        {
+            end--;
+        }
+        return start == end ? null : s.substring(start, end);
     }
 
     public static final String getStringBetweenNoTrim(int begin, int end, String s)
@@ -58,7 +69,79 @@ public final class StringUtils
     public static final Integer getIntegerBetween(int begin, int end, String s)
     {
         String substring = getStringBetween(begin, end, s);
-        return substring == null ? null : new Integer(substring);
+        return substring == null ? null : Integer.valueOf(parseInt(substring));
+    }
+
+    /**
+     * Parse an int from the specified string, decoding plain ASCII digits directly and deferring to Integer.parseInt(String) for
+     * anything else (signs, non-ASCII digits, overflow, garbage) so that the accepted values and the exceptions thrown are the same.
+     * @param s the string to parse
+     * @return the int value
+     * @throws NumberFormatException if the string is not a parseable int
+     */
+    public static final int parseInt(String s)
+    {
+        if (s != null && s.length() > 0 && s.length() < 10)
+        {
+            int ret = 0;
+            int i = 0;
+            for (; i < s.length(); i++)
+            {
+                char c = s.charAt(i);
+                if (c < '0' || c > '9')
+                {
+                    break;
+                }
+                ret = ret * 10 + (c - '0');
+            }
+            if (i == s.length())
+            {
+                return ret;
+            }
+        }
+        return Integer.parseInt(s);
+    }
+
+    /**
+     * Whether the specified string is made up of between one and maxLength ASCII digits (equivalent to matching \d{1,maxLength}).
+     */
+    public static final boolean isDigits(String s, int maxLength)
+    {
+        if (s == null || s.length() == 0 || s.length() > maxLength)
+        {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++)
+        {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9')
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decode a date in yyyyMMdd form, if the string is exactly eight ASCII digits that represent a valid calendar date.
+     * @param s the string to decode
+     * @return the date, or null if the string is not a plain, valid yyyyMMdd date (callers fall back to a DateTimeFormatter
+     * in that case, to get its exact leniency and error behavior)
+     */
+    public static final LocalDate decodeDate(String s)
+    {
+        if (s == null || s.length() != 8 || !isDigits(s, 8))
+        {
+            return null;
+        }
+        int year = (s.charAt(0) - '0') * 1000 + (s.charAt(1) - '0') * 100 + (s.charAt(2) - '0') * 10 + (s.charAt(3) - '0');
+        int month = (s.charAt(4) - '0') * 10 + (s.charAt(5) - '0');
+        int day = (s.charAt(6) - '0') * 10 + (s.charAt(7) - '0');
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year)))
+        {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
     }
 
     /**
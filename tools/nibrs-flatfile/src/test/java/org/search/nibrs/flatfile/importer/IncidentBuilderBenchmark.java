@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.flatfile.importer;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.model.AbstractReport;
+
+/**
+ * JMH benchmark of the flat file IncidentBuilder.  Not run as part of the unit test suite; run the main method
+ * with the test classpath.  The gc profiler is enabled so that allocation per build is reported alongside throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IncidentBuilderBenchmark {
+
+	private static final String[] INCIDENT_TEMPLATE = new String[] {
+		"00881I022003    TN006000002-000895   20020102 10N                                      N",
+		"00712I022003    TN006000002-000895   220CN  20  N            88        ",
+		"03073I022003    TN006000002-000895   713000000020        22000000000                                                                                                                                                                                                                                               ",
+		"01414I022003    TN006000002-000895   001220                           I46  FWNR                                                              ",
+		"00465I022003    TN006000002-000895   0124  MW ",
+		"00465I022003    TN006000002-000895   00       ",
+		"01106I022003    TN006000002-000895   0102-000895   20021230TM22001    24  MWNR                                ",
+		"00667I022003    TN03801000000265601    20030112T90A01    33  MBNR ",
+	};
+
+	@Param({"10000"})
+	public int incidentCount;
+
+	private String fileContent;
+
+	@Setup
+	public void setUp() {
+		// IncidentBuilder logs every report at INFO; keep that out of the measurement
+		Configurator.setRootLevel(Level.WARN);
+		java.util.logging.Logger.getLogger("").setLevel(java.util.logging.Level.WARNING);
+		StringBuilder sb = new StringBuilder(incidentCount * 700);
+		for (int i = 0; i < incidentCount; i++) {
+			String incidentNumber = String.format("%-12s", "BM-" + i);
+			for (String line : INCIDENT_TEMPLATE) {
+				sb.append(line, 0, 25).append(incidentNumber).append(line, 37, line.length()).append('\n');
+			}
+		}
+		fileContent = sb.toString();
+	}
+
+	@Benchmark
+	public void buildIncidents(Blackhole blackhole) throws IOException {
+		IncidentBuilder incidentBuilder = new IncidentBuilder();
+		incidentBuilder.addIncidentListener((AbstractReport newReport, List<NIBRSError> errorList) -> {
+			blackhole.consume(newReport);
+			blackhole.consume(errorList);
+		});
+		incidentBuilder.buildIncidents(new StringReader(fileContent), "benchmark");
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(IncidentBuilderBenchmark.class.getSimpleName()).addProfiler("gc").build();
+		new Runner(options).run();
+	}
+
+}
@@ -18,6 +18,7 @@ package org.search.nibrs.flatfile.util;
 import static org.junit.Assert.*;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 
 import org.junit.*;
 
@@ -54,5 +55,52 @@ public class TestStringUtils
         assertEquals(new Integer(10), StringUtils.getIntegerBetween(1, 2, "10"));
         assertNull(StringUtils.getIntegerBetween(1, 1, " "));
     }
+    
+	@Test
+    public void testTrimming()
+    {
+        assertEquals("b", StringUtils.getStringBetween(1, 3, " b "));
+        assertEquals("a b", StringUtils.getStringBetween(2, 6, " a b  "));
+    }
+    
+	@Test
+    public void testParseInt()
+    {
+        assertEquals(2003, StringUtils.parseInt("2003"));
+        assertEquals(7, StringUtils.parseInt("07"));
+        assertEquals(-5, StringUtils.parseInt("-5"));
+        assertEquals(1234567890, StringUtils.parseInt("1234567890"));
+        for (String bad : new String[] {null, "", "1A", "12 3", "99999999999"}) {
+        	try {
+        		StringUtils.parseInt(bad);
+        		fail("Expected NumberFormatException for " + bad);
+        	} catch (NumberFormatException nfe) {
+        		// expected
+        	}
+        }
+    }
+    
+	@Test
+    public void testIsDigits()
+    {
+        assertTrue(StringUtils.isDigits("123456789", 9));
+        assertFalse(StringUtils.isDigits("1234567890", 9));
+        assertFalse(StringUtils.isDigits("12.5", 9));
+        assertFalse(StringUtils.isDigits("", 9));
+        assertFalse(StringUtils.isDigits(null, 9));
+    }
+    
+	@Test
+    public void testDecodeDateMatchesFormatter()
+    {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
+        for (String s : new String[] {"20050105", "20160229", "20000229", "19991231"}) {
+        	assertEquals(LocalDate.parse(s, formatter), StringUtils.decodeDate(s));
+        }
+        // values the fast path declines are left to the formatter, so its leniency/errors are preserved
+        for (String s : new String[] {"20150229", "20050431", "20051301", "20050100", "00000101", "2005010", "2005-1-1", null}) {
+        	assertNull(StringUtils.decodeDate(s));
+        }
+    }
 
 }
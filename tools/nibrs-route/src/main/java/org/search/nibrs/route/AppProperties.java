@@ -25,6 +25,10 @@ public class AppProperties {
     private String multicastEndpoints = "direct:createErrorReport,direct:persistReport";
     private String nibrsFileFolderPath = "/tmp/nibrs";
 	private String stagingDataRestServiceBaseUrl = "http://localhost:8080/";
+	private int stagingDataPostBatchSize = 50;
+	private int stagingDataPostConcurrency = 4;
+	private int stagingDataPostMaxAttempts = 3;
+	private long stagingDataPostRetryDelayMillis = 1000;
 
 	public String getMulticastEndpoints() {
 		return multicastEndpoints;
@@ -50,10 +54,45 @@ public class AppProperties {
 		this.stagingDataRestServiceBaseUrl = stagingDataRestServiceBaseUrl;
 	}
 
+	public int getStagingDataPostBatchSize() {
+		return stagingDataPostBatchSize;
+	}
+
+	public void setStagingDataPostBatchSize(int stagingDataPostBatchSize) {
+		this.stagingDataPostBatchSize = stagingDataPostBatchSize;
+	}
+
+	public int getStagingDataPostConcurrency() {
+		return stagingDataPostConcurrency;
+	}
+
+	public void setStagingDataPostConcurrency(int stagingDataPostConcurrency) {
+		this.stagingDataPostConcurrency = stagingDataPostConcurrency;
+	}
+
+	public int getStagingDataPostMaxAttempts() {
+		return stagingDataPostMaxAttempts;
+	}
+
+	public void setStagingDataPostMaxAttempts(int stagingDataPostMaxAttempts) {
+		this.stagingDataPostMaxAttempts = stagingDataPostMaxAttempts;
+	}
+
+	public long getStagingDataPostRetryDelayMillis() {
+		return stagingDataPostRetryDelayMillis;
+	}
+
+	public void setStagingDataPostRetryDelayMillis(long stagingDataPostRetryDelayMillis) {
+		this.stagingDataPostRetryDelayMillis = stagingDataPostRetryDelayMillis;
+	}
+
 	@Override
 	public String toString() {
 		return "ValidatorProperties [multicastEndpoints=" + multicastEndpoints + ", nibrsFileFolderPath="
-				+ nibrsFileFolderPath + ", stagingDataRestServiceBaseUrl=" + stagingDataRestServiceBaseUrl + "]";
+				+ nibrsFileFolderPath + ", stagingDataRestServiceBaseUrl=" + stagingDataRestServiceBaseUrl 
+				+ ", stagingDataPostBatchSize=" + stagingDataPostBatchSize + ", stagingDataPostConcurrency=" + stagingDataPostConcurrency
+				+ ", stagingDataPostMaxAttempts=" + stagingDataPostMaxAttempts 
+				+ ", stagingDataPostRetryDelayMillis=" + stagingDataPostRetryDelayMillis + "]";
 	}
 
 }
\ No newline at end of file
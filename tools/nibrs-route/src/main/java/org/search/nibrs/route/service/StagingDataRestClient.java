@@ -1,4 +1,3 @@
-
 /*
  * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
  *
@@ -17,63 +16,209 @@
 
 package org.search.nibrs.route.service;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
 
 import org.apache.camel.Body;
 import org.apache.camel.Header;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.search.nibrs.model.AbstractReport;
 import org.search.nibrs.model.GroupAIncidentReport;
 import org.search.nibrs.model.GroupBArrestReport;
 import org.search.nibrs.route.AppProperties;
 import org.search.nibrs.validate.common.ValidationResults;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Posts the valid reports of a submission file to the staging data rest service, in batches of
+ * stagingDataPostBatchSize reports with up to stagingDataPostConcurrency batches in flight.
+ *
+ * The reports are split into lanes by identifier, so all the versions of a report are posted by the same lane in
+ * the order they appear in the file, and a batch never holds two versions of the same report.
+ */
 @Service
 public class StagingDataRestClient {
 
 	private final Log log = LogFactory.getLog(this.getClass());
 
-	private RestTemplate restTemplate;
-	@Autowired
-	private AppProperties appProperties;
+	private final AppProperties appProperties;
+	private final CloseableHttpClient httpClient;
+	private final RestTemplate restTemplate;
+	private final ExecutorService executorService;
+	private final int concurrency;
 
-	public StagingDataRestClient() {
+	@Autowired
+	public StagingDataRestClient(AppProperties appProperties) {
 		super();
-		restTemplate = new RestTemplate(); 
+		this.appProperties = appProperties;
+		concurrency = Math.max(1, appProperties.getStagingDataPostConcurrency());
+
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(concurrency);
+		connectionManager.setDefaultMaxPerRoute(concurrency);
+		httpClient = HttpClients.custom().setConnectionManager(connectionManager).build();
+
+		restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
 		restTemplate.setMessageConverters(getMessageConverters());
+		executorService = Executors.newFixedThreadPool(concurrency);
 	}
-	
+
+	@PreDestroy
+	public void destroy() throws IOException {
+		executorService.shutdownNow();
+		httpClient.close();
+	}
+
 	public void persistIncidentReports(@Body ValidationResults validationResults, @Header("CamelFileName") String fileName) {
-		List<AbstractReport> abstractReports = validationResults.getReportsWithoutErrors(); 
-		
+		List<AbstractReport> abstractReports = validationResults.getReportsWithoutErrors();
+
 		logCountsOfReports(abstractReports);
-		int count = 0; 
+		long start = System.currentTimeMillis();
+
+		List<List<AbstractReport>> lanes = new ArrayList<>();
+		for (int i = 0; i < concurrency; i++) {
+			lanes.add(new ArrayList<>());
+		}
 		for(AbstractReport abstractReport: abstractReports){
+			String identifier = abstractReport.getIdentifier();
+			int lane = identifier == null ? 0 : Math.floorMod(identifier.hashCode(), concurrency);
+			lanes.get(lane).add(abstractReport);
+		}
+
+		PostProgress progress = new PostProgress(abstractReports.size());
+		List<Future<?>> futures = new ArrayList<>();
+		for (List<AbstractReport> lane : lanes) {
+			if (!lane.isEmpty()) {
+				futures.add(executorService.submit(() -> persistLane(lane, progress)));
+			}
+		}
+
+		try {
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		catch (ExecutionException e) {
+			progress.aborted.set(true);
+			if (e.getCause() instanceof ResourceAccessException){
+				log.error("Failed to connect to the rest service to process the reports in " + fileName);
+				throw (ResourceAccessException) e.getCause();
+			}
+			throw new RuntimeException(e.getCause());
+		}
+		catch (InterruptedException e) {
+			progress.aborted.set(true);
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while persisting the reports in " + fileName, e);
+		}
+
+		long elapsedMillis = Math.max(1, System.currentTimeMillis() - start);
+		log.info("All reports from the file " + fileName + " are procesed: " + progress.persisted.get() + " persisted, "
+				+ progress.failed.get() + " failed, in " + elapsedMillis + " ms ("
+				+ (abstractReports.size() * 1000L / elapsedMillis) + " reports/second).");
+	}
+
+	/**
+	 * Post the reports of one lane in order, starting a new batch when the batch is full, the report type changes or
+	 * the report is already in the batch.
+	 */
+	private void persistLane(List<AbstractReport> abstractReports, PostProgress progress) {
+		int batchSize = Math.max(1, appProperties.getStagingDataPostBatchSize());
+		List<AbstractReport> batch = new ArrayList<>(batchSize);
+		Set<String> identifiers = new HashSet<>();
+
+		for (AbstractReport abstractReport: abstractReports){
+			if (!batch.isEmpty() && (batch.size() == batchSize
+					|| batch.get(0).getClass() != abstractReport.getClass()
+					|| identifiers.contains(abstractReport.getIdentifier()))){
+				postBatch(batch, progress);
+				batch.clear();
+				identifiers.clear();
+			}
+			batch.add(abstractReport);
+			identifiers.add(abstractReport.getIdentifier());
+		}
+
+		if (!batch.isEmpty()){
+			postBatch(batch, progress);
+		}
+	}
+
+	/**
+	 * Post a batch, trying again up to stagingDataPostMaxAttempts times.  If the batch still fails, the reports are
+	 * posted one by one so one bad report does not fail the others, unless the rest service can not be reached.
+	 */
+	private void postBatch(List<AbstractReport> batch, PostProgress progress) {
+		if (progress.aborted.get()) {
+			throw new IllegalStateException("Posting the reports is aborted");
+		}
+
+		int maxAttempts = Math.max(1, appProperties.getStagingDataPostMaxAttempts());
+		for (int attempt = 1; ; attempt++){
 			try{
-				persistAbstractReport(abstractReport);
-				log.info("Progress: " + (++count) + "/" + abstractReports.size());
+				postReports(batch);
+				progress.persisted(batch.size(), 0);
+				return;
+			}
+			catch(Exception e){
+				log.warn("Attempt " + attempt + "/" + maxAttempts + " to post a batch of " + batch.size()
+					+ " reports starting with " + batch.get(0).getIdentifier() + " failed: " + e.getMessage());
+
+				if (attempt >= maxAttempts){
+					if (e instanceof ResourceAccessException){
+						throw e;
+					}
+					break;
+				}
+				sleep(appProperties.getStagingDataPostRetryDelayMillis() * attempt);
+			}
+		}
+
+		for (AbstractReport abstractReport : batch){
+			try{
+				postReports(Collections.singletonList(abstractReport));
+				progress.persisted(1, 0);
 			}
 			catch(ResourceAccessException rae){
-				log.error("Failed to connect to the rest service to process the reports in " + fileName);
 				throw rae;
 			}
 			catch(Exception e){
 				log.warn("Failed to persist incident " + abstractReport.getIdentifier());
 				log.error(e);
-				log.info("Progress: " + (++count) + "/" + abstractReports.size());
+				progress.persisted(0, 1);
 			}
 		}
-		log.info("All reports from the file " + fileName + " are procesed.");
+	}
+
+	private void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting to post a batch again", e);
+		}
 	}
 
 	private void logCountsOfReports(List<AbstractReport> abstractReports) {
@@ -83,28 +228,48 @@ public class StagingDataRestClient {
 	}
 
 	public void persistAbstractReport(AbstractReport abstractReport) {
-		if (abstractReport instanceof GroupAIncidentReport){
-			GroupAIncidentReport groupAIncidentReport = (GroupAIncidentReport) abstractReport; 
-			log.info("About to post for group A incident report " + groupAIncidentReport.getIncidentNumber());
-			log.info("Action category " + groupAIncidentReport.getReportActionType());
-			restTemplate.postForLocation(appProperties.getStagingDataRestServiceBaseUrl() + "groupAIncidentReports", groupAIncidentReport);
-		}
-		else if (abstractReport instanceof GroupBArrestReport){
-			GroupBArrestReport groupBArrestReport = (GroupBArrestReport) abstractReport; 
-			log.info("About to post for group B Arrest Report" + groupBArrestReport.getIdentifier());
-			log.info("Action category " + groupBArrestReport.getReportActionType());
-			restTemplate.postForLocation(appProperties.getStagingDataRestServiceBaseUrl() + "arrestReports", groupBArrestReport);
+		postReports(Collections.singletonList(abstractReport));
+	}
+
+	/**
+	 * Post reports of the same type in one request.
+	 */
+	private void postReports(List<AbstractReport> abstractReports) {
+		AbstractReport first = abstractReports.get(0);
+		if (first instanceof GroupAIncidentReport){
+			log.debug("About to post " + abstractReports.size() + " group A incident reports starting with " + first.getIdentifier());
+			restTemplate.postForLocation(appProperties.getStagingDataRestServiceBaseUrl() + "groupAIncidentReports", abstractReports);
+		}
+		else if (first instanceof GroupBArrestReport){
+			log.debug("About to post " + abstractReports.size() + " group B arrest reports starting with " + first.getIdentifier());
+			restTemplate.postForLocation(appProperties.getStagingDataRestServiceBaseUrl() + "arrestReports", abstractReports);
 		}
 		else {
-			log.warn("The report type " +  abstractReport.getClass().getName() + "is not supported");
+			log.warn("The report type " +  first.getClass().getName() + "is not supported");
 		}
-		
+
 	}
-	
+
 	private List<HttpMessageConverter<?>> getMessageConverters() {
-	    List<HttpMessageConverter<?>> converters = 
+	    List<HttpMessageConverter<?>> converters =
 	      new ArrayList<HttpMessageConverter<?>>();
 	    converters.add(new MappingJackson2HttpMessageConverter());
 	    return converters;
 	}
+
+	private final class PostProgress {
+		private final int total;
+		private final AtomicInteger persisted = new AtomicInteger();
+		private final AtomicInteger failed = new AtomicInteger();
+		private final AtomicBoolean aborted = new AtomicBoolean();
+
+		private PostProgress(int total) {
+			this.total = total;
+		}
+
+		private void persisted(int persistedCount, int failedCount) {
+			int done = persisted.addAndGet(persistedCount) + failed.addAndGet(failedCount);
+			log.info("Progress: " + done + "/" + total);
+		}
+	}
 }
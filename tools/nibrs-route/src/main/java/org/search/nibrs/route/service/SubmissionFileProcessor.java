@@ -38,7 +38,6 @@ import org.search.nibrs.importer.ReportListener;
 import org.search.nibrs.model.AbstractReport;
 import org.search.nibrs.validate.common.SubmissionFileValidator;
 import org.search.nibrs.validate.common.ValidationResults;
-import org.search.nibrs.validation.SubmissionValidator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
@@ -49,7 +48,6 @@ import org.xml.sax.SAXException;
 public class SubmissionFileProcessor {
 	private final Log log = LogFactory.getLog(SubmissionFileProcessor.class);
 
-	SubmissionValidator submissionValidator;
 	@Autowired
 	SubmissionFileValidator submissionFileValidator;
 
@@ -64,12 +62,11 @@ public class SubmissionFileProcessor {
 			@Override
 			public void newReport(AbstractReport report, List<NIBRSError> el) {
 				validationResults.getErrorList().addAll(el);
-				validationResults.getErrorList().addAll(submissionValidator.validateReport(report));
 				addReportWithoutErrors(validationResults, report);
 			}
 		};
 
-		submissionFileValidator.validateFile(validatorListener, file);
+		submissionFileValidator.validateReports(validatorListener, file);
 
 		return validationResults; 
 
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.route.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.route.AppProperties;
+import org.search.nibrs.validate.common.ValidationResults;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+public class StagingDataRestClientTest {
+
+	private static final String BAD_INCIDENT_NUMBER = "BAD";
+
+	private HttpServer server;
+	private StagingDataRestClient stagingDataRestClient;
+	private final List<List<String>> postedBatches = Collections.synchronizedList(new ArrayList<>());
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Before
+	public void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/groupAIncidentReports", exchange -> {
+			List<String> incidentNumbers = new ArrayList<>();
+			for (JsonNode report : objectMapper.readTree(exchange.getRequestBody())) {
+				incidentNumbers.add(report.get("incidentNumber").asText() + ":" + report.get("ori").asText());
+			}
+			int status = 200;
+			if (incidentNumbers.stream().anyMatch(incidentNumber -> incidentNumber.startsWith(BAD_INCIDENT_NUMBER + ":"))) {
+				status = 500;
+			} else {
+				postedBatches.add(incidentNumbers);
+			}
+			exchange.sendResponseHeaders(status, -1);
+			exchange.close();
+		});
+		server.setExecutor(Executors.newFixedThreadPool(8));
+		server.start();
+
+		AppProperties appProperties = new AppProperties();
+		appProperties.setStagingDataRestServiceBaseUrl("http://localhost:" + server.getAddress().getPort() + "/");
+		appProperties.setStagingDataPostBatchSize(25);
+		appProperties.setStagingDataPostConcurrency(4);
+		appProperties.setStagingDataPostMaxAttempts(2);
+		appProperties.setStagingDataPostRetryDelayMillis(10);
+		stagingDataRestClient = new StagingDataRestClient(appProperties);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		stagingDataRestClient.destroy();
+		server.stop(0);
+	}
+
+	@Test
+	public void testPersistIncidentReports() {
+		ValidationResults validationResults = new ValidationResults();
+		// the ORI numbers the versions of each incident
+		for (int i = 0; i < 1000; i++) {
+			GroupAIncidentReport incident = incident("INC-" + (i % 400));
+			incident.setOri(String.valueOf(i / 400));
+			validationResults.addValidReport(incident);
+		}
+
+		stagingDataRestClient.persistIncidentReports(validationResults, "test.txt");
+
+		Map<String, Integer> postedVersions = new HashMap<>();
+		int postedCount = 0;
+		for (List<String> batch : new ArrayList<>(postedBatches)) {
+			assertTrue(batch.size() <= 25);
+			Set<String> batchIncidentNumbers = new HashSet<>();
+			for (String posted : batch) {
+				String incidentNumber = posted.split(":")[0];
+				int version = Integer.parseInt(posted.split(":")[1]);
+				assertTrue("a batch holds one version of a report", batchIncidentNumbers.add(incidentNumber));
+				assertEquals("the versions of a report are posted in order", 
+						postedVersions.getOrDefault(incidentNumber, -1) + 1, version);
+				postedVersions.put(incidentNumber, version);
+				postedCount++;
+			}
+		}
+		assertEquals(400, postedVersions.size());
+		assertEquals(1000, postedCount);
+		assertTrue(postedBatches.size() < 100);
+	}
+
+	@Test
+	public void testFailedBatchIsPostedReportByReport() {
+		ValidationResults validationResults = new ValidationResults();
+		validationResults.addValidReport(incident("INC-1"));
+		validationResults.addValidReport(incident(BAD_INCIDENT_NUMBER));
+		validationResults.addValidReport(incident("INC-2"));
+
+		StagingDataRestClient singleLaneClient = singleLaneClient();
+		try {
+			singleLaneClient.persistIncidentReports(validationResults, "test.txt");
+		} finally {
+			closeQuietly(singleLaneClient);
+		}
+
+		Set<String> posted = new HashSet<>();
+		postedBatches.forEach(posted::addAll);
+		assertEquals(new HashSet<>(Arrays.asList("INC-1:null", "INC-2:null")), posted);
+		assertEquals(2, postedBatches.size());
+	}
+
+	@Test(expected = ResourceAccessException.class)
+	public void testUnreachableRestService() throws IOException {
+		server.stop(0);
+		ValidationResults validationResults = new ValidationResults();
+		validationResults.addValidReport(incident("INC-1"));
+		stagingDataRestClient.persistIncidentReports(validationResults, "test.txt");
+	}
+
+	private StagingDataRestClient singleLaneClient() {
+		AppProperties appProperties = new AppProperties();
+		appProperties.setStagingDataRestServiceBaseUrl("http://localhost:" + server.getAddress().getPort() + "/");
+		appProperties.setStagingDataPostConcurrency(1);
+		appProperties.setStagingDataPostMaxAttempts(2);
+		appProperties.setStagingDataPostRetryDelayMillis(10);
+		return new StagingDataRestClient(appProperties);
+	}
+
+	private void closeQuietly(StagingDataRestClient client) {
+		try {
+			client.destroy();
+		} catch (IOException e) {
+			// nothing to do
+		}
+	}
+
+	private GroupAIncidentReport incident(String incidentNumber) {
+		GroupAIncidentReport incident = new GroupAIncidentReport();
+		incident.setIncidentNumber(incidentNumber);
+		return incident;
+	}
+
+}
@@ -23,6 +23,7 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.TableGenerator;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
@@ -38,7 +39,9 @@ public class ArrestReportSegmentWasArmedWith implements Serializable{
 	private static final long serialVersionUID = -869451478846730203L;
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "arrestReportSegmentWasArmedWithIdGenerator")
+	@TableGenerator(name = "arrestReportSegmentWasArmedWithIdGenerator", table = "IdGenerator", pkColumnName = "GeneratorName", valueColumnName = "LastId", 
+			pkColumnValue = "ArrestReportSegmentWasArmedWith", allocationSize = 50)
 	private Integer arrestReportSegmentWasArmedWithId; 
 	
     @ManyToOne
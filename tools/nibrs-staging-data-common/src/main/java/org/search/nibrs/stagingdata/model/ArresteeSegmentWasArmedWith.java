@@ -23,6 +23,7 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.TableGenerator;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
@@ -36,7 +37,9 @@ public class ArresteeSegmentWasArmedWith implements Serializable{
 	private static final long serialVersionUID = -869451478846730203L;
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "arresteeSegmentWasArmedWithIdGenerator")
+	@TableGenerator(name = "arresteeSegmentWasArmedWithIdGenerator", table = "IdGenerator", pkColumnName = "GeneratorName", valueColumnName = "LastId", 
+			pkColumnValue = "ArresteeSegmentWasArmedWith", allocationSize = 50)
 	private Integer arresteeSegmentWasArmedWithId; 
 	
     @ManyToOne
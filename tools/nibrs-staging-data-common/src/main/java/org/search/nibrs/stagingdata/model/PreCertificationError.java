@@ -114,12 +114,12 @@ public class PreCertificationError implements Serializable{
 	public PreCertificationError(NIBRSError nibrsError) {
 		this();
 		
-		if (nibrsError.getReport().getMonthOfTape() != null) {
-			this.monthOfTape = StringUtils.leftPad(nibrsError.getReport().getMonthOfTape().toString(), 2);
+		if (nibrsError.getMonthOfTape() != null) {
+			this.monthOfTape = StringUtils.leftPad(nibrsError.getMonthOfTape().toString(), 2);
 		}
 		
-		if (nibrsError.getReport().getYearOfTape() != null) {
-			this.yearOfTape = nibrsError.getReport().getYearOfTape().toString(); 
+		if (nibrsError.getYearOfTape() != null) {
+			this.yearOfTape = nibrsError.getYearOfTape().toString(); 
 		}
 		
 		
@@ -135,9 +135,9 @@ public class PreCertificationError implements Serializable{
 			this.rejectedValue = nibrsError.getOffendingValues();
 		}
 		
-		this.setOri(nibrsError.getReport().getOri()); 
+		this.setOri(nibrsError.getOri()); 
 		this.nibrsErrorCode = nibrsError.getRuleNumber();
-		this.setSegmentActionTypeCode(String.valueOf(nibrsError.getReport().getReportActionType()));
+		this.setSegmentActionTypeCode(String.valueOf(nibrsError.getReportActionType()));
 	}
 	
 	public SegmentActionTypeType getSegmentActionType() {
@@ -25,6 +25,7 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.TableGenerator;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
@@ -39,7 +40,9 @@ public class PropertyType implements Serializable{
 	private static final long serialVersionUID = -2370698406499145556L;
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "propertyTypeIdGenerator")
+	@TableGenerator(name = "propertyTypeIdGenerator", table = "IdGenerator", pkColumnName = "GeneratorName", valueColumnName = "LastId", 
+			pkColumnValue = "PropertyType", allocationSize = 50)
 	private Integer propertyTypeId; 
 	
     @ManyToOne
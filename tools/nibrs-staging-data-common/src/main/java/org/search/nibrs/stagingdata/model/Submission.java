@@ -38,7 +38,7 @@ public class Submission {
 	private Integer submissionId; 
 	
 	private String incidentIdentifier; 
-	private Integer messageIdentifier; 
+	private Long messageIdentifier; 
 	private String requestFilePath;
 	private String responseFilePath;
 	
@@ -232,11 +232,11 @@ public class Submission {
 				+ ", violations=" + violations + "]";
 	}
 
-	public Integer getMessageIdentifier() {
+	public Long getMessageIdentifier() {
 		return messageIdentifier;
 	}
 
-	public void setMessageIdentifier(Integer messageIdentifier) {
+	public void setMessageIdentifier(Long messageIdentifier) {
 		this.messageIdentifier = messageIdentifier;
 	}
 
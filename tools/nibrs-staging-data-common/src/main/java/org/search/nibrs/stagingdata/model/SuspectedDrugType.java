@@ -23,6 +23,7 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.TableGenerator;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
@@ -35,7 +36,9 @@ public class SuspectedDrugType implements Serializable{
 	private static final long serialVersionUID = -2370698406499145556L;
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "suspectedDrugTypeIdGenerator")
+	@TableGenerator(name = "suspectedDrugTypeIdGenerator", table = "IdGenerator", pkColumnName = "GeneratorName", valueColumnName = "LastId", 
+			pkColumnValue = "SuspectedDrugType", allocationSize = 50)
 	private Integer suspectedDrugTypeId; 
 	
     @ManyToOne
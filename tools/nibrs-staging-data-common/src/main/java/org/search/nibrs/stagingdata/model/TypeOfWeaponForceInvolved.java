@@ -24,6 +24,7 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.TableGenerator;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
@@ -36,7 +37,9 @@ public class TypeOfWeaponForceInvolved implements Serializable{
 	private static final long serialVersionUID = 8597871552401839697L;
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "typeOfWeaponForceInvolvedIdGenerator")
+	@TableGenerator(name = "typeOfWeaponForceInvolvedIdGenerator", table = "IdGenerator", pkColumnName = "GeneratorName", valueColumnName = "LastId", 
+			pkColumnValue = "TypeOfWeaponForceInvolved", allocationSize = 50)
 	private Integer typeOfWeaponForceInvolvedId; 
 	
     @ManyToOne
@@ -24,6 +24,7 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.TableGenerator;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
@@ -38,7 +39,9 @@ public class VictimOffenderAssociation implements Serializable{
 	private static final long serialVersionUID = 6131252716830673798L;
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "victimOffenderAssociationIdGenerator")
+	@TableGenerator(name = "victimOffenderAssociationIdGenerator", table = "IdGenerator", pkColumnName = "GeneratorName", valueColumnName = "LastId", 
+			pkColumnValue = "VictimOffenderAssociation", allocationSize = 50)
 	private Integer victimOffenderAssociationId; 
 	
     @ManyToOne
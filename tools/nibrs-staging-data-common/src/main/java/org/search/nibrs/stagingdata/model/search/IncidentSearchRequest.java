@@ -62,6 +62,14 @@ public class IncidentSearchRequest implements Serializable {
 	@DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm")
 	private LocalDateTime fbiSubmissionTimestampEnd; 
 	
+	/*
+	 * The sort key of the last report on the previous page.  When it is set, the search returns the reports that 
+	 * come after it in the IncidentSearchResult order. 
+	 */
+	private LocalDateTime pageAfterReportTimestamp; 
+	private ReportType pageAfterReportType; 
+	private Integer pageAfterPrimaryKey; 
+	
 	@Override
 	public String toString() {
 		return ToStringBuilder.reflectionToString(this, ToStringStyle.MULTI_LINE_STYLE);
@@ -240,5 +248,33 @@ public class IncidentSearchRequest implements Serializable {
 	public void setFbiSubmissionTimestampEnd(LocalDateTime fbiSubmissionTimestampEnd) {
 		this.fbiSubmissionTimestampEnd = fbiSubmissionTimestampEnd;
 	}
+	public LocalDateTime getPageAfterReportTimestamp() {
+		return pageAfterReportTimestamp;
+	}
+	public void setPageAfterReportTimestamp(LocalDateTime pageAfterReportTimestamp) {
+		this.pageAfterReportTimestamp = pageAfterReportTimestamp;
+	}
+	public ReportType getPageAfterReportType() {
+		return pageAfterReportType;
+	}
+	public void setPageAfterReportType(ReportType pageAfterReportType) {
+		this.pageAfterReportType = pageAfterReportType;
+	}
+	public Integer getPageAfterPrimaryKey() {
+		return pageAfterPrimaryKey;
+	}
+	public void setPageAfterPrimaryKey(Integer pageAfterPrimaryKey) {
+		this.pageAfterPrimaryKey = pageAfterPrimaryKey;
+	}
+	
+	/**
+	 * Start the search after the last pointer of the previous page. 
+	 */
+	@JsonIgnore
+	public void setPageAfter(IncidentPointer incidentPointer) {
+		this.pageAfterReportTimestamp = incidentPointer.getReportTimestamp();
+		this.pageAfterReportType = incidentPointer.getReportType();
+		this.pageAfterPrimaryKey = incidentPointer.getPrimaryKey();
+	}
 	
 }
@@ -16,6 +16,7 @@
 package org.search.nibrs.stagingdata.model.search;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -26,6 +27,15 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 public class IncidentSearchResult implements Serializable {
 	private static final long serialVersionUID = 7916910066665545067L;
+	
+	/**
+	 * The order of the search results and of the keyset pages: the newest reports first, the group A incidents 
+	 * before the group B arrests reported at the same time, then the highest primary key first. 
+	 */
+	public static final Comparator<IncidentPointer> REPORT_ORDER = Comparator
+			.comparing(IncidentPointer::getReportTimestamp, Comparator.reverseOrder())
+			.thenComparing(IncidentPointer::getReportType)
+			.thenComparing(IncidentPointer::getPrimaryKey, Comparator.reverseOrder());
 
 	private Integer totalCount; 
 	private Integer returnedCount; 
@@ -62,6 +72,33 @@ public class IncidentSearchResult implements Serializable {
 		
 		
 	}
+	/**
+	 * One page of a search.  The group A and group B pointers are each sorted in REPORT_ORDER and limited to sizeLimit 
+	 * by the database, so merging them and keeping the first sizeLimit gives the page of the combined search.  The 
+	 * counts are the SQL counts of the whole search. 
+	 */
+	public IncidentSearchResult(List<IncidentPointer> groupAIncidentPointers, List<IncidentPointer> groupBIncidentPointers, 
+			Integer sizeLimit, long totalCount, long eligibleFbiSubmissionCount) {
+		this();
+		List<IncidentPointer> incidentPointers = new ArrayList<>(); 
+		int a = 0, b = 0; 
+		while (incidentPointers.size() < sizeLimit 
+				&& (a < groupAIncidentPointers.size() || b < groupBIncidentPointers.size())) {
+			if (b == groupBIncidentPointers.size() || (a < groupAIncidentPointers.size() 
+					&& REPORT_ORDER.compare(groupAIncidentPointers.get(a), groupBIncidentPointers.get(b)) <= 0)) {
+				incidentPointers.add(groupAIncidentPointers.get(a++));
+			}
+			else {
+				incidentPointers.add(groupBIncidentPointers.get(b++));
+			}
+		}
+		
+		this.setIncidentPointers(incidentPointers);
+		this.setReturnedCount(incidentPointers.size());
+		this.setTotalCount((int) totalCount);
+		this.setEligibleFbiSubmissionCount(eligibleFbiSubmissionCount);
+	}
+	
 	@Override
 	public String toString() {
 		return ToStringBuilder.reflectionToString(this, ToStringStyle.MULTI_LINE_STYLE);
@@ -16,6 +16,7 @@
 package org.search.nibrs.stagingdata.model.search;
 
 import java.io.Serializable;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
@@ -36,6 +37,13 @@ public class PrecertErrorSearchRequest implements Serializable {
 	private Integer submissionMonth;
 	private Integer submissionYear; 
 	
+	/*
+	 * The sort key of the last error on the previous page.  When it is set, the search returns the errors that 
+	 * come after it, newest first. 
+	 */
+	private LocalDateTime pageAfterTimestamp; 
+	private Integer pageAfterPreCertificationErrorId; 
+	
 	@Override
 	public String toString() {
 		return ToStringBuilder.reflectionToString(this, ToStringStyle.MULTI_LINE_STYLE);
@@ -86,5 +94,17 @@ public class PrecertErrorSearchRequest implements Serializable {
 	public void setOwnerId(Integer ownerId) {
 		this.ownerId = ownerId;
 	}
+	public LocalDateTime getPageAfterTimestamp() {
+		return pageAfterTimestamp;
+	}
+	public void setPageAfterTimestamp(LocalDateTime pageAfterTimestamp) {
+		this.pageAfterTimestamp = pageAfterTimestamp;
+	}
+	public Integer getPageAfterPreCertificationErrorId() {
+		return pageAfterPreCertificationErrorId;
+	}
+	public void setPageAfterPreCertificationErrorId(Integer pageAfterPreCertificationErrorId) {
+		this.pageAfterPreCertificationErrorId = pageAfterPreCertificationErrorId;
+	}
 	
 }
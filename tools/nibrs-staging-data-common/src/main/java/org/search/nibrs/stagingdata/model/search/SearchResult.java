@@ -49,6 +49,19 @@ public class SearchResult<T> implements Serializable {
 		}
 		
 	}
+	/**
+	 * One page of a search that the database already sorted and limited to sizeLimit, with the SQL count of the 
+	 * whole search. 
+	 */
+	public SearchResult(List<T> returnedHits, Integer sizeLimit, long totalCount) {
+		this();
+		this.setTotalCount((int) totalCount);
+		this.setReturnedHits(returnedHits.stream()
+				.limit(sizeLimit)
+				.collect(Collectors.toList()));
+		this.setReturnedCount(getReturnedHits().size());
+	}
+	
 	@Override
 	public String toString() {
 		return ToStringBuilder.reflectionToString(this, ToStringStyle.MULTI_LINE_STYLE);
@@ -32,9 +32,13 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.NamedAttributeNode;
 import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
+import javax.persistence.TableGenerator;
 
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.search.nibrs.model.codes.ClearedExceptionallyCode;
 import org.search.nibrs.stagingdata.model.Agency;
 import org.search.nibrs.stagingdata.model.CargoTheftIndicatorType;
@@ -53,26 +57,45 @@ import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 @JsonIdentityInfo(
 	generator = ObjectIdGenerators.PropertyGenerator.class, 
 	property = "administrativeSegmentId", scope = AdministrativeSegment.class)
-@NamedEntityGraph(name="allAdministrativeSegmentJoins", attributeNodes = {
-        @NamedAttributeNode("segmentActionType"),
-        @NamedAttributeNode("offenseSegments"),
-        @NamedAttributeNode("propertySegments"),
-        @NamedAttributeNode("offenderSegments"),
-        @NamedAttributeNode("victimSegments"),
-        @NamedAttributeNode("arresteeSegments"),
-        @NamedAttributeNode("agency"),
-        @NamedAttributeNode("incidentDateType"),
-        @NamedAttributeNode("exceptionalClearanceDateType"),
-        @NamedAttributeNode("clearedExceptionallyType"),
-        @NamedAttributeNode("cargoTheftIndicatorType"),
-        @NamedAttributeNode("owner"),
-        @NamedAttributeNode("submission")
+@NamedEntityGraphs({
+	@NamedEntityGraph(name="allAdministrativeSegmentJoins", attributeNodes = {
+	        @NamedAttributeNode("segmentActionType"),
+	        @NamedAttributeNode("offenseSegments"),
+	        @NamedAttributeNode("propertySegments"),
+	        @NamedAttributeNode("offenderSegments"),
+	        @NamedAttributeNode("victimSegments"),
+	        @NamedAttributeNode("arresteeSegments"),
+	        @NamedAttributeNode("agency"),
+	        @NamedAttributeNode("incidentDateType"),
+	        @NamedAttributeNode("exceptionalClearanceDateType"),
+	        @NamedAttributeNode("clearedExceptionallyType"),
+	        @NamedAttributeNode("cargoTheftIndicatorType"),
+	        @NamedAttributeNode("owner"),
+	        @NamedAttributeNode("submission")
+		}),
+	/*
+	 * The single valued associations only.  The segment collections are loaded with one subselect per collection 
+	 * instead, so a batch of incidents doesn't come back as the product of its offenses, properties, offenders, 
+	 * victims and arrestees. 
+	 */
+	@NamedEntityGraph(name="administrativeSegmentReferences", attributeNodes = {
+	        @NamedAttributeNode("segmentActionType"),
+	        @NamedAttributeNode("agency"),
+	        @NamedAttributeNode("incidentDateType"),
+	        @NamedAttributeNode("exceptionalClearanceDateType"),
+	        @NamedAttributeNode("clearedExceptionallyType"),
+	        @NamedAttributeNode("cargoTheftIndicatorType"),
+	        @NamedAttributeNode("owner"),
+	        @NamedAttributeNode("submission")
+		})
 	})
 public class AdministrativeSegment implements Comparable<AdministrativeSegment>, Serializable{
 	private static final long serialVersionUID = -3998248086687831675L;
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "administrativeSegmentIdGenerator")
+	@TableGenerator(name = "administrativeSegmentIdGenerator", table = "IdGenerator", pkColumnName = "GeneratorName", valueColumnName = "LastId", 
+			pkColumnValue = "AdministrativeSegment", allocationSize = 50)
 	private Integer administrativeSegmentId;
 	
 	@ManyToOne(fetch=FetchType.LAZY)
@@ -81,22 +104,31 @@ public class AdministrativeSegment implements Comparable<AdministrativeSegment>,
 	private String stateCode; 
 	private String monthOfTape; 
 	private String yearOfTape; 
+	/**
+	 * The yearOfTape and monthOfTape as yyyymm, so the submission date ranges compare an indexed number.
+	 */
+	private Integer submissionPeriod; 
 	private String cityIndicator;
 	private String ori;
 	
     @OneToMany(mappedBy = "administrativeSegment", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval=true)
+    @Fetch(FetchMode.SUBSELECT)
     private Set<OffenseSegment> offenseSegments = new HashSet<OffenseSegment>();
 	
     @OneToMany(mappedBy = "administrativeSegment", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval=true)
+    @Fetch(FetchMode.SUBSELECT)
     private Set<PropertySegment> propertySegments = new HashSet<PropertySegment>();
     
     @OneToMany(mappedBy = "administrativeSegment", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval=true)
+    @Fetch(FetchMode.SUBSELECT)
     private Set<ArresteeSegment> arresteeSegments = new HashSet<ArresteeSegment>();
     
     @OneToMany(mappedBy = "administrativeSegment", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval=true)
+    @Fetch(FetchMode.SUBSELECT)
     private Set<OffenderSegment> offenderSegments = new HashSet<OffenderSegment>();
     
     @OneToMany(mappedBy = "administrativeSegment", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval=true)
+    @Fetch(FetchMode.SUBSELECT)
     private Set<VictimSegment> victimSegments = new HashSet<VictimSegment>();
     
 	@ManyToOne(fetch=FetchType.LAZY)
@@ -138,6 +170,15 @@ public class AdministrativeSegment implements Comparable<AdministrativeSegment>,
 	
 	private LocalDateTime reportTimestamp;
 	
+	/**
+	 * Whether this is the latest version of the incident for its agency, and the latest version owned by its owner.  Maintained when 
+	 * reports are saved or deleted, so the summary queries can filter on them instead of looking up the latest version of each report.
+	 */
+	@JsonIgnore
+	private Boolean currentVersionIndicator = false;
+	@JsonIgnore
+	private Boolean currentOwnerVersionIndicator = false;
+	
     public Set<OffenseSegment> getOffenseSegments() {
         return offenseSegments;
     }
@@ -159,6 +200,12 @@ public class AdministrativeSegment implements Comparable<AdministrativeSegment>,
 	public void setYearOfTape(String yearOfTape) {
 		this.yearOfTape = yearOfTape;
 	}
+	public Integer getSubmissionPeriod() {
+		return submissionPeriod;
+	}
+	public void setSubmissionPeriod(Integer submissionPeriod) {
+		this.submissionPeriod = submissionPeriod;
+	}
 	public String getCityIndicator() {
 		return cityIndicator;
 	}
@@ -447,6 +494,22 @@ public class AdministrativeSegment implements Comparable<AdministrativeSegment>,
 		this.reportTimestamp = reportTimestamp;
 	}
 
+	public Boolean getCurrentVersionIndicator() {
+		return currentVersionIndicator;
+	}
+
+	public void setCurrentVersionIndicator(Boolean currentVersionIndicator) {
+		this.currentVersionIndicator = currentVersionIndicator;
+	}
+
+	public Boolean getCurrentOwnerVersionIndicator() {
+		return currentOwnerVersionIndicator;
+	}
+
+	public void setCurrentOwnerVersionIndicator(Boolean currentOwnerVersionIndicator) {
+		this.currentOwnerVersionIndicator = currentOwnerVersionIndicator;
+	}
+
 	public String getStateCode() {
 		return stateCode;
 	}
@@ -33,6 +33,7 @@ import javax.persistence.NamedAttributeNode;
 import javax.persistence.NamedEntityGraph;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
+import javax.persistence.TableGenerator;
 
 import org.search.nibrs.stagingdata.model.Agency;
 import org.search.nibrs.stagingdata.model.ArrestReportSegmentWasArmedWith;
@@ -69,7 +70,9 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 	})
 public class ArrestReportSegment {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "arrestReportSegmentIdGenerator")
+	@TableGenerator(name = "arrestReportSegmentIdGenerator", table = "IdGenerator", pkColumnName = "GeneratorName", valueColumnName = "LastId", 
+			pkColumnValue = "ArrestReportSegment", allocationSize = 50)
 	private Integer arrestReportSegmentId;
 	
 	@ManyToOne(fetch=FetchType.LAZY)
@@ -78,6 +81,10 @@ public class ArrestReportSegment {
 	private String stateCode;
 	private String monthOfTape; 
 	private String yearOfTape; 
+	/**
+	 * The yearOfTape and monthOfTape as yyyymm, so the submission date ranges compare an indexed number.
+	 */
+	private Integer submissionPeriod; 
 	private String cityIndicator;
 	
 	@ManyToOne(fetch=FetchType.LAZY)
@@ -137,6 +144,15 @@ public class ArrestReportSegment {
     private Submission submission;
 
 	private LocalDateTime reportTimestamp;
+	
+	/**
+	 * Whether this is the latest version of the arrest report for its agency, and the latest version owned by its owner.  Maintained when 
+	 * reports are saved or deleted, so the summary queries can filter on them instead of looking up the latest version of each report.
+	 */
+	@JsonIgnore
+	private Boolean currentVersionIndicator = false;
+	@JsonIgnore
+	private Boolean currentOwnerVersionIndicator = false;
 
 	public Integer getArrestReportSegmentId() {
 		return arrestReportSegmentId;
@@ -156,6 +172,12 @@ public class ArrestReportSegment {
 	public void setYearOfTape(String yearOfTape) {
 		this.yearOfTape = yearOfTape;
 	}
+	public Integer getSubmissionPeriod() {
+		return submissionPeriod;
+	}
+	public void setSubmissionPeriod(Integer submissionPeriod) {
+		this.submissionPeriod = submissionPeriod;
+	}
 	public String getCityIndicator() {
 		return cityIndicator;
 	}
@@ -436,6 +458,18 @@ public class ArrestReportSegment {
 	public void setReportTimestamp(LocalDateTime reportTimestamp) {
 		this.reportTimestamp = reportTimestamp;
 	}
+	public Boolean getCurrentVersionIndicator() {
+		return currentVersionIndicator;
+	}
+	public void setCurrentVersionIndicator(Boolean currentVersionIndicator) {
+		this.currentVersionIndicator = currentVersionIndicator;
+	}
+	public Boolean getCurrentOwnerVersionIndicator() {
+		return currentOwnerVersionIndicator;
+	}
+	public void setCurrentOwnerVersionIndicator(Boolean currentOwnerVersionIndicator) {
+		this.currentOwnerVersionIndicator = currentOwnerVersionIndicator;
+	}
 	public String getStateCode() {
 		return stateCode;
 	}
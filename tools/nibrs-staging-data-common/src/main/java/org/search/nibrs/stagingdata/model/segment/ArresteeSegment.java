@@ -28,8 +28,10 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.TableGenerator;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.hibernate.annotations.BatchSize;
 import org.search.nibrs.stagingdata.model.ArresteeSegmentWasArmedWith;
 import org.search.nibrs.stagingdata.model.DateType;
 import org.search.nibrs.stagingdata.model.DispositionOfArresteeUnder18Type;
@@ -51,7 +53,9 @@ import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 	property = "arresteeSegmentId")
 public class ArresteeSegment {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "arresteeSegmentIdGenerator")
+	@TableGenerator(name = "arresteeSegmentIdGenerator", table = "IdGenerator", pkColumnName = "GeneratorName", valueColumnName = "LastId", 
+			pkColumnValue = "ArresteeSegment", allocationSize = 50)
 	private Integer arresteeSegmentId;
 	
 	@ManyToOne
@@ -102,6 +106,7 @@ public class ArresteeSegment {
 	private UcrOffenseCodeType ucrOffenseCodeType;
 	
 	@OneToMany(mappedBy = "arresteeSegment", cascade = CascadeType.PERSIST, fetch = FetchType.EAGER, orphanRemoval = true)
+	@BatchSize(size = 100)
 	private Set<ArresteeSegmentWasArmedWith> arresteeSegmentWasArmedWiths;
 	
 	public String getArrestTransactionNumber() {
@@ -28,10 +28,12 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.TableGenerator;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
+import org.hibernate.annotations.BatchSize;
 import org.search.nibrs.stagingdata.model.EthnicityOfPersonType;
 import org.search.nibrs.stagingdata.model.RaceOfPersonType;
 import org.search.nibrs.stagingdata.model.SegmentActionTypeType;
@@ -51,7 +53,9 @@ import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class OffenderSegment {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "offenderSegmentIdGenerator")
+	@TableGenerator(name = "offenderSegmentIdGenerator", table = "IdGenerator", pkColumnName = "GeneratorName", valueColumnName = "LastId", 
+			pkColumnValue = "OffenderSegment", allocationSize = 50)
 	private Integer offenderSegmentId;
 	
 	@ManyToOne
@@ -77,6 +81,7 @@ public class OffenderSegment {
 	private EthnicityOfPersonType ethnicityOfPersonType;
 	
 	@OneToMany(mappedBy = "offenderSegment", fetch=FetchType.EAGER, cascade = CascadeType.PERSIST, orphanRemoval = true)
+	@BatchSize(size = 100)
 	private Set<VictimOffenderAssociation> victimOffenderAssociations = new HashSet<VictimOffenderAssociation>();
 	
 	public String toString(){
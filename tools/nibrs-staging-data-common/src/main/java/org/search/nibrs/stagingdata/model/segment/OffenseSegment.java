@@ -30,10 +30,12 @@ import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.TableGenerator;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
+import org.hibernate.annotations.BatchSize;
 import org.search.nibrs.stagingdata.model.BiasMotivationType;
 import org.search.nibrs.stagingdata.model.LocationType;
 import org.search.nibrs.stagingdata.model.MethodOfEntryType;
@@ -55,7 +57,9 @@ public class OffenseSegment implements Serializable{
 	private static final long serialVersionUID = 6355433666143334140L;
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "offenseSegmentIdGenerator")
+	@TableGenerator(name = "offenseSegmentIdGenerator", table = "IdGenerator", pkColumnName = "GeneratorName", valueColumnName = "LastId", 
+			pkColumnValue = "OffenseSegment", allocationSize = 50)
 	private Integer offenseSegmentId;
 	
 	@ManyToOne
@@ -81,27 +85,32 @@ public class OffenseSegment implements Serializable{
 	private MethodOfEntryType methodOfEntryType;
 	
 	@OneToMany(mappedBy = "offenseSegment", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+	@BatchSize(size = 100)
 	private Set<TypeOfWeaponForceInvolved> typeOfWeaponForceInvolveds = new HashSet<>();
 	
 	@ManyToMany(fetch=FetchType.EAGER)
+	@BatchSize(size = 100)
 	@JoinTable(name = "offenderSuspectedOfUsing", 
 	joinColumns = @JoinColumn(name = "offenseSegmentId", referencedColumnName = "offenseSegmentId"), 
 	inverseJoinColumns = @JoinColumn(name = "offenderSuspectedOfUsingTypeId", referencedColumnName = "offenderSuspectedOfUsingTypeId"))
 	private Set<OffenderSuspectedOfUsingType> offenderSuspectedOfUsingTypes = new HashSet<>();     
 	
 	@ManyToMany(fetch=FetchType.EAGER)
+	@BatchSize(size = 100)
 	@JoinTable(name = "typeCriminalActivity", 
 	joinColumns = @JoinColumn(name = "offenseSegmentId", referencedColumnName = "offenseSegmentId"), 
 	inverseJoinColumns = @JoinColumn(name = "typeOfCriminalActivityTypeId", referencedColumnName = "typeOfCriminalActivityTypeId"))
 	private Set<TypeOfCriminalActivityType> typeOfCriminalActivityTypes = new HashSet<>();  
 	
 	@ManyToMany(fetch=FetchType.EAGER)
+	@BatchSize(size = 100)
 	@JoinTable(name = "biasMotivation", 
 	joinColumns = @JoinColumn(name = "offenseSegmentId", referencedColumnName = "offenseSegmentId"), 
 	inverseJoinColumns = @JoinColumn(name = "biasMotivationTypeId", referencedColumnName = "biasMotivationTypeId"))
 	private Set<BiasMotivationType> biasMotivationTypes = new HashSet<>();  
 	
 	@ManyToMany(mappedBy = "offenseSegments", fetch=FetchType.EAGER)
+	@BatchSize(size = 100)
 	private Set<VictimSegment> victimSegments = new HashSet<>();
 	
 	public OffenseSegment() {
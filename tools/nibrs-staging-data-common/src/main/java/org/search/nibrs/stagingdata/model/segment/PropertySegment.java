@@ -27,10 +27,12 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.TableGenerator;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
+import org.hibernate.annotations.BatchSize;
 import org.search.nibrs.stagingdata.model.PropertyType;
 import org.search.nibrs.stagingdata.model.SegmentActionTypeType;
 import org.search.nibrs.stagingdata.model.SuspectedDrugType;
@@ -45,7 +47,9 @@ import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 	property = "propertySegmentId")
 public class PropertySegment {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "propertySegmentIdGenerator")
+	@TableGenerator(name = "propertySegmentIdGenerator", table = "IdGenerator", pkColumnName = "GeneratorName", valueColumnName = "LastId", 
+			pkColumnValue = "PropertySegment", allocationSize = 50)
 	private Integer propertySegmentId;
 	
 	@ManyToOne
@@ -59,9 +63,11 @@ public class PropertySegment {
 	private TypePropertyLossEtcType typePropertyLossEtcType;
 	
 	@OneToMany(mappedBy = "propertySegment", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+	@BatchSize(size = 100)
 	private Set<SuspectedDrugType> suspectedDrugTypes = new HashSet<SuspectedDrugType>();
 
 	@OneToMany(mappedBy = "propertySegment", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+	@BatchSize(size = 100)
 	private Set<PropertyType> propertyTypes = new HashSet<PropertyType>();
 	
 	private Integer numberOfStolenMotorVehicles;
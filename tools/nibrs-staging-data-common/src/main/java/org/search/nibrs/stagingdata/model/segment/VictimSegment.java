@@ -32,11 +32,13 @@ import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.TableGenerator;
 import javax.persistence.Transient;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
+import org.hibernate.annotations.BatchSize;
 import org.search.nibrs.stagingdata.model.AdditionalJustifiableHomicideCircumstancesType;
 import org.search.nibrs.stagingdata.model.AggravatedAssaultHomicideCircumstancesType;
 import org.search.nibrs.stagingdata.model.EthnicityOfPersonType;
@@ -63,7 +65,9 @@ public class VictimSegment implements Serializable{
 	private static final long serialVersionUID = 1947393606928402316L;
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "victimSegmentIdGenerator")
+	@TableGenerator(name = "victimSegmentIdGenerator", table = "IdGenerator", pkColumnName = "GeneratorName", valueColumnName = "LastId", 
+			pkColumnValue = "VictimSegment", allocationSize = 50)
 	private Integer victimSegmentId;
 	
 	@ManyToOne
@@ -112,18 +116,21 @@ public class VictimSegment implements Serializable{
 	private AdditionalJustifiableHomicideCircumstancesType additionalJustifiableHomicideCircumstancesType;
 	
 	@ManyToMany(fetch=FetchType.EAGER)
+	@BatchSize(size = 100)
 	@JoinTable(name = "typeInjury", 
 	joinColumns = @JoinColumn(name = "victimSegmentId", referencedColumnName = "victimSegmentId"), 
 	inverseJoinColumns = @JoinColumn(name = "typeInjuryTypeId", referencedColumnName = "typeInjuryTypeId"))
 	private Set<TypeInjuryType> typeInjuryTypes = new HashSet<TypeInjuryType>();     
 	
 	@ManyToMany(fetch=FetchType.EAGER)
+	@BatchSize(size = 100)
 	@JoinTable(name = "victimOffenseAssociation", 
 	joinColumns = @JoinColumn(name = "victimSegmentId", referencedColumnName = "victimSegmentId"), 
 	inverseJoinColumns = @JoinColumn(name = "offenseSegmentId", referencedColumnName = "offenseSegmentId"))
 	private Set<OffenseSegment> offenseSegments = new HashSet<OffenseSegment>();     
 	
 	@ManyToMany(fetch=FetchType.EAGER)
+	@BatchSize(size = 100)
 	@JoinTable(name = "aggravatedAssaultHomicideCircumstances", 
 	joinColumns = @JoinColumn(name = "victimSegmentId", referencedColumnName = "victimSegmentId"), 
 	inverseJoinColumns = @JoinColumn(name = "aggravatedAssaultHomicideCircumstancesTypeId", 
@@ -131,6 +138,7 @@ public class VictimSegment implements Serializable{
 	private Set<AggravatedAssaultHomicideCircumstancesType> aggravatedAssaultHomicideCircumstancesTypes = new HashSet<AggravatedAssaultHomicideCircumstancesType>();     
 	
 	@OneToMany(mappedBy = "victimSegment", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+	@BatchSize(size = 100)
 	private Set<VictimOffenderAssociation> VictimOffenderAssociations = new HashSet<VictimOffenderAssociation>();
 	
 	public String toString(){
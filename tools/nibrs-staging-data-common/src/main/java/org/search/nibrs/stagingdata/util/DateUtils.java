@@ -19,6 +19,8 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Date;
 
+import org.apache.commons.lang3.math.NumberUtils;
+
 /**
  *
  * A set of utility methods that deal with Dates.
@@ -43,6 +45,58 @@ public class DateUtils
 		return date;
 	}
 	
+	/**
+	 * The first day of the month, or of the year when the month is not valid, for the half-open date range 
+	 * (date >= getStartLocalDate(year, month) AND date < getEndLocalDate(year, month)), which unlike year(date) and month(date) 
+	 * can use the index of the date column.
+	 */
+	public static LocalDate getStartLocalDate(Integer year, Integer month) {
+		java.sql.Date startDate = getStartDate(year, month);
+		return startDate == null ? null : startDate.toLocalDate(); 
+	}
+	
+	/**
+	 * The first day after the month, or after the year when the month is not valid. 
+	 */
+	public static LocalDate getEndLocalDate(Integer year, Integer month) {
+		LocalDate startDate = getStartLocalDate(year, month);
+		if (startDate == null) {
+			return null; 
+		}
+		return isValidMonth(month) ? startDate.plusMonths(1) : startDate.plusYears(1);
+	}
+	
+	/**
+	 * The submission period yyyymm of the month of the date, as persisted in the SubmissionPeriod columns.
+	 */
+	public static Integer getSubmissionPeriod(java.sql.Date date) {
+		if (date == null) {
+			return null; 
+		}
+		LocalDate localDate = date.toLocalDate();
+		return localDate.getYear() * 100 + localDate.getMonthValue();
+	}
+	
+	/**
+	 * The submission period yyyymm of the year and month of tape, or null if either is missing.
+	 */
+	public static Integer getSubmissionPeriod(Integer yearOfTape, Integer monthOfTape) {
+		if (yearOfTape == null || !isValidMonth(monthOfTape)) {
+			return null; 
+		}
+		return yearOfTape * 100 + monthOfTape;
+	}
+	
+	/**
+	 * The submission period yyyymm of the year and month of tape columns of a segment, or null if either is not a number.
+	 */
+	public static Integer getSubmissionPeriod(String yearOfTape, String monthOfTape) {
+		if (!NumberUtils.isDigits(yearOfTape) || !NumberUtils.isDigits(monthOfTape)) {
+			return null; 
+		}
+		return getSubmissionPeriod(Integer.valueOf(yearOfTape), Integer.valueOf(monthOfTape));
+	}
+	
 	public static boolean isValidMonth(Integer month) {
 		return month != null && month > 0 && month <=12;
 	}
@@ -33,6 +33,14 @@ public class AppProperties {
 	private Map<String, Integer> stateRaceCodeMapping = new HashMap<>();
 	private Integer reportSearchResultsLimit = 10000;
 	private Integer summaryReportProcessingBatchSize = 500;
+	/*
+	 * The number of threads writing the NIEM documents of a submission trigger. 
+	 */
+	private Integer niemDocumentWriterThreads = 4;
+	/*
+	 * The number of reports deleted in one transaction by the bulk deletes. 
+	 */
+	private Integer deleteChunkSize = 500;
 	/*
 	 * Segment action type matters to update records
 	 */
@@ -224,6 +232,22 @@ public class AppProperties {
 		this.summaryReportProcessingBatchSize = summaryReportProcessingBatchSize;
 	}
 
+	public Integer getNiemDocumentWriterThreads() {
+		return niemDocumentWriterThreads;
+	}
+
+	public void setNiemDocumentWriterThreads(Integer niemDocumentWriterThreads) {
+		this.niemDocumentWriterThreads = niemDocumentWriterThreads;
+	}
+
+	public Integer getDeleteChunkSize() {
+		return deleteChunkSize;
+	}
+
+	public void setDeleteChunkSize(Integer deleteChunkSize) {
+		this.deleteChunkSize = deleteChunkSize;
+	}
+
 	public Map<String, Integer> getStateRaceCodeMapping() {
 		return stateRaceCodeMapping;
 	}
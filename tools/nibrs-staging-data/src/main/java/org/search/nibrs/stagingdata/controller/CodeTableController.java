@@ -40,6 +40,8 @@ import org.search.nibrs.stagingdata.repository.OwnerRepository;
 import org.search.nibrs.stagingdata.repository.UcrOffenseCodeTypeRepository;
 import org.search.nibrs.stagingdata.repository.segment.AdministrativeSegmentRepository;
 import org.search.nibrs.stagingdata.repository.segment.ArrestReportSegmentRepository;
+import org.search.nibrs.stagingdata.service.CodeTableService;
+import org.search.nibrs.stagingdata.util.DateUtils;
 import org.search.nibrs.stagingdata.util.ObjectUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
@@ -70,6 +72,8 @@ public class CodeTableController {
 	@Autowired
 	private NibrsErrorCodeTypeRepository nibrsErrorCodeTypeRepository;
 	@Autowired
+	private CodeTableService codeTableService;
+	@Autowired
 	public AppProperties appProperties;
 	
 	private final List<String> unknownOrBlank = Arrays.asList("UNKOWN", "BLANK");
@@ -86,6 +90,14 @@ public class CodeTableController {
 		return savedOwner;
 	}
 
+	/**
+	 * Reload the code tables held in memory, after they have been changed in the database. 
+	 */
+	@PostMapping("/refresh")
+	public void refreshCodeTables(){
+		codeTableService.refreshCodeTables();
+	}
+	
 	@GetMapping(value= {"/agencies/{ownerId}", "/agencies"})
 	public Map<String, Integer> agenciesByOwnerId(@PathVariable(required = false) Integer ownerId){
 		
@@ -161,12 +173,14 @@ public class CodeTableController {
 	
 	@GetMapping(value= {"/months/{year}/{ownerId}/{agencyId}", "/months/{year}/{agencyId}"}) 
 	public List<Integer> getMonths(@PathVariable Integer agencyId, @PathVariable Integer year, @PathVariable(required = false) String ownerId){
-		return administrativeSegmentRepository.findDistinctMonths(agencyId, year, ObjectUtils.getInteger(ownerId));
+		return administrativeSegmentRepository.findDistinctMonths(agencyId, 
+				DateUtils.getStartLocalDate(year, null), DateUtils.getEndLocalDate(year, null), ObjectUtils.getInteger(ownerId));
 	}
 	
 	@GetMapping(value= {"/state/months/{year}/{ownerId}/{stateCode}", "/state/months/{year}/{stateCode}"}) 
 	public List<Integer> getMonthsByStateCode(@PathVariable String stateCode, @PathVariable Integer year, @PathVariable(required = false) String ownerId){
-		return administrativeSegmentRepository.findDistinctMonthsByStateCode(stateCode, year, ObjectUtils.getInteger(ownerId));
+		return administrativeSegmentRepository.findDistinctMonthsByStateCode(stateCode, 
+				DateUtils.getStartLocalDate(year, null), DateUtils.getEndLocalDate(year, null), ObjectUtils.getInteger(ownerId));
 	}
 	
 	@GetMapping("/offenseCodes")
@@ -28,6 +28,7 @@ import org.search.nibrs.stagingdata.model.NibrsErrorCodeType;
 import org.search.nibrs.stagingdata.model.Owner;
 import org.search.nibrs.stagingdata.model.PreCertificationError;
 import org.search.nibrs.stagingdata.model.SegmentActionTypeType;
+import org.search.nibrs.stagingdata.model.search.IncidentDeleteRequest;
 import org.search.nibrs.stagingdata.model.search.PrecertErrorSearchRequest;
 import org.search.nibrs.stagingdata.model.search.SearchResult;
 import org.search.nibrs.stagingdata.repository.AgencyRepository;
@@ -35,7 +36,10 @@ import org.search.nibrs.stagingdata.repository.NibrsErrorCodeTypeRepository;
 import org.search.nibrs.stagingdata.repository.PreCertificationErrorRepository;
 import org.search.nibrs.stagingdata.repository.PreCertificationErrorRepositoryCustom;
 import org.search.nibrs.stagingdata.repository.SegmentActionTypeRepository;
+import org.search.nibrs.stagingdata.service.ChunkedDeleter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -58,6 +62,8 @@ public class PreCertificationErrorController {
 	@Autowired
 	private NibrsErrorCodeTypeRepository nibrsErrorCodeTypeRepository;
 	@Autowired
+	private ChunkedDeleter chunkedDeleter;
+	@Autowired
 	public AppProperties appProperties;
 
 	@PostMapping("")
@@ -102,12 +108,33 @@ public class PreCertificationErrorController {
 	@PostMapping("/search")
 	public @ResponseBody SearchResult<PreCertificationError> search(@RequestBody PrecertErrorSearchRequest precertErrorSearchRequest){
 		log.info("precertErrorSearchRequest:" + precertErrorSearchRequest);
-		List<PreCertificationError> preCertificationErrors = preCertificationErrorRepositoryCustom.findAllByCriteria(precertErrorSearchRequest);
+		Integer sizeLimit = appProperties.getReportSearchResultsLimit(); 
+		List<PreCertificationError> preCertificationErrors = 
+				preCertificationErrorRepositoryCustom.findAllByCriteria(precertErrorSearchRequest, sizeLimit);
+		long totalCount = preCertificationErrorRepositoryCustom.countAllByCriteria(precertErrorSearchRequest); 
 		
-		SearchResult<PreCertificationError> searchResult = new SearchResult<>(preCertificationErrors, appProperties.getReportSearchResultsLimit());
+		SearchResult<PreCertificationError> searchResult = new SearchResult<>(preCertificationErrors, sizeLimit, totalCount);
 		
 		return searchResult;
 	}
 	
+	@DeleteMapping("/{ori}/{yearOfTape}/{monthOfTape}")
+	public @ResponseBody String deleteBySubmissionDate(@PathVariable("ori") String ori, @PathVariable("yearOfTape") String yearOfTape, 
+			@PathVariable("monthOfTape") String monthOfTape){
+		List<Integer> preCertificationErrorIds = 
+				preCertificationErrorRepository.findIdsByOriAndYearOfTapeAndMonthOfTape(ori, yearOfTape, monthOfTape);
+		int deletedCount = chunkedDeleter.delete("pre-certification errors of " + ori + " " + yearOfTape + "-" + monthOfTape, 
+				preCertificationErrorIds, preCertificationErrorRepository::deleteByIds);
+		return String.valueOf(deletedCount) + " pre-certification errors are deleted. ";
+	}
+	
+	@DeleteMapping("")
+	public @ResponseBody String deleteByIncidentDeleteRequest(@RequestBody IncidentDeleteRequest incidentDeleteRequest){
+		List<Integer> preCertificationErrorIds = 
+				preCertificationErrorRepositoryCustom.findIdsByIncidentDeleteRequest(incidentDeleteRequest);
+		int deletedCount = chunkedDeleter.delete("pre-certification errors of the delete request", 
+				preCertificationErrorIds, preCertificationErrorRepository::deleteByIds);
+		return String.valueOf(deletedCount) + " pre-certification errors are deleted. ";
+	}
 
 }
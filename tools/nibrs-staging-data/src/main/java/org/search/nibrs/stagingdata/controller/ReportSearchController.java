@@ -52,11 +52,17 @@ public class ReportSearchController {
 	@PostMapping("/search")
 	public @ResponseBody IncidentSearchResult search(@RequestBody IncidentSearchRequest incidentSearchRequest){
 		log.info("IncidentSearchRequest:" + incidentSearchRequest);
-		List<IncidentPointer> incidentSearchResults = administrativeSegmentService.findAllByCriteria(incidentSearchRequest);
-		List<IncidentPointer> arrestIncidentSearchResults = arrestReportService.findAllByCriteria(incidentSearchRequest);
-		incidentSearchResults.addAll(arrestIncidentSearchResults); 
+		Integer sizeLimit = appProperties.getReportSearchResultsLimit(); 
+		List<IncidentPointer> incidentSearchResults = administrativeSegmentService.findAllByCriteria(incidentSearchRequest, sizeLimit);
+		List<IncidentPointer> arrestIncidentSearchResults = arrestReportService.findAllByCriteria(incidentSearchRequest, sizeLimit);
 		
-		IncidentSearchResult incidentSearchResult = new IncidentSearchResult(incidentSearchResults, appProperties.getReportSearchResultsLimit());
+		long totalCount = administrativeSegmentService.countAllByCriteria(incidentSearchRequest) 
+				+ arrestReportService.countAllByCriteria(incidentSearchRequest); 
+		long eligibleFbiSubmissionCount = administrativeSegmentService.countEligibleFbiSubmissionByCriteria(incidentSearchRequest) 
+				+ arrestReportService.countEligibleFbiSubmissionByCriteria(incidentSearchRequest); 
+		
+		IncidentSearchResult incidentSearchResult = new IncidentSearchResult(incidentSearchResults, arrestIncidentSearchResults, 
+				sizeLimit, totalCount, eligibleFbiSubmissionCount);
 		
 		return incidentSearchResult;
 	}
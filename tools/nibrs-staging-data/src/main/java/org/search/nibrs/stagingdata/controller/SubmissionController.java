@@ -16,6 +16,7 @@
 package org.search.nibrs.stagingdata.controller;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -28,6 +29,7 @@ import org.search.nibrs.stagingdata.model.segment.ArrestReportSegment;
 import org.search.nibrs.stagingdata.repository.SubmissionRepository;
 import org.search.nibrs.stagingdata.repository.segment.AdministrativeSegmentRepositoryCustom;
 import org.search.nibrs.stagingdata.repository.segment.ArrestReportSegmentRepositoryCustom;
+import org.search.nibrs.stagingdata.service.xml.SubmissionGenerationProgress;
 import org.search.nibrs.stagingdata.service.xml.XmlReportGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
@@ -56,6 +58,22 @@ public class SubmissionController {
 	@PostMapping("/submissions")
 	@Transactional
 	public Submission saveSubmission(@RequestBody Submission submission){
+		return save(submission);
+	}
+	
+	/**
+	 * Save the submissions the FBI service has collected, in one request and one transaction. 
+	 */
+	@PostMapping("/submissions/batch")
+	@Transactional
+	public List<Submission> saveSubmissions(@RequestBody List<Submission> submissions){
+		log.info("Saving " + submissions.size() + " submissions");
+		return submissions.stream()
+				.map(this::save)
+				.collect(Collectors.toList());
+	}
+
+	private Submission save(Submission submission) {
 		/*
 		 * To fulfill the relationship mapping. 
 		 */
@@ -64,16 +82,25 @@ public class SubmissionController {
 				.forEach(violation->violation.setSubmission(submission));
 		}
 		Submission submissionSaved =  submissionRepository.save(submission);
-		
+
+		/*
+		 * The documents generated from the segments carry the segment id as the message identifier. The documents
+		 * converted straight from the flat files carry identifiers larger than any int, and have no segment to update.
+		 */
+		Long messageIdentifier = submission.getMessageIdentifier();
+		if (messageIdentifier == null || messageIdentifier > Integer.MAX_VALUE) {
+			return submissionSaved;
+		}
+
 		switch(submission.getNibrsReportCategoryCode()) {
 		case "GROUP A INCIDENT REPORT":
 			administrativeSegmentRepositoryCustom.updateSubmissionId(
-						submission.getMessageIdentifier(), submission.getSubmissionId());
-			break; 
+						messageIdentifier.intValue(), submission.getSubmissionId());
+			break;
 		case "GROUP B ARREST REPORT":
 			arrestReportSegmentRepositoryCustom.updateSubmissionId(
-					submission.getMessageIdentifier(), submission.getSubmissionId());
-			break; 
+					messageIdentifier.intValue(), submission.getSubmissionId());
+			break;
 		default:
 		}
 		return submissionSaved;
@@ -94,6 +121,11 @@ public class SubmissionController {
 		return sb.toString();
 	}
 	
+	@GetMapping("/submissions/trigger/progress")
+	public @ResponseBody SubmissionGenerationProgress getSubmissionGenerationProgress(){
+		return xmlReportGenerator.getSubmissionGenerationProgress();
+	}
+	
 	@PostMapping("/submissions/arrestReport")
 	public @ResponseBody String generateArrestReportSubmission(@RequestBody ArrestReportSegment arrestReportSegment) throws Exception{
 		
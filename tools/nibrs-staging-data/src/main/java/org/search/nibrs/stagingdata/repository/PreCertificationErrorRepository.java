@@ -15,6 +15,7 @@
  */
 package org.search.nibrs.stagingdata.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +24,7 @@ import org.search.nibrs.stagingdata.model.PreCertificationError;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 @Transactional
@@ -42,4 +44,12 @@ public interface PreCertificationErrorRepository
 			+ "WHERE s.incidentIdentifier = ?1 ")
 	List<Integer> findIdsByIncidentIdentifier(String incidentIdentifier);
 	
+	@Query("SELECT s.preCertificationErrorId from PreCertificationError s "
+			+ "WHERE s.ori = ?1 AND s.yearOfTape = ?2 AND s.monthOfTape = ?3 ")
+	List<Integer> findIdsByOriAndYearOfTapeAndMonthOfTape(String ori, String yearOfTape, String monthOfTape);
+	
+	@Modifying
+	@Query("DELETE FROM PreCertificationError s WHERE s.preCertificationErrorId in (?1) ")
+	int deleteByIds(Collection<Integer> preCertificationErrorIds);
+	
 }
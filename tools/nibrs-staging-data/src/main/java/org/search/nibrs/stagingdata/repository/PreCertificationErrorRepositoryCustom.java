@@ -20,10 +20,13 @@ import java.util.List;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.search.nibrs.stagingdata.model.PreCertificationError;
+import org.search.nibrs.stagingdata.model.search.IncidentDeleteRequest;
 import org.search.nibrs.stagingdata.model.search.PrecertErrorSearchRequest;
 
 @Transactional
 public interface PreCertificationErrorRepositoryCustom{
 	List<PreCertificationError> findAllByCriteria(PrecertErrorSearchRequest precertErrorSearchRequest);
+	List<PreCertificationError> findAllByCriteria(PrecertErrorSearchRequest precertErrorSearchRequest, Integer maxResults);
 	long countAllByCriteria(PrecertErrorSearchRequest precertErrorSearchRequest);
+	List<Integer> findIdsByIncidentDeleteRequest(IncidentDeleteRequest incidentDeleteRequest);
 }
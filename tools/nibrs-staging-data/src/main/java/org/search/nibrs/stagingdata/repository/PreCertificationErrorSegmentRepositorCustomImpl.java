@@ -20,6 +20,7 @@ import java.util.List;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
@@ -27,6 +28,7 @@ import javax.persistence.criteria.Root;
 
 import org.apache.commons.lang3.StringUtils;
 import org.search.nibrs.stagingdata.model.PreCertificationError;
+import org.search.nibrs.stagingdata.model.search.IncidentDeleteRequest;
 import org.search.nibrs.stagingdata.model.search.PrecertErrorSearchRequest;
 import org.springframework.stereotype.Repository;
 
@@ -37,12 +39,31 @@ public class PreCertificationErrorSegmentRepositorCustomImpl implements PreCerti
 
 	@Override
 	public List<PreCertificationError> findAllByCriteria(PrecertErrorSearchRequest precertErrorSearchRequest) {
+		return findAllByCriteria(precertErrorSearchRequest, null);
+	}
+
+	/**
+	 * The newest errors of the search first, after the page key of the request and at most maxResults of them.  
+	 */
+	@Override
+	public List<PreCertificationError> findAllByCriteria(PrecertErrorSearchRequest precertErrorSearchRequest, Integer maxResults) {
         CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
         CriteriaQuery<PreCertificationError> query = criteriaBuilder.createQuery(PreCertificationError.class);
         Root<PreCertificationError> root = query.from(PreCertificationError.class);
         
         List<Predicate> queryPredicates = getPreCertificationErrorPredicates(precertErrorSearchRequest, root, criteriaBuilder);
         
+        if (precertErrorSearchRequest.getPageAfterTimestamp() != null) {
+        	Predicate pageAfterPredicate = criteriaBuilder.lessThan(root.get("preCertificationErrorTimestamp"), 
+        			precertErrorSearchRequest.getPageAfterTimestamp());
+        	if (precertErrorSearchRequest.getPageAfterPreCertificationErrorId() != null) {
+        		pageAfterPredicate = criteriaBuilder.or(pageAfterPredicate, criteriaBuilder.and(
+        				criteriaBuilder.equal(root.get("preCertificationErrorTimestamp"), precertErrorSearchRequest.getPageAfterTimestamp()),
+        				criteriaBuilder.lessThan(root.get("preCertificationErrorId"), precertErrorSearchRequest.getPageAfterPreCertificationErrorId())));
+        	}
+        	queryPredicates.add(pageAfterPredicate);
+        }
+        
         
  		query.multiselect(root.get("preCertificationErrorId"),
  				root.get("nibrsErrorCodeType").get("code"), 
@@ -54,10 +75,14 @@ public class PreCertificationErrorSegmentRepositorCustomImpl implements PreCerti
  				root.get("preCertificationErrorTimestamp"));
         query.where(criteriaBuilder.and(
         		queryPredicates.toArray( new Predicate[queryPredicates.size()])))
-        	 .orderBy(criteriaBuilder.desc(root.get("preCertificationErrorTimestamp")));
+        	 .orderBy(criteriaBuilder.desc(root.get("preCertificationErrorTimestamp")), 
+        			 criteriaBuilder.desc(root.get("preCertificationErrorId")));
         
-		return entityManager.createQuery(query)
-	            .getResultList();
+		TypedQuery<PreCertificationError> typedQuery = entityManager.createQuery(query);
+		if (maxResults != null) {
+			typedQuery.setMaxResults(maxResults);
+		}
+		return typedQuery.getResultList();
 	}
 
 	private List<Predicate> getPreCertificationErrorPredicates(PrecertErrorSearchRequest precertErrorSearchRequest,
@@ -92,8 +117,48 @@ public class PreCertificationErrorSegmentRepositorCustomImpl implements PreCerti
 
 	@Override
 	public long countAllByCriteria(PrecertErrorSearchRequest precertErrorSearchRequest) {
-		// TODO Auto-generated method stub
-		return 0;
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<PreCertificationError> root = query.from(PreCertificationError.class);
+        /*
+         * Same inner joins as the search selects, so the count matches the errors the search can return. 
+         */
+        root.join("nibrsErrorCodeType");
+        root.join("segmentActionType");
+        
+        List<Predicate> predicates = getPreCertificationErrorPredicates(precertErrorSearchRequest, root, criteriaBuilder);
+        
+		query.select(criteriaBuilder.count(root.get("preCertificationErrorId")))
+			.where(criteriaBuilder.and(predicates.toArray(new Predicate[predicates.size()])));
+		return entityManager.createQuery(query).getSingleResult();
+	}
+
+	@Override
+	public List<Integer> findIdsByIncidentDeleteRequest(IncidentDeleteRequest incidentDeleteRequest) {
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Integer> query = criteriaBuilder.createQuery(Integer.class);
+		Root<PreCertificationError> root = query.from(PreCertificationError.class);
+		
+		List<Predicate> predicates = new ArrayList<>();
+		if (incidentDeleteRequest.getOwnerId() != null) {
+			predicates.add(criteriaBuilder.equal(root.get("owner").get("ownerId"), incidentDeleteRequest.getOwnerId()));
+		}
+		if (StringUtils.isNotBlank(incidentDeleteRequest.getStateCode())) {
+			predicates.add(criteriaBuilder.equal(root.get("agency").get("stateCode"), incidentDeleteRequest.getStateCode()));
+		}
+		if (incidentDeleteRequest.getAgencyId() != null) {
+			predicates.add(criteriaBuilder.equal(root.get("agency").get("agencyId"), incidentDeleteRequest.getAgencyId()));
+		}
+		if (StringUtils.isNotBlank(incidentDeleteRequest.getSubmissionYear())) {
+			predicates.add(criteriaBuilder.equal(root.get("yearOfTape"), incidentDeleteRequest.getSubmissionYear()));
+		}
+		if (StringUtils.isNotBlank(incidentDeleteRequest.getSubmissionMonth())) {
+			predicates.add(criteriaBuilder.equal(root.get("monthOfTape"), incidentDeleteRequest.getSubmissionMonth()));
+		}
+		
+		query.select(root.get("preCertificationErrorId"))
+			.where(predicates.toArray(new Predicate[predicates.size()]));
+		return entityManager.createQuery(query).getResultList();
 	}
 
 }
@@ -15,12 +15,17 @@
  */
 package org.search.nibrs.stagingdata.repository.segment;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.Query;
+import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.CriteriaQuery;
@@ -31,6 +36,7 @@ import javax.persistence.criteria.Root;
 import javax.persistence.criteria.Subquery;
 
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.Hibernate;
 import org.search.nibrs.stagingdata.model.ArresteeSegmentWasArmedWith;
 import org.search.nibrs.stagingdata.model.PropertyType;
 import org.search.nibrs.stagingdata.model.Submission;
@@ -38,14 +44,17 @@ import org.search.nibrs.stagingdata.model.SuspectedDrugType;
 import org.search.nibrs.stagingdata.model.TypeOfWeaponForceInvolved;
 import org.search.nibrs.stagingdata.model.UcrOffenseCodeType;
 import org.search.nibrs.stagingdata.model.VictimOffenderAssociation;
+import org.search.nibrs.stagingdata.model.search.IncidentDeleteRequest;
 import org.search.nibrs.stagingdata.model.search.IncidentPointer;
 import org.search.nibrs.stagingdata.model.search.IncidentSearchRequest;
+import org.search.nibrs.stagingdata.model.search.ReportType;
 import org.search.nibrs.stagingdata.model.segment.AdministrativeSegment;
 import org.search.nibrs.stagingdata.model.segment.ArresteeSegment;
 import org.search.nibrs.stagingdata.model.segment.OffenderSegment;
 import org.search.nibrs.stagingdata.model.segment.OffenseSegment;
 import org.search.nibrs.stagingdata.model.segment.PropertySegment;
 import org.search.nibrs.stagingdata.model.segment.VictimSegment;
+import org.search.nibrs.stagingdata.util.DateUtils;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -55,6 +64,15 @@ public class AdministrativeSegmentRepositorCustomImpl implements AdministrativeS
 
 	@Override
 	public List<IncidentPointer> findAllByCriteria(IncidentSearchRequest incidentSearchRequest) {
+		return findAllByCriteria(incidentSearchRequest, null);
+	}
+	
+	/**
+	 * The incidents of the search in IncidentSearchResult.REPORT_ORDER, after the page key of the request and at most 
+	 * maxResults of them, so the database sorts and cuts the page. 
+	 */
+	@Override
+	public List<IncidentPointer> findAllByCriteria(IncidentSearchRequest incidentSearchRequest, Integer maxResults) {
 		
         CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
         CriteriaQuery<IncidentPointer> query = criteriaBuilder.createQuery(IncidentPointer.class);
@@ -88,12 +106,21 @@ public class AdministrativeSegmentRepositorCustomImpl implements AdministrativeS
 		
 
         List<Predicate> queryPredicates = getAdministrativeSegmentPredicates(incidentSearchRequest, root, criteriaBuilder, submissionJoin);
+        Predicate pageAfterPredicate = IncidentSearchPredicates.getPageAfterPredicate(incidentSearchRequest, ReportType.GroupA, 
+        		criteriaBuilder, root.get("reportTimestamp"), root.get("administrativeSegmentId"));
+        if (pageAfterPredicate != null) {
+        	queryPredicates.add(pageAfterPredicate);
+        }
         
         query.where(criteriaBuilder.and(
-        		queryPredicates.toArray( new Predicate[queryPredicates.size()])));
+        		queryPredicates.toArray( new Predicate[queryPredicates.size()])))
+        	.orderBy(criteriaBuilder.desc(root.get("reportTimestamp")), criteriaBuilder.desc(root.get("administrativeSegmentId")));
         
-		return entityManager.createQuery(query)
-	            .getResultList();
+		TypedQuery<IncidentPointer> typedQuery = entityManager.createQuery(query);
+		if (maxResults != null) {
+			typedQuery.setMaxResults(maxResults);
+		}
+		return typedQuery.getResultList();
 	}
 
 	@Override
@@ -110,6 +137,37 @@ public class AdministrativeSegmentRepositorCustomImpl implements AdministrativeS
 		return entityManager.createQuery(query).getSingleResult();
 	}
 
+	/**
+	 * Count the incidents of the search the FBI submission page can still submit, with the offense the search 
+	 * results show for each incident. 
+	 */
+	@Override
+	public long countEligibleFbiSubmissionByCriteria(IncidentSearchRequest incidentSearchRequest) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<AdministrativeSegment> root = query.from(AdministrativeSegment.class);
+        
+        Subquery<Integer> offenseCodeTypeIdSubQuery = query.subquery(Integer.class);
+        Root<OffenseSegment> offenseSubRoot = offenseCodeTypeIdSubQuery.from(OffenseSegment.class);
+        offenseCodeTypeIdSubQuery.select(criteriaBuilder.min(offenseSubRoot.get("ucrOffenseCodeType").get("ucrOffenseCodeTypeId")));
+        offenseCodeTypeIdSubQuery.where(criteriaBuilder.equal(
+        		offenseSubRoot.get("administrativeSegment").get("administrativeSegmentId"), 
+        		root.get("administrativeSegmentId")));
+        
+        Join<AdministrativeSegment, OffenseSegment> offenseSegmentJoin = root.join("offenseSegments", JoinType.LEFT);
+        offenseSegmentJoin.on(criteriaBuilder.equal(offenseSegmentJoin.get("ucrOffenseCodeType").get("ucrOffenseCodeTypeId"), offenseCodeTypeIdSubQuery));
+        Join<OffenseSegment, UcrOffenseCodeType> ucrOffenseCodeTypeJoin = offenseSegmentJoin.join("ucrOffenseCodeType", JoinType.LEFT);
+        Join<AdministrativeSegment, Submission> submissionJoin = root.join("submission", JoinType.LEFT);
+        
+        List<Predicate> predicates = getAdministrativeSegmentPredicates(incidentSearchRequest, root, criteriaBuilder, submissionJoin);
+        predicates.add(IncidentSearchPredicates.getEligibleFbiSubmissionPredicate(criteriaBuilder, 
+        		ucrOffenseCodeTypeJoin.get("nibrsCode"), submissionJoin));
+        
+		query.select(criteriaBuilder.count(root.get("administrativeSegmentId")))
+			.where(criteriaBuilder.and(predicates.toArray(new Predicate[predicates.size()])));
+		return entityManager.createQuery(query).getSingleResult();
+	}
+
 	private List<Predicate> getAdministrativeSegmentPredicates(IncidentSearchRequest incidentSearchRequest,
 			Root<AdministrativeSegment> root, CriteriaBuilder criteriaBuilder, Join<AdministrativeSegment, Submission> submissionJoin) {
 		List<Predicate> predicates = new ArrayList<>();
@@ -181,14 +239,12 @@ public class AdministrativeSegmentRepositorCustomImpl implements AdministrativeS
         	}
         	
          	if (incidentSearchRequest.getSubmissionStartDate() != null ) {
-         		predicates.add(criteriaBuilder.and(criteriaBuilder.greaterThanOrEqualTo(
-         				criteriaBuilder.function("concat", String.class, root.get("yearOfTape"), criteriaBuilder.literal("-"), root.get("monthOfTape"),  criteriaBuilder.literal("-01")), 
-         				incidentSearchRequest.getSubmissionStartDate().toString())));
+         		predicates.add(criteriaBuilder.and(criteriaBuilder.greaterThanOrEqualTo(root.get("submissionPeriod"), 
+         				DateUtils.getSubmissionPeriod(incidentSearchRequest.getSubmissionStartDate()))));
          	}
          	if (incidentSearchRequest.getSubmissionEndDate() != null ) {
-         		predicates.add(criteriaBuilder.and(criteriaBuilder.lessThanOrEqualTo(
-         				criteriaBuilder.function("concat", String.class, root.get("yearOfTape"), criteriaBuilder.literal("-"), root.get("monthOfTape"),  criteriaBuilder.literal("-01")), 
-         				incidentSearchRequest.getSubmissionEndDate().toString())));
+         		predicates.add(criteriaBuilder.and(criteriaBuilder.lessThanOrEqualTo(root.get("submissionPeriod"), 
+         				DateUtils.getSubmissionPeriod(incidentSearchRequest.getSubmissionEndDate()))));
          	}
         }
 		return predicates;
@@ -203,6 +259,167 @@ public class AdministrativeSegmentRepositorCustomImpl implements AdministrativeS
 	      return rowsUpdated;
 	  }
 
+	/**
+	 * Load the incidents with all their segments without fetch joining the segment collections.  The incidents come 
+	 * with their single valued associations, each segment collection is then read with one subselect for the whole 
+	 * batch, and the eager collections of the segments, like the weapon and property types, in batches of 100 owners. 
+	 */
+	@Override
+	public List<AdministrativeSegment> findAllWithSegmentsByIds(List<Integer> administrativeSegmentIds) {
+		if (administrativeSegmentIds.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		List<AdministrativeSegment> administrativeSegments = entityManager
+				.createQuery("SELECT a FROM AdministrativeSegment a WHERE a.administrativeSegmentId IN :ids "
+						+ "ORDER BY a.administrativeSegmentId", AdministrativeSegment.class)
+				.setParameter("ids", administrativeSegmentIds)
+				.setHint("javax.persistence.loadgraph", entityManager.getEntityGraph("administrativeSegmentReferences"))
+				.getResultList();
+
+		for (AdministrativeSegment administrativeSegment : administrativeSegments) {
+			Hibernate.initialize(administrativeSegment.getOffenseSegments());
+			Hibernate.initialize(administrativeSegment.getPropertySegments());
+			Hibernate.initialize(administrativeSegment.getOffenderSegments());
+			Hibernate.initialize(administrativeSegment.getVictimSegments());
+			Hibernate.initialize(administrativeSegment.getArresteeSegments());
+		}
+		return administrativeSegments;
+	}
+
+	/**
+	 * Read the columns the Return A counts with one narrow query per segment type instead of loading the
+	 * AdministrativeSegment graph, which multiplies the rows by every eagerly fetched collection.
+	 */
+	@Override
+	public List<ReturnAIncident> findReturnAIncidentsByIds(List<Integer> administrativeSegmentIds) {
+		if (administrativeSegmentIds.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		Map<Integer, ReturnAIncident> incidents = new LinkedHashMap<>();
+		for (Object[] row : selectByIds("SELECT a.administrativeSegmentId, a.incidentDate, d.yearNum, a.incidentHour, c.nibrsCode, "
+				+ "ag.agencyId, ag.agencyOri, ag.agencyName, ag.Population, ag.stateCode, ag.stateName "
+				+ "FROM AdministrativeSegment a LEFT JOIN a.agency ag LEFT JOIN a.incidentDateType d "
+				+ "LEFT JOIN a.clearedExceptionallyType c "
+				+ "WHERE a.administrativeSegmentId IN :ids ORDER BY a.administrativeSegmentId", administrativeSegmentIds)) {
+			incidents.put((Integer) row[0], new ReturnAIncident((Integer) row[0], (LocalDate) row[1], (Integer) row[2],
+					(String) row[3], (String) row[4], (Integer) row[5], (String) row[6], (String) row[7], (Integer) row[8],
+					(String) row[9], (String) row[10]));
+		}
+
+		Map<Integer, ReturnAIncident.Offense> offenses = new HashMap<>();
+		for (Object[] row : selectByIds("SELECT o.administrativeSegment.administrativeSegmentId, o.offenseSegmentId, u.nibrsCode, "
+				+ "o.offenseAttemptedCompleted, l.nibrsCode, o.numberOfPremisesEntered, m.nibrsCode "
+				+ "FROM OffenseSegment o LEFT JOIN o.ucrOffenseCodeType u LEFT JOIN o.locationType l LEFT JOIN o.methodOfEntryType m "
+				+ "WHERE o.administrativeSegment.administrativeSegmentId IN :ids ORDER BY o.offenseSegmentId", administrativeSegmentIds)) {
+			ReturnAIncident.Offense offense = new ReturnAIncident.Offense((Integer) row[1], (String) row[2], (String) row[3],
+					(String) row[4], (Integer) row[5], (String) row[6]);
+			offenses.put(offense.getOffenseSegmentId(), offense);
+			incidents.get(row[0]).getOffenses().add(offense);
+		}
+
+		for (Object[] row : selectByIds("SELECT w.offenseSegment.offenseSegmentId, t.nibrsCode "
+				+ "FROM TypeOfWeaponForceInvolved w JOIN w.typeOfWeaponForceInvolvedType t "
+				+ "WHERE w.offenseSegment.administrativeSegment.administrativeSegmentId IN :ids "
+				+ "ORDER BY w.typeOfWeaponForceInvolvedId", administrativeSegmentIds)) {
+			offenses.get(row[0]).getWeaponForceCodes().add((String) row[1]);
+		}
+
+		Map<Integer, ReturnAIncident.Victim> victims = new HashMap<>();
+		for (Object[] row : selectByIds("SELECT v.administrativeSegment.administrativeSegmentId, v.victimSegmentId, s.nibrsCode "
+				+ "FROM VictimSegment v LEFT JOIN v.sexOfPersonType s "
+				+ "WHERE v.administrativeSegment.administrativeSegmentId IN :ids ORDER BY v.victimSegmentId", administrativeSegmentIds)) {
+			ReturnAIncident.Victim victim = new ReturnAIncident.Victim((Integer) row[1], (String) row[2]);
+			victims.put(victim.getVictimSegmentId(), victim);
+			incidents.get(row[0]).getVictims().add(victim);
+		}
+
+		for (Object[] row : selectByIds("SELECT v.victimSegmentId, o.offenseSegmentId, u.nibrsCode "
+				+ "FROM VictimSegment v JOIN v.offenseSegments o LEFT JOIN o.ucrOffenseCodeType u "
+				+ "WHERE v.administrativeSegment.administrativeSegmentId IN :ids ORDER BY v.victimSegmentId, o.offenseSegmentId",
+				administrativeSegmentIds)) {
+			ReturnAIncident.Victim victim = victims.get(row[0]);
+			victim.getOffenseSegmentIds().add((Integer) row[1]);
+			victim.getConnectedOffenseCodes().add((String) row[2]);
+		}
+
+		Map<Integer, ReturnAIncident.Property> properties = new HashMap<>();
+		for (Object[] row : selectByIds("SELECT p.administrativeSegment.administrativeSegmentId, p.propertySegmentId, t.nibrsCode, "
+				+ "p.numberOfStolenMotorVehicles, p.numberOfRecoveredMotorVehicles "
+				+ "FROM PropertySegment p LEFT JOIN p.typePropertyLossEtcType t "
+				+ "WHERE p.administrativeSegment.administrativeSegmentId IN :ids ORDER BY p.propertySegmentId", administrativeSegmentIds)) {
+			ReturnAIncident.Property property = new ReturnAIncident.Property((Integer) row[1], (String) row[2],
+					(Integer) row[3], (Integer) row[4]);
+			properties.put(property.getPropertySegmentId(), property);
+			incidents.get(row[0]).getProperties().add(property);
+		}
+
+		for (Object[] row : selectByIds("SELECT pt.propertySegment.propertySegmentId, d.nibrsCode, pt.valueOfProperty, pt.recoveredDate, "
+				+ "r.yearNum, r.monthNum "
+				+ "FROM PropertyType pt LEFT JOIN pt.propertyDescriptionType d LEFT JOIN pt.recoveredDateType r "
+				+ "WHERE pt.propertySegment.administrativeSegment.administrativeSegmentId IN :ids ORDER BY pt.propertyTypeId",
+				administrativeSegmentIds)) {
+			properties.get(row[0]).getPropertyItems().add(new ReturnAIncident.PropertyItem((String) row[1], (Double) row[2],
+					row[3] != null, (Integer) row[4], (Integer) row[5]));
+		}
+
+		for (Object[] row : selectByIds("SELECT a.administrativeSegment.administrativeSegmentId, a.ageOfArresteeMin, a.ageOfArresteeMax, "
+				+ "a.nonNumericAge FROM ArresteeSegment a WHERE a.administrativeSegment.administrativeSegmentId IN :ids",
+				administrativeSegmentIds)) {
+			incidents.get(row[0]).getArresteeAges().add(
+					new ReturnAIncident.PersonAge((Integer) row[1], (Integer) row[2], (String) row[3]));
+		}
+
+		for (Object[] row : selectByIds("SELECT o.administrativeSegment.administrativeSegmentId, o.ageOfOffenderMin, o.ageOfOffenderMax, "
+				+ "o.nonNumericAge FROM OffenderSegment o WHERE o.administrativeSegment.administrativeSegmentId IN :ids",
+				administrativeSegmentIds)) {
+			incidents.get(row[0]).getOffenderAges().add(
+					new ReturnAIncident.PersonAge((Integer) row[1], (Integer) row[2], (String) row[3]));
+		}
+
+		return new ArrayList<>(incidents.values());
+	}
+
+	private List<Object[]> selectByIds(String jpql, List<Integer> administrativeSegmentIds) {
+		return entityManager.createQuery(jpql, Object[].class)
+				.setParameter("ids", administrativeSegmentIds)
+				.getResultList();
+	}
+
+	@Override
+	public List<Integer> findIdsByIncidentDeleteRequest(IncidentDeleteRequest incidentDeleteRequest) {
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Integer> query = criteriaBuilder.createQuery(Integer.class);
+		Root<AdministrativeSegment> root = query.from(AdministrativeSegment.class);
+		
+		List<Predicate> predicates = new ArrayList<>();
+		if (incidentDeleteRequest.getOwnerId() != null && incidentDeleteRequest.getOwnerId() != 0) {
+			predicates.add(criteriaBuilder.equal(root.get("owner").get("ownerId"), incidentDeleteRequest.getOwnerId()));
+		}
+		if (StringUtils.isNotBlank(incidentDeleteRequest.getStateCode())) {
+			predicates.add(criteriaBuilder.equal(root.get("agency").get("stateCode"), incidentDeleteRequest.getStateCode().trim()));
+		}
+		if (incidentDeleteRequest.getAgencyId() != null && incidentDeleteRequest.getAgencyId() != 0) {
+			predicates.add(criteriaBuilder.equal(root.get("agency").get("agencyId"), incidentDeleteRequest.getAgencyId()));
+		}
+		if (StringUtils.isNotBlank(incidentDeleteRequest.getSubmissionYear())) {
+			predicates.add(criteriaBuilder.equal(root.get("yearOfTape"), incidentDeleteRequest.getSubmissionYear()));
+		}
+		if (StringUtils.isNotBlank(incidentDeleteRequest.getSubmissionMonth())) {
+			predicates.add(criteriaBuilder.equal(root.get("monthOfTape"), incidentDeleteRequest.getSubmissionMonth()));
+		}
+		
+		query.select(root.get("administrativeSegmentId"))
+			.where(predicates.toArray(new Predicate[predicates.size()]));
+		return entityManager.createQuery(query).getResultList();
+	}
+
+	/**
+	 * Delete the incidents with set-based deletes of each of their tables, children first, instead of loading and removing 
+	 * every entity.  Hibernate clears the join tables of the many to many mappings with the bulk deletes of their owners.  
+	 * The ids are bound in in lists, so the callers pass them in chunks.
+	 */
 	@Override
 	public Integer deleteByIds(List<Integer> administrativeSegmentIds) {
 		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
@@ -16,9 +16,13 @@
 package org.search.nibrs.stagingdata.repository.segment;
 
 import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
+import javax.persistence.LockModeType;
+
 import org.springframework.transaction.annotation.Transactional;
 
 import org.search.nibrs.stagingdata.model.segment.AdministrativeSegment;
@@ -26,6 +30,8 @@ import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -42,22 +48,49 @@ public interface AdministrativeSegmentRepository
 	@EntityGraph(value="allAdministrativeSegmentJoins", type=EntityGraphType.LOAD)
 	AdministrativeSegment findByAdministrativeSegmentId(Integer administrativeSegmentId);
 	
-	@Query("SELECT count(*) > 0 from AdministrativeSegment a "
+	/**
+	 * All persisted versions of the incidents with any of the incident numbers and any of the ORIs, so that a whole batch of incidents 
+	 * can be checked for existing and later versions with one query; see ReportVersions.
+	 */
+	@Query("SELECT new org.search.nibrs.stagingdata.repository.segment.ReportVersion(a.administrativeSegmentId, a.incidentNumber, a.ori, "
+			+ "		o.ownerId, a.yearOfTape, a.monthOfTape, s.nibrsCode) "
+			+ "FROM AdministrativeSegment a "
+			+ "LEFT JOIN a.owner o "
 			+ "LEFT JOIN a.segmentActionType s "
-			+ "WHERE a.administrativeSegmentId = "
-			+ "		(SELECT max(administrativeSegmentId) FROM AdministrativeSegment "
-			+ "			where incidentNumber = ?1 and ori = ?2) "
-			+ "		AND s.nibrsCode != 'D' ")
-	boolean existsByIncidentNumberAndOri(String incidentNumber, String ori);
+			+ "WHERE a.ori in (?1) AND a.incidentNumber in (?2) ")
+	List<ReportVersion> findReportVersionsByOriListAndIncidentNumberList(Collection<String> oris, Collection<String> incidentNumbers);
 	
-	@Query("SELECT count(*) > 0 from AdministrativeSegment a "
-			+ "LEFT JOIN a.segmentActionType s "
-			+ "WHERE a.administrativeSegmentId = "
-			+ "		(SELECT max(administrativeSegmentId) FROM AdministrativeSegment aa "
-			+ "			where aa.incidentNumber = ?1 and aa.ori = ?2 AND "
-			+ "				(?4 = null OR ?4 = 0 OR aa.owner.ownerId = ?4 )) "
-			+ "		and cast(concat(a.yearOfTape, '-', a.monthOfTape, '-01') as date) > ?3")
-	boolean existsByIncidentNumberAndOriAndSubmissionDateAndOwnerId(String incidentNumber, String ori, Date submissionDate, Integer ownerId);
+	/**
+	 * All persisted versions of the incidents with any of the incident numbers, for setting their current version indicators.  Locks the 
+	 * rows (SELECT ... FOR UPDATE) so that the versions written by concurrent transactions are read as committed; the agency and 
+	 * owner ids are read from the foreign keys rather than joins, so that the agency and owner rows are not locked as well.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT new org.search.nibrs.stagingdata.repository.segment.SegmentVersion(a.administrativeSegmentId, a.incidentNumber, "
+			+ "		a.agency.agencyId, a.owner.ownerId, a.currentVersionIndicator, a.currentOwnerVersionIndicator) "
+			+ "FROM AdministrativeSegment a "
+			+ "WHERE a.incidentNumber in (?1) ")
+	List<SegmentVersion> findSegmentVersionsByIncidentNumberList(Collection<String> incidentNumbers);
+	
+	@Modifying
+	@Query("UPDATE AdministrativeSegment a SET a.currentVersionIndicator = ?2 WHERE a.administrativeSegmentId in (?1) ")
+	int updateCurrentVersionIndicator(Collection<Integer> administrativeSegmentIds, Boolean currentVersionIndicator);
+	
+	@Modifying
+	@Query("UPDATE AdministrativeSegment a SET a.currentOwnerVersionIndicator = ?2 WHERE a.administrativeSegmentId in (?1) ")
+	int updateCurrentOwnerVersionIndicator(Collection<Integer> administrativeSegmentIds, Boolean currentOwnerVersionIndicator);
+	
+	@Query("SELECT a.administrativeSegmentId from AdministrativeSegment a "
+			+ "WHERE a.ori = ?1 AND a.yearOfTape = ?2 AND a.monthOfTape = ?3 ")
+	List<Integer> findIdsByOriAndYearOfTapeAndMonthOfTape(String ori, String yearOfTape, String monthOfTape);
+	
+	@Query("SELECT a.administrativeSegmentId from AdministrativeSegment a "
+			+ "WHERE a.incidentNumber = ?1 ")
+	List<Integer> findIdsByIncidentNumber(String incidentNumber);
+	
+	@Query("SELECT DISTINCT a.incidentNumber from AdministrativeSegment a "
+			+ "WHERE a.administrativeSegmentId in (?1) ")
+	List<String> findIncidentNumbersByAdministrativeSegmentIds(Collection<Integer> administrativeSegmentIds);
 	
 	@Query("SELECT distinct a.agency.agencyId from AdministrativeSegment a "
 			+ "WHERE ?1 = null OR a.owner.ownerId = ?1 ")
@@ -76,11 +109,11 @@ public interface AdministrativeSegmentRepository
 			+ "LEFT JOIN a.submission s "
 			+ "WHERE (?1 = null OR a.ori in (?1)) AND "
 			+ "		(?4 = null OR a.agency.agencyId in (?4)) AND "
-			+ "		(?2 = null OR cast(concat(a.yearOfTape, '-', a.monthOfTape, '-01') as date) >= ?2 ) AND "
-			+ "		(?3 = null OR cast(concat(a.yearOfTape, '-', a.monthOfTape, '-01') as date) <= ?3) AND "
+			+ "		(?2 = null OR a.submissionPeriod >= ?2 ) AND "
+			+ "		(?3 = null OR a.submissionPeriod <= ?3) AND "
 			+ "     ( s = null OR (s.acceptedIndicator=0 AND s.faultCode is not null ))"
 			+ "ORDER BY a.administrativeSegmentId asc ")
-	List<Integer> findIdsByOriListAndSubmissionDateRange(List<String> oris, Date startDate, Date endDate, List<Integer> agencyIds);
+	List<Integer> findIdsByOriListAndSubmissionDateRange(List<String> oris, Integer startPeriod, Integer endPeriod, List<Integer> agencyIds);
 	
 	@Query("SELECT DISTINCT year(a.incidentDate) as incidentYear from AdministrativeSegment a "
 			+ "WHERE a.agency.agencyId = ?1 AND (?2 = null OR ?2=0 OR a.owner.ownerId = ?2)"
@@ -88,151 +121,131 @@ public interface AdministrativeSegmentRepository
 	List<Integer> findDistinctYears(Integer agencyId, Integer ownerId);
 	
 	@Query("SELECT DISTINCT month(a.incidentDate) as incidentMonth from AdministrativeSegment a "
-			+ "WHERE a.agency.agencyId = ?1 AND year(a.incidentDate) = ?2 AND (?3 = null OR ?3 = 0 OR a.owner.ownerId = ?3)"
+			+ "WHERE a.agency.agencyId = ?1 AND a.incidentDate >= ?2 AND a.incidentDate < ?3 AND (?4 = null OR ?4 = 0 OR a.owner.ownerId = ?4)"
 			+ "ORDER BY incidentMonth ")
-	List<Integer> findDistinctMonths(Integer agencyId, Integer Year, Integer ownerId);
+	List<Integer> findDistinctMonths(Integer agencyId, LocalDate startDate, LocalDate endDate, Integer ownerId);
 	
 	@Query("SELECT a.administrativeSegmentId from AdministrativeSegment a "
-			+ "LEFT JOIN a.arresteeSegments ar "
-			+ "WHERE a.administrativeSegmentId = ( SELECT max(administrativeSegmentId) "
-			+ "				FROM AdministrativeSegment aa "
-			+ "				WHERE aa.incidentNumber = a.incidentNumber AND"
-			+ "					aa.agency.agencyId = a.agency.agencyId AND "
-			+ "					(?4 = null OR ?4 = 0 OR aa.owner.ownerId = ?4 ) "
-			+ "				GROUP BY aa.incidentNumber ) AND "
+			+ "JOIN a.arresteeSegments ar "
+			+ "WHERE ((?4 = null OR ?4 = 0) AND a.currentVersionIndicator = true OR "
+			+ "			a.owner.ownerId = ?4 AND a.currentOwnerVersionIndicator = true) AND "
 			+ "		(?1 = null OR a.ori = ?1 ) AND "
-			+ "		( year(ar.arrestDate) = ?2 AND ( ?3=0 OR month(ar.arrestDate) = ?3) ) ")
-	List<Integer> findIdsByOriAndArrestDate(String ori, Integer year, Integer month, Integer ownerId);
+			+ "		(ar.arrestDate >= ?2 AND ar.arrestDate < ?3) ")
+	List<Integer> findIdsByOriAndArrestDate(String ori, LocalDate startDate, LocalDate endDate, Integer ownerId);
 	
 	@Query("SELECT a.administrativeSegmentId from AdministrativeSegment a "
-			+ "LEFT JOIN a.arresteeSegments ar "
-			+ "WHERE a.administrativeSegmentId = ( SELECT max(administrativeSegmentId) "
-			+ "				FROM AdministrativeSegment aa "
-			+ "				WHERE aa.incidentNumber = a.incidentNumber AND"
-			+ "					aa.agency.agencyId = a.agency.agencyId AND "
-			+ "					(?5 = null OR ?5 = 0 OR aa.owner.ownerId = ?5) "
-			+ "				GROUP BY aa.incidentNumber ) AND "
+			+ "JOIN a.arresteeSegments ar "
+			+ "WHERE ((?5 = null OR ?5 = 0) AND a.currentVersionIndicator = true OR "
+			+ "			a.owner.ownerId = ?5 AND a.currentOwnerVersionIndicator = true) AND "
 			+ "		(?1 = null OR ?1='' OR a.agency.stateCode = ?1 ) AND "
 			+ "		(?2 = null OR a.agency.agencyId = ?2 ) AND "
-			+ "		( year(ar.arrestDate) = ?3 AND ( ?4=null OR ?4=0 OR month(ar.arrestDate) = ?4) ) ")
-	List<Integer> findIdsByStateAndAgencyAndArrestDate(String stateCode, Integer agencyId, Integer arrestYear,
-			Integer arrestMonth, Integer ownerId);
+			+ "		(ar.arrestDate >= ?3 AND ar.arrestDate < ?4) ")
+	List<Integer> findIdsByStateAndAgencyAndArrestDate(String stateCode, Integer agencyId, LocalDate startDate,
+			LocalDate endDate, Integer ownerId);
 
 	
 	@Query("SELECT count(DISTINCT a.administrativeSegmentId) from AdministrativeSegment a "
 			+ "LEFT JOIN a.submission s "
 			+ "WHERE (?1 = null OR a.ori in (?1)) AND "
 			+ "		(?4 = null OR a.agency.agencyId in (?4)) AND "
-			+ "		(?2 = null OR cast(concat(a.yearOfTape, '-', a.monthOfTape, '-01') as date) >= ?2 ) AND "
-			+ "		(?3 = null OR cast(concat(a.yearOfTape, '-', a.monthOfTape, '-01') as date) <= ?3)  AND "
+			+ "		(?2 = null OR a.submissionPeriod >= ?2 ) AND "
+			+ "		(?3 = null OR a.submissionPeriod <= ?3)  AND "
 			+ "     ( s = null OR (s.acceptedIndicator=0 AND s.faultCode is not null ) )")
-	long countByOriListAndSubmissionDateRange(List<String> oris, Date startDate, Date endDate, List<Integer> agencyIds);
+	long countByOriListAndSubmissionDateRange(List<String> oris, Integer startPeriod, Integer endPeriod, List<Integer> agencyIds);
 	
 	@Query("SELECT a.administrativeSegmentId from AdministrativeSegment a "
-			+ "WHERE a.administrativeSegmentId = ( SELECT max(administrativeSegmentId) "
-			+ "				FROM AdministrativeSegment aa "
-			+ "				WHERE aa.incidentNumber = a.incidentNumber AND "
-			+ "					aa.agency.agencyId = a.agency.agencyId "
-			+ "				GROUP BY aa.incidentNumber ) AND "
+			+ "WHERE a.currentVersionIndicator = true AND "
 			+ "		(?1 = null OR a.ori = ?1) AND "
-			+ "		(year(a.incidentDate) = ?2 AND ( ?3 = 0 OR month(a.incidentDate) = ?3)) ")
-	List<Integer> findIdsByOriAndIncidentDate(String ori, Integer year, Integer month);
-	
-	Integer deleteByOriAndYearOfTapeAndMonthOfTape(String ori, String yearOfTape, String monthOfTape);
+			+ "		(a.incidentDate >= ?2 AND a.incidentDate < ?3) ")
+	List<Integer> findIdsByOriAndIncidentDate(String ori, LocalDate startDate, LocalDate endDate);
 	
 	@Query("SELECT distinct a.administrativeSegmentId from AdministrativeSegment a "
 			+ "LEFT JOIN a.offenseSegments ao "
-			+ "WHERE a.administrativeSegmentId = ( SELECT max(administrativeSegmentId) "
-			+ "				FROM AdministrativeSegment aa "
-			+ "				WHERE aa.incidentNumber = a.incidentNumber AND"
-			+ "					aa.agency.agencyId = a.agency.agencyId AND "
-			+ "					(?5 = null OR ?5 = 0 OR aa.owner.ownerId = ?5) "
-			+ "				GROUP BY aa.incidentNumber ) AND "
+			+ "WHERE ((?5 = null OR ?5 = 0) AND a.currentVersionIndicator = true OR "
+			+ "			a.owner.ownerId = ?5 AND a.currentOwnerVersionIndicator = true) AND "
 			+ "		ao.ucrOffenseCodeType.nibrsCode in (?6)  AND"
 			+ " 	(?1 = null OR ?1 = '' OR a.agency.stateCode = ?1) AND "
 			+ "		(?2 = null OR a.agency.agencyId = ?2) AND "
-			+ "		(year(a.incidentDate) = ?3 AND "
-			+ "		(?4 = 0 OR month(a.incidentDate) = ?4)) ")
+			+ "		(a.incidentDate >= ?3 AND a.incidentDate < ?4) ")
 	List<Integer> findIdsBySummaryReportRequestAndOffenses(String stateCode, 
-			Integer agencyId, Integer year, Integer month, Integer ownerId, 
+			Integer agencyId, LocalDate startDate, LocalDate endDate, Integer ownerId, 
 			List<String> offenseCodes);
 	
 	@Query("SELECT count(distinct a.administrativeSegmentId) from AdministrativeSegment a "
 			+ "LEFT JOIN a.offenseSegments ao "
 			+ "LEFT JOIN a.propertySegments ap "
-			+ "WHERE a.administrativeSegmentId = ( SELECT max(administrativeSegmentId) "
-			+ "				FROM AdministrativeSegment aa "
-			+ "				WHERE aa.incidentNumber = a.incidentNumber AND"
-			+ "					aa.agency.agencyId = a.agency.agencyId AND "
-			+ "					(?5 = null OR ?5 = 0 OR aa.owner.ownerId = ?5) "
-			+ "				GROUP BY aa.incidentNumber ) AND "
+			+ "WHERE ((?5 = null OR ?5 = 0) AND a.currentVersionIndicator = true OR "
+			+ "			a.owner.ownerId = ?5 AND a.currentOwnerVersionIndicator = true) AND "
 			+ "		ao.ucrOffenseCodeType.ucrOffenseCodeTypeId =200 AND"
 			+ "		(ao.offenseAttemptedCompleted = 'A' OR ao.offenseAttemptedCompleted = 'C') AND"
 			+ "		(ap.typePropertyLossEtcType.typePropertyLossEtcTypeId = 2 ) AND"
 			+ " 	(?1 = null OR ?1 = '' OR a.agency.stateCode = ?1) AND "
 			+ "		(?2 = null OR a.agency.agencyId = ?2) AND "
-			+ "		(year(a.incidentDate) = ?3 AND "
-			+ "		(?4 = 0 OR month(a.incidentDate) = ?4)) ")
+			+ "		(a.incidentDate >= ?3 AND a.incidentDate < ?4) ")
 	Integer countArsonBySummaryReportRequestAndOffenses(String stateCode, 
-			Integer agencyId, Integer year, Integer month, Integer ownerId);
+			Integer agencyId, LocalDate startDate, LocalDate endDate, Integer ownerId);
 	
 	@Query("SELECT distinct a.administrativeSegmentId from AdministrativeSegment a "
 			+ "LEFT JOIN a.offenseSegments ao "
 			+ "LEFT JOIN a.propertySegments ap "
-			+ "WHERE a.administrativeSegmentId = ( SELECT max(administrativeSegmentId) "
-			+ "				FROM AdministrativeSegment aa "
-			+ "				WHERE aa.incidentNumber = a.incidentNumber AND"
-			+ "					aa.agency.agencyId = a.agency.agencyId AND "
-			+ "					(?5 = null OR ?5 = 0 OR aa.owner.ownerId = ?5) "
-			+ "				GROUP BY aa.incidentNumber ) AND "
+			+ "WHERE ((?5 = null OR ?5 = 0) AND a.currentVersionIndicator = true OR "
+			+ "			a.owner.ownerId = ?5 AND a.currentOwnerVersionIndicator = true) AND "
 			+ "		ao.ucrOffenseCodeType.ucrOffenseCodeTypeId =200 AND"
 			+ "		(ao.offenseAttemptedCompleted = 'A' OR ao.offenseAttemptedCompleted = 'C') AND"
 			+ "		(ap.typePropertyLossEtcType.typePropertyLossEtcTypeId = 2 ) AND"
 			+ " 	(?1 = null OR ?1 = '' OR a.agency.stateCode = ?1) AND "
 			+ "		(?2 = null OR a.agency.agencyId = ?2) AND "
-			+ "		(year(a.incidentDate) = ?3 AND "
-			+ "		(?4 = 0 OR month(a.incidentDate) = ?4)) ")
+			+ "		(a.incidentDate >= ?3 AND a.incidentDate < ?4) ")
 	List<Integer> findArsonIdsBySummaryReportRequest(String stateCode, 
-			Integer agencyId, Integer year, Integer month, Integer ownerId);
+			Integer agencyId, LocalDate startDate, LocalDate endDate, Integer ownerId);
 	
 	@Query("SELECT distinct a.administrativeSegmentId from AdministrativeSegment a "
 			+ "LEFT JOIN a.offenseSegments ao "
 			+ "LEFT JOIN a.arresteeSegments ar "
-			+ "WHERE a.administrativeSegmentId = ( SELECT max(administrativeSegmentId) "
-			+ "				FROM AdministrativeSegment aa "
-			+ "				WHERE aa.incidentNumber = a.incidentNumber AND"
-			+ "					aa.agency.agencyId = a.agency.agencyId AND "
-			+ "					(?5 = null OR ?5 = 0 OR aa.owner.ownerId = ?5) "
-			+ "				GROUP BY aa.incidentNumber ) AND "
+			+ "WHERE ((?5 = null OR ?5 = 0) AND a.currentVersionIndicator = true OR "
+			+ "			a.owner.ownerId = ?5 AND a.currentOwnerVersionIndicator = true) AND "
 			+ "		ao.ucrOffenseCodeType.nibrsCode in (?6) AND "
 			+ "		(ar.arrestDate is null OR ar.arrestDate = (select min (arrestDate) from a.arresteeSegments )) AND "
 			+ " 	(?1 = null OR ?1 = '' OR a.agency.stateCode = ?1) AND "
 			+ "		(?2 = null OR a.agency.agencyId = ?2) AND "
-			+ "		((year(a.exceptionalClearanceDate) = ?3 AND ( ?4 = 0 OR month(a.exceptionalClearanceDate) = ?4)) "
-			+ "			OR ( ar.arrestDate is not null and year(ar.arrestDate.arrestDate) = ?3 AND ( ?4 = 0 OR month(ar.arrestDate) = ?4 ))) ")
+			+ "		((a.exceptionalClearanceDate >= ?7 AND a.exceptionalClearanceDate < ?8) "
+			+ "			OR ( ar.arrestDate is not null and ar.arrestDate >= ?3 AND ar.arrestDate < ?4 )) ")
 	List<Integer> findIdsByStateCodeAndOriAndClearanceDateAndOffenses(String stateCode, Integer agencyId,
-			Integer incidentYear, Integer incidentMonth, Integer ownerId, List<String> offenseCodes);
+			LocalDate startDate, LocalDate endDate, Integer ownerId, List<String> offenseCodes, 
+			Date clearanceStartDate, Date clearanceEndDate);
+	
+	/**
+	 * The exceptional clearance date is mapped as a java.util.Date, so the range is bound to it as java.sql.Date 
+	 * parameters too. 
+	 */
+	default List<Integer> findIdsByStateCodeAndOriAndClearanceDateAndOffenses(String stateCode, Integer agencyId,
+			LocalDate startDate, LocalDate endDate, Integer ownerId, List<String> offenseCodes){
+		return findIdsByStateCodeAndOriAndClearanceDateAndOffenses(stateCode, agencyId, startDate, endDate, ownerId, 
+				offenseCodes, Date.valueOf(startDate), Date.valueOf(endDate));
+	}
 	
 	@Query("SELECT distinct a.administrativeSegmentId from AdministrativeSegment a "
 			+ "LEFT JOIN a.offenseSegments ao "
 			+ "LEFT JOIN a.arresteeSegments ar "
 			+ "LEFT JOIN a.propertySegments ap "
-			+ "WHERE a.administrativeSegmentId = ( SELECT max(administrativeSegmentId) "
-			+ "				FROM AdministrativeSegment aa "
-			+ "				WHERE aa.incidentNumber = a.incidentNumber AND"
-			+ "					aa.agency.agencyId = a.agency.agencyId AND "
-			+ "					(?5 = null OR ?5 = 0 OR aa.owner.ownerId = ?5) "
-			+ "				GROUP BY aa.incidentNumber ) AND "
+			+ "WHERE ((?5 = null OR ?5 = 0) AND a.currentVersionIndicator = true OR "
+			+ "			a.owner.ownerId = ?5 AND a.currentOwnerVersionIndicator = true) AND "
 			+ "		ao.ucrOffenseCodeType.ucrOffenseCodeTypeId =200 AND "
 			+ "		(ao.offenseAttemptedCompleted = 'A' OR ao.offenseAttemptedCompleted = 'C') AND"
 			+ "		(ap.typePropertyLossEtcType.typePropertyLossEtcTypeId = 2 ) AND"
 			+ "		(ar.arrestDate = (select min (arrestDate) from a.arresteeSegments )) AND "
 			+ " 	(?1 = null OR ?1 = '' OR a.agency.stateCode = ?1) AND "
 			+ "		(?2 = null OR a.agency.agencyId = ?2) AND "
-			+ "		((year(a.exceptionalClearanceDate) = ?3 AND ( ?4 = 0 OR month(a.exceptionalClearanceDate) = ?4)) "
-			+ "			OR ( year(ar.arrestDate) = ?3 AND ( ?4 = 0 OR month(ar.arrestDate) = ?4 ))) ")
+			+ "		((a.exceptionalClearanceDate >= ?6 AND a.exceptionalClearanceDate < ?7) "
+			+ "			OR (ar.arrestDate >= ?3 AND ar.arrestDate < ?4)) ")
 	List<Integer> findArsonIdsByStateCodeAndOriAndClearanceDate(String stateCode, Integer agencyId,
-			Integer incidentYear, Integer incidentMonth, Integer ownerId);
+			LocalDate startDate, LocalDate endDate, Integer ownerId, Date clearanceStartDate, Date clearanceEndDate);
+	
+	default List<Integer> findArsonIdsByStateCodeAndOriAndClearanceDate(String stateCode, Integer agencyId,
+			LocalDate startDate, LocalDate endDate, Integer ownerId){
+		return findArsonIdsByStateCodeAndOriAndClearanceDate(stateCode, agencyId, startDate, endDate, ownerId, 
+				Date.valueOf(startDate), Date.valueOf(endDate));
+	}
 	
 	@Query("SELECT count(distinct a.administrativeSegmentId) from AdministrativeSegment a "
 			+ "WHERE a.administrativeSegmentId in ?1 AND "
@@ -243,12 +256,6 @@ public interface AdministrativeSegmentRepository
 			+ "		 NOT EXISTS(SELECT ar from a.arresteeSegments ar WHERE (ar.ageOfArresteeMin+ar.ageOfArresteeMax)/2 >= 18)))")
 	Integer countClearedArsonInvolvingOnlyJuvenile(List<Integer> administrativeIds);
 	
-	@Query("SELECT a.administrativeSegmentId from AdministrativeSegment a "
-			+ "WHERE (?1 = null OR ?1 = 0 OR a.owner.ownerId = ?1) AND "
-			+ "     ( ?2 = null OR a.agency.stateCode = ?2 ) AND "
-			+ "		(?3 = null OR ?3 = 0 OR a.agency.agencyId = ?3 ) ")
-	List<Integer> findIdsByOwnerStateAndAgency(Integer ownerId, String stateCode, Integer agencyId);
-	
 	@Query("SELECT count(a.administrativeSegmentId) from AdministrativeSegment a "
 			+ "LEFT JOIN a.owner ao "
 			+ "LEFT JOIN a.agency ag "
@@ -262,23 +269,18 @@ public interface AdministrativeSegmentRepository
 	List<Integer> findDistinctYearsByStateCode(String stateCode, Integer integer);
 
 	@Query("SELECT DISTINCT month(a.incidentDate) as incidentMonth from AdministrativeSegment a "
-			+ "WHERE a.agency.stateCode = ?1 AND year(a.incidentDate) = ?2 AND (?3 = null OR ?3 = 0 OR a.owner.ownerId = ?3)"
+			+ "WHERE a.agency.stateCode = ?1 AND a.incidentDate >= ?2 AND a.incidentDate < ?3 AND (?4 = null OR ?4 = 0 OR a.owner.ownerId = ?4)"
 			+ "ORDER BY incidentMonth ")
-	List<Integer> findDistinctMonthsByStateCode(String stateCode, Integer year, Integer integer);
+	List<Integer> findDistinctMonthsByStateCode(String stateCode, LocalDate startDate, LocalDate endDate, Integer integer);
 
 	@Query("SELECT a.administrativeSegmentId from AdministrativeSegment a "
-			+ "WHERE a.administrativeSegmentId = ( SELECT max(administrativeSegmentId) "
-			+ "				FROM AdministrativeSegment aa "
-			+ "				WHERE aa.incidentNumber = a.incidentNumber AND "
-			+ "					aa.agency.agencyId = a.agency.agencyId AND "
-			+ "					(?5 = null OR ?5 = 0 OR aa.owner.ownerId = ?5) "
-			+ "				GROUP BY aa.incidentNumber ) AND "
+			+ "WHERE ((?5 = null OR ?5 = 0) AND a.currentVersionIndicator = true OR "
+			+ "			a.owner.ownerId = ?5 AND a.currentOwnerVersionIndicator = true) AND "
 			+ "		a.cargoTheftIndicatorType.cargoTheftIndicatorTypeId = 1 AND "
 			+ "		(?1 = null OR ?1='' OR a.agency.stateCode = ?1) AND "
 			+ "		(?2 = null OR a.agency.agencyId = ?2) AND "
-			+ "		(year(a.incidentDate) = ?3 AND "
-			+ "		( ?4 = 0 OR month(a.incidentDate) = ?4)) ")
+			+ "		(a.incidentDate >= ?3 AND a.incidentDate < ?4) ")
 	List<Integer> findCargoTheftIdsByStateAndAgencyAndIncidentDate(String stateCode, Integer agencyId,
-			Integer incidentYear, Integer incidentMonth, Integer ownerId);
+			LocalDate startDate, LocalDate endDate, Integer ownerId);
 
 }
@@ -19,13 +19,20 @@ import java.util.List;
 
 import org.springframework.transaction.annotation.Transactional;
 
+import org.search.nibrs.stagingdata.model.search.IncidentDeleteRequest;
 import org.search.nibrs.stagingdata.model.search.IncidentPointer;
 import org.search.nibrs.stagingdata.model.search.IncidentSearchRequest;
+import org.search.nibrs.stagingdata.model.segment.AdministrativeSegment;
 
 @Transactional
 public interface AdministrativeSegmentRepositoryCustom{
 	List<IncidentPointer> findAllByCriteria(IncidentSearchRequest incidentSearchRequest);
+	List<IncidentPointer> findAllByCriteria(IncidentSearchRequest incidentSearchRequest, Integer maxResults);
 	long countAllByCriteria(IncidentSearchRequest incidentSearchRequest);
+	long countEligibleFbiSubmissionByCriteria(IncidentSearchRequest incidentSearchRequest);
 	int updateSubmissionId(Integer adminstrativeSegmentId, Integer submissionId);
+	List<Integer> findIdsByIncidentDeleteRequest(IncidentDeleteRequest incidentDeleteRequest);
 	Integer deleteByIds(List<Integer> administrativeSegmentIds);
+	List<ReturnAIncident> findReturnAIncidentsByIds(List<Integer> administrativeSegmentIds);
+	List<AdministrativeSegment> findAllWithSegmentsByIds(List<Integer> administrativeSegmentIds);
 }
@@ -21,6 +21,7 @@ import java.util.List;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.Query;
+import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.CriteriaQuery;
@@ -28,7 +29,6 @@ import javax.persistence.criteria.Join;
 import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
-import javax.persistence.criteria.Subquery;
 
 import org.apache.commons.lang3.StringUtils;
 import org.search.nibrs.stagingdata.model.Agency;
@@ -37,9 +37,9 @@ import org.search.nibrs.stagingdata.model.Submission;
 import org.search.nibrs.stagingdata.model.search.IncidentDeleteRequest;
 import org.search.nibrs.stagingdata.model.search.IncidentPointer;
 import org.search.nibrs.stagingdata.model.search.IncidentSearchRequest;
-import org.search.nibrs.stagingdata.model.segment.AdministrativeSegment;
+import org.search.nibrs.stagingdata.model.search.ReportType;
 import org.search.nibrs.stagingdata.model.segment.ArrestReportSegment;
-import org.search.nibrs.stagingdata.model.segment.OffenseSegment;
+import org.search.nibrs.stagingdata.util.DateUtils;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -49,6 +49,15 @@ public class ArrestReportSegmentRepositorCustomImpl implements ArrestReportSegme
 
 	@Override
 	public List<IncidentPointer> findAllByCriteria(IncidentSearchRequest incidentSearchRequest) {
+		return findAllByCriteria(incidentSearchRequest, null);
+	}
+
+	/**
+	 * The arrest reports of the search in IncidentSearchResult.REPORT_ORDER, after the page key of the request and at most 
+	 * maxResults of them, so the database sorts and cuts the page. 
+	 */
+	@Override
+	public List<IncidentPointer> findAllByCriteria(IncidentSearchRequest incidentSearchRequest, Integer maxResults) {
         CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
         CriteriaQuery<IncidentPointer> query = criteriaBuilder.createQuery(IncidentPointer.class);
         Root<ArrestReportSegment> root = query.from(ArrestReportSegment.class);
@@ -68,11 +77,21 @@ public class ArrestReportSegmentRepositorCustomImpl implements ArrestReportSegme
 		);
 
         List<Predicate> predicates = getArrestReportSegmentPredicates(incidentSearchRequest, root, criteriaBuilder, submissionJoin);
+        Predicate pageAfterPredicate = IncidentSearchPredicates.getPageAfterPredicate(incidentSearchRequest, ReportType.GroupB, 
+        		criteriaBuilder, root.get("reportTimestamp"), root.get("arrestReportSegmentId"));
+        if (pageAfterPredicate != null) {
+        	predicates.add(pageAfterPredicate);
+        }
 
         query.where(criteriaBuilder.and(
-        		predicates.toArray( new Predicate[predicates.size()])));
-		return entityManager.createQuery(query)
-	            .getResultList();
+        		predicates.toArray( new Predicate[predicates.size()])))
+        	.orderBy(criteriaBuilder.desc(root.get("reportTimestamp")), criteriaBuilder.desc(root.get("arrestReportSegmentId")));
+        
+		TypedQuery<IncidentPointer> typedQuery = entityManager.createQuery(query);
+		if (maxResults != null) {
+			typedQuery.setMaxResults(maxResults);
+		}
+		return typedQuery.getResultList();
 	}
 
 	@Override
@@ -90,6 +109,26 @@ public class ArrestReportSegmentRepositorCustomImpl implements ArrestReportSegme
 		return entityManager.createQuery(query).getSingleResult();
 	}
 
+	/**
+	 * Count the arrest reports of the search the FBI submission page can still submit. 
+	 */
+	@Override
+	public long countEligibleFbiSubmissionByCriteria(IncidentSearchRequest incidentSearchRequest) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<ArrestReportSegment> root = query.from(ArrestReportSegment.class);
+        
+        Join<ArrestReportSegment, Submission> submissionJoin = root.join("submission", JoinType.LEFT);
+        
+        List<Predicate> predicates = getArrestReportSegmentPredicates(incidentSearchRequest, root, criteriaBuilder, submissionJoin);
+        predicates.add(IncidentSearchPredicates.getEligibleFbiSubmissionPredicate(criteriaBuilder, 
+        		root.get("ucrOffenseCodeType").get("nibrsCode"), submissionJoin));
+        
+		query.select(criteriaBuilder.count(root.get("arrestReportSegmentId")))
+			.where(criteriaBuilder.and(predicates.toArray(new Predicate[predicates.size()])));
+		return entityManager.createQuery(query).getSingleResult();
+	}
+
 	private List<Predicate> getArrestReportSegmentPredicates(IncidentSearchRequest incidentSearchRequest,
 			Root<ArrestReportSegment> root, CriteriaBuilder criteriaBuilder, Join<ArrestReportSegment, Submission> submissionJoin) {
 		List<Predicate> predicates = new ArrayList<>();
@@ -162,14 +201,12 @@ public class ArrestReportSegmentRepositorCustomImpl implements ArrestReportSegme
         		predicates.add(criteriaBuilder.and(criteriaBuilder.equal(root.get("yearOfTape"), incidentSearchRequest.getSubmissionYear())));
         	}
          	if (incidentSearchRequest.getSubmissionStartDate() != null ) {
-         		predicates.add(criteriaBuilder.and(criteriaBuilder.greaterThanOrEqualTo(
-         				criteriaBuilder.function("concat", String.class, root.get("yearOfTape"), criteriaBuilder.literal("-"), root.get("monthOfTape"),  criteriaBuilder.literal("-01")), 
-         				incidentSearchRequest.getSubmissionStartDate().toString())));
+         		predicates.add(criteriaBuilder.and(criteriaBuilder.greaterThanOrEqualTo(root.get("submissionPeriod"), 
+         				DateUtils.getSubmissionPeriod(incidentSearchRequest.getSubmissionStartDate()))));
          	}
          	if (incidentSearchRequest.getSubmissionEndDate() != null ) {
-         		predicates.add(criteriaBuilder.and(criteriaBuilder.lessThanOrEqualTo(
-         				criteriaBuilder.function("concat", String.class, root.get("yearOfTape"), criteriaBuilder.literal("-"), root.get("monthOfTape"),  criteriaBuilder.literal("-01")), 
-         				incidentSearchRequest.getSubmissionEndDate().toString())));
+         		predicates.add(criteriaBuilder.and(criteriaBuilder.lessThanOrEqualTo(root.get("submissionPeriod"), 
+         				DateUtils.getSubmissionPeriod(incidentSearchRequest.getSubmissionEndDate()))));
          	}
         }
 		return predicates;
@@ -186,118 +223,74 @@ public class ArrestReportSegmentRepositorCustomImpl implements ArrestReportSegme
 	      return rowsUpdated;
 	}
 
+	/**
+	 * Delete the arrest reports with set-based deletes of their armed with rows and of the reports.  The ids are bound in 
+	 * in lists, so the callers pass them in chunks.
+	 */
 	@Override
-	public int deleteByOriAndSubmissionDate(String ori, String yearOfTape, String monthOfTape) {
+	public int deleteByIds(List<Integer> arrestReportSegmentIds) {
 		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
 		CriteriaDelete<ArrestReportSegmentWasArmedWith> arrestReportWasArmedWithDelete = criteriaBuilder.createCriteriaDelete(ArrestReportSegmentWasArmedWith.class);
 		Root<ArrestReportSegmentWasArmedWith> arrestReportWasArmedWithRoot = arrestReportWasArmedWithDelete.from(ArrestReportSegmentWasArmedWith.class);
+		arrestReportWasArmedWithDelete.where(arrestReportWasArmedWithRoot.get("arrestReportSegment").get("arrestReportSegmentId").in(arrestReportSegmentIds));
+		entityManager.createQuery(arrestReportWasArmedWithDelete).executeUpdate();
+		
+		CriteriaDelete<ArrestReportSegment> arrestReportSegmentDelete = criteriaBuilder.createCriteriaDelete(ArrestReportSegment.class);
+		Root<ArrestReportSegment> arrestReportRoot = arrestReportSegmentDelete.from(ArrestReportSegment.class);
+		arrestReportSegmentDelete.where(arrestReportRoot.get("arrestReportSegmentId").in(arrestReportSegmentIds));
 		
-        Subquery<Integer> arrestReportSubQuery = arrestReportWasArmedWithDelete.subquery(Integer.class);
-        Root<ArrestReportSegment> arrestReportSubQueryRoot = arrestReportSubQuery.from(ArrestReportSegment.class);
-        arrestReportSubQuery.select(arrestReportSubQueryRoot.get("arrestReportSegmentId"));
-        List<Predicate> armedWithPredicates = new ArrayList<>();
-        if (StringUtils.isNotBlank(ori)) {
-        	armedWithPredicates.add(criteriaBuilder.and(criteriaBuilder.equal(arrestReportSubQueryRoot.get("ori"), ori)));
-        }
-        if (StringUtils.isNotBlank(yearOfTape)) {
-        	armedWithPredicates.add(criteriaBuilder.and(criteriaBuilder.equal(arrestReportSubQueryRoot.get("yearOfTape"), yearOfTape)));
-        }
-        if (StringUtils.isNotBlank(monthOfTape)) {
-        	armedWithPredicates.add(criteriaBuilder.and(criteriaBuilder.equal(arrestReportSubQueryRoot.get("monthOfTape"), monthOfTape)));
-        }
-        arrestReportSubQuery.where(armedWithPredicates.toArray(new Predicate[armedWithPredicates.size()]));
-
-    	
-    	arrestReportWasArmedWithDelete.where(arrestReportWasArmedWithRoot.get("arrestReportSegment").get("arrestReportSegmentId").in(arrestReportSubQuery));
-    	entityManager.createQuery(arrestReportWasArmedWithDelete).executeUpdate();
-    	
-    	CriteriaDelete<ArrestReportSegment> arrestReportSegmentDelete = criteriaBuilder.createCriteriaDelete(ArrestReportSegment.class);
-    	Root<ArrestReportSegment> arrestReportRoot = arrestReportSegmentDelete.from(ArrestReportSegment.class);
-    	
-    	List<Predicate> predicates = new ArrayList<>();
-    	if (StringUtils.isNotBlank(ori)) {
-    		predicates.add(criteriaBuilder.and(criteriaBuilder.equal(arrestReportRoot.get("ori"), ori)));
-    	}
-    	if (StringUtils.isNotBlank(yearOfTape)) {
-    		predicates.add(criteriaBuilder.and(criteriaBuilder.equal(arrestReportRoot.get("yearOfTape"), yearOfTape)));
-    	}
-    	if (StringUtils.isNotBlank(monthOfTape)) {
-    		predicates.add(criteriaBuilder.and(criteriaBuilder.equal(arrestReportRoot.get("monthOfTape"), monthOfTape)));
-    	}
-    	
-    	arrestReportSegmentDelete.where(predicates.toArray(new Predicate[predicates.size()])); 
-
 		return entityManager.createQuery(arrestReportSegmentDelete).executeUpdate();
 	}
 
 	@Override
-	public int deleteByIncidentDeleteRequest(IncidentDeleteRequest incidentDeleteRequest) {
+	public List<Integer> findIdsByOriAndSubmissionDate(String ori, String yearOfTape, String monthOfTape) {
 		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-		CriteriaDelete<ArrestReportSegmentWasArmedWith> arrestReportWasArmedWithDelete = criteriaBuilder.createCriteriaDelete(ArrestReportSegmentWasArmedWith.class);
-		Root<ArrestReportSegmentWasArmedWith> arrestReportWasArmedWithRoot = arrestReportWasArmedWithDelete.from(ArrestReportSegmentWasArmedWith.class);
+		CriteriaQuery<Integer> query = criteriaBuilder.createQuery(Integer.class);
+		Root<ArrestReportSegment> arrestReportRoot = query.from(ArrestReportSegment.class);
 		
-        Subquery<Integer> armedWithArrestReportSubQuery = createArrestReportSubquery(incidentDeleteRequest, criteriaBuilder,
-				arrestReportWasArmedWithDelete);
-    	
-    	arrestReportWasArmedWithDelete.where(arrestReportWasArmedWithRoot.get("arrestReportSegment").get("arrestReportSegmentId").in(armedWithArrestReportSubQuery));
-    	entityManager.createQuery(arrestReportWasArmedWithDelete).executeUpdate();
-    	
-    	CriteriaDelete<ArrestReportSegment> arrestReportSegmentDelete = criteriaBuilder.createCriteriaDelete(ArrestReportSegment.class);
-    	Root<ArrestReportSegment> arrestReportRoot = arrestReportSegmentDelete.from(ArrestReportSegment.class);
-    	
-    	List<Predicate> predicates = new ArrayList<>();
-        if (incidentDeleteRequest.getOwnerId() != null) {
-        	predicates.add(criteriaBuilder.and(criteriaBuilder.equal(arrestReportRoot.get("owner").get("ownerId"), incidentDeleteRequest.getOwnerId())));
-        }
-        if (incidentDeleteRequest.getAgencyId() != null) {
-        	predicates.add(criteriaBuilder.and(criteriaBuilder.equal(arrestReportRoot.get("agency").get("agencyId"), incidentDeleteRequest.getAgencyId())));
-        }
-        else if(StringUtils.isNotBlank(incidentDeleteRequest.getStateCode())) {
-        	Subquery<Integer> agencyIdSubQuery = arrestReportSegmentDelete.subquery(Integer.class); 
-        	Root<Agency> agencyIdSubQueryRoot = agencyIdSubQuery.from(Agency.class);
-        	agencyIdSubQuery.select(agencyIdSubQueryRoot.get("agencyId"));
-        	agencyIdSubQuery.where(criteriaBuilder.equal(agencyIdSubQueryRoot.get("stateCode"), incidentDeleteRequest.getStateCode()));
-        	predicates.add(criteriaBuilder.and(arrestReportRoot.get("agency").get("agencyId").in(agencyIdSubQuery))); 
-        	
-        }
-        if (StringUtils.isNotBlank(incidentDeleteRequest.getSubmissionYear())) {
-        	predicates.add(criteriaBuilder.and(criteriaBuilder.equal(arrestReportRoot.get("yearOfTape"), incidentDeleteRequest.getSubmissionYear())));
-        }
-        if (StringUtils.isNotBlank(incidentDeleteRequest.getSubmissionMonth())) {
-        	predicates.add(criteriaBuilder.and(criteriaBuilder.equal(arrestReportRoot.get("monthOfTape"), incidentDeleteRequest.getSubmissionMonth())));
-        }
-    	
-    	arrestReportSegmentDelete.where(predicates.toArray(new Predicate[predicates.size()])); 
-
-		return entityManager.createQuery(arrestReportSegmentDelete).executeUpdate();
+		List<Predicate> predicates = new ArrayList<>();
+		if (StringUtils.isNotBlank(ori)) {
+			predicates.add(criteriaBuilder.equal(arrestReportRoot.get("ori"), ori));
+		}
+		if (StringUtils.isNotBlank(yearOfTape)) {
+			predicates.add(criteriaBuilder.equal(arrestReportRoot.get("yearOfTape"), yearOfTape));
+		}
+		if (StringUtils.isNotBlank(monthOfTape)) {
+			predicates.add(criteriaBuilder.equal(arrestReportRoot.get("monthOfTape"), monthOfTape));
+		}
+		
+		query.select(arrestReportRoot.get("arrestReportSegmentId"))
+			.where(predicates.toArray(new Predicate[predicates.size()]));
+		return entityManager.createQuery(query).getResultList();
 	}
-
-	private Subquery<Integer> createArrestReportSubquery(IncidentDeleteRequest incidentDeleteRequest, CriteriaBuilder criteriaBuilder,
-			CriteriaDelete<?> arrestReportWasArmedWithDelete) {
-		Subquery<Integer> arrestReportSubQuery = arrestReportWasArmedWithDelete.subquery(Integer.class);
-        Root<ArrestReportSegment> arrestReportSubQueryRoot = arrestReportSubQuery.from(ArrestReportSegment.class);
-        arrestReportSubQuery.select(arrestReportSubQueryRoot.get("arrestReportSegmentId"));
-        Join<AdministrativeSegment, OffenseSegment> subAgencyJoin = arrestReportSubQueryRoot.join("agency", JoinType.LEFT);
-        List<Predicate> armedWithPredicates = new ArrayList<>();
-        
-        if (incidentDeleteRequest.getOwnerId() != null) {
-        	armedWithPredicates.add(criteriaBuilder.and(criteriaBuilder.equal(arrestReportSubQueryRoot.get("owner").get("ownerId"), incidentDeleteRequest.getOwnerId())));
-        }
-        if (StringUtils.isNotBlank(incidentDeleteRequest.getStateCode())) {
-        	armedWithPredicates.add(criteriaBuilder.and(criteriaBuilder.equal(subAgencyJoin.get("stateCode"), incidentDeleteRequest.getStateCode())));
-        }
-        if (incidentDeleteRequest.getAgencyId() != null) {
-        	armedWithPredicates.add(criteriaBuilder.and(criteriaBuilder.equal(arrestReportSubQueryRoot.get("agency").get("agencyId"), incidentDeleteRequest.getAgencyId())));
-        }
-        if (StringUtils.isNotBlank(incidentDeleteRequest.getSubmissionYear())) {
-        	armedWithPredicates.add(criteriaBuilder.and(criteriaBuilder.equal(arrestReportSubQueryRoot.get("yearOfTape"), incidentDeleteRequest.getSubmissionYear())));
-        }
-        if (StringUtils.isNotBlank(incidentDeleteRequest.getSubmissionMonth())) {
-        	armedWithPredicates.add(criteriaBuilder.and(criteriaBuilder.equal(arrestReportSubQueryRoot.get("monthOfTape"), incidentDeleteRequest.getSubmissionMonth())));
-        }
-        arrestReportSubQuery.where(armedWithPredicates.toArray(new Predicate[armedWithPredicates.size()]));
-		return arrestReportSubQuery;
+	
+	@Override
+	public List<Integer> findIdsByIncidentDeleteRequest(IncidentDeleteRequest incidentDeleteRequest) {
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Integer> query = criteriaBuilder.createQuery(Integer.class);
+		Root<ArrestReportSegment> arrestReportRoot = query.from(ArrestReportSegment.class);
+		Join<ArrestReportSegment, Agency> agencyJoin = arrestReportRoot.join("agency", JoinType.LEFT);
+		
+		List<Predicate> predicates = new ArrayList<>();
+		if (incidentDeleteRequest.getOwnerId() != null) {
+			predicates.add(criteriaBuilder.equal(arrestReportRoot.get("owner").get("ownerId"), incidentDeleteRequest.getOwnerId()));
+		}
+		if (StringUtils.isNotBlank(incidentDeleteRequest.getStateCode())) {
+			predicates.add(criteriaBuilder.equal(agencyJoin.get("stateCode"), incidentDeleteRequest.getStateCode()));
+		}
+		if (incidentDeleteRequest.getAgencyId() != null) {
+			predicates.add(criteriaBuilder.equal(arrestReportRoot.get("agency").get("agencyId"), incidentDeleteRequest.getAgencyId()));
+		}
+		if (StringUtils.isNotBlank(incidentDeleteRequest.getSubmissionYear())) {
+			predicates.add(criteriaBuilder.equal(arrestReportRoot.get("yearOfTape"), incidentDeleteRequest.getSubmissionYear()));
+		}
+		if (StringUtils.isNotBlank(incidentDeleteRequest.getSubmissionMonth())) {
+			predicates.add(criteriaBuilder.equal(arrestReportRoot.get("monthOfTape"), incidentDeleteRequest.getSubmissionMonth()));
+		}
+		
+		query.select(arrestReportRoot.get("arrestReportSegmentId"))
+			.where(predicates.toArray(new Predicate[predicates.size()]));
+		return entityManager.createQuery(query).getResultList();
 	}
 
-
 }
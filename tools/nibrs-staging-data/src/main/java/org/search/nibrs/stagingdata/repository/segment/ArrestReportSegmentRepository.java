@@ -15,42 +15,69 @@
  */
 package org.search.nibrs.stagingdata.repository.segment;
 
-import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
+import javax.persistence.LockModeType;
+
 import org.springframework.transaction.annotation.Transactional;
 
 import org.search.nibrs.stagingdata.model.segment.ArrestReportSegment;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 @Transactional
 public interface ArrestReportSegmentRepository extends JpaRepository<ArrestReportSegment, Integer>{
 	long deleteByArrestTransactionNumber(String arrestTransactionNumber);
 	
+	@Query("SELECT a.arrestReportSegmentId from ArrestReportSegment a "
+			+ "WHERE a.arrestTransactionNumber = ?1 ")
+	List<Integer> findIdsByArrestTransactionNumber(String arrestTransactionNumber);
+	
+	@Query("SELECT DISTINCT a.arrestTransactionNumber from ArrestReportSegment a "
+			+ "WHERE a.arrestReportSegmentId in (?1) ")
+	List<String> findArrestTransactionNumbersByArrestReportSegmentIds(Collection<Integer> arrestReportSegmentIds);
+	
 	@EntityGraph(value="allArrestReportSegmentJoins", type=EntityGraphType.LOAD)
 	List<ArrestReportSegment> findByArrestTransactionNumber(String arrestTransactionNumber);
 	
-	@Query("SELECT count(*) > 0 from ArrestReportSegment a "
+	/**
+	 * All persisted versions of the arrest reports with any of the arrest transaction numbers and any of the ORIs, so that a whole batch 
+	 * of reports can be checked for existing and later versions with one query; see ReportVersions.
+	 */
+	@Query("SELECT new org.search.nibrs.stagingdata.repository.segment.ReportVersion(a.arrestReportSegmentId, a.arrestTransactionNumber, "
+			+ "		a.ori, o.ownerId, a.yearOfTape, a.monthOfTape, s.nibrsCode) "
+			+ "FROM ArrestReportSegment a "
+			+ "LEFT JOIN a.owner o "
 			+ "LEFT JOIN a.segmentActionType s "
-			+ "WHERE a.arrestReportSegmentId = "
-			+ "			(SELECT max(arrestReportSegmentId) FROM ArrestReportSegment "
-			+ "				where arrestTransactionNumber = ?1 AND ori = ?2 ) "
-			+ "		AND s.nibrsCode != 'D' ")
-	boolean existsByArrestTransactionNumberAndOri(String arrestTransactionNumber, String ori);
+			+ "WHERE a.ori in (?1) AND a.arrestTransactionNumber in (?2) ")
+	List<ReportVersion> findReportVersionsByOriListAndArrestTransactionNumberList(Collection<String> oris, Collection<String> arrestTransactionNumbers);
 	
-	@Query("SELECT count(*) > 0 from ArrestReportSegment a "
-			+ "LEFT JOIN a.segmentActionType s "
-			+ "WHERE a.arrestReportSegmentId = "
-			+ "			(SELECT max(arrestReportSegmentId) FROM ArrestReportSegment aa"
-			+ "				where aa.arrestTransactionNumber = ?1 AND aa.ori = ?2 AND "
-			+ "					(?4 = null OR ?4 = 0 OR aa.owner.ownerId = ?4) ) "
-			+ "		and cast(concat(a.yearOfTape, '-', a.monthOfTape, '-01') as date) > ?3")
-	boolean existsByArrestTransactionNumberAndOriAndSubmissionDateAndOwnerId(
-			String arrestTransactionNumber, String ori, Date submissionDate, Integer ownerId);
+	/**
+	 * All persisted versions of the arrest reports with any of the arrest transaction numbers, for setting their current version indicators.  
+	 * Locks the rows (SELECT ... FOR UPDATE) so that the versions written by concurrent transactions are read as committed; the agency 
+	 * and owner ids are read from the foreign keys rather than joins, so that the agency and owner rows are not locked as well.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT new org.search.nibrs.stagingdata.repository.segment.SegmentVersion(a.arrestReportSegmentId, a.arrestTransactionNumber, "
+			+ "		a.agency.agencyId, a.owner.ownerId, a.currentVersionIndicator, a.currentOwnerVersionIndicator) "
+			+ "FROM ArrestReportSegment a "
+			+ "WHERE a.arrestTransactionNumber in (?1) ")
+	List<SegmentVersion> findSegmentVersionsByArrestTransactionNumberList(Collection<String> arrestTransactionNumbers);
+	
+	@Modifying
+	@Query("UPDATE ArrestReportSegment a SET a.currentVersionIndicator = ?2 WHERE a.arrestReportSegmentId in (?1) ")
+	int updateCurrentVersionIndicator(Collection<Integer> arrestReportSegmentIds, Boolean currentVersionIndicator);
+	
+	@Modifying
+	@Query("UPDATE ArrestReportSegment a SET a.currentOwnerVersionIndicator = ?2 WHERE a.arrestReportSegmentId in (?1) ")
+	int updateCurrentOwnerVersionIndicator(Collection<Integer> arrestReportSegmentIds, Boolean currentOwnerVersionIndicator);
 	
 	@Query("SELECT distinct a.agency.agencyId from ArrestReportSegment a "
 			+ "WHERE ?1 = null OR a.owner.ownerId = ?1 ")
@@ -60,15 +87,11 @@ public interface ArrestReportSegmentRepository extends JpaRepository<ArrestRepor
 	ArrestReportSegment findByArrestReportSegmentId(Integer arrestReportSegmentId);
 
 	@Query("SELECT a.arrestReportSegmentId from ArrestReportSegment a "
-			+ "WHERE a.arrestReportSegmentId = ( SELECT max(arrestReportSegmentId) "
-			+ "				FROM ArrestReportSegment aa "
-			+ "				WHERE aa.arrestTransactionNumber = a.arrestTransactionNumber AND "
-			+ "                 aa.agency.agencyId = a.agency.agencyId AND "				
-			+ "     			(?4 = null OR ?4 = 0 OR aa.owner.ownerId = ?4) "
-			+ "				GROUP BY aa.arrestTransactionNumber ) AND "
+			+ "WHERE ((?4 = null OR ?4 = 0) AND a.currentVersionIndicator = true OR "
+			+ "			a.owner.ownerId = ?4 AND a.currentOwnerVersionIndicator = true) AND "
 			+ "		(?1 = null OR a.ori = ?1) AND "
-			+ "		(year(a.arrestDate) = ?2 AND ( ?3 = 0 OR month(a.arrestDate) = ?3)) ")
-	List<Integer> findIdsByOriAndArrestDate(String ori, Integer year, Integer month, Integer ownerId);
+			+ "		(a.arrestDate >= ?2 AND a.arrestDate < ?3) ")
+	List<Integer> findIdsByOriAndArrestDate(String ori, LocalDate startDate, LocalDate endDate, Integer ownerId);
 
 	@Query("SELECT DISTINCT a.arrestReportSegmentId from ArrestReportSegment a "
 			+ "LEFT JOIN a.submission s "
@@ -76,12 +99,12 @@ public interface ArrestReportSegmentRepository extends JpaRepository<ArrestRepor
 			+ "WHERE u.nibrsCode != '90I' AND "
 			+ "		(?1 = null OR a.ori in (?1)) AND "
 			+ "		(?4 = null OR a.agency.agencyId in (?4)) AND "
-			+ "		(?2 = null OR cast(concat(a.yearOfTape, '-', a.monthOfTape, '-01') as date) >= ?2) AND "
-			+ "		(?3 = null OR cast(concat(a.yearOfTape, '-', a.monthOfTape, '-01') as date) <= ?3) AND "
+			+ "		(?2 = null OR a.submissionPeriod >= ?2) AND "
+			+ "		(?3 = null OR a.submissionPeriod <= ?3) AND "
 			+ "     ( s = null OR (s.acceptedIndicator=0 AND s.faultCode is not null ))"
 			+ "ORDER BY a.arrestReportSegmentId asc ")
-	List<Integer> findIdsByOriListAndSubmissionDateRange(List<String> ori, Date startDate, 
-			Date endDate, List<Integer> agencyIds);
+	List<Integer> findIdsByOriListAndSubmissionDateRange(List<String> ori, Integer startPeriod, 
+			Integer endPeriod, List<Integer> agencyIds);
 	
 	@Query("SELECT count(DISTINCT a.arrestReportSegmentId) from ArrestReportSegment a "
 			+ "LEFT JOIN a.submission s "
@@ -89,26 +112,22 @@ public interface ArrestReportSegmentRepository extends JpaRepository<ArrestRepor
 			+ "WHERE u.nibrsCode != '90I' AND "
 			+ "		(?1 = null OR a.ori in (?1)) AND "
 			+ "		(?4 = null OR a.agency.agencyId in (?4)) AND "
-			+ "		(?2 = null OR cast(concat(a.yearOfTape, '-', a.monthOfTape, '-01') as date) >= ?2) AND "
-			+ "		(?3 = null OR cast(concat(a.yearOfTape, '-', a.monthOfTape, '-01') as date) <= ?3) AND "
+			+ "		(?2 = null OR a.submissionPeriod >= ?2) AND "
+			+ "		(?3 = null OR a.submissionPeriod <= ?3) AND "
 			+ "     ( s = null OR (s.acceptedIndicator=0 AND s.faultCode is not null )) "
 			)
-	long countByOriListAndSubmissionDateRange(List<String> oris, Date startDate, 
-			Date endDate, List<Integer> agencyIds);
+	long countByOriListAndSubmissionDateRange(List<String> oris, Integer startPeriod, 
+			Integer endPeriod, List<Integer> agencyIds);
 	
 	@EntityGraph(value="allArrestReportSegmentJoins", type=EntityGraphType.LOAD)
 	List<ArrestReportSegment> findAllById(Iterable<Integer> ids);
 
 	@Query("SELECT a.arrestReportSegmentId from ArrestReportSegment a "
-			+ "WHERE a.arrestReportSegmentId = ( SELECT max(arrestReportSegmentId) "
-			+ "				FROM ArrestReportSegment aa "
-			+ "				WHERE aa.arrestTransactionNumber = a.arrestTransactionNumber AND "
-			+ "                 aa.agency.agencyId = a.agency.agencyId AND "				
-			+ "     			(?5 = null OR ?5 = 0 OR aa.owner.ownerId = ?5) "
-			+ "				GROUP BY aa.arrestTransactionNumber ) AND "
+			+ "WHERE ((?5 = null OR ?5 = 0) AND a.currentVersionIndicator = true OR "
+			+ "			a.owner.ownerId = ?5 AND a.currentOwnerVersionIndicator = true) AND "
 			+ "		(?1 = null OR ?1 = '' OR a.agency.stateCode = ?1) AND "
 			+ "     (?2 = null OR a.agency.agencyId = ?2) AND  "
-			+ "		(year(a.arrestDate) = ?3 AND ( ?4 = 0 OR month(a.arrestDate) = ?4)) ")
+			+ "		(a.arrestDate >= ?3 AND a.arrestDate < ?4) ")
 	List<Integer> findIdsByStateAndAgencyAndArrestDate(String stateCode, Integer agencyId, 
-			Integer incidentYear, Integer incidentMonth, Integer ownerId);
+			LocalDate startDate, LocalDate endDate, Integer ownerId);
 }
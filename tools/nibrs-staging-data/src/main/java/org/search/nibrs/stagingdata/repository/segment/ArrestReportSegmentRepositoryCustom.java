@@ -26,8 +26,11 @@ import org.search.nibrs.stagingdata.model.search.IncidentPointer;
 @Transactional
 public interface ArrestReportSegmentRepositoryCustom{
 	List<IncidentPointer> findAllByCriteria(IncidentSearchRequest incidentSearchRequest);
+	List<IncidentPointer> findAllByCriteria(IncidentSearchRequest incidentSearchRequest, Integer maxResults);
 	long countAllByCriteria(IncidentSearchRequest incidentSearchRequest);
+	long countEligibleFbiSubmissionByCriteria(IncidentSearchRequest incidentSearchRequest);
 	int updateSubmissionId(Integer arrestReportSegmentId, Integer submissionId);
-	int deleteByOriAndSubmissionDate(String ori, String yearOfTape, String monthOfTape);
-	int deleteByIncidentDeleteRequest(IncidentDeleteRequest incidentDeleteRequest);
+	int deleteByIds(List<Integer> arrestReportSegmentIds);
+	List<Integer> findIdsByOriAndSubmissionDate(String ori, String yearOfTape, String monthOfTape);
+	List<Integer> findIdsByIncidentDeleteRequest(IncidentDeleteRequest incidentDeleteRequest);
 }
@@ -15,6 +15,7 @@
  */
 package org.search.nibrs.stagingdata.repository.segment;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +29,6 @@ public interface ArresteeSegmentRepository extends JpaRepository<ArresteeSegment
 	
 	@Query("SELECT ar from ArresteeSegment ar "
 		+ "WHERE ar.administrativeSegment.administrativeSegmentId in (?3) AND "
-		+ "	   ( year(ar.arrestDate) = ?1 AND ( ?2=0 OR month(ar.arrestDate) = ?2 )) ")
-	List<ArresteeSegment> findByAdministrativeSegmentIdsAndArrestDate(Integer arrestYear, Integer arrestMonth, List<Integer> ids); 
+		+ "	   (ar.arrestDate >= ?1 AND ar.arrestDate < ?2) ")
+	List<ArresteeSegment> findByAdministrativeSegmentIdsAndArrestDate(LocalDate startDate, LocalDate endDate, List<Integer> ids); 
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.repository.segment;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Predicate;
+
+import org.search.nibrs.stagingdata.model.Submission;
+import org.search.nibrs.stagingdata.model.search.IncidentSearchRequest;
+import org.search.nibrs.stagingdata.model.search.ReportType;
+
+/**
+ * The predicates the group A and group B searches share, so both sources page and count the same way.
+ */
+final class IncidentSearchPredicates {
+
+	private IncidentSearchPredicates() {
+	}
+
+	/**
+	 * The reports of one type that come after the page key of the request in IncidentSearchResult.REPORT_ORDER,
+	 * or null when the request asks for the first page.
+	 */
+	static Predicate getPageAfterPredicate(IncidentSearchRequest incidentSearchRequest, ReportType reportType,
+			CriteriaBuilder criteriaBuilder, Expression<LocalDateTime> reportTimestamp, Expression<Integer> primaryKey) {
+		if (incidentSearchRequest == null || incidentSearchRequest.getPageAfterReportTimestamp() == null
+				|| incidentSearchRequest.getPageAfterReportType() == null) {
+			return null;
+		}
+
+		LocalDateTime pageAfterReportTimestamp = incidentSearchRequest.getPageAfterReportTimestamp();
+		int typeOrder = reportType.compareTo(incidentSearchRequest.getPageAfterReportType());
+		if (typeOrder > 0) {
+			return criteriaBuilder.lessThanOrEqualTo(reportTimestamp, pageAfterReportTimestamp);
+		}
+		else if (typeOrder < 0 || incidentSearchRequest.getPageAfterPrimaryKey() == null) {
+			return criteriaBuilder.lessThan(reportTimestamp, pageAfterReportTimestamp);
+		}
+
+		// the leading range on the timestamp alone lets the database read the page from the report timestamp index
+		return criteriaBuilder.and(
+				criteriaBuilder.lessThanOrEqualTo(reportTimestamp, pageAfterReportTimestamp),
+				criteriaBuilder.or(
+						criteriaBuilder.lessThan(reportTimestamp, pageAfterReportTimestamp),
+						criteriaBuilder.lessThan(primaryKey, incidentSearchRequest.getPageAfterPrimaryKey())));
+	}
+
+	/**
+	 * The reports that can still be submitted to the FBI: the ones not about a 90I offense that were not submitted,
+	 * or were rejected with a fault code.
+	 */
+	static Predicate getEligibleFbiSubmissionPredicate(CriteriaBuilder criteriaBuilder, Expression<String> offenseCode,
+			Join<?, Submission> submissionJoin) {
+		return criteriaBuilder.and(
+				criteriaBuilder.or(criteriaBuilder.isNull(offenseCode),
+						criteriaBuilder.notEqual(criteriaBuilder.upper(offenseCode), "90I")),
+				criteriaBuilder.or(criteriaBuilder.isNull(submissionJoin.get("acceptedIndicator")),
+						criteriaBuilder.notEqual(criteriaBuilder.trim(submissionJoin.<String>get("faultCode")), "")));
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.repository.segment;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * The columns of a persisted Group A incident (AdministrativeSegment) or Group B arrest (ArrestReportSegment) that decide how a
+ * resubmission of the same report is persisted.
+ */
+public class ReportVersion {
+	private Integer segmentId;
+	private String identifier;
+	private String ori;
+	private Integer ownerId;
+	private String yearOfTape;
+	private String monthOfTape;
+	private String segmentActionTypeCode;
+
+	public ReportVersion(Integer segmentId, String identifier, String ori, Integer ownerId, String yearOfTape,
+			String monthOfTape, String segmentActionTypeCode) {
+		super();
+		this.segmentId = segmentId;
+		this.identifier = identifier;
+		this.ori = ori;
+		this.ownerId = ownerId;
+		this.yearOfTape = yearOfTape;
+		this.monthOfTape = monthOfTape;
+		this.segmentActionTypeCode = segmentActionTypeCode;
+	}
+
+	public Integer getSegmentId() {
+		return segmentId;
+	}
+
+	public String getIdentifier() {
+		return identifier;
+	}
+
+	public String getOri() {
+		return ori;
+	}
+
+	public Integer getOwnerId() {
+		return ownerId;
+	}
+
+	public String getYearOfTape() {
+		return yearOfTape;
+	}
+
+	public String getMonthOfTape() {
+		return monthOfTape;
+	}
+
+	public String getSegmentActionTypeCode() {
+		return segmentActionTypeCode;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+	}
+
+}
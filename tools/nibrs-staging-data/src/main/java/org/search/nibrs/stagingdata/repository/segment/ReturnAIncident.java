@@ -0,0 +1,377 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.repository.segment;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.search.nibrs.model.codes.ClearedExceptionallyCode;
+
+/**
+ * The columns of a Group A incident that the Return A and the Return A Record Card count, read with narrow projections
+ * instead of loading the AdministrativeSegment with all its segments.
+ */
+public class ReturnAIncident {
+	private Integer administrativeSegmentId;
+	private LocalDate incidentDate;
+	private Integer incidentYear;
+	private String incidentHour;
+	private String clearedExceptionallyCode;
+
+	private Integer agencyId;
+	private String agencyOri;
+	private String agencyName;
+	private Integer population;
+	private String stateCode;
+	private String stateName;
+
+	private List<Offense> offenses = new ArrayList<>();
+	private List<Victim> victims = new ArrayList<>();
+	private List<Property> properties = new ArrayList<>();
+	private List<PersonAge> arresteeAges = new ArrayList<>();
+	private List<PersonAge> offenderAges = new ArrayList<>();
+
+	public ReturnAIncident(Integer administrativeSegmentId, LocalDate incidentDate, Integer incidentYear, String incidentHour,
+			String clearedExceptionallyCode, Integer agencyId, String agencyOri, String agencyName, Integer population,
+			String stateCode, String stateName) {
+		super();
+		this.administrativeSegmentId = administrativeSegmentId;
+		this.incidentDate = incidentDate;
+		this.incidentYear = incidentYear;
+		this.incidentHour = incidentHour;
+		this.clearedExceptionallyCode = clearedExceptionallyCode;
+		this.agencyId = agencyId;
+		this.agencyOri = agencyOri;
+		this.agencyName = agencyName;
+		this.population = population;
+		this.stateCode = stateCode;
+		this.stateName = stateName;
+	}
+
+	/**
+	 * Same as AdministrativeSegment.isClearanceInvolvingOnlyJuvenile(): the offenders decide for the exceptional clearances,
+	 * the arrestees for the others.
+	 */
+	public boolean isClearanceInvolvingOnlyJuvenile() {
+		List<PersonAge> persons = ClearedExceptionallyCode.applicableCodeSet().contains(clearedExceptionallyCode) ?
+				offenderAges : arresteeAges;
+		return persons.stream().anyMatch(PersonAge::isJuvenile) && persons.stream().noneMatch(PersonAge::isAdult);
+	}
+
+	/**
+	 * The number of victims connected to the offense.
+	 */
+	public int getVictimCount(Offense offense) {
+		return Long.valueOf(victims.stream()
+				.filter(victim -> victim.getOffenseSegmentIds().contains(offense.getOffenseSegmentId()))
+				.count()).intValue();
+	}
+
+	/**
+	 * The number of victims connected to any offense with one of the offense codes.
+	 */
+	public int getVictimCount(List<String> offenseCodes) {
+		return Long.valueOf(victims.stream()
+				.filter(victim -> victim.getConnectedOffenseCodes().stream().anyMatch(offenseCodes::contains))
+				.count()).intValue();
+	}
+
+	public Integer getAdministrativeSegmentId() {
+		return administrativeSegmentId;
+	}
+
+	public LocalDate getIncidentDate() {
+		return incidentDate;
+	}
+
+	public Integer getIncidentYear() {
+		return incidentYear;
+	}
+
+	public String getIncidentHour() {
+		return incidentHour;
+	}
+
+	public String getClearedExceptionallyCode() {
+		return clearedExceptionallyCode;
+	}
+
+	public Integer getAgencyId() {
+		return agencyId;
+	}
+
+	public String getAgencyOri() {
+		return agencyOri;
+	}
+
+	public String getAgencyName() {
+		return agencyName;
+	}
+
+	public Integer getPopulation() {
+		return population;
+	}
+
+	public String getStateCode() {
+		return stateCode;
+	}
+
+	public String getStateName() {
+		return stateName;
+	}
+
+	public List<Offense> getOffenses() {
+		return offenses;
+	}
+
+	public List<Victim> getVictims() {
+		return victims;
+	}
+
+	public List<Property> getProperties() {
+		return properties;
+	}
+
+	public List<PersonAge> getArresteeAges() {
+		return arresteeAges;
+	}
+
+	public List<PersonAge> getOffenderAges() {
+		return offenderAges;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+	}
+
+	public static class Offense {
+		private Integer offenseSegmentId;
+		private String offenseCode;
+		private String offenseAttemptedCompleted;
+		private String locationCode;
+		private Integer numberOfPremisesEntered;
+		private String methodOfEntryCode;
+		private List<String> weaponForceCodes = new ArrayList<>();
+
+		public Offense(Integer offenseSegmentId, String offenseCode, String offenseAttemptedCompleted, String locationCode,
+				Integer numberOfPremisesEntered, String methodOfEntryCode) {
+			super();
+			this.offenseSegmentId = offenseSegmentId;
+			this.offenseCode = offenseCode;
+			this.offenseAttemptedCompleted = offenseAttemptedCompleted;
+			this.locationCode = locationCode;
+			this.numberOfPremisesEntered = numberOfPremisesEntered;
+			this.methodOfEntryCode = methodOfEntryCode;
+		}
+
+		public Integer getOffenseSegmentId() {
+			return offenseSegmentId;
+		}
+
+		public String getOffenseCode() {
+			return offenseCode;
+		}
+
+		public String getOffenseAttemptedCompleted() {
+			return offenseAttemptedCompleted;
+		}
+
+		public String getLocationCode() {
+			return locationCode;
+		}
+
+		public Integer getNumberOfPremisesEntered() {
+			return numberOfPremisesEntered;
+		}
+
+		public String getMethodOfEntryCode() {
+			return methodOfEntryCode;
+		}
+
+		public List<String> getWeaponForceCodes() {
+			return weaponForceCodes;
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+		}
+	}
+
+	public static class Victim {
+		private Integer victimSegmentId;
+		private String sexCode;
+		private List<Integer> offenseSegmentIds = new ArrayList<>();
+		private List<String> connectedOffenseCodes = new ArrayList<>();
+
+		public Victim(Integer victimSegmentId, String sexCode) {
+			super();
+			this.victimSegmentId = victimSegmentId;
+			this.sexCode = sexCode;
+		}
+
+		public Integer getVictimSegmentId() {
+			return victimSegmentId;
+		}
+
+		public String getSexCode() {
+			return sexCode;
+		}
+
+		public List<Integer> getOffenseSegmentIds() {
+			return offenseSegmentIds;
+		}
+
+		public List<String> getConnectedOffenseCodes() {
+			return connectedOffenseCodes;
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+		}
+	}
+
+	public static class Property {
+		private Integer propertySegmentId;
+		private String typeOfPropertyLossCode;
+		private Integer numberOfStolenMotorVehicles;
+		private Integer numberOfRecoveredMotorVehicles;
+		private List<PropertyItem> propertyItems = new ArrayList<>();
+
+		public Property(Integer propertySegmentId, String typeOfPropertyLossCode, Integer numberOfStolenMotorVehicles,
+				Integer numberOfRecoveredMotorVehicles) {
+			super();
+			this.propertySegmentId = propertySegmentId;
+			this.typeOfPropertyLossCode = typeOfPropertyLossCode;
+			this.numberOfStolenMotorVehicles = numberOfStolenMotorVehicles;
+			this.numberOfRecoveredMotorVehicles = numberOfRecoveredMotorVehicles;
+		}
+
+		public Integer getPropertySegmentId() {
+			return propertySegmentId;
+		}
+
+		public String getTypeOfPropertyLossCode() {
+			return typeOfPropertyLossCode;
+		}
+
+		public Integer getNumberOfStolenMotorVehicles() {
+			return numberOfStolenMotorVehicles;
+		}
+
+		public Integer getNumberOfRecoveredMotorVehicles() {
+			return numberOfRecoveredMotorVehicles;
+		}
+
+		public List<PropertyItem> getPropertyItems() {
+			return propertyItems;
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+		}
+	}
+
+	/**
+	 * A PropertyType of a property segment.
+	 */
+	public static class PropertyItem {
+		private String propertyDescriptionCode;
+		private Double valueOfProperty;
+		private boolean recovered;
+		private Integer recoveredYear;
+		private Integer recoveredMonth;
+
+		public PropertyItem(String propertyDescriptionCode, Double valueOfProperty, boolean recovered, Integer recoveredYear,
+				Integer recoveredMonth) {
+			super();
+			this.propertyDescriptionCode = propertyDescriptionCode;
+			this.valueOfProperty = valueOfProperty;
+			this.recovered = recovered;
+			this.recoveredYear = recoveredYear;
+			this.recoveredMonth = recoveredMonth;
+		}
+
+		public String getPropertyDescriptionCode() {
+			return propertyDescriptionCode;
+		}
+
+		public Double getValueOfProperty() {
+			return valueOfProperty;
+		}
+
+		public boolean isRecovered() {
+			return recovered;
+		}
+
+		public Integer getRecoveredYear() {
+			return recoveredYear;
+		}
+
+		public Integer getRecoveredMonth() {
+			return recoveredMonth;
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+		}
+	}
+
+	/**
+	 * The age of an arrestee or an offender, with the juvenile and adult rules of ArresteeSegment and OffenderSegment.
+	 */
+	public static class PersonAge {
+		private Integer ageMin;
+		private Integer ageMax;
+		private String nonNumericAge;
+
+		public PersonAge(Integer ageMin, Integer ageMax, String nonNumericAge) {
+			super();
+			this.ageMin = ageMin;
+			this.ageMax = ageMax;
+			this.nonNumericAge = nonNumericAge;
+		}
+
+		public boolean isJuvenile() {
+			return !isAgeUnknown() && (ageMax < 18 || (ageMin < 18 && getAverageAge() < 18));
+		}
+
+		public boolean isAdult() {
+			return !isAgeUnknown() && (ageMin >= 18 || (ageMax >= 18 && getAverageAge() >= 18));
+		}
+
+		private int getAverageAge() {
+			return (int) ((ageMin.doubleValue() + ageMax.doubleValue()) / 2.0);
+		}
+
+		private boolean isAgeUnknown() {
+			return ageMax == null && ageMin == null && Objects.equals(nonNumericAge, "00");
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+		}
+	}
+}
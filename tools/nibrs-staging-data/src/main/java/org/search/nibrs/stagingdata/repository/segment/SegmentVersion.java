@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.repository.segment;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * The columns of a persisted Group A incident (AdministrativeSegment) or Group B arrest (ArrestReportSegment) that decide which of the 
+ * versions of a report are its current versions.
+ */
+public class SegmentVersion {
+	private Integer segmentId;
+	private String identifier;
+	private Integer agencyId;
+	private Integer ownerId;
+	private Boolean currentVersionIndicator;
+	private Boolean currentOwnerVersionIndicator;
+
+	public SegmentVersion(Integer segmentId, String identifier, Integer agencyId, Integer ownerId, 
+			Boolean currentVersionIndicator, Boolean currentOwnerVersionIndicator) {
+		super();
+		this.segmentId = segmentId;
+		this.identifier = identifier;
+		this.agencyId = agencyId;
+		this.ownerId = ownerId;
+		this.currentVersionIndicator = currentVersionIndicator;
+		this.currentOwnerVersionIndicator = currentOwnerVersionIndicator;
+	}
+
+	public Integer getSegmentId() {
+		return segmentId;
+	}
+
+	public String getIdentifier() {
+		return identifier;
+	}
+
+	public Integer getAgencyId() {
+		return agencyId;
+	}
+
+	public Integer getOwnerId() {
+		return ownerId;
+	}
+
+	public Boolean getCurrentVersionIndicator() {
+		return currentVersionIndicator;
+	}
+
+	public Boolean getCurrentOwnerVersionIndicator() {
+		return currentOwnerVersionIndicator;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+	}
+
+}
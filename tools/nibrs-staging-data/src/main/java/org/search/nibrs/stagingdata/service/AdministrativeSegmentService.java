@@ -15,6 +15,7 @@
  */
 package org.search.nibrs.stagingdata.service;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -39,6 +40,7 @@ import org.search.nibrs.stagingdata.model.segment.OffenseSegment;
 import org.search.nibrs.stagingdata.repository.segment.AdministrativeSegmentRepository;
 import org.search.nibrs.stagingdata.repository.segment.AdministrativeSegmentRepositoryCustom;
 import org.search.nibrs.stagingdata.repository.segment.ArresteeSegmentRepository;
+import org.search.nibrs.stagingdata.util.DateUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -92,6 +94,14 @@ public class AdministrativeSegmentService {
 		return administrativeSegmentRepositoryCustom.countAllByCriteria(incidentSearchRequest);
 	}
 	
+	public List<IncidentPointer> findAllByCriteria(IncidentSearchRequest incidentSearchRequest, Integer maxResults){
+		return administrativeSegmentRepositoryCustom.findAllByCriteria(incidentSearchRequest, maxResults);
+	}
+	
+	public long countEligibleFbiSubmissionByCriteria(IncidentSearchRequest incidentSearchRequest){
+		return administrativeSegmentRepositoryCustom.countEligibleFbiSubmissionByCriteria(incidentSearchRequest);
+	}
+	
 	public long countByCriteria(IncidentSearchRequest incidentSearchRequest){
 		return administrativeSegmentRepository.count(new Specification<AdministrativeSegment>() {
 			private static final long serialVersionUID = 2264585355475434091L;
@@ -150,11 +160,11 @@ public class AdministrativeSegmentService {
 		if ("StateWide".equalsIgnoreCase(ori)){
 			ori = null;
 		}
-		List<Integer> ids = administrativeSegmentRepository.findIdsByOriAndIncidentDate(ori, year, month);
+		List<Integer> ids = administrativeSegmentRepository.findIdsByOriAndIncidentDate(ori, 
+				DateUtils.getStartLocalDate(year, month), DateUtils.getEndLocalDate(year, month));
 		
 		List<AdministrativeSegment> administrativeSegments = 
-				administrativeSegmentRepository.findAllById(ids)
-				.stream().distinct().collect(Collectors.toList());
+				administrativeSegmentRepositoryCustom.findAllWithSegmentsByIds(ids);
 		
 		return administrativeSegments; 
 	}
@@ -164,12 +174,12 @@ public class AdministrativeSegmentService {
 		List<Integer> ids = 
 				administrativeSegmentRepository.findIdsBySummaryReportRequestAndOffenses(
 						summaryReportRequest.getStateCode(), summaryReportRequest.getAgencyId(), 
-						summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth(), 
+						DateUtils.getStartLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
+						DateUtils.getEndLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
 						summaryReportRequest.getOwnerId(), offenseCodes);
 		
 		List<AdministrativeSegment> administrativeSegments = 
-				administrativeSegmentRepository.findAllById(ids)
-				.stream().distinct().collect(Collectors.toList());
+				administrativeSegmentRepositoryCustom.findAllWithSegmentsByIds(ids);
 		
 		return administrativeSegments; 
 	}
@@ -179,12 +189,12 @@ public class AdministrativeSegmentService {
 		log.info("summaryReportRequest:" + summaryReportRequest);
 		List<Integer> ids = administrativeSegmentRepository.findIdsByStateCodeAndOriAndClearanceDateAndOffenses(
 				summaryReportRequest.getStateCode(), summaryReportRequest.getAgencyId(), 
-				summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth(), 
+				DateUtils.getStartLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
+				DateUtils.getEndLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
 				summaryReportRequest.getOwnerId(), offenseCodes);
 		
 		List<AdministrativeSegment> administrativeSegments = 
-				administrativeSegmentRepository.findAllById(ids)
-				.stream().distinct().collect(Collectors.toList());
+				administrativeSegmentRepositoryCustom.findAllWithSegmentsByIds(ids);
 		
 		return administrativeSegments; 
 	}
@@ -194,33 +204,32 @@ public class AdministrativeSegmentService {
 		List<Integer> ids = administrativeSegmentRepository.findIdsBySummaryReportRequestAndOffenses(
 				summaryReportRequest.getStateCode(),
 				summaryReportRequest.getAgencyId(), 
-				summaryReportRequest.getIncidentYear(), 
-				summaryReportRequest.getIncidentMonth(), 
+				DateUtils.getStartLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
+				DateUtils.getEndLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
 				summaryReportRequest.getOwnerId(),
 				Arrays.asList("64A", "64B"));
 		
 		List<AdministrativeSegment> administrativeSegments = 
-				administrativeSegmentRepository.findAllById(ids)
-				.stream().distinct().collect(Collectors.toList());
+				administrativeSegmentRepositoryCustom.findAllWithSegmentsByIds(ids);
 		
 		return administrativeSegments; 
 	}
 
 
 	public List<ArresteeSegment> findArresteeSegmentByRequest(SummaryReportRequest summaryReportRequest) {
-		Integer arrestYear = summaryReportRequest.getIncidentYear();
-		Integer arrestMonth = summaryReportRequest.getIncidentMonth(); 
+		LocalDate arrestStartDate = DateUtils.getStartLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth());
+		LocalDate arrestEndDate = DateUtils.getEndLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()); 
 		List<Integer> ids = administrativeSegmentRepository.findIdsByStateAndAgencyAndArrestDate(
 				summaryReportRequest.getStateCode(), 
 				summaryReportRequest.getAgencyId(), 
-				arrestYear, 
-				arrestMonth, 
+				arrestStartDate, 
+				arrestEndDate, 
 				summaryReportRequest.getOwnerId());
 		
 		log.info("ids size" + ids.size());
 		
 		List<ArresteeSegment> arresteeSegments = arresteeSegmentRepository
-				.findByAdministrativeSegmentIdsAndArrestDate(arrestYear, arrestMonth, ids);
+				.findByAdministrativeSegmentIdsAndArrestDate(arrestStartDate, arrestEndDate, ids);
 		return arresteeSegments; 
 		
 	}
@@ -230,12 +239,12 @@ public class AdministrativeSegmentService {
 		List<Integer> ids = 
 				administrativeSegmentRepository.findIdsByStateCodeAndOriAndClearanceDateAndOffenses(
 						summaryReportRequest.getStateCode(), summaryReportRequest.getAgencyId(), 
-						summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth(), 
+						DateUtils.getStartLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
+						DateUtils.getEndLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
 						summaryReportRequest.getOwnerId(), Arrays.asList("64A", "64B"));
 		
 		List<AdministrativeSegment> administrativeSegments = 
-				administrativeSegmentRepository.findAllById(ids)
-				.stream().distinct().collect(Collectors.toList());
+				administrativeSegmentRepositoryCustom.findAllWithSegmentsByIds(ids);
 		
 		return administrativeSegments; 
 	}
@@ -244,13 +253,13 @@ public class AdministrativeSegmentService {
 		List<Integer> ids = administrativeSegmentRepository.findCargoTheftIdsByStateAndAgencyAndIncidentDate(
 				summaryReportRequest.getStateCode(), 
 				summaryReportRequest.getAgencyId(), 
-				summaryReportRequest.getIncidentYear(), 
-				summaryReportRequest.getIncidentMonth(), 
+				DateUtils.getStartLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
+				DateUtils.getEndLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
 				summaryReportRequest.getOwnerId());
 		
 		log.info("ids:" + ids);
 		
-		List<AdministrativeSegment> administrativeSegments = administrativeSegmentRepository.findAllById(ids);
+		List<AdministrativeSegment> administrativeSegments = administrativeSegmentRepositoryCustom.findAllWithSegmentsByIds(ids);
 		List<CargoTheftFormRow> cargoTheftFormRows = administrativeSegments.stream()
 				.map(item-> new CargoTheftFormRow(item.getIncidentNumber(), item.getIncidentDate(), item.getSegmentActionType().getNibrsDescription()))
 				.collect(Collectors.toList());
@@ -19,6 +19,7 @@ import static org.search.nibrs.stagingdata.util.ObjectUtils.getInteger;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -169,11 +170,21 @@ public class ArrestReportService {
 	@Autowired
 	public XmlReportGenerator xmlReportGenerator; 
 	@Autowired
+	public ChunkedDeleter chunkedDeleter;
+	
+	private final IdentifierLocks arrestTransactionNumberLocks = new IdentifierLocks();
+	@Autowired
 	public AppProperties appProperties; 
 	
 	@Transactional
 	public ArrestReportSegment saveArrestReportSegment(ArrestReportSegment arrestReportSegment){
-		return arrestReportSegmentRepository.save(arrestReportSegment);
+		CurrentVersions currentVersions = getCurrentVersions();
+		currentVersions.lock(Collections.singletonList(arrestReportSegment.getArrestTransactionNumber()));
+		arrestReportSegment.setSubmissionPeriod(
+				DateUtils.getSubmissionPeriod(arrestReportSegment.getYearOfTape(), arrestReportSegment.getMonthOfTape()));
+		ArrestReportSegment savedArrestReportSegment = arrestReportSegmentRepository.save(arrestReportSegment);
+		currentVersions.refresh(Collections.singletonList(savedArrestReportSegment.getArrestTransactionNumber()));
+		return savedArrestReportSegment;
 	}
 	
 	public List<IncidentPointer> findAllByCriteria(IncidentSearchRequest incidentSearchRequest){
@@ -184,6 +195,14 @@ public class ArrestReportService {
 		return arrestReportSegmentRepositoryCustom.countAllByCriteria(incidentSearchRequest);
 	}
 	
+	public List<IncidentPointer> findAllByCriteria(IncidentSearchRequest incidentSearchRequest, Integer maxResults){
+		return arrestReportSegmentRepositoryCustom.findAllByCriteria(incidentSearchRequest, maxResults);
+	}
+	
+	public long countEligibleFbiSubmissionByCriteria(IncidentSearchRequest incidentSearchRequest){
+		return arrestReportSegmentRepositoryCustom.countEligibleFbiSubmissionByCriteria(incidentSearchRequest);
+	}
+	
 	public ArrestReportSegment findArrestReportSegment(Integer id){
 		return arrestReportSegmentRepository.findByArrestReportSegmentId(id);
 	}
@@ -198,7 +217,8 @@ public class ArrestReportService {
 		if ("StateWide".equalsIgnoreCase(ori)){
 			ori = null;
 		}
-		List<Integer> ids = arrestReportSegmentRepository.findIdsByOriAndArrestDate(ori, arrestYear, arrestMonth, getInteger(ownerId));
+		List<Integer> ids = arrestReportSegmentRepository.findIdsByOriAndArrestDate(ori, 
+				DateUtils.getStartLocalDate(arrestYear, arrestMonth), DateUtils.getEndLocalDate(arrestYear, arrestMonth), getInteger(ownerId));
 		
 		List<ArrestReportSegment> arrestReportSegments = 
 				arrestReportSegmentRepository.findAllById(ids)
@@ -216,8 +236,8 @@ public class ArrestReportService {
 		List<Integer> ids = arrestReportSegmentRepository.findIdsByStateAndAgencyAndArrestDate(
 				summaryReportRequest.getStateCode(), 
 				summaryReportRequest.getAgencyId(), 
-				summaryReportRequest.getIncidentYear(), 
-				summaryReportRequest.getIncidentMonth(), 
+				DateUtils.getStartLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
+				DateUtils.getEndLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
 				summaryReportRequest.getOwnerId());
 		
 		List<ArrestReportSegment> arrestReportSegments = 
@@ -237,19 +257,36 @@ public class ArrestReportService {
 			log.error(BAD_DELETE_REQUEST); 
 			throw new BadRequestException(BAD_DELETE_REQUEST);
 		}
-		return arrestReportSegmentRepository.deleteByArrestTransactionNumber(identifier);
+		return deleteArrestReportSegments("versions of the arrest report " + identifier, 
+				arrestReportSegmentRepository.findIdsByArrestTransactionNumber(identifier));
 	}
 	
+	@Transactional
 	public Iterable<ArrestReportSegment> saveGroupBArrestReports(List<GroupBArrestReport> groupBArrestReports){
+		CurrentVersions currentVersions = getCurrentVersions();
+		currentVersions.lock(groupBArrestReports.stream()
+				.map(GroupBArrestReport::getIdentifier)
+				.collect(Collectors.toList()));
 		
 		List<ArrestReportSegment> arrestReportSegments = getArrestReportSegments(true, groupBArrestReports);
 		log.info("Persisting " + arrestReportSegments.size() + " Group B Arrest Reports." ); 
 		
-		return arrestReportSegmentRepository.saveAll(arrestReportSegments);
+		Iterable<ArrestReportSegment> savedArrestReportSegments = arrestReportSegmentRepository.saveAll(arrestReportSegments);
+		currentVersions.refresh(arrestReportSegments.stream()
+				.map(ArrestReportSegment::getArrestTransactionNumber)
+				.collect(Collectors.toList()));
+		return savedArrestReportSegments;
+	}
+	
+	private CurrentVersions getCurrentVersions() {
+		return new CurrentVersions(arrestTransactionNumberLocks, arrestReportSegmentRepository::findSegmentVersionsByArrestTransactionNumberList, 
+				arrestReportSegmentRepository::updateCurrentVersionIndicator, 
+				arrestReportSegmentRepository::updateCurrentOwnerVersionIndicator);
 	}
 
 	private List<ArrestReportSegment> getArrestReportSegments(Boolean isToPersist, List<GroupBArrestReport> groupBArrestReports) {
 		List<ArrestReportSegment> arrestReportSegments = new ArrayList<>(); 
+		ReportVersions reportVersions = findReportVersions(isToPersist, groupBArrestReports); 
 		
 		for(GroupBArrestReport groupBArrestReport : groupBArrestReports){
 			ArresteeSegment arrestee = groupBArrestReport.getArrestee(); 
@@ -267,11 +304,10 @@ public class ArrestReportService {
 			}
 
 			arrestReportSegment.setArrestTransactionNumber(groupBArrestReport.getIdentifier());
-			arrestReportSegment.setAgency(agencyRepository.findFirstByAgencyOri(groupBArrestReport.getOri()));
 			arrestReportSegment.setOri(groupBArrestReport.getOri());
 			
 			if (groupBArrestReport.getYearOfTape() != null && groupBArrestReport.getMonthOfTape() != null && isToPersist) {
-				boolean havingNewerSubmission = arrestReportSegmentRepository.existsByArrestTransactionNumberAndOriAndSubmissionDateAndOwnerId
+				boolean havingNewerSubmission = reportVersions.existsByIdentifierAndOriAndSubmissionDateAndOwnerId
 						(arrestReportSegment.getArrestTransactionNumber(), arrestReportSegment.getOri(), 
 								DateUtils.getStartDate(groupBArrestReport.getYearOfTape(), 
 										groupBArrestReport.getMonthOfTape()), groupBArrestReport.getOwnerId());
@@ -281,17 +317,10 @@ public class ArrestReportService {
 				}
 			}
 			
-			String reportActionType = String.valueOf(groupBArrestReport.getReportActionType()).trim();
-			if (!Objects.equals("D", reportActionType) && !Objects.equals("R", reportActionType)
-					&& appProperties.isToUpdateSegmentActionType()){
-				if (arrestReportSegmentRepository
-						.existsByArrestTransactionNumberAndOri(groupBArrestReport.getIdentifier(), groupBArrestReport.getOri())){
-					reportActionType = "R"; 
-				}
-			}
+			String reportActionType = getReportActionType(reportVersions, groupBArrestReport);
 
 			SegmentActionTypeType segmentActionType = codeTableService.getCodeTableType(reportActionType, 
-					segmentActionTypeRepository::findFirstByStateCode, SegmentActionTypeType::new);
+					SegmentActionTypeType.class, SegmentActionTypeType::new);
 			arrestReportSegment.setSegmentActionType(segmentActionType);
 			
 			Optional<Integer> monthOfTape = Optional.ofNullable(groupBArrestReport.getMonthOfTape());
@@ -302,6 +331,7 @@ public class ArrestReportService {
 			if (groupBArrestReport.getYearOfTape() != null){
 				arrestReportSegment.setYearOfTape(String.valueOf(groupBArrestReport.getYearOfTape()));
 			}
+			arrestReportSegment.setSubmissionPeriod(DateUtils.getSubmissionPeriod(groupBArrestReport.getYearOfTape(), groupBArrestReport.getMonthOfTape()));
 			
 			arrestReportSegment.setCityIndicator(groupBArrestReport.getCityIndicator());
 			arrestReportSegment.setStateCode(StringUtils.substring(groupBArrestReport.getOri(), 0, 2));
@@ -327,7 +357,7 @@ public class ArrestReportService {
 			arrestReportSegment.setArrestDateType(codeTableService.getDateType(DateUtils.asDate(groupBArrestReport.getArrestDate())));
 			
 			TypeOfArrestType typeOfArrestType = codeTableService.getCodeTableType(
-					arrestee.getTypeOfArrest(), typeOfArrestTypeRepository::findFirstByStateCode, TypeOfArrestType::new);
+					arrestee.getTypeOfArrest(), TypeOfArrestType.class, TypeOfArrestType::new);
 			arrestReportSegment.setTypeOfArrestType(typeOfArrestType );
 			
 			if (arrestee.getAge() != null) {
@@ -338,32 +368,32 @@ public class ArrestReportService {
 			}
 	
 			SexOfPersonType sexOfPersonType = codeTableService.getCodeTableType(
-					arrestee.getSex(), sexOfPersonTypeRepository::findFirstByStateCode, SexOfPersonType::new);
+					arrestee.getSex(), SexOfPersonType.class, SexOfPersonType::new);
 			arrestReportSegment.setSexOfPersonType(sexOfPersonType);
 			
 			RaceOfPersonType raceOfPersonType = codeTableService.getCodeTableType(
-					arrestee.getRace(), raceOfPersonTypeRepository::findFirstByStateCode, RaceOfPersonType::new);
+					arrestee.getRace(), RaceOfPersonType.class, RaceOfPersonType::new);
 			arrestReportSegment.setRaceOfPersonType(raceOfPersonType);
 			
 			EthnicityOfPersonType ethnicityOfPersonType = codeTableService.getCodeTableType(
-					arrestee.getEthnicity(), ethnicityOfPersonTypeRepository::findFirstByStateCode, EthnicityOfPersonType::new);
+					arrestee.getEthnicity(), EthnicityOfPersonType.class, EthnicityOfPersonType::new);
 			arrestReportSegment.setEthnicityOfPersonType(ethnicityOfPersonType);
 			
 			ResidentStatusOfPersonType residentStatusOfPersonType = codeTableService.getCodeTableType(
 					arrestee.getResidentStatus(), 
-					residentStatusOfPersonTypeRepository::findFirstByStateCode, 
+					ResidentStatusOfPersonType.class, 
 					ResidentStatusOfPersonType::new);
 			arrestReportSegment.setResidentStatusOfPersonType(residentStatusOfPersonType);
 			
 			DispositionOfArresteeUnder18Type dispositionOfArresteeUnder18Type = codeTableService.getCodeTableType(
 					arrestee.getDispositionOfArresteeUnder18(), 
-					dispositionOfArresteeUnder18TypeRepository::findFirstByStateCode, 
+					DispositionOfArresteeUnder18Type.class, 
 					DispositionOfArresteeUnder18Type::new);
 			arrestReportSegment.setDispositionOfArresteeUnder18Type(dispositionOfArresteeUnder18Type );
 			
 			UcrOffenseCodeType ucrOffenseCodeType = codeTableService.getCodeTableType(
 					arrestee.getUcrArrestOffenseCode(), 
-					ucrOffenseCodeTypeRepository::findFirstByStateCode, 
+					UcrOffenseCodeType.class, 
 					UcrOffenseCodeType::new);;
 			arrestReportSegment.setUcrOffenseCodeType(ucrOffenseCodeType);
 			arrestReportSegment.setReportTimestamp(LocalDateTime.now());
@@ -371,10 +401,39 @@ public class ArrestReportService {
 			processArrestReportSegmentArmedWiths(arrestReportSegment, arrestee);
 			
 			arrestReportSegments.add(arrestReportSegment);
+			codeTableService.countConvertedReport();
 		}
+		log.debug("Code table database lookups per report: " + codeTableService.getDatabaseLookupsPerReport());
 		return arrestReportSegments;
 	}
 
+	/**
+	 * The action type of the arrest report, with a report that is neither a delete nor a replacement taken as a replacement 
+	 * when a version of the report is already stored and appProperties.isToUpdateSegmentActionType(). 
+	 */
+	private String getReportActionType(ReportVersions reportVersions, GroupBArrestReport groupBArrestReport) {
+		String reportActionType = String.valueOf(groupBArrestReport.getReportActionType()).trim();
+		if (!Objects.equals("D", reportActionType) && !Objects.equals("R", reportActionType)
+				&& appProperties.isToUpdateSegmentActionType()){
+			if (reportVersions.existsByIdentifierAndOri(groupBArrestReport.getIdentifier(), groupBArrestReport.getOri())){
+				reportActionType = "R"; 
+			}
+		}
+		return reportActionType;
+	}
+	
+	/**
+	 * Fetch the persisted versions of the arrest reports, for deciding which reports to skip and which to persist as replacements, 
+	 * with one query per batch rather than two per report.
+	 */
+	private ReportVersions findReportVersions(Boolean isToPersist, List<GroupBArrestReport> groupBArrestReports) {
+		if (!isToPersist && !appProperties.isToUpdateSegmentActionType()) {
+			return new ReportVersions(Collections.emptyList());
+		}
+		return ReportVersions.find(groupBArrestReports, GroupBArrestReport::getIdentifier, GroupBArrestReport::getOri, 
+				arrestReportSegmentRepository::findReportVersionsByOriListAndArrestTransactionNumberList);
+	}
+
 	private void processArrestReportSegmentArmedWiths(ArrestReportSegment arrestReportSegment, ArresteeSegment arrestee) {
 		
 		Set<ArrestReportSegmentWasArmedWith> armedWiths = Optional.ofNullable(arrestReportSegment.getArrestReportSegmentWasArmedWiths())
@@ -390,7 +449,7 @@ public class ArrestReportService {
 				if (StringUtils.isNotBlank(arresteeArmedWithCode)){
 					Optional<ArresteeWasArmedWithType> arresteeWasArmedWithType = 
 							Optional.ofNullable(codeTableService.getCodeTableType(arresteeArmedWithCode,
-									arresteeWasArmedWithTypeRepository::findFirstByStateCode, 
+									ArresteeWasArmedWithType.class, 
 									null));
 					arresteeWasArmedWithType.ifPresent( type ->
 						armedWiths.add(new ArrestReportSegmentWasArmedWith(
@@ -405,23 +464,42 @@ public class ArrestReportService {
 		}
 	}
 	
-	@Transactional
 	public int deleteByOriAndSubmissionDate(String ori, String yearOfTape, String monthOfTape) {
-		return arrestReportSegmentRepositoryCustom.deleteByOriAndSubmissionDate(ori, yearOfTape, monthOfTape);
+		List<Integer> arrestReportSegmentIds = 
+				arrestReportSegmentRepositoryCustom.findIdsByOriAndSubmissionDate(ori, yearOfTape, monthOfTape);
+		return deleteArrestReportSegments("arrest reports of " + ori + " " + yearOfTape + "-" + monthOfTape, arrestReportSegmentIds);
 	}
 	
-	@Transactional
 	public int deleteIncidentDeleteRequest(IncidentDeleteRequest incidentDeleteRequest) {
-		return arrestReportSegmentRepositoryCustom.deleteByIncidentDeleteRequest(incidentDeleteRequest);
+		List<Integer> arrestReportSegmentIds = 
+				arrestReportSegmentRepositoryCustom.findIdsByIncidentDeleteRequest(incidentDeleteRequest);
+		return deleteArrestReportSegments("arrest reports of the delete request", arrestReportSegmentIds);
+	}
+
+	/**
+	 * Delete the arrest reports with the ids with the set-based deletes, a chunk of them per transaction, and refresh the 
+	 * current versions of the reports in the same transaction. 
+	 */
+	private int deleteArrestReportSegments(String description, List<Integer> arrestReportSegmentIds) {
+		return chunkedDeleter.delete(description, arrestReportSegmentIds, ids -> {
+			List<String> arrestTransactionNumbers = 
+					arrestReportSegmentRepository.findArrestTransactionNumbersByArrestReportSegmentIds(ids);
+			CurrentVersions currentVersions = getCurrentVersions();
+			currentVersions.lock(arrestTransactionNumbers);
+			int deletedCount = arrestReportSegmentRepositoryCustom.deleteByIds(ids);
+			currentVersions.refresh(arrestTransactionNumbers);
+			return deletedCount;
+		});
 	}
 
 	public void convertAndWriteGroupBArrestReports(CustomPair<String, List<GroupBArrestReport>> groupBArrestReportsPair) {
-		List<ArrestReportSegment> arrestReportSegments = 
-				getArrestReportSegments(false, groupBArrestReportsPair.getValue());
-		for (ArrestReportSegment arrestReportSegment: arrestReportSegments) {
-			arrestReportSegment.setArrestReportSegmentId(222222); 
-			xmlReportGenerator.writeArrestReportSegmentToXml(arrestReportSegment, groupBArrestReportsPair.getKey());
+		List<GroupBArrestReport> groupBArrestReports = groupBArrestReportsPair.getValue();
+		ReportVersions reportVersions = findReportVersions(false, groupBArrestReports);
+		for (GroupBArrestReport groupBArrestReport: groupBArrestReports) {
+			if ("R".equals(getReportActionType(reportVersions, groupBArrestReport))) {
+				groupBArrestReport.setReportActionType('R');
+			}
 		}
-		
+		xmlReportGenerator.writeReportsToXml(groupBArrestReports, groupBArrestReportsPair.getKey());
 	}
 }
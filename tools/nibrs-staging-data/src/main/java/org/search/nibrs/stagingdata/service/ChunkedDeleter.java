@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.search.nibrs.stagingdata.AppProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs the set-based deletes of reports by id in chunks of deleteChunkSize ids, each chunk in its own transaction, so purging
+ * an agency-month or a whole state holds its locks for one chunk at a time instead of for the whole delete.  The progress is
+ * logged after each chunk.  Called outside of a transaction; a caller in a transaction deletes all the chunks in it.  A chunk
+ * size below 1 is taken as 1, and no chunk size as one chunk of all the ids.
+ */
+@Component
+public class ChunkedDeleter {
+	private final Log log = LogFactory.getLog(this.getClass());
+
+	private final TransactionTemplate transactionTemplate;
+	private final AppProperties appProperties;
+
+	@Autowired
+	public ChunkedDeleter(PlatformTransactionManager transactionManager, AppProperties appProperties) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.appProperties = appProperties;
+	}
+
+	/**
+	 * Delete the records with the ids.
+	 *
+	 * @param description what is deleted, for the progress log
+	 * @param ids the ids of the records to delete
+	 * @param deleteChunk deletes the records with a chunk of the ids, returning the number deleted
+	 * @return the number of records deleted
+	 */
+	public int delete(String description, List<Integer> ids, Function<List<Integer>, Integer> deleteChunk) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+
+		long start = System.nanoTime();
+		Integer deleteChunkSize = appProperties.getDeleteChunkSize();
+		int chunkSize = deleteChunkSize == null ? ids.size() : Math.max(1, deleteChunkSize);
+		int deletedCount = 0;
+		for (int i = 0; i < ids.size(); i += chunkSize) {
+			List<Integer> chunk = ids.subList(i, Math.min(i + chunkSize, ids.size()));
+			Integer chunkDeletedCount = transactionTemplate.execute(status -> deleteChunk.apply(chunk));
+			deletedCount += chunkDeletedCount == null ? 0 : chunkDeletedCount;
+			log.info("Deleted " + deletedCount + " " + description + ", " + (i + chunk.size()) + "/" + ids.size() + " ids processed");
+		}
+		log.info("Deleted " + deletedCount + " " + description + " in "
+				+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+		return deletedCount;
+	}
+
+}
@@ -17,16 +17,53 @@ package org.search.nibrs.stagingdata.service;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
+import javax.annotation.PostConstruct;
+
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.search.nibrs.stagingdata.model.AdditionalJustifiableHomicideCircumstancesType;
+import org.search.nibrs.stagingdata.model.AggravatedAssaultHomicideCircumstancesType;
+import org.search.nibrs.stagingdata.model.ArresteeWasArmedWithType;
+import org.search.nibrs.stagingdata.model.BiasMotivationType;
+import org.search.nibrs.stagingdata.model.CargoTheftIndicatorType;
+import org.search.nibrs.stagingdata.model.ClearedExceptionallyType;
 import org.search.nibrs.stagingdata.model.DateType;
+import org.search.nibrs.stagingdata.model.DispositionOfArresteeUnder18Type;
+import org.search.nibrs.stagingdata.model.EthnicityOfPersonType;
+import org.search.nibrs.stagingdata.model.LocationType;
+import org.search.nibrs.stagingdata.model.MethodOfEntryType;
+import org.search.nibrs.stagingdata.model.MultipleArresteeSegmentsIndicatorType;
+import org.search.nibrs.stagingdata.model.OffenderSuspectedOfUsingType;
+import org.search.nibrs.stagingdata.model.OfficerActivityCircumstanceType;
+import org.search.nibrs.stagingdata.model.OfficerAssignmentTypeType;
+import org.search.nibrs.stagingdata.model.PropertyDescriptionType;
+import org.search.nibrs.stagingdata.model.RaceOfPersonType;
+import org.search.nibrs.stagingdata.model.ResidentStatusOfPersonType;
+import org.search.nibrs.stagingdata.model.SegmentActionTypeType;
+import org.search.nibrs.stagingdata.model.SexOfPersonType;
+import org.search.nibrs.stagingdata.model.SuspectedDrugTypeType;
+import org.search.nibrs.stagingdata.model.TypeDrugMeasurementType;
+import org.search.nibrs.stagingdata.model.TypeInjuryType;
+import org.search.nibrs.stagingdata.model.TypeOfArrestType;
+import org.search.nibrs.stagingdata.model.TypeOfCriminalActivityType;
+import org.search.nibrs.stagingdata.model.TypeOfVictimType;
+import org.search.nibrs.stagingdata.model.TypeOfWeaponForceInvolvedType;
+import org.search.nibrs.stagingdata.model.TypePropertyLossEtcType;
+import org.search.nibrs.stagingdata.model.UcrOffenseCodeType;
+import org.search.nibrs.stagingdata.model.VictimOffenderRelationshipType;
 import org.search.nibrs.stagingdata.repository.AdditionalJustifiableHomicideCircumstancesTypeRepository;
 import org.search.nibrs.stagingdata.repository.AgencyRepository;
 import org.search.nibrs.stagingdata.repository.AggravatedAssaultHomicideCircumstancesTypeRepository;
 import org.search.nibrs.stagingdata.repository.ArresteeWasArmedWithTypeRepository;
 import org.search.nibrs.stagingdata.repository.BiasMotivationTypeRepository;
+import org.search.nibrs.stagingdata.repository.CargoTheftIndicatorTypeRepository;
 import org.search.nibrs.stagingdata.repository.ClearedExceptionallyTypeRepository;
 import org.search.nibrs.stagingdata.repository.DateTypeRepository;
 import org.search.nibrs.stagingdata.repository.DispositionOfArresteeUnder18TypeRepository;
@@ -56,12 +93,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 /**
- * Service to process Group B Arrest Report.  
+ * Service to look up the code table rows that the staging data model refers to.  
+ * 
+ * The code tables and the DateType dimension are read into an in-memory snapshot at startup, so converting a report does not 
+ * query the database for each of its coded values.  Call refreshCodeTables after changing the code tables in the database.
  *
  */
 @Service
 public class CodeTableService {
+	private static final Log log = LogFactory.getLog(CodeTableService.class);
+	
 	SimpleDateFormat formatter = new SimpleDateFormat("MMddyyyy");
+	
+	private volatile CodeTableSnapshot codeTableSnapshot = new CodeTableSnapshot(new HashMap<>());
+	private final LongAdder databaseLookupCount = new LongAdder(); 
+	private final LongAdder convertedReportCount = new LongAdder(); 
 
 	@Autowired
 	public DateTypeRepository dateTypeRepository; 
@@ -123,6 +169,53 @@ public class CodeTableService {
 	public AggravatedAssaultHomicideCircumstancesTypeRepository aggravatedAssaultHomicideCircumstancesTypeRepository; 
 	@Autowired
 	public VictimOffenderRelationshipTypeRepository victimOffenderRelationshipTypeRepository;
+	@Autowired
+	public CargoTheftIndicatorTypeRepository cargoTheftIndicatorTypeRepository; 
+	
+	/**
+	 * Replace the snapshot of the code tables with a fresh copy from the database.  Lookups already in progress finish against the 
+	 * old snapshot.
+	 */
+	@PostConstruct
+	public void refreshCodeTables() {
+		Map<Class<?>, Map<String, ?>> codeTables = new HashMap<>();
+		put(codeTables, DateType.class, dateTypeRepository.findAll(), DateType::getDateMMDDYYYY);
+		put(codeTables, AdditionalJustifiableHomicideCircumstancesType.class, additionalJustifiableHomicideCircumstancesTypeRepository.findAll(), AdditionalJustifiableHomicideCircumstancesType::getStateCode);
+		put(codeTables, AggravatedAssaultHomicideCircumstancesType.class, aggravatedAssaultHomicideCircumstancesTypeRepository.findAll(), AggravatedAssaultHomicideCircumstancesType::getStateCode);
+		put(codeTables, ArresteeWasArmedWithType.class, arresteeWasArmedWithTypeRepository.findAll(), ArresteeWasArmedWithType::getStateCode);
+		put(codeTables, BiasMotivationType.class, biasMotivationTypeRepository.findAll(), BiasMotivationType::getStateCode);
+		put(codeTables, CargoTheftIndicatorType.class, cargoTheftIndicatorTypeRepository.findAll(), CargoTheftIndicatorType::getStateCode);
+		put(codeTables, ClearedExceptionallyType.class, clearedExceptionallyTypeRepository.findAll(), ClearedExceptionallyType::getStateCode);
+		put(codeTables, DispositionOfArresteeUnder18Type.class, dispositionOfArresteeUnder18TypeRepository.findAll(), DispositionOfArresteeUnder18Type::getStateCode);
+		put(codeTables, EthnicityOfPersonType.class, ethnicityOfPersonTypeRepository.findAll(), EthnicityOfPersonType::getStateCode);
+		put(codeTables, LocationType.class, locationTypeRepository.findAll(), LocationType::getStateCode);
+		put(codeTables, MethodOfEntryType.class, methodOfEntryTypeRepository.findAll(), MethodOfEntryType::getStateCode);
+		put(codeTables, MultipleArresteeSegmentsIndicatorType.class, multipleArresteeSegmentsIndicatorTypeRepository.findAll(), MultipleArresteeSegmentsIndicatorType::getStateCode);
+		put(codeTables, OffenderSuspectedOfUsingType.class, offenderSuspectedOfUsingTypeRepository.findAll(), OffenderSuspectedOfUsingType::getStateCode);
+		put(codeTables, OfficerActivityCircumstanceType.class, officerActivityCircumstanceTypeRepository.findAll(), OfficerActivityCircumstanceType::getStateCode);
+		put(codeTables, OfficerAssignmentTypeType.class, officerAssignmentTypeTypeRepository.findAll(), OfficerAssignmentTypeType::getStateCode);
+		put(codeTables, PropertyDescriptionType.class, propertyDescriptionTypeRepository.findAll(), PropertyDescriptionType::getStateCode);
+		put(codeTables, RaceOfPersonType.class, raceOfPersonTypeRepository.findAll(), RaceOfPersonType::getStateCode);
+		put(codeTables, ResidentStatusOfPersonType.class, residentStatusOfPersonTypeRepository.findAll(), ResidentStatusOfPersonType::getStateCode);
+		put(codeTables, SegmentActionTypeType.class, segmentActionTypeRepository.findAll(), SegmentActionTypeType::getStateCode);
+		put(codeTables, SexOfPersonType.class, sexOfPersonTypeRepository.findAll(), SexOfPersonType::getStateCode);
+		put(codeTables, SuspectedDrugTypeType.class, suspectedDrugTypeTypeRepository.findAll(), SuspectedDrugTypeType::getStateCode);
+		put(codeTables, TypeDrugMeasurementType.class, typeDrugMeasurementTypeRepository.findAll(), TypeDrugMeasurementType::getStateCode);
+		put(codeTables, TypeInjuryType.class, typeInjuryTypeRepository.findAll(), TypeInjuryType::getStateCode);
+		put(codeTables, TypeOfArrestType.class, typeOfArrestTypeRepository.findAll(), TypeOfArrestType::getStateCode);
+		put(codeTables, TypeOfCriminalActivityType.class, typeOfCriminalActivityTypeRepository.findAll(), TypeOfCriminalActivityType::getStateCode);
+		put(codeTables, TypeOfVictimType.class, typeOfVictimTypeRepository.findAll(), TypeOfVictimType::getStateCode);
+		put(codeTables, TypeOfWeaponForceInvolvedType.class, typeOfWeaponForceInvolvedTypeRepository.findAll(), TypeOfWeaponForceInvolvedType::getStateCode);
+		put(codeTables, TypePropertyLossEtcType.class, typePropertyLossEtcTypeRepository.findAll(), TypePropertyLossEtcType::getStateCode);
+		put(codeTables, UcrOffenseCodeType.class, ucrOffenseCodeTypeRepository.findAll(), UcrOffenseCodeType::getStateCode);
+		put(codeTables, VictimOffenderRelationshipType.class, victimOffenderRelationshipTypeRepository.findAll(), VictimOffenderRelationshipType::getStateCode);
+		codeTableSnapshot = new CodeTableSnapshot(codeTables);
+		log.info("Loaded " + codeTableSnapshot.size() + " code table rows from " + codeTables.size() + " code tables");
+	}
+	
+	private static <R> void put(Map<Class<?>, Map<String, ?>> codeTables, Class<R> codeTableType, Iterable<R> rows, Function<R, String> codeFunction) {
+		codeTables.put(codeTableType, CodeTableSnapshot.index(rows, codeFunction));
+	}
 	
 	public DateType getDateType(Date date) {
 		
@@ -130,14 +223,37 @@ public class CodeTableService {
 		
 		DateType dateType = getCodeTableType( 
 				optionalDate.map(d -> formatter.format(d)).orElse(""), 
-				dateTypeRepository::findFirstByDateMMDDYYYY, 
+				DateType.class, 
 				DateType::new);  
 		return dateType;
 	}
 	
+	/**
+	 * Look up the row of a code table held in the snapshot by its state code (by its MMDDYYYY date for DateType). 
+	 * @param constructorFunction the constructor of the "unknown" (id 99998) row returned when there is no row with the code, or null to return null
+	 */
+	public <R> R getCodeTableType(String code, Class<R> codeTableType, Function<Integer, R> constructorFunction ) {
+		if (!codeTableSnapshot.contains(codeTableType)) {
+			throw new IllegalArgumentException(codeTableType.getSimpleName() + " is not a code table held in memory"); 
+		}
+		R r = null;
+		if (StringUtils.isNotBlank(code)){
+			r = codeTableSnapshot.get(codeTableType, code);
+		}
+		
+		if (r == null && constructorFunction != null){
+			r = constructorFunction.apply(99998);
+		}
+		return r;
+	}
+	
+	/**
+	 * Look up a row in the database, for tables (such as Agency) that change as reports are persisted and so are not held in memory.
+	 */
 	public <R> R getCodeTableType(String code,  Function<String, R> findByCodeFunction, Function<Integer, R> constructorFunction ) {
 		R r = null;
 		if (StringUtils.isNotBlank(code)){
+			databaseLookupCount.increment();
 			r = findByCodeFunction.apply(code);
 		}
 		
@@ -146,5 +262,27 @@ public class CodeTableService {
 		}
 		return r;
 	}
+	
+	/**
+	 * Count a report converted to the staging data model, for the database lookups per report statistic.
+	 */
+	public void countConvertedReport() {
+		convertedReportCount.increment();
+	}
+	
+	/**
+	 * The number of code table values looked up in the database so far.
+	 */
+	public long getDatabaseLookupCount() {
+		return databaseLookupCount.sum();
+	}
+	
+	/**
+	 * The average number of code table values looked up in the database per converted report so far.
+	 */
+	public double getDatabaseLookupsPerReport() {
+		long reports = convertedReportCount.sum();
+		return reports == 0 ? 0 : (double) databaseLookupCount.sum() / reports;
+	}
 
 }
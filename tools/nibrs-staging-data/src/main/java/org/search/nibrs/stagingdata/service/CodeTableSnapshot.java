@@ -0,0 +1,71 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable, in-memory copy of the code tables, each keyed by the code the incidents carry (the state code, or the MMDDYYYY date of
+ * the DateType dimension).  Built once and then only read, so it can be shared by any number of threads without locking.
+ */
+final class CodeTableSnapshot {
+
+	private final Map<Class<?>, Map<String, ?>> codeTables;
+
+	/**
+	 * @param codeTables the code tables by type, each indexed by code (see index)
+	 */
+	CodeTableSnapshot(Map<Class<?>, Map<String, ?>> codeTables) {
+		this.codeTables = Collections.unmodifiableMap(new HashMap<>(codeTables));
+	}
+
+	/**
+	 * Whether the snapshot holds the code table of the specified type.
+	 */
+	boolean contains(Class<?> codeTableType) {
+		return codeTables.containsKey(codeTableType);
+	}
+
+	/**
+	 * The row of the specified code table with the specified code, or null if there is none.
+	 */
+	<R> R get(Class<R> codeTableType, String code) {
+		Map<String, ?> codeTable = codeTables.get(codeTableType);
+		return codeTable == null ? null : codeTableType.cast(codeTable.get(code));
+	}
+
+	int size() {
+		return codeTables.values().stream().mapToInt(Map::size).sum();
+	}
+
+	/**
+	 * Index the rows of a code table by their code.  Where rows share a code, the first one wins, as with the repositories' findFirstBy queries.
+	 */
+	static <R> Map<String, R> index(Iterable<R> rows, Function<R, String> codeFunction) {
+		Map<String, R> codeTable = new HashMap<>();
+		for (R row : rows) {
+			String code = codeFunction.apply(row);
+			if (code != null) {
+				codeTable.putIfAbsent(code, row);
+			}
+		}
+		return Collections.unmodifiableMap(codeTable);
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.search.nibrs.stagingdata.repository.segment.SegmentVersion;
+
+/**
+ * Sets the current version indicators of the persisted versions of reports, which the summary queries filter on instead of looking 
+ * up the latest version of each report.  The current version of a report is its version with the highest segment id for its agency, 
+ * and the current owner version the one with the highest segment id for its agency and owner.  Called in the transaction that saves 
+ * or deletes versions of the reports, with their identifiers, which the transaction locks first so that concurrent transactions 
+ * writing versions of the same report set the indicators one after the other.
+ */
+final class CurrentVersions {
+
+	private final IdentifierLocks identifierLocks;
+	private final Function<Collection<String>, List<SegmentVersion>> query;
+	private final BiFunction<Collection<Integer>, Boolean, Integer> updateCurrentVersionIndicator;
+	private final BiFunction<Collection<Integer>, Boolean, Integer> updateCurrentOwnerVersionIndicator;
+
+	/**
+	 * @param identifierLocks the service's locks on the identifiers of its reports
+	 * @param query the repository query locking and returning the versions of the reports with any of the identifiers
+	 * @param updateCurrentVersionIndicator the repository update setting the current version indicator of segment ids
+	 * @param updateCurrentOwnerVersionIndicator the repository update setting the current owner version indicator of segment ids
+	 */
+	CurrentVersions(IdentifierLocks identifierLocks, Function<Collection<String>, List<SegmentVersion>> query, 
+			BiFunction<Collection<Integer>, Boolean, Integer> updateCurrentVersionIndicator, 
+			BiFunction<Collection<Integer>, Boolean, Integer> updateCurrentOwnerVersionIndicator) {
+		this.identifierLocks = identifierLocks;
+		this.query = query;
+		this.updateCurrentVersionIndicator = updateCurrentVersionIndicator;
+		this.updateCurrentOwnerVersionIndicator = updateCurrentOwnerVersionIndicator;
+	}
+
+	/**
+	 * Lock the identifiers of the reports until the current transaction completes.  Called before the transaction saves or deletes 
+	 * versions of the reports, or reads them to decide what to save.
+	 */
+	void lock(Collection<String> identifiers) {
+		identifierLocks.lockUntilCompletion(identifiers);
+	}
+
+	/**
+	 * Set the indicators of all the versions of the reports with the identifiers, updating only the versions whose indicators change.
+	 */
+	void refresh(Collection<String> identifiers) {
+		List<String> identifierList = new ArrayList<>(new LinkedHashSet<>(identifiers));
+		identifierList.removeIf(Objects::isNull);
+		
+		for (int i = 0; i < identifierList.size(); i += ReportVersions.QUERY_CHUNK_SIZE) {
+			List<SegmentVersion> segmentVersions = 
+					query.apply(identifierList.subList(i, Math.min(i + ReportVersions.QUERY_CHUNK_SIZE, identifierList.size())));
+			Changes changes = getChanges(segmentVersions);
+			update(changes.currentVersionIds, true, updateCurrentVersionIndicator);
+			update(changes.notCurrentVersionIds, false, updateCurrentVersionIndicator);
+			update(changes.currentOwnerVersionIds, true, updateCurrentOwnerVersionIndicator);
+			update(changes.notCurrentOwnerVersionIds, false, updateCurrentOwnerVersionIndicator);
+		}
+	}
+
+	/**
+	 * The segment ids whose indicators have to change, given all the versions of some reports.  A version without an identifier or 
+	 * agency is never current, nor is a version without an owner the current owner version, as the queries never matched them.
+	 */
+	static Changes getChanges(Collection<SegmentVersion> segmentVersions) {
+		Map<List<Object>, Integer> latestIds = new HashMap<>();
+		Map<List<Object>, Integer> latestOwnerIds = new HashMap<>();
+		for (SegmentVersion segmentVersion : segmentVersions) {
+			if (segmentVersion.getIdentifier() != null && segmentVersion.getAgencyId() != null) {
+				latestIds.merge(key(segmentVersion), segmentVersion.getSegmentId(), Math::max);
+				if (segmentVersion.getOwnerId() != null) {
+					latestOwnerIds.merge(ownerKey(segmentVersion), segmentVersion.getSegmentId(), Math::max);
+				}
+			}
+		}
+		
+		Changes changes = new Changes();
+		for (SegmentVersion segmentVersion : segmentVersions) {
+			boolean current = segmentVersion.getSegmentId().equals(latestIds.get(key(segmentVersion)));
+			boolean currentOwner = segmentVersion.getSegmentId().equals(latestOwnerIds.get(ownerKey(segmentVersion)));
+			
+			if (current != Boolean.TRUE.equals(segmentVersion.getCurrentVersionIndicator())) {
+				(current ? changes.currentVersionIds : changes.notCurrentVersionIds).add(segmentVersion.getSegmentId());
+			}
+			if (currentOwner != Boolean.TRUE.equals(segmentVersion.getCurrentOwnerVersionIndicator())) {
+				(currentOwner ? changes.currentOwnerVersionIds : changes.notCurrentOwnerVersionIds).add(segmentVersion.getSegmentId());
+			}
+		}
+		return changes;
+	}
+
+	private static List<Object> key(SegmentVersion segmentVersion) {
+		return Arrays.asList(segmentVersion.getIdentifier(), segmentVersion.getAgencyId());
+	}
+
+	private static List<Object> ownerKey(SegmentVersion segmentVersion) {
+		return Arrays.asList(segmentVersion.getIdentifier(), segmentVersion.getAgencyId(), segmentVersion.getOwnerId());
+	}
+
+	private static void update(List<Integer> segmentIds, Boolean indicator, BiFunction<Collection<Integer>, Boolean, Integer> update) {
+		if (!segmentIds.isEmpty()) {
+			update.apply(segmentIds, indicator);
+		}
+	}
+
+	static final class Changes {
+		final List<Integer> currentVersionIds = new ArrayList<>();
+		final List<Integer> notCurrentVersionIds = new ArrayList<>();
+		final List<Integer> currentOwnerVersionIds = new ArrayList<>();
+		final List<Integer> notCurrentOwnerVersionIds = new ArrayList<>();
+	}
+
+}
@@ -18,6 +18,7 @@ package org.search.nibrs.stagingdata.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -26,6 +27,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -58,6 +60,7 @@ import org.search.nibrs.stagingdata.model.PropertyDescriptionType;
 import org.search.nibrs.stagingdata.model.PropertyType;
 import org.search.nibrs.stagingdata.model.RaceOfPersonType;
 import org.search.nibrs.stagingdata.model.ResidentStatusOfPersonType;
+import org.search.nibrs.stagingdata.model.SegmentActionTypeType;
 import org.search.nibrs.stagingdata.model.SexOfPersonType;
 import org.search.nibrs.stagingdata.model.SuspectedDrugType;
 import org.search.nibrs.stagingdata.model.SuspectedDrugTypeType;
@@ -200,25 +203,34 @@ public class GroupAIncidentService {
 	
 	@Autowired
 	public XmlReportGenerator xmlReportGenerator; 
+	@Autowired
+	public ChunkedDeleter chunkedDeleter; 
+	
+	private final IdentifierLocks incidentNumberLocks = new IdentifierLocks();
 	
 	@Transactional
 	public AdministrativeSegment saveAdministrativeSegment(AdministrativeSegment administrativeSegment){
-		return administrativeSegmentRepository.save(administrativeSegment);
+		CurrentVersions currentVersions = getCurrentVersions();
+		currentVersions.lock(Collections.singletonList(administrativeSegment.getIncidentNumber()));
+		administrativeSegment.setSubmissionPeriod(
+				DateUtils.getSubmissionPeriod(administrativeSegment.getYearOfTape(), administrativeSegment.getMonthOfTape()));
+		AdministrativeSegment savedAdministrativeSegment = administrativeSegmentRepository.save(administrativeSegment);
+		currentVersions.refresh(Collections.singletonList(savedAdministrativeSegment.getIncidentNumber()));
+		return savedAdministrativeSegment;
 	}
 	
-	@Transactional
 	public long deleteAdministrativeSegment(String incidentNumber){
-		return administrativeSegmentRepository.deleteByIncidentNumber(incidentNumber);
+		return deleteAdministrativeSegments("versions of the group A incident report " + incidentNumber, 
+				administrativeSegmentRepository.findIdsByIncidentNumber(incidentNumber));
 	}
 	
-	@Transactional
 	public long deleteGroupAIncidentReport(String incidentNumber){
 		if ( StringUtils.isBlank(incidentNumber)){
 			log.error(BAD_DELETE_REQUEST); 
 			throw new BadRequestException(BAD_DELETE_REQUEST);
 		}
 
-		return administrativeSegmentRepository.deleteByIncidentNumber(incidentNumber);
+		return deleteAdministrativeSegment(incidentNumber);
 	}
 	
 	public AdministrativeSegment findAdministrativeSegment(Integer id){
@@ -239,14 +251,30 @@ public class GroupAIncidentService {
 		return offenseSegmentRepository.saveAll(offenseSegments);
 	}
 	
+	@Transactional
 	public Iterable<AdministrativeSegment> saveGroupAIncidentReports(GroupAIncidentReport... groupAIncidentReports){
+		CurrentVersions currentVersions = getCurrentVersions();
+		currentVersions.lock(Arrays.stream(groupAIncidentReports)
+				.map(GroupAIncidentReport::getIncidentNumber)
+				.collect(Collectors.toList()));
 		List<AdministrativeSegment> administrativeSegments = getAdministrativeSegments(true,groupAIncidentReports);
 		
-		return administrativeSegmentRepository.saveAll(administrativeSegments);
+		Iterable<AdministrativeSegment> savedAdministrativeSegments = administrativeSegmentRepository.saveAll(administrativeSegments);
+		currentVersions.refresh(administrativeSegments.stream()
+				.map(AdministrativeSegment::getIncidentNumber)
+				.collect(Collectors.toList()));
+		return savedAdministrativeSegments;
+	}
+	
+	private CurrentVersions getCurrentVersions() {
+		return new CurrentVersions(incidentNumberLocks, administrativeSegmentRepository::findSegmentVersionsByIncidentNumberList, 
+				administrativeSegmentRepository::updateCurrentVersionIndicator, 
+				administrativeSegmentRepository::updateCurrentOwnerVersionIndicator);
 	}
 
 	private List<AdministrativeSegment> getAdministrativeSegments(Boolean isToPersist, GroupAIncidentReport... groupAIncidentReports) {
 		List<AdministrativeSegment> administrativeSegments = new ArrayList<>();
+		ReportVersions reportVersions = findReportVersions(isToPersist, groupAIncidentReports); 
 		
 		for (GroupAIncidentReport groupAIncidentReport: groupAIncidentReports){
 			AdministrativeSegment administrativeSegment = new AdministrativeSegment();
@@ -266,13 +294,14 @@ public class GroupAIncidentService {
 			if (groupAIncidentReport.getYearOfTape() != null){
 				administrativeSegment.setYearOfTape(String.valueOf(groupAIncidentReport.getYearOfTape()));
 			}
+			administrativeSegment.setSubmissionPeriod(DateUtils.getSubmissionPeriod(groupAIncidentReport.getYearOfTape(), groupAIncidentReport.getMonthOfTape()));
 			
 			administrativeSegment.setOri(groupAIncidentReport.getOri());
 			administrativeSegment.setIncidentNumber(groupAIncidentReport.getIncidentNumber());
 			
 			if (groupAIncidentReport.getYearOfTape() != null && groupAIncidentReport.getMonthOfTape() != null
 					&& isToPersist) {
-				boolean havingNewerSubmission = administrativeSegmentRepository.existsByIncidentNumberAndOriAndSubmissionDateAndOwnerId
+				boolean havingNewerSubmission = reportVersions.existsByIdentifierAndOriAndSubmissionDateAndOwnerId
 						(administrativeSegment.getIncidentNumber(), administrativeSegment.getOri(), 
 								DateUtils.getStartDate(groupAIncidentReport.getYearOfTape(), 
 										groupAIncidentReport.getMonthOfTape()), groupAIncidentReport.getOwnerId());
@@ -282,16 +311,9 @@ public class GroupAIncidentService {
 				}
 			}
 			
-			String reportActionType = String.valueOf(groupAIncidentReport.getReportActionType()).trim();
-			if (!Objects.equals("D", reportActionType) && !Objects.equals("R", reportActionType)
-					&& appProperties.isToUpdateSegmentActionType()){
-				if (administrativeSegmentRepository
-						.existsByIncidentNumberAndOri(groupAIncidentReport.getIncidentNumber(), groupAIncidentReport.getOri())){
-					reportActionType = "R"; 
-				}
-			}
+			String reportActionType = getReportActionType(reportVersions, groupAIncidentReport);
 			
-			administrativeSegment.setSegmentActionType(segmentActionTypeRepository.findFirstByStateCode(reportActionType));
+			administrativeSegment.setSegmentActionType(codeTableService.getCodeTableType(reportActionType, SegmentActionTypeType.class, null));
 			
 			administrativeSegment.setCityIndicator(groupAIncidentReport.getCityIndicator());
 			administrativeSegment.setStateCode(StringUtils.substring(groupAIncidentReport.getOri(), 0, 2));
@@ -307,7 +329,7 @@ public class GroupAIncidentService {
 			
 			ClearedExceptionallyType clearedExceptionallyType = 
 					codeTableService.getCodeTableType(groupAIncidentReport.getExceptionalClearanceCode(), 
-							clearedExceptionallyTypeRepository::findFirstByStateCode, 
+							ClearedExceptionallyType.class, 
 							ClearedExceptionallyType::new); 
 			administrativeSegment.setClearedExceptionallyType(clearedExceptionallyType);
 			
@@ -326,7 +348,7 @@ public class GroupAIncidentService {
 			
 			CargoTheftIndicatorType cargoTheftIndicatorType = 
 					codeTableService.getCodeTableType(groupAIncidentReport.getCargoTheftIndicator(), 
-							cargoTheftIndicatorTypeRepository::findFirstByStateCode, CargoTheftIndicatorType::new); 
+							CargoTheftIndicatorType.class, CargoTheftIndicatorType::new); 
 			administrativeSegment.setCargoTheftIndicatorType(cargoTheftIndicatorType);
 			administrativeSegment.setReportTimestamp(LocalDateTime.now());
 			processProperties(administrativeSegment, groupAIncidentReport);
@@ -335,9 +357,39 @@ public class GroupAIncidentService {
 			processArrestees(administrativeSegment, groupAIncidentReport);
 			processVictims(administrativeSegment, groupAIncidentReport);
 			administrativeSegments.add(administrativeSegment);
+			codeTableService.countConvertedReport();
 		}
+		log.debug("Code table database lookups per report: " + codeTableService.getDatabaseLookupsPerReport());
 		return administrativeSegments;
 	}
+	
+	/**
+	 * The action type of the incident, with an incident report that is neither a delete nor a replacement taken as a 
+	 * replacement when a version of the incident is already stored and appProperties.isToUpdateSegmentActionType(). 
+	 */
+	private String getReportActionType(ReportVersions reportVersions, GroupAIncidentReport groupAIncidentReport) {
+		String reportActionType = String.valueOf(groupAIncidentReport.getReportActionType()).trim();
+		if (!Objects.equals("D", reportActionType) && !Objects.equals("R", reportActionType)
+				&& appProperties.isToUpdateSegmentActionType()){
+			if (reportVersions.existsByIdentifierAndOri(groupAIncidentReport.getIncidentNumber(), groupAIncidentReport.getOri())){
+				reportActionType = "R"; 
+			}
+		}
+		return reportActionType;
+	}
+	
+	/**
+	 * Fetch the persisted versions of the incidents, for deciding which incidents to skip and which to persist as replacements, 
+	 * with one query per batch rather than two per incident.
+	 */
+	private ReportVersions findReportVersions(Boolean isToPersist, GroupAIncidentReport... groupAIncidentReports) {
+		if (!isToPersist && !appProperties.isToUpdateSegmentActionType()) {
+			return new ReportVersions(Collections.emptyList());
+		}
+		return ReportVersions.find(Arrays.asList(groupAIncidentReports), GroupAIncidentReport::getIncidentNumber, 
+				GroupAIncidentReport::getOri, administrativeSegmentRepository::findReportVersionsByOriListAndIncidentNumberList);
+	}
+	
 	private void processProperties(AdministrativeSegment administrativeSegment,
 			GroupAIncidentReport groupAIncidentReport) {
 		if (groupAIncidentReport.getPropertyCount() > 0){
@@ -351,7 +403,7 @@ public class GroupAIncidentService {
 				propertySegment.setAdministrativeSegment(administrativeSegment);
 				
 				TypePropertyLossEtcType typePropertyLossEtcType = codeTableService.getCodeTableType(
-						property.getTypeOfPropertyLoss(), typePropertyLossEtcTypeRepository::findFirstByStateCode, TypePropertyLossEtcType::new);
+						property.getTypeOfPropertyLoss(), TypePropertyLossEtcType.class, TypePropertyLossEtcType::new);
 				propertySegment.setTypePropertyLossEtcType(typePropertyLossEtcType );
 				
 				Integer numberOfRecoveredMotorVehicles = Optional.ofNullable(property.getNumberOfRecoveredMotorVehicles())
@@ -380,7 +432,7 @@ public class GroupAIncidentService {
 				String suspectedDrugTypeString = StringUtils.trimToNull(property.getSuspectedDrugType(i)); 
 				
 				SuspectedDrugTypeType suspectedDrugTypeType = 
-						codeTableService.getCodeTableType(suspectedDrugTypeString, suspectedDrugTypeTypeRepository::findFirstByStateCode, null);
+						codeTableService.getCodeTableType(suspectedDrugTypeString, SuspectedDrugTypeType.class, null);
 				
 				if (suspectedDrugTypeType != null){
 					SuspectedDrugType suspectedDrugType = new SuspectedDrugType(); 
@@ -393,7 +445,7 @@ public class GroupAIncidentService {
 					
 					
 					TypeDrugMeasurementType typeDrugMeasurementType = codeTableService.getCodeTableType(
-							property.getTypeDrugMeasurement(i), typeDrugMeasurementTypeRepository::findFirstByStateCode, TypeDrugMeasurementType::new);
+							property.getTypeDrugMeasurement(i), TypeDrugMeasurementType.class, TypeDrugMeasurementType::new);
 					suspectedDrugType.setTypeDrugMeasurementType(typeDrugMeasurementType );
 					
 					suspectedDrugTypes.add(suspectedDrugType);
@@ -414,7 +466,7 @@ public class GroupAIncidentService {
 				String propertyDescription = StringUtils.trimToNull(property.getPropertyDescription(i)); 
 				
 				PropertyDescriptionType propertyDescriptionType = 
-						codeTableService.getCodeTableType(propertyDescription, propertyDescriptionTypeRepository::findFirstByStateCode, null);
+						codeTableService.getCodeTableType(propertyDescription, PropertyDescriptionType.class, null);
 				
 				if (propertyDescriptionType != null){
 					PropertyType propertyType = new PropertyType(); 
@@ -478,18 +530,18 @@ public class GroupAIncidentService {
 				victimSegment.setVictimSequenceNumber(victim.getVictimSequenceNumber().getValue());
 
 				TypeOfVictimType typeOfVictimType = 
-						codeTableService.getCodeTableType(victim.getTypeOfVictim(), typeOfVictimTypeRepository::findFirstByStateCode, TypeOfVictimType::new);
+						codeTableService.getCodeTableType(victim.getTypeOfVictim(), TypeOfVictimType.class, TypeOfVictimType::new);
 				victimSegment.setTypeOfVictimType(typeOfVictimType);
 				
 				OfficerActivityCircumstanceType officerActivityCircumstanceType = 
 						codeTableService.getCodeTableType(victim.getTypeOfOfficerActivityCircumstance(), 
-								officerActivityCircumstanceTypeRepository::findFirstByStateCode, 
+								OfficerActivityCircumstanceType.class, 
 								OfficerActivityCircumstanceType::new);
 				victimSegment.setOfficerActivityCircumstanceType(officerActivityCircumstanceType);
 				
 				OfficerAssignmentTypeType officerAssignmentTypeType = 
 						codeTableService.getCodeTableType(victim.getOfficerAssignmentType(), 
-								officerAssignmentTypeTypeRepository::findFirstByStateCode, 
+								OfficerAssignmentTypeType.class, 
 								OfficerAssignmentTypeType::new);
 				victimSegment.setOfficerAssignmentTypeType(officerAssignmentTypeType);
 				
@@ -505,26 +557,26 @@ public class GroupAIncidentService {
 				victimSegment.setNonNumericAge(victimAge.map(NIBRSAge::getNonNumericAge).orElse(null));
 				
 				SexOfPersonType sexOfPersonType = codeTableService.getCodeTableType(
-						victim.getSex(), sexOfPersonTypeRepository::findFirstByStateCode, SexOfPersonType::new);
+						victim.getSex(), SexOfPersonType.class, SexOfPersonType::new);
 				victimSegment.setSexOfPersonType(sexOfPersonType);
 				
 				RaceOfPersonType raceOfPersonType = codeTableService.getCodeTableType(
-						victim.getRace(), raceOfPersonTypeRepository::findFirstByStateCode, RaceOfPersonType::new);
+						victim.getRace(), RaceOfPersonType.class, RaceOfPersonType::new);
 				victimSegment.setRaceOfPersonType(raceOfPersonType);
 				
 				EthnicityOfPersonType ethnicityOfPersonType = codeTableService.getCodeTableType(
-						victim.getEthnicity(), ethnicityOfPersonTypeRepository::findFirstByStateCode, EthnicityOfPersonType::new);
+						victim.getEthnicity(), EthnicityOfPersonType.class, EthnicityOfPersonType::new);
 				victimSegment.setEthnicityOfPersonType(ethnicityOfPersonType);
 				
 				ResidentStatusOfPersonType residentStatusOfPersonType = codeTableService.getCodeTableType(
 						victim.getResidentStatus(), 
-						residentStatusOfPersonTypeRepository::findFirstByStateCode, 
+						ResidentStatusOfPersonType.class, 
 						ResidentStatusOfPersonType::new);
 				victimSegment.setResidentStatusOfPersonType(residentStatusOfPersonType);
 				
 				AdditionalJustifiableHomicideCircumstancesType additionalJustifiableHomicideCircumstancesType = codeTableService.getCodeTableType(
 						victim.getAdditionalJustifiableHomicideCircumstances(), 
-						additionalJustifiableHomicideCircumstancesTypeRepository::findFirstByStateCode, 
+						AdditionalJustifiableHomicideCircumstancesType.class, 
 						AdditionalJustifiableHomicideCircumstancesType::new);
 				victimSegment.setAdditionalJustifiableHomicideCircumstancesType(additionalJustifiableHomicideCircumstancesType);
 				
@@ -569,7 +621,7 @@ public class GroupAIncidentService {
 					VictimOffenderRelationshipType victimOffenderRelationshipType = codeTableService
 							.getCodeTableType(
 									victimOffenderRelationship, 
-									victimOffenderRelationshipTypeRepository::findFirstByStateCode, 
+									VictimOffenderRelationshipType.class, 
 									VictimOffenderRelationshipType::new);
 					victimOffenderAssociation.setVictimOffenderRelationshipType(victimOffenderRelationshipType);
 					victimOffenderAssociations.add(victimOffenderAssociation);
@@ -587,7 +639,7 @@ public class GroupAIncidentService {
 					.filter(StringUtils::isNotBlank)
 					.map(item -> codeTableService.getCodeTableType(
 								item, 
-								aggravatedAssaultHomicideCircumstancesTypeRepository::findFirstByStateCode, 
+								AggravatedAssaultHomicideCircumstancesType.class, 
 								null) )
 					.filter(Objects::nonNull)
 					.forEach(aggravatedAssaultHomicideCircumstancesTypes::add);
@@ -600,7 +652,7 @@ public class GroupAIncidentService {
 			Set<TypeInjuryType> typeInjuryTypes = new HashSet<>();
 			Arrays.stream(victim.getTypeOfInjury())
 					.filter(StringUtils::isNotBlank)
-					.map(item -> codeTableService.getCodeTableType(item, typeInjuryTypeRepository::findFirstByStateCode, null))
+					.map(item -> codeTableService.getCodeTableType(item, TypeInjuryType.class, null))
 					.filter(Objects::nonNull)
 					.forEach(typeInjuryTypes::add);
 			victimSegment.setTypeInjuryTypes(typeInjuryTypes);
@@ -620,7 +672,7 @@ public class GroupAIncidentService {
 				if (StringUtils.isNotBlank(arresteeArmedWithCode)){
 					Optional<ArresteeWasArmedWithType> arresteeWasArmedWithType = 
 							Optional.ofNullable(codeTableService.getCodeTableType(arresteeArmedWithCode,
-									arresteeWasArmedWithTypeRepository::findFirstByStateCode, 
+									ArresteeWasArmedWithType.class, 
 									null));
 					arresteeWasArmedWithType.ifPresent( type ->
 						armedWiths.add(new ArresteeSegmentWasArmedWith(
@@ -651,13 +703,13 @@ public class GroupAIncidentService {
 				arresteeSegment.setArrestDateType(codeTableService.getDateType(DateUtils.asDate(arrestee.getArrestDate().getValue())));
 				
 				TypeOfArrestType typeOfArrestType = codeTableService.getCodeTableType(
-						arrestee.getTypeOfArrest(), typeOfArrestTypeRepository::findFirstByStateCode, TypeOfArrestType::new);
+						arrestee.getTypeOfArrest(), TypeOfArrestType.class, TypeOfArrestType::new);
 				arresteeSegment.setTypeOfArrestType(typeOfArrestType );
 				
 				MultipleArresteeSegmentsIndicatorType multipleArresteeSegmentsIndicatorType = 
 						codeTableService.getCodeTableType(
 							arrestee.getMultipleArresteeSegmentsIndicator(), 
-							multipleArresteeSegmentsIndicatorTypeRepository::findFirstByStateCode, 
+							MultipleArresteeSegmentsIndicatorType.class, 
 							MultipleArresteeSegmentsIndicatorType::new);
 				arresteeSegment.setMultipleArresteeSegmentsIndicatorType(multipleArresteeSegmentsIndicatorType);
 				
@@ -668,32 +720,32 @@ public class GroupAIncidentService {
 				arresteeSegment.setNonNumericAge(arresteeAge.map(NIBRSAge::getNonNumericAge).orElse(null));
 				
 				SexOfPersonType sexOfPersonType = codeTableService.getCodeTableType(
-						arrestee.getSex(), sexOfPersonTypeRepository::findFirstByStateCode, SexOfPersonType::new);
+						arrestee.getSex(), SexOfPersonType.class, SexOfPersonType::new);
 				arresteeSegment.setSexOfPersonType(sexOfPersonType);
 				
 				RaceOfPersonType raceOfPersonType = codeTableService.getCodeTableType(
-						arrestee.getRace(), raceOfPersonTypeRepository::findFirstByStateCode, RaceOfPersonType::new);
+						arrestee.getRace(), RaceOfPersonType.class, RaceOfPersonType::new);
 				arresteeSegment.setRaceOfPersonType(raceOfPersonType);
 				
 				EthnicityOfPersonType ethnicityOfPersonType = codeTableService.getCodeTableType(
-						arrestee.getEthnicity(), ethnicityOfPersonTypeRepository::findFirstByStateCode, EthnicityOfPersonType::new);
+						arrestee.getEthnicity(), EthnicityOfPersonType.class, EthnicityOfPersonType::new);
 				arresteeSegment.setEthnicityOfPersonType(ethnicityOfPersonType);
 				
 				ResidentStatusOfPersonType residentStatusOfPersonType = codeTableService.getCodeTableType(
 						arrestee.getResidentStatus(), 
-						residentStatusOfPersonTypeRepository::findFirstByStateCode, 
+						ResidentStatusOfPersonType.class, 
 						ResidentStatusOfPersonType::new);
 				arresteeSegment.setResidentStatusOfPersonType(residentStatusOfPersonType);
 				
 				DispositionOfArresteeUnder18Type dispositionOfArresteeUnder18Type = codeTableService.getCodeTableType(
 						arrestee.getDispositionOfArresteeUnder18(), 
-						dispositionOfArresteeUnder18TypeRepository::findFirstByStateCode, 
+						DispositionOfArresteeUnder18Type.class, 
 						DispositionOfArresteeUnder18Type::new);
 				arresteeSegment.setDispositionOfArresteeUnder18Type(dispositionOfArresteeUnder18Type );
 				
 				UcrOffenseCodeType ucrOffenseCodeType = codeTableService.getCodeTableType(
 						arrestee.getUcrArrestOffenseCode(), 
-						ucrOffenseCodeTypeRepository::findFirstByStateCode, 
+						UcrOffenseCodeType.class, 
 						UcrOffenseCodeType::new);;
 				arresteeSegment.setUcrOffenseCodeType(ucrOffenseCodeType);
 	
@@ -726,15 +778,15 @@ public class GroupAIncidentService {
 				offenderSegment.setOffenderSequenceNumber(offender.getOffenderSequenceNumber().getValue());
 				
 				SexOfPersonType sexOfPersonType = codeTableService.getCodeTableType(
-						offender.getSex(), sexOfPersonTypeRepository::findFirstByStateCode, SexOfPersonType::new);
+						offender.getSex(), SexOfPersonType.class, SexOfPersonType::new);
 				offenderSegment.setSexOfPersonType(sexOfPersonType);
 				
 				RaceOfPersonType raceOfPersonType = codeTableService.getCodeTableType(
-						offender.getRace(), raceOfPersonTypeRepository::findFirstByStateCode, RaceOfPersonType::new);
+						offender.getRace(), RaceOfPersonType.class, RaceOfPersonType::new);
 				offenderSegment.setRaceOfPersonType(raceOfPersonType);
 				
 				EthnicityOfPersonType ethnicityOfPersonType = codeTableService.getCodeTableType(
-						offender.getEthnicity(), ethnicityOfPersonTypeRepository::findFirstByStateCode, EthnicityOfPersonType::new);
+						offender.getEthnicity(), EthnicityOfPersonType.class, EthnicityOfPersonType::new);
 				offenderSegment.setEthnicityOfPersonType(ethnicityOfPersonType);
 
 				offenderSegments.add(offenderSegment);
@@ -758,20 +810,20 @@ public class GroupAIncidentService {
 				
 				UcrOffenseCodeType ucrOffenseCodeType = 
 						codeTableService.getCodeTableType(offense.getUcrOffenseCode(), 
-								ucrOffenseCodeTypeRepository::findFirstByStateCode, UcrOffenseCodeType::new);
+								UcrOffenseCodeType.class, UcrOffenseCodeType::new);
 				offenseSegment.setUcrOffenseCodeType(ucrOffenseCodeType);
 				offenseSegment.setOffenseAttemptedCompleted(offense.getOffenseAttemptedCompleted());
 				
 				LocationType locationType = 
 						codeTableService.getCodeTableType(offense.getLocationType(), 
-								locationTypeRepository::findFirstByStateCode, LocationType::new);
+								LocationType.class, LocationType::new);
 				offenseSegment.setLocationType(locationType);
 				
 				offenseSegment.setNumberOfPremisesEntered(offense.getNumberOfPremisesEntered().getValue());
 				
 				MethodOfEntryType methodOfEntryType = 
 						codeTableService.getCodeTableType(offense.getMethodOfEntry(), 
-								methodOfEntryTypeRepository::findFirstByStateCode, MethodOfEntryType::new);
+								MethodOfEntryType.class, MethodOfEntryType::new);
 				offenseSegment.setMethodOfEntryType(methodOfEntryType);
 				processTypeOfWeaponForceInvolved(offenseSegment, offense); 
 				processTypeOfCriminalActivityCount(offenseSegment, offense); 
@@ -781,7 +833,7 @@ public class GroupAIncidentService {
 				Arrays.stream(offense.getBiasMotivation())
 					.filter(StringUtils::isNotBlank)
 					.map(code -> codeTableService.getCodeTableType(code, 
-								biasMotivationTypeRepository::findFirstByStateCode, null))
+								BiasMotivationType.class, null))
 					.filter(Objects::nonNull)
 					.forEach(biasMotivationTypes::add);
 					
@@ -802,7 +854,7 @@ public class GroupAIncidentService {
 			for (int i = 0; i < offense.getPopulatedOffendersSuspectedOfUsingCount(); i++){
 				String offenderSuspectedUsingCode = StringUtils.trimToNull(offense.getOffendersSuspectedOfUsing(i));
 				OffenderSuspectedOfUsingType offenderSuspectedOfUsingType = 
-						codeTableService.getCodeTableType(offenderSuspectedUsingCode, offenderSuspectedOfUsingTypeRepository::findFirstByStateCode, null);
+						codeTableService.getCodeTableType(offenderSuspectedUsingCode, OffenderSuspectedOfUsingType.class, null);
 				if (offenderSuspectedOfUsingType != null){
 					offenderSuspectedOfUsingTypes.add(offenderSuspectedOfUsingType); 
 				}
@@ -819,7 +871,7 @@ public class GroupAIncidentService {
 			for (int i = 0; i < offense.getPopulatedTypeOfCriminalActivityCount(); i++){
 				String typeOfCriminalActivityCode = StringUtils.trimToNull(offense.getTypeOfCriminalActivity(i));
 				TypeOfCriminalActivityType typeOfCriminalActivityType = 
-						codeTableService.getCodeTableType(typeOfCriminalActivityCode, typeOfCriminalActivityTypeRepository::findFirstByStateCode, null);
+						codeTableService.getCodeTableType(typeOfCriminalActivityCode, TypeOfCriminalActivityType.class, null);
 				if (typeOfCriminalActivityType != null){
 					typeOfCriminalActivityTypes.add(typeOfCriminalActivityType); 
 				}
@@ -841,7 +893,7 @@ public class GroupAIncidentService {
 				if (StringUtils.isNotBlank(typeOfWeaponForceInvolvedCode)){
 					Optional<TypeOfWeaponForceInvolvedType> typeOfWeaponForceInvolvedType = 
 							Optional.ofNullable(codeTableService.getCodeTableType(typeOfWeaponForceInvolvedCode,
-									typeOfWeaponForceInvolvedTypeRepository::findFirstByStateCode, 
+									TypeOfWeaponForceInvolvedType.class, 
 									null));
 					typeOfWeaponForceInvolvedType.ifPresent( type ->
 						typeOfWeaponForceInvolveds.add(new TypeOfWeaponForceInvolved(
@@ -857,36 +909,47 @@ public class GroupAIncidentService {
 	}
 
 	public Integer deleteGroupAIncidentReports(String ori, String yearOfTape, String monthOfTape) {
-		return administrativeSegmentRepository.deleteByOriAndYearOfTapeAndMonthOfTape(ori, yearOfTape, monthOfTape);
+		List<Integer> administrativeSegmentIds = 
+				administrativeSegmentRepository.findIdsByOriAndYearOfTapeAndMonthOfTape(ori, yearOfTape, monthOfTape);
+		return deleteAdministrativeSegments("group A incident reports of " + ori + " " + yearOfTape + "-" + monthOfTape, 
+				administrativeSegmentIds);
 	}
 	
 	public List<Integer> findAdministrativeSegmentIdsByIncidentDeleteRequest(IncidentDeleteRequest incidentDeleteRequest){
-		return administrativeSegmentRepository.findIdsByOwnerStateAndAgency(incidentDeleteRequest.getOwnerId(), incidentDeleteRequest.getStateCode(), incidentDeleteRequest.getAgencyId());
+		return administrativeSegmentRepositoryCustom.findIdsByIncidentDeleteRequest(incidentDeleteRequest);
 	}
 
-	@Transactional
 	public Integer deleteGroupAIncidentReportsByRequest(IncidentDeleteRequest incidentDeleteRequest) {
-		List<Integer> administrativeSegmentIds = administrativeSegmentRepository
-				.findIdsByOwnerStateAndAgency(incidentDeleteRequest.getOwnerId(), 
-						StringUtils.trimToNull(incidentDeleteRequest.getStateCode()), incidentDeleteRequest.getAgencyId());
-		
-		if (administrativeSegmentIds.isEmpty()) {
-			return 0;
-		}
-		else {
-			return administrativeSegmentRepositoryCustom.deleteByIds(administrativeSegmentIds);
-		}
+		List<Integer> administrativeSegmentIds = 
+				administrativeSegmentRepositoryCustom.findIdsByIncidentDeleteRequest(incidentDeleteRequest);
+		return deleteAdministrativeSegments("group A incident reports of the delete request", administrativeSegmentIds);
+	}
+	
+	/**
+	 * Delete the incidents with the ids with the set-based deletes, a chunk of them per transaction, and refresh the current 
+	 * versions of the incidents in the same transaction. 
+	 */
+	private Integer deleteAdministrativeSegments(String description, List<Integer> administrativeSegmentIds) {
+		return chunkedDeleter.delete(description, administrativeSegmentIds, ids -> {
+			List<String> incidentNumbers = administrativeSegmentRepository.findIncidentNumbersByAdministrativeSegmentIds(ids);
+			CurrentVersions currentVersions = getCurrentVersions();
+			currentVersions.lock(incidentNumbers);
+			Integer deletedCount = administrativeSegmentRepositoryCustom.deleteByIds(ids);
+			currentVersions.refresh(incidentNumbers);
+			return deletedCount;
+		});
 	}
 
-	public void convertAndWriteGroupAIncidentReports(CustomPair<String, List<GroupAIncidentReport>> groupAIncidentReportsPair) throws Exception {
-		GroupAIncidentReport[] groupAIncidentReports = new GroupAIncidentReport[groupAIncidentReportsPair.getValue().size()];
-				
-		List<AdministrativeSegment> administrativeSegments = 
-				getAdministrativeSegments(false, groupAIncidentReportsPair.getValue().toArray(groupAIncidentReports));
-		for (AdministrativeSegment administrativeSegment: administrativeSegments) {
-			administrativeSegment.setAdministrativeSegmentId(1111111);
-			xmlReportGenerator.writeAdministrativeSegmentToXml(administrativeSegment, groupAIncidentReportsPair.getKey());
+	public void convertAndWriteGroupAIncidentReports(CustomPair<String, List<GroupAIncidentReport>> groupAIncidentReportsPair) {
+		GroupAIncidentReport[] groupAIncidentReports = 
+				groupAIncidentReportsPair.getValue().toArray(new GroupAIncidentReport[0]);
+		ReportVersions reportVersions = findReportVersions(false, groupAIncidentReports);
+		for (GroupAIncidentReport groupAIncidentReport: groupAIncidentReports) {
+			if ("R".equals(getReportActionType(reportVersions, groupAIncidentReport))) {
+				groupAIncidentReport.setReportActionType('R');
+			}
 		}
+		xmlReportGenerator.writeReportsToXml(groupAIncidentReportsPair.getValue(), groupAIncidentReportsPair.getKey());
 	}
 
 
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Locks on report identifiers (incident numbers or arrest transaction numbers), held from before a transaction saves or deletes
+ * versions of the reports until it commits or rolls back.  Two transactions writing versions of the same report would otherwise
+ * each set the current version indicators without seeing the other's version, leaving two current versions.  The identifiers are
+ * locked in their natural order, so transactions locking overlapping batches cannot deadlock each other.  Like the id generator,
+ * this assumes a single staging data service per database; the pessimistic locks of the version queries cover the rest.
+ */
+final class IdentifierLocks {
+
+	private final ConcurrentMap<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+	/**
+	 * Lock the identifiers until the current transaction completes, waiting for the transactions holding any of them.  Called once
+	 * per transaction, before it reads or writes the versions of the reports.
+	 *
+	 * @throws IllegalStateException if there is no transaction to release the locks on completion
+	 */
+	void lockUntilCompletion(Collection<String> identifiers) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			throw new IllegalStateException("Report identifiers can only be locked in a transaction");
+		}
+
+		TreeSet<String> sortedIdentifiers = new TreeSet<>();
+		identifiers.stream().filter(Objects::nonNull).forEach(sortedIdentifiers::add);
+
+		List<String> lockedIdentifiers = new ArrayList<>();
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				unlock(lockedIdentifiers);
+			}
+		});
+		for (String identifier : sortedIdentifiers) {
+			lock(identifier);
+			lockedIdentifiers.add(identifier);
+		}
+	}
+
+	/**
+	 * Lock the identifier's lock, retrying if it is removed from the map between looking it up and locking it.
+	 */
+	void lock(String identifier) {
+		while (true) {
+			ReentrantLock lock = locks.computeIfAbsent(identifier, key -> new ReentrantLock());
+			lock.lock();
+			if (locks.get(identifier) == lock) {
+				return;
+			}
+			lock.unlock();
+		}
+	}
+
+	void unlock(Collection<String> identifiers) {
+		for (String identifier : identifiers) {
+			ReentrantLock lock = locks.get(identifier);
+			if (lock.getHoldCount() == 1 && !lock.hasQueuedThreads()) {
+				locks.remove(identifier, lock);
+			}
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * The number of identifiers locked or waited for.
+	 */
+	int size() {
+		return locks.size();
+	}
+
+}
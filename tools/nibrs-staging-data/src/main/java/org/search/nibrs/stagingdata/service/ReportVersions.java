@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.service;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.search.nibrs.stagingdata.repository.segment.ReportVersion;
+
+/**
+ * The persisted versions of a batch of reports, fetched with one query, answering the same questions as the per-report exists queries
+ * of AdministrativeSegmentRepository and ArrestReportSegmentRepository.  The latest version of a report is the one with the highest
+ * segment id.
+ */
+final class ReportVersions {
+
+	/**
+	 * Maximum number of identifiers in one query's in list.
+	 */
+	static final int QUERY_CHUNK_SIZE = 500;
+
+	private final Map<List<String>, List<ReportVersion>> versionsByReport = new HashMap<>();
+
+	ReportVersions(Collection<ReportVersion> reportVersions) {
+		for (ReportVersion reportVersion : reportVersions) {
+			versionsByReport.computeIfAbsent(key(reportVersion.getIdentifier(), reportVersion.getOri()), k -> new ArrayList<>()).add(reportVersion);
+		}
+	}
+
+	/**
+	 * Fetch the persisted versions of the reports, querying for at most QUERY_CHUNK_SIZE identifiers at a time.
+	 * @param query the repository query taking the ORIs and the identifiers
+	 */
+	static <T> ReportVersions find(Collection<T> reports, Function<T, String> identifierFunction, Function<T, String> oriFunction,
+			BiFunction<Collection<String>, Collection<String>, List<ReportVersion>> query) {
+		Set<String> oris = new LinkedHashSet<>();
+		Set<String> identifiers = new LinkedHashSet<>();
+		for (T report : reports) {
+			String identifier = identifierFunction.apply(report);
+			String ori = oriFunction.apply(report);
+			if (identifier != null && ori != null) {
+				identifiers.add(identifier);
+				oris.add(ori);
+			}
+		}
+
+		List<ReportVersion> reportVersions = new ArrayList<>();
+		List<String> identifierList = new ArrayList<>(identifiers);
+		for (int i = 0; i < identifierList.size(); i += QUERY_CHUNK_SIZE) {
+			reportVersions.addAll(query.apply(oris, identifierList.subList(i, Math.min(i + QUERY_CHUNK_SIZE, identifierList.size()))));
+		}
+		return new ReportVersions(reportVersions);
+	}
+
+	/**
+	 * Whether the latest version of the report exists and is not a delete.
+	 */
+	boolean existsByIdentifierAndOri(String identifier, String ori) {
+		ReportVersion latest = getLatestVersion(identifier, ori, null);
+		return latest != null && latest.getSegmentActionTypeCode() != null && !"D".equals(latest.getSegmentActionTypeCode());
+	}
+
+	/**
+	 * Whether the latest version of the report owned by the owner (by anyone if ownerId is null or 0) was submitted for a
+	 * later month than submissionDate.
+	 */
+	boolean existsByIdentifierAndOriAndSubmissionDateAndOwnerId(String identifier, String ori, java.sql.Date submissionDate, Integer ownerId) {
+		ReportVersion latest = getLatestVersion(identifier, ori, ownerId);
+		if (latest == null || submissionDate == null) {
+			return false;
+		}
+		LocalDate tapeDate = getTapeDate(latest);
+		return tapeDate != null && tapeDate.isAfter(submissionDate.toLocalDate());
+	}
+
+	private ReportVersion getLatestVersion(String identifier, String ori, Integer ownerId) {
+		ReportVersion latest = null;
+		for (ReportVersion reportVersion : versionsByReport.getOrDefault(key(identifier, ori), Collections.emptyList())) {
+			if ((ownerId == null || ownerId == 0 || Objects.equals(ownerId, reportVersion.getOwnerId()))
+					&& (latest == null || reportVersion.getSegmentId() > latest.getSegmentId())) {
+				latest = reportVersion;
+			}
+		}
+		return latest;
+	}
+
+	private static LocalDate getTapeDate(ReportVersion reportVersion) {
+		if (reportVersion.getYearOfTape() == null || reportVersion.getMonthOfTape() == null) {
+			return null;
+		}
+		try {
+			return LocalDate.of(Integer.parseInt(reportVersion.getYearOfTape().trim()), Integer.parseInt(reportVersion.getMonthOfTape().trim()), 1);
+		} catch (NumberFormatException | DateTimeException e) {
+			return null;
+		}
+	}
+
+	private static List<String> key(String identifier, String ori) {
+		return Arrays.asList(identifier, ori);
+	}
+
+}
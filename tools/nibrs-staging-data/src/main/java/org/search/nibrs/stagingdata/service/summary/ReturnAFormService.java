@@ -49,31 +49,29 @@ import org.search.nibrs.model.reports.ReturnARowName;
 import org.search.nibrs.model.reports.SummaryReportRequest;
 import org.search.nibrs.stagingdata.AppProperties;
 import org.search.nibrs.stagingdata.model.Agency;
-import org.search.nibrs.stagingdata.model.PropertyType;
-import org.search.nibrs.stagingdata.model.TypeOfWeaponForceInvolved;
-import org.search.nibrs.stagingdata.model.TypeOfWeaponForceInvolvedType;
-import org.search.nibrs.stagingdata.model.segment.AdministrativeSegment;
-import org.search.nibrs.stagingdata.model.segment.OffenseSegment;
-import org.search.nibrs.stagingdata.model.segment.PropertySegment;
-import org.search.nibrs.stagingdata.model.segment.VictimSegment;
 import org.search.nibrs.stagingdata.repository.AgencyRepository;
 import org.search.nibrs.stagingdata.repository.segment.AdministrativeSegmentRepository;
-import org.search.nibrs.stagingdata.service.AdministrativeSegmentService;
+import org.search.nibrs.stagingdata.repository.segment.AdministrativeSegmentRepositoryCustom;
+import org.search.nibrs.stagingdata.repository.segment.ReturnAIncident;
+import org.search.nibrs.stagingdata.repository.segment.ReturnAIncident.Offense;
+import org.search.nibrs.stagingdata.repository.segment.ReturnAIncident.Property;
+import org.search.nibrs.stagingdata.repository.segment.ReturnAIncident.PropertyItem;
+import org.search.nibrs.stagingdata.util.DateUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ReturnAFormService {
 
+	private static final List<String> HUMAN_TRAFFICKING_OFFENSE_CODES = Arrays.asList("64A", "64B");
+
 	private final Log log = LogFactory.getLog(this.getClass());
 	@Autowired
-	AdministrativeSegmentService administrativeSegmentService;
-	@Autowired
 	AdministrativeSegmentRepository administrativeSegmentRepository;
 	@Autowired
-	public AgencyRepository agencyRepository; 
+	AdministrativeSegmentRepositoryCustom administrativeSegmentRepositoryCustom;
 	@Autowired
-	public HumanTraffickingFormService humanTraffickingFormService; 
+	public AgencyRepository agencyRepository; 
 	@Autowired
 	public AppProperties appProperties; 
 	
@@ -208,82 +206,81 @@ public class ReturnAFormService {
 	
 	private void processHumanTraffickingOffenseClearances(SummaryReportRequest summaryReportRequest,
 			ReturnARecordCardReport returnARecordCardReport) {
-		List<AdministrativeSegment> administrativeSegments = 
-				administrativeSegmentService.findHumanTraffickingIncidentByRequestAndClearanceDate(summaryReportRequest);
-		for (AdministrativeSegment administrativeSegment: administrativeSegments){
-			if (administrativeSegment.getOffenseSegments().size() == 0) continue;
-			ReturnARecordCard returnARecordCard = getReturnARecordCard(returnARecordCardReport, administrativeSegment);
-			
-			boolean isClearanceInvolvingOnlyJuvenile = administrativeSegment.isClearanceInvolvingOnlyJuvenile();
-			
-			OffenseSegment offense = humanTraffickingFormService.getHumanTraffickingOffense(administrativeSegment);
-			ReturnARecordCardRow returnARecordCardRow = null; 
-			int offenseCount = 1; 
-			switch (OffenseCode.forCode(offense.getUcrOffenseCodeType().getNibrsCode())){
-			case _64A:
-				returnARecordCardRow = returnARecordCard.getHumanTraffickingFormRows()[0];
-				offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, offense);
-				break; 
-			case _64B: 
-				returnARecordCardRow = returnARecordCard.getHumanTraffickingFormRows()[1];
-				offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, offense);
-				break; 
-			default: 
-			}
+		List<Integer> ids = administrativeSegmentRepository.findIdsByStateCodeAndOriAndClearanceDateAndOffenses(
+				summaryReportRequest.getStateCode(), summaryReportRequest.getAgencyId(), 
+				DateUtils.getStartLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
+				DateUtils.getEndLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
+				summaryReportRequest.getOwnerId(), HUMAN_TRAFFICKING_OFFENSE_CODES);
+		List<ReturnAIncident> incidents = administrativeSegmentRepositoryCustom.findReturnAIncidentsByIds(ids);
+		for (ReturnAIncident incident: incidents){
+			Offense offense = getHumanTraffickingOffense(incident);
+			if (offense == null) continue;
+			ReturnARecordCard returnARecordCard = getReturnARecordCard(returnARecordCardReport, incident);
 			
-			if (returnARecordCardRow != null){
-				returnARecordCardRow.increaseClearedOffenses(offenseCount);
-				if (isClearanceInvolvingOnlyJuvenile){
-					returnARecordCardRow.increaseClearanceInvolvingOnlyJuvenile(offenseCount);
-				}
+			ReturnARecordCardRow returnARecordCardRow = getHumanTraffickingRow(returnARecordCard, offense); 
+			int offenseCount = incident.getVictimCount(offense); 
+			returnARecordCardRow.increaseClearedOffenses(offenseCount);
+			if (incident.isClearanceInvolvingOnlyJuvenile()){
+				returnARecordCardRow.increaseClearanceInvolvingOnlyJuvenile(offenseCount);
 			}
 		}
 	}
 
 	private void processHumanTraffickingReportedOffenses(SummaryReportRequest summaryReportRequest,
 			ReturnARecordCardReport returnARecordCardReport) {
-		List<AdministrativeSegment> administrativeSegments = 
-				administrativeSegmentService.findHumanTraffickingIncidentByRequest(summaryReportRequest);
-		for (AdministrativeSegment administrativeSegment: administrativeSegments){
-			if (administrativeSegment.getOffenseSegments().size() == 0) continue; 
-			ReturnARecordCard returnARecordCard = getReturnARecordCard(returnARecordCardReport, administrativeSegment);
-			int incidentMonth = administrativeSegment.getIncidentDate().getMonthValue(); 
-
-			OffenseSegment offense = humanTraffickingFormService.getHumanTraffickingOffense(administrativeSegment); 
-			ReturnARecordCardRow returnARecordCardRow = null; 
-			int offenseCount = 1; 
-			OffenseCode offenseCode = OffenseCode.forCode(offense.getUcrOffenseCodeType().getNibrsCode()); 
-			switch (offenseCode){
-			case _64A:
-				returnARecordCardRow = returnARecordCard.getHumanTraffickingFormRows()[0];
-				offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, offense);
-				break; 
-			case _64B: 
-				returnARecordCardRow = returnARecordCard.getHumanTraffickingFormRows()[1];
-				offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, offense);
-				break; 
-			default: 
-			}
+		List<Integer> ids = administrativeSegmentRepository.findIdsBySummaryReportRequestAndOffenses(
+				summaryReportRequest.getStateCode(), summaryReportRequest.getAgencyId(), 
+				DateUtils.getStartLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
+				DateUtils.getEndLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
+				summaryReportRequest.getOwnerId(), HUMAN_TRAFFICKING_OFFENSE_CODES);
+		List<ReturnAIncident> incidents = administrativeSegmentRepositoryCustom.findReturnAIncidentsByIds(ids);
+		for (ReturnAIncident incident: incidents){
+			Offense offense = getHumanTraffickingOffense(incident);
+			if (offense == null) continue;
+			ReturnARecordCard returnARecordCard = getReturnARecordCard(returnARecordCardReport, incident);
+			int incidentMonth = incident.getIncidentDate().getMonthValue(); 
 			
-			if (returnARecordCardRow != null){
-				increaseRecordCardRowCount(returnARecordCardRow, incidentMonth, offenseCount);
+			ReturnARecordCardRow returnARecordCardRow = getHumanTraffickingRow(returnARecordCard, offense); 
+			increaseRecordCardRowCount(returnARecordCardRow, incidentMonth, incident.getVictimCount(offense));
+		}
+	}
+
+	/**
+	 * Same as HumanTraffickingFormService.getHumanTraffickingOffense(AdministrativeSegment): the attempted or completed 64A
+	 * offense, or the 64B offense when there is none. 
+	 */
+	private Offense getHumanTraffickingOffense(ReturnAIncident incident) {
+		for (String offenseCode: HUMAN_TRAFFICKING_OFFENSE_CODES) {
+			Optional<Offense> offense = incident.getOffenses()
+					.stream()
+					.filter(item -> Arrays.asList("A", "C").contains(item.getOffenseAttemptedCompleted()) 
+							&& offenseCode.equals(item.getOffenseCode()))
+					.findFirst();
+			if (offense.isPresent()) {
+				return offense.get();
 			}
-			
 		}
+		return null;
+	}
+
+	private ReturnARecordCardRow getHumanTraffickingRow(ReturnARecordCard returnARecordCard, Offense offense) {
+		return OffenseCode._64A.code.equals(offense.getOffenseCode()) ? 
+				returnARecordCard.getHumanTraffickingFormRows()[0] : returnARecordCard.getHumanTraffickingFormRows()[1];
 	}
 
 	private void processArsonOffenseClearances(SummaryReportRequest summaryReportRequest,
 			ReturnARecordCardReport returnARecordCardReport) {
 		List<Integer> ids = administrativeSegmentRepository.findArsonIdsByStateCodeAndOriAndClearanceDate(
 				summaryReportRequest.getStateCode(), summaryReportRequest.getAgencyId(), 
-				summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth(), 
+				DateUtils.getStartLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
+				DateUtils.getEndLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
 				summaryReportRequest.getOwnerId());
-		List<AdministrativeSegment> administrativeSegments = administrativeSegmentRepository.findAllById(ids);
-		for (AdministrativeSegment administrativeSegment: administrativeSegments) {
-			ReturnARecordCard returnARecordCard = getReturnARecordCard(returnARecordCardReport, administrativeSegment);
+		List<ReturnAIncident> incidents = administrativeSegmentRepositoryCustom.findReturnAIncidentsByIds(ids);
+		for (ReturnAIncident incident: incidents) {
+			ReturnARecordCard returnARecordCard = getReturnARecordCard(returnARecordCardReport, incident);
 			
 			ReturnARecordCardRow arsonRow = returnARecordCard.getArsonRow(); 
-			if (administrativeSegment.isClearanceInvolvingOnlyJuvenile()) {
+			if (incident.isClearanceInvolvingOnlyJuvenile()) {
 				arsonRow.increaseClearanceInvolvingOnlyJuvenile(1);
 			}
 			
@@ -295,12 +292,13 @@ public class ReturnAFormService {
 			ReturnARecordCardReport returnARecordCardReport) {
 		List<Integer> ids = administrativeSegmentRepository.findArsonIdsBySummaryReportRequest(
 						summaryReportRequest.getStateCode(), summaryReportRequest.getAgencyId(), 
-						summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth(), 
+						DateUtils.getStartLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
+						DateUtils.getEndLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
 						summaryReportRequest.getOwnerId());
-		List<AdministrativeSegment> administrativeSegments = administrativeSegmentRepository.findAllById(ids);
-		for (AdministrativeSegment administrativeSegment: administrativeSegments) {
-			ReturnARecordCard returnARecordCard = getReturnARecordCard(returnARecordCardReport, administrativeSegment);
-			int incidentMonth = administrativeSegment.getIncidentDate().getMonthValue(); 
+		List<ReturnAIncident> incidents = administrativeSegmentRepositoryCustom.findReturnAIncidentsByIds(ids);
+		for (ReturnAIncident incident: incidents) {
+			ReturnARecordCard returnARecordCard = getReturnARecordCard(returnARecordCardReport, incident);
+			int incidentMonth = incident.getIncidentDate().getMonthValue(); 
 			
 			ReturnARecordCardRow arsonRow = returnARecordCard.getArsonRow(); 
 			increaseRecordCardRowCount(arsonRow, incidentMonth, 1);
@@ -313,7 +311,8 @@ public class ReturnAFormService {
 		List<Integer> administrativeSegmentIds = 
 				administrativeSegmentRepository.findIdsByStateCodeAndOriAndClearanceDateAndOffenses(
 						summaryReportRequest.getStateCode(), summaryReportRequest.getAgencyId(), 
-						summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth(), 
+						DateUtils.getStartLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
+						DateUtils.getEndLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
 						summaryReportRequest.getOwnerId(), new ArrayList(partIOffensesMap.keySet()));
 		int i; 
 		int batchSize = appProperties.getSummaryReportProcessingBatchSize();
@@ -332,17 +331,14 @@ public class ReturnAFormService {
 
 	private void getRecordCardOffenseClearanceRows(ReturnARecordCardReport returnARecordCardReport,
 			List<Integer> administrativeSegmentIds) {
-		List<AdministrativeSegment> administrativeSegments = 
-				administrativeSegmentRepository.findAllById(administrativeSegmentIds)
-					.stream().distinct().collect(Collectors.toList());; 
-		for (AdministrativeSegment administrativeSegment: administrativeSegments){
+		List<ReturnAIncident> incidents = administrativeSegmentRepositoryCustom.findReturnAIncidentsByIds(administrativeSegmentIds); 
+		for (ReturnAIncident incident: incidents){
 			
-			if (administrativeSegment.getOffenseSegments().size() == 0) continue;
-			ReturnARecordCard returnARecordCard = getReturnARecordCard(returnARecordCardReport, administrativeSegment);
-			countClearedOffenses(returnARecordCard.getReturnAFormRows(), administrativeSegment, ReturnARecordCardRowName.class);
+			if (incident.getOffenses().isEmpty()) continue;
+			ReturnARecordCard returnARecordCard = getReturnARecordCard(returnARecordCardReport, incident);
+			countClearedOffenses(returnARecordCard.getReturnAFormRows(), incident, ReturnARecordCardRowName.class);
 
 		}
-		administrativeSegments.clear();
 		
 	}
 
@@ -421,7 +417,8 @@ public class ReturnAFormService {
 		List<Integer> administrativeSegmentIds = 
 				administrativeSegmentRepository.findIdsBySummaryReportRequestAndOffenses(
 						summaryReportRequest.getStateCode(), summaryReportRequest.getAgencyId(), 
-						summaryReportRequest.getIncidentYear(), 0, 
+						DateUtils.getStartLocalDate(summaryReportRequest.getIncidentYear(), 0), 
+						DateUtils.getEndLocalDate(summaryReportRequest.getIncidentYear(), 0), 
 						summaryReportRequest.getOwnerId(), offenseCodes);
 		int i ; 
 		int batchSize = appProperties.getSummaryReportProcessingBatchSize();
@@ -438,42 +435,40 @@ public class ReturnAFormService {
 	}
 
 	private void getRecordCardReportedOffenseRows(ReturnARecordCardReport returnARecordCardReport, List<Integer> administrativeSegmentIds) {
-		List<AdministrativeSegment> administrativeSegments = 
-				administrativeSegmentRepository.findAllById(administrativeSegmentIds)
-					.stream().distinct().collect(Collectors.toList());; 
-		for (AdministrativeSegment administrativeSegment: administrativeSegments){
-			if (administrativeSegment.getOffenseSegments().size() == 0) continue; 
-			ReturnARecordCard returnARecordCard = getReturnARecordCard(returnARecordCardReport, administrativeSegment);
+		List<ReturnAIncident> incidents = administrativeSegmentRepositoryCustom.findReturnAIncidentsByIds(administrativeSegmentIds); 
+		for (ReturnAIncident incident: incidents){
+			if (incident.getOffenses().isEmpty()) continue; 
+			ReturnARecordCard returnARecordCard = getReturnARecordCard(returnARecordCardReport, incident);
 			
-			int incidentMonth = administrativeSegment.getIncidentDate().getMonthValue(); 
-			List<OffenseSegment> offensesToReport = getReturnAOffenses(administrativeSegment); 
-			for (OffenseSegment offense: offensesToReport){
+			int incidentMonth = incident.getIncidentDate().getMonthValue(); 
+			List<Offense> offensesToReport = getReturnAOffenses(incident); 
+			for (Offense offense: offensesToReport){
 				
 				ReturnARecordCardRowName returnARecordCardRowName = null; 
 				int offenseCount = 1; 
-				OffenseCode offenseCode = OffenseCode.forCode(offense.getUcrOffenseCodeType().getNibrsCode()); 
+				OffenseCode offenseCode = OffenseCode.forCode(offense.getOffenseCode()); 
 				switch (offenseCode){
 				case _09A:
 					returnARecordCardRowName = ReturnARecordCardRowName.MURDER_MURDER;
-					offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, offense);
+					offenseCount = incident.getVictimCount(offense);
 					break; 
 				case _11A:
 				case _11B:
 				case _11C:
-					returnARecordCardRowName = getRowNameFor11AOffense(administrativeSegment, offense, ReturnARecordCardRowName.class);
-					offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, "11A", "11B", "11C");
+					returnARecordCardRowName = getRowNameFor11AOffense(incident, ReturnARecordCardRowName.class);
+					offenseCount = incident.getVictimCount(Arrays.asList("11A", "11B", "11C"));
 					break;
 				case _120:
 					returnARecordCardRowName = getRowNameForRobbery(offense, ReturnARecordCardRowName.class);
 					break; 
 				case _13A:
 					returnARecordCardRowName = getRowNameForAssault(offense, ReturnARecordCardRowName.class);
-					offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, offense);
+					offenseCount = incident.getVictimCount(offense);
 					break;
 				case _13B: 
 				case _13C: 
 					returnARecordCardRowName = getRowNameFor13B13COffense(offense, ReturnARecordCardRowName.class);
-					offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, "13B", "13C");
+					offenseCount = incident.getVictimCount(Arrays.asList("13B", "13C"));
 				case _220: 
 					countRecordCardBurglaryOffense(returnARecordCard, offense, incidentMonth);
 					break;
@@ -488,7 +483,7 @@ public class ReturnAFormService {
 					returnARecordCardRowName = ReturnARecordCardRowName.LARCENY_THEFT_TOTAL;
 					break; 
 				case _240: 
-					countRecordCardMotorVehicleTheftOffense(returnARecordCard, offense, incidentMonth);
+					countRecordCardMotorVehicleTheftOffense(returnARecordCard, incident, offense, incidentMonth);
 					break; 
 				default: 
 				}
@@ -499,30 +494,32 @@ public class ReturnAFormService {
 			}
 			
 		}
-		administrativeSegments.clear();
 		
 	}
 
-	private ReturnARecordCard getReturnARecordCard(ReturnARecordCardReport returnARecordCardReport,
-			AdministrativeSegment administrativeSegment) {
-		
-		Agency agency = administrativeSegment.getAgency(); 
+	private ReturnARecordCard getReturnARecordCard(ReturnARecordCardReport returnARecordCardReport, ReturnAIncident incident) {
+		return getReturnARecordCard(returnARecordCardReport, incident.getAgencyId(), incident.getAgencyOri(), 
+				incident.getAgencyName(), incident.getPopulation(), incident.getStateCode(), incident.getStateName(), 
+				incident.getIncidentYear());
+	}
+
+	private ReturnARecordCard getReturnARecordCard(ReturnARecordCardReport returnARecordCardReport, Integer agencyId, 
+			String agencyOri, String agencyName, Integer population, String stateCode, String stateName, Integer incidentYear) {
 		
 		if (StringUtils.isBlank(returnARecordCardReport.getStateName())) {
-			returnARecordCardReport.setStateName(agency.getStateName());
+			returnARecordCardReport.setStateName(stateName);
 		}
 		
-		ReturnARecordCard returnARecordCard = returnARecordCardReport.getReturnARecordCards().get(agency.getAgencyId()); 
+		ReturnARecordCard returnARecordCard = returnARecordCardReport.getReturnARecordCards().get(agencyId); 
 		
 		if (returnARecordCard == null) {
-			returnARecordCard = 
-					new ReturnARecordCard(agency.getAgencyOri(), administrativeSegment.getIncidentDateType().getYearNum());
-			returnARecordCard.setAgencyName(agency.getAgencyName());
-			returnARecordCard.setPopulation(agency.getPopulation());
-			returnARecordCard.setStateCode(agency.getStateCode());
-			returnARecordCard.setStateName(agency.getStateName());
+			returnARecordCard = new ReturnARecordCard(agencyOri, incidentYear);
+			returnARecordCard.setAgencyName(agencyName);
+			returnARecordCard.setPopulation(population);
+			returnARecordCard.setStateCode(stateCode);
+			returnARecordCard.setStateName(stateName);
 			
-			returnARecordCardReport.getReturnARecordCards().put(agency.getAgencyId(), returnARecordCard);
+			returnARecordCardReport.getReturnARecordCards().put(agencyId, returnARecordCard);
 		}
 		return returnARecordCard;
 	}
@@ -540,7 +537,7 @@ public class ReturnAFormService {
 	}
 
 	private boolean countRecordCardMotorVehicleTheftOffense(ReturnARecordCard returnARecordCard,
-			OffenseSegment offense, int incidentMonth) {
+			ReturnAIncident incident, Offense offense, int incidentMonth) {
 		
 		int totalOffenseCount = 0;
 		if ("A".equals(offense.getOffenseAttemptedCompleted())){
@@ -548,14 +545,14 @@ public class ReturnAFormService {
 			totalOffenseCount = 1;
 		}
 		else {
-			List<PropertySegment> properties =  offense.getAdministrativeSegment().getPropertySegments()
-					.stream().filter(property->TypeOfPropertyLossCode._7.code.equals(property.getTypePropertyLossEtcType().getNibrsCode()))
+			List<Property> properties =  incident.getProperties()
+					.stream().filter(property->TypeOfPropertyLossCode._7.code.equals(property.getTypeOfPropertyLossCode()))
 					.collect(Collectors.toList());
 			
-			for (PropertySegment property: properties){
+			for (Property property: properties){
 				int offenseCountInThisProperty = 0;
-				List<String> motorVehicleCodes = property.getPropertyTypes().stream()
-						.map(propertyType -> propertyType.getPropertyDescriptionType().getNibrsCode())
+				List<String> motorVehicleCodes = property.getPropertyItems().stream()
+						.map(PropertyItem::getPropertyDescriptionCode)
 						.filter(code -> PropertyDescriptionCode.isMotorVehicleCode(code))
 						.collect(Collectors.toList()); 
 				
@@ -622,7 +619,7 @@ public class ReturnAFormService {
 		return totalOffenseCount > 0; 
 	}
 
-	private int countRecordCardBurglaryOffense(ReturnARecordCard returnARecordCard, OffenseSegment offense, int incidentMonth) {
+	private int countRecordCardBurglaryOffense(ReturnARecordCard returnARecordCard, Offense offense, int incidentMonth) {
 		ReturnARecordCardRowName rowName = getBurglaryRow(offense, ReturnARecordCardRowName.class);
 		
 		int burglaryOffenseCount = 0; 
@@ -634,7 +631,7 @@ public class ReturnAFormService {
 //			log.info("numberOfPremisesEntered:" + numberOfPremisesEntered);
 //			log.info("LocationTypeCode._19.code.equals(offense.getLocationType().getNibrsCode()):" + LocationTypeCode._19.code.equals(offense.getLocationType().getNibrsCode()));
 			if ( numberOfPremisesEntered > 0 
-					&& LocationTypeCode._19.code.equals(offense.getLocationType().getNibrsCode())){
+					&& LocationTypeCode._19.code.equals(offense.getLocationCode())){
 				burglaryOffenseCount = offense.getNumberOfPremisesEntered();
 			}
 			else {
@@ -651,7 +648,8 @@ public class ReturnAFormService {
 		List<Integer> administrativeSegmentIds = 
 				administrativeSegmentRepository.findIdsByStateCodeAndOriAndClearanceDateAndOffenses(
 						summaryReportRequest.getStateCode(), summaryReportRequest.getAgencyId(), 
-						summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth(), 
+						DateUtils.getStartLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
+						DateUtils.getEndLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
 						summaryReportRequest.getOwnerId(), new ArrayList(partIOffensesMap.keySet()));
 		int i; 
 		int batchSize = appProperties.getSummaryReportProcessingBatchSize();
@@ -671,7 +669,8 @@ public class ReturnAFormService {
 		List<Integer> administrativeSegmentIds = 
 				administrativeSegmentRepository.findIdsBySummaryReportRequestAndOffenses(
 						summaryReportRequest.getStateCode(), summaryReportRequest.getAgencyId(), 
-						summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth(), 
+						DateUtils.getStartLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
+						DateUtils.getEndLocalDate(summaryReportRequest.getIncidentYear(), summaryReportRequest.getIncidentMonth()), 
 						summaryReportRequest.getOwnerId(), new ArrayList(partIOffensesMap.keySet()));
 		int i ; 
 		int batchSize = appProperties.getSummaryReportProcessingBatchSize();
@@ -689,28 +688,25 @@ public class ReturnAFormService {
 
 	private <T extends Enum<T>> void getOffenseClearanceRows(ReturnAFormRow[] rows, 
 			List<Integer> administrativeSegmentIds, Class<T> enumType) {
-		List<AdministrativeSegment> administrativeSegments = 
-				administrativeSegmentRepository.findAllById(administrativeSegmentIds)
-					.stream().distinct().collect(Collectors.toList());; 
-		for (AdministrativeSegment administrativeSegment: administrativeSegments){
+		List<ReturnAIncident> incidents = administrativeSegmentRepositoryCustom.findReturnAIncidentsByIds(administrativeSegmentIds); 
+		for (ReturnAIncident incident: incidents){
 			
-			if (administrativeSegment.getOffenseSegments().size() == 0) continue;
+			if (incident.getOffenses().isEmpty()) continue;
 			
-			countClearedOffenses(rows, administrativeSegment, enumType);
+			countClearedOffenses(rows, incident, enumType);
 
 		}
-		administrativeSegments.clear();
 	}
 
-	private <T extends Enum<T>> void countClearedOffenses(ReturnAFormRow[] rows, AdministrativeSegment administrativeSegment,
+	private <T extends Enum<T>> void countClearedOffenses(ReturnAFormRow[] rows, ReturnAIncident incident,
 			Class<T> enumType) {
-		boolean isClearanceInvolvingOnlyJuvenile = administrativeSegment.isClearanceInvolvingOnlyJuvenile();
-		List<OffenseSegment> offenses = getClearedOffenses(administrativeSegment);
-		for (OffenseSegment offense: offenses){
+		boolean isClearanceInvolvingOnlyJuvenile = incident.isClearanceInvolvingOnlyJuvenile();
+		List<Offense> offenses = getClearedOffenses(incident);
+		for (Offense offense: offenses){
 
 			T rowName = null; 
 			int offenseCount = 1; 
-			switch (OffenseCode.forCode(offense.getUcrOffenseCodeType().getNibrsCode())){
+			switch (OffenseCode.forCode(offense.getOffenseCode())){
 			case _09A:
 				if (enumType == ReturnARowName.class) {
 					rowName = Enum.valueOf(enumType, "MURDER_NONNEGLIGENT_HOMICIDE");
@@ -718,31 +714,31 @@ public class ReturnAFormService {
 				else {
 					rowName = Enum.valueOf(enumType, "MURDER_MURDER");
 				}
-				offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, offense);
+				offenseCount = incident.getVictimCount(offense);
 				break; 
 			case _09B: 
 				if (enumType == ReturnARowName.class) {
 					rowName = Enum.valueOf(enumType, "MANSLAUGHTER_BY_NEGLIGENCE"); 
-					offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, offense);
+					offenseCount = incident.getVictimCount(offense);
 				}
 				break; 
 			case _11A: 
 			case _11B:
 			case _11C:
-				rowName = getRowNameFor11AOffense(administrativeSegment, offense, enumType);
-				offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, "11A", "11B", "11C");
+				rowName = getRowNameFor11AOffense(incident, enumType);
+				offenseCount = incident.getVictimCount(Arrays.asList("11A", "11B", "11C"));
 				break;
 			case _120:
 				rowName = getRowNameForRobbery(offense, enumType);
 				break; 
 			case _13A:
 				rowName = getRowNameForAssault(offense, enumType);
-				offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, offense);
+				offenseCount = incident.getVictimCount(offense);
 				break;
 			case _13B: 
 			case _13C: 
 				rowName = getRowNameFor13B13COffense(offense, enumType);
-				offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, offense);
+				offenseCount = incident.getVictimCount(offense);
 			case _220: 
 				countClearedBurglaryOffense(rows, offense, isClearanceInvolvingOnlyJuvenile, enumType);
 				break;
@@ -757,7 +753,7 @@ public class ReturnAFormService {
 				rowName = Enum.valueOf(enumType, "LARCENY_THEFT_TOTAL"); 
 				break; 
 			case _240: 
-				countClearedMotorVehicleTheftOffense(rows, offense, isClearanceInvolvingOnlyJuvenile, enumType );
+				countClearedMotorVehicleTheftOffense(rows, incident, offense, isClearanceInvolvingOnlyJuvenile, enumType );
 				break; 
 			default: 
 			}
@@ -772,15 +768,15 @@ public class ReturnAFormService {
 		}
 	}
 
-	private <T extends Enum<T>> void countClearedMotorVehicleTheftOffense(ReturnAFormRow[] rows, OffenseSegment offense,
-			boolean isClearanceInvolvingOnlyJuvenile, Class<T> enumType) {
-		List<PropertySegment> properties =  offense.getAdministrativeSegment().getPropertySegments()
-				.stream().filter(property->TypeOfPropertyLossCode._7.code.equals(property.getTypePropertyLossEtcType().getNibrsCode()))
+	private <T extends Enum<T>> void countClearedMotorVehicleTheftOffense(ReturnAFormRow[] rows, ReturnAIncident incident, 
+			Offense offense, boolean isClearanceInvolvingOnlyJuvenile, Class<T> enumType) {
+		List<Property> properties =  incident.getProperties()
+				.stream().filter(property->TypeOfPropertyLossCode._7.code.equals(property.getTypeOfPropertyLossCode()))
 				.collect(Collectors.toList());
 		
-		for (PropertySegment property: properties){
-			List<String> motorVehicleCodes = property.getPropertyTypes().stream()
-					.map(propertyType -> propertyType.getPropertyDescriptionType().getNibrsCode())
+		for (Property property: properties){
+			List<String> motorVehicleCodes = property.getPropertyItems().stream()
+					.map(PropertyItem::getPropertyDescriptionCode)
 					.filter(code -> PropertyDescriptionCode.isMotorVehicleCode(code))
 					.collect(Collectors.toList()); 
 			
@@ -849,7 +845,7 @@ public class ReturnAFormService {
 		
 	}
 
-	private <T extends Enum<T>> void countClearedBurglaryOffense(ReturnAFormRow[] rows, OffenseSegment offense, 
+	private <T extends Enum<T>> void countClearedBurglaryOffense(ReturnAFormRow[] rows, Offense offense, 
 			boolean isClearanceInvolvingOnlyJuvenile, Class<T> enumType) {
 		T rowName = getBurglaryRow(offense, enumType);
 		
@@ -861,7 +857,7 @@ public class ReturnAFormService {
 			
 			int increment = 1;
 			int numberOfPremisesEntered = Optional.ofNullable(offense.getNumberOfPremisesEntered()).orElse(0);
-			if (numberOfPremisesEntered > 0 && "19".equals(offense.getLocationType().getNibrsCode())){
+			if (numberOfPremisesEntered > 0 && "19".equals(offense.getLocationCode())){
 				increment = offense.getNumberOfPremisesEntered(); 
 			}
 			
@@ -873,39 +869,39 @@ public class ReturnAFormService {
 		}
 	}
 
-	private <T extends Enum<T>> T getBurglaryRow(OffenseSegment offense, Class<T> enumType) {
+	private <T extends Enum<T>> T getBurglaryRow(Offense offense, Class<T> enumType) {
 		T rowName = null; 
 		if ("C".equals(offense.getOffenseAttemptedCompleted())){
-			if (offense.getMethodOfEntryType().getNibrsCode().equals("F")){
+			if ("F".equals(offense.getMethodOfEntryCode())){
 				rowName = Enum.valueOf(enumType, "FORCIBLE_ENTRY_BURGLARY"); 
 			}
-			else if (offense.getMethodOfEntryType().getNibrsCode().equals("N")){
+			else if ("N".equals(offense.getMethodOfEntryCode())){
 				rowName = Enum.valueOf(enumType, "UNLAWFUL_ENTRY_NO_FORCE_BURGLARY"); 
 			}
 		}
 		else if ("A".equals(offense.getOffenseAttemptedCompleted()) && 
-				Arrays.asList("N", "F").contains(offense.getMethodOfEntryType().getNibrsCode())){
+				Arrays.asList("N", "F").contains(offense.getMethodOfEntryCode())){
 			rowName = Enum.valueOf(enumType, "ATTEMPTED_FORCIBLE_ENTRY_BURGLARY"); 
 		}
 		return rowName;
 	}
 
-	private List<OffenseSegment> getClearedOffenses(AdministrativeSegment administrativeSegment) {
+	private List<Offense> getClearedOffenses(ReturnAIncident incident) {
 		//TODO need to handle the Time-Window submission types and Time-Window offenses  
-		List<OffenseSegment> offenses = new ArrayList<>(); 
+		List<Offense> offenses = new ArrayList<>(); 
 		
-		OffenseSegment reportingOffense = null; 
+		Offense reportingOffense = null; 
 		Integer reportingOffenseValue = 99; 
-		for (OffenseSegment offense: administrativeSegment.getOffenseSegments()){
+		for (Offense offense: incident.getOffenses()){
 			if (!Arrays.asList("A", "C").contains(offense.getOffenseAttemptedCompleted())){
 				continue;
 			}
 			
-			if (offense.getUcrOffenseCodeType().getNibrsCode().equals(OffenseCode._200.code)){
+			if (OffenseCode._200.code.equals(offense.getOffenseCode())){
 				offenses.add(offense);
 				continue;
 			}
-			Integer offenseValue = Optional.ofNullable(partIOffensesMap.get(offense.getUcrOffenseCodeType().getNibrsCode())).orElse(99); 
+			Integer offenseValue = Optional.ofNullable(partIOffensesMap.get(offense.getOffenseCode())).orElse(99); 
 			
 			if (offenseValue < reportingOffenseValue){
 				reportingOffense = offense; 
@@ -923,31 +919,29 @@ public class ReturnAFormService {
 			SummaryReportRequest summaryReportRequest) {
 		PropertyStolenByClassification[] stolenProperties = returnAForm.getPropertyStolenByClassifications();
 		
-		List<AdministrativeSegment> administrativeSegments = 
-				administrativeSegmentRepository.findAllById(administrativeSegmentIds)
-					.stream().distinct().collect(Collectors.toList());; 
-		for (AdministrativeSegment administrativeSegment: administrativeSegments){
-			if (administrativeSegment.getOffenseSegments().size() == 0) continue; 
+		List<ReturnAIncident> incidents = administrativeSegmentRepositoryCustom.findReturnAIncidentsByIds(administrativeSegmentIds); 
+		for (ReturnAIncident incident: incidents){
+			if (incident.getOffenses().isEmpty()) continue; 
 			
-			List<OffenseSegment> offensesToReport = getReturnAOffenses(administrativeSegment); 
-			for (OffenseSegment offense: offensesToReport){
+			List<Offense> offensesToReport = getReturnAOffenses(incident); 
+			for (Offense offense: offensesToReport){
 				
 				ReturnARowName returnARowName = null; 
 				int burglaryOffenseCount = 0; 
 				int offenseCount = 1; 
 				boolean hasMotorVehicleTheftOffense = false; 
 //				double stolenPropertyValue = 0.0;
-				OffenseCode offenseCode = OffenseCode.forCode(offense.getUcrOffenseCodeType().getNibrsCode()); 
+				OffenseCode offenseCode = OffenseCode.forCode(offense.getOffenseCode()); 
 				switch (offenseCode){
 				case _09A:
 					returnARowName = ReturnARowName.MURDER_NONNEGLIGENT_HOMICIDE;
-					offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, offense);
-					processStolenProperties(stolenProperties, administrativeSegment, PropertyStolenByClassificationRowName.MURDER_AND_NONNEGLIGENT_MANSLAUGHTER, offenseCount);	
-					sumPropertyValuesByType(returnAForm, administrativeSegment);
+					offenseCount = incident.getVictimCount(offense);
+					processStolenProperties(stolenProperties, incident, PropertyStolenByClassificationRowName.MURDER_AND_NONNEGLIGENT_MANSLAUGHTER, offenseCount);	
+					sumPropertyValuesByType(returnAForm, incident);
 					break; 
 				case _09B: 
 					returnARowName = ReturnARowName.MANSLAUGHTER_BY_NEGLIGENCE; 
-					offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, offense);
+					offenseCount = incident.getVictimCount(offense);
 //					stolenPropertyValue = getStolenPropertyValue(administrativeSegment, 0);
 					//log.info("09B offense stolen property value: " + stolenPropertyValue); 
 					break; 
@@ -958,28 +952,28 @@ public class ReturnAFormService {
 				case _11A:
 				case _11B:
 				case _11C:
-					returnARowName = getRowNameFor11AOffense(administrativeSegment, offense, ReturnARowName.class);
-					offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, "11A", "11B", "11C");
+					returnARowName = getRowNameFor11AOffense(incident, ReturnARowName.class);
+					offenseCount = incident.getVictimCount(Arrays.asList("11A", "11B", "11C"));
 					if (returnARowName != null){
-						processStolenProperties(stolenProperties, administrativeSegment, PropertyStolenByClassificationRowName.RAPE, offenseCount);
-						sumPropertyValuesByType(returnAForm, administrativeSegment);
+						processStolenProperties(stolenProperties, incident, PropertyStolenByClassificationRowName.RAPE, offenseCount);
+						sumPropertyValuesByType(returnAForm, incident);
 					}
 					break;
 				case _120:
 					returnARowName = getRowNameForRobbery(offense, ReturnARowName.class);
 					if (returnARowName != null){
-						processRobberyStolenPropertyByLocation(stolenProperties, offense);
-						sumPropertyValuesByType(returnAForm, administrativeSegment);
+						processRobberyStolenPropertyByLocation(stolenProperties, incident, offense);
+						sumPropertyValuesByType(returnAForm, incident);
 					}
 					break; 
 				case _13A:
 					returnARowName = getRowNameForAssault(offense, ReturnARowName.class);
-					offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, offense);
+					offenseCount = incident.getVictimCount(offense);
 					break;
 				case _13B: 
 				case _13C: 
 					returnARowName = getRowNameFor13B13COffense(offense, ReturnARowName.class);
-					offenseCount = getOffenseCountByConnectedVictim(administrativeSegment, "13B", "13C");
+					offenseCount = incident.getVictimCount(Arrays.asList("13B", "13C"));
 //					log.debug("return A row name is 13B or 13C: " + returnARowName != null?returnARowName:"null");
 //					if (returnARowName != null) {
 //						log.debug("returnAForm.getRows()[returnARowName.ordinal()]: " + returnAForm.getRows()[returnARowName.ordinal()].getReportedOffenses());
@@ -987,7 +981,7 @@ public class ReturnAFormService {
 //					}
 					break;
 				case _220: 
-					burglaryOffenseCount = countBurglaryOffense(returnAForm, offense);
+					burglaryOffenseCount = countBurglaryOffense(returnAForm, incident, offense);
 					break;
 				case _23A: 
 				case _23B:
@@ -998,13 +992,13 @@ public class ReturnAFormService {
 				case _23G: 
 				case _23H: 
 					returnARowName = ReturnARowName.LARCENY_THEFT_TOTAL; 
-					processLarcenyStolenPropertyByValue(stolenProperties, administrativeSegment);
-					processLarcenyStolenPropertyByNature(stolenProperties, offenseCode, administrativeSegment);
-					sumPropertyValuesByType(returnAForm, administrativeSegment);
+					processLarcenyStolenPropertyByValue(stolenProperties, incident);
+					processLarcenyStolenPropertyByNature(stolenProperties, offenseCode, incident);
+					sumPropertyValuesByType(returnAForm, incident);
 					break; 
 				case _240: 
-					hasMotorVehicleTheftOffense = countMotorVehicleTheftOffense(returnAForm, offense);
-					processRecoveredVehicleTotal(stolenProperties, administrativeSegment, summaryReportRequest);	
+					hasMotorVehicleTheftOffense = countMotorVehicleTheftOffense(returnAForm, incident, offense);
+					processRecoveredVehicleTotal(stolenProperties, incident, summaryReportRequest);	
 					break; 
 				default: 
 				}
@@ -1014,7 +1008,7 @@ public class ReturnAFormService {
 				}
 				
 				if ( burglaryOffenseCount > 0 || hasMotorVehicleTheftOffense){
-					sumPropertyValuesByType(returnAForm, administrativeSegment);
+					sumPropertyValuesByType(returnAForm, incident);
 				}
 				
 //				log.info("ReturnA property by type stolen total: " + returnAForm.getPropertyTypeValues()[PropertyTypeValueRowName.TOTAL.ordinal()].getStolen());
@@ -1023,25 +1017,24 @@ public class ReturnAFormService {
 			}
 			
 		}
-		administrativeSegments.clear();
 	}
 
 	private void processRecoveredVehicleTotal(PropertyStolenByClassification[] stolenProperties,
-			AdministrativeSegment administrativeSegment,
+			ReturnAIncident incident,
 			SummaryReportRequest summaryReportRequest) {
 		int totalRecoveredCount = 0;
 		
-		List<PropertySegment> properties =  administrativeSegment.getPropertySegments()
-				.stream().filter(property->TypeOfPropertyLossCode._5.code.equals(property.getTypePropertyLossEtcType().getNibrsCode()))
+		List<Property> properties =  incident.getProperties()
+				.stream().filter(property->TypeOfPropertyLossCode._5.code.equals(property.getTypeOfPropertyLossCode()))
 				.collect(Collectors.toList());
 		
-		for (PropertySegment property: properties){
-			boolean containsMotorVehicleCodes = property.getPropertyTypes().stream()
-					.filter(propertyType -> propertyType.getRecoveredDate() != null && 
-							Objects.equals(propertyType.getRecoveredDateType().getYearNum(),summaryReportRequest.getIncidentYear())
+		for (Property property: properties){
+			boolean containsMotorVehicleCodes = property.getPropertyItems().stream()
+					.filter(propertyItem -> propertyItem.isRecovered() && 
+							Objects.equals(propertyItem.getRecoveredYear(),summaryReportRequest.getIncidentYear())
 							&& (summaryReportRequest.getIncidentMonth() == null || summaryReportRequest.getIncidentMonth() == 0 ||
-								Objects.equals(propertyType.getRecoveredDateType().getMonthNum(),summaryReportRequest.getIncidentMonth())))
-					.map(propertyType -> propertyType.getPropertyDescriptionType().getNibrsCode())
+								Objects.equals(propertyItem.getRecoveredMonth(),summaryReportRequest.getIncidentMonth())))
+					.map(PropertyItem::getPropertyDescriptionCode)
 					.anyMatch(code -> PropertyDescriptionCode.isMotorVehicleCode(code));
 			
 			int numberOfRecoveredMotorVehicles = Optional.ofNullable(property.getNumberOfRecoveredMotorVehicles()).orElse(0);
@@ -1056,46 +1049,21 @@ public class ReturnAFormService {
 		
 	}
 
-	private int getOffenseCountByConnectedVictim(AdministrativeSegment administrativeSegment, OffenseSegment offense) {
-		long offenseCount = administrativeSegment.getVictimSegments()
-				.stream()
-				.filter(victim->victim.getOffenseSegments().contains(offense))
-				.count();
-		return Long.valueOf(offenseCount).intValue();
-	}
-
-	private int getOffenseCountByConnectedVictim(AdministrativeSegment administrativeSegment, String... offenseCodes) {
-		int offenseCount = 0; 
-		
-		
-		for (VictimSegment victimSegment: administrativeSegment.getVictimSegments()) {
-			List<String> victimConnectedOffenseCodes = victimSegment.getConnectedOffenseCodes();
-			
-			boolean connectedToRape = CollectionUtils.containsAny(victimConnectedOffenseCodes, Arrays.asList(offenseCodes));
-			if (connectedToRape) {
-				offenseCount += 1; 
-			}
-			
-		}
-		
-		return offenseCount;
-	}
-	
 	private void processLarcenyStolenPropertyByNature(PropertyStolenByClassification[] stolenProperties, OffenseCode offenseCode, 
-			AdministrativeSegment administrativeSegment) {
+			ReturnAIncident incident) {
 		
 //		List<String> offenseCodes =  administrativeSegment.getOffenseSegments()
 //				.stream()
 //				.map(i -> i.getUcrOffenseCodeType().getNibrsCode())
 //				.collect(Collectors.toList()); 
-		List<String> larcenyOffenseCodes = administrativeSegment.getOffenseSegments()
+		List<String> larcenyOffenseCodes = incident.getOffenses()
 				.stream()
-				.map(i -> i.getUcrOffenseCodeType().getNibrsCode())
+				.map(Offense::getOffenseCode)
 				.filter(OffenseCode::isLarcenyOffenseCode)
 				.collect(Collectors.toList());
 		
 		List<String> convertedLarcenyOffenseCodes = 
-				larcenyOffenseCodes.stream().map(i-> convert23H(i, administrativeSegment)).collect(Collectors.toList());
+				larcenyOffenseCodes.stream().map(i-> convert23H(i, incident)).collect(Collectors.toList());
 		
 //		log.info("convertedLarcenyOffenseCodes:" + convertedLarcenyOffenseCodes);
 		String offenseCodeString = StringUtils.EMPTY; 
@@ -1118,7 +1086,7 @@ public class ReturnAFormService {
 		stolenProperties[propertyStolenByClassificationRowName.ordinal()].increaseNumberOfOffenses(1);
 		stolenProperties[PropertyStolenByClassificationRowName.LARCENIES_TOTAL_BY_NATURE.ordinal()].increaseNumberOfOffenses(1);
 
-		double stolenPropertyValue = getStolenPropertyValue(administrativeSegment, 0);
+		double stolenPropertyValue = getStolenPropertyValue(incident, 0);
 		stolenProperties[propertyStolenByClassificationRowName.ordinal()].increaseMonetaryValue(stolenPropertyValue);
 //		if ("23D".equals(offenseCodeString)) {
 //			log.info("propertyTypes:" + administrativeSegment.getPropertySegments()
@@ -1151,28 +1119,28 @@ public class ReturnAFormService {
 		stolenProperties[PropertyStolenByClassificationRowName.LARCENIES_TOTAL_BY_NATURE.ordinal()].increaseMonetaryValue(stolenPropertyValue);
 	}
 
-	private String convert23H(String offenseCodeString, AdministrativeSegment administrativeSegment) {
+	private String convert23H(String offenseCodeString, ReturnAIncident incident) {
 		if ("23H".equals(offenseCodeString)){
-			List<PropertyType> stolenPropertyTypes =  administrativeSegment.getPropertySegments()
+			List<PropertyItem> stolenPropertyTypes =  incident.getProperties()
 					.stream()
-					.filter(propertySegment -> propertySegment.getTypePropertyLossEtcType().getNibrsCode().equals("7"))
-					.flatMap(i->i.getPropertyTypes().stream())
+					.filter(property -> "7".equals(property.getTypeOfPropertyLossCode()))
+					.flatMap(i->i.getPropertyItems().stream())
 					.filter(i->i.getValueOfProperty() != null &&  i.getValueOfProperty() > 0)
 					.collect(Collectors.toList());
 			
 			if (stolenPropertyTypes.size() > 0){
-				PropertyType propertyTypeWithMaxValue = Collections.max(stolenPropertyTypes, Comparator.comparing(PropertyType::getValueOfProperty));
-				if ("38".equals(propertyTypeWithMaxValue.getPropertyDescriptionType().getNibrsCode())
-						|| "04".equals(propertyTypeWithMaxValue.getPropertyDescriptionType().getNibrsCode())){
-					offenseCodeString += propertyTypeWithMaxValue.getPropertyDescriptionType().getNibrsCode(); 
+				PropertyItem propertyTypeWithMaxValue = Collections.max(stolenPropertyTypes, Comparator.comparing(PropertyItem::getValueOfProperty));
+				if ("38".equals(propertyTypeWithMaxValue.getPropertyDescriptionCode())
+						|| "04".equals(propertyTypeWithMaxValue.getPropertyDescriptionCode())){
+					offenseCodeString += propertyTypeWithMaxValue.getPropertyDescriptionCode(); 
 				}
 			}
 		}
 		return offenseCodeString;
 	}
 
-	private void processLarcenyStolenPropertyByValue(PropertyStolenByClassification[] stolenProperties, AdministrativeSegment administrativeSegment) {
-		double stolenPropertyValue = getStolenPropertyValue(administrativeSegment, 0);
+	private void processLarcenyStolenPropertyByValue(PropertyStolenByClassification[] stolenProperties, ReturnAIncident incident) {
+		double stolenPropertyValue = getStolenPropertyValue(incident, 0);
 		PropertyStolenByClassificationRowName propertyStolenByClassificationRowName = null;
 		
 		if (stolenPropertyValue >= 200.0){
@@ -1201,15 +1169,15 @@ public class ReturnAFormService {
 	}
 
 	private void processRobberyStolenPropertyByLocation(PropertyStolenByClassification[] stolenProperties,
-			OffenseSegment offenseSegment) {
-		String locationType = appProperties.getLocationCodeMapping().get(offenseSegment.getLocationType().getNibrsCode());
+			ReturnAIncident incident, Offense offense) {
+		String locationType = appProperties.getLocationCodeMapping().get(offense.getLocationCode());
 		if ( StringUtils.isNotBlank(locationType)){
 			PropertyStolenByClassificationRowName rowName = PropertyStolenByClassificationRowName.valueOf("ROBBERY_" + locationType);
 			stolenProperties[rowName.ordinal()].increaseNumberOfOffenses(1);
 			stolenProperties[PropertyStolenByClassificationRowName.ROBBERY_TOTAL.ordinal()].increaseNumberOfOffenses(1);
 			stolenProperties[PropertyStolenByClassificationRowName.GRAND_TOTAL.ordinal()].increaseNumberOfOffenses(1);
 			
-			Double stolenPropertyValue = getStolenPropertyValue(offenseSegment.getAdministrativeSegment(), 0);
+			Double stolenPropertyValue = getStolenPropertyValue(incident, 0);
 			stolenProperties[rowName.ordinal()].increaseMonetaryValue(stolenPropertyValue);
 			stolenProperties[PropertyStolenByClassificationRowName.ROBBERY_TOTAL.ordinal()].increaseMonetaryValue(stolenPropertyValue);
 			stolenProperties[PropertyStolenByClassificationRowName.GRAND_TOTAL.ordinal()].increaseMonetaryValue(stolenPropertyValue);
@@ -1217,38 +1185,38 @@ public class ReturnAFormService {
 	}
 
 	private void processStolenProperties(PropertyStolenByClassification[] stolenProperties,
-			AdministrativeSegment administrativeSegment, PropertyStolenByClassificationRowName propertyStolenByClassificationRowName, int offenseCount) {
+			ReturnAIncident incident, PropertyStolenByClassificationRowName propertyStolenByClassificationRowName, int offenseCount) {
 		double stolenPropertyValue;
 		stolenProperties[propertyStolenByClassificationRowName.ordinal()].increaseNumberOfOffenses(offenseCount);
 		stolenProperties[PropertyStolenByClassificationRowName.GRAND_TOTAL.ordinal()].increaseNumberOfOffenses(offenseCount);
-		stolenPropertyValue = getStolenPropertyValue(administrativeSegment, 0);
+		stolenPropertyValue = getStolenPropertyValue(incident, 0);
 		stolenProperties[propertyStolenByClassificationRowName.ordinal()].increaseMonetaryValue(stolenPropertyValue);
 		stolenProperties[PropertyStolenByClassificationRowName.GRAND_TOTAL.ordinal()].increaseMonetaryValue(stolenPropertyValue);
 	}
 
-	private Double getStolenPropertyValue(AdministrativeSegment administrativeSegment, int lowerLimit) {
-		return administrativeSegment.getPropertySegments()
+	private Double getStolenPropertyValue(ReturnAIncident incident, int lowerLimit) {
+		return incident.getProperties()
 				.stream()
-				.filter(propertySegment -> propertySegment.getTypePropertyLossEtcType().getNibrsCode().equals("7"))
-				.flatMap(i->i.getPropertyTypes().stream())
+				.filter(property -> "7".equals(property.getTypeOfPropertyLossCode()))
+				.flatMap(i->i.getPropertyItems().stream())
 				.filter(i-> i.getValueOfProperty() != null && i.getValueOfProperty()> lowerLimit)
-				.map(PropertyType::getValueOfProperty)
+				.map(PropertyItem::getValueOfProperty)
 				.reduce(Double::sum).orElse(0.0);
 	}
 
-	private void sumPropertyValuesByType(ReturnAForm returnAForm, AdministrativeSegment administrativeSegment) {
-		for (PropertySegment propertySegment: administrativeSegment.getPropertySegments()){
-			List<PropertyType> propertyTypes = propertySegment.getPropertyTypes()
+	private void sumPropertyValuesByType(ReturnAForm returnAForm, ReturnAIncident incident) {
+		for (Property property: incident.getProperties()){
+			List<PropertyItem> propertyTypes = property.getPropertyItems()
 					.stream()
 					.filter(propertyType -> propertyType.getValueOfProperty() != null)
 					.collect(Collectors.toList()); 
 			
 			if (propertyTypes.size() > 0){
-				for (PropertyType propertyType: propertyTypes){
-					String propertyDescription = appProperties.getPropertyCodeMapping().get(propertyType.getPropertyDescriptionType().getNibrsCode());
+				for (PropertyItem propertyType: propertyTypes){
+					String propertyDescription = appProperties.getPropertyCodeMapping().get(propertyType.getPropertyDescriptionCode());
 					if (StringUtils.isNotBlank(propertyDescription)) {
 						PropertyTypeValueRowName rowName = PropertyTypeValueRowName.valueOf(propertyDescription); 
-						switch (propertySegment.getTypePropertyLossEtcType().getNibrsCode()){
+						switch (property.getTypeOfPropertyLossCode()){
 						case "7":
 							returnAForm.getPropertyTypeValues()[rowName.ordinal()].increaseStolen(propertyType.getValueOfProperty());
 							returnAForm.getPropertyTypeValues()[PropertyTypeValueRowName.TOTAL.ordinal()].increaseStolen(propertyType.getValueOfProperty());
@@ -1420,7 +1388,7 @@ public class ReturnAFormService {
 				ReturnARowName.ATTEMPTS_TO_COMMIT_FORCIBLE_RAPE);
 	}
 
-	private boolean countMotorVehicleTheftOffense(ReturnAForm returnAForm, OffenseSegment offense) {
+	private boolean countMotorVehicleTheftOffense(ReturnAForm returnAForm, ReturnAIncident incident, Offense offense) {
 		
 		int totalOffenseCount = 0;
 		if ("A".equals(offense.getOffenseAttemptedCompleted())){
@@ -1428,14 +1396,14 @@ public class ReturnAFormService {
 			totalOffenseCount = 1;
 		}
 		else {
-			List<PropertySegment> properties =  offense.getAdministrativeSegment().getPropertySegments()
-					.stream().filter(property->TypeOfPropertyLossCode._7.code.equals(property.getTypePropertyLossEtcType().getNibrsCode()))
+			List<Property> properties =  incident.getProperties()
+					.stream().filter(property->TypeOfPropertyLossCode._7.code.equals(property.getTypeOfPropertyLossCode()))
 					.collect(Collectors.toList());
 			
-			for (PropertySegment property: properties){
+			for (Property property: properties){
 				int offenseCountInThisProperty = 0;
-				List<String> motorVehicleCodes = property.getPropertyTypes().stream()
-						.map(propertyType -> propertyType.getPropertyDescriptionType().getNibrsCode())
+				List<String> motorVehicleCodes = property.getPropertyItems().stream()
+						.map(PropertyItem::getPropertyDescriptionCode)
 						.filter(code -> PropertyDescriptionCode.isMotorVehicleCode(code))
 						.collect(Collectors.toList()); 
 				
@@ -1482,7 +1450,7 @@ public class ReturnAFormService {
 				totalOffenseCount += offenseCountInThisProperty;
 				
 				if (offenseCountInThisProperty > 0){
-					double valueOfStolenProperty = getStolenPropertyValue(offense.getAdministrativeSegment(), 0);
+					double valueOfStolenProperty = getStolenPropertyValue(incident, 0);
 					returnAForm.getPropertyStolenByClassifications()
 						[PropertyStolenByClassificationRowName.MOTOR_VEHICLE_THEFT.ordinal()]
 							.increaseMonetaryValue(valueOfStolenProperty);
@@ -1502,7 +1470,7 @@ public class ReturnAFormService {
 		return totalOffenseCount > 0; 
 	}
 
-	private int countBurglaryOffense(ReturnAForm returnAForm, OffenseSegment offense) {
+	private int countBurglaryOffense(ReturnAForm returnAForm, ReturnAIncident incident, Offense offense) {
 		ReturnARowName returnARowName = getBurglaryRow(offense, ReturnARowName.class);
 		
 		int burglaryOffenseCount = 0; 
@@ -1514,7 +1482,7 @@ public class ReturnAFormService {
 //			log.info("numberOfPremisesEntered:" + numberOfPremisesEntered);
 //			log.info("LocationTypeCode._19.code.equals(offense.getLocationType().getNibrsCode()):" + LocationTypeCode._19.code.equals(offense.getLocationType().getNibrsCode()));
 			if ( numberOfPremisesEntered > 0 
-					&& LocationTypeCode._19.code.equals(offense.getLocationType().getNibrsCode())){
+					&& LocationTypeCode._19.code.equals(offense.getLocationCode())){
 				burglaryOffenseCount = offense.getNumberOfPremisesEntered();
 			}
 			else {
@@ -1526,7 +1494,7 @@ public class ReturnAFormService {
 		
 		if (burglaryOffenseCount > 0){
 			PropertyStolenByClassificationRowName propertyStolenByClassificationRowName = 
-					getPropertyStolenByClassificationBurglaryRowName(offense.getLocationType().getNibrsCode(), offense.getAdministrativeSegment().getIncidentHour());
+					getPropertyStolenByClassificationBurglaryRowName(offense.getLocationCode(), incident.getIncidentHour());
 			returnAForm.getPropertyStolenByClassifications()[propertyStolenByClassificationRowName.ordinal()]
 					.increaseNumberOfOffenses(burglaryOffenseCount);
 			returnAForm.getPropertyStolenByClassifications()[PropertyStolenByClassificationRowName.BURGLARY_TOTAL.ordinal()]
@@ -1534,7 +1502,7 @@ public class ReturnAFormService {
 			returnAForm.getPropertyStolenByClassifications()[PropertyStolenByClassificationRowName.GRAND_TOTAL.ordinal()]
 					.increaseNumberOfOffenses(burglaryOffenseCount);
 			
-			double stolenPropertyValue = getStolenPropertyValue(offense.getAdministrativeSegment(), 0);
+			double stolenPropertyValue = getStolenPropertyValue(incident, 0);
 			returnAForm.getPropertyStolenByClassifications()[propertyStolenByClassificationRowName.ordinal()]
 					.increaseMonetaryValue(stolenPropertyValue);
 			returnAForm.getPropertyStolenByClassifications()[PropertyStolenByClassificationRowName.BURGLARY_TOTAL.ordinal()]
@@ -1573,18 +1541,15 @@ public class ReturnAFormService {
 		return propertyStolenByClassificationRowName;
 	}
 
-	private <T extends Enum<T>> T getRowNameFor13B13COffense(OffenseSegment offense, Class<T> enumType) {
+	private <T extends Enum<T>> T getRowNameFor13B13COffense(Offense offense, Class<T> enumType) {
 		
-		List<String> typeOfWeaponForceInvolved = offense.getTypeOfWeaponForceInvolveds()
-				.stream().map(TypeOfWeaponForceInvolved::getTypeOfWeaponForceInvolvedType)
-				.map(TypeOfWeaponForceInvolvedType::getNibrsCode)
-				.collect(Collectors.toList());
+		List<String> typeOfWeaponForceInvolved = offense.getWeaponForceCodes();
 //		log.debug("TypeOfWeaponForceInvolveds:" + typeOfWeaponForceInvolved);
 		T rowName = null; 
 		boolean containsValidWeaponForceType = 
-				offense.getTypeOfWeaponForceInvolveds()
+				typeOfWeaponForceInvolved
 				.stream()
-				.filter(type -> Arrays.asList("40", "90", "95", "99", " ").contains(type.getTypeOfWeaponForceInvolvedType().getNibrsCode()))
+				.filter(code -> Arrays.asList("40", "90", "95", "99", " ").contains(code))
 				.count() > 0 || typeOfWeaponForceInvolved.isEmpty();
 				
 		if (containsValidWeaponForceType){
@@ -1593,12 +1558,8 @@ public class ReturnAFormService {
 		return rowName;
 	}
 	
-	private <T extends Enum<T>> T getRowNameForRobbery(OffenseSegment offense, Class<T> enumType) {
-		List<String> typeOfWeaponInvolvedCodes = offense.getTypeOfWeaponForceInvolveds()
-				.stream()
-				.map(TypeOfWeaponForceInvolved::getTypeOfWeaponForceInvolvedType)
-				.map(TypeOfWeaponForceInvolvedType::getNibrsCode)
-				.collect(Collectors.toList()); 
+	private <T extends Enum<T>> T getRowNameForRobbery(Offense offense, Class<T> enumType) {
+		List<String> typeOfWeaponInvolvedCodes = offense.getWeaponForceCodes(); 
 
 		if (CollectionUtils.containsAny(typeOfWeaponInvolvedCodes, Arrays.asList("11", "12", "13", "14", "15"))){
 			return Enum.valueOf(enumType, "FIREARM_ROBBERY"); 
@@ -1618,12 +1579,8 @@ public class ReturnAFormService {
 		return null;
 	}
 
-	private <T extends Enum<T>> T getRowNameForAssault(OffenseSegment offense, Class<T> enumType) {
-		List<String> typeOfWeaponInvolvedCodes = offense.getTypeOfWeaponForceInvolveds()
-				.stream()
-				.map(TypeOfWeaponForceInvolved::getTypeOfWeaponForceInvolvedType)
-				.map(TypeOfWeaponForceInvolvedType::getNibrsCode)
-				.collect(Collectors.toList()); 
+	private <T extends Enum<T>> T getRowNameForAssault(Offense offense, Class<T> enumType) {
+		List<String> typeOfWeaponInvolvedCodes = offense.getWeaponForceCodes(); 
 		
 		if (CollectionUtils.containsAny(typeOfWeaponInvolvedCodes, Arrays.asList("11", "12", "13", "14", "15"))){
 			return Enum.valueOf(enumType, "FIREARM_ASSAULT");
@@ -1643,23 +1600,21 @@ public class ReturnAFormService {
 		return null;
 	}
 	
-	private <T extends Enum<T>> T getRowNameFor11AOffense(AdministrativeSegment administrativeSegment,
-			OffenseSegment offense, Class<T> enumType) {
+	private <T extends Enum<T>> T getRowNameFor11AOffense(ReturnAIncident incident, Class<T> enumType) {
 		
 		T rowName = null;
-		boolean containsCompletedRapeOffense = administrativeSegment.getOffenseSegments()
+		boolean containsCompletedRapeOffense = incident.getOffenses()
 				.stream()
-				.filter(item -> OffenseCode.isReturnARapeCode(item.getUcrOffenseCodeType().getNibrsCode()))
+				.filter(item -> OffenseCode.isReturnARapeCode(item.getOffenseCode()))
 				.anyMatch(item->"C".equals(item.getOffenseAttemptedCompleted()));
-		boolean containsAttemptedRapeOffense = administrativeSegment.getOffenseSegments()
+		boolean containsAttemptedRapeOffense = incident.getOffenses()
 				.stream()
-				.filter(item -> OffenseCode.isReturnARapeCode(item.getUcrOffenseCodeType().getNibrsCode()))
+				.filter(item -> OffenseCode.isReturnARapeCode(item.getOffenseCode()))
 				.anyMatch(item->"A".equals(item.getOffenseAttemptedCompleted()));
-		List<VictimSegment> victimSegments = administrativeSegment.getVictimSegments()
+		boolean containsRapeVictim = incident.getVictims()
 			.stream().filter(victim->CollectionUtils.containsAny(victim.getConnectedOffenseCodes(), Arrays.asList("11A", "11B", "11C")))
-			.filter(victim->Arrays.asList("F", "M").contains(victim.getSexOfPersonType().getNibrsCode()))
-			.collect(Collectors.toList());
-		if (victimSegments.size() > 0){
+			.anyMatch(victim->Arrays.asList("F", "M").contains(victim.getSexCode()));
+		if (containsRapeVictim){
 			if (containsCompletedRapeOffense){
 				rowName = Enum.valueOf(enumType, "RAPE_BY_FORCE");
 			}
@@ -1672,16 +1627,16 @@ public class ReturnAFormService {
 	}
 
 	
-	private List<OffenseSegment> getReturnAOffenses(AdministrativeSegment administrativeSegment) {
-		List<OffenseSegment> offenses = new ArrayList<>(); 
+	private List<Offense> getReturnAOffenses(ReturnAIncident incident) {
+		List<Offense> offenses = new ArrayList<>(); 
 		
-		OffenseSegment reportingOffense = null; 
+		Offense reportingOffense = null; 
 		Integer reportingOffenseValue = 99; 
 		
 //		List<String> offenseCodes = administrativeSegment.getOffenseSegments()
 //				.stream().map(offense->offense.getUcrOffenseCodeType().getNibrsCode())
 //				.collect(Collectors.toList());
-		for (OffenseSegment offense: administrativeSegment.getOffenseSegments()){
+		for (Offense offense: incident.getOffenses()){
 //			if (offense.getUcrOffenseCodeType().getNibrsCode().startsWith("23")
 //					&& CollectionUtils.containsAny(offenseCodes, Arrays.asList("09A", "09B", "11A", "11B", "11C", "120", "13A", "13B", "13C", "220" ))) {
 //				log.info("Larcency Offense Not Added");
@@ -1692,11 +1647,11 @@ public class ReturnAFormService {
 				continue;
 			}
 			
-			if (offense.getUcrOffenseCodeType().getNibrsCode().equals(OffenseCode._09C.code)){
+			if (OffenseCode._09C.code.equals(offense.getOffenseCode())){
 				offenses.add(offense);
 				continue;
 			}
-			Integer offenseValue = Optional.ofNullable(partIOffensesMap.get(offense.getUcrOffenseCodeType().getNibrsCode())).orElse(99); 
+			Integer offenseValue = Optional.ofNullable(partIOffensesMap.get(offense.getOffenseCode())).orElse(99); 
 			
 			if (offenseValue < reportingOffenseValue){
 //				if (reportingOffense!= null && reportingOffense.getUcrOffenseCodeType().getNibrsCode().equals("220")) {
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.service.xml;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The progress of generating the NIEM documents of a submission trigger.  The counts are updated by the document writer threads
+ * while the status requests read them, so they are thread-safe.
+ */
+public class SubmissionGenerationProgress {
+
+	private final int totalCount;
+	private final String outputFolder;
+	private final AtomicInteger generatedCount = new AtomicInteger();
+	private final List<String> failedToGenerate = new CopyOnWriteArrayList<>();
+	private final LocalDateTime startTime = LocalDateTime.now();
+	private final long startNanos = System.nanoTime();
+	private volatile LocalDateTime endTime;
+	private volatile long endNanos;
+
+	public SubmissionGenerationProgress(int totalCount, String outputFolder) {
+		super();
+		this.totalCount = totalCount;
+		this.outputFolder = outputFolder;
+	}
+
+	public void increaseGeneratedCount() {
+		generatedCount.incrementAndGet();
+	}
+
+	public void addFailedToGenerate(String reportDescription) {
+		failedToGenerate.add(reportDescription);
+	}
+
+	public void finish() {
+		endNanos = System.nanoTime();
+		endTime = LocalDateTime.now();
+	}
+
+	public int getTotalCount() {
+		return totalCount;
+	}
+
+	public String getOutputFolder() {
+		return outputFolder;
+	}
+
+	public int getGeneratedCount() {
+		return generatedCount.get();
+	}
+
+	public int getFailedCount() {
+		return failedToGenerate.size();
+	}
+
+	public List<String> getFailedToGenerate() {
+		return failedToGenerate;
+	}
+
+	public int getProcessedCount() {
+		return getGeneratedCount() + getFailedCount();
+	}
+
+	public Integer getProgress() {
+		return totalCount == 0 ? 100 : (int) Math.round(getProcessedCount() * 100.0 / totalCount);
+	}
+
+	public boolean isComplete() {
+		return endTime != null;
+	}
+
+	public LocalDateTime getStartTime() {
+		return startTime;
+	}
+
+	public LocalDateTime getEndTime() {
+		return endTime;
+	}
+
+	public long getElapsedMillis() {
+		return ((isComplete() ? endNanos : System.nanoTime()) - startNanos) / 1_000_000;
+	}
+
+	/**
+	 * The number of documents written a second since the trigger started.
+	 */
+	public double getDocumentsPerSecond() {
+		long elapsedMillis = getElapsedMillis();
+		return elapsedMillis == 0 ? 0 : getGeneratedCount() * 1000.0 / elapsedMillis;
+	}
+
+	@Override
+	public String toString() {
+		return getProcessedCount() + "/" + totalCount + " documents processed, " + getFailedCount() + " failed, "
+				+ String.format("%.1f", getDocumentsPerSecond()) + " documents/second";
+	}
+
+}
@@ -22,13 +22,21 @@ import static org.search.nibrs.xml.NibrsNamespaceContext.Namespace.J;
 import static org.search.nibrs.xml.NibrsNamespaceContext.Namespace.NC;
 import static org.search.nibrs.xml.NibrsNamespaceContext.Namespace.NIBRS;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
-import java.text.SimpleDateFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashSet;
@@ -36,15 +44,22 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.xml.parsers.ParserConfigurationException;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.time.FastDateFormat;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.search.nibrs.model.AbstractReport;
 import org.search.nibrs.model.codes.BiasMotivationCode;
 import org.search.nibrs.model.codes.PropertyDescriptionCode;
 import org.search.nibrs.model.codes.RelationshipOfVictimToOffenderCode;
@@ -80,13 +95,17 @@ import org.search.nibrs.stagingdata.model.segment.PropertySegment;
 import org.search.nibrs.stagingdata.model.segment.VictimSegment;
 import org.search.nibrs.stagingdata.repository.AgencyRepository;
 import org.search.nibrs.stagingdata.repository.segment.AdministrativeSegmentRepository;
+import org.search.nibrs.stagingdata.repository.segment.AdministrativeSegmentRepositoryCustom;
 import org.search.nibrs.stagingdata.repository.segment.ArrestReportSegmentRepository;
 import org.search.nibrs.stagingdata.service.AdministrativeSegmentService;
+import org.search.nibrs.stagingdata.util.DateUtils;
 import org.search.nibrs.xml.NibrsNamespaceContext;
 import org.search.nibrs.xml.NibrsNamespaceContext.Namespace;
 import org.search.nibrs.xml.XmlUtils;
+import org.search.nibrs.xml.exporter.NibrsNiemDocumentWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -96,13 +115,18 @@ public class XmlReportGenerator {
 
 	private final Log log = LogFactory.getLog(this.getClass());
 	
-	static final NumberFormat MONTH_NUMBER_FORMAT = new DecimalFormat("00");
 	static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
-	static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd");
+	static final FastDateFormat DATE_FORMAT = FastDateFormat.getInstance("yyyy-MM-dd");
+	/*
+	 * The number of reports loaded together, so their segments are read with one query per segment type. 
+	 */
+	private static final int REPORT_BATCH_SIZE = 100;
 	
 	@Autowired
 	public AdministrativeSegmentRepository administrativeSegmentRepository; 
 	@Autowired
+	public AdministrativeSegmentRepositoryCustom administrativeSegmentRepositoryCustom; 
+	@Autowired
 	public ArrestReportSegmentRepository arrestReportSegmentRepository; 
 
 	@Autowired
@@ -113,23 +137,46 @@ public class XmlReportGenerator {
 	private AppProperties appProperties;
 	
 	private DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS");
+	
+	private NibrsNiemDocumentWriter niemDocumentWriter;
+	
+	private ExecutorService documentWriterExecutor;
+	
+	private volatile SubmissionGenerationProgress submissionGenerationProgress;
+	
+	@PostConstruct
+	public void init() {
+		niemDocumentWriter = new NibrsNiemDocumentWriter(appProperties.getSubmittingAgencyOri(), 
+				appProperties.getNonNumericAgeCodeMapping(), Collections.emptyMap());
+		documentWriterExecutor = Executors.newFixedThreadPool(appProperties.getNiemDocumentWriterThreads(), 
+				new CustomizableThreadFactory("niem-document-writer-"));
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		documentWriterExecutor.shutdownNow();
+	}
 
 	public long countTheIncidents(SubmissionTrigger submissionTrigger) {
 		long groupAIncidentCount = administrativeSegmentRepository
 				.countByOriListAndSubmissionDateRange(submissionTrigger.getOris(), 
-						submissionTrigger.getStartDate(), 
-						submissionTrigger.getEndDate(), 
+						DateUtils.getSubmissionPeriod(submissionTrigger.getStartDate()), 
+						DateUtils.getSubmissionPeriod(submissionTrigger.getEndDate()), 
 						submissionTrigger.getAgencyIds());
 		log.info("groupAIncidentCount: " + groupAIncidentCount);
 		long groubBArrestReportCount = arrestReportSegmentRepository
 				.countByOriListAndSubmissionDateRange(submissionTrigger.getOris(), 
-						submissionTrigger.getStartDate(), 
-						submissionTrigger.getEndDate(),
+						DateUtils.getSubmissionPeriod(submissionTrigger.getStartDate()), 
+						DateUtils.getSubmissionPeriod(submissionTrigger.getEndDate()),
 						submissionTrigger.getAgencyIds());
 		log.info("groubBArrestReportCount: " + groubBArrestReportCount);
 		return groupAIncidentCount + groubBArrestReportCount; 
 	}
 
+	/**
+	 * Generate the NIEM documents of the reports matching the trigger.  The reports are loaded a batch at a time on this thread while 
+	 * the documents of the previous batch are written on the document writer pool, so at most two batches are held in memory. 
+	 */
 	@Async
 	public void processSubmissionTrigger(SubmissionTrigger submissionTrigger) throws Exception{
 		
@@ -138,8 +185,31 @@ public class XmlReportGenerator {
 	    	directorty.mkdirs(); 
 	    }
 
-	    writeGroupAIncidentReports(submissionTrigger);
-	    writeGroupBIncidentReports(submissionTrigger);
+		List<Integer> groupAIds = administrativeSegmentRepository.findIdsByOriListAndSubmissionDateRange(
+				submissionTrigger.getOris(), DateUtils.getSubmissionPeriod(submissionTrigger.getStartDate()), 
+				DateUtils.getSubmissionPeriod(submissionTrigger.getEndDate()), submissionTrigger.getAgencyIds());
+		List<Integer> groupBIds = arrestReportSegmentRepository.findIdsByOriListAndSubmissionDateRange(
+				submissionTrigger.getOris(), DateUtils.getSubmissionPeriod(submissionTrigger.getStartDate()), 
+				DateUtils.getSubmissionPeriod(submissionTrigger.getEndDate()), submissionTrigger.getAgencyIds());
+		
+		SubmissionGenerationProgress progress = 
+				new SubmissionGenerationProgress(groupAIds.size() + groupBIds.size(), appProperties.getNibrsNiemDocumentFolder());
+		submissionGenerationProgress = progress;
+		try {
+			writeGroupAIncidentReports(groupAIds, progress);
+			writeGroupBIncidentReports(groupBIds, progress);
+		}
+		finally {
+			progress.finish();
+			log.info("Finished the submission trigger " + submissionTrigger + ": " + progress);
+		}
+	}
+	
+	/**
+	 * The progress of the latest submission trigger, or null if there has been none since the service started. 
+	 */
+	public SubmissionGenerationProgress getSubmissionGenerationProgress() {
+		return submissionGenerationProgress;
 	}
 	
 	@Async
@@ -164,13 +234,70 @@ public class XmlReportGenerator {
 		writeGroupBIncidentReport(arrestReportSegmentId);
 	}
 	
-	private void writeGroupAIncidentReports(SubmissionTrigger submissionTrigger) throws Exception {
+	private void writeGroupAIncidentReports(List<Integer> ids, SubmissionGenerationProgress progress) throws InterruptedException {
 		
-		List<Integer> ids = administrativeSegmentRepository.findIdsByOriListAndSubmissionDateRange(
-				submissionTrigger.getOris(), submissionTrigger.getStartDate(), submissionTrigger.getEndDate(), submissionTrigger.getAgencyIds());
+		List<Future<?>> previousBatch = Collections.emptyList();
+		for (int i = 0; i < ids.size(); i += REPORT_BATCH_SIZE) {
+			List<Integer> batchIds = ids.subList(i, Math.min(i + REPORT_BATCH_SIZE, ids.size()));
+			log.info("Generating group A reports " + i + " to " + (i + batchIds.size()));
+			
+			List<Future<?>> batch = new ArrayList<>(batchIds.size());
+			for (AdministrativeSegment administrativeSegment : 
+					administrativeSegmentRepositoryCustom.findAllWithSegmentsByIds(batchIds)) {
+				batch.add(submitDocumentWrite(
+						() -> writeAdministrativeSegmentToXml(administrativeSegment, appProperties.getNibrsNiemDocumentFolder()), 
+						"Group A Incident " + administrativeSegment.getIncidentNumber(), progress)); 
+			}
+			awaitDocumentWrites(previousBatch);
+			previousBatch = batch;
+			log.info("Progress: " + progress);
+		}
+		awaitDocumentWrites(previousBatch);
+	}
+
+	private void writeGroupBIncidentReports(List<Integer> ids, SubmissionGenerationProgress progress) throws InterruptedException {
 		
-		for (Integer administrativeSegmentId : ids) {
-			writeGroupAIncidentReport(administrativeSegmentId);
+		List<Future<?>> previousBatch = Collections.emptyList();
+		for (int i = 0; i < ids.size(); i += REPORT_BATCH_SIZE) {
+			List<Integer> batchIds = ids.subList(i, Math.min(i + REPORT_BATCH_SIZE, ids.size()));
+			log.info("Generating arrest reports " + i + " to " + (i + batchIds.size()));
+			
+			List<Future<?>> batch = new ArrayList<>(batchIds.size());
+			for (ArrestReportSegment arrestReportSegment : arrestReportSegmentRepository.findAllById(batchIds)) {
+				batch.add(submitDocumentWrite(
+						() -> writeArrestReportSegmentToXml(arrestReportSegment, appProperties.getNibrsNiemDocumentFolder()), 
+						"Group B Arrest Report " + arrestReportSegment.getArrestTransactionNumber(), progress)); 
+			}
+			awaitDocumentWrites(previousBatch);
+			previousBatch = batch;
+			log.info("Progress: " + progress);
+		}
+		awaitDocumentWrites(previousBatch);
+	}
+	
+	/*
+	 * A document that fails is counted and logged rather than ending the trigger, so the rest of the reports are still submitted. 
+	 */
+	private Future<?> submitDocumentWrite(Runnable documentWrite, String reportDescription, SubmissionGenerationProgress progress) {
+		return documentWriterExecutor.submit(() -> {
+			try {
+				documentWrite.run();
+				progress.increaseGeneratedCount();
+			}
+			catch (RuntimeException e) {
+				progress.addFailedToGenerate(reportDescription);
+			}
+		});
+	}
+	
+	private void awaitDocumentWrites(List<Future<?>> documentWrites) throws InterruptedException {
+		for (Future<?> documentWrite : documentWrites) {
+			try {
+				documentWrite.get();
+			}
+			catch (ExecutionException e) {
+				log.error("Document writer failed", e.getCause());
+			}
 		}
 	}
 
@@ -188,13 +315,30 @@ public class XmlReportGenerator {
 		writeArrestReportSegmentToXml(arrestReportSegment, appProperties.getNibrsNiemDocumentFolder());
 	}
 	
+	/**
+	 * Convert the reports straight to XML documents in the folder, without persisting them or looking up their codes in the database. 
+	 */
+	public void writeReportsToXml(List<? extends AbstractReport> reports, String rootFolder) {
+		Path folder = Paths.get(rootFolder);
+		for (AbstractReport report : reports) {
+			try {
+				Path file = niemDocumentWriter.writeToFolder(report, folder);
+				log.info("Wrote the XML report for " + report.getUniqueReportDescription() + " to " + file);
+			}
+			catch (IOException e) {
+				log.error("Failed to generate and write the report for " + report.getUniqueReportDescription());
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+	
 	public void writeAdministrativeSegmentToXml(AdministrativeSegment administrativeSegment, String rootFolder) {
 		try {
 			Document document = this.createGroupAIncidentReport(administrativeSegment);
 			
 			String fileName = rootFolder + "/GroupAIncident" + administrativeSegment.getIncidentNumber() + "-" + LocalDateTime.now().format(formatter) + ".xml";
 			log.info("Writing the XML report for GroupA Incident:\n " + administrativeSegment.getIncidentNumber() + " to " + fileName);
-			FileUtils.writeStringToFile(new File(fileName), XmlUtils.nodeToString(document), "UTF-8");
+			writeDocument(document, fileName);
 		}
 		catch (Exception e) {
 			log.error("Failed to generate and write the report for GroupA Incident:\n " + administrativeSegment);
@@ -203,27 +347,13 @@ public class XmlReportGenerator {
 		}
 	}
 	
-	public void writeGroupBIncidentReports(SubmissionTrigger submissionTrigger){
-		
-		List<Integer> ids = arrestReportSegmentRepository.findIdsByOriListAndSubmissionDateRange(
-				submissionTrigger.getOris(), submissionTrigger.getStartDate(), submissionTrigger.getEndDate(), submissionTrigger.getAgencyIds());
-		
-		for (Integer arrestReportSegmentId : ids) {
-			log.info("Generating arrest report for pkId " + arrestReportSegmentId);
-			
-			ArrestReportSegment arrestReportSegment = arrestReportSegmentRepository.findByArrestReportSegmentId(arrestReportSegmentId);
-			
-			writeArrestReportSegmentToXml(arrestReportSegment, appProperties.getNibrsNiemDocumentFolder());
-		}
-	}
-
 	public void writeArrestReportSegmentToXml(ArrestReportSegment arrestReportSegment, String rootFolder) {
 		try {
 			Document document = createGroupBArrestReport(arrestReportSegment);
 			
 			String fileName = rootFolder + "/GroupBArrestReport" + arrestReportSegment.getArrestTransactionNumber() + "-" + LocalDateTime.now().format(formatter) + ".xml";
 			log.info("Writing the XML report for GroupB Arrest Report:\n " + arrestReportSegment.getArrestTransactionNumber() + " to " + fileName);
-			FileUtils.writeStringToFile(new File(fileName), XmlUtils.nodeToString(document), "UTF-8");			
+			writeDocument(document, fileName);
 		}
 		catch (Exception e) {
 			log.error("Failed to generate and write the report for Group B Arrest Report:\n " + arrestReportSegment);
@@ -232,6 +362,29 @@ public class XmlReportGenerator {
 		}
 	}
 
+	/**
+	 * Stream the document to a hidden temporary file and then move it into place, so the file poller of the FBI service, which skips 
+	 * files starting with a dot, never picks up a partly written document. 
+	 */
+	void writeDocument(Document document, String fileName) throws Exception {
+		Path file = Paths.get(fileName);
+		Path temporaryFile = file.resolveSibling("." + file.getFileName() + ".tmp");
+		try {
+			try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(temporaryFile))) {
+				XmlUtils.printNode(document, outputStream);
+			}
+			try {
+				Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+
 	public Document createGroupAIncidentReport(AdministrativeSegment administrativeSegment) throws ParserConfigurationException {
 		Document document = XmlUtils.createNewDocument();
 		Element submissionElement = XmlUtils.appendChildElement(document, NIBRS, "Submission");
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.controller;
+
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.search.nibrs.stagingdata.AppProperties;
+import org.search.nibrs.stagingdata.model.search.IncidentPointer;
+import org.search.nibrs.stagingdata.model.search.IncidentSearchRequest;
+import org.search.nibrs.stagingdata.model.search.IncidentSearchResult;
+import org.search.nibrs.stagingdata.model.search.ReportType;
+import org.search.nibrs.stagingdata.service.AdministrativeSegmentService;
+import org.search.nibrs.stagingdata.service.ArrestReportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Pages through /reports/search over group A incidents and group B arrests reported at the same timestamps, checking the
+ * merged order of the two sources, that each page starts right after the key of the previous one, and that the SQL counts
+ * match the counts the in-memory IncidentSearchResult took from the whole result list.  The reports are inserted in a
+ * transaction that is rolled back at the end.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class ReportSearchControllerTest {
+
+	private static final int AGENCY_ID = 9001;
+	/** The ids of the 13A and 90I offense codes in the code tables data.sql loads. */
+	private static final int OFFENSE_13A_ID = 131;
+	private static final int OFFENSE_90I_ID = 909;
+	private static final LocalDateTime T1 = LocalDateTime.of(2020, 1, 1, 10, 0);
+	private static final LocalDateTime T2 = LocalDateTime.of(2020, 1, 1, 9, 0);
+	private static final LocalDateTime T3 = LocalDateTime.of(2020, 1, 1, 8, 0);
+
+	/**
+	 * The reports in the order of the search: the newest first, the group A incidents before the group B arrests reported at the
+	 * same time, then the highest primary key first.  The group A and group B primary keys overlap.
+	 */
+	private static final List<String> EXPECTED_ORDER = Arrays.asList(
+			"GroupA 102", "GroupA 101", "GroupB 102", "GroupB 101",
+			"GroupA 104", "GroupA 103", "GroupB 103",
+			"GroupA 106", "GroupA 105", "GroupB 105", "GroupB 104");
+
+	@Autowired
+	private ReportSearchController reportSearchController;
+	@Autowired
+	private AdministrativeSegmentService administrativeSegmentService;
+	@Autowired
+	private ArrestReportService arrestReportService;
+	@Autowired
+	private AppProperties appProperties;
+	@Autowired
+	private DataSource dataSource;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	public void testFirstPageIsTheMergedOrder() {
+		inFixture(100, () -> {
+			IncidentSearchResult incidentSearchResult = reportSearchController.search(getRequest());
+
+			assertEquals(EXPECTED_ORDER, keys(incidentSearchResult.getIncidentPointers()));
+			assertEquals(Integer.valueOf(EXPECTED_ORDER.size()), incidentSearchResult.getReturnedCount());
+		});
+	}
+
+	@Test
+	public void testPagesFollowThePageKey() {
+		inFixture(3, () -> {
+			IncidentSearchRequest incidentSearchRequest = getRequest();
+			List<IncidentPointer> incidentPointers = new ArrayList<>();
+			List<Integer> pageSizes = new ArrayList<>();
+			IncidentSearchResult page = reportSearchController.search(incidentSearchRequest);
+			while (!page.getIncidentPointers().isEmpty()) {
+				assertEquals(Integer.valueOf(EXPECTED_ORDER.size()), page.getTotalCount());
+				pageSizes.add(page.getReturnedCount());
+				incidentPointers.addAll(page.getIncidentPointers());
+				incidentSearchRequest.setPageAfter(page.getIncidentPointers().get(page.getIncidentPointers().size() - 1));
+				page = reportSearchController.search(incidentSearchRequest);
+			}
+
+			assertEquals(Arrays.asList(3, 3, 3, 2), pageSizes);
+			List<String> keys = keys(incidentPointers);
+			assertEquals(EXPECTED_ORDER, keys);
+			assertEquals(keys.size(), new HashSet<>(keys).size());
+		});
+	}
+
+	@Test
+	public void testPageAfterEachReport() {
+		inFixture(100, () -> {
+			List<IncidentPointer> all = reportSearchController.search(getRequest()).getIncidentPointers();
+			for (int i = 0; i < all.size(); i++) {
+				IncidentSearchRequest incidentSearchRequest = getRequest();
+				incidentSearchRequest.setPageAfter(all.get(i));
+
+				assertEquals("after " + EXPECTED_ORDER.get(i), EXPECTED_ORDER.subList(i + 1, EXPECTED_ORDER.size()),
+						keys(reportSearchController.search(incidentSearchRequest).getIncidentPointers()));
+			}
+		});
+	}
+
+	@Test
+	public void testCountsMatchInMemoryCounts() {
+		inFixture(3, () -> {
+			IncidentSearchRequest incidentSearchRequest = getRequest();
+			List<IncidentPointer> allIncidentPointers = new ArrayList<>(administrativeSegmentService.findAllByCriteria(incidentSearchRequest));
+			allIncidentPointers.addAll(arrestReportService.findAllByCriteria(incidentSearchRequest));
+			IncidentSearchResult inMemoryResult = new IncidentSearchResult(allIncidentPointers, 3);
+
+			IncidentSearchResult incidentSearchResult = reportSearchController.search(incidentSearchRequest);
+
+			assertEquals(inMemoryResult.getTotalCount(), incidentSearchResult.getTotalCount());
+			assertEquals(inMemoryResult.getEligibleFbiSubmissionCount(), incidentSearchResult.getEligibleFbiSubmissionCount());
+			// not submitted and not 90I: A103-A106, B101, B104; rejected with a fault code: B103
+			assertEquals(7, incidentSearchResult.getEligibleFbiSubmissionCount());
+		});
+	}
+
+	@Test
+	public void testMergeKeepsReportOrderAndLimit() {
+		List<IncidentPointer> groupAIncidentPointers = Arrays.asList(
+				pointer("GroupA", 7, T1), pointer("GroupA", 3, T2), pointer("GroupA", 9, T3));
+		List<IncidentPointer> groupBIncidentPointers = Arrays.asList(
+				pointer("GroupB", 8, T1), pointer("GroupB", 7, T1), pointer("GroupB", 4, T2));
+
+		IncidentSearchResult incidentSearchResult = new IncidentSearchResult(groupAIncidentPointers, groupBIncidentPointers, 5, 20, 4);
+
+		assertEquals(Arrays.asList("GroupA 7", "GroupB 8", "GroupB 7", "GroupA 3", "GroupB 4"),
+				keys(incidentSearchResult.getIncidentPointers()));
+		assertEquals(Integer.valueOf(5), incidentSearchResult.getReturnedCount());
+		assertEquals(Integer.valueOf(20), incidentSearchResult.getTotalCount());
+		assertEquals(4, incidentSearchResult.getEligibleFbiSubmissionCount());
+
+		List<IncidentPointer> sorted = new ArrayList<>(groupBIncidentPointers);
+		sorted.addAll(groupAIncidentPointers);
+		sorted.sort(IncidentSearchResult.REPORT_ORDER);
+		assertEquals(Arrays.asList("GroupA 7", "GroupB 8", "GroupB 7", "GroupA 3", "GroupB 4", "GroupA 9"), keys(sorted));
+	}
+
+	private IncidentSearchRequest getRequest() {
+		IncidentSearchRequest incidentSearchRequest = new IncidentSearchRequest();
+		incidentSearchRequest.setAgencyIds(Collections.singletonList(AGENCY_ID));
+		return incidentSearchRequest;
+	}
+
+	/**
+	 * Run the test with the search results limit and the reports inserted, rolling the reports back afterwards.
+	 */
+	private void inFixture(int reportSearchResultsLimit, Runnable test) {
+		Integer limit = appProperties.getReportSearchResultsLimit();
+		appProperties.setReportSearchResultsLimit(reportSearchResultsLimit);
+		try {
+			new TransactionTemplate(transactionManager).execute(status -> {
+				status.setRollbackOnly();
+				jdbcTemplate = new JdbcTemplate(dataSource);
+				insertReports();
+				test.run();
+				return null;
+			});
+		}
+		finally {
+			appProperties.setReportSearchResultsLimit(limit);
+		}
+	}
+
+	private void insertReports() {
+		jdbcTemplate.update("INSERT INTO DateType (DateTypeID, CalendarDate, YearNum, YearLabel, CalendarQuarter, MonthNum, "
+				+ "MonthName, FullMonth, DayNum, DayOfWeek, DayOfWeekSort, DateMMDDYYYY) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+				1, Date.valueOf("2019-12-31"), 2019, "2019", 4, 12, "December", "12/2019", 31, "Tuesday", 3, "12312019");
+		jdbcTemplate.update("INSERT INTO Agency (AgencyID, AgencyORI, AgencyName, AgencyTypeID, StateCode, StateName, Population) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, ?)", AGENCY_ID, "WA9001000", "Agency 9001", 1, "WA", "Washington", 1000);
+		insertSubmission(1, "A102", true, null);
+		insertSubmission(2, "B103", false, "FAULT");
+		insertSubmission(3, "B105", false, null);
+
+		insertIncident(101, T1, OFFENSE_90I_ID, null);
+		insertIncident(102, T1, OFFENSE_13A_ID, 1);
+		insertIncident(103, T2, OFFENSE_13A_ID, null);
+		insertIncident(104, T2, OFFENSE_13A_ID, null);
+		insertIncident(105, T3, OFFENSE_13A_ID, null);
+		insertIncident(106, T3, OFFENSE_13A_ID, null);
+
+		insertArrest(101, T1, OFFENSE_13A_ID, null);
+		insertArrest(102, T1, OFFENSE_90I_ID, null);
+		insertArrest(103, T2, OFFENSE_13A_ID, 2);
+		insertArrest(104, T3, OFFENSE_13A_ID, null);
+		insertArrest(105, T3, OFFENSE_13A_ID, 3);
+	}
+
+	private void insertIncident(int administrativeSegmentId, LocalDateTime reportTimestamp, int offenseCodeId, Integer submissionId) {
+		jdbcTemplate.update("INSERT INTO AdministrativeSegment (AdministrativeSegmentID, SegmentActionTypeTypeID, StateCode, "
+				+ "MonthOfTape, YearOfTape, ORI, AgencyID, IncidentNumber, IncidentDate, IncidentDateID, ClearedExceptionallyTypeID, "
+				+ "ExceptionalClearanceDateID, CargoTheftIndicatorTypeID, SubmissionID, ReportTimestamp, CurrentVersionIndicator, "
+				+ "CurrentOwnerVersionIndicator) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+				administrativeSegmentId, 1, "WA", "12", "2019", "WA9001000", AGENCY_ID, "INC" + administrativeSegmentId,
+				Date.valueOf("2019-12-31"), 1, 1, 1, 1, submissionId, Timestamp.valueOf(reportTimestamp), true, true);
+		jdbcTemplate.update("INSERT INTO OffenseSegment (OffenseSegmentID, SegmentActionTypeTypeID, AdministrativeSegmentID, "
+				+ "UCROffenseCodeTypeID, OffenseAttemptedCompleted, LocationTypeTypeID, MethodOfEntryTypeID) VALUES (?, ?, ?, ?, ?, ?, ?)",
+				administrativeSegmentId, 1, administrativeSegmentId, offenseCodeId, "C", 1, 1);
+	}
+
+	private void insertArrest(int arrestReportSegmentId, LocalDateTime reportTimestamp, int offenseCodeId, Integer submissionId) {
+		jdbcTemplate.update("INSERT INTO ArrestReportSegment (ArrestReportSegmentID, SegmentActionTypeTypeID, StateCode, MonthOfTape, "
+				+ "YearOfTape, AgencyID, ORI, ArrestTransactionNumber, ArresteeSequenceNumber, ArrestDate, ArrestDateID, "
+				+ "TypeOfArrestTypeID, SexOfPersonTypeID, RaceOfPersonTypeID, EthnicityOfPersonTypeID, ResidentStatusOfPersonTypeID, "
+				+ "DispositionOfArresteeUnder18TypeID, UCROffenseCodeTypeID, SubmissionID, ReportTimestamp, CurrentVersionIndicator, "
+				+ "CurrentOwnerVersionIndicator) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+				arrestReportSegmentId, 1, "WA", "12", "2019", AGENCY_ID, "WA9001000", "ARR" + arrestReportSegmentId, 1,
+				Date.valueOf("2019-12-31"), 1, 1, 1, 1, 1, 1, 1, offenseCodeId, submissionId, Timestamp.valueOf(reportTimestamp),
+				true, true);
+	}
+
+	private void insertSubmission(int submissionId, String incidentIdentifier, boolean acceptedIndicator, String faultCode) {
+		jdbcTemplate.update("INSERT INTO Submission (SubmissionID, IncidentIdentifier, MessageIdentifier, RequestFilePath, "
+				+ "AcceptedIndicator, FaultCode, NIBRSReportCategoryCode) VALUES (?, ?, ?, ?, ?, ?, ?)",
+				submissionId, incidentIdentifier, submissionId, "/tmp/" + incidentIdentifier + ".xml", acceptedIndicator, faultCode,
+				incidentIdentifier.startsWith("A") ? "GROUP A INCIDENT REPORT" : "GROUP B ARREST REPORT");
+	}
+
+	private static IncidentPointer pointer(String reportType, Integer primaryKey, LocalDateTime reportTimestamp) {
+		IncidentPointer incidentPointer = new IncidentPointer();
+		incidentPointer.setReportType(ReportType.valueOf(reportType));
+		incidentPointer.setPrimaryKey(primaryKey);
+		incidentPointer.setReportTimestamp(reportTimestamp);
+		return incidentPointer;
+	}
+
+	private static List<String> keys(List<IncidentPointer> incidentPointers) {
+		return incidentPointers.stream()
+				.map(incidentPointer -> incidentPointer.getReportType().name() + " " + incidentPointer.getPrimaryKey())
+				.collect(Collectors.toList());
+	}
+
+}
@@ -21,6 +21,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertNotNull;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -55,9 +56,9 @@ public class SubmissionRepositoryTest {
 		submission.setIncidentIdentifier("incident1");
 		submission.setRequestFilePath("requestFilePath1");
 		submission.setResponseFilePath("responseFilePath1");
-		submission.setResponseTimestamp(LocalDateTime.now());
-		submission.setSubmissionTimestamp(LocalDateTime.now());
-		submission.setMessageIdentifier(1);
+		submission.setResponseTimestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+		submission.setSubmissionTimestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+		submission.setMessageIdentifier(1L);
 		submission.setNibrsReportCategoryCode("GROUP A INCIDENT REPORT");
 		
 		Submission submissionSaved = submissionRepository.save(submission);
@@ -80,14 +81,14 @@ public class SubmissionRepositoryTest {
 		violation1.setViolationCode("451");
 		violation1.setViolationLevel("E");
 		violation1.setViolationDescription("VICTIM NUMBER ALREADY EXISTS");
-		violation1.setViolationTimestamp(LocalDateTime.now());
+		violation1.setViolationTimestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
 		violation1.setSubmission(submissionSaved);
 		
 		Violation violation2 = new Violation();
 		violation2.setViolationCode("355");
 		violation2.setViolationLevel("E");
 		violation2.setViolationDescription("PROPERTY LOSS CODE (14) MUST=5 (RECOVERED) FOR DATA TO BE ENTERED");
-		violation2.setViolationTimestamp(LocalDateTime.now());
+		violation2.setViolationTimestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
 		violation2.setSubmission(submissionSaved);
 		
 		Set<Violation> violations = new HashSet<>(); 
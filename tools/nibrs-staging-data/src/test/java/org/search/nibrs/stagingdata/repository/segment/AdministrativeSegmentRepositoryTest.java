@@ -19,7 +19,6 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
 
-import java.sql.Date;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -49,6 +48,8 @@ public class AdministrativeSegmentRepositoryTest {
 	@Autowired
 	public AdministrativeSegmentRepository administrativeSegmentRepository; 
 	@Autowired
+	public AdministrativeSegmentRepositoryCustom administrativeSegmentRepositoryCustom; 
+	@Autowired
 	public GroupAIncidentService groupAIncidentService;
 	
 	@Before
@@ -89,10 +90,10 @@ public class AdministrativeSegmentRepositoryTest {
 		administrativeSegmentRepository.findAll().forEach(i->log.info(i.getIncidentNumber()));
 		
 		long count = administrativeSegmentRepository
-				.countByOriListAndSubmissionDateRange(Arrays.asList("WA1234567"),Date.valueOf(LocalDate.of(2016, 5, 1)), Date.valueOf(LocalDate.of(2016, 5, 31)), null);
+				.countByOriListAndSubmissionDateRange(Arrays.asList("WA1234567"), 201605, 201605, null);
 		assertThat(count, equalTo(3L));
 		List<Integer> administrativeSegmentIds = administrativeSegmentRepository
-				.findIdsByOriListAndSubmissionDateRange(Arrays.asList("WA1234567"),Date.valueOf(LocalDate.of(2016, 5, 1)), Date.valueOf(LocalDate.of(2016, 5, 31)), null);
+				.findIdsByOriListAndSubmissionDateRange(Arrays.asList("WA1234567"), 201605, 201605, null);
 		assertThat(administrativeSegmentIds.size(), equalTo(3));
 		
 		List<AdministrativeSegment> administrativeSegments = administrativeSegmentRepository.findAllById(administrativeSegmentIds);
@@ -107,7 +108,7 @@ public class AdministrativeSegmentRepositoryTest {
 	@DirtiesContext
 	public void testFindIdsByOriAndArrestDateAndFindAll() {
 		List<Integer> administrativeSegmentIds = administrativeSegmentRepository
-				.findIdsByOriAndArrestDate("WA1234567", 2016, 5, null);
+				.findIdsByOriAndArrestDate("WA1234567", LocalDate.of(2016, 5, 1), LocalDate.of(2016, 6, 1), null);
 		
 		List<AdministrativeSegment> administrativeSegments = administrativeSegmentRepository
 				.findAllById(administrativeSegmentIds).stream().distinct().collect(Collectors.toList());
@@ -127,6 +128,35 @@ public class AdministrativeSegmentRepositoryTest {
 		
 	}
 	
+	@Test
+	@DirtiesContext
+	public void testFindAllWithSegmentsByIds() {
+		List<Integer> administrativeSegmentIds = administrativeSegmentRepository
+				.findIdsByOriListAndSubmissionDateRange(Arrays.asList("WA1234567"), 201605, 201605, null);
+		
+		List<AdministrativeSegment> administrativeSegments = administrativeSegmentRepositoryCustom
+				.findAllWithSegmentsByIds(administrativeSegmentIds);
+		assertThat(administrativeSegments.size(), equalTo(3));
+		
+		AdministrativeSegment administrativeSegment = administrativeSegments.stream()
+				.filter(i -> "12345679".equals(i.getIncidentNumber()))
+				.findFirst().get();
+		// the service filed the incident under a new agency of the unknown agency type, which data.sql loads
+		assertThat(administrativeSegment.getAgency().getAgencyOri(), equalTo("WA1234567"));
+		assertThat(administrativeSegment.getAgency().getAgencyType().getAgencyTypeId(), equalTo(99999));
+		assertThat(administrativeSegment.getSegmentActionType().getNibrsCode(), equalTo("I"));
+		assertThat(administrativeSegment.getOffenseSegments().size(), equalTo(1));
+		assertThat(administrativeSegment.getOffenseSegments().iterator().next().getTypeOfWeaponForceInvolveds().size(), equalTo(1));
+		assertThat(administrativeSegment.getPropertySegments().size(), equalTo(3));
+		assertThat(administrativeSegment.getPropertySegments().stream()
+				.mapToInt(i -> i.getPropertyTypes().size()).sum(), equalTo(4));
+		assertThat(administrativeSegment.getVictimSegments().iterator().next().getOffenseSegments().size(), equalTo(1));
+		assertThat(administrativeSegment.getArresteeSegments().size(), equalTo(1));
+		assertThat(administrativeSegment.getOffenderSegments().size(), equalTo(1));
+		
+		assertTrue(administrativeSegmentRepositoryCustom.findAllWithSegmentsByIds(Arrays.asList()).isEmpty());
+	}
+	
 	@Test
 	@DirtiesContext
 	public void testCountByOriListAndSubmissionDateRange() {
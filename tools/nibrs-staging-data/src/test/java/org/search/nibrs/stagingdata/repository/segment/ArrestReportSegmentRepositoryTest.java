@@ -19,6 +19,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -58,7 +59,7 @@ public class ArrestReportSegmentRepositoryTest {
 	@DirtiesContext
 	public void testFindIdsByOriAndArrestDateAndFindAll() {
 		List<Integer> arrestReportSegmentIds = arrestReportSegmentRepository
-				.findIdsByOriAndArrestDate("agencyORI", 2017, 5, null);
+				.findIdsByOriAndArrestDate("agencyORI", LocalDate.of(2017, 5, 1), LocalDate.of(2017, 6, 1), null);
 		
 		List<ArrestReportSegment> arrestReportSegments = arrestReportSegmentRepository
 				.findAllById(arrestReportSegmentIds).stream().distinct().collect(Collectors.toList());
@@ -70,7 +71,7 @@ public class ArrestReportSegmentRepositoryTest {
 		assertTrue(arrestTransactionNumbers.containsAll(Arrays.asList("12345")));
 		
 		arrestReportSegmentIds = arrestReportSegmentRepository
-				.findIdsByOriAndArrestDate("agencyORI", 2017, 6, null);
+				.findIdsByOriAndArrestDate("agencyORI", LocalDate.of(2017, 6, 1), LocalDate.of(2017, 7, 1), null);
 		assertThat(arrestReportSegmentIds.size(), equalTo(0));
 		
 	}
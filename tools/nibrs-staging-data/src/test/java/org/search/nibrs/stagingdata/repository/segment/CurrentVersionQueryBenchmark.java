@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.repository.segment;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Timings of the Return A offense query of AdministrativeSegmentRepository.findIdsBySummaryReportRequestAndOffenses in the
+ * form it had with the correlated max(administrativeSegmentId) subquery, and with the CurrentVersionIndicator flag, on a
+ * generated fixture of several versions of each incident.  Not run as part of the unit test suite; run the main method with
+ * the test classpath, optionally passing the number of incidents and the number of versions of each (default 1000000 and 2).
+ * The fixture goes to an H2 file database under target by default, which can be changed with the benchmark.url system property.
+ * The (AgencyID, IncidentNumber) index of the MySQL schema is added, so the subquery is an index lookup as in production.
+ */
+public class CurrentVersionQueryBenchmark {
+
+	private static final String STATE_CODE = "WA";
+	private static final int FIRST_AGENCY_ID = 1001;
+	private static final int AGENCY_COUNT = 200;
+	private static final int YEAR = 2017;
+	private static final int MONTH = 6;
+	private static final int RUNS = 3;
+	private static final List<String> OFFENSE_CODES = Arrays.asList("09A", "11A", "120", "13A", "13B", "220", "23H", "240");
+
+	private static final String SELECT = "SELECT DISTINCT a.AdministrativeSegmentID FROM AdministrativeSegment a "
+			+ "JOIN Agency ag ON ag.AgencyID = a.AgencyID "
+			+ "LEFT JOIN OffenseSegment ao ON ao.AdministrativeSegmentID = a.AdministrativeSegmentID "
+			+ "LEFT JOIN UCROffenseCodeType u ON u.UCROffenseCodeTypeID = ao.UCROffenseCodeTypeID "
+			+ "WHERE u.NibrsCode IN (" + String.join(", ", Collections.nCopies(OFFENSE_CODES.size(), "?")) + ") AND "
+			+ "ag.StateCode = ? AND ";
+	private static final String MAX_ID_QUERY = SELECT
+			+ "a.AdministrativeSegmentID = (SELECT max(aa.AdministrativeSegmentID) FROM AdministrativeSegment aa "
+			+ "		WHERE aa.IncidentNumber = a.IncidentNumber AND aa.AgencyID = a.AgencyID GROUP BY aa.IncidentNumber) AND "
+			+ "year(a.IncidentDate) = ? AND month(a.IncidentDate) = ?";
+	private static final String CURRENT_VERSION_QUERY = SELECT
+			+ "a.CurrentVersionIndicator = true AND year(a.IncidentDate) = ? AND month(a.IncidentDate) = ?";
+	private static final String CURRENT_VERSION_DATE_RANGE_QUERY = SELECT
+			+ "a.CurrentVersionIndicator = true AND a.IncidentDate >= ? AND a.IncidentDate < ?";
+
+	public static void main(String[] args) {
+		int incidentCount = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+		int versionCount = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+		String url = System.getProperty("benchmark.url",
+				"jdbc:h2:file:./target/current-version-benchmark;CACHE_SIZE=524288;SCHEMA_SEARCH_PATH=SEARCH_NIBRS_STAGING,PUBLIC");
+
+		SingleConnectionDataSource dataSource = new SingleConnectionDataSource(url, "sa", "", true);
+		try {
+			JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+			long start = System.nanoTime();
+			createFixture(dataSource, jdbcTemplate, incidentCount, versionCount);
+			System.out.println(String.format("Created %d incidents with %d versions each in %d s", incidentCount, versionCount,
+					TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)));
+
+			LocalDate startDate = LocalDate.of(YEAR, MONTH, 1);
+			List<Integer> expected = time("max(administrativeSegmentId) subquery",
+					() -> query(jdbcTemplate, MAX_ID_QUERY, YEAR, MONTH));
+			List<Integer> current = time("CurrentVersionIndicator",
+					() -> query(jdbcTemplate, CURRENT_VERSION_QUERY, YEAR, MONTH));
+			List<Integer> currentInDateRange = time("CurrentVersionIndicator and incident date range",
+					() -> query(jdbcTemplate, CURRENT_VERSION_DATE_RANGE_QUERY, Date.valueOf(startDate),
+							Date.valueOf(startDate.plusMonths(1))));
+			if (!expected.equals(current) || !expected.equals(currentInDateRange)) {
+				throw new IllegalStateException("The queries found different incidents");
+			}
+		}
+		finally {
+			dataSource.destroy();
+		}
+	}
+
+	private static void createFixture(SingleConnectionDataSource dataSource, JdbcTemplate jdbcTemplate, int incidentCount,
+			int versionCount) {
+		new ResourceDatabasePopulator(new ClassPathResource("schema.sql"), new ClassPathResource("data.sql")).execute(dataSource);
+		jdbcTemplate.update("CREATE INDEX idx_incidentnum_agencyid ON AdministrativeSegment (AgencyID, IncidentNumber)");
+
+		jdbcTemplate.update("INSERT INTO Agency (AgencyID, AgencyORI, AgencyName, AgencyTypeID, StateCode, StateName, Population) "
+				+ "SELECT " + FIRST_AGENCY_ID + " + x, 'WA' || LPAD(x, 7, '0'), 'Agency ' || x, 1, ?, 'Washington', 1000 "
+				+ "FROM SYSTEM_RANGE(0, " + (AGENCY_COUNT - 1) + ")", STATE_CODE);
+
+		// the versions of an incident are inserted in turn, so the last one has the highest id, as when they are submitted
+		for (int version = 0; version < versionCount; version++) {
+			jdbcTemplate.update("INSERT INTO AdministrativeSegment (SegmentActionTypeTypeID, StateCode, MonthOfTape, YearOfTape, "
+					+ "ORI, AgencyID, IncidentNumber, IncidentDate, IncidentDateID, ClearedExceptionallyTypeID, "
+					+ "ExceptionalClearanceDateID, CargoTheftIndicatorTypeID, CurrentVersionIndicator, CurrentOwnerVersionIndicator) "
+					+ "SELECT 99998, ?, '01', '2020', 'WA' || LPAD(MOD(x, " + AGENCY_COUNT + "), 7, '0'), "
+					+ FIRST_AGENCY_ID + " + MOD(x, " + AGENCY_COUNT + "), 'I' || x, "
+					+ "DATEADD('DAY', MOD(x * 7919, 1826), DATE '2015-01-01'), 99998, 99998, 99998, 99998, ?, ? "
+					+ "FROM SYSTEM_RANGE(0, " + (incidentCount - 1) + ")",
+					STATE_CODE, version == versionCount - 1, version == versionCount - 1);
+		}
+
+		List<Integer> offenseCodeIds = jdbcTemplate.queryForList("SELECT UCROffenseCodeTypeID FROM UCROffenseCodeType "
+				+ "WHERE NibrsCode IN ('09A', '13A', '13B', '23D', '23H', '240', '90Z', '35A', '290', '26A') "
+				+ "ORDER BY UCROffenseCodeTypeID", Integer.class);
+		StringBuilder offenseCodeId = new StringBuilder("CASE MOD(AdministrativeSegmentID, " + offenseCodeIds.size() + ")");
+		for (int i = 0; i < offenseCodeIds.size(); i++) {
+			offenseCodeId.append(" WHEN ").append(i).append(" THEN ").append(offenseCodeIds.get(i));
+		}
+		offenseCodeId.append(" END");
+		jdbcTemplate.update("INSERT INTO OffenseSegment (SegmentActionTypeTypeID, AdministrativeSegmentID, UCROffenseCodeTypeID, "
+				+ "OffenseAttemptedCompleted, LocationTypeTypeID, MethodOfEntryTypeID) "
+				+ "SELECT 99998, AdministrativeSegmentID, " + offenseCodeId + ", 'C', 99998, 99998 FROM AdministrativeSegment");
+		jdbcTemplate.execute("ANALYZE");
+	}
+
+	private static List<Integer> query(JdbcTemplate jdbcTemplate, String sql, Object... dateParameters) {
+		List<Object> parameters = new ArrayList<>(OFFENSE_CODES);
+		parameters.add(STATE_CODE);
+		parameters.addAll(Arrays.asList(dateParameters));
+		List<Integer> ids = jdbcTemplate.queryForList(sql, Integer.class, parameters.toArray());
+		Collections.sort(ids);
+		return ids;
+	}
+
+	private static List<Integer> time(String name, Supplier<List<Integer>> query) {
+		List<Integer> ids = null;
+		long bestMillis = Long.MAX_VALUE;
+		for (int run = 0; run < RUNS; run++) {
+			long start = System.nanoTime();
+			ids = query.get();
+			bestMillis = Math.min(bestMillis, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		}
+		System.out.println(String.format("%s: %d incidents in %d ms (best of %d)", name, ids.size(), bestMillis, RUNS));
+		return ids;
+	}
+
+}
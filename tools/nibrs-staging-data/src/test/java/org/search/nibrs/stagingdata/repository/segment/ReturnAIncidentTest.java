@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.repository.segment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class ReturnAIncidentTest {
+
+	private ReturnAIncident newIncident(String clearedExceptionallyCode) {
+		return new ReturnAIncident(1, LocalDate.of(2018, 5, 1), 2018, "10", clearedExceptionallyCode,
+				1, "WA1234567", "Agency", 1000, "WA", "Washington");
+	}
+
+	@Test
+	public void testIsClearanceInvolvingOnlyJuvenileByArrestees() {
+		ReturnAIncident incident = newIncident("N");
+		incident.getArresteeAges().add(new ReturnAIncident.PersonAge(15, 17, null));
+		incident.getOffenderAges().add(new ReturnAIncident.PersonAge(30, 30, null));
+		assertTrue(incident.isClearanceInvolvingOnlyJuvenile());
+
+		incident.getArresteeAges().add(new ReturnAIncident.PersonAge(17, 20, null));
+		assertFalse(incident.isClearanceInvolvingOnlyJuvenile());
+	}
+
+	@Test
+	public void testIsClearanceInvolvingOnlyJuvenileByOffenders() {
+		ReturnAIncident incident = newIncident("A");
+		incident.getArresteeAges().add(new ReturnAIncident.PersonAge(15, 15, null));
+		assertFalse(incident.isClearanceInvolvingOnlyJuvenile());
+
+		incident.getOffenderAges().add(new ReturnAIncident.PersonAge(16, 19, null));
+		incident.getOffenderAges().add(new ReturnAIncident.PersonAge(null, null, "00"));
+		assertTrue(incident.isClearanceInvolvingOnlyJuvenile());
+	}
+
+	@Test
+	public void testGetVictimCount() {
+		ReturnAIncident incident = newIncident("N");
+		ReturnAIncident.Offense rape = new ReturnAIncident.Offense(10, "11A", "C", "20", null, "N");
+		ReturnAIncident.Offense assault = new ReturnAIncident.Offense(11, "13B", "C", "20", null, "N");
+		incident.getOffenses().addAll(Arrays.asList(rape, assault));
+
+		ReturnAIncident.Victim first = new ReturnAIncident.Victim(20, "F");
+		first.getOffenseSegmentIds().addAll(Arrays.asList(10, 11));
+		first.getConnectedOffenseCodes().addAll(Arrays.asList("11A", "13B"));
+		ReturnAIncident.Victim second = new ReturnAIncident.Victim(21, "M");
+		second.getOffenseSegmentIds().add(11);
+		second.getConnectedOffenseCodes().add("13B");
+		incident.getVictims().addAll(Arrays.asList(first, second));
+
+		assertEquals(1, incident.getVictimCount(rape));
+		assertEquals(2, incident.getVictimCount(assault));
+		assertEquals(1, incident.getVictimCount(Arrays.asList("11A", "11B", "11C")));
+		assertEquals(2, incident.getVictimCount(Arrays.asList("13B", "13C")));
+	}
+
+}
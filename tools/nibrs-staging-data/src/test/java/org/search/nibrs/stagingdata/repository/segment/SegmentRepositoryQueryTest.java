@@ -0,0 +1,368 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.repository.segment;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.search.nibrs.stagingdata.model.search.IncidentSearchRequest;
+import org.search.nibrs.stagingdata.model.search.ReportType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Runs the date range and submission period queries of the segment repositories against the test schema and explains them,
+ * checking that the table each query filters by a range is read through an index instead of scanned.
+ *
+ * The values bound to each statement are inlined into the explained statement, as the MySQL driver does with its client side
+ * prepared statements, so the optional filters of the queries ("?1 = null OR a.ori = ?1") fold away the way they do on MySQL.
+ * H2 plans a statement with parameters before it knows their values, and would scan for any such filter.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class SegmentRepositoryQueryTest {
+	private static final Log log = LogFactory.getLog(SegmentRepositoryQueryTest.class);
+
+	private static final String SCHEMA = "SEARCH_NIBRS_STAGING";
+	private static final String ADMINISTRATIVE_SEGMENT = "ADMINISTRATIVESEGMENT";
+	private static final String ARRESTEE_SEGMENT = "ARRESTEESEGMENT";
+	private static final String ARREST_REPORT_SEGMENT = "ARRESTREPORTSEGMENT";
+
+	private static final List<String> ORIS = Arrays.asList("WA1234567");
+	private static final List<Integer> AGENCY_IDS = Arrays.asList(1);
+	private static final LocalDate START_DATE = LocalDate.of(2016, 5, 1);
+	private static final LocalDate END_DATE = LocalDate.of(2016, 6, 1);
+	private static final List<String> OFFENSE_CODES = Arrays.asList("09A", "13A");
+
+	private static final List<RecordedStatement> recordedStatements = Collections.synchronizedList(new ArrayList<>());
+
+	@Autowired
+	private AdministrativeSegmentRepository administrativeSegmentRepository;
+	@Autowired
+	private AdministrativeSegmentRepositoryCustom administrativeSegmentRepositoryCustom;
+	@Autowired
+	private ArrestReportSegmentRepository arrestReportSegmentRepository;
+	@Autowired
+	private ArrestReportSegmentRepositoryCustom arrestReportSegmentRepositoryCustom;
+	@Autowired
+	private ArresteeSegmentRepository arresteeSegmentRepository;
+	@Autowired
+	private DataSource dataSource;
+
+	@Before
+	public void setUp() {
+		recordedStatements.clear();
+	}
+
+	@Test
+	public void testSubmissionPeriodQueries() throws SQLException {
+		assertReadByIndex(explain(() -> administrativeSegmentRepository.findIdsByOriListAndSubmissionDateRange(ORIS, 201601, 201612, null)),
+				ADMINISTRATIVE_SEGMENT, "ORI");
+		assertReadByIndex(explain(() -> administrativeSegmentRepository.countByOriListAndSubmissionDateRange(null, 201601, 201612, AGENCY_IDS)),
+				ADMINISTRATIVE_SEGMENT, "AGENCYID");
+		assertReadByIndex(explain(() -> arrestReportSegmentRepository.findIdsByOriListAndSubmissionDateRange(ORIS, 201601, 201612, null)),
+				ARREST_REPORT_SEGMENT, "ORI");
+		assertReadByIndex(explain(() -> arrestReportSegmentRepository.countByOriListAndSubmissionDateRange(null, 201601, 201612, AGENCY_IDS)),
+				ARREST_REPORT_SEGMENT, "AGENCYID");
+	}
+
+	@Test
+	public void testIncidentDateQueries() throws SQLException {
+		assertReadByIndex(explain(() -> administrativeSegmentRepository.findIdsByOriAndIncidentDate(null, START_DATE, END_DATE)),
+				ADMINISTRATIVE_SEGMENT, "INCIDENTDATE", "CURRENTVERSIONINDICATOR");
+		assertReadByIndex(explain(() -> administrativeSegmentRepository.findIdsBySummaryReportRequestAndOffenses(
+				"WA", null, START_DATE, END_DATE, null, OFFENSE_CODES)), ADMINISTRATIVE_SEGMENT, "INCIDENTDATE");
+		assertReadByIndex(explain(() -> administrativeSegmentRepository.findIdsBySummaryReportRequestAndOffenses(
+				null, 1, START_DATE, END_DATE, null, OFFENSE_CODES)), ADMINISTRATIVE_SEGMENT, "AGENCYID", "CURRENTVERSIONINDICATOR");
+		assertReadByIndex(explain(() -> administrativeSegmentRepository.countArsonBySummaryReportRequestAndOffenses(
+				"WA", null, START_DATE, END_DATE, null)), ADMINISTRATIVE_SEGMENT, "INCIDENTDATE");
+		assertReadByIndex(explain(() -> administrativeSegmentRepository.findArsonIdsBySummaryReportRequest(
+				"WA", null, START_DATE, END_DATE, 1)), ADMINISTRATIVE_SEGMENT, "INCIDENTDATE", "OWNERID");
+		assertReadByIndex(explain(() -> administrativeSegmentRepository.findCargoTheftIdsByStateAndAgencyAndIncidentDate(
+				"WA", null, START_DATE, END_DATE, null)), ADMINISTRATIVE_SEGMENT, "INCIDENTDATE", "CARGOTHEFTINDICATORTYPEID");
+		assertReadByIndex(explain(() -> administrativeSegmentRepository.findDistinctMonths(1, START_DATE, END_DATE, null)),
+				ADMINISTRATIVE_SEGMENT, "AGENCYID", "CURRENTVERSIONINDICATOR");
+		assertReadByIndex(explain(() -> administrativeSegmentRepository.findDistinctMonthsByStateCode("WA", START_DATE, END_DATE, null)),
+				ADMINISTRATIVE_SEGMENT, "INCIDENTDATE");
+	}
+
+	@Test
+	public void testArrestDateQueries() throws SQLException {
+		assertReadByIndex(explain(() -> administrativeSegmentRepository.findIdsByOriAndArrestDate(null, START_DATE, END_DATE, null)),
+				ARRESTEE_SEGMENT, "ARRESTDATE");
+		assertReadByIndex(explain(() -> administrativeSegmentRepository.findIdsByOriAndArrestDate("WA1234567", START_DATE, END_DATE, null)),
+				ADMINISTRATIVE_SEGMENT, "ORI");
+		assertReadByIndex(explain(() -> administrativeSegmentRepository.findIdsByStateAndAgencyAndArrestDate(
+				"WA", null, START_DATE, END_DATE, null)), ARRESTEE_SEGMENT, "ARRESTDATE");
+		assertReadByIndex(explain(() -> arresteeSegmentRepository.findByAdministrativeSegmentIdsAndArrestDate(START_DATE, END_DATE,
+				Arrays.asList(1, 2, 3))), ARRESTEE_SEGMENT, "ADMINISTRATIVESEGMENTID", "ARRESTDATE");
+		assertReadByIndex(explain(() -> arrestReportSegmentRepository.findIdsByOriAndArrestDate(null, START_DATE, END_DATE, null)),
+				ARREST_REPORT_SEGMENT, "ARRESTDATE");
+		assertReadByIndex(explain(() -> arrestReportSegmentRepository.findIdsByStateAndAgencyAndArrestDate(
+				"WA", null, START_DATE, END_DATE, null)), ARREST_REPORT_SEGMENT, "ARRESTDATE");
+	}
+
+	@Test
+	public void testClearanceDateQueriesRun() throws SQLException {
+		// the clearance is either an exceptional clearance or an arrest in the range, so no one index covers it
+		assertFalse(explain(() -> administrativeSegmentRepository.findIdsByStateCodeAndOriAndClearanceDateAndOffenses(
+				"WA", null, START_DATE, END_DATE, null, OFFENSE_CODES)).isEmpty());
+		assertFalse(explain(() -> administrativeSegmentRepository.findArsonIdsByStateCodeAndOriAndClearanceDate(
+				"WA", null, START_DATE, END_DATE, null)).isEmpty());
+	}
+
+	@Test
+	public void testSearchCriteriaQueries() throws SQLException {
+		IncidentSearchRequest dateRangeRequest = new IncidentSearchRequest();
+		dateRangeRequest.setIncidentDateRangeStartDate(START_DATE);
+		dateRangeRequest.setIncidentDateRangeEndDate(END_DATE);
+		assertReadByIndex(explain(() -> administrativeSegmentRepositoryCustom.findAllByCriteria(dateRangeRequest, 100)),
+				ADMINISTRATIVE_SEGMENT, "INCIDENTDATE");
+		assertReadByIndex(explain(() -> administrativeSegmentRepositoryCustom.countAllByCriteria(dateRangeRequest)),
+				ADMINISTRATIVE_SEGMENT, "INCIDENTDATE");
+		assertReadByIndex(explain(() -> arrestReportSegmentRepositoryCustom.findAllByCriteria(dateRangeRequest, 100)),
+				ARREST_REPORT_SEGMENT, "ARRESTDATE");
+		assertReadByIndex(explain(() -> arrestReportSegmentRepositoryCustom.countAllByCriteria(dateRangeRequest)),
+				ARREST_REPORT_SEGMENT, "ARRESTDATE");
+
+		IncidentSearchRequest submissionRequest = new IncidentSearchRequest();
+		submissionRequest.setAgencyIds(AGENCY_IDS);
+		submissionRequest.setSubmissionStartYear(2016);
+		submissionRequest.setSubmissionStartMonth(1);
+		submissionRequest.setSubmissionEndYear(2016);
+		submissionRequest.setSubmissionEndMonth(12);
+		assertReadByIndex(explain(() -> administrativeSegmentRepositoryCustom.countAllByCriteria(submissionRequest)),
+				ADMINISTRATIVE_SEGMENT, "AGENCYID");
+		assertReadByIndex(explain(() -> administrativeSegmentRepositoryCustom.countEligibleFbiSubmissionByCriteria(submissionRequest)),
+				ADMINISTRATIVE_SEGMENT, "AGENCYID");
+		assertReadByIndex(explain(() -> arrestReportSegmentRepositoryCustom.countAllByCriteria(submissionRequest)),
+				ARREST_REPORT_SEGMENT, "AGENCYID");
+		assertReadByIndex(explain(() -> arrestReportSegmentRepositoryCustom.countEligibleFbiSubmissionByCriteria(submissionRequest)),
+				ARREST_REPORT_SEGMENT, "AGENCYID");
+
+		// the pages after the first one start from the page key in the report timestamp order
+		IncidentSearchRequest pageRequest = new IncidentSearchRequest();
+		pageRequest.setPageAfterReportTimestamp(LocalDateTime.of(2016, 6, 1, 12, 0));
+		pageRequest.setPageAfterReportType(ReportType.GroupA);
+		pageRequest.setPageAfterPrimaryKey(100);
+		assertReadByIndex(explain(() -> administrativeSegmentRepositoryCustom.findAllByCriteria(pageRequest, 100)),
+				ADMINISTRATIVE_SEGMENT, "REPORTTIMESTAMP");
+		assertReadByIndex(explain(() -> arrestReportSegmentRepositoryCustom.findAllByCriteria(pageRequest, 100)),
+				ARREST_REPORT_SEGMENT, "REPORTTIMESTAMP");
+	}
+
+	/**
+	 * Run the query and explain the statements it ran, with their bound values inlined.
+	 */
+	private List<String> explain(Runnable query) throws SQLException {
+		recordedStatements.clear();
+		query.run();
+
+		List<String> plans = new ArrayList<>();
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			for (RecordedStatement recordedStatement : new ArrayList<>(recordedStatements)) {
+				try (ResultSet resultSet = statement.executeQuery("EXPLAIN " + recordedStatement.getInlinedSql())) {
+					while (resultSet.next()) {
+						plans.add(resultSet.getString(1));
+					}
+				}
+			}
+		}
+		plans.forEach(log::info);
+		return plans;
+	}
+
+	/**
+	 * Assert that no table is scanned, and that the table is read through an index with a condition on its leading column, 
+	 * one of the columns.  The tables of the test are empty, so where several indexes cover the filters of a query, the plan 
+	 * may pick any of them.
+	 */
+	private void assertReadByIndex(List<String> plans, String table, String... leadingColumns) throws SQLException {
+		assertFalse(plans.isEmpty());
+		String plan = String.join("\n", plans);
+		assertFalse("A table is scanned in\n" + plan, plan.contains(".tableScan"));
+
+		Matcher tableAccess = Pattern.compile("\"" + SCHEMA + "\"\\.\"" + table + "\" \"\\w+\"\\s*/\\* " + SCHEMA + "\\.(\\w+): ")
+				.matcher(plan);
+		assertTrue(table + " is not read with an index condition in\n" + plan, tableAccess.find());
+		String leadingColumn = getLeadingColumn(tableAccess.group(1));
+		assertTrue(table + " is read through " + tableAccess.group(1) + " on " + leadingColumn + " in\n" + plan,
+				Arrays.asList(leadingColumns).contains(leadingColumn));
+	}
+
+	private String getLeadingColumn(String indexName) throws SQLException {
+		try (Connection connection = dataSource.getConnection(); 
+				PreparedStatement statement = connection.prepareStatement("SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEXES "
+						+ "WHERE TABLE_SCHEMA = ? AND INDEX_NAME = ? AND ORDINAL_POSITION = 1")) {
+			statement.setString(1, SCHEMA);
+			statement.setString(2, indexName);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				return resultSet.next() ? resultSet.getString(1) : null;
+			}
+		}
+	}
+
+	@TestConfiguration
+	static class StatementRecordingConfiguration {
+
+		/**
+		 * Records the queries run on the connections of the data source, with the values bound to them.
+		 */
+		@Bean
+		static BeanPostProcessor statementRecordingPostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					if (bean instanceof DataSource) {
+						return proxy(DataSource.class, bean, (method, result, args) ->
+							result instanceof Connection ? proxy(Connection.class, result, (connectionMethod, connectionResult, connectionArgs) ->
+								connectionResult instanceof PreparedStatement && connectionArgs[0] instanceof String
+									? recordingStatement((PreparedStatement) connectionResult, (String) connectionArgs[0])
+									: connectionResult)
+							: result);
+					}
+					return bean;
+				}
+			};
+		}
+
+		private static PreparedStatement recordingStatement(PreparedStatement preparedStatement, String sql) {
+			RecordedStatement recordedStatement = new RecordedStatement(sql);
+			return proxy(PreparedStatement.class, preparedStatement, (method, result, args) -> {
+				if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+					recordedStatement.bind((Integer) args[0], method.getName().equals("setNull") ? null : args[1]);
+				}
+				else if (method.getName().equals("executeQuery") && (args == null || args.length == 0)) {
+					recordedStatements.add(recordedStatement.copy());
+				}
+				return result;
+			});
+		}
+
+		private interface ResultHandler {
+			Object handle(Method method, Object result, Object[] args);
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> T proxy(Class<T> type, Object target, ResultHandler resultHandler) {
+			InvocationHandler invocationHandler = (proxy, method, args) -> {
+				try {
+					return resultHandler.handle(method, method.invoke(target, args), args);
+				} catch (InvocationTargetException e) {
+					throw e.getCause();
+				}
+			};
+			return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, invocationHandler);
+		}
+	}
+
+	/**
+	 * A statement with the values bound to its parameters.
+	 */
+	static final class RecordedStatement {
+		private final String sql;
+		private final Map<Integer, Object> values = new TreeMap<>();
+
+		RecordedStatement(String sql) {
+			this.sql = sql;
+		}
+
+		void bind(int index, Object value) {
+			values.put(index, value);
+		}
+
+		RecordedStatement copy() {
+			RecordedStatement copy = new RecordedStatement(sql);
+			copy.values.putAll(values);
+			return copy;
+		}
+
+		/**
+		 * The statement with each parameter marker outside of the string literals replaced by the SQL literal of its value.
+		 */
+		String getInlinedSql() {
+			StringBuilder inlinedSql = new StringBuilder();
+			boolean inLiteral = false;
+			int parameterIndex = 0;
+			for (char c : sql.toCharArray()) {
+				if (c == '\'') {
+					inLiteral = !inLiteral;
+				}
+				if (c == '?' && !inLiteral) {
+					inlinedSql.append(toLiteral(values.get(++parameterIndex)));
+				}
+				else {
+					inlinedSql.append(c);
+				}
+			}
+			return inlinedSql.toString();
+		}
+
+		private static String toLiteral(Object value) {
+			if (value == null) {
+				return "NULL";
+			}
+			else if (value instanceof Number || value instanceof Boolean) {
+				return value.toString().toUpperCase();
+			}
+			else if (value instanceof java.sql.Date || value instanceof LocalDate) {
+				return "DATE '" + value + "'";
+			}
+			else if (value instanceof java.util.Date || value instanceof LocalDateTime) {
+				return "TIMESTAMP '" + value.toString().replace('T', ' ') + "'";
+			}
+			return "'" + value.toString().replace("'", "''") + "'";
+		}
+
+		@Override
+		public String toString() {
+			return sql + " " + values.values().stream().map(String::valueOf).collect(Collectors.joining(", ", "[", "]"));
+		}
+	}
+
+}
@@ -175,7 +175,7 @@ public class AdministrativeSegmentServiceTest {
 				.map(i->i.getIncidentDate())
 				.collect(Collectors.toList());
 		assertTrue(incidentDatesFromResults.containsAll(Arrays.asList(LocalDate.of(2016, 6, 12), LocalDate.of(2016, 5, 12))));
-		assertTrue(Arrays.asList("05", 06).contains(incidentSearchResults.get(0).getSubmissionMonth()));
+		assertTrue(Arrays.asList("05", "06").contains(incidentSearchResults.get(0).getSubmissionMonth()));
 		
 		incidentSearchRequest.setIncidentDateRangeStartDate(LocalDate.of(2016, 5, 12));
 		incidentSearchRequest.setIncidentDateRangeEndDate(LocalDate.of(2016, 5, 12));
@@ -20,13 +20,18 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.StreamSupport;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.search.nibrs.model.GroupBArrestReport;
 import org.search.nibrs.stagingdata.model.ArrestReportSegmentWasArmedWith;
@@ -47,6 +52,7 @@ import org.search.nibrs.stagingdata.repository.TypeOfArrestTypeRepository;
 import org.search.nibrs.stagingdata.repository.UcrOffenseCodeTypeRepository;
 import org.search.nibrs.stagingdata.repository.segment.ArrestReportSegmentRepository;
 import org.search.nibrs.stagingdata.util.BaselineIncidentFactory;
+import org.search.nibrs.util.CustomPair;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
@@ -58,6 +64,9 @@ import org.springframework.test.context.junit4.SpringRunner;
 @DirtiesContext(classMode = ClassMode.BEFORE_CLASS)
 public class ArrestReportServiceTest {
 
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	@Autowired
 	public ArrestReportService arrestReportService; 
 	@Autowired
@@ -335,4 +344,28 @@ public class ArrestReportServiceTest {
 		assertThat(count, equalTo(2L));
 
 	}
+	
+	@Test
+	@DirtiesContext
+	public void testConvertAndWriteGroupBArrestReportsReplacesStoredReports() throws Exception {
+		arrestReportService.saveGroupBArrestReports(Arrays.asList(BaselineIncidentFactory.getBaselineGroupBArrestReport()));
+		
+		GroupBArrestReport storedReport = BaselineIncidentFactory.getBaselineGroupBArrestReport();
+		GroupBArrestReport newReport = BaselineIncidentFactory.getBaselineGroupBArrestReport();
+		newReport.getArrestee().setArrestTransactionNumber("NOTSTORED1");
+		File folder = temporaryFolder.newFolder();
+		arrestReportService.convertAndWriteGroupBArrestReports(
+				new CustomPair<>(folder.getPath(), Arrays.asList(storedReport, newReport)));
+		
+		assertThat(storedReport.getReportActionType(), equalTo('R'));
+		assertThat(newReport.getReportActionType(), equalTo('A'));
+		assertThat(readReport(folder, "GroupBArrestReport12345-").contains("<nibrs:ReportActionCategoryCode>R<"), equalTo(true));
+		assertThat(readReport(folder, "GroupBArrestReportNOTSTORED1-").contains("<nibrs:ReportActionCategoryCode>A<"), equalTo(true));
+	}
+	
+	private String readReport(File folder, String fileNamePrefix) throws Exception {
+		File[] files = folder.listFiles((dir, name) -> name.startsWith(fileNamePrefix));
+		assertThat(files.length, equalTo(1));
+		return new String(Files.readAllBytes(files[0].toPath()), StandardCharsets.UTF_8);
+	}
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.service;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.search.nibrs.stagingdata.AppProperties;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+public class ChunkedDeleterTest {
+
+	private static final List<Integer> IDS = Arrays.asList(1, 2, 3, 4, 5);
+
+	private final List<List<Integer>> chunks = new ArrayList<>();
+	private int commitCount;
+
+	@Test
+	public void testChunkSizeOneDeletesEachIdInItsOwnTransaction() {
+		assertEquals(5, chunkedDeleter(1).delete("test records", IDS, this::deleteChunk));
+		assertEquals(Arrays.asList(Arrays.asList(1), Arrays.asList(2), Arrays.asList(3), Arrays.asList(4), Arrays.asList(5)),
+				chunks);
+		assertEquals(5, commitCount);
+	}
+
+	@Test
+	public void testChunkSizeBelowOneIsTakenAsOne() {
+		for (int deleteChunkSize : new int[] {0, -1}) {
+			chunks.clear();
+			commitCount = 0;
+			assertEquals(5, chunkedDeleter(deleteChunkSize).delete("test records", IDS, this::deleteChunk));
+			assertEquals(5, chunks.size());
+			assertEquals(5, commitCount);
+		}
+	}
+
+	@Test
+	public void testLastChunkHoldsTheRemainingIds() {
+		assertEquals(5, chunkedDeleter(2).delete("test records", IDS, this::deleteChunk));
+		assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5)), chunks);
+		assertEquals(3, commitCount);
+	}
+
+	@Test
+	public void testNoChunkSizeDeletesAllTheIdsInOneChunk() {
+		assertEquals(5, chunkedDeleter(null).delete("test records", IDS, this::deleteChunk));
+		assertEquals(Collections.singletonList(IDS), chunks);
+		assertEquals(1, commitCount);
+	}
+
+	@Test
+	public void testNoIdsStartNoTransaction() {
+		assertEquals(0, chunkedDeleter(0).delete("test records", Collections.emptyList(), this::deleteChunk));
+		assertEquals(0, chunks.size());
+		assertEquals(0, commitCount);
+	}
+
+	private Integer deleteChunk(List<Integer> chunk) {
+		chunks.add(new ArrayList<>(chunk));
+		return chunk.size();
+	}
+
+	private ChunkedDeleter chunkedDeleter(Integer deleteChunkSize) {
+		AppProperties appProperties = new AppProperties();
+		appProperties.setDeleteChunkSize(deleteChunkSize);
+		PlatformTransactionManager transactionManager = new PlatformTransactionManager() {
+			@Override
+			public TransactionStatus getTransaction(TransactionDefinition definition) {
+				return new SimpleTransactionStatus();
+			}
+
+			@Override
+			public void commit(TransactionStatus status) {
+				commitCount++;
+			}
+
+			@Override
+			public void rollback(TransactionStatus status) {
+			}
+		};
+		return new ChunkedDeleter(transactionManager, appProperties);
+	}
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.search.nibrs.stagingdata.model.RaceOfPersonType;
+import org.search.nibrs.stagingdata.model.SexOfPersonType;
+
+public class CodeTableSnapshotTest {
+
+	@Test
+	public void testGet() {
+		Map<Class<?>, Map<String, ?>> codeTables = new HashMap<>();
+		codeTables.put(SexOfPersonType.class, CodeTableSnapshot.index(Arrays.asList(
+				new SexOfPersonType(1, "F", "Female", "F", "Female"),
+				new SexOfPersonType(2, "M", "Male", "M", "Male"),
+				new SexOfPersonType(3, "M", "Male (duplicate)", "M", "Male"),
+				new SexOfPersonType(99998, null, "Blank", " ", "Blank")), SexOfPersonType::getStateCode));
+		CodeTableSnapshot codeTableSnapshot = new CodeTableSnapshot(codeTables);
+
+		// the snapshot does not see later changes to the map it was built from
+		codeTables.clear();
+
+		assertTrue(codeTableSnapshot.contains(SexOfPersonType.class));
+		assertFalse(codeTableSnapshot.contains(RaceOfPersonType.class));
+		assertEquals(2, codeTableSnapshot.size());
+		assertEquals(Integer.valueOf(1), codeTableSnapshot.get(SexOfPersonType.class, "F").getSexOfPersonTypeId());
+		assertEquals(Integer.valueOf(2), codeTableSnapshot.get(SexOfPersonType.class, "M").getSexOfPersonTypeId());
+		assertNull(codeTableSnapshot.get(SexOfPersonType.class, "U"));
+		assertNull(codeTableSnapshot.get(RaceOfPersonType.class, "W"));
+	}
+
+}
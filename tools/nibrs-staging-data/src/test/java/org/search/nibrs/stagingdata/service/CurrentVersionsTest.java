@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.search.nibrs.stagingdata.repository.segment.SegmentVersion;
+
+public class CurrentVersionsTest {
+
+	@Test
+	public void testGetChanges() {
+		CurrentVersions.Changes changes = CurrentVersions.getChanges(Arrays.asList(
+				// a new version replaces the current version of INC-1 in agency 1
+				new SegmentVersion(1, "INC-1", 1, 1, true, true),
+				new SegmentVersion(4, "INC-1", 1, 1, false, false),
+				// owner 2 submits INC-1 for agency 1 too: the current version of all, but owner 1 keeps its own
+				new SegmentVersion(5, "INC-1", 1, 2, false, false),
+				// the same incident number in another agency is another report
+				new SegmentVersion(2, "INC-1", 2, 1, true, true),
+				// versions without an owner or agency
+				new SegmentVersion(3, "INC-2", 1, null, false, false),
+				new SegmentVersion(6, "INC-3", null, 1, true, true)));
+
+		assertEquals(Arrays.asList(5, 3), changes.currentVersionIds);
+		assertEquals(Arrays.asList(1, 6), changes.notCurrentVersionIds);
+		assertEquals(Arrays.asList(4, 5), changes.currentOwnerVersionIds);
+		assertEquals(Arrays.asList(1, 6), changes.notCurrentOwnerVersionIds);
+	}
+
+	@Test
+	public void testGetChangesWithoutChanges() {
+		CurrentVersions.Changes changes = CurrentVersions.getChanges(Arrays.asList(
+				new SegmentVersion(1, "INC-1", 1, 1, false, false),
+				new SegmentVersion(2, "INC-1", 1, 1, true, true)));
+
+		assertTrue(changes.currentVersionIds.isEmpty());
+		assertTrue(changes.notCurrentVersionIds.isEmpty());
+		assertTrue(changes.currentOwnerVersionIds.isEmpty());
+		assertTrue(changes.notCurrentOwnerVersionIds.isEmpty());
+	}
+
+	@Test
+	public void testRefresh() {
+		List<String> incidentNumbers = new ArrayList<>();
+		for (int i = 0; i < ReportVersions.QUERY_CHUNK_SIZE + 10; i++) {
+			incidentNumbers.add("INC-" + i);
+		}
+		incidentNumbers.add("INC-0");
+		incidentNumbers.add(null);
+
+		List<Integer> chunkSizes = new ArrayList<>();
+		Map<Boolean, List<Integer>> currentVersionUpdates = new HashMap<>();
+		Map<Boolean, List<Integer>> currentOwnerVersionUpdates = new HashMap<>();
+		CurrentVersions currentVersions = new CurrentVersions(new IdentifierLocks(),
+				(Collection<String> identifiers) -> {
+					chunkSizes.add(identifiers.size());
+					if (identifiers.contains("INC-7")) {
+						return Arrays.asList(
+								new SegmentVersion(1, "INC-7", 1, null, true, false),
+								new SegmentVersion(2, "INC-7", 1, null, false, false));
+					}
+					return Collections.emptyList();
+				},
+				(ids, indicator) -> {
+					currentVersionUpdates.computeIfAbsent(indicator, key -> new ArrayList<>()).addAll(ids);
+					return ids.size();
+				},
+				(ids, indicator) -> {
+					currentOwnerVersionUpdates.computeIfAbsent(indicator, key -> new ArrayList<>()).addAll(ids);
+					return ids.size();
+				});
+
+		currentVersions.refresh(incidentNumbers);
+
+		assertEquals(Arrays.asList(ReportVersions.QUERY_CHUNK_SIZE, 10), chunkSizes);
+		assertEquals(Arrays.asList(2), currentVersionUpdates.get(true));
+		assertEquals(Arrays.asList(1), currentVersionUpdates.get(false));
+		assertTrue(currentOwnerVersionUpdates.isEmpty());
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.stagingdata.NibrsDataApplication;
+import org.search.nibrs.stagingdata.util.BaselineIncidentFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Throughput benchmark of persisting Group A incidents through GroupAIncidentService, against a local search_nibrs_staging
+ * database (created with analytics/db/schema-mysql.sql and loaded with the code tables).  Not run as part of the unit test suite;
+ * run the main method with the test classpath, optionally passing the number of incidents and the number per request (default
+ * 10000 and 30, the batch size the admin application posts).  The connection can be changed with the spring.datasource system
+ * properties.  The incidents are filed under a tape month no real submission has, and are deleted again as one agency-month 
+ * through the chunked set-based delete, which is timed too.
+ */
+public class GroupAIncidentIngestBenchmark {
+
+	private static final int YEAR_OF_TAPE = 1999;
+	private static final int MONTH_OF_TAPE = 1;
+
+	private static final String[][] DEFAULT_PROPERTIES = {
+		{"spring.datasource.url", "jdbc:mariadb://localhost:3306/search_nibrs_staging?useSSL=false&cachePrepStmts=true&useServerPrepStmts=true&rewriteBatchedStatements=true"},
+		{"spring.datasource.username", "root"},
+		{"spring.datasource.password", "mysqladmin"},
+		{"spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.MariaDBDialect"},
+		{"spring.jpa.properties.hibernate.jdbc.batch_size", "30"},
+		{"spring.jpa.properties.hibernate.order_inserts", "true"},
+		{"spring.jpa.properties.hibernate.order_updates", "true"},
+		{"logging.level.org.hibernate.SQL", "warn"},
+		{"logging.level.org.hibernate.type.descriptor.sql", "warn"},
+		{"logging.level.org.search.nibrs", "warn"},
+	};
+
+	public static void main(String[] args) {
+		int incidentCount = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		int batchSize = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+
+		List<String> applicationArgs = new ArrayList<>();
+		for (String[] property : DEFAULT_PROPERTIES) {
+			applicationArgs.add("--" + property[0] + "=" + System.getProperty(property[0], property[1]));
+		}
+
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(NibrsDataApplication.class)
+				.web(WebApplicationType.NONE).run(applicationArgs.toArray(new String[applicationArgs.size()]))) {
+			GroupAIncidentService groupAIncidentService = context.getBean(GroupAIncidentService.class);
+			CodeTableService codeTableService = context.getBean(CodeTableService.class);
+			String incidentNumberPrefix = "B" + Long.toString(System.currentTimeMillis() % 100000000L, 36) + "-";
+
+			// warm up the connection pool, the id blocks and the JIT with a batch that is not timed
+			save(groupAIncidentService, incidentNumberPrefix + "W", batchSize, batchSize);
+
+			long start = System.nanoTime();
+			save(groupAIncidentService, incidentNumberPrefix, incidentCount, batchSize);
+			long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+			System.out.println(String.format("Persisted %d incidents in batches of %d in %d ms: %.1f incidents/second, "
+					+ "%.2f code table database lookups per incident",
+					incidentCount, batchSize, elapsedMillis, incidentCount * 1000.0 / Math.max(elapsedMillis, 1),
+					codeTableService.getDatabaseLookupsPerReport()));
+
+			start = System.nanoTime();
+			int deletedCount = groupAIncidentService.deleteGroupAIncidentReports(BaselineIncidentFactory.getBaselineIncident().getOri(), 
+					String.valueOf(YEAR_OF_TAPE), String.format("%02d", MONTH_OF_TAPE));
+			elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+			System.out.println(String.format("Deleted %d incidents of the agency-month in %d ms: %.1f incidents/second",
+					deletedCount, elapsedMillis, deletedCount * 1000.0 / Math.max(elapsedMillis, 1)));
+		}
+	}
+
+	private static void save(GroupAIncidentService groupAIncidentService, String incidentNumberPrefix, int incidentCount, int batchSize) {
+		List<GroupAIncidentReport> batch = new ArrayList<>(batchSize);
+		for (int i = 0; i < incidentCount; i++) {
+			GroupAIncidentReport incident = BaselineIncidentFactory.getBaselineIncident();
+			incident.setIncidentNumber(incidentNumberPrefix + i);
+			incident.setYearOfTape(YEAR_OF_TAPE);
+			incident.setMonthOfTape(MONTH_OF_TAPE);
+			batch.add(incident);
+			if (batch.size() == batchSize || i == incidentCount - 1) {
+				groupAIncidentService.saveGroupAIncidentReports(batch.toArray(new GroupAIncidentReport[batch.size()]));
+				batch.clear();
+			}
+		}
+	}
+
+}
@@ -23,6 +23,9 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -32,11 +35,18 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.apache.commons.lang3.time.DateUtils;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.search.nibrs.common.ParsedObject;
 import org.search.nibrs.model.GroupAIncidentReport;
@@ -88,6 +98,7 @@ import org.search.nibrs.stagingdata.repository.UcrOffenseCodeTypeRepository;
 import org.search.nibrs.stagingdata.repository.VictimOffenderRelationshipTypeRepository;
 import org.search.nibrs.stagingdata.repository.segment.AdministrativeSegmentRepository;
 import org.search.nibrs.stagingdata.util.BaselineIncidentFactory;
+import org.search.nibrs.util.CustomPair;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
@@ -98,6 +109,9 @@ import org.springframework.test.context.junit4.SpringRunner;
 @SpringBootTest
 @DirtiesContext(methodMode=MethodMode.BEFORE_METHOD)
 public class GroupAIncidentServiceTest {
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+	
 	@Autowired
 	public DateTypeRepository dateTypeRepository; 
 	@Autowired
@@ -1360,4 +1374,67 @@ public class GroupAIncidentServiceTest {
 		}
 		
 	}
+	
+	@Test
+	public void testConcurrentSavesOfOneIncidentLeaveOneCurrentVersion() throws Exception {
+		String incidentNumber = "CONCURRENT1";
+		int rounds = 10;
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			for (int round = 0; round < rounds; round++) {
+				CyclicBarrier barrier = new CyclicBarrier(2);
+				List<Future<?>> saves = new ArrayList<>();
+				for (int i = 0; i < 2; i++) {
+					saves.add(executorService.submit(() -> {
+						GroupAIncidentReport groupAIncidentReport = BaselineIncidentFactory.getBaselineIncident();
+						groupAIncidentReport.setIncidentNumber(incidentNumber);
+						barrier.await();
+						return groupAIncidentService.saveGroupAIncidentReports(groupAIncidentReport);
+					}));
+				}
+				for (Future<?> save : saves) {
+					save.get(30, TimeUnit.SECONDS);
+				}
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+		
+		List<AdministrativeSegment> versions = administrativeSegmentRepository.findByIncidentNumber(incidentNumber);
+		assertThat(versions.size(), equalTo(rounds * 2));
+		
+		List<Integer> currentVersionIds = versions.stream()
+				.filter(version -> Boolean.TRUE.equals(version.getCurrentVersionIndicator()))
+				.map(AdministrativeSegment::getAdministrativeSegmentId)
+				.collect(Collectors.toList());
+		Integer latestId = versions.stream().map(AdministrativeSegment::getAdministrativeSegmentId).max(Integer::compare).get();
+		assertThat(currentVersionIds, equalTo(Collections.singletonList(latestId)));
+	}
+	
+	@Test
+	@DirtiesContext
+	public void testConvertAndWriteGroupAIncidentReportsReplacesStoredIncidents() throws Exception {
+		GroupAIncidentReport storedIncident = BaselineIncidentFactory.getBaselineIncident();
+		storedIncident.setIncidentNumber("CONVERT1");
+		groupAIncidentService.saveGroupAIncidentReports(storedIncident);
+		storedIncident.setReportActionType('I');
+		
+		GroupAIncidentReport newIncident = BaselineIncidentFactory.getBaselineIncident();
+		newIncident.setIncidentNumber("NOTSTORED1");
+		File folder = temporaryFolder.newFolder();
+		groupAIncidentService.convertAndWriteGroupAIncidentReports(
+				new CustomPair<>(folder.getPath(), Arrays.asList(storedIncident, newIncident)));
+		
+		assertThat(storedIncident.getReportActionType(), equalTo('R'));
+		assertThat(newIncident.getReportActionType(), equalTo('I'));
+		assertThat(readReport(folder, "GroupAIncidentCONVERT1-").contains("<nibrs:ReportActionCategoryCode>R<"), equalTo(true));
+		assertThat(readReport(folder, "GroupAIncidentNOTSTORED1-").contains("<nibrs:ReportActionCategoryCode>I<"), equalTo(true));
+	}
+	
+	private String readReport(File folder, String fileNamePrefix) throws Exception {
+		File[] files = folder.listFiles((dir, name) -> name.startsWith(fileNamePrefix));
+		assertThat(files.length, equalTo(1));
+		return new String(Files.readAllBytes(files[0].toPath()), StandardCharsets.UTF_8);
+	}
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class IdentifierLocksTest {
+
+	private ExecutorService executorService;
+
+	@Before
+	public void setUp() {
+		executorService = Executors.newFixedThreadPool(2);
+	}
+
+	@After
+	public void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	public void testLockIsHeldUntilTheTransactionCompletes() throws Exception {
+		IdentifierLocks identifierLocks = new IdentifierLocks();
+		CountDownLatch firstLocked = new CountDownLatch(1);
+		CountDownLatch firstCompleting = new CountDownLatch(1);
+
+		Future<?> first = executorService.submit(() -> {
+			inTransaction(() -> {
+				identifierLocks.lockUntilCompletion(Arrays.asList("INC-2", "INC-1"));
+				firstLocked.countDown();
+				await(firstCompleting);
+			});
+			return null;
+		});
+		assertTrue(firstLocked.await(10, TimeUnit.SECONDS));
+
+		CountDownLatch secondLocked = new CountDownLatch(1);
+		Future<?> second = executorService.submit(() -> {
+			inTransaction(() -> {
+				identifierLocks.lockUntilCompletion(Arrays.asList("INC-1", "INC-3"));
+				secondLocked.countDown();
+			});
+			return null;
+		});
+		assertFalse(secondLocked.await(200, TimeUnit.MILLISECONDS));
+
+		firstCompleting.countDown();
+		first.get(10, TimeUnit.SECONDS);
+		assertTrue(secondLocked.await(10, TimeUnit.SECONDS));
+		second.get(10, TimeUnit.SECONDS);
+		assertEquals(0, identifierLocks.size());
+	}
+
+	@Test
+	public void testOtherIdentifiersAreNotBlocked() throws Exception {
+		IdentifierLocks identifierLocks = new IdentifierLocks();
+		CountDownLatch firstCompleting = new CountDownLatch(1);
+		CountDownLatch firstLocked = new CountDownLatch(1);
+
+		Future<?> first = executorService.submit(() -> {
+			inTransaction(() -> {
+				identifierLocks.lockUntilCompletion(Collections.singletonList("INC-1"));
+				firstLocked.countDown();
+				await(firstCompleting);
+			});
+			return null;
+		});
+		assertTrue(firstLocked.await(10, TimeUnit.SECONDS));
+
+		executorService.submit(() -> {
+			inTransaction(() -> identifierLocks.lockUntilCompletion(Arrays.asList("INC-2", null)));
+			return null;
+		}).get(10, TimeUnit.SECONDS);
+
+		firstCompleting.countDown();
+		first.get(10, TimeUnit.SECONDS);
+		assertEquals(0, identifierLocks.size());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testLockOutsideOfTransaction() {
+		new IdentifierLocks().lockUntilCompletion(Collections.singletonList("INC-1"));
+	}
+
+	/**
+	 * Run the work with transaction synchronization active, completing the synchronizations afterwards as a transaction manager would.
+	 */
+	private static void inTransaction(Runnable work) {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			work.run();
+		}
+		finally {
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+				synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+			}
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+import org.search.nibrs.stagingdata.repository.segment.ReportVersion;
+
+public class ReportVersionsTest {
+
+	@Test
+	public void testExistsByIdentifierAndOri() {
+		ReportVersions reportVersions = new ReportVersions(Arrays.asList(
+				new ReportVersion(1, "INC-1", "WA1234567", 1, "2019", "01", "I"),
+				new ReportVersion(2, "INC-2", "WA1234567", 1, "2019", "01", "I"),
+				new ReportVersion(5, "INC-2", "WA1234567", 1, "2019", "02", "D"),
+				new ReportVersion(3, "INC-3", "WA1234567", 1, "2019", "01", "D"),
+				new ReportVersion(6, "INC-3", "WA1234567", 1, "2019", "03", "R")));
+
+		assertTrue(reportVersions.existsByIdentifierAndOri("INC-1", "WA1234567"));
+		assertFalse(reportVersions.existsByIdentifierAndOri("INC-1", "WA7654321"));
+		assertFalse(reportVersions.existsByIdentifierAndOri("INC-2", "WA1234567"));
+		assertTrue(reportVersions.existsByIdentifierAndOri("INC-3", "WA1234567"));
+		assertFalse(reportVersions.existsByIdentifierAndOri("INC-4", "WA1234567"));
+	}
+
+	@Test
+	public void testExistsByIdentifierAndOriAndSubmissionDateAndOwnerId() {
+		ReportVersions reportVersions = new ReportVersions(Arrays.asList(
+				new ReportVersion(1, "INC-1", "WA1234567", 1, "2019", "03", "I"),
+				new ReportVersion(2, "INC-1", "WA1234567", 2, "2019", "01", "I"),
+				new ReportVersion(3, "INC-2", "WA1234567", 1, null, null, "I")));
+		Date january = Date.valueOf("2019-01-01");
+		Date february = Date.valueOf("2019-02-01");
+
+		// the latest version of all is from January
+		assertFalse(reportVersions.existsByIdentifierAndOriAndSubmissionDateAndOwnerId("INC-1", "WA1234567", february, null));
+		assertFalse(reportVersions.existsByIdentifierAndOriAndSubmissionDateAndOwnerId("INC-1", "WA1234567", february, 0));
+		// the latest version of owner 1 is from March
+		assertTrue(reportVersions.existsByIdentifierAndOriAndSubmissionDateAndOwnerId("INC-1", "WA1234567", february, 1));
+		assertFalse(reportVersions.existsByIdentifierAndOriAndSubmissionDateAndOwnerId("INC-1", "WA1234567", january, 2));
+		assertFalse(reportVersions.existsByIdentifierAndOriAndSubmissionDateAndOwnerId("INC-1", "WA1234567", null, 1));
+		assertFalse(reportVersions.existsByIdentifierAndOriAndSubmissionDateAndOwnerId("INC-2", "WA1234567", january, 1));
+		assertFalse(reportVersions.existsByIdentifierAndOriAndSubmissionDateAndOwnerId("INC-3", "WA1234567", january, 1));
+	}
+
+	@Test
+	public void testFind() {
+		List<String> incidentNumbers = new ArrayList<>();
+		for (int i = 0; i < ReportVersions.QUERY_CHUNK_SIZE + 10; i++) {
+			incidentNumbers.add("INC-" + i);
+		}
+		// the same incident number twice in a batch is queried once
+		incidentNumbers.add("INC-0");
+		incidentNumbers.add(null);
+
+		List<Integer> chunkSizes = new ArrayList<>();
+		ReportVersions reportVersions = ReportVersions.find(incidentNumbers, incidentNumber -> incidentNumber, incidentNumber -> "WA1234567",
+				(Collection<String> oris, Collection<String> identifiers) -> {
+					assertEquals(Arrays.asList("WA1234567"), new ArrayList<>(oris));
+					chunkSizes.add(identifiers.size());
+					List<ReportVersion> found = new ArrayList<>();
+					if (identifiers.contains("INC-7")) {
+						found.add(new ReportVersion(1, "INC-7", "WA1234567", null, "2019", "01", "A"));
+					}
+					return found;
+				});
+
+		assertEquals(Arrays.asList(ReportVersions.QUERY_CHUNK_SIZE, 10), chunkSizes);
+		assertTrue(reportVersions.existsByIdentifierAndOri("INC-7", "WA1234567"));
+		assertFalse(reportVersions.existsByIdentifierAndOri("INC-8", "WA1234567"));
+	}
+
+}
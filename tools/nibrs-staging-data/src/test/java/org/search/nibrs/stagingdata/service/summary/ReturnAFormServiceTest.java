@@ -0,0 +1,373 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.service.summary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javax.sql.DataSource;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.search.nibrs.model.reports.SummaryReportRequest;
+import org.search.nibrs.stagingdata.AppProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Checks the Return A and the Return A Record Card built from the ReturnAIncident projections against the reports the
+ * entity graph implementation (ReturnAFormService before the projections) built from the same generated incidents.  The
+ * expected reports in summaryReports/returnAReports.json were written by that implementation; the fixture is generated
+ * from a fixed seed, so changing the generator means writing the expected reports again.  The incidents are inserted in a
+ * transaction that is rolled back at the end, on a fresh copy of the code tables, since the other tests leave the reports
+ * they saved behind.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@DirtiesContext(classMode = ClassMode.BEFORE_CLASS)
+public class ReturnAFormServiceTest {
+
+	private static final String[] OFFENSE_CODES = {"09A", "09B", "09C", "11A", "11B", "11C", "120", "13A", "13B", "13C", "200",
+			"220", "23A", "23B", "23C", "23D", "23E", "23F", "23G", "23H", "240", "64A", "64B", "35A"};
+	private static final String[] WEAPON_FORCE_CODES = {"11", "12", "13", "14", "15", "20", "30", "35", "40", "50", "60", "65",
+			"70", "85", "90", "95", "99"};
+	private static final String[] LOCATION_CODES = {"01", "13", "19", "20", "05", "14", "18", "25", "37"};
+	private static final String[] METHOD_OF_ENTRY_CODES = {"F", "N", "U"};
+	private static final String[] PROPERTY_DESCRIPTION_CODES = {"01", "02", "03", "04", "05", "07", "13", "20", "24", "28",
+			"37", "38", "39", "77", "88"};
+	private static final String[] PROPERTY_LOSS_CODES = {"5", "7", "2"};
+	private static final String[] SEX_CODES = {"F", "M", "U"};
+	private static final String[] CLEARED_EXCEPTIONALLY_CODES = {"A", "B", "C", "D", "E", "N", "N", "N"};
+	private static final int UNKNOWN_DATE_ID = 99998;
+	/** The fixture agencies are 1, 2 and 3 in the requests and the ORIs, and this plus that in the Agency table. */
+	private static final int AGENCY_ID_OFFSET = 100;
+	private static final LocalDate LAST_DATE = LocalDate.of(2019, 3, 31);
+
+	/**
+	 * state code, agency id (null for all the agencies), incident year and month (0 for the year) of the requests.  The
+	 * record card is also built for the whole year requests.
+	 */
+	private static final Object[][] REQUESTS = {{"WA", null, 2018, 0}, {"WA", null, 2018, 3}, {"WA", 1, 2018, 0},
+			{"WA", 2, 2018, 6}, {"WA", 3, 2018, 12}, {"WA", null, 2019, 0}};
+
+	@Autowired
+	private ReturnAFormService returnAFormService;
+	@Autowired
+	private AppProperties appProperties;
+	@Autowired
+	private DataSource dataSource;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private JdbcTemplate jdbcTemplate;
+	private final Map<String, Map<String, Integer>> codeIds = new HashMap<>();
+	/** Above the ids of the code tables data.sql loads, which go up to the 99999 unknown rows. */
+	private int nextCodeId = 100000;
+
+	@Test
+	public void testReportsMatchEntityGraphReports() throws Exception {
+		ObjectMapper mapper = new ObjectMapper().findAndRegisterModules()
+				.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+		JsonNode expected;
+		try (InputStream inputStream = getClass().getResourceAsStream("/summaryReports/returnAReports.json")) {
+			expected = mapper.readTree(inputStream);
+		}
+
+		int batchSize = appProperties.getSummaryReportProcessingBatchSize();
+		// a batch size that does not divide the number of incidents, so the reports are also put together across batches
+		appProperties.setSummaryReportProcessingBatchSize(37);
+		ObjectNode actual = mapper.createObjectNode();
+		try {
+			new TransactionTemplate(transactionManager).execute(status -> {
+				status.setRollbackOnly();
+				jdbcTemplate = new JdbcTemplate(dataSource);
+				insertIncidents(300);
+				for (Object[] request : REQUESTS) {
+					putReports(actual, mapper, request);
+				}
+				return null;
+			});
+		}
+		finally {
+			appProperties.setSummaryReportProcessingBatchSize(batchSize);
+		}
+
+		assertEquals(expected.size(), actual.size());
+		for (Iterator<String> names = expected.fieldNames(); names.hasNext();) {
+			String name = names.next();
+			assertTrue(name, actual.has(name));
+			assertEquals(name, expected.get(name), actual.get(name));
+		}
+	}
+
+	private void putReports(ObjectNode reports, ObjectMapper mapper, Object[] request) {
+		SummaryReportRequest summaryReportRequest = new SummaryReportRequest();
+		summaryReportRequest.setStateCode((String) request[0]);
+		summaryReportRequest.setAgencyId(request[1] == null ? null : AGENCY_ID_OFFSET + (Integer) request[1]);
+		summaryReportRequest.setIncidentYear((Integer) request[2]);
+		summaryReportRequest.setIncidentMonth((Integer) request[3]);
+
+		String suffix = " " + Arrays.toString(request);
+		reports.set("ReturnAForm" + suffix,
+				mapper.valueToTree(returnAFormService.createReturnASummaryReportByRequest(summaryReportRequest)));
+		if ((Integer) request[3] == 0) {
+			reports.set("ReturnARecordCardReport" + suffix,
+					mapper.valueToTree(returnAFormService.createReturnARecordCardReportByRequest(summaryReportRequest)));
+		}
+	}
+
+	private void insertIncidents(int count) {
+		insertCodeTables();
+		for (LocalDate date = LocalDate.of(2017, 11, 1); !date.isAfter(LAST_DATE); date = date.plusDays(1)) {
+			insertDate(dateId(date), date);
+		}
+		for (int agencyId = 1; agencyId <= 3; agencyId++) {
+			jdbcTemplate.update("INSERT INTO Agency (AgencyID, AgencyORI, AgencyName, AgencyTypeID, StateCode, StateName, "
+					+ "Population) VALUES (?, ?, ?, ?, ?, ?, ?)",
+					AGENCY_ID_OFFSET + agencyId, "WA000000" + agencyId, "Agency " + agencyId, 1, "WA", "Washington", 1000 * agencyId);
+		}
+
+		Random random = new Random(42);
+		int offenseId = 1, weaponId = 1, victimId = 1, victimOffenseId = 1, propertyId = 1, propertyTypeId = 1;
+		int arresteeId = 1, offenderId = 1, propertyValue = 1;
+		for (int i = 0; i < count; i++) {
+			int administrativeSegmentId = 1000 + i;
+			int agencyId = 1 + i % 3;
+			LocalDate incidentDate = LocalDate.of(2018, 1, 1).plusDays(random.nextInt(400) - 20);
+			String clearedExceptionallyCode = pick(random, CLEARED_EXCEPTIONALLY_CODES);
+			LocalDate clearanceDate = "N".equals(clearedExceptionallyCode) ? null :
+				min(incidentDate.plusDays(random.nextInt(60)), LAST_DATE);
+			String incidentHour = random.nextInt(5) == 0 ? null : String.format("%02d", random.nextInt(24));
+			jdbcTemplate.update("INSERT INTO AdministrativeSegment (AdministrativeSegmentID, SegmentActionTypeTypeID, StateCode, "
+					+ "MonthOfTape, YearOfTape, ORI, AgencyID, IncidentNumber, IncidentDate, IncidentDateID, IncidentHour, "
+					+ "ClearedExceptionallyTypeID, ExceptionalClearanceDate, ExceptionalClearanceDateID, CargoTheftIndicatorTypeID, "
+					+ "CurrentVersionIndicator, CurrentOwnerVersionIndicator) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+					administrativeSegmentId, 1, "WA", "01", "2018", "WA000000" + agencyId, AGENCY_ID_OFFSET + agencyId, "INC" + i,
+					Date.valueOf(incidentDate), dateId(incidentDate), incidentHour,
+					codeId("ClearedExceptionallyType", clearedExceptionallyCode), toDate(clearanceDate), dateId(clearanceDate),
+					1, true, true);
+
+			List<String> offenseCodes = shuffled(random, OFFENSE_CODES);
+			List<Integer> offenseIds = new ArrayList<>();
+			for (int j = 0, offenseCount = 1 + random.nextInt(3); j < offenseCount; j++) {
+				jdbcTemplate.update("INSERT INTO OffenseSegment (OffenseSegmentID, SegmentActionTypeTypeID, AdministrativeSegmentID, "
+						+ "UCROffenseCodeTypeID, OffenseAttemptedCompleted, LocationTypeTypeID, NumberOfPremisesEntered, "
+						+ "MethodOfEntryTypeID) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+						offenseId, 1, administrativeSegmentId, codeId("UCROffenseCodeType", offenseCodes.get(j)),
+						random.nextInt(4) == 0 ? "A" : "C", codeId("LocationTypeType", pick(random, LOCATION_CODES)),
+						random.nextInt(3) == 0 ? null : random.nextInt(5),
+						codeId("MethodOfEntryType", pick(random, METHOD_OF_ENTRY_CODES)));
+				List<String> weaponForceCodes = shuffled(random, WEAPON_FORCE_CODES);
+				for (int k = 0, weaponCount = random.nextInt(3); k < weaponCount; k++) {
+					jdbcTemplate.update("INSERT INTO TypeOfWeaponForceInvolved (TypeOfWeaponForceInvolvedID, AutomaticWeaponIndicator, "
+							+ "OffenseSegmentID, TypeOfWeaponForceInvolvedTypeID) VALUES (?, ?, ?, ?)",
+							weaponId++, " ", offenseId, codeId("TypeOfWeaponForceInvolvedType", weaponForceCodes.get(k)));
+				}
+				offenseIds.add(offenseId++);
+			}
+
+			for (int j = 0, victimCount = random.nextInt(4); j < victimCount; j++) {
+				jdbcTemplate.update("INSERT INTO VictimSegment (VictimSegmentID, SegmentActionTypeTypeID, AdministrativeSegmentID, "
+						+ "VictimSequenceNumber, TypeOfVictimTypeID, OfficerActivityCircumstanceTypeID, OfficerAssignmentTypeTypeID, "
+						+ "AgeNeonateIndicator, AgeFirstWeekIndicator, AgeFirstYearIndicator, SexOfPersonTypeID, RaceOfPersonTypeID, "
+						+ "EthnicityOfPersonTypeID, ResidentStatusOfPersonTypeID, AdditionalJustifiableHomicideCircumstancesTypeID) "
+						+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+						victimId, 1, administrativeSegmentId, j + 1, 1, 1, 1, 0, 0, 0,
+						codeId("SexOfPersonType", pick(random, SEX_CODES)), 1, 1, 1, 1);
+				for (Integer connectedOffenseId : offenseIds) {
+					if (random.nextInt(3) > 0) {
+						jdbcTemplate.update("INSERT INTO VictimOffenseAssociation (VictimOffenseAssociationID, VictimSegmentID, "
+								+ "OffenseSegmentID) VALUES (?, ?, ?)", victimOffenseId++, victimId, connectedOffenseId);
+					}
+				}
+				victimId++;
+			}
+
+			List<String> propertyLossCodes = shuffled(random, PROPERTY_LOSS_CODES);
+			for (int j = 0, propertyCount = random.nextInt(3); j < propertyCount; j++) {
+				jdbcTemplate.update("INSERT INTO PropertySegment (PropertySegmentID, SegmentActionTypeTypeID, AdministrativeSegmentID, "
+						+ "TypePropertyLossEtcTypeID, NumberOfStolenMotorVehicles, NumberOfRecoveredMotorVehicles) "
+						+ "VALUES (?, ?, ?, ?, ?, ?)",
+						propertyId, 1, administrativeSegmentId, codeId("TypePropertyLossEtcType", propertyLossCodes.get(j)),
+						random.nextInt(3) == 0 ? null : random.nextInt(4), random.nextInt(3) == 0 ? null : random.nextInt(3));
+				List<String> descriptionCodes = shuffled(random, PROPERTY_DESCRIPTION_CODES);
+				for (int k = 0, itemCount = 1 + random.nextInt(3); k < itemCount; k++) {
+					LocalDate recoveredDate = "5".equals(propertyLossCodes.get(j)) && random.nextBoolean() ?
+							incidentDate.plusDays(random.nextInt(30)) : null;
+					if (recoveredDate != null && recoveredDate.isAfter(LAST_DATE)) {
+						recoveredDate = null;
+					}
+					jdbcTemplate.update("INSERT INTO PropertyType (PropertyTypeID, PropertySegmentID, PropertyDescriptionTypeID, "
+							+ "ValueOfProperty, RecoveredDate, RecoveredDateID) VALUES (?, ?, ?, ?, ?, ?)",
+							propertyTypeId++, propertyId, codeId("PropertyDescriptionType", descriptionCodes.get(k)),
+							random.nextInt(5) == 0 ? null :
+								(random.nextInt(6) == 0 ? 0 : 10 * random.nextInt(60) + (propertyValue++ % 7)),
+							toDate(recoveredDate), dateId(recoveredDate));
+				}
+				propertyId++;
+			}
+
+			for (int j = 0, arresteeCount = random.nextInt(3); j < arresteeCount; j++) {
+				LocalDate arrestDate = min(incidentDate.plusDays(random.nextInt(40)), LAST_DATE);
+				Integer[] age = age(random);
+				jdbcTemplate.update("INSERT INTO ArresteeSegment (ArresteeSegmentID, SegmentActionTypeTypeID, AdministrativeSegmentID, "
+						+ "ArresteeSequenceNumber, ArrestDate, ArrestDateID, TypeOfArrestTypeID, MultipleArresteeSegmentsIndicatorTypeID, "
+						+ "AgeOfArresteeMin, AgeOfArresteeMax, NonNumericAge, SexOfPersonTypeID, RaceOfPersonTypeID, "
+						+ "EthnicityOfPersonTypeID, ResidentStatusOfPersonTypeID, DispositionOfArresteeUnder18TypeID, "
+						+ "UCROffenseCodeTypeID) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+						arresteeId++, 1, administrativeSegmentId, j + 1, Date.valueOf(arrestDate), dateId(arrestDate), 1, 1,
+						age[0], age[1], age[0] == null ? "00" : null, 1, 1, 1, 1, 1, 1);
+			}
+
+			for (int j = 0, offenderCount = random.nextInt(3); j < offenderCount; j++) {
+				Integer[] age = age(random);
+				jdbcTemplate.update("INSERT INTO OffenderSegment (OffenderSegmentID, SegmentActionTypeTypeID, AdministrativeSegmentID, "
+						+ "OffenderSequenceNumber, AgeOfOffenderMin, AgeOfOffenderMax, NonNumericAge, SexOfPersonTypeID, "
+						+ "RaceOfPersonTypeID, EthnicityOfPersonTypeID) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+						offenderId++, 1, administrativeSegmentId, j + 1, age[0], age[1], age[0] == null ? "00" : null, 1, 1, 1);
+			}
+		}
+	}
+
+	/**
+	 * Add the codes the reports look at to the code tables, next to the rows data.sql loads, and a row with the id 1 for the
+	 * columns the fixture does not vary where data.sql has none.  The other columns get placeholder values of their type.
+	 */
+	private void insertCodeTables() {
+		Map<String, String[]> codes = new HashMap<>();
+		codes.put("UCROFFENSECODETYPE", OFFENSE_CODES);
+		codes.put("TYPEOFWEAPONFORCEINVOLVEDTYPE", WEAPON_FORCE_CODES);
+		codes.put("LOCATIONTYPETYPE", LOCATION_CODES);
+		codes.put("METHODOFENTRYTYPE", METHOD_OF_ENTRY_CODES);
+		codes.put("PROPERTYDESCRIPTIONTYPE", PROPERTY_DESCRIPTION_CODES);
+		codes.put("TYPEPROPERTYLOSSETCTYPE", PROPERTY_LOSS_CODES);
+		codes.put("SEXOFPERSONTYPE", SEX_CODES);
+		codes.put("CLEAREDEXCEPTIONALLYTYPE", new String[]{"A", "B", "C", "D", "E", "N"});
+
+		List<String> tables = jdbcTemplate.queryForList("SELECT DISTINCT TABLE_NAME FROM INFORMATION_SCHEMA.COLUMNS "
+				+ "WHERE TABLE_SCHEMA = 'SEARCH_NIBRS_STAGING' AND COLUMN_NAME = 'NIBRSCODE' ORDER BY TABLE_NAME", String.class);
+		for (String table : tables) {
+			List<Map<String, Object>> columns = jdbcTemplate.queryForList("SELECT COLUMN_NAME, TYPE_NAME, CHARACTER_MAXIMUM_LENGTH "
+					+ "FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = 'SEARCH_NIBRS_STAGING' AND TABLE_NAME = ? "
+					+ "ORDER BY ORDINAL_POSITION", table);
+			if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + columns.get(0).get("COLUMN_NAME") 
+					+ " = 1", Integer.class) == 0) {
+				insertCode(table, columns, 1, "X");
+			}
+			for (String code : codes.getOrDefault(table, new String[0])) {
+				codeIds.computeIfAbsent(table, key -> new HashMap<>()).put(code, nextCodeId);
+				insertCode(table, columns, nextCodeId++, code);
+			}
+		}
+	}
+
+	private void insertCode(String table, List<Map<String, Object>> columns, int id, String code) {
+		List<String> names = new ArrayList<>();
+		List<Object> values = new ArrayList<>();
+		for (Map<String, Object> column : columns) {
+			String name = (String) column.get("COLUMN_NAME");
+			String type = (String) column.get("TYPE_NAME");
+			Object value;
+			if (names.isEmpty()) {
+				value = id;
+			}
+			else if ("NIBRSCODE".equals(name) || "STATECODE".equals(name)) {
+				value = code;
+			}
+			else if (type.contains("CHAR")) {
+				value = "X";
+			}
+			else if (type.contains("DATE") || type.contains("TIMESTAMP")) {
+				value = Date.valueOf("2018-01-01");
+			}
+			else if (type.contains("BOOLEAN")) {
+				value = false;
+			}
+			else {
+				value = 1;
+			}
+			names.add(name);
+			values.add(value);
+		}
+		jdbcTemplate.update("INSERT INTO " + table + " (" + String.join(", ", names) + ") VALUES ("
+				+ String.join(", ", Collections.nCopies(values.size(), "?")) + ")", values.toArray());
+	}
+
+	private void insertDate(int dateId, LocalDate date) {
+		jdbcTemplate.update("INSERT INTO DateType (DateTypeID, CalendarDate, YearNum, YearLabel, CalendarQuarter, MonthNum, "
+				+ "MonthName, FullMonth, DayNum, DayOfWeek, DayOfWeekSort, DateMMDDYYYY) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+				dateId, Date.valueOf(date), date.getYear(), String.valueOf(date.getYear()), 1, date.getMonthValue(), "M", "FM",
+				date.getDayOfMonth(), "D", 1, "X");
+	}
+
+	private int codeId(String table, String code) {
+		return codeIds.get(table.toUpperCase()).get(code);
+	}
+
+	private static int dateId(LocalDate date) {
+		return date == null ? UNKNOWN_DATE_ID : date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+	}
+
+	private static Date toDate(LocalDate date) {
+		return date == null ? null : Date.valueOf(date);
+	}
+
+	private static LocalDate min(LocalDate date, LocalDate other) {
+		return date.isAfter(other) ? other : date;
+	}
+
+	private static String pick(Random random, String[] values) {
+		return values[random.nextInt(values.length)];
+	}
+
+	private static List<String> shuffled(Random random, String[] values) {
+		List<String> list = new ArrayList<>(Arrays.asList(values));
+		Collections.shuffle(list, random);
+		return list;
+	}
+
+	/**
+	 * The minimum and maximum age, both null for a non numeric age.
+	 */
+	private static Integer[] age(Random random) {
+		Integer ageMin = random.nextInt(4) == 0 ? null : 10 + random.nextInt(20);
+		return new Integer[]{ageMin, ageMin == null ? null : ageMin + random.nextInt(3)};
+	}
+
+}
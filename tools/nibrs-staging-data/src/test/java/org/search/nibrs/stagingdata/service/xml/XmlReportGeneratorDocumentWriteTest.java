@@ -0,0 +1,211 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.stagingdata.service.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.search.nibrs.xml.NibrsNamespaceContext.Namespace.NIBRS;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.search.nibrs.stagingdata.AppProperties;
+import org.search.nibrs.stagingdata.model.SubmissionTrigger;
+import org.search.nibrs.stagingdata.model.segment.AdministrativeSegment;
+import org.search.nibrs.stagingdata.model.segment.ArrestReportSegment;
+import org.search.nibrs.stagingdata.repository.segment.AdministrativeSegmentRepository;
+import org.search.nibrs.stagingdata.repository.segment.AdministrativeSegmentRepositoryCustom;
+import org.search.nibrs.stagingdata.repository.segment.ArrestReportSegmentRepository;
+import org.search.nibrs.xml.XmlUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.w3c.dom.Document;
+
+/**
+ * Writes the documents of a submission trigger into a temporary folder, with the repositories stubbed and the conversion of the
+ * segments replaced, so one report can be made to fail.
+ */
+public class XmlReportGeneratorDocumentWriteTest {
+
+	private static final String FAILING_INCIDENT_NUMBER = "INC7";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File outputFolder;
+	private XmlReportGenerator xmlReportGenerator;
+
+	@Before
+	public void setUp() throws IOException {
+		outputFolder = temporaryFolder.newFolder("input");
+
+		AppProperties appProperties = new AppProperties();
+		appProperties.setNibrsNiemDocumentFolder(outputFolder.getAbsolutePath());
+
+		xmlReportGenerator = new XmlReportGenerator() {
+			@Override
+			public Document createGroupAIncidentReport(AdministrativeSegment administrativeSegment) throws ParserConfigurationException {
+				if (FAILING_INCIDENT_NUMBER.equals(administrativeSegment.getIncidentNumber())) {
+					throw new IllegalStateException("No offense segment in " + administrativeSegment.getIncidentNumber());
+				}
+				return document(administrativeSegment.getIncidentNumber());
+			}
+
+			@Override
+			public Document createGroupBArrestReport(ArrestReportSegment arrestReportSegment) throws ParserConfigurationException {
+				return document(arrestReportSegment.getArrestTransactionNumber());
+			}
+		};
+		ReflectionTestUtils.setField(xmlReportGenerator, "appProperties", appProperties);
+		xmlReportGenerator.init();
+	}
+
+	@After
+	public void tearDown() {
+		xmlReportGenerator.shutdown();
+	}
+
+	@Test
+	public void testWriteDocumentLeavesOnlyTheFinalFile() throws Exception {
+		File file = new File(outputFolder, "GroupAIncident1-20190301-120000000.xml");
+		xmlReportGenerator.writeDocument(document("1"), file.getAbsolutePath());
+
+		assertEquals(Collections.singletonList(file.getName()), fileNames());
+		assertEquals("1", XmlUtils.xPathStringSearch(XmlUtils.toDocument(file), "/nibrs:Submission"));
+	}
+
+	@Test
+	public void testFailedWriteLeavesNoTemporaryFile() throws Exception {
+		/*
+		 * A non-empty directory in place of the document, so moving the written temporary file into place fails.
+		 */
+		File file = new File(outputFolder, "GroupAIncident1-20190301-120000000.xml");
+		assertTrue(file.mkdir());
+		assertTrue(new File(file, "other.xml").createNewFile());
+
+		try {
+			xmlReportGenerator.writeDocument(document("1"), file.getAbsolutePath());
+			fail("Moved the document over a directory");
+		}
+		catch (IOException e) {
+			// expected
+		}
+
+		assertEquals(Collections.singletonList(file.getName()), fileNames());
+		assertTrue(file.isDirectory());
+	}
+
+	@Test
+	public void testProcessSubmissionTriggerCountsTheFailedDocument() throws Exception {
+		/*
+		 * More incidents than one batch of reports, so the documents of a batch are written while the next batch is loaded.
+		 */
+		List<Integer> groupAIds = IntStream.rangeClosed(1, 150).boxed().collect(Collectors.toList());
+		List<Integer> groupBIds = Arrays.asList(1001, 1002);
+
+		xmlReportGenerator.administrativeSegmentRepository = stub(AdministrativeSegmentRepository.class,
+				"findIdsByOriListAndSubmissionDateRange", args -> groupAIds);
+		xmlReportGenerator.administrativeSegmentRepositoryCustom = stub(AdministrativeSegmentRepositoryCustom.class,
+				"findAllWithSegmentsByIds", args -> ((List<?>) args[0]).stream()
+						.map(id -> administrativeSegment("INC" + id))
+						.collect(Collectors.toList()));
+		Map<String, Function<Object[], Object>> arrestReportSegmentRepositoryMethods = new HashMap<>();
+		arrestReportSegmentRepositoryMethods.put("findIdsByOriListAndSubmissionDateRange", args -> groupBIds);
+		arrestReportSegmentRepositoryMethods.put("findAllById", args -> groupBIds.stream()
+				.map(id -> arrestReportSegment("ARR" + id))
+				.collect(Collectors.toList()));
+		xmlReportGenerator.arrestReportSegmentRepository = stub(ArrestReportSegmentRepository.class, arrestReportSegmentRepositoryMethods);
+
+		SubmissionTrigger submissionTrigger = new SubmissionTrigger();
+		submissionTrigger.setOris(Collections.singletonList("WA1234567"));
+		xmlReportGenerator.processSubmissionTrigger(submissionTrigger);
+
+		SubmissionGenerationProgress progress = xmlReportGenerator.getSubmissionGenerationProgress();
+		assertTrue(progress.isComplete());
+		assertEquals(152, progress.getTotalCount());
+		assertEquals(151, progress.getGeneratedCount());
+		assertEquals(1, progress.getFailedCount());
+		assertEquals(Collections.singletonList("Group A Incident " + FAILING_INCIDENT_NUMBER), progress.getFailedToGenerate());
+		assertEquals(152, progress.getProcessedCount());
+		assertEquals(Integer.valueOf(100), progress.getProgress());
+		assertEquals(outputFolder.getAbsolutePath(), progress.getOutputFolder());
+
+		List<String> fileNames = fileNames();
+		assertEquals(151, fileNames.size());
+		assertFalse(fileNames.stream().anyMatch(fileName -> fileName.startsWith(".")));
+		assertFalse(fileNames.stream().anyMatch(fileName -> fileName.startsWith("GroupAIncident" + FAILING_INCIDENT_NUMBER + "-")));
+		assertEquals(2, fileNames.stream().filter(fileName -> fileName.startsWith("GroupBArrestReportARR")).count());
+	}
+
+	private List<String> fileNames() {
+		String[] fileNames = outputFolder.list();
+		Arrays.sort(fileNames);
+		return Arrays.asList(fileNames);
+	}
+
+	private static Document document(String text) throws ParserConfigurationException {
+		Document document = XmlUtils.createNewDocument();
+		XmlUtils.appendChildElement(document, NIBRS, "Submission").setTextContent(text);
+		return document;
+	}
+
+	private static AdministrativeSegment administrativeSegment(String incidentNumber) {
+		AdministrativeSegment administrativeSegment = new AdministrativeSegment();
+		administrativeSegment.setIncidentNumber(incidentNumber);
+		return administrativeSegment;
+	}
+
+	private static ArrestReportSegment arrestReportSegment(String arrestTransactionNumber) {
+		ArrestReportSegment arrestReportSegment = new ArrestReportSegment();
+		arrestReportSegment.setArrestTransactionNumber(arrestTransactionNumber);
+		return arrestReportSegment;
+	}
+
+	private static <T> T stub(Class<T> type, String methodName, Function<Object[], Object> method) {
+		return stub(type, Collections.singletonMap(methodName, method));
+	}
+
+	/**
+	 * A repository answering the named methods, and failing on any other call.
+	 */
+	private static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+			Function<Object[], Object> stubbedMethod = methods.get(method.getName());
+			if (stubbedMethod == null) {
+				throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+			}
+			return stubbedMethod.apply(args);
+		}));
+	}
+
+}
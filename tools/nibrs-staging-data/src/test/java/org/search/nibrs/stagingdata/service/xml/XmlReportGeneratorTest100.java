@@ -18,6 +18,7 @@ package org.search.nibrs.stagingdata.service.xml;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -77,7 +78,7 @@ public class XmlReportGeneratorTest100 {
 	    }
 	    FileUtils.cleanDirectory(directorty);
 		
-		List<Integer> ids = administrativeSegmentRepository.findIdsByOriAndIncidentDate(null, 2018, 1);
+		List<Integer> ids = administrativeSegmentRepository.findIdsByOriAndIncidentDate(null, LocalDate.of(2018, 1, 1), LocalDate.of(2018, 2, 1));
 		List<Integer> administrativeSegmentIds = ids.stream().limit(50).collect(Collectors.toList()); 
 		
 		for (Integer administrativeSegmentId : administrativeSegmentIds) {
@@ -101,7 +102,7 @@ public class XmlReportGeneratorTest100 {
 	@Test
 	public void createGroupBIncidentReport() throws Exception {
 		
-		List<Integer> ids = arrestReportSegmentRepository.findIdsByOriAndArrestDate(null, 2018, 1, null);
+		List<Integer> ids = arrestReportSegmentRepository.findIdsByOriAndArrestDate(null, LocalDate.of(2018, 1, 1), LocalDate.of(2018, 2, 1), null);
 		List<Integer> arrestReportSegmentIds = ids.stream().limit(50).collect(Collectors.toList()); 
 		
 		for (Integer arrestReportSegmentId : arrestReportSegmentIds) {
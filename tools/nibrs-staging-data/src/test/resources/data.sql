@@ -0,0 +1,2592 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * The code tables from NIBRSCodeTablesGeneral.xlsx, as SqlScriptFromExcelGenerator writes them, with the dates trimmed 
+ * to 2015 through 2019, the years the tests use.  The DateType ids are kept, since the tests check them. 
+ */
+insert into SegmentActionTypeType  values ('1', 'A', 'Add Arrest', 'A', 'Add Arrest');
+insert into SegmentActionTypeType  values ('2', 'D', 'Delete', 'D', 'Delete');
+insert into SegmentActionTypeType  values ('3', 'I', 'Incident Report', 'I', 'Incident Report');
+insert into SegmentActionTypeType  values ('4', 'R', 'Replace', 'R', 'Replace');
+insert into SegmentActionTypeType  values ('99999', '9', 'Unknown', '9', 'Unknown');
+insert into SegmentActionTypeType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into ClearedExceptionallyType  values ('1', 'A', 'Death of Offender', 'A', 'Death of Offender');
+insert into ClearedExceptionallyType  values ('2', 'B', 'Prosecution Declined', 'B', 'Prosecution Declined');
+insert into ClearedExceptionallyType  values ('3', 'C', 'In Custody of Other Jurisdiction', 'C', 'In Custody of Other Jurisdiction');
+insert into ClearedExceptionallyType  values ('4', 'D', 'Victim Refused to Cooperate', 'D', 'Victim Refused to Cooperate');
+insert into ClearedExceptionallyType  values ('5', 'E', 'Juvenile/No Custody', 'E', 'Juvenile/No Custody');
+insert into ClearedExceptionallyType  values ('6', 'N', 'Not Applicable', 'N', 'Not Applicable');
+insert into ClearedExceptionallyType  values ('99999', '9', 'Unknown', '9', 'Unknown');
+insert into ClearedExceptionallyType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into UCROffenseCodeType  values ('91', '09A', 'Murder and Nonnegligent Manslaughter', '09A', 'Murder and Nonnegligent Manslaughter', 'Group A', 'Violent Crime', 'Murder and Nonnegligent Manslaughter', 'Person');
+insert into UCROffenseCodeType  values ('92', '09B', 'Negligent Manslaughter', '09B', 'Negligent Manslaughter', 'Group A', 'Other', 'Negligent Manslaughter', 'Person');
+insert into UCROffenseCodeType  values ('93', '09C', 'Justifiable Homicide', '09C', 'Justifiable Homicide', 'Group A', 'Other', 'Justifiable Homicide', 'Not a Crime');
+insert into UCROffenseCodeType  values ('100', '100', 'Kidnapping/Abduction', '100', 'Kidnapping/Abduction', 'Group A', 'Other', 'Kidnapping/Abduction', 'Person');
+insert into UCROffenseCodeType  values ('120', '120', 'Robbery', '120', 'Robbery', 'Group A', 'Violent Crime', 'Robbery', 'Property');
+insert into UCROffenseCodeType  values ('131', '13A', 'Assault-Aggravated Assault', '13A', 'Assault-Aggravated Assault', 'Group A', 'Violent Crime', 'Assault Offenses', 'Person');
+insert into UCROffenseCodeType  values ('132', '13B', 'Assault-Simple Assault', '13B', 'Assault-Simple Assault', 'Group A', 'Other', 'Assault Offenses', 'Person');
+insert into UCROffenseCodeType  values ('133', '13C', 'Assault-Intimidation', '13C', 'Assault-Intimidation', 'Group A', 'Other', 'Assault Offenses', 'Person');
+insert into UCROffenseCodeType  values ('200', '200', 'Arson', '200', 'Arson', 'Group A', 'Property Crime', 'Arson', 'Property');
+insert into UCROffenseCodeType  values ('210', '210', 'Extortion/Blackmail', '210', 'Extortion/Blackmail', 'Group A', 'Other', 'Extortion/Blackmail', 'Property');
+insert into UCROffenseCodeType  values ('220', '220', 'Burglary/Breaking & Entering', '220', 'Burglary/Breaking & Entering', 'Group A', 'Property Crime', 'Burglary/Breaking & Entering', 'Property');
+insert into UCROffenseCodeType  values ('231', '23A', 'Larceny/Theft Offenses-Pocket-Picking', '23A', 'Larceny/Theft Offenses-Pocket-Picking', 'Group A', 'Property Crime', 'Larceny/Theft Offenses', 'Property');
+insert into UCROffenseCodeType  values ('232', '23B', 'Larceny/Theft Offenses-Purse-Snatching', '23B', 'Larceny/Theft Offenses-Purse-Snatching', 'Group A', 'Property Crime', 'Larceny/Theft Offenses', 'Property');
+insert into UCROffenseCodeType  values ('233', '23C', 'Larceny/Theft Offenses-Shoplifting', '23C', 'Larceny/Theft Offenses-Shoplifting', 'Group A', 'Property Crime', 'Larceny/Theft Offenses', 'Property');
+insert into UCROffenseCodeType  values ('234', '23D', 'Larceny/Theft Offenses-Theft from Building', '23D', 'Larceny/Theft Offenses-Theft from Building', 'Group A', 'Property Crime', 'Larceny/Theft Offenses', 'Property');
+insert into UCROffenseCodeType  values ('235', '23E', 'Larceny/Theft Offenses-From Coin-Operated Machine or Device', '23E', 'Larceny/Theft Offenses-From Coin-Operated Machine or Device', 'Group A', 'Property Crime', 'Larceny/Theft Offenses', 'Property');
+insert into UCROffenseCodeType  values ('236', '23F', 'Larceny/Theft Offenses-Theft from Motor Vehicle', '23F', 'Larceny/Theft Offenses-Theft from Motor Vehicle', 'Group A', 'Property Crime', 'Larceny/Theft Offenses', 'Property');
+insert into UCROffenseCodeType  values ('237', '23G', 'Larceny/Theft Offenses-Theft of Motor Vehicle Parts or Accessories', '23G', 'Larceny/Theft Offenses-Theft of Motor Vehicle Parts or Accessories', 'Group A', 'Property Crime', 'Larceny/Theft Offenses', 'Property');
+insert into UCROffenseCodeType  values ('238', '23H', 'Larceny/Theft Offenses-All Other Larceny', '23H', 'Larceny/Theft Offenses-All Other Larceny', 'Group A', 'Property Crime', 'Larceny/Theft Offenses', 'Property');
+insert into UCROffenseCodeType  values ('240', '240', 'Motor Vehicle Theft', '240', 'Motor Vehicle Theft', 'Group A', 'Property Crime', 'Motor Vehicle Theft', 'Property');
+insert into UCROffenseCodeType  values ('250', '250', 'Counterfeiting/Forgery', '250', 'Counterfeiting/Forgery', 'Group A', 'Other', 'Counterfeiting/Forgery', 'Property');
+insert into UCROffenseCodeType  values ('261', '26A', 'Fraud Offenses-False Pretenses/Swindle/Confidence Game', '26A', 'Fraud Offenses-False Pretenses/Swindle/Confidence Game', 'Group A', 'Other', 'Fraud Offenses', 'Property');
+insert into UCROffenseCodeType  values ('262', '26B', 'Fraud Offenses-Credit Card/Automatic Teller Machine Fraud', '26B', 'Fraud Offenses-Credit Card/Automatic Teller Machine Fraud', 'Group A', 'Other', 'Fraud Offenses', 'Property');
+insert into UCROffenseCodeType  values ('263', '26C', 'Fraud Offenses-Impersonation', '26C', 'Fraud Offenses-Impersonation', 'Group A', 'Other', 'Fraud Offenses', 'Property');
+insert into UCROffenseCodeType  values ('264', '26D', 'Fraud Offenses-Welfare Fraud', '26D', 'Fraud Offenses-Welfare Fraud', 'Group A', 'Other', 'Fraud Offenses', 'Property');
+insert into UCROffenseCodeType  values ('265', '26E', 'Fraud Offenses-Wire Fraud', '26E', 'Fraud Offenses-Wire Fraud', 'Group A', 'Other', 'Fraud Offenses', 'Property');
+insert into UCROffenseCodeType  values ('266', '26F', 'Fraud Offenses-Identity Theft', '26F', 'Fraud Offenses-Identity Theft', 'Group A', 'Other', 'Fraud Offenses', 'Property');
+insert into UCROffenseCodeType  values ('267', '26G', 'Fraud Offenses-Hacking/Computer Invasion', '26G', 'Fraud Offenses-Hacking/Computer Invasion', 'Group A', 'Other', 'Fraud Offenses', 'Property');
+insert into UCROffenseCodeType  values ('270', '270', 'Embezzlement', '270', 'Embezzlement', 'Group A', 'Other', 'Embezzlement', 'Property');
+insert into UCROffenseCodeType  values ('290', '290', 'Destruction/Damage/Vandalism of Property', '290', 'Destruction/Damage/Vandalism of Property', 'Group A', 'Other', 'Destruction/Damage/Vandalism of Property', 'Property');
+insert into UCROffenseCodeType  values ('351', '35A', 'Drug/Narcotic Offenses-Drug/Narcotic Violations', '35A', 'Drug/Narcotic Offenses-Drug/Narcotic Violations', 'Group A', 'Drug-Related Crime', 'Drug/Narcotic Offenses', 'Society');
+insert into UCROffenseCodeType  values ('352', '35B', 'Drug/Narcotic Offenses-Drug Equipment Violations', '35B', 'Drug/Narcotic Offenses-Drug Equipment Violations', 'Group A', 'Drug-Related Crime', 'Drug/Narcotic Offenses', 'Society');
+insert into UCROffenseCodeType  values ('370', '370', 'Pornography/Obscene Material', '370', 'Pornography/Obscene Material', 'Group A', 'Other', 'Pornography/Obscene Material', 'Society');
+insert into UCROffenseCodeType  values ('391', '39A', 'Gambling Offenses-Betting/Wagering', '39A', 'Gambling Offenses-Betting/Wagering', 'Group A', 'Other', 'Gambling Offenses', 'Society');
+insert into UCROffenseCodeType  values ('392', '39B', 'Gambling Offenses-Operating/Promoting/Assisting Gambling', '39B', 'Gambling Offenses-Operating/Promoting/Assisting Gambling', 'Group A', 'Other', 'Gambling Offenses', 'Society');
+insert into UCROffenseCodeType  values ('393', '39C', 'Gambling Offenses-Gambling Equipment Violations', '39C', 'Gambling Offenses-Gambling Equipment Violations', 'Group A', 'Other', 'Gambling Offenses', 'Society');
+insert into UCROffenseCodeType  values ('394', '39D', 'Gambling Offenses-Sports Tampering', '39D', 'Gambling Offenses-Sports Tampering', 'Group A', 'Other', 'Gambling Offenses', 'Society');
+insert into UCROffenseCodeType  values ('401', '40A', 'Prostitution Offenses-Prostitution', '40A', 'Prostitution Offenses-Prostitution', 'Group A', 'Other', 'Prostitution Offenses', 'Society');
+insert into UCROffenseCodeType  values ('402', '40B', 'Prostitution Offenses-Assisting or Promoting Prostitution', '40B', 'Prostitution Offenses-Assisting or Promoting Prostitution', 'Group A', 'Other', 'Prostitution Offenses', 'Society');
+insert into UCROffenseCodeType  values ('510', '510', 'Bribery', '510', 'Bribery', 'Group A', 'Other', 'Bribery', 'Property');
+insert into UCROffenseCodeType  values ('111', '11A', 'Sex Offenses, Rape', '11A', 'Sex Offenses, Rape', 'Group A', 'Violent Crime', 'Sex Offenses', 'Person');
+insert into UCROffenseCodeType  values ('112', '11B', 'Sex Offenses, Sodomy', '11B', 'Sex Offenses, Sodomy', 'Group A', 'Other', 'Sex Offenses', 'Person');
+insert into UCROffenseCodeType  values ('113', '11C', 'Sex Offenses, Sexual Assault with an Object', '11C', 'Sex Offenses, Sexual Assault with an Object', 'Group A', 'Other', 'Sex Offenses', 'Person');
+insert into UCROffenseCodeType  values ('114', '11D', 'Sex Offenses, Fondling', '11D', 'Sex Offenses, Fondling', 'Group A', 'Other', 'Sex Offenses', 'Person');
+insert into UCROffenseCodeType  values ('280', '280', 'Stolen Property Offenses', '280', 'Stolen Property Offenses', 'Group A', 'Other', 'Stolen Property Offenses', 'Property');
+insert into UCROffenseCodeType  values ('361', '36A', 'Sex Offenses, Incest', '36A', 'Sex Offenses, Incest', 'Group A', 'Other', 'Sex Offenses - Nonforcible', 'Person');
+insert into UCROffenseCodeType  values ('362', '36B', 'Sex Offenses, Statutory Rape', '36B', 'Sex Offenses, Statutory Rape', 'Group A', 'Other', 'Sex Offenses - Nonforcible', 'Person');
+insert into UCROffenseCodeType  values ('520', '520', 'Weapon Law Violations', '520', 'Weapon Law Violations', 'Group A', 'Other', 'Weapon Law Violations', 'Society');
+insert into UCROffenseCodeType  values ('901', '90A', 'Bad Checks', '90A', 'Bad Checks', 'Group B', 'Other', 'Group B Offenses (Property)', 'Property');
+insert into UCROffenseCodeType  values ('902', '90B', 'Curfew/Loitering/Vagrancy Violations', '90B', 'Curfew/Loitering/Vagrancy Violations', 'Group B', 'Other', 'Group B Offenses (Society)', 'Society');
+insert into UCROffenseCodeType  values ('903', '90C', 'Disorderly Conduct', '90C', 'Disorderly Conduct', 'Group B', 'Other', 'Group B Offenses (Society)', 'Society');
+insert into UCROffenseCodeType  values ('904', '90D', 'Driving Under the Influence', '90D', 'Driving Under the Influence', 'Group B', 'Other', 'Group B Offenses (Society)', 'Society');
+insert into UCROffenseCodeType  values ('905', '90E', 'Drunkenness', '90E', 'Drunkenness', 'Group B', 'Other', 'Group B Offenses (Society)', 'Society');
+insert into UCROffenseCodeType  values ('906', '90F', 'Family Offenses, Nonviolent', '90F', 'Family Offenses, Nonviolent', 'Group B', 'Other', 'Group B Offenses (Society)', 'Society');
+insert into UCROffenseCodeType  values ('907', '90G', 'Liquor Law Violations', '90G', 'Liquor Law Violations', 'Group B', 'Other', 'Group B Offenses (Society)', 'Society');
+insert into UCROffenseCodeType  values ('908', '90H', 'Peeping Tom', '90H', 'Peeping Tom', 'Group B', 'Other', 'Group B Offenses (Society)', 'Society');
+insert into UCROffenseCodeType  values ('909', '90I', 'Runaway', '90I', 'Runaway', 'Group B', 'Other', 'Group B Offenses (Society)', 'Society');
+insert into UCROffenseCodeType  values ('910', '90J', 'Trespass of Real Property', '90J', 'Trespass of Real Property', 'Group B', 'Other', 'Group B Offenses (Society)', 'Society');
+insert into UCROffenseCodeType  values ('990', '90Z', 'All Other Offenses', '90Z', 'All Other Offenses', 'Group B', 'Other', 'Group B Offenses (Other)', 'Other');
+insert into UCROffenseCodeType  values ('701', '720', 'Animal Cruelty', '720', 'Animal Cruelty', 'Group A', 'Other', 'Animal Cruelty', 'Society');
+insert into UCROffenseCodeType  values ('403', '40C', 'Purchasing Prostitution', '40C', 'Purchasing Prostitution', 'Group A', 'Other', 'Prostitution Offenses', 'Society');
+insert into UCROffenseCodeType  values ('641', '64A', 'Human Trafficking, Commercial Sex Acts', '64A', 'Human Trafficking, Commercial Sex Acts', 'Group A', 'Other', 'Human Trafficking Offenses', 'Person');
+insert into UCROffenseCodeType  values ('642', '64B', 'Human Trafficking, Involuntary Servitude', '64B', 'Human Trafficking, Involuntary Servitude', 'Group A', 'Other', 'Human Trafficking Offenses', 'Person');
+insert into UCROffenseCodeType  values ('99999', '999', 'Unknown', '999', 'Unknown', 'Unknown', 'Unknown', 'Unknown', 'Unknown');
+insert into UCROffenseCodeType  values ('99998', ' ', 'Blank', ' ', 'Blank', 'Blank', 'Blank', 'Blank', 'Blank');
+insert into OffenderSuspectedOfUsingType  values ('1', 'A', 'Alcohol', 'A', 'Alcohol');
+insert into OffenderSuspectedOfUsingType  values ('2', 'C', 'Computer Equipment (Handheld Devices)', 'C', 'Computer Equipment (Handheld Devices)');
+insert into OffenderSuspectedOfUsingType  values ('3', 'D', 'Drugs/Narcotics', 'D', 'Drugs/Narcotics');
+insert into OffenderSuspectedOfUsingType  values ('4', 'N', 'Not Applicable', 'N', 'Not Applicable');
+insert into OffenderSuspectedOfUsingType  values ('99999', '9', 'Unknown', '9', 'Unknown');
+insert into OffenderSuspectedOfUsingType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into LocationTypeType  values ('1', '01', 'Air/Bus/Train Terminal', '01', 'Air/Bus/Train Terminal');
+insert into LocationTypeType  values ('2', '02', 'Bank/Savings and Loan', '02', 'Bank/Savings and Loan');
+insert into LocationTypeType  values ('3', '03', 'Bar/Nightclub', '03', 'Bar/Nightclub');
+insert into LocationTypeType  values ('4', '04', 'Church/Synagogue/Temple/Mosque', '04', 'Church/Synagogue/Temple/Mosque');
+insert into LocationTypeType  values ('5', '05', 'Commercial/Office Building', '05', 'Commercial/Office Building');
+insert into LocationTypeType  values ('6', '06', 'Construction Site', '06', 'Construction Site');
+insert into LocationTypeType  values ('7', '07', 'Convenience Store', '07', 'Convenience Store');
+insert into LocationTypeType  values ('8', '08', 'Department/Discount Store', '08', 'Department/Discount Store');
+insert into LocationTypeType  values ('9', '09', 'Drug Store/Doctor’s Office/Hospital', '09', 'Drug Store/Doctor’s Office/Hospital');
+insert into LocationTypeType  values ('10', '10', 'Field/Woods', '10', 'Field/Woods');
+insert into LocationTypeType  values ('11', '11', 'Government/Public Building', '11', 'Government/Public Building');
+insert into LocationTypeType  values ('12', '12', 'Grocery/Supermarket', '12', 'Grocery/Supermarket');
+insert into LocationTypeType  values ('13', '13', 'Highway/Road/Alley/Street/Sidewalk', '13', 'Highway/Road/Alley/Street/Sidewalk');
+insert into LocationTypeType  values ('14', '14', 'Hotel/Motel/Etc.', '14', 'Hotel/Motel/Etc.');
+insert into LocationTypeType  values ('15', '15', 'Jail/Prison/Penitentiary/Corrections Facility', '15', 'Jail/Prison/Penitentiary/Corrections Facility');
+insert into LocationTypeType  values ('16', '16', 'Lake/Waterway/Beach', '16', 'Lake/Waterway/Beach');
+insert into LocationTypeType  values ('17', '17', 'Liquor Store', '17', 'Liquor Store');
+insert into LocationTypeType  values ('18', '18', 'Parking/Drop Lot/Garage', '18', 'Parking/Drop Lot/Garage');
+insert into LocationTypeType  values ('19', '19', 'Rental Storage Facility', '19', 'Rental Storage Facility');
+insert into LocationTypeType  values ('20', '20', 'Residence/Home', '20', 'Residence/Home');
+insert into LocationTypeType  values ('21', '21', 'Restaurant', '21', 'Restaurant');
+insert into LocationTypeType  values ('22', '22', 'School/College', '22', 'School/College');
+insert into LocationTypeType  values ('23', '23', 'Service/Gas Station', '23', 'Service/Gas Station');
+insert into LocationTypeType  values ('24', '24', 'Specialty Store', '24', 'Specialty Store');
+insert into LocationTypeType  values ('25', '25', 'Other/Unknown', '25', 'Other/Unknown');
+insert into LocationTypeType  values ('37', '37', 'Abandoned/Condemned Structure', '37', 'Abandoned/Condemned Structure');
+insert into LocationTypeType  values ('38', '38', 'Amusement Park', '38', 'Amusement Park');
+insert into LocationTypeType  values ('39', '39', 'Arena/Stadium/Fairgrounds/Coliseum', '39', 'Arena/Stadium/Fairgrounds/Coliseum');
+insert into LocationTypeType  values ('40', '40', 'ATM Separate from Bank', '40', 'ATM Separate from Bank');
+insert into LocationTypeType  values ('41', '41', 'Auto Dealership New/Used', '41', 'Auto Dealership New/Used');
+insert into LocationTypeType  values ('42', '42', 'Camp/Campground', '42', 'Camp/Campground');
+insert into LocationTypeType  values ('44', '44', 'Daycare Facility', '44', 'Daycare Facility');
+insert into LocationTypeType  values ('45', '45', 'Dock/Wharf/Freight/Modal Terminal', '45', 'Dock/Wharf/Freight/Modal Terminal');
+insert into LocationTypeType  values ('46', '46', 'Farm Facility', '46', 'Farm Facility');
+insert into LocationTypeType  values ('47', '47', 'Gambling Facility/Casino/Race Track', '47', 'Gambling Facility/Casino/Race Track');
+insert into LocationTypeType  values ('48', '48', 'Industrial Site', '48', 'Industrial Site');
+insert into LocationTypeType  values ('49', '49', 'Military Installation', '49', 'Military Installation');
+insert into LocationTypeType  values ('50', '50', 'Park/Playground', '50', 'Park/Playground');
+insert into LocationTypeType  values ('51', '51', 'Rest Area', '51', 'Rest Area');
+insert into LocationTypeType  values ('52', '52', 'School – College/University', '52', 'School – College/University');
+insert into LocationTypeType  values ('53', '53', 'School – Elementary/Secondary', '53', 'School – Elementary/Secondary');
+insert into LocationTypeType  values ('54', '54', 'Shelter – Mission/Homeless', '54', 'Shelter – Mission/Homeless');
+insert into LocationTypeType  values ('55', '55', 'Shopping Mall', '55', 'Shopping Mall');
+insert into LocationTypeType  values ('56', '56', 'Tribal Lands', '56', 'Tribal Lands');
+insert into LocationTypeType  values ('57', '57', 'Community Center', '57', 'Community Center');
+insert into LocationTypeType  values ('58', '58', 'Cyberspace', '58', 'Cyberspace');
+insert into LocationTypeType  values ('99999', '99', 'Unknown', '99', 'Unknown');
+insert into LocationTypeType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into MethodOfEntryType  values ('2', 'F', 'Force', 'F', 'Force');
+insert into MethodOfEntryType  values ('1', 'N', 'No Force', 'N', 'No Force');
+insert into MethodOfEntryType  values ('99999', '9', 'Unknown', '9', 'Unknown');
+insert into MethodOfEntryType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into TypeOfCriminalActivityType  values ('1', 'A', 'Simple/Gross Neglect', 'A', 'Simple/Gross Neglect');
+insert into TypeOfCriminalActivityType  values ('2', 'B', 'Buying/Receiving', 'B', 'Buying/Receiving');
+insert into TypeOfCriminalActivityType  values ('3', 'C', 'Cultivating/Manufacturing/Publishing', 'C', 'Cultivating/Manufacturing/Publishing');
+insert into TypeOfCriminalActivityType  values ('4', 'D', 'Distributing/Selling', 'D', 'Distributing/Selling');
+insert into TypeOfCriminalActivityType  values ('5', 'E', 'Exploiting Children', 'E', 'Exploiting Children');
+insert into TypeOfCriminalActivityType  values ('6', 'F', 'Organized Abuse', 'F', 'Organized Abuse');
+insert into TypeOfCriminalActivityType  values ('7', 'G', 'Other Gang', 'G', 'Other Gang');
+insert into TypeOfCriminalActivityType  values ('8', 'I', 'Intentional Abuse and Torture', 'I', 'Intentional Abuse and Torture');
+insert into TypeOfCriminalActivityType  values ('9', 'J', 'Juvenile Gang', 'J', 'Juvenile Gang');
+insert into TypeOfCriminalActivityType  values ('10', 'N', 'None/Unknown Gang Involvement', 'N', 'None/Unknown Gang Involvement');
+insert into TypeOfCriminalActivityType  values ('11', 'O', 'Operating/Promoting/Assisting', 'O', 'Operating/Promoting/Assisting');
+insert into TypeOfCriminalActivityType  values ('12', 'P', 'Possessing/Concealing', 'P', 'Possessing/Concealing');
+insert into TypeOfCriminalActivityType  values ('13', 'S', 'Animal Sexual Abuse (Bestiality)', 'S', 'Animal Sexual Abuse (Bestiality)');
+insert into TypeOfCriminalActivityType  values ('14', 'T', 'Transporting/Transmitting/Importing', 'T', 'Transporting/Transmitting/Importing');
+insert into TypeOfCriminalActivityType  values ('15', 'U', 'Using/Consuming', 'U', 'Using/Consuming');
+insert into TypeOfCriminalActivityType  values ('99999', '9', 'Unknown', '9', 'Unknown');
+insert into TypeOfCriminalActivityType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into TypeOfWeaponForceInvolvedType  values ('110', '11', 'Unknown Firearm', '11', 'Unknown Firearm', 'Firearm');
+insert into TypeOfWeaponForceInvolvedType  values ('120', '12', 'Handgun', '12', 'Handgun', 'Firearm');
+insert into TypeOfWeaponForceInvolvedType  values ('130', '13', 'Rifle', '13', 'Rifle', 'Firearm');
+insert into TypeOfWeaponForceInvolvedType  values ('140', '14', 'Shotgun', '14', 'Shotgun', 'Firearm');
+insert into TypeOfWeaponForceInvolvedType  values ('150', '15', 'Other Firearm', '15', 'Other Firearm', 'Firearm');
+insert into TypeOfWeaponForceInvolvedType  values ('200', '20', 'Knife/Cutting Instrument', '20', 'Knife/Cutting Instrument', 'Knife/Cutting Instrument');
+insert into TypeOfWeaponForceInvolvedType  values ('300', '30', 'Blunt Object', '30', 'Blunt Object', 'Blunt Object');
+insert into TypeOfWeaponForceInvolvedType  values ('350', '35', 'Motor Vehicle/Vessel', '35', 'Motor Vehicle/Vessel', 'Motor Vehicle/Vessel');
+insert into TypeOfWeaponForceInvolvedType  values ('400', '40', 'Personal Weapons', '40', 'Personal Weapons', 'Personal Weapons');
+insert into TypeOfWeaponForceInvolvedType  values ('500', '50', 'Poison', '50', 'Poison', 'Poison');
+insert into TypeOfWeaponForceInvolvedType  values ('600', '60', 'Explosives', '60', 'Explosives', 'Explosives');
+insert into TypeOfWeaponForceInvolvedType  values ('650', '65', 'Fire/Incendiary Device', '65', 'Fire/Incendiary Device', 'Fire/Incendiary Device');
+insert into TypeOfWeaponForceInvolvedType  values ('700', '70', 'Drugs/Narcotics/Sleeping Pills', '70', 'Drugs/Narcotics/Sleeping Pills', 'Drugs/Narcotics/Sleeping Pills');
+insert into TypeOfWeaponForceInvolvedType  values ('850', '85', 'Asphyxiation', '85', 'Asphyxiation', 'Asphyxiation');
+insert into TypeOfWeaponForceInvolvedType  values ('900', '90', 'Other', '90', 'Other', 'Other');
+insert into TypeOfWeaponForceInvolvedType  values ('999', '99', 'None', '99', 'None', 'None');
+insert into TypeOfWeaponForceInvolvedType  values ('99999', '95', 'Unknown', '95', 'Unknown', 'Unknown');
+insert into TypeOfWeaponForceInvolvedType  values ('99998', ' ', 'Blank', ' ', 'Blank', 'Blank');
+insert into BiasMotivationType  values ('11', '11', 'Anti-White', '11', 'Anti-White', 'Race/Ethnicity/Ancestry');
+insert into BiasMotivationType  values ('12', '12', 'Anti-Black or African American', '12', 'Anti-Black or African American', 'Race/Ethnicity/Ancestry');
+insert into BiasMotivationType  values ('13', '13', 'Anti-American Indian or Alaska Native', '13', 'Anti-American Indian or Alaska Native', 'Race/Ethnicity/Ancestry');
+insert into BiasMotivationType  values ('14', '14', 'Anti-Asian', '14', 'Anti-Asian', 'Race/Ethnicity/Ancestry');
+insert into BiasMotivationType  values ('15', '15', 'Anti-Multiple Races, Group', '15', 'Anti-Multiple Races, Group', 'Race/Ethnicity/Ancestry');
+insert into BiasMotivationType  values ('16', '16', 'Anti-Native Hawaiian or Other Pacific Islander', '16', 'Anti-Native Hawaiian or Other Pacific Islander', 'Race/Ethnicity/Ancestry');
+insert into BiasMotivationType  values ('21', '21', 'Anti-Jewish', '21', 'Anti-Jewish', 'Religion');
+insert into BiasMotivationType  values ('22', '22', 'Anti-Catholic', '22', 'Anti-Catholic', 'Religion');
+insert into BiasMotivationType  values ('23', '23', 'Anti-Protestant', '23', 'Anti-Protestant', 'Religion');
+insert into BiasMotivationType  values ('24', '24', 'Anti-Islamic (Muslim)', '24', 'Anti-Islamic (Muslim)', 'Religion');
+insert into BiasMotivationType  values ('25', '25', 'Anti-Other Religion', '25', 'Anti-Other Religion', 'Religion');
+insert into BiasMotivationType  values ('26', '26', 'Anti-Multiple Religions, Group', '26', 'Anti-Multiple Religions, Group', 'Religion');
+insert into BiasMotivationType  values ('27', '27', 'Anti-Atheism/Agnosticism', '27', 'Anti-Atheism/Agnosticism', 'Religion');
+insert into BiasMotivationType  values ('28', '28', 'Anti-Mormon', '28', 'Anti-Mormon', 'Religion');
+insert into BiasMotivationType  values ('29', '29', 'Anti-Jehovah’s Witness', '29', 'Anti-Jehovah’s Witness', 'Religion');
+insert into BiasMotivationType  values ('31', '31', 'Anti-Arab', '31', 'Anti-Arab', 'Race/Ethnicity/Ancestry');
+insert into BiasMotivationType  values ('32', '32', 'Anti-Hispanic or Latino', '32', 'Anti-Hispanic or Latino', 'Race/Ethnicity/Ancestry');
+insert into BiasMotivationType  values ('33', '33', 'Anti-Other Race/Ethnicity/Ancestry', '33', 'Anti-Other Race/Ethnicity/Ancestry', 'Race/Ethnicity/Ancestry');
+insert into BiasMotivationType  values ('41', '41', 'Anti-Gay', '41', 'Anti-Gay', 'Sexual Orientation');
+insert into BiasMotivationType  values ('42', '42', 'Anti-Lesbian', '42', 'Anti-Lesbian', 'Sexual Orientation');
+insert into BiasMotivationType  values ('43', '43', 'Anti-Lesbian, Gay, Bisexual, or Transgender (Mixed Group)', '43', 'Anti-Lesbian, Gay, Bisexual, or Transgender (Mixed Group)', 'Sexual Orientation');
+insert into BiasMotivationType  values ('44', '44', 'Anti-Heterosexual', '44', 'Anti-Heterosexual', 'Sexual Orientation');
+insert into BiasMotivationType  values ('45', '45', 'Anti-Bisexual', '45', 'Anti-Bisexual', 'Sexual Orientation');
+insert into BiasMotivationType  values ('51', '51', 'Anti-Physical Disability', '51', 'Anti-Physical Disability', 'Disability');
+insert into BiasMotivationType  values ('52', '52', 'Anti-Mental Disability', '52', 'Anti-Mental Disability', 'Disability');
+insert into BiasMotivationType  values ('61', '61', 'Anti-Male', '61', 'Anti-Male', 'Gender');
+insert into BiasMotivationType  values ('62', '62', 'Anti-Female', '62', 'Anti-Female', 'Gender');
+insert into BiasMotivationType  values ('71', '71', 'Anti-Transgender', '71', 'Anti-Transgender', 'Gender Identity');
+insert into BiasMotivationType  values ('72', '72', 'Anti-Gender Non-Conforming', '72', 'Anti-Gender Non-Conforming', 'Gender Identity');
+insert into BiasMotivationType  values ('81', '81', 'Anti-Eastern Orthodox ', '81', 'Anti-Eastern Orthodox ', 'Religion');
+insert into BiasMotivationType  values ('82', '82', 'Anti-Other Christian', '82', 'Anti-Other Christian', 'Religion');
+insert into BiasMotivationType  values ('83', '83', 'Anti-Buddhist', '83', 'Anti-Buddhist', 'Religion');
+insert into BiasMotivationType  values ('84', '84', 'Anti-Hindu', '84', 'Anti-Hindu', 'Religion');
+insert into BiasMotivationType  values ('85', '85', 'Anti-Sikh ', '85', 'Anti-Sikh ', 'Religion');
+insert into BiasMotivationType  values ('88', '88', 'None (no bias)', '88', 'None (no bias)', 'None');
+insert into BiasMotivationType  values ('99999', '99', 'Unknown (offender’s motivation not known)', '99', 'Unknown (offender’s motivation not known)', 'Unknown');
+insert into BiasMotivationType  values ('99998', ' ', 'Blank', ' ', 'Blank', 'Blank');
+insert into TypePropertyLossEtcType  values ('1', '1', 'None', '1', 'None');
+insert into TypePropertyLossEtcType  values ('2', '2', 'Burned', '2', 'Burned');
+insert into TypePropertyLossEtcType  values ('3', '3', 'Counterfeited/Forged', '3', 'Counterfeited/Forged');
+insert into TypePropertyLossEtcType  values ('4', '4', 'Destroyed/Damaged/Vandalized', '4', 'Destroyed/Damaged/Vandalized');
+insert into TypePropertyLossEtcType  values ('5', '5', 'Recovered', '5', 'Recovered');
+insert into TypePropertyLossEtcType  values ('6', '6', 'Seized', '6', 'Seized');
+insert into TypePropertyLossEtcType  values ('7', '7', 'Stolen/Etc.', '7', 'Stolen/Etc.');
+insert into TypePropertyLossEtcType  values ('99999', '8', 'Unknown', '8', 'Unknown');
+insert into TypePropertyLossEtcType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into PropertyDescriptionType  values ('1', '01', 'Aircraft', '01', 'Aircraft');
+insert into PropertyDescriptionType  values ('2', '02', 'Alcohol', '02', 'Alcohol');
+insert into PropertyDescriptionType  values ('3', '03', 'Automobiles', '03', 'Automobiles');
+insert into PropertyDescriptionType  values ('4', '04', 'Bicycles', '04', 'Bicycles');
+insert into PropertyDescriptionType  values ('5', '05', 'Buses', '05', 'Buses');
+insert into PropertyDescriptionType  values ('6', '06', 'Clothes/Furs', '06', 'Clothes/Furs');
+insert into PropertyDescriptionType  values ('7', '07', 'Computer Hardware/software', '07', 'Computer Hardware/software');
+insert into PropertyDescriptionType  values ('8', '08', 'Consumable Goods', '08', 'Consumable Goods');
+insert into PropertyDescriptionType  values ('9', '09', 'Credit/Debit Cards', '09', 'Credit/Debit Cards');
+insert into PropertyDescriptionType  values ('10', '10', 'Drugs/Narcotics', '10', 'Drugs/Narcotics');
+insert into PropertyDescriptionType  values ('11', '11', 'Drug/Narcotic Equip.', '11', 'Drug/Narcotic Equip.');
+insert into PropertyDescriptionType  values ('12', '12', 'Farm Equipment', '12', 'Farm Equipment');
+insert into PropertyDescriptionType  values ('13', '13', 'Firearms', '13', 'Firearms');
+insert into PropertyDescriptionType  values ('14', '14', 'Gambling Equipment', '14', 'Gambling Equipment');
+insert into PropertyDescriptionType  values ('15', '15', 'Heavy Construction/Industrial Equipment', '15', 'Heavy Construction/Industrial Equipment');
+insert into PropertyDescriptionType  values ('16', '16', 'Household Goods', '16', 'Household Goods');
+insert into PropertyDescriptionType  values ('17', '17', 'Jewelry/Precious Metals/Gems', '17', 'Jewelry/Precious Metals/Gems');
+insert into PropertyDescriptionType  values ('18', '18', 'Livestock', '18', 'Livestock');
+insert into PropertyDescriptionType  values ('19', '19', 'Merchandise', '19', 'Merchandise');
+insert into PropertyDescriptionType  values ('20', '20', 'Money', '20', 'Money');
+insert into PropertyDescriptionType  values ('21', '21', 'Negotiable Instruments', '21', 'Negotiable Instruments');
+insert into PropertyDescriptionType  values ('22', '22', 'Nonnegotiable Instruments', '22', 'Nonnegotiable Instruments');
+insert into PropertyDescriptionType  values ('23', '23', 'Office-Type Equipment', '23', 'Office-Type Equipment');
+insert into PropertyDescriptionType  values ('24', '24', 'Other Motor Vehicles', '24', 'Other Motor Vehicles');
+insert into PropertyDescriptionType  values ('25', '25', 'Purses/Handbags/Wallets', '25', 'Purses/Handbags/Wallets');
+insert into PropertyDescriptionType  values ('26', '26', 'Radios/TVs/VCRs/DVD players', '26', 'Radios/TVs/VCRs/DVD players');
+insert into PropertyDescriptionType  values ('27', '27', 'Recordings-Audio/Visual', '27', 'Recordings-Audio/Visual');
+insert into PropertyDescriptionType  values ('28', '28', 'Recreational Vehicles', '28', 'Recreational Vehicles');
+insert into PropertyDescriptionType  values ('29', '29', 'Structures-Single Occupancy Dwellings', '29', 'Structures-Single Occupancy Dwellings');
+insert into PropertyDescriptionType  values ('30', '30', 'Structures-Other Dwellings', '30', 'Structures-Other Dwellings');
+insert into PropertyDescriptionType  values ('31', '31', 'Structures - Commercial/Business', '31', 'Structures - Commercial/Business');
+insert into PropertyDescriptionType  values ('32', '32', 'Structures - Industrial/Manufacturing', '32', 'Structures - Industrial/Manufacturing');
+insert into PropertyDescriptionType  values ('33', '33', 'Structures Public/Community', '33', 'Structures Public/Community');
+insert into PropertyDescriptionType  values ('34', '34', 'Structures-Storage', '34', 'Structures-Storage');
+insert into PropertyDescriptionType  values ('35', '35', 'Structures-Other', '35', 'Structures-Other');
+insert into PropertyDescriptionType  values ('36', '36', 'Tools-Power/Hand', '36', 'Tools-Power/Hand');
+insert into PropertyDescriptionType  values ('37', '37', 'Trucks', '37', 'Trucks');
+insert into PropertyDescriptionType  values ('38', '38', 'Vehicle Parts/Accessories', '38', 'Vehicle Parts/Accessories');
+insert into PropertyDescriptionType  values ('39', '39', 'Watercraft', '39', 'Watercraft');
+insert into PropertyDescriptionType  values ('41', '41', 'Aircraft parts/accessories', '41', 'Aircraft parts/accessories');
+insert into PropertyDescriptionType  values ('42', '42', 'Artistic supplies/accessories', '42', 'Artistic supplies/accessories');
+insert into PropertyDescriptionType  values ('43', '43', 'Building materials', '43', 'Building materials');
+insert into PropertyDescriptionType  values ('44', '44', 'Camping/hunting/fishing equipment/supplies', '44', 'Camping/hunting/fishing equipment/supplies');
+insert into PropertyDescriptionType  values ('45', '45', 'Chemicals', '45', 'Chemicals');
+insert into PropertyDescriptionType  values ('46', '46', 'Collections/collectibles', '46', 'Collections/collectibles');
+insert into PropertyDescriptionType  values ('47', '47', 'Crops', '47', 'Crops');
+insert into PropertyDescriptionType  values ('48', '48', 'Documents/personal or business', '48', 'Documents/personal or business');
+insert into PropertyDescriptionType  values ('49', '49', 'Explosives', '49', 'Explosives');
+insert into PropertyDescriptionType  values ('59', '59', 'Firearm accessories', '59', 'Firearm accessories');
+insert into PropertyDescriptionType  values ('64', '64', 'Fuel', '64', 'Fuel');
+insert into PropertyDescriptionType  values ('65', '65', 'Identity documents', '65', 'Identity documents');
+insert into PropertyDescriptionType  values ('66', '66', 'Identity--intangible', '66', 'Identity--intangible');
+insert into PropertyDescriptionType  values ('67', '67', 'Law enforcement equipment', '67', 'Law enforcement equipment');
+insert into PropertyDescriptionType  values ('68', '68', 'Lawn/yard/garden equipment', '68', 'Lawn/yard/garden equipment');
+insert into PropertyDescriptionType  values ('69', '69', 'Logging equipment', '69', 'Logging equipment');
+insert into PropertyDescriptionType  values ('70', '70', 'Medical/medical lab equipment', '70', 'Medical/medical lab equipment');
+insert into PropertyDescriptionType  values ('71', '71', 'Metals, non-precious', '71', 'Metals, non-precious');
+insert into PropertyDescriptionType  values ('72', '72', 'Musical instruments', '72', 'Musical instruments');
+insert into PropertyDescriptionType  values ('73', '73', 'Pets', '73', 'Pets');
+insert into PropertyDescriptionType  values ('74', '74', 'Photographic/optical equipment', '74', 'Photographic/optical equipment');
+insert into PropertyDescriptionType  values ('75', '75', 'Portable electronic communications', '75', 'Portable electronic communications');
+insert into PropertyDescriptionType  values ('76', '76', 'Recreational/sports equipment', '76', 'Recreational/sports equipment');
+insert into PropertyDescriptionType  values ('77', '77', 'Other', '77', 'Other');
+insert into PropertyDescriptionType  values ('78', '78', 'Trailers', '78', 'Trailers');
+insert into PropertyDescriptionType  values ('79', '79', 'Watercraft equipment/parts/accessories', '79', 'Watercraft equipment/parts/accessories');
+insert into PropertyDescriptionType  values ('80', '80', 'Weapons--other', '80', 'Weapons--other');
+insert into PropertyDescriptionType  values ('88', '88', 'Pending Inventory (of Property)', '88', 'Pending Inventory (of Property)');
+insert into PropertyDescriptionType  values ('99999', '99', 'Unknown', '99', 'Unknown');
+insert into PropertyDescriptionType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into SuspectedDrugTypeType  values ('1', 'A', 'Crack Cocaine', 'A', 'Crack Cocaine');
+insert into SuspectedDrugTypeType  values ('2', 'B', 'Cocaine (all forms except Crack)', 'B', 'Cocaine (all forms except Crack)');
+insert into SuspectedDrugTypeType  values ('3', 'C', 'Hashish', 'C', 'Hashish');
+insert into SuspectedDrugTypeType  values ('4', 'D', 'Heroin', 'D', 'Heroin');
+insert into SuspectedDrugTypeType  values ('5', 'E', 'Marijuana', 'E', 'Marijuana');
+insert into SuspectedDrugTypeType  values ('6', 'F', 'Morphine', 'F', 'Morphine');
+insert into SuspectedDrugTypeType  values ('7', 'G', 'Opium', 'G', 'Opium');
+insert into SuspectedDrugTypeType  values ('8', 'H', 'Other Narcotics', 'H', 'Other Narcotics');
+insert into SuspectedDrugTypeType  values ('9', 'I', 'LSD', 'I', 'LSD');
+insert into SuspectedDrugTypeType  values ('10', 'J', 'PCP', 'J', 'PCP');
+insert into SuspectedDrugTypeType  values ('11', 'K', 'Other Hallucinogens', 'K', 'Other Hallucinogens');
+insert into SuspectedDrugTypeType  values ('12', 'L', 'Amphetamines/Methamphetamines', 'L', 'Amphetamines/Methamphetamines');
+insert into SuspectedDrugTypeType  values ('13', 'M', 'Other Stimulants', 'M', 'Other Stimulants');
+insert into SuspectedDrugTypeType  values ('14', 'N', 'Barbiturates', 'N', 'Barbiturates');
+insert into SuspectedDrugTypeType  values ('15', 'O', 'Other Depressants', 'O', 'Other Depressants');
+insert into SuspectedDrugTypeType  values ('16', 'P', 'Other Drugs', 'P', 'Other Drugs');
+insert into SuspectedDrugTypeType  values ('99999', 'U', 'Unknown', 'U', 'Unknown');
+insert into SuspectedDrugTypeType  values ('93', 'X', 'Over 3 Drug Types', 'X', 'Over 3 Drug Types');
+insert into SuspectedDrugTypeType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into TypeDrugMeasurementType  values ('9', 'DU', 'Dosage Units/Items', 'DU', 'Dosage Units/Items');
+insert into TypeDrugMeasurementType  values ('7', 'FO', 'Fluid Ounce', 'FO', 'Fluid Ounce');
+insert into TypeDrugMeasurementType  values ('8', 'GL', 'Gallon', 'GL', 'Gallon');
+insert into TypeDrugMeasurementType  values ('1', 'GM', 'Gram', 'GM', 'Gram');
+insert into TypeDrugMeasurementType  values ('2', 'KG', 'Kilogram', 'KG', 'Kilogram');
+insert into TypeDrugMeasurementType  values ('4', 'LB', 'Pound', 'LB', 'Pound');
+insert into TypeDrugMeasurementType  values ('6', 'LT', 'Liter', 'LT', 'Liter');
+insert into TypeDrugMeasurementType  values ('5', 'ML', 'Milliliter', 'ML', 'Milliliter');
+insert into TypeDrugMeasurementType  values ('10', 'NP', 'Number of Plants', 'NP', 'Number of Plants');
+insert into TypeDrugMeasurementType  values ('3', 'OZ', 'Ounce', 'OZ', 'Ounce');
+insert into TypeDrugMeasurementType  values ('11', 'XX', 'Not Reported', 'XX', 'Not Reported');
+insert into TypeDrugMeasurementType  values ('99999', '99', 'Unknown', '99', 'Unknown');
+insert into TypeDrugMeasurementType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into TypeOfVictimType  values ('2', 'B', 'Business', 'B', 'Business');
+insert into TypeOfVictimType  values ('3', 'F', 'Financial Institution', 'F', 'Financial Institution');
+insert into TypeOfVictimType  values ('4', 'G', 'Government', 'G', 'Government');
+insert into TypeOfVictimType  values ('1', 'I', 'Individual', 'I', 'Individual');
+insert into TypeOfVictimType  values ('5', 'L', 'Law Enforcement Officer', 'L', 'Law Enforcement Officer');
+insert into TypeOfVictimType  values ('8', 'O', 'Other', 'O', 'Other');
+insert into TypeOfVictimType  values ('6', 'R', 'Religious Organization', 'R', 'Religious Organization');
+insert into TypeOfVictimType  values ('7', 'S', 'Society/Public', 'S', 'Society/Public');
+insert into TypeOfVictimType  values ('99999', 'U', 'Unknown', 'U', 'Unknown');
+insert into TypeOfVictimType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into OfficerActivityCircumstanceType  values ('1', '01', 'Responding to Disturbance Call', '01', 'Responding to Disturbance Call');
+insert into OfficerActivityCircumstanceType  values ('2', '02', 'Burglaries in Progress or Pursuing Burglary Suspects', '02', 'Burglaries in Progress or Pursuing Burglary Suspects');
+insert into OfficerActivityCircumstanceType  values ('3', '03', 'Robberies in Progress or Pursuing Robbery Suspects', '03', 'Robberies in Progress or Pursuing Robbery Suspects');
+insert into OfficerActivityCircumstanceType  values ('4', '04', 'Attempting Other Arrests', '04', 'Attempting Other Arrests');
+insert into OfficerActivityCircumstanceType  values ('5', '05', 'Civil Disorder (Riot, Mass Disobedience)', '05', 'Civil Disorder (Riot, Mass Disobedience)');
+insert into OfficerActivityCircumstanceType  values ('6', '06', 'Handling, Transporting, Custody of Prisoners', '06', 'Handling, Transporting, Custody of Prisoners');
+insert into OfficerActivityCircumstanceType  values ('7', '07', 'Investigating Suspicious Persons or Circumstances', '07', 'Investigating Suspicious Persons or Circumstances');
+insert into OfficerActivityCircumstanceType  values ('8', '08', 'Ambush - No Warning', '08', 'Ambush - No Warning');
+insert into OfficerActivityCircumstanceType  values ('9', '09', 'Handling Persons with Mental Illness', '09', 'Handling Persons with Mental Illness');
+insert into OfficerActivityCircumstanceType  values ('10', '10', 'Traffic Pursuits and Stops', '10', 'Traffic Pursuits and Stops');
+insert into OfficerActivityCircumstanceType  values ('11', '11', 'All Other', '11', 'All Other');
+insert into OfficerActivityCircumstanceType  values ('99999', '99', 'Unknown', '99', 'Unknown');
+insert into OfficerActivityCircumstanceType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into OfficerAssignmentTypeType  values ('1', 'F', 'Two-Officer Vehicle - pertains to uniformed officers', 'F', 'Two-Officer Vehicle - pertains to uniformed officers');
+insert into OfficerAssignmentTypeType  values ('2', 'G', 'One-Officer Vehicle (Alone) - pertains to uniformed officers', 'G', 'One-Officer Vehicle (Alone) - pertains to uniformed officers');
+insert into OfficerAssignmentTypeType  values ('3', 'H', 'One-Officer Vehicle (Assisted) - pertains to uniformed officers', 'H', 'One-Officer Vehicle (Assisted) - pertains to uniformed officers');
+insert into OfficerAssignmentTypeType  values ('4', 'I', 'Detective or Special Assignment (Alone) - pertains to nonuniformed officers', 'I', 'Detective or Special Assignment (Alone) - pertains to nonuniformed officers');
+insert into OfficerAssignmentTypeType  values ('5', 'J', 'Detective or Special Assignment (Assisted) - pertains to nonuniformed officers', 'J', 'Detective or Special Assignment (Assisted) - pertains to nonuniformed officers');
+insert into OfficerAssignmentTypeType  values ('6', 'K', 'Other (Alone) - pertains to officers in other capacities, such as foot patrol, off duty, etc.', 'K', 'Other (Alone) - pertains to officers in other capacities, such as foot patrol, off duty, etc.');
+insert into OfficerAssignmentTypeType  values ('7', 'L', 'Other (Assisted) - pertains to officers in other capacities, such as foot patrol, off duty, etc.', 'L', 'Other (Assisted) - pertains to officers in other capacities, such as foot patrol, off duty, etc.');
+insert into OfficerAssignmentTypeType  values ('99999', '9', 'Unknown', '9', 'Unknown');
+insert into OfficerAssignmentTypeType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into SexOfPersonType  values ('1', 'F', 'Female', 'F', 'Female');
+insert into SexOfPersonType  values ('2', 'M', 'Male', 'M', 'Male');
+insert into SexOfPersonType  values ('99999', 'U', 'Unknown', 'U', 'Unknown');
+insert into SexOfPersonType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into RaceOfPersonType  values ('1', 'W', 'White', 'W', 'White');
+insert into RaceOfPersonType  values ('2', 'B', 'Black or African American', 'B', 'Black or African American');
+insert into RaceOfPersonType  values ('3', 'I', 'American Indian or Alaska Native', 'I', 'American Indian or Alaska Native');
+insert into RaceOfPersonType  values ('4', 'A', 'Asian', 'A', 'Asian');
+insert into RaceOfPersonType  values ('5', 'P', 'Native Hawaiian or Other Pacific Islander', 'P', 'Native Hawaiian or Other Pacific Islander');
+insert into RaceOfPersonType  values ('99999', 'U', 'Unknown', 'U', 'Unknown');
+insert into RaceOfPersonType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into EthnicityOfPersonType  values ('2', 'H', 'Hispanic or Latino', 'H', 'Hispanic or Latino');
+insert into EthnicityOfPersonType  values ('1', 'N', 'Not Hispanic or Latino', 'N', 'Not Hispanic or Latino');
+insert into EthnicityOfPersonType  values ('99999', 'U', 'Unknown', 'U', 'Unknown');
+insert into EthnicityOfPersonType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into ResidentStatusOfPersonType  values ('1', 'N', 'Nonresident', 'N', 'Nonresident');
+insert into ResidentStatusOfPersonType  values ('2', 'R', 'Resident', 'R', 'Resident');
+insert into ResidentStatusOfPersonType  values ('99999', 'U', 'Unknown', 'U', 'Unknown');
+insert into ResidentStatusOfPersonType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('1', '01', 'Argument', '01', 'Argument');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('2', '02', 'Assault on Law Enforcement Officer(s)', '02', 'Assault on Law Enforcement Officer(s)');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('3', '03', 'Drug Dealing', '03', 'Drug Dealing');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('4', '04', 'Gangland (Organized Crime Involvement)', '04', 'Gangland (Organized Crime Involvement)');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('5', '05', 'Juvenile Gang', '05', 'Juvenile Gang');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('6', '06', 'Domestic Violence', '06', 'Domestic Violence');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('7', '07', 'Mercy Killing', '07', 'Mercy Killing');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('8', '08', 'Other Felony Involved', '08', 'Other Felony Involved');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('9', '09', 'Other Circumstances', '09', 'Other Circumstances');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('10', '10', 'Unknown Circumstances', '10', 'Unknown Circumstances');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('30', '30', 'Child Playing With Weapon', '30', 'Child Playing With Weapon');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('31', '31', 'Gun-Cleaning Accident', '31', 'Gun-Cleaning Accident');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('32', '32', 'Hunting Accident', '32', 'Hunting Accident');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('33', '33', 'Other Negligent Weapon Handling', '33', 'Other Negligent Weapon Handling');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('34', '34', 'Other Negligent Killings', '34', 'Other Negligent Killings');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('20', '20', 'Criminal Killed by Private Citizen', '20', 'Criminal Killed by Private Citizen');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('21', '21', 'Criminal Killed by Police Officer', '21', 'Criminal Killed by Police Officer');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('99999', '99', 'Unknown', '99', 'Unknown');
+insert into AggravatedAssaultHomicideCircumstancesType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into AdditionalJustifiableHomicideCircumstancesType  values ('1', 'A', 'Criminal Attacked Police Officer and That Officer Killed Criminal', 'A', 'Criminal Attacked Police Officer and That Officer Killed Criminal');
+insert into AdditionalJustifiableHomicideCircumstancesType  values ('2', 'B', 'Criminal Attacked Police Officer and Criminal Killed by Another Police Officer', 'B', 'Criminal Attacked Police Officer and Criminal Killed by Another Police Officer');
+insert into AdditionalJustifiableHomicideCircumstancesType  values ('3', 'C', 'Criminal Attacked a Civilian', 'C', 'Criminal Attacked a Civilian');
+insert into AdditionalJustifiableHomicideCircumstancesType  values ('4', 'D', 'Criminal Attempted Flight From a Crime', 'D', 'Criminal Attempted Flight From a Crime');
+insert into AdditionalJustifiableHomicideCircumstancesType  values ('5', 'E', 'Criminal Killed in Commission of a Crime', 'E', 'Criminal Killed in Commission of a Crime');
+insert into AdditionalJustifiableHomicideCircumstancesType  values ('6', 'F', 'Criminal Resisted Arrest', 'F', 'Criminal Resisted Arrest');
+insert into AdditionalJustifiableHomicideCircumstancesType  values ('7', 'G', 'Unable to Determine/Not Enough Information', 'G', 'Unable to Determine/Not Enough Information');
+insert into AdditionalJustifiableHomicideCircumstancesType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into AdditionalJustifiableHomicideCircumstancesType  values ('99999', '9', 'Unknown', '9', 'Unknown');
+insert into TypeInjuryType  values ('3', 'B', 'Apparent Broken Bones', 'B', 'Apparent Broken Bones');
+insert into TypeInjuryType  values ('5', 'I', 'Possible Internal Injury', 'I', 'Possible Internal Injury');
+insert into TypeInjuryType  values ('7', 'L', 'Severe Laceration', 'L', 'Severe Laceration');
+insert into TypeInjuryType  values ('2', 'M', 'Apparent Minor Injury', 'M', 'Apparent Minor Injury');
+insert into TypeInjuryType  values ('1', 'N', 'None', 'N', 'None');
+insert into TypeInjuryType  values ('4', 'O', 'Other Major Injury', 'O', 'Other Major Injury');
+insert into TypeInjuryType  values ('6', 'T', 'Loss of Teeth', 'T', 'Loss of Teeth');
+insert into TypeInjuryType  values ('8', 'U', 'Unconsciousness', 'U', 'Unconsciousness');
+insert into TypeInjuryType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into TypeInjuryType  values ('99999', '9', 'Unknown', '9', 'Unknown');
+insert into VictimOffenderRelationshipType  values ('1', 'SE', 'Victim Was Spouse', 'SE', 'Victim Was Spouse');
+insert into VictimOffenderRelationshipType  values ('2', 'CS', 'Victim Was Common-Law Spouse', 'CS', 'Victim Was Common-Law Spouse');
+insert into VictimOffenderRelationshipType  values ('3', 'PA', 'Victim Was Parent', 'PA', 'Victim Was Parent');
+insert into VictimOffenderRelationshipType  values ('4', 'SB', 'Victim Was Sibling', 'SB', 'Victim Was Sibling');
+insert into VictimOffenderRelationshipType  values ('5', 'CH', 'Victim Was Child', 'CH', 'Victim Was Child');
+insert into VictimOffenderRelationshipType  values ('6', 'GP', 'Victim Was Grandparent', 'GP', 'Victim Was Grandparent');
+insert into VictimOffenderRelationshipType  values ('7', 'GC', 'Victim Was Grandchild', 'GC', 'Victim Was Grandchild');
+insert into VictimOffenderRelationshipType  values ('8', 'IL', 'Victim Was In-law', 'IL', 'Victim Was In-law');
+insert into VictimOffenderRelationshipType  values ('9', 'SP', 'Victim Was Stepparent', 'SP', 'Victim Was Stepparent');
+insert into VictimOffenderRelationshipType  values ('10', 'SC', 'Victim Was Stepchild', 'SC', 'Victim Was Stepchild');
+insert into VictimOffenderRelationshipType  values ('11', 'SS', 'Victim Was Stepsibling', 'SS', 'Victim Was Stepsibling');
+insert into VictimOffenderRelationshipType  values ('12', 'OF', 'Victim Was Other Family Member', 'OF', 'Victim Was Other Family Member');
+insert into VictimOffenderRelationshipType  values ('13', 'VO', 'Victim Was Offender', 'VO', 'Victim Was Offender');
+insert into VictimOffenderRelationshipType  values ('14', 'AQ', 'Victim Was Acquaintance', 'AQ', 'Victim Was Acquaintance');
+insert into VictimOffenderRelationshipType  values ('15', 'FR', 'Victim Was Friend', 'FR', 'Victim Was Friend');
+insert into VictimOffenderRelationshipType  values ('16', 'NE', 'Victim Was Neighbor', 'NE', 'Victim Was Neighbor');
+insert into VictimOffenderRelationshipType  values ('17', 'BE', 'Victim Was Babysittee (the baby)', 'BE', 'Victim Was Babysittee (the baby)');
+insert into VictimOffenderRelationshipType  values ('18', 'BG', 'Victim Was Boyfriend/Girlfriend', 'BG', 'Victim Was Boyfriend/Girlfriend');
+insert into VictimOffenderRelationshipType  values ('19', 'CF', 'Victim Was Child of Boyfriend or Girlfriend', 'CF', 'Victim Was Child of Boyfriend or Girlfriend');
+insert into VictimOffenderRelationshipType  values ('20', 'XR', 'Victim Was Ex-Relationship', 'XR', 'Victim Was Ex-Relationship');
+insert into VictimOffenderRelationshipType  values ('21', 'XS', 'Victim was Ex-Spouse', 'XS', 'Victim was Ex-Spouse');
+insert into VictimOffenderRelationshipType  values ('22', 'EE', 'Victim was Employee', 'EE', 'Victim was Employee');
+insert into VictimOffenderRelationshipType  values ('23', 'ER', 'Victim was Employer', 'ER', 'Victim was Employer');
+insert into VictimOffenderRelationshipType  values ('24', 'OK', 'Victim was Otherwise Known', 'OK', 'Victim was Otherwise Known');
+insert into VictimOffenderRelationshipType  values ('25', 'ST', 'Victim Was Stranger', 'ST', 'Victim Was Stranger');
+insert into VictimOffenderRelationshipType  values ('99999', 'RU', 'Relationship Unknown', 'RU', 'Relationship Unknown');
+insert into VictimOffenderRelationshipType  values ('99998', '  ', 'Blank', '  ', 'Blank');
+insert into TypeOfArrestType  values ('1', 'O', 'On-View Arrest', 'O', 'On-View Arrest');
+insert into TypeOfArrestType  values ('2', 'S', 'Summoned/Cited', 'S', 'Summoned/Cited');
+insert into TypeOfArrestType  values ('3', 'T', 'Taken Into Custody', 'T', 'Taken Into Custody');
+insert into TypeOfArrestType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into TypeOfArrestType  values ('99999', '9', 'Unknown', '9', 'Unknown');
+insert into MultipleArresteeSegmentsIndicatorType  values ('1', 'C', 'Count Arrestee', 'C', 'Count Arrestee');
+insert into MultipleArresteeSegmentsIndicatorType  values ('2', 'M', 'Multiple', 'M', 'Multiple');
+insert into MultipleArresteeSegmentsIndicatorType  values ('9', 'N', 'Not Applicable', 'N', 'Not Applicable');
+insert into MultipleArresteeSegmentsIndicatorType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into ArresteeWasArmedWithType  values ('1', '01', 'Unarmed', '01', 'Unarmed');
+insert into ArresteeWasArmedWithType  values ('110', '11', 'Firearm (type not stated)', '11', 'Firearm (type not stated)');
+insert into ArresteeWasArmedWithType  values ('120', '12', 'Handgun', '12', 'Handgun');
+insert into ArresteeWasArmedWithType  values ('130', '13', 'Rifle', '13', 'Rifle');
+insert into ArresteeWasArmedWithType  values ('140', '14', 'Shotgun', '14', 'Shotgun');
+insert into ArresteeWasArmedWithType  values ('150', '15', 'Other Firearm', '15', 'Other Firearm');
+insert into ArresteeWasArmedWithType  values ('200', '16', 'Lethal Cutting Instrument', '16', 'Lethal Cutting Instrument');
+insert into ArresteeWasArmedWithType  values ('300', '17', 'Club/Blackjack/Brass Knuckles', '17', 'Club/Blackjack/Brass Knuckles');
+insert into ArresteeWasArmedWithType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into ArresteeWasArmedWithType  values ('99999', '99', 'Unknown', '99', 'Unknown');
+insert into DispositionOfArresteeUnder18Type  values ('2', 'H', 'Handled Within Department', 'H', 'Handled Within Department');
+insert into DispositionOfArresteeUnder18Type  values ('1', 'R', 'Referred to Other Authorities', 'R', 'Referred to Other Authorities');
+insert into DispositionOfArresteeUnder18Type  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into DispositionOfArresteeUnder18Type  values ('99999', '9', 'Unknown', '9', 'Unknown');
+insert into AgencyType  values ('1', '0', 'Covered by another agency', '0', 'Covered by another agency');
+insert into AgencyType  values ('2', '1', 'City', '1', 'City');
+insert into AgencyType  values ('3', '2', 'County', '2', 'County');
+insert into AgencyType  values ('4', '3', 'University or college', '3', 'University or college');
+insert into AgencyType  values ('5', '4', 'State Police', '4', 'State Police');
+insert into AgencyType  values ('6', '5', 'Special Agency', '5', 'Special Agency');
+insert into AgencyType  values ('7', '6', 'Other state agencies', '6', 'Other state agencies');
+insert into AgencyType  values ('8', '7', 'Tribal agencies', '7', 'Tribal agencies');
+insert into AgencyType  values ('9', '8', 'Federal agencies', '8', 'Federal agencies');
+insert into AgencyType  values ('99998', ' ', 'Blank', ' ', 'Blank');
+insert into AgencyType  values ('99999', '9', 'Unknown', '9', 'Unknown');
+insert into CargoTheftIndicatorType  values ('1', 'Y', 'Yes', 'Y', 'Yes');
+insert into CargoTheftIndicatorType  values ('2', 'N', 'No', 'N', 'No');
+insert into CargoTheftIndicatorType  values ('99998', ' ', 'Not a Cargo Theft offense', ' ', 'Not a Cargo Theft offense');
+insert into CargoTheftIndicatorType  values ('99999', '9', 'Unknown', '9', 'Unknown');
+insert into Agency  values ('1', 'agencyORI', 'Agency Name', '1', 'WI', 'Wisconsin', '12345678');
+insert into Agency  values ('99999', '99', 'Unknown', '99998', 'NA', 'Unknown', null);
+insert into Agency  values ('99998', ' ', 'Blank', '99998', 'NA', 'Blank', null);
+insert into NibrsErrorCodeType  values ('1', '017', 'Structure Check', 'CANNOT HAVE CHARACTERS OTHER THAN A-Z, 0-9, HYPHENS, AND/OR BLANKS', 'Zero-Reporting Segment (Level 0). Although Data Element 2 (Incident Number) should be entered with 12 zeros, a pre-edit discovered characters other than A through Z, 0 through 9, hyphens, and/or blanks had been entered.');
+insert into NibrsErrorCodeType  values ('2', '050', 'Structure Check', 'SEGMENT LEVELS ARE OUT OF NUMERICAL ORDER FOR THIS INCIDENT', 'Segment Levels in a Group A Incident Report must be organized in numerical order. For example, an incident having segments 1, 2, 2, 3, 4, 4, 4, 5 must be written in that order, not as 1, 2, 2, 5, 3, 4, 4, 4.');
+insert into NibrsErrorCodeType  values ('3', '051', 'Structure Check', 'INVALID RECORD LEVEL ON SUBMISSION', 'Segment Level must contain data values 0–7.');
+insert into NibrsErrorCodeType  values ('4', '052', 'Structure Check', 'NOT A VALID ORI–NOT IN UCR ORI FILE', 'Data Element 1 (ORI) and Data Element 25C (Officer–ORI Other Jurisdiction) must be a valid nine-character NCIC ORI.');
+insert into NibrsErrorCodeType  values ('5', '055', 'Structure Check', 'CANNOT HAVE A GROUP A INCIDENT REPORT WITHOUT LEVEL 1 SEGMENT', 'Segment Level 1 (Administrative Segment) with Segment Action Type I=Incident Report must be the first segment submitted for each Group A Incident Report.');
+insert into NibrsErrorCodeType  values ('6', '056', 'Structure Check', 'DUPLICATE INCIDENT– PREVIOUSLY ADDED', 'Data Element 2 (Incident Number) must be a unique number for each incident submitted. No two incidents can have the same incident number.');
+insert into NibrsErrorCodeType  values ('7', '058', 'Structure Check', 'ALL SEGMENTS IN A SUBMISSION MUST HAVE SAME MONTH AND YEAR OF SUBMISSION', 'Month of Submission and Year of Submission must contain the same data values for each segment in a NIBRS submission. The first segment processed will be compared with all other segments to check for this condition.');
+insert into NibrsErrorCodeType  values ('8', '059', 'Structure Check', 'ALL SEGMENTS IN SUBMISSION MUST BE FROM SAME STATE', 'Data Element 1 (ORI) must contain the same state abbreviation code (e.g., SC, MD, etc.) in the first two positions (record positions 17 & 18). For nonfederal LEAs, every segment in a submission must have the same state code in the first two positions of the ORI.');
+insert into NibrsErrorCodeType  values ('9', '060', 'Structure Check', 'PROCESSING DATE PRECEDES MONTH AND YEAR OF SUBMISSION', 'Month of Submission and Year of Submission must precede the date the FBI receives and processes a NIBRS submission. This edit checks for data submitted for a future month/year.');
+insert into NibrsErrorCodeType  values ('10', '065', 'Structure Check', 'EACH LEVEL 2 OFFENSE MUST HAVE AT LEAST ONE VICTIM', 'Segment Level 2 (Offense Segment) must have at least one Segment Level 4 (Victim Segment) connected to it by entering the offense code identified in Data Element 6 (UCR Offense Code) in Data Element 24 (Victim Connected to UCR Offense Code).');
+insert into NibrsErrorCodeType  values ('11', '070', 'Structure Check', 'THE CORRESPONDING OFFENDER RECORD MUST BE PRESENT', 'Data Element 34 (Offender Numbers To Be Related) has a value that does not have a corresponding Offender Segment. For example, if the field value shown in Data Element 34 is 15, an Offender Segment does not exist with a value of 15 in Data Element 36 (Offender Sequence Number).');
+insert into NibrsErrorCodeType  values ('12', '071', 'Structure Check', 'CANNOT HAVE ARRESTS IF CLEARED EXCEPTIONALLY', 'Segment Level 6 (Arrestee Segment) with Segment Action Type I=Incident Report cannot be submitted with Data Element 42 (Arrest Date) containing an arrest date on or earlier than the date entered in Data Element 5 (Exceptional Clearance Date) when Data Element 4 (Cleared Exceptionally) contains a data value other than N=Not Applicable (indicating the incident is cleared exceptionally).');
+insert into NibrsErrorCodeType  values ('13', '072', 'Structure Check', 'RECOVERED PROPERTY MUST FIRST BE REPORTED AS STOLEN', 'Segment Level 3 (Property Segment) must first be submitted with Data Element 14 (Type Property Loss/Etc.) as 7=Stolen/Etc. before it can be submitted as 5=Recovered for the same property in Data Element 15 (Property Description). Any property being reported as recovered must first be reported as stolen. There are three exceptions to this rule: 1) When recovered property information is submitted as Segment Action Type A=Add and Data Element 2 (Incident Number) is not on file in the national UCR database. This condition may indicate recovered property is being reported for a pre-NIBRS incident; therefore, the stolen property information will not be on file in the national database. 2) When Data Element 6 (UCR Offense Code) contains an offense that allows property to be recovered without first being stolen in that same incident (i.e., 250=Counterfeiting/Forgery and 280=Stolen Property Offenses) 3) When a vehicle was stolen and the recovered property in Data Element 15 (Property Description) is 38=Vehicle Parts/Accessories');
+insert into NibrsErrorCodeType  values ('14', '073', 'Structure Check', 'NUMBER OF RECOVERED VEHICLES CANNOT BE GREATER THAN THE NUMBER STOLEN', 'Segment Level 3 (Property Segment) with Segment Action Type I=Incident Report must contain a data value in Data Element 18 (Number of Stolen Motor Vehicles) greater than or equal to the data value entered in Data Element 19 (Number of Recovered Motor Vehicles) within the same incident.');
+insert into NibrsErrorCodeType  values ('15', '074', 'Structure Check', 'PROPERTY SEGMENT MUST EXIST WITH THIS OFFENSE', 'Segment Level 3 (Property Segment) with Segment Action Type I=Incident Report must be submitted when Data Element 6 (UCR Offense Code) contains an offense of Kidnapping/Abduction , Crimes Against Property, Drug/Narcotic Offenses, or Gambling Offenses.');
+insert into NibrsErrorCodeType  values ('16', '075', 'Structure Check', 'MISSING A MANDATORY SEGMENT LEVEL FOR A COMPLETE INCIDENT', 'Segment Levels 1, 2, 4, and 5 (Administrative Segment, Offense Segment, Victim Segment, and Offender Segment) with Segment Action Type I=Incident Report must be submitted for each Group A Incident Report; they are mandatory.');
+insert into NibrsErrorCodeType  values ('17', '076', 'Structure Check', 'PROPERTY RECORD (LEVEL 3) CAN NOT EXIST WITH OFFENSES SUBMITTED', 'Segment Level 3 (Property Segment) with Segment Action Type I=Incident Report cannot be submitted unless Data Element 6 (UCR Offense Code) contains an offense of Kidnapping/Abduction, Crimes Against Property, Drug/Narcotic Offenses, or Gambling Offenses.');
+insert into NibrsErrorCodeType  values ('18', '077', 'Structure Check', 'NEED A PROPERTY LOSS CODE OF ''1'' OR ''8'' WHEN THIS OFFENSE IS ATTEMPTED', 'Data Element 7 (Offense Attempted/Completed) is A=Attempted and Data Element 6 (UCR Offense Code) is a Crime Against Property, Gambling, Kidnapping, or Drug/Narcotic Offense. However, there is no Data Element 14 (Type Property Loss/Etc.) of 1=None or 8=Unknown.');
+insert into NibrsErrorCodeType  values ('19', '078', 'Structure Check', 'A VALID PROPERTY LOSS CODE DOES NOT EXIST FOR THIS COMPLETED OFFENSE', 'If Data Element 6 (UCR Offense Code) is a Crime Against Property, Kidnaping, Gambling, or Drug/Narcotic Offense, and Data Element 7 (Offense Attempted/Completed) is C=Completed, a Property Segment (Level 3) must be sent with a valid code in Data Element 14 (Type Property Loss/Etc.).');
+insert into NibrsErrorCodeType  values ('20', '080', 'Structure Check', 'CRIMES AGAINST SOCIETY CAN HAVE ONLY ONE SOCIETY/PUBLIC VICTIM', 'Segment Level 4 (Victim Segment) can be submitted only once and Data Element 25 (Type of Victim) must be S=Society/Public when Data Element 6 (UCR Offense Code) contains only a Crime Against Society.');
+insert into NibrsErrorCodeType  values ('21', '081', 'Structure Check', 'THIS PROPERTY LOSS CODE CAN NOT EXIST WITH THE OFFENSES SUBMITTED', 'Data Element 14 (Type Property Loss/Etc.) must be 1=None or 8=Unknown when Data Element 6 (UCR Offense Code) contains an offense of Kidnapping/Abduction, Crimes against Property, Drug/Narcotic Offenses, or Gambling Offenses and Data Element 7 (Offense Attempted/Completed) is A=Attempted. Data Element 14 (Type Property Loss/Etc.) must be 1=None or 5=Recovered when Data Element 6 (UCR Offense Code) is 280=Stolen Property Offenses and Data Element 7 (Offense Attempted/Completed) is C=Completed. Data Element 14 (Type Property Loss/Etc.) must be 1=None, 5=Recovered, 7=Stolen/Etc., or 8=Unknown when Data Element 6 (UCR Offense Code) is 100=Kidnapping/Abduction, 220=Burglary/ Breaking & Entering, or 510=Bribery and Data Element 7 (Offense Attempted/Completed) is C=Completed. Data Element 14 (Type Property Loss/Etc.) must be 1=None or 6=Seized when Data Element 6 (UCR Offense Code) is 35A=Drug/ Narcotic Violations or 35B=Drug Equipment Violations and Data Element 7 (Offense Attempted/Completed) is C=Completed. Data Element 14 (Type Property Loss/Etc.) must be 2=Burned when Data Element 6 (UCR Offense Code) is 200=Arson and Data Element 7 (Offense Attempted/Completed) is C=Completed. Data Element 14 (Type Property Loss/Etc.) must be 3=Counterfeited/Forged, 5=Recovered, or 6=Seized when Data Element 6 (UCR Offense Code) is 250=Counterfeiting/Forgery and Data Element 7 (Offense Attempted/Completed) is C=Completed. Data Element 14 (Type Property Loss/Etc.) must be 4=Destroyed/Damaged/Vandalized when Data Element 6 (UCR Offense Code) is 290=Destruction/Damage/Vandalism of Property and Data Element 7 (Offense Attempted/Completed) is C=Completed. Data Element 14 (Type Property Loss/Etc.) must be 5=Recovered or 7=Stolen/Etc. when Data Element 6 (UCR Offense Code) is any of the following and Data Element 7 (Offense Attempted/Completed) is C=Completed: 120=Robbery 210=Extortion/Blackmail 23A=Pocket-picking 23B=Purse Snatching 23C=Shoplifting 23D=Theft from Building 23E=Theft from Coin-Operated Machine or Device 23F=Theft from Motor Vehicle 23G=Theft of Motor Vehicle Parts or Accessories 23H=All other Larceny 240=Motor Vehicle Theft 26A=False Pretenses/Swindle/Confidence Game 26B=Credit Card/Automated Teller Machine Fraud 26C=Impersonation 26D=Welfare Fraud 26E=Wire Fraud270=Embezzlement Data Element 14 (Type Property Loss/Etc.) must be 6=Seized when Data Element 6 (UCR Offense Code) is any of the following and Data Element 7 (Offense Attempted/Completed) is C=Completed: 39A=Betting/W agering 39B=Operating/Promoting/Assisting Gambling 39C=Gambling Equipment Violation 39D=Sports Tampering');
+insert into NibrsErrorCodeType  values ('22', '084', 'Structure Check', 'RECOVERED PROPERTY VALUE CAN NOT BE GREATER THAN THE VALUE WHEN STOLEN', 'Data Element 16 (Value of Property) for property classified as 7=Stolen/Etc. in Data Element 14 (Type Property Loss/Etc.) must be greater than or equal to the value entered in Data Element 16 (Value of Property) for property classified as 5=Recovered for the same property specified in Data Element 15 (Property Description) in an incident. Note: This edit also applies when a vehicle was stolen and the recovered property in Data Element 15 (Property Description) is 38=Vehicle Parts/Accessories. The value of recovered parts cannot exceed the value of stolen vehicles.');
+insert into NibrsErrorCodeType  values ('23', '085', 'Structure Check', 'WHEN CONNECTED; EACH VICTIM MUST BE CONNECTED TO AT LEAST TWO OFFENDERS', 'Segment Level 4 (Victim Segment) with a data value in Data Element 24 (Victim Connected to UCR Offense Code) of a Crime Against Person or Robbery must contain at least two offender sequence numbers in Data Element 34 (Offender Number to be Related) when there are three or more Segment Level 5 (Offender Segment) records submitted for the incident.');
+insert into NibrsErrorCodeType  values ('24', '088', 'Structure Check', 'GROUP A AND GROUP B ARREST REPORTS CANNOT HAVE SAME IDENTIFIER', 'Segment Level 6 (Arrestee Segment) and Segment Level 7 (Group B Arrest Report Segment) cannot have the same data values entered in Data Element 2 (Incident Number) and Data Element 41 (Arrest Transaction Number), respectively, for the same ORI.');
+insert into NibrsErrorCodeType  values ('25', '091', 'Structure Check', 'ZERO-REPORTING YEAR IS INVALID', 'A Segment Level 0 was submitted that did not have four numeric digits in positions 40 through 43.');
+insert into NibrsErrorCodeType  values ('26', '099', 'Structure Check', 'GROUP B ARREST REPORT CAN HAVE ONLY ONE ARRESTEE', 'Only one arrestee can be reported in a group B arrest report.');
+insert into NibrsErrorCodeType  values ('27', '101', 'Admin Segment', 'MUST BE PRESENT— MANDATORY FIELD', 'The referenced data element in a Group A Incident Report must contain data when the referenced data element is mandatory or when the conditions are met for data that must be entered into a conditionally mandatory field.');
+insert into NibrsErrorCodeType  values ('28', '104', 'Admin Segment', 'INVALID DATA VALUE—NOT ON FBI VALIDATION TABLE', 'The referenced data element must contain a valid data value when it is entered.');
+insert into NibrsErrorCodeType  values ('29', '105', 'Admin Segment', 'INVALID DATA VALUE FOR DATE', 'The data element in error contains a date that is not entered correctly. Each component of the date must be valid; that is, months must be 01 through 12, days must be 01 through 31, and year must include the century (i.e., 19xx, 20xx). In addition, days cannot exceed maximum for the month (e.g., June cannot have 31days). Also, the date cannot exceed the current date.');
+insert into NibrsErrorCodeType  values ('30', '106', 'Admin Segment', 'INVALID DATA VALUE FOR HOUR', 'For Offenses of 09A, 13A, 13B and 13C ONLY–When data element 25 (Type of Victim) = L (Law Enforcement Officer) then Data Element 3 (Incident Date/Hour) must be populated with a valid hour (00-23). Incident Hour Unknown (Blank) is not a valid entry.');
+insert into NibrsErrorCodeType  values ('31', '115', 'Admin Segment', 'CANNOT HAVE EMBEDDED BLANKS BETWEEN FIRST AND LAST NON-BLANK CHARACTERS', '(Incident Number) Must be blank right-fill if under 12 characters in length. Cannot have embedded blanks between the first and last characters entered.');
+insert into NibrsErrorCodeType  values ('32', '116', 'Admin Segment', 'MUST BE LEFT-JUSTIFIED– BLANK DETECTED IN FIRST POSITION', '(Incident Number) must be left-justified with blank right-fill. Since the number is less than 12 characters, it must begin in position 1');
+insert into NibrsErrorCodeType  values ('33', '117', 'Admin Segment', 'CANNOT HAVE CHARACTERS OTHER THAN A–Z, 0–9, AND/OR HYPHEN, AND/OR BLANKS', '(Incident Number) can only have character combinations of A through Z, 0 through 9, hyphens, and/or blanks. For example, 89-123-SC is valid, but 89+123*SC is invalid.');
+insert into NibrsErrorCodeType  values ('34', '118', 'Admin Segment', 'DATE CANNOT BE ON OR AFTER THE INACTIVE DATE [yyyymmdd] OF THE ORI', 'The UCR Program has determined that an ORI will no longer be submitting data to the FBI as of an inactive date. No data from this ORI will be accepted after this date.');
+insert into NibrsErrorCodeType  values ('35', '119', 'Admin Segment', 'CARGO THEFT DATA CAN ONLY BE SUBMITTED FOR SPECIFIC OFFENSES', 'Data Element 2A (Cargo Theft) must be blank, unless Data Element 6 (UCR Offense Code) includes at least one of the following:120=Robbery 210=Extortion/Blackmail 220=Burglary/Breaking & Entering 23D=Theft From Building 23F=Theft From Motor Vehicle 24H=All Other Larceny 240=Motor Vehicle Theft 26A=False Pretenses/Swindle/Confidence Game 26B=Credit Card/Automated Teller Machine Fraud 26C=Impersonation 26E=Wire Fraud 26F = Identity Theft 26G = Hacking/Computer Invasion 270=Embezzlement 510=Bribery');
+insert into NibrsErrorCodeType  values ('36', '122', 'Admin Segment', 'CARGO THEFT VALUE REQUIRED WITH SPECIFIC OFFENSES', 'Data Element 2A (Cargo Theft) must be populated with a Y = Yes or N = No when Data Element 6 (UCR Offense Code) includes at least one of the following: 120=Robbery 210=Extortion/Blackmail 220=Burglary/Breaking & Entering 23D=Theft From Building 23F=Theft From Motor Vehicle 24H=All Other Larceny 240=Motor Vehicle Theft 26A=False Pretenses/Swindle/Confidence Game 26B=Credit Card/Automated Teller Machine Fraud 26C=Impersonation 26E=Wire Fraud 26F = Identity Theft 26G = Hacking/Computer Invasion 270=Embezzlement 510=Bribery');
+insert into NibrsErrorCodeType  values ('37', '151', 'Admin Segment', 'REPORT INDICATOR MUST BE BLANK OR R', 'This field must be blank if the incident date is known. If the incident date is unknown, then the report date would be entered instead and must be indicated with an R in the Report Indicator field within the Administrative Segment.');
+insert into NibrsErrorCodeType  values ('38', '152', 'Admin Segment', 'INVALID HOUR ENTRY', 'If Hour is entered within Data Element 3 (Incident Date/Hour), it must be 00 through 23. If 00=Midnight is entered, be careful that the Incident Date is entered as if the time was 1 minute past midnight. Note: When an incident occurs exactly at midnight, Data Element 3 (Incident Date) would be entered as if the time is 1 minute past midnight. For example, when a crime occurred exactly at midnight on Thursday, Friday''s date would be entered.');
+insert into NibrsErrorCodeType  values ('39', '153', 'Admin Segment', 'VALUE ENTERED CONFLICTS WITH PRESENCE OF AN ENTRY IN EXCEPTIONAL CLEARANCE DATE', 'Data Element 4 (Cleared Exceptionally) cannot be N=Not Applicable if Data Element 5 (Exceptional Clearance Date) is entered.');
+insert into NibrsErrorCodeType  values ('40', '155', 'Admin Segment', 'CLEARANCE DATE [yyyymmdd] PREDATES INCIDENT DATE [yyyymmdd]', 'Data Element 5 (Exceptional Clearance Date) is earlier than Data Element 3 (Incident Date/Hour).');
+insert into NibrsErrorCodeType  values ('41', '156', 'Admin Segment', 'AN ENTRY MUST BE MADE WHEN CLEARED EXCEPTIONALLY HAS ENTRIES OF A-E', 'Data Element 5 (Exceptional Clearance Date) must be present if the case was cleared exceptionally. Data Element 4 (Cleared Exceptionally) has an entry of A through E; therefore, the date must also be entered.');
+insert into NibrsErrorCodeType  values ('42', '170', 'Admin Segment', 'INCIDENT DATE CANNOT BE AFTER YEAR [yyyy] AND MONTH [mm] OF ELECTRONIC SUBMISSION', 'Data Element 3 The date cannot be later than the year and month the electronic submission represents. For example, the May 1999 electronic submission cannot contain incidents happening after this date.');
+insert into NibrsErrorCodeType  values ('43', '171', 'Admin Segment', 'INCIDENT DATE IS OUTSIDE THE BASE DATE CALCULATION', 'A Group ''A''Incident Report was submitted with a date entered into Data Element 3 (Incident Date/Hour) that is earlier than January 1 of the previous year, using the Month of Tape and Year of Tape as a reference point. For example, if the Month of Tape and Year of Tape contain a value of 01/1999, but the incident date is 12/25/1997, the incident will be rejected. Volume 2, section I, provides specifications concerning the FBI''s 2- year database. Note: The exception is when an exceptional clearance is being submitted with a Segment Action Type of W=Time-Window Submission. The incident date may be any past date, but cannot be any earlier than January 1, 1950.');
+insert into NibrsErrorCodeType  values ('44', '172', 'Admin Segment', 'INCIDENT DATE/HOUR FOR ''I''RECORDS CANNOT PREDATE 01/01/1991', 'Data Element 3 (Incident Date) cannot be earlier than 01/01/1991. This edit will preclude dates that are obviously incorrect since the FBI began accepting NIBRS data on this date.');
+insert into NibrsErrorCodeType  values ('45', '173', 'Admin Segment', 'INCIDENT DATE CANNOT BE BEFORE DATE ORI WENT IBR', 'A Group ''A''Incident Report was submitted with Data Element 3 (Incident Date/Hour) containing a date that occurred before the agency converted over to NIBRS. Because of this, the record was rejected. At some point, the participant will convert its local agencies from Summary reporting to Incident-Based Reporting. Once the participant starts to send NIBRS data for a converted agency to the FBI, any data received from this agency that could possibly be interpreted as duplicate reporting within both the Summary System and NIBRS for the same month will be rejected by the FBI. In other words, if the participant sends IBR data for an agency for the first time on September 1999, monthly submittal, dates for incidents, recovered property, and arrests must be within September. The exception is when exceptional clearances occur for a pre-IBR incident. In this case, Data Element 3 (Incident Date/Hour) may be earlier than September 1999, but Data Element 5 (Exceptional Clearance Date) must be within September 1999. The FBI will reject data submitted for prior months. Thereafter, all data coming from this agency must have dates subsequent to the initial start date of September 1999, except as mentioned previously. The Summary System already contains aggregate data for the months prior to NIBRS conversion. If the FBI were to accept IBR data for months previously reported with Summary data, the result would be duplicate reporting for those months.');
+insert into NibrsErrorCodeType  values ('46', '175', 'Admin Segment', 'CANNOT CALCULATE BASE DATE FROM INCIDENT DATE [yyymmdd]', 'The electronic submission control date (positions 7 through 12, month and year) and Data Element 3 (Incident Date/Hour) must both be valid dates for calculating timeframes.');
+insert into NibrsErrorCodeType  values ('47', '178', 'Admin Segment', 'THIS ADMINISTRATIVE SEGMENT HAS A CONFLICTING LENGTH', 'Segment Length for the Administrative Segment (Level 1) must be 87 characters (not reporting Cargo Theft) or 88 characters (reporting Cargo Theft). All Administrative Segments in a submission must be formatted in only one of these two lengths.');
+insert into NibrsErrorCodeType  values ('48', '197', 'Admin Segment', 'MISSING INCIDENT DATE FOR DELETE', 'Data Element 3 (Incident Date) is missing for a Group A Incident Report with a Segment Action Type of D = Delete; must be populated with a valid data value and cannot be blank.');
+insert into NibrsErrorCodeType  values ('49', '201', 'Offense Segment', 'MUST BE PRESENT— MANDATORY FIELD', 'The referenced data element in an Incident must contain data when the referenced data element is mandatory or when the conditions are met for data that must be entered into a conditionally mandatory field.');
+insert into NibrsErrorCodeType  values ('50', '202', 'Offense Segment', 'CONTAINS NONNUMERIC ENTRY', 'Data Element 10 (Number of Premises Entered) is not a numeric entry of 01 through 99.');
+insert into NibrsErrorCodeType  values ('51', '204', 'Offense Segment', 'INVALID DATA VALUE', 'The referenced data element must contain a valid data value when it is entered; blank is permissible on non-mandatory fields.');
+insert into NibrsErrorCodeType  values ('52', '205', 'Offense Segment', 'ERROR–INVALID OFFENSE CODE FOR LOCATION TYPE CYBERSPACE', 'Data Element 9 (Location Type)=Cyberspace Can only be entered when Data Element 6 Offense Code is one of the violations listed below: 210=Extortion/Blackmail 250=Counterfeiting/Forgery 270=Embezzlement 280=Stolen Property Offenses 290=Destruction/Damage/Vandalism of Property 370=Pornography/Obscene Material 510=Bribery 26A =False Pretenses/Swindle/Confidence Game 26B =Credit Card/Automated Teller Machine Fraud 26C =Impersonation 26D =Welfare Fraud 26E =Wire Fraud 26F =Identity Theft 26G =Hacking/Computer Invasion 9A =Betting/Wagering 39B =Operating/Promoting/Assisting Gambling 39D =Gambling Equipment Violations 13C =Intimidation 35A =Drug/Narcotic Violations 35B =Drug Equipment Violations 520=Weapon Law Violations 64A =Human Trafficking, Commercial Sex Acts 64B =Human Trafficking, Involuntary Servitude 40A =Prostitution 40B =Assisting or Promoting Prostitution 40C =Purchasing Prostitution');
+insert into NibrsErrorCodeType  values ('53', '206', 'Offense Segment', 'ERROR - DUPLICATE VALUE=[value]', 'The referenced data element in error is one that contains multiple data values. When more than one code is entered, none can be duplicate codes.');
+insert into NibrsErrorCodeType  values ('54', '207', 'Offense Segment', 'ERROR - MUTUALLY EXCLUSIVE VALUE=[value]', 'The data element in error can have multiple data values and was entered with multiple values. However, mutually exclusive values cannot be entered with any other data value. Refer to individual data elements for mutually exclusive data values.');
+insert into NibrsErrorCodeType  values ('55', '215', 'Offense Segment', 'CANNOT CONTAIN EMBEDDED BLANKS BETWEEN FIRST AND LAST NON-BLANK CHARACTERS', 'Must be blank right-fill if under 12 characters in length. Cannot have embedded blanks between the first and last characters entered.');
+insert into NibrsErrorCodeType  values ('56', '216', 'Offense Segment', 'MUST BE LEFT-JUSTIFIED– BLANK DETECTED IN FIRST POSITION', 'Must be left-justified with blank right-fill if under 12 characters in length.');
+insert into NibrsErrorCodeType  values ('57', '217', 'Offense Segment', 'CANNOT HAVE CHARACTERS OTHER THAN A–Z, 0–9, AND/OR HYPHEN, AND/OR BLANKS', 'Must contain a valid character combination of the following: A–Z (capital letters only) 0–9 Hyphen Example: 11-123-SC is valid, but 11+123*SC is not valid.');
+insert into NibrsErrorCodeType  values ('58', '219', 'Offense Segment', 'DATA CAN ONLY BE ENTERED FOR SPECIFIC OFFENSES', 'Data Element 12 (Type Criminal Activity/Gang Information) Type criminal activity codes of ''B'', ''C'', ''D'', ''E'', ''O'', ''P'', ''T'', or ''U''can only be entered when the UCR Offense Code is: 250=Counterfeiting/Forgery 280=Stolen Property Offenses 35A=Drug/Narcotic Violations 35B=Drug Equipment Violations 39C=Gambling Equipment Violations 370=Pornography/Obscene Material 520=Weapon Law Violations (Type Criminal Activity/Gang Information) Gang information codes of ''J'', ''G'', and ''N''can only be entered when the UCR Offense Code is:09A=Murder and Non-negligent Manslaughter 09B=Negligent Manslaughter 100=Kidnapping/Abduction 11A=Rape 11B=Sodomy 11C=Sexual Assault With An Object 11D=Fondling 120=Robbery 13A=Aggravated Assault 13B=Simple Assault 13C=Intimidation (Type Criminal Activity/Gang Information) Criminal Activity codes of ''A'', ''F'', ''I'', and ''S''can only be entered when the UCR Offense Code is: 720=Animal Cruelty');
+insert into NibrsErrorCodeType  values ('59', '220', 'Offense Segment', 'DATA MUST BE ENTERED FOR SPECIFIC OFFENSES', 'Data Element 12 (Type Criminal Activity/Gang Information) Must be populated with a valid data value and cannot be blank when Data Element 6 (UCR Offense Code) is: 250=Counterfeiting/Forgery 280=Stolen Property Offenses 35A=Drug/Narcotic Violations 35B=Drug Equipment Violations 39C=Gambling Equipment Violations 370=Pornography/Obscene Material 520=Weapon Law Violations 720=Animal Cruelty');
+insert into NibrsErrorCodeType  values ('60', '221', 'Offense Segment', 'DATA MUST BE ENTERED FOR SPECIFIC OFFENSES', 'Data Element 13 (Type Weapon/Force Involved) must be populated with a valid data value and cannot be blank when Data Element 6 (UCR Offense Code) is: 09A=Murder and Non-negligent Manslaughter 09B=Negligent Manslaughter 09C=Justifiable Homicide 100=Kidnapping/Abduction 11A=Rape 11B=Sodomy 11C=Sexual Assault With An Object 11D=Fondling 120=Robbery 13A=Aggravated Assault 13B=Simple Assault 210=Extortion/Blackmail 520=Weapon Law Violations 64A=Human Trafficking, Commercial Sex Acts 64B=Human Trafficking, Involuntary Servitude');
+insert into NibrsErrorCodeType  values ('61', '222', 'Offense Segment', 'DATA CAN ONLY BE BE ENTERED FOR SPECIFIC OFFENSES', 'Data Element 13 (Type Weapon/Force Involved) must be populated with a valid data value and cannot be blank when Data Element 6 (UCR Offense Code) is: 09A=Murder and Non-negligent Manslaughter 09B=Negligent Manslaughter 09C=Justifiable Homicide 100=Kidnapping/Abduction 11A=Rape 11B=Sodomy 11C=Sexual Assault With An Object 11D=Fondling 120=Robbery 13A=Aggravated Assault 13B=Simple Assault 210=Extortion/Blackmail 520=Weapon Law Violations 64A=Human Trafficking, Commercial Sex Acts 64B=Human Trafficking, Involuntary Servitude');
+insert into NibrsErrorCodeType  values ('62', '251', 'Offense Segment', 'INVALID CODE', '(Offense Attempted/Completed) Must be a valid code of A=Attempted or C=Completed.');
+insert into NibrsErrorCodeType  values ('63', '252', 'Offense Segment', 'OFFENSE CODE MUST BE 220 WITH A LOCATION TYPE OF 14 OR 19 FOR DATA TO BE ENTERED', 'When Data Element 10 (Number of Premises Entered) is entered, Data Element 9 (Location Type) must be 14=Hotel/Motel/Etc. or 19=Rental Storage Facility, and Data Element 6 (UCR Offense Code) must be 220 (Burglary).');
+insert into NibrsErrorCodeType  values ('64', '253', 'Offense Segment', 'MUST BE PRESENT WHEN OFFENSE CODE IS 220', 'Data Element was not entered; it must be entered when UCR Offense Code of 220=Burglary has been entered.');
+insert into NibrsErrorCodeType  values ('65', '254', 'Offense Segment', 'MUST BE BLANK WHEN OFFENSE IS OTHER THAN 220', 'Data Element only applies to UCR Offense Code of 220=Burglary. Since a burglary offense was not entered, the Method of Entry should not have been entered.');
+insert into NibrsErrorCodeType  values ('66', '255', 'Offense Segment', 'AUTOMATIC INDICATOR MUST BE BLANK OR ''A''', 'Must be A=Automatic or blank=Not Automatic');
+insert into NibrsErrorCodeType  values ('67', '256', 'Offense Segment', 'OFFENSE CODES OF 09A, 09B, 09C, 13A, 13B, AND 13C MUST HAVE ENTRY OF ''C''', 'Code must be C=Completed if Data Element 6 (UCR Offense Code) is an Assault or Homicide.');
+insert into NibrsErrorCodeType  values ('68', '257', 'Offense Segment', 'MUST BE PRESENT WITH AN OFFENSE CODE OF 220 AND A LOCATION TYPE OF 14 OR 19', 'Must be entered if offense code is 220 (Burglary) and if Data Element 9 (Location Type) contains 14=Hotel/Motel/Etc. or 19=Rental Storage Facility.');
+insert into NibrsErrorCodeType  values ('69', '258', 'Offense Segment', 'WEAPON TYPE MUST=11, 12, 13, 14, OR 15 FOR AN ''A'' IN THE AUTO INDICATOR', 'In Data Element 13 (Type of Weapon/Force Involved), A=Automatic is the third character of code. It is valid only with the following codes: 11=Firearm (Type Not Stated) 12=Handgun 13=Rifle 14=Shotgun 15=Other Firearm A weapon code other than those mentioned was entered with the automatic indicator. An automatic weapon is, by definition, a firearm.');
+insert into NibrsErrorCodeType  values ('70', '262', 'Offense Segment', 'DUPLICATE OFFENSE SEGMENT', 'When a Group ''A'' Incident Report is submitted, the individual segments comprising the incident cannot contain duplicates. In this case, two Offense Segments were submitted having the same offense in Data Element 6 (UCR Offense Code).');
+insert into NibrsErrorCodeType  values ('71', '263', 'Offense Segment', 'CANNOT HAVE MORE THAN 10 OFFENSES', 'Can be submitted only 10 times for each Group A Incident Report; 10 offense codes are allowed for each incident.');
+insert into NibrsErrorCodeType  values ('72', '264', 'Offense Segment', 'GROUP ''A'' OFFENSE CANNOT CONTAIN A GROUP ''B'' OFFENSE', 'Data Element 6 (UCR Offense Code) must be a Group ''A'' UCR Offense Code, not a Group ''B'' Offense Code.');
+insert into NibrsErrorCodeType  values ('73', '265', 'Offense Segment', 'INVALID WEAPON [weapon-code] WITH AN OFFENSE OF 13B', 'If an Offense Segment (Level 2) was submitted for 13B=Simple Assault, Data Element 13 (Type Weapon/Force Involved) can only have codes of 40=Personal Weapons, 90=Other, 95=Unknown, and 99=None. All other codes are not valid because they do not relate to a simple assault.');
+insert into NibrsErrorCodeType  values ('74', '266', 'Offense Segment', 'NO OTHER OFFENSE CAN BE SUBMITTED WITH AN 09C OFFENSE', 'When a Justifiable Homicide is reported, no other offense may be reported in the Group ''A'' Incident Report. These should be submitted on another Group ''A'' Incident Report.');
+insert into NibrsErrorCodeType  values ('75', '267', 'Offense Segment', 'INVALID WEAPON [weapon-code] WITH AN OFFENSE OF [offense]', 'If a homicide offense is submitted, Data Element 13 (Type Weapon/Force Involved) cannot have 99=None. Some type of weapon/force must be used in a homicide offense.');
+insert into NibrsErrorCodeType  values ('76', '268', 'Offense Segment', 'A LARCENY OFFENSE CANNOT HAVE A MOTOR VEHICLE PROPERTY DESCRIPTION ENTERED', 'Cannot be submitted with a data value for a motor vehicle in Data Element 15 (Property Description) when Data Element 6 (UCR Offense Code) contains an offense of (23A–23H)=Larceny/Theft Offenses; stolen vehicles cannot be reported for a larceny');
+insert into NibrsErrorCodeType  values ('77', '269', 'Offense Segment', 'POSSIBLE CLASSIFICATION ERROR OF AGGRAVATED ASSAULT 13A CODED AS SIMPLE 13B', 'If Data Element 6 (UCR Offense Code) is 13B=Simple Assault and the weapon involved is 11=Firearm, 12=Handgun, 13=Rifle, 14=Shotgun, or 15=Other Firearm, then the offense should instead be classified as 13A=Aggravated Assault.');
+insert into NibrsErrorCodeType  values ('78', '270', 'Offense Segment', 'JUSTIFIABLE HOMICIDE MUST BE CODED AS NON-BIAS MOTIVATED', 'Must be 88=None when Data Element 6 (UCR Offense Code) is 09C=Justifiable Homicide.');
+insert into NibrsErrorCodeType  values ('79', '284', 'Offense Segment', 'THIS OFFENSE SEGMENT HAS A CONFLICTING LENGTH', 'Segment Length for the Offense Segment (Level 2) must be 63 characters (reporting only Bias Motivation #1) or 71 characters (reporting Bias Motivations #2–#5). All Offense Segments in a submission must be formatted in only one of these two lengths.');
+insert into NibrsErrorCodeType  values ('80', '301', 'Property Segment', 'MUST BE PRESENT— MANDATORY FIELD', 'The referenced data element in a Group A Incident Report must be populated with a valid data value and cannot be blank.');
+insert into NibrsErrorCodeType  values ('81', '302', 'Property Segment', 'CONTAINS NONNUMERIC ENTRY', 'Must be numeric entry with zero left-fill. If Data Element 21 (Estimated Quantity) has the error, note that any decimal fractional quantity must be expressed in thousandths as three numeric digits. If no fractional quantity was involved, then all zeros should be entered.');
+insert into NibrsErrorCodeType  values ('82', '304', 'Property Segment', 'INVALID DATA VALUE', 'The referenced data element must contain a valid data value when it is entered; Blank is permissible on non-mandatory fields.');
+insert into NibrsErrorCodeType  values ('83', '305', 'Property Segment', 'DATE RECOVERED IS INVALID', 'Each component of the date must be valid; that is, months must be 01 through 12, days must be 01 through 31, and year must include the century (i.e., 19xx, 20xx). In addition, days cannot exceed maximum for the month (e.g., June cannot have 31 days). The date cannot be later than that entered within the Month of Electronic Submission and Year of Electronic submission fields on the data record. For example, if Month of Electronic Submission and Year of Electronic Submission are 06/1999, the recovered date cannot contain any date 07/01/1999 or later. Cannot be earlier than Data Element 3 (Incident Date/Hour).');
+insert into NibrsErrorCodeType  values ('84', '306', 'Property Segment', 'NCA07: DUPLICATE VALUE=[value]', 'The referenced data element in error is one that contains multiple data values. When more than one code is entered, none can be duplicate codes. There are two exceptions to this rule: 1) When a data value is entered in both Drug Type 1 and Drug Type 2, but different measurement categories are entered in Data Element 22 (Type Drug Measurement); this is allowed. For example, when A=Crack Cocaine is entered in Drug Type 1 and it is also entered in Drug Type 2, Data Element 22 (Type Drug Measurement) must be two different measurement categories (i.e., grams and liters) and not grams and pounds (same weight category). 2) When the data value is U=Unknown; it can be entered only once.');
+insert into NibrsErrorCodeType  values ('85', '315', 'Property Segment', 'CANNOT HAVE EMBEDDED BLANKS BETWEEN FIRST AND LAST NON-BLANK CHARACTERS', 'Data Element 2 (Incident Number) Must be blank right-fill if under 12 characters in length. Cannot have embedded blanks between the first and last characters entered.');
+insert into NibrsErrorCodeType  values ('86', '316', 'Property Segment', 'MUST BE LEFT-JUSTIFIED– BLANK DETECTED IN FIRST POSITION', 'Data Element 2 (Incident Number) Must be left- justified with blank right-fill if under 12 characters in length.');
+insert into NibrsErrorCodeType  values ('87', '317', 'Property Segment', 'CANNOT HAVE CHARACTERS OTHER THAN A–Z, 0–9, AND/OR HYPHEN, AND/OR BLANKS', 'Must contain a valid character combination of the following: A–Z (capital letters only) 0–9 Hyphen Example: 11-123-SC is valid, but 11+123*SC is not valid.');
+insert into NibrsErrorCodeType  values ('88', '320', 'Property Segment', 'RECOVERED DATE PREDATES STOLEN DATE', 'The date property is recovered cannot be before the date it is stolen');
+insert into NibrsErrorCodeType  values ('89', '342', 'Property Segment', 'WARNING - PROPERTY DESC(15) HAD VALUE (16) THAT EXCEEDED THRESHOLD OF [$1,000,000]', 'When referenced data element contains a value that exceeds an FBI-assigned threshold amount, a warning message will be created. The participant is asked to check to see if the value entered was a data entry error, or if it was intended to be entered. A warning message is always produced when the value is $1,000,000 or greater. For example, if the value of a property is $12,000.99 but is inadvertently entered as $1,200,099 in the computer record sent to the FBI, a warning message will be generated. In this case, the cents were entered as whole dollars.');
+insert into NibrsErrorCodeType  values ('90', '343', 'Property Segment', 'WARNING - 280 OFFENSE HAS RECOVERED VEHICLE BUT 240 DOESN''T SHOW STOLEN', 'This is a warning message only. This warning is generated when a 280 Stolen Property Offense and a 240 Motor Vehicle Theft are submitted that contain questionable property reporting. When the incident contains a recovered vehicle but does not also have a stolen vehicle, this warning message is created. The incident should be reviewed and if there was indeed a stolen vehicle, the incident should be resubmitted reflecting both stolen and recovered vehicles.');
+insert into NibrsErrorCodeType  values ('91', '351', 'Property Segment', 'PROPERTY VALUE OF ZERO IS NOT ALLOWED', 'Data Element 16 (Value of Property) Cannot be zero unless Data Element 15 (Property Description) is: Mandatory zero 09=Credit/Debit Cards 22=Nonnegotiable Instruments 48=Documents–Personal or Business 65=Identity Documents 66=Identity–Intangible Optional zero 77=Other 99=(blank)–this data value is not currently used by the FBI.by the FBI');
+insert into NibrsErrorCodeType  values ('92', '352', 'Property Segment', 'DATA ELEMENTS 15 - 22 MUST BE BLANK WHEN PROPERTY LOSS CODE=1 OR 8', 'When this error occurs, data were found in one or more of the referenced data elements. These data elements must be blank based on other data element values that prohibit data being entered in these data elements. For example, if Data Element 14 (Type property Loss/Etc.) is 8=Unknown, Data Elements 15 through 22 must be blank. If it is 1=None and offense is 35A, then Data Elements 15 through 19 and 21 through 22 must be blank. If it is 1=None and offense is not 35A, then Data Elements 15 through 22 must be blank. The exception to this rule is when Data Element 6 (UCR Offense Code) is 35A=Drug/ Narcotic Violations and Data Element 14 (Type Property Loss/Etc.) is 1=None; Data Element 20 (Suspected Drug Type) must be entered.');
+insert into NibrsErrorCodeType  values ('93', '353', 'Property Segment', 'PENDING INVENTORY MUST HAVE PROPERTY VALUE OF 1', 'Data Element 15 (Property Description) is 88=Pending Inventory, but Data Element 16 (Value of Property) is not $1. Determine which of the data elements was entered incorrectly.');
+insert into NibrsErrorCodeType  values ('94', '354', 'Property Segment', 'DATA ELEMENT 15 WAS NOT ENTERED, BUT VALUE ($) WAS', 'Data Element 16 (Value of Property) contains a value, but Data Element 15 (Property Description) was not entered.');
+insert into NibrsErrorCodeType  values ('95', '355', 'Property Segment', 'PROPERTY LOSS CODE (14) MUST=5 (RECOVERED) FOR DATA TO BE ENTERED', 'Data Element 14 (Type Property Loss/Etc.) must be 5=Recovered for Data Element 17 (Date Recovered) to be entered.');
+insert into NibrsErrorCodeType  values ('96', '356', 'Property Segment', 'PROPERTY DESCRIPTION (15) AND VALUE (16) MUST BOTH EXIST IF DATA ARE PRESENT', 'Data Element 17 (Date Recovered) was entered, but Data Elements 15 (Property Description) and/or 16 (Property Value) were not entered.');
+insert into NibrsErrorCodeType  values ('97', '357', 'Property Segment', 'PROPERTY LOSS (14) MUST BE 7 WITH AN OFFENSE CODE OF 240 FOR DATA TO BE ENTERED', 'Data Element 18 (Number of Stolen Motor Vehicles) was entered. However, Data Element 14 (Type Property Loss/Etc.) 7=Stolen/Etc. was not entered, and/or Data Element 6 (UCR Offense Code) of 240=Motor Vehicle Theft was not entered, and/or Data Element 7 (Offense Attempted/Completed) was A=Attempted.');
+insert into NibrsErrorCodeType  values ('98', '358', 'Property Segment', 'DATA MUST EXIST WITH AN OFFENSE CODE OF 240 AND A PROPERTY', 'LOSS OF 7 Entry must be made for Data Element 18 (Number of Stolen Motor Vehicles) when Data Element 6 (UCR Offense Code) is 240=Motor Vehicle Theft, Data Element 7 (Offense Attempted/Completed) is C=Completed, and Data Element 14 (Type Property Loss/Etc.) is 7=Stolen/Etc.');
+insert into NibrsErrorCodeType  values ('99', '359', 'Property Segment', 'ALL NONVEHICULAR PROPERTY DESCRIPTIONS WERE ENTERED', 'Must be one of the following when Data Element 18 (Number of Stolen Motor Vehicles) or Data Element 19 (Number of Recovered Motor Vehicles) contain a data value other than 00=Unknown: 03=Automobiles 05=Buses 24=Other Motor Vehicles 28=Recreational Vehicles 37=Trucks');
+insert into NibrsErrorCodeType  values ('100', '360', 'Property Segment', 'PROPERTY LOSS (14) MUST BE 5 WITH AN OFFENSE CODE OF 240 FOR DATA TO BE ENTERED', 'Data Element 19 (Number of Recovered Motor Vehicles) was entered. However, Data Element 14 (Type Property Loss/Etc.) 5=Recovered was not entered, and/or Data Element 6 (UCR Offense Code) of 240=Motor Vehicle Theft was not entered, and/or Data Element 7 (Offense Attempted/Completed) was A=Attempted. The exception to this rule is when recovered property is reported for a pre-NIBRS incident. In this case, Segment Level 3 (Property Segment) will contain A=Add, but the data value in Data Element 2 (Incident Number) will not match an incident already on file in the national UCR database. The segment will be processed, but used only for SRS purposes and will not be included in the agency''s NIBRS figures.');
+insert into NibrsErrorCodeType  values ('101', '361', 'Property Segment', 'DATA MUST EXIST WITH AN OFFENSE CODE OF 240 AND A PROPERTY LOSS OF 5', 'Entry must be made when Data Element 6 (UCR Offense Code) is 240=Motor Vehicle Theft, Data Element 14 (Type Property Loss/Etc.) is 5=Recovered, and Data Element 15 (Property Description) contains a vehicle code.');
+insert into NibrsErrorCodeType  values ('102', '362', 'Property Segment', 'TWO OTHER CODES MUST BE ENTERED WHEN AN ''X'' IS PRESENT', 'Since X=Over 3 Drug Types was entered in Data Element 20 (Suspected Drug Type), two other codes must also be entered. There are less than three codes present.');
+insert into NibrsErrorCodeType  values ('103', '363', 'Property Segment', 'WITH A CODE OF ''X'' BOTH QUANTITY (21) AND MEASUREMENT (22) MUST BE BLANK', 'Since Data Element 20 (Suspected Drug Type) contains X=Over 3 Drug Types, Data Element 21 (Estimated Quantity) and 22 (Type Measurement) must be blank');
+insert into NibrsErrorCodeType  values ('104', '364', 'Property Segment', 'WITH DATA ENTERED BOTH QUANTITY (21) AND MEASUREMENT (22) MUST BE PRESENT', 'When Data Element 6 (UCR Offense Code) is 35A=Drug/Narcotic Violations, 14 (Type Property Loss/Etc.) is 6=Seized, 15 (Type Property Loss/Etc.) is 10=Drugs, and Data Element 20 (Suspected Drug Type) is entered, both Data Element 21 (Estimated Quantity) and 22 (Type Measurement) must also be entered.');
+insert into NibrsErrorCodeType  values ('105', '365', 'Property Segment', 'OFFENSE=35A AND PROPERTY LOSS=6 AND DESCRIPTION=10 MUST EXIST', 'Data Element 20 (Suspected Drug Type) was entered, but one or more required data elements were not entered. Data Element 6 (UCR Offense Code) must be 35A=Drug/Narcotic Violations, Data Element 14 (Type Property Loss/Etc.) must be 6=Seized, and Data Element 15 (Property Description) must be 10=Drugs/Narcotics. There could be multiple underlying reasons causing this error to be detected. One of them might be that Data Element 20 (Suspected Drug Type) was entered by mistake. Perhaps the code entered in Data Element 15 (Property Description) should have been 01=Aircraft, but by entering the code as 10=Drugs/Narcotics, someone thought that Data Element 20 must be entered, etc.');
+insert into NibrsErrorCodeType  values ('106', '366', 'Property Segment', 'WITH DATA ENTERED BOTH TYPE (20) AND MEASUREMENT (22) MUST BE PRESENT', 'Data Element 21 (Estimated Quantity) was entered, but 20 (Suspected Drug Type) and/or 22 (Type Measurement) were not entered; both must be entered.');
+insert into NibrsErrorCodeType  values ('107', '367', 'Property Segment', 'DRUG TYPE MUST BE ''E'', ''G'', OR ''K'' FOR A VALUE OF ''NP''', 'Data Element 22 (Type Measurement) was entered with NP in combination with an illogical drug type. Based upon the various ways a drug can be measured, very few edits can be done to check for illogical combinations of drug type and measurement. The only restriction will be to limit NP=Number of Plants to the following drugs: DRUG MEASUREMENT E=Marijuana NP G=Opium NP K=Other Hallucinogens NP All other Data Element 22 (Type Measurement) codes are applicable to any Data Element 20 (Suspected Drug Type) code.');
+insert into NibrsErrorCodeType  values ('108', '368', 'Property Segment', 'WITH DATA ENTERED BOTH TYPE (20) AND QUANTITY (21) MUST BE PRESENT', 'Data Element 22 (Type Measurement) was entered, but 20 (Suspected Drug Type) and/or 21 (Estimated Quantity) were not entered; both must be entered.');
+insert into NibrsErrorCodeType  values ('109', '372', 'Property Segment', 'DATA ELEMENTS 15-22 WERE ALL BLANK WITH THIS PROPERTY LOSS CODE', 'If Data Element 14 (Type Property/Loss/Etc.) is 2=Burned, 3=Counterfeited/ Forged, 4=Destroyed/Damaged/Vandalized, 5=Recovered, 6=Seized, or 7=Stolen/Etc., Data Elements 15 through 22 must have applicable entries in the segment.');
+insert into NibrsErrorCodeType  values ('110', '375', 'Property Segment', 'MANDATORY FIELD WITH THE PROPERTY LOSS CODE ENTERED', 'At least one Data Element 15 (Property Description) code must be entered when Data Element 14 (Type Property Loss/Etc.) contains Property Segment(s) for: 2=Burned 3=Counterfeited/Forged 4=Destroyed/Damaged/Vandalized 5=Recovered 6=Seized 7=Stolen/Etc.');
+insert into NibrsErrorCodeType  values ('111', '376', 'Property Segment', 'DUPLICATE PROPERTY SEGMENT ON ELECTRONIC SUBMISSION (TYPE LOSS=[loss- code])', 'When a Group ''A'' Incident Report is submitted, the individual segments comprising the incident cannot contain duplicates. Example, two property segments cannot be submitted having the same entry in Data Element 14 (Type Property Loss/Etc.).');
+insert into NibrsErrorCodeType  values ('112', '382', 'Property Segment', 'DRUG/NARCOTIC VIOLATIONS OFFENSE MUST BE SUBMITTED FOR SEIZED DRUGS', 'Segment Level 3 (Property Segment) cannot be submitted with 10=Drugs/Narcotics in Data Element 15 (Property Description) and blanks in Data Element 16 (Value of Property) unless Data Element 6 (UCR Offense Code) is 35A=Drug/Narcotic Violations.');
+insert into NibrsErrorCodeType  values ('113', '383', 'Property Segment', 'PROPERTY VALUE MUST BE BLANK FOR 35A (SINGLE OFFENSE)', 'Data Element 16 (Value of Property) has a value other than zero entered. Since Data Element 15 (Property Description) code is 10=Drugs/Narcotics and the only Crime Against Property offense submitted is a 35A=Drug/Narcotic Violations, Data Element 16 (Value of Property) must be blank.');
+insert into NibrsErrorCodeType  values ('114', '384', 'Property Segment', 'DRUG QUANTITY MUST BE NONE WHEN DRUG MEASUREMENT IS NOT REPORTED', 'Data Element 21 (Estimated Drug Quantity) must be 000000001000=None (i.e., 1) when Data Element 22 (Type Drug Measurement) is XX=Not Reported indicating the drugs were sent to a laboratory for analysis. When the drug analysis is received by the LEA, Data Element 21 and Data Element 22 should be updated with the correct data values.');
+insert into NibrsErrorCodeType  values ('115', '387', 'Property Segment', 'WITH A PROPERTY LOSS=6 AND ONLY OFFENSE 35A CANNOT HAVE DESCRIPTION 11 or WITH A PROPERTY LOSS=6 AND ONLY OFFENSE 35B CANNOT HAVE DESCRIPTION 10', 'To ensure that 35A-35B Drug/Narcotic Offenses- Drug Equipment Violations are properly reported, Data Element 15 (Property Description) of 11=Drug/Narcotic Equipment is not allowed with only a 35A Drug/Narcotic Violation. Similarly, 10=Drugs/Narcotics is not allowed with only a 35B Drug Equipment Violation. And Data Element 14 (Type Property Loss/Etc.) is 6=Seized.');
+insert into NibrsErrorCodeType  values ('116', '388', 'Property Segment', 'NUMBER STOLEN IS LESS THAN NUMBER OF VEHICLE CODES', 'More than one vehicle code was entered in Data Element 15 (Property Description), but the number stolen in Data Element 18 (Number of Stolen Motor Vehicles) is less than this number. For example, if vehicle codes of 03=Automobiles and 05=Buses were entered as being stolen, then the number stolen must be at least 2, unless the number stolen was unknown (00). The exception to this rule is when 00=Unknown is entered in Data Element 18.');
+insert into NibrsErrorCodeType  values ('117', '389', 'Property Segment', 'NUMBER RECOVERED IS LESS THAN NUMBER OF VEHICLE CODES', 'More than one vehicle code was entered in Data Element 15 (Property Description), but the number recovered in Data Element 19 (Number of Recovered Motor Vehicles) was less than this number. For example, if vehicle codes of 03=Automobiles and 05=Buses were entered as being recovered, then the number recovered must be at least 2, unless the number recovered was unknown (00). The exception to this rule is when 00=Unknown is entered in Data Element 18.');
+insert into NibrsErrorCodeType  values ('118', '390', 'Property Segment', 'ILLOGICAL PROPERTY DESCRIPTION FOR THE OFFENSE SUBMITTED', 'Data Element 15 (Property Description) must contain a data value that is logical for one or more of the offenses entered in Data Element 6 (UCR Offense Code). Illogical combinations include: 1) Property descriptions for structures are illogical with 220=Burglary/Breaking & Entering or 240=Motor Vehicle Theft 2) Property descriptions for items that would not fit in a purse or pocket (aircraft, vehicles, structures, a person''s identity, watercraft, etc.) are illogical with 23A=Pocket-picking or 23B=Purse- snatching 3) Property descriptions that cannot be shoplifted due to other UCR definitions (aircraft, vehicles, structures, a person''s identity, watercraft, etc.) are illogical with 23C=Shoplifting 4) Property descriptions for vehicles and structures are illogical with 23D=Theft from Building, 23E=Theft from Coin-Operated Machine or Device, 23F=Theft from Motor Vehicle, and 23G=Theft of Motor Vehicle Parts or Accessories Property descriptions for vehicles are illogical with 23H=All Other Larceny');
+insert into NibrsErrorCodeType  values ('119', '391', 'Property Segment', 'PROPERTY VALUE MUST BE ZERO FOR DESCRIPTION SUBMITTED', 'Data Element 15 (Property Description) has a code that requires a zero value in Data Element 16 (Value of Property). Either the wrong property description code was entered or the property value was not entered. (This error was formerly error number 340, a warning message.) Data Element 16 (Value of Property) must be zero when Data Element 15 (Property Description) is: 09=Credit/Debit Cards 22=Nonnegotiable Instruments 48=Documents–Personal or Business 65=Identity Documents 66=Identity–Intangible');
+insert into NibrsErrorCodeType  values ('120', '392', 'Property Segment', '35A OFFENSE ENTERED AND 1=NONE ENTERED; MISSING SUSPECTED DRUG TYPE (20)', 'An offense of 35A Drug/Narcotic Violations and Data Element 14 (Type Property Loss/Etc.) with1=None were entered but Data Element 20 (Suspected Drug Type) was not submitted. Since a drug');
+insert into NibrsErrorCodeType  values ('121', '401', 'Victim Segment', 'MUST BE PRESENT -- MANDATORY FIELD', 'The referenced data element in a Group A Incident Report must be populated with a valid data value and cannot be blank.');
+insert into NibrsErrorCodeType  values ('122', '402', 'Victim Segment', 'CONTAINS NONNUMERIC DIGITS', 'Must contain numeric entry with zero left-fill.');
+insert into NibrsErrorCodeType  values ('123', '404', 'Victim Segment', 'INVALID DATA VALUE', 'The referenced data element must contain a valid data value when it is entered; blank is permissible on non-mandatory fields.');
+insert into NibrsErrorCodeType  values ('124', '406', 'Victim Segment', 'NCA07: DUPLICATE VALUE=[value]', 'The referenced data element in error is one that contains multiple data values. When more than one code is entered, none can be duplicate codes.');
+insert into NibrsErrorCodeType  values ('125', '407', 'Victim Segment', 'ERROR - MUTUALLY EXCLUSIVE VALUE=[value]', 'Data Element 33 (Type Injury) Can have multiple data values and was entered with multiple values. However, the entry shown between the brackets in [value] above cannot be entered with any other data value.');
+insert into NibrsErrorCodeType  values ('126', '408', 'Victim Segment', 'EXACT AGE MUST BE IN FIRST TWO POSITIONS', 'Data Element 26 (Age of Victim) contains data, but is not left-justified. A single two-character age must be in positions 1 and 2 of the field.');
+insert into NibrsErrorCodeType  values ('127', '409', 'Victim Segment', 'CONTAINS NONNUMERIC ENTRY', 'Data Element 26 (Age of Victim) contains more than two characters indicating a possible age-range was being attempted. If so, the field must contain numeric entry of four digits.');
+insert into NibrsErrorCodeType  values ('128', '410', 'Victim Segment', 'FIRST AGE MUST BE LESS THAN SECOND FOR AGE RANGE', 'Data Element 26 (Age of Victim) was entered as an age-range. Accordingly, the first age component must be less than the second age.');
+insert into NibrsErrorCodeType  values ('129', '415', 'Victim Segment', 'CANNOT HAVE EMBEDDED BLANKS BETWEEN FIRST AND LAST NONBLANK CHARACTERS', 'Data Element 2 (Incident Number) Must be blank right-fill if under 12 characters in length. Cannot have embedded blanks between the first and last characters entered.');
+insert into NibrsErrorCodeType  values ('130', '416', 'Victim Segment', 'MUST BE LEFT- JUSTIFIED–BLANK DETECTED IN FIRST POSITION', 'Data Element 2 (Incident Number) Must be left-justified with blank right-fill if under 12 characters in length.');
+insert into NibrsErrorCodeType  values ('131', '417', 'Victim Segment', 'CANNOT HAVE CHARACTERS OTHER THAN A–Z, 0–9, AND/OR HYPHEN, AND/OR BLANKS', 'Data Element 2 (Incident Number)Must contain a valid character combination of the following: A–Z (capital letters only) 0–9 Hyphen Example: 11-123-SC is valid, but 11+123*SC is not valid.');
+insert into NibrsErrorCodeType  values ('132', '419', 'Victim Segment', 'DATA CAN ONLY BE ENTERED FOR SPECIFIC OFFENSES', 'Data Element 31 (Aggravated Assault/Homicide Circumstances) can only be entered when one or more of the offenses in Data Element 24 (Victim Connected to UCR Offense Code) are: 09A=Murder and Non-negligent Manslaughter 09B=Negligent Manslaughter 09C=Justifiable Homicide 13A=Aggravated Assault Data Element 33 (Type Injury) can only be entered when one or more of the offenses in Data Element 24 (Victim Connected to UCR Offense Code) are: 100=Kidnapping/Abduction 11A=Rape 11B=Sodomy 11C=Sexual Assault With An Object 11D=Fondling 120=Robbery 13A=Aggravated Assault 13B=Simple Assault 210=Extortion/Blackmail 64A=Human Trafficking, Commercial Sex Acts 64B=Human Trafficking, Involuntary Servitude');
+insert into NibrsErrorCodeType  values ('133', '422', 'Victim Segment', 'AGE RANGE CANNOT HAVE ''00'' IN FIRST TWO POSITIONS', 'Data Element 26 (Age of Victim) was entered as an age-range. Therefore, the first age component cannot be 00 (unknown).');
+insert into NibrsErrorCodeType  values ('134', '449', 'Victim Segment', 'WARNING–VICTIM IS SPOUSE, BUT AGE IS LESS THAN 18', 'Data Element 26 (Age of Victim) cannot be less than 18 years old when Data Element 35 (Relationship of Victim to Offender) contains a relationship of SE = Spouse.');
+insert into NibrsErrorCodeType  values ('135', '450', 'Victim Segment', 'VICTIM IS SPOUSE, BUT AGE IS LESS THAN 10', 'Data Element 35 (Relationship of Victim to Offender) contains a relationship of SE=Spouse. When this is so, the age of the victim cannot be less than 10 years.');
+insert into NibrsErrorCodeType  values ('136', '450', 'Victim Segment', 'VICTIM IS SPOUSE, BUT AGE IS LESS THAN 13', 'Data Element 35 (Relationship of Victim to Offender) contains a relationship of SE=Spouse. When this is so, the age of the victim cannot be less than 13 years.');
+insert into NibrsErrorCodeType  values ('137', '451', 'Victim Segment', 'VICTIM NUMBER ALREADY EXISTS', 'When a Group ''A'' Incident Report is submitted, the individual segments comprising the incident cannot contain duplicates. In this case, two victim segments were submitted having the same entry in Data Element 23 (Victim Sequence Number).');
+insert into NibrsErrorCodeType  values ('138', '453', 'Victim Segment', 'MUST BE PRESENT WHEN VICTIM TYPE (25)=I', 'The Data Element associated with this error must be present when Data Element 25 (Type of Victim) is I=Individual.');
+insert into NibrsErrorCodeType  values ('139', '454', 'Victim Segment', 'MUST BE ENTERED WHEN VICTIM TYPE IS LAW ENFORCEMENT OFFICER', 'Data Element 25A (Type of Officer Activity/Circumstance), Data Element 25B (Officer Assignment Type), Data Element 26 (Age of Victim), Data Element 27 (Sex of Victim), and Data Element 28 (Race of Victim) must be entered when Data Element 25 (Type of Victim) is L=Law Enforcement Officer.');
+insert into NibrsErrorCodeType  values ('140', '455', 'Victim Segment', 'ADDITIONAL JUSTIFIABLE HOMICIDE IS MANDATORY WITH A 20 OR 21 ENTERED', 'Data Element 31 (Aggravated Assault/Homicide Circumstances) contains: 20=Criminal Killed by Private Citizen Or 21=Criminal Killed by Police Officer, but Data Element 32 (Additional Justifiable Homicide Circumstances) was not entered.');
+insert into NibrsErrorCodeType  values ('141', '456', 'Victim Segment', 'ONLY ONE VALUE GREATER THAN OR EQUAL TO 10 CAN BE ENTERED', 'Data Element 31 (Aggravated Assault/Homicide Circumstances) was entered with two entries, but was rejected for one of the following reasons: 1) Value 10=Unknown Circumstances is mutually exclusive with any other value. 2) More than one category (i.e., Aggravated Assault, Negligent Manslaughter, etc.) was entered.');
+insert into NibrsErrorCodeType  values ('142', '457', 'Victim Segment', 'WHEN DATA ELEMENT 32 IS ENTERED, DATA ELEMENT 31 MUST EQUAL 20 OR 21', 'Data Element 32 (Additional Justifiable Homicide Circumstances) was entered, but Data Element 31 (Aggravated Assault/Homicide Circumstances) does not reflect a justifiable homicide circumstance.');
+insert into NibrsErrorCodeType  values ('143', '458', 'Victim Segment', 'VICTIM TYPE (25) MUST BE ''I'' OR ''L'' FOR DATA TO BE ENTERED', 'The Data Element associated with this error cannot be entered when Data Element 25 (Type of Victim) is not I=Individual or L=Law Enforcement Officer when Data Element 24 (Victim Connected to UCR Offense Code) contains a Crime Against Person.');
+insert into NibrsErrorCodeType  values ('144', '459', 'Victim Segment', 'NEED A CRIME AGAINST PERSON OR ROBBERY FOR DATA TO BE ENTERED', 'Data Element 34 (Offender Numbers To Be Related) was entered but should only be entered if one or more of the offenses entered into Data Element 24 [Victim Connected to UCR Offense Code(s)] is a Crime Against Person or is a Robbery Offense (120). None of these types of offenses were entered.');
+insert into NibrsErrorCodeType  values ('145', '460', 'Victim Segment', 'RELATIONSHIP MUST BE ENTERED WHEN AN OFFENDER NUMBER (34) EXISTS', 'Corresponding Data Element 35 (Relationship of Victim to Offenders) data must be entered when Data Element 34 (Offender Numbers To Be Related) is entered with a value greater than 00.');
+insert into NibrsErrorCodeType  values ('146', '461', 'Victim Segment', 'VICTIM TYPE CANNOT EQUAL ''S'' WITH AN OFFENSE OF 220', 'Data Element 25 (Type of Victim) cannot have a value of S=Society/Public when the offense is 220=Burglary/Breaking and Entering.');
+insert into NibrsErrorCodeType  values ('147', '462', 'Victim Segment', 'INVALID AGGRAVATED ASSAULT/HOMICIDE FOR 13A OFFENSE', 'An Offense Segment (Level 2) was submitted for 13A=Aggravated Assault. Accordingly, Data Element 31 (Aggravated Assault/Homicide Circumstances) can only have codes of 01 through 06 and 08 through 10. All other codes, including 07=Mercy Killing, are not valid because they do not relate to an aggravated assault');
+insert into NibrsErrorCodeType  values ('148', '463', 'Victim Segment', 'INVALID AGGRAVATED ASSAULT/HOMICIDE FOR 09C OFFENSE', 'When a Justifiable Homicide is reported, Data Element 31 (Aggravated Assault/Homicide Circumstances) can only have codes of 20=Criminal Killed by Private Citizen or 21=Criminal Killed by Police Officer. In this case, a code other than the two mentioned was entered.');
+insert into NibrsErrorCodeType  values ('149', '464', 'Victim Segment', 'ENTRY FOR TYPE OF VICTIM MUST BE ''I'' OR ''L'' WHEN THIS OFFENSE CODE IS ENTERED', 'Data Element 24 (Victim Connected to UCR Offense Codes) contains a Crime Against Person, but Data Element 25 (Type of Victim) is not I=Individual or L=Law Enforcement Officer when Data Element 24 (Victim Connected to UCR Offense Code) contains a Crime Against Person.');
+insert into NibrsErrorCodeType  values ('150', '465', 'Victim Segment', 'ENTRY FOR TYPE OF VICTIM MUST BE ''S'' WHEN THIS OFFENSE CODE IS ENTERED', 'Data Element 24 (Victim Connected to UCR Offense Codes) contains a Crime Against Society, but Data Element 25 (Type of Victim) is not S=Society.');
+insert into NibrsErrorCodeType  values ('151', '466', 'Victim Segment', 'OFFENSE MUST BE SUBMITTED AS LEVEL 2 RECORD IF VICTIM IS CONNECTED', 'Each UCR Offense Code entered into Data Element 24 (Victim Connected to UCR Offense Codes) must have the Offense Segment for the value. In this case, the victim was connected to offenses that were not submitted as Offense Segments. A victim cannot be connected to an offense when the offense itself is not present.');
+insert into NibrsErrorCodeType  values ('152', '467', 'Victim Segment', 'ENTRY FOR TYPE OF VICTIM CANNOT BE ''S'' WHEN THIS OFFENSE CODE IS ENTERED', 'Data Element 24 (Victim Connected to UCR Offense Codes) contains a Crime Against Property, but Data Element 25 (Type of Victim) is S=Society. This is not an allowable code for Crime Against Property offenses.');
+insert into NibrsErrorCodeType  values ('153', '468', 'Victim Segment', 'RELATIONSHIP CANNOT BE ENTERED WHEN RELATED TO OFFENDER NUMBER ''00''', 'Data Element 35 (Relationship of Victim to Offenders) cannot be entered when Data Element 34 (Offender Number to be Related) is zero. Zero means that the number of offenders is unknown; therefore, the relationship cannot be entered.');
+insert into NibrsErrorCodeType  values ('154', '469', 'Victim Segment', 'VICTIM SEX MUST BE ''M'' OR ''F'' FOR AN 11A OR 36B OFFENSE', 'Data Element 27 (Sex of Victim) must be M=Male or F=Female to be connected to offense codes of 11A=Forcible Rape and 36B=Statutory Rape.');
+insert into NibrsErrorCodeType  values ('155', '470', 'Victim Segment', 'WHEN ''VO'' RELATIONSHIP IS PRESENT, MUST HAVE TWO OR MORE VICTIMS AND OFFENDERS', 'Data Element 35 (Relationship of Victim to Offenders) has a relationship of VO=Victim Was Offender. When this code is entered, a minimum of two victim and two offender segments must be submitted. In this case, only one victim and/or one offender segment was submitted. The entry of VO on one or more of the victims indicates situations such as brawls and domestic disputes. In the vast majority of cases, each victim is also the offender; therefore, every victim record would contain a VO code. However, there may be some situations where only one of the victims is also the offender, but where the other victim(s) is not also the offender(s).');
+insert into NibrsErrorCodeType  values ('156', '471', 'Victim Segment', 'ONLY ONE VO RELATIONSHIP PER VICTIM', 'Data Element 35 (Relationship of Victim to Offenders) has relationships of VO=Victim Was Offender that point to multiple offenders, which is an impossible situation. A single victim cannot be two offenders.');
+insert into NibrsErrorCodeType  values ('157', '472', 'Victim Segment', 'WHEN OFFENDER AGE/SEX/RACE ARE UNKNOWN, RELATIONSHIP MUST BE ''RU''=UNKNOWN', 'Data Element 35 (Relationship of Victim to Offenders) has a relationship to the offender that is not logical. In this case, the offender was entered with unknown values for age, sex, and race. Under these circumstances, the relationship must be entered as RU=Relationship Unknown.');
+insert into NibrsErrorCodeType  values ('158', '474', 'Victim Segment', 'ONLY ONE VO RELATIONSHIP CAN BE ASSIGNED TO A SPECIFIC OFFENDER', 'Segment Level 4 (Victim Segment) cannot be submitted multiple times with VO=Victim Was Offender in Data Element 35 (Relationship of Victim to Offender) when Data Element 34 (Offender Number to be Related) contains the same data value (indicating the same offender).');
+insert into NibrsErrorCodeType  values ('159', '475', 'Victim Segment', 'ONLY ONE ''SE''L RELATIONSHIP PER VICTIM', 'A victim can only have one spousal relationship. In this instance, the victim has a relationship of SE=Spouse to two or more offenders.');
+insert into NibrsErrorCodeType  values ('160', '476', 'Victim Segment', 'ONLY ONE ''SE'' RELATIONSHIP CAN BE ASSIGNED TO A SPECIFIC OFFENDER', 'An offender can only have one spousal relationship. In this instance, two or more victims have a relationship of SE=Spouse to the same offender.');
+insert into NibrsErrorCodeType  values ('161', '477', 'Victim Segment', 'INVALID AGGRAVATED ASSAULT/HOMICIDE CIRCUMSTANCES FOR CONNECTED OFFENSE', 'A victim segment was submitted with Data Element 24 (Victim Connected to UCR Offense Code) having an offense that does not have a permitted code for Data Element 31 (Aggravated Assault/Homicide Circumstances). Only those circumstances listed in Volume 1, Section VI, are valid for the particular offense.');
+insert into NibrsErrorCodeType  values ('162', '478', 'Victim Segment', 'VICTIM CONNECTED TO AN INVALID COMBINATION OF OFFENSES', 'Mutually Exclusive offenses are ones that cannot occur to the same victim by UCR definitions. A Lesser Included offense is one that is an element of another offense and should not be reported as having happened to the victim along with the other offense. Lesser Included and Mutually Exclusive offenses are defined as follows: 1) Murder-Aggravated assault, simple assault, and intimidation are all lesser included offenses of murder. Negligent manslaughter is mutually exclusive. 2) Aggravated Assault-Simple assault and intimidation are lesser included Note: Aggravated assault is a lesser included offense of murder, forcible rape, forcible sodomy, sexual assault with an object, and robbery. 3) Simple Assault-Intimidation is a lesser included offense of simple assault. Note: Simple assault is a lesser included offense of murder, aggravated assault, forcible rape, forcible sodomy, sexual assault with an object, forcible fondling, and robbery. 4) Intimidation-Intimidation is a lesser included offense of murder, aggravated assault, forcible rape, forcible sodomy, sexual assault with an object, forcible fondling, and robbery. 5) Negligent Manslaughter-Murder, aggravated assault, simple assault, and intimidation are mutually exclusive offenses. Uniform Crime Reporting Handbook, NIBRS Edition, page 17, defines negligent manslaughter as ''The killing of another person through negligence.'' Page 12 of the same publication shows that assault offenses are characterized by ''unlawful attack[s].'' offenses of aggravated assault. 6) Forcible Rape-Aggravated assault, simple assault, intimidation, and forcible fondling are lesser included offenses of forcible rape. Incest and statutory rape are mutually exclusive offenses and cannot occur with forcible rape. The prior two offenses involve consent, while the latter involves forced action against the victim''s will. 7) Forcible Sodomy-Aggravated assault, simple assault, intimidation, and forcible fondling are lesser included offenses of forcible sodomy. Incest and statutory rape are mutually exclusive offenses and cannot occur with forcible sodomy. The prior two offenses involve consent, while the latter involves forced action against the victim''s will. 8) Sexual Assault with an Object- Aggravated assault, simple assault, intimidation, and forcible fondling are lesser included offenses of sexual assault with an object. Incest and statutory rape are mutually exclusive offenses and cannot occur with sexual assault with an object. The prior two offenses involve consent, while the latter involves forced action against the victim''s will. 9) Forcible Fondling-Simple assault and intimidation are lesser included offenses of forcible fondling. Incest and statutory rape are mutually exclusive offenses and cannot occur with forcible fondling. The prior two offenses involve consent, while the latter involves forced action against the victim''s will. Note: Forcible fondling is a lesser included offense of forcible rape, forcible sodomy, and sexual assault with an object. 10) Incest-Forcible rape, forcible sodomy, sexual assault with an object, and forcible fondling are mutually exclusive offenses. Incest involves consent, while the prior offenses involve forced sexual relations against the victim''s will. 11) Statutory Rape-Forcible Rape, forcible sodomy, sexual assault with an object, and forcible fondling are mutually exclusive offenses. Statutory rape involves consent, while the prior offenses involve forced sexual relations against the victim''s will. 12) Robbery-Aggravated assault, simple assault, intimidation, and all theft offenses (including motor vehicle theft) are lesser included offenses of robbery.');
+insert into NibrsErrorCodeType  values ('163', '479', 'Victim Segment', 'SIMPLE ASSAULT(13B) CANNOT HAVE MAJOR INJURIES', 'A Simple Assault (13B) was committed against a victim, but the victim had major injuries/trauma entered for Data Element 33 (Type Injury). Either the offense should have been classified as an Aggravated Assault (13A) or the victim''s injury should not have been entered as major.');
+insert into NibrsErrorCodeType  values ('164', '480', 'Victim Segment', 'WHEN ASSAULT/HOMICIDE (31) IS 08, INCIDENT MUST HAVE TWO OR MORE OFFENSES', 'Data Element 31 (Aggravated Assault/Homicide Circumstances) has 08=Other Felony Involved but the incident has only one offense. For this code to be used, there must be an Other Felony. Either multiple entries for Data Element 6 (UCR Offense Code) should have been submitted, or multiple individual victims should have been submitted for the incident report.');
+insert into NibrsErrorCodeType  values ('165', '481', 'Victim Segment', 'VICTIM''S AGE MUST BE LESS THAN 18 FOR STATUTORY RAPE (36B)', 'Data Element 26 (Age of Victim) should be under 18 when Data Element 24 (Victim Connected to UCR Offense Code) is 36B=Statutory Rape.');
+insert into NibrsErrorCodeType  values ('166', '482', 'Victim Segment', 'LEOKA VICTIM MUST BE CONNECTED TO MURDER OR ASSAULT OFFENSE', 'Data Element 25 (Type of Victim) cannot be L=Law Enforcement Officer unless Data Element 24 (Victim Connected to UCR Offense Code) is one of the following: 09A=Murder & Non-negligent Manslaughter 13A=Aggravated Assault 13B=Simple Assault 13C=Intimidation');
+insert into NibrsErrorCodeType  values ('167', '483', 'Victim Segment', 'VICTIM MUST BE LAW ENFORCEMENT OFFICER TO ENTER LEOKA DATA', 'Data Element 25A (Type of Officer Activity/Circumstance), Data Element 25B (Officer Assignment Type), Data Element 25C (Officer–ORI Other Jurisdiction), Data Element 26 (Age of Victim), Data Element 27 (Sex of Victim), Data Element 28 (Race of Victim), Data Element 29 (Ethnicity of Victim), Data Element 30 (Resident Status of Victim), and Data Element 34 (Offender Number to be Related) can only be entered when Data Element 25 (Type of Victim) is I=Individual or L=Law Enforcement Officer.');
+insert into NibrsErrorCodeType  values ('168', '484', 'Victim Segment', 'THIS VICTIM SEGMENT HAS A CONFLICTING LENGTH', 'Segment Length for the Victim Segment (Level 4) must be 129 characters (not reporting LEOKA) or 141 characters (reporting LEOKA). All Victim Segments in a submission must be formatted in only one of these two lengths.');
+insert into NibrsErrorCodeType  values ('169', '490', 'Victim Segment', 'INCIDENT DATE/HOUR MUST CONTAIN A VALID ENTRY WITHEN VICTIM IS L=LAW ENFORCEMENT OFFICER', 'When Type of VIctim i L=Law Enforcement Officer and Data Element 24 (Victim Connected to UCR Offense Code) is one of the following: 09A=Murder & Non-negligent Manslaughter 13A=Aggrewavated Assault 13B=Simple Assault 13C=Intimidation Data Element 3 (Incident Date/Hour) must be populated with a valid hour (00-23) and cannot be blank ');
+insert into NibrsErrorCodeType  values ('170', '501', 'Offender Segment', 'MUST BE PRESENT— MANDATORY FIELD', 'The referenced data element in a Group A Incident Report must be populated with a valid data value and cannot be blank.');
+insert into NibrsErrorCodeType  values ('171', '502', 'Offender Segment', 'CONTAINS NONNUMERIC ENTRY', 'Data Element 36 (Offender Sequence Number) must contain numeric entry (00 through 99) with zero left-fill.');
+insert into NibrsErrorCodeType  values ('172', '504', 'Offender Segment', 'INVALID DATA VALUE', 'The referenced data element in a Group A Incident Report must be populated with a valid data value and cannot be blank.');
+insert into NibrsErrorCodeType  values ('173', '508', 'Offender Segment', 'EXACT AGE MUST BE IN FIRST TWO POSITIONS', 'Data Element 37 (Age of Offender) contains data but is not left-justified. A single two-character age must be in positions 1 through 2 of the field.');
+insert into NibrsErrorCodeType  values ('174', '509', 'Offender Segment', 'CONTAINS NONNUMERIC ENTRY', 'Data Element 37 (Age of Offender) contains more than two characters indicating a possible age- range is being attempted. If so, the field must contain a numeric entry of four digits.');
+insert into NibrsErrorCodeType  values ('175', '510', 'Offender Segment', 'FIRST AGE MUST BE LESS THAN SECOND FOR AGE RANGE', 'Data Element 37 (Age of Offender) was entered as an age-range. Accordingly, the first age component must be less than the second age.');
+insert into NibrsErrorCodeType  values ('176', '515', 'Offender Segment', 'CANNOT HAVE EMBEDDED BLANKS BETWEEN FIRST AND LAST NON-BLANK CHARACTERS', 'Must be blank right-fill if under 12 characters in length. Cannot have embedded blanks between the first and last characters entered.');
+insert into NibrsErrorCodeType  values ('177', '516', 'Offender Segment', 'MUST BE LEFT-JUSTIFIED– BLANK DETECTED IN FIRST POSITION', 'Must be left-justified with blank right-fill if under 12 characters in length.');
+insert into NibrsErrorCodeType  values ('178', '517', 'Offender Segment', 'CANNOT HAVE CHARACTERS OTHER THAN A–Z, 0–9, AND/OR HYPHEN, AND/OR BLANKS', 'Must contain a valid character combination of the following: A–Z (capital letters only) 0–9 Hyphen Example: 11-123-SC is valid, but 11+123*SC is not valid.');
+insert into NibrsErrorCodeType  values ('179', '522', 'Offender Segment', 'AGE RANGE CANNOT HAVE ''00'' IN FIRST TWO POSITIONS', 'Data Element 37 (Age of Offender) was entered as an age-range. Therefore, the first age component cannot be 00 (unknown).');
+insert into NibrsErrorCodeType  values ('180', '549', 'Offender Segment', 'WARNING–OFFENDER IS SPOUSE, BUT AGE IS LESS THAN 18', 'Data Element 37 (Age of Offender) cannot be less than 18 years old when Data Element 35 (Relationship of Victim to Offender) contains a relationship of SE = Spouse.');
+insert into NibrsErrorCodeType  values ('181', '550', 'Offender Segment', 'OFFENDER IS SPOUSE, BUT AGE IS LESS THAN 10', 'Cannot be less than 10 years old when Data Element 35 (Relationship of Victim to Offender) contains a relationship of SE=Spouse.');
+insert into NibrsErrorCodeType  values ('182', '550', 'Offender Segment', 'OFFENDER IS SPOUSE, BUT AGE IS LESS THAN 13', 'Cannot be less than 10 years old when Data Element 35 (Relationship of Victim to Offender) contains a relationship of SE=Spouse.');
+insert into NibrsErrorCodeType  values ('183', '551', 'Offender Segment', 'DUPLICATE OFFENDER SEGMENT', 'When a Group ''A'' Incident Report is submitted, the individual segments comprising the incident cannot contain duplicates. In this case, two Offender Segments were submitted having the same entry in Data Element 36 (Offender Sequence Number).');
+insert into NibrsErrorCodeType  values ('184', '552', 'Offender Segment', 'CANNOT BE PRESENT WHEN OFFENDER NUMBER IS ''00'' UNKNOWN', 'Data Element 37 (Age of Offender) cannot be entered when Data Element 36 (Offender Sequence Number) is 00=Unknown.');
+insert into NibrsErrorCodeType  values ('185', '553', 'Offender Segment', 'SEX OF VICTIM AND OFFENDER DOES NOT REFLECT THE RELATIONSHIP', 'Data Element 35 (Relationship of Victim to Offenders) has a relationship that is inconsistent with the offender''s sex. The sex of the victim and/or offender must reflect the implied relationship. For example, if the relationship of the victim to offender is Homosexual Relationship, then the victim''s sex must be the same as the offender''s sex. The following relationships must reflect either the Same or Different sex codes depending upon this relationship: Relationship Sex Code BG=Victim was Boyfriend/Girlfriend Different XS=Victim was Ex-Spouse Different SE=Victim was Spouse Different CS=Victim was Common-Law Spouse Different HR=Homosexual Relationship Same');
+insert into NibrsErrorCodeType  values ('186', '554', 'Offender Segment', 'AGE OF VICTIM AND OFFENDER DOES NOT REFLECT THE RELATIONSHIP', 'Data Element 35 (Relationship of Victim to Offenders) has a relationship that is inconsistent with the offender''s age. The age of the victim and/or offender must reflect the implied relationship. For example, if the relationship of the victim to offender is PA=Parent, then the victim''s age must be greater than the offender''s age. The following relationships must be consistent with the victim''s age in relation to the offender''s age: Relationship Victim''s Age Is CH=Victim was Child Younger PA=Victim was Parent Older GP=Victim was Grandparent Older GC=Victim was Grandchild Younger');
+insert into NibrsErrorCodeType  values ('187', '555', 'Offender Segment', 'OFFENDER ''00'' EXISTS— CANNOT SUBMIT MORE OFFENDERS', 'When multiple Offender Segments are submitted, none can contain a 00=Unknown value because the presence of 00 indicates that the number of offenders is unknown. In this case, multiple offenders were submitted, but one of the segments contains the 00=Unknown value.');
+insert into NibrsErrorCodeType  values ('188', '556', 'Offender Segment', 'OFFENDER AGE MUST BE NUMERIC DIGITS', 'Data Element 37 (Age of Offender) must contain numeric entry of 00 through 99');
+insert into NibrsErrorCodeType  values ('189', '557', 'Offender Segment', 'OFFENDER SEQUENCE NUMBER CANNOT BE UNKNOWN IF INCIDENT CLEARED EXCEPTIONALLY', 'Data Element 36 (Offender Sequence Number) contains 00 indicating that nothing is known about the offender(s) regarding number and any identifying information. In order to exceptionally clear the incident, the value cannot be 00. The incident was submitted with Data Element 4 (Cleared Exceptionally) having a value of A through E.');
+insert into NibrsErrorCodeType  values ('190', '558', 'Offender Segment', 'AT LEAST ONE OFFENDER MUST BE COMPLETELY KNOWN', 'None of the Offender Segments contain all known values for Age, Sex, and Race. When an Incident is cleared exceptionally (Data Element 4 contains an A through E), one offender must have all known values.');
+insert into NibrsErrorCodeType  values ('191', '559', 'Offender Segment', 'OFFENDER DATA MUST BE PRESENT IF OFFENSE CODE IS 09C, JUSTIFIABLE HOMICIDE', 'The incident was submitted with Data Element 6 (UCR Offense Code) value of 09C=Justifiable Homicide, but unknown information was submitted for all the offender(s). At least one of the offenders must have known information for Age, Sex, and Race.');
+insert into NibrsErrorCodeType  values ('192', '560', 'Offender Segment', 'VICTIM''S SEX CANNOT BE SAME FOR ALL OFFENDERS FOR OFFENSES OF RAPE', 'Segment Level 5 (Offender Segment) must contain a data value for at least one offender in Data Element 38 (Sex of Offender) that is not the same sex that is entered in Data Element 27 (Sex of Victim) when Data Element 6 (UCR Offense Code) is 11A=Rape.');
+insert into NibrsErrorCodeType  values ('193', '572', 'Offender Segment', 'RELATIONSHIP UNKNOWN IF OFFENDER INFO MISSING', 'Data Element 37 (Age of Offender) If Data Element 37 (Age of Offender) is 00=Unknown, Data Element 38 (Sex of Offender) is U=Unknown, and Data Element 39 (Race of Offender) is U=Unknown then Data Element 35 (Relationship of Victim to Offender) must be RU=Relationship Unknown.');
+insert into NibrsErrorCodeType  values ('194', '584', 'Offender Segment', 'THIS OFFENDER SEGMENT HAS A CONFLICTING LENGTH', 'Segment Length for the Offender Segment (Level 5) must be 45 characters (not reporting Offender Ethnicity) or 46 characters (reporting Offender Ethnicity). All Offender Segments in a submission must be formatted in only one of these two lengths.');
+insert into NibrsErrorCodeType  values ('195', '601', 'Arrestee Segment', 'MUST BE PRESENT— MANDATORY FIELD', 'The referenced data element in a Group A Incident Report must be populated with a valid data value and cannot be blank.');
+insert into NibrsErrorCodeType  values ('196', '602', 'Arrestee Segment', 'CONTAINS NONNUMERIC ENTRY', 'Data Element 40 (Arrestee Sequence Number) must be numeric entry of 01 to 99 with zero left- fill.');
+insert into NibrsErrorCodeType  values ('197', '604', 'Arrestee Segment', 'INVALID DATA VALUE -- NOT ON FBI VALIDATION TABLE', 'The referenced data element in a Group A Incident Report must be populated with a valid data value and cannot be blank.');
+insert into NibrsErrorCodeType  values ('198', '605', 'Arrestee Segment', 'INVALID ARREST DATE', 'Data Element 42 (Arrest Date) Each component of the date must be valid; that is, months must be 01 through 12, days must be 01 through 31, and year must include the century (i.e., 19xx, 20xx). In addition, days cannot exceed maximum for the month (e.g., June cannot have 31 days). The date cannot exceed the current date. The date cannot be later than that entered within the Month of Electronic submission and Year of Electronic submission fields on the data record. For example, if Month of Electronic submission and Year of Electronic submission are 06/1999, the arrest date cannot contain any date 07/01/1999 or later.');
+insert into NibrsErrorCodeType  values ('199', '606', 'Arrestee Segment', 'ERROR - DUPLICATE VALUE=[value]', 'Data Element 46 (Arrestee Was Armed With) The referenced data element in error is one that contains multiple data values. When more than one code is entered, none can be duplicate codes.');
+insert into NibrsErrorCodeType  values ('200', '607', 'Arrestee Segment', 'ERROR - MUTUALLY EXCLUSIVE VALUE=[value]', 'Data Element 46 (Arrestee Was Armed With) can have multiple data values and was entered with multiple values. However, the entry shown between the brackets in [value] above cannot be entered with any other data value.');
+insert into NibrsErrorCodeType  values ('201', '608', 'Arrestee Segment', 'EXACT AGE MUST BE IN FIRST TWO POSITIONS', 'Data Element 47 (Age of Arrestee) contains data, but is not left-justified. A single two-character age must be in positions 1 through 2 of the field.');
+insert into NibrsErrorCodeType  values ('202', '609', 'Arrestee Segment', 'CONTAINS NONNUMERIC ENTRY', 'Data Element 47 (Age of Arrestee) contains more than two characters indicating a possible age- range is being attempted. If so, the field must contain a numeric entry of four digits.');
+insert into NibrsErrorCodeType  values ('203', '610', 'Arrestee Segment', 'FIRST AGE MUST BE LESS THAN SECOND FOR AGE RANGE', 'Data Element 47 (Age of Arrestee) was entered as an age-range. Accordingly, the first age component must be less than the second age.');
+insert into NibrsErrorCodeType  values ('204', '615', 'Arrestee Segment', 'CANNOT HAVE EMBEDDED BLANKS BETWEEN FIRST AND LAST NON-BLANK CHARACTERS', 'Must be blank right-fill if under 12 characters in length. Cannot have embedded blanks between the first and last characters entered.');
+insert into NibrsErrorCodeType  values ('205', '616', 'Arrestee Segment', 'MUST BE LEFT-JUSTIFIED— BLANK DETECTED IN FIRST POSITION', 'Data Element 2 (Incident Number) and Data Element 41 (Arrest Transaction Number) must be left justified with blank right-fill when less than 12 characters in length.');
+insert into NibrsErrorCodeType  values ('206', '617', 'Arrestee Segment', 'CANNOT HAVE CHARACTERS OTHER THAN A-Z, 0-9, HYPHENS, AND/OR BLANKS', 'Data Element 2 (Incident Number) Must contain a valid character combination of the following: A–Z (capital letters only) 0–9 Hyphen Example: 11-123-SC is valid, but 11+123*SC is not valid.');
+insert into NibrsErrorCodeType  values ('207', '618', 'Arrestee Segment', 'ARREST DATE CANNOT BE ON OR AFTER THE INACTIVE DATE OF THE ORI', 'Data Element 42 (Arrest Date) The UCR Program has determined that an ORI will no longer be submitting data to the FBI as of an inactive date. No arrest data from this ORI will be accepted after this date.');
+insert into NibrsErrorCodeType  values ('208', '622', 'Arrestee Segment', 'AGE RANGE CANNOT HAVE ''00'' IN FIRST TWO POSITIONS', 'Data Element 47 (Age of Arrestee) was entered as an age-range. Therefore, the first age component cannot be 00 (unknown).');
+insert into NibrsErrorCodeType  values ('209', '623', 'Arrestee Segment', 'CLEARANCE INDICATOR AND CLEARANCE OFFENSE CODE MUST BE BLANK', 'Clearance Indicator and Clearance Offense Code must be blank when Segment Action Type on Level 6 (Arrestee Segment) is I=Incident.');
+insert into NibrsErrorCodeType  values ('210', '640', 'Arrestee Segment', 'WARNING–NO DISPOSITION FOR POSSIBLE JUVENILE ARRESTEE', 'Data Element 52 (Disposition of Arrestee Under 18) was not entered, but Data Element 47 (Age of Arrestee) indicates an age-range for a juvenile. The low age is a juvenile and the high age is an adult, but the average age is a juvenile. Note: When an age-range is not entered and the age is a juvenile, then the disposition must be entered. These circumstances were flagged by the computer as a possible discrepancy between age and disposition and should be checked for possible correction by the participant.');
+insert into NibrsErrorCodeType  values ('211', '641', 'Arrestee Segment', 'WARNING - ARRESTEE HAD AN AGE OF 99 OR OLDER', 'Data Element 47 (Age of Arrestee) was entered with a value of 99 which means the arrestee was over 98 years old. Verify that the submitter of data is not confusing the 99=Over 98 Years Old with 00=Unknown.');
+insert into NibrsErrorCodeType  values ('212', '652', 'Arrestee Segment', 'DISPOSITION MUST BE ENTERED WHEN AGE IS LESS THAN 18', 'Data Element 52 (Disposition of Juvenile) was not entered, but Data Element 47 (Age of Arrestee) is under 18. Whenever an arrestee''s age indicates a juvenile, the disposition must be entered.');
+insert into NibrsErrorCodeType  values ('213', '653', 'Arrestee Segment', 'FOR AGE GREATER THAN 17 DISPOSITION SHOULD NOT BE ENTERED', 'Data Element 52 (Disposition of Juvenile) was entered, but Data Element 47 (Age of Arrestee) is 18 or greater. Whenever an arrestee''s age indicates an adult, the juvenile disposition cannot be entered because it does not apply.');
+insert into NibrsErrorCodeType  values ('214', '654', 'Arrestee Segment', 'AUTOMATIC INDICATOR MUST BE BLANK OR ''A''', 'Data Element 46 (Arrestee Was Armed With) does not have A=Automatic or a blank in the third position of field.');
+insert into NibrsErrorCodeType  values ('215', '655', 'Arrestee Segment', 'WEAPON TYPE MUST=11, 12, 13, 14, OR 15 FOR AN ''A'' IN THE AUTO INDICATOR', 'In Data Element 46 (Arrestee Was Armed With), A=Automatic is the third character of code. It is valid only with codes: 11=Firearm (Type Not Stated) 12=Handgun 13=Rifle 14=Shotgun 15=Other Firearm A weapon code other than those mentioned was entered with the automatic indicator. An automatic weapon is, by definition, a firearm.');
+insert into NibrsErrorCodeType  values ('216', '656', 'Arrestee Segment', 'THIS ARRESTEE EXCEEDED THE NUMBER OF OFFENDERS ON THE GROUP ''A'' INCIDENT', 'A Group ''A'' Incident Report was submitted with more arrestees than offenders. The number (nn) of offenders is shown within the message. The incident must be resubmitted with additional Offender Segments. This message will also occur if an arrestee was submitted and Data Element 36 (Offender Sequence Number) was 00=Unknown. The exception to this rule is when an additional arrest is reported for a pre-NIBRS incident. In this case, Segment Level 6 (Arrestee Segment) will contain A=Add, but the data value in Data Element 2 (Incident Number) will not match an incident already on file in the national UCR database. The segment will be processed, but used only for SRS purposes and will not be included in the agency''s NIBRS figures.');
+insert into NibrsErrorCodeType  values ('217', '661', 'Arrestee Segment', 'ARRESTEE SEQUENCE NUMBER ALREADY EXISTS', 'Segment Level 6 (Arrestee Segment) cannot contain duplicate data values in Data Element 40 (Arrestee Sequence Number) when two or more Arrestee Segments are submitted for the same incident.');
+insert into NibrsErrorCodeType  values ('218', '664', 'Arrestee Segment', 'ARRESTEE AGE MUST BE NUMERIC DIGITS', 'Data Element 47 (Age of Arrestee) does not contain a numeric entry of 00 through 99 for an exact age.');
+insert into NibrsErrorCodeType  values ('219', '665', 'Arrestee Segment', 'ARREST DATE CANNOT BE BEFORE THE INCIDENT START DATE', 'Data Element 42 (Arrest Date) cannot be earlier than Data Element 3 (Incident Date/Hour). A person cannot be arrested before the incident occurred.');
+insert into NibrsErrorCodeType  values ('220', '667', 'Arrestee Segment', 'INVALID ARRESTEE SEX VALUE', 'Data Element 48 (Sex of Arrestee) does not contain a valid code of M=Male or F=Female. Note: U=Unknown (if entered) is not a valid sex for an arrestee.');
+insert into NibrsErrorCodeType  values ('221', '669', 'Arrestee Segment', 'NO ARRESTEE RECORDS ALLOWED FOR A JUSTIFIABLE HOMICIDE', 'Group ''A'' Incident Reports cannot have arrests when Data Element 6 (UCR Offense Code) is 09C=Justifiable Homicide. By definition a justifiable homicide never involves an arrest of the offender (the person who committed the justifiable homicide).');
+insert into NibrsErrorCodeType  values ('222', '670', 'Arrestee Segment', 'JUSTIFIABLE HOMICIDE CANNOT BE AN ARREST OFFENSE CODE', 'Data Element 45 (UCR Arrest Offense Code) was entered with 09C=Justifiable Homicide. This is not a valid arrest offense');
+insert into NibrsErrorCodeType  values ('223', '701', 'Group B Arrest Segment', 'MUST BE POPULATED WITH A VALID DATA VALUE– MANDATORY FIELD', 'The referenced data element in a Group B Arrest Report must be populated with a valid data value and cannot be blank.');
+insert into NibrsErrorCodeType  values ('224', '702', 'Group B Arrest Segment', 'CONTAINS NONNUMERIC ENTRY', 'Data Element 40 (Arrestee Sequence Number) must be numeric entry of 01 to 99 with zero left- fill.');
+insert into NibrsErrorCodeType  values ('225', '704', 'Group B Arrest Segment', 'INVALID DATA VALUE', 'The referenced data element in a Group A Incident Report must be populated with a valid data value and cannot be blank.');
+insert into NibrsErrorCodeType  values ('226', '705', 'Group B Arrest Segment', 'INVALID ARREST DATE', 'Data Element 42 (Arrest Date) Each component of the date must be valid; that is, months must be 01 through 12, days must be 01 through 31, and year must include the century (i.e., 19xx, 20xx). In addition, days cannot exceed maximum for the month (e.g., June cannot have 31 days). The date cannot exceed the current date. The date cannot be later than that entered within the Month of Electronic submission and Year of Electronic submission fields on the data record. For example, if Month of Electronic submission and Year of Electronic submission are 06/1999, the arrest date cannot contain any date 07/01/1999 or later.');
+insert into NibrsErrorCodeType  values ('227', '706', 'Group B Arrest Segment', 'ERROR - DUPLICATE VALUE=[value]', 'Data Element 46 (Arrestee Was Armed With) cannot contain duplicate data values although more than one data value is allowed.');
+insert into NibrsErrorCodeType  values ('228', '707', 'Group B Arrest Segment', 'ERROR - MUTUALLY EXCLUSIVE VALUE=[value]', 'Data Element 46 (Arrestee Was Armed With) can have multiple data values and was entered with multiple values. However, the entry shown between the brackets in [value] above cannot be entered with any other data value.');
+insert into NibrsErrorCodeType  values ('229', '708', 'Group B Arrest Segment', 'EXACT AGE MUST BE IN FIRST TWO POSITIONS', 'Data Element 47 (Age of Arrestee) contains data, but is not left-justified. A single two-character age must be in positions 1 through 2 of the field.');
+insert into NibrsErrorCodeType  values ('230', '709', 'Group B Arrest Segment', 'CONTAINS NONNUMERIC ENTRY', 'Data Element 47 (Age of Arrestee) contains more than two characters indicating a possible age-range is being attempted. If so, the field must contain numeric entry of four digits.');
+insert into NibrsErrorCodeType  values ('231', '710', 'Group B Arrest Segment', 'FIRST AGE MUST BE LESS THAN SECOND FOR AGE RANGE', 'Data Element 47 (Age of Arrestee) was entered as an age-range. Accordingly, the first age component must be less than the second age.');
+insert into NibrsErrorCodeType  values ('232', '715', 'Group B Arrest Segment', 'CANNOT HAVE EMBEDDED BLANKS BETWEEN FIRST AND LAST NON-BLANK CHARACTERS', 'Must be blank right-fill if under 12 characters in length. Cannot have embedded blanks between the first and last characters entered.');
+insert into NibrsErrorCodeType  values ('233', '716', 'Group B Arrest Segment', 'MUST BE LEFT-JUSTIFIED– BLANK DETECTED IN FIRST POSITION', 'Must be left-justified with blank right-fill if under 12 characters in length.');
+insert into NibrsErrorCodeType  values ('234', '717', 'Group B Arrest Segment', 'CANNOT HAVE CHARACTERS OTHER THAN A–Z, 0–9, AND/OR HYPHENS, AND/OR BLANKS', 'Must contain a valid character combination of the following: A–Z (capital letters only) 0–9 Hyphen Example: 11-123-SC is valid, but 11+123*SC is not valid.');
+insert into NibrsErrorCodeType  values ('235', '718', 'Group B Arrest Segment', 'ARREST DATE CANNOT BE ON OR AFTER THE INACTIVE DATE OF THE ORI', 'Data Element 42 (Arrest Date) The UCR Program has determined that an ORI will no longer be submitting data to the FBI as of an inactive date. No arrest data from this ORI will be accepted after this date.');
+insert into NibrsErrorCodeType  values ('236', '720', 'Group B Arrest Segment', 'ARREST DATE CANNOT PREDATE BASE DATE', 'Group ''B'' Arrest Report (Level 7) submitted with a Segment Action Type of A=Add cannot have Data Element 42 (Arrest Date) earlier than the Base Date.');
+insert into NibrsErrorCodeType  values ('237', '722', 'Group B Arrest Segment', 'AGE RANGE CANNOT HAVE ''00'' IN FIRST TWO POSITIONS', 'Data Element 47 (Age of Arrestee) was entered as an age-range. Therefore, the first age component cannot be 00 (unknown).');
+insert into NibrsErrorCodeType  values ('238', '740', 'Group B Arrest Segment', 'WARNING–NO DISPOSITION FOR POSSIBLE JUVENILE ARRESTEE', 'Data Element 52 (Disposition of Arrestee Under 18) was not entered, but Data Element 47 (Age of Arrestee) indicates an age-range for a juvenile. The low age is a juvenile and the high age is an adult, but the average age is a juvenile. Note: When an age-range is not entered and the age is a juvenile, the disposition must be entered. These circumstances were flagged by the computer as a possible discrepancy between age and disposition and should be checked for possible correction by the participant');
+insert into NibrsErrorCodeType  values ('239', '741', 'Group B Arrest Segment', 'WARNING–ARRESTEE IS OVER AGE 98', 'Data Element 47 (Age of Arrestee) was entered with a value of 99, which means the arrestee is over 98 years old. The submitter should verify that 99=Over 98 Years Old is not being confused the with 00=Unknown.');
+insert into NibrsErrorCodeType  values ('240', '751', 'Group B Arrest Segment', 'ARRESTEE SEQUENCE NUMBER ALREADY EXISTS', 'When a Group ''B'' Arrest Report (Level 7) has two or more arrestees, the individual segments comprising the report cannot contain duplicates. In this case, two arrestee segments were submitted having the same entry in Data Element 40 (Arrestee Sequence Number).');
+insert into NibrsErrorCodeType  values ('241', '752', 'Group B Arrest Segment', 'DISPOSITION MUST BE ENTERED WHEN AGE IS LESS THAN 18', 'Data Element 52 (Disposition of Juvenile) was not entered, but Data Element 47 (Age of Arrestee) is under 18. Whenever an arrestee''s age indicates a juvenile, the disposition must be entered.');
+insert into NibrsErrorCodeType  values ('242', '753', 'Group B Arrest Segment', 'FOR AGE GREATER THAN 17 DISPOSITION SHOULD NOT BE ENTERED', 'Data Element 52 (Disposition of Juvenile) was entered, but Data Element 47 (Age of Arrestee) is 18 or greater. Whenever an arrestee''s age indicates an adult, the juvenile disposition cannot be entered because it does not apply.');
+insert into NibrsErrorCodeType  values ('243', '754', 'Group B Arrest Segment', 'AUTOMATIC INDICATOR MUST BE BLANK OR ''A''', 'Data Element 46 (Arrestee Was Armed With) does not have A=Automatic or a blank in the third position of field.');
+insert into NibrsErrorCodeType  values ('244', '755', 'Group B Arrest Segment', 'WEAPON TYPE MUST=11, 12, 13, 14, OR 15 FOR AN ''A'' IN THE AUTO INDICATOR', 'If Data Element 46 (Arrestee Was Armed With) weapon is an Automatic, add A as the third character of code; valid only with codes of: 11=Firearm (Type Not Stated) 12=Handgun 13=Rifle 14=Shotgun 15=Other Firearm A weapon code other than those mentioned was entered with the automatic indicator. An automatic weapon is, by definition, a firearm.');
+insert into NibrsErrorCodeType  values ('245', '757', 'Group B Arrest Segment', 'ARRESTEE AGE MUST BE NUMERIC DIGITS', 'Data Element 47 (Age of Arrestee) does not contain a numeric entry of 00 through 99 for an exact age.');
+insert into NibrsErrorCodeType  values ('246', '758', 'Group B Arrest Segment', 'INVALID ARRESTEE SEX VALUE', 'Data Element 48 (Sex of Arrestee) does not contain a valid code of M=Male or F=Female. Note that U=Unknown (if entered) is not a valid sex for an arrestee.');
+insert into NibrsErrorCodeType  values ('247', '759', 'Group B Arrest Segment', 'DUPLICATE GROUP ''B'' ARREST REPORT SEGMENT ON FILE', 'The Group ''B'' Arrest Report (Level 7) submitted as an Add is currently active in the FBI''s database; therefore, it was rejected. If multiple arrestees are involved in the incident, ensure that Data Element 40 (Arrestee Sequence Number) is unique for each Arrestee Segment submitted so that duplication does not occur.');
+insert into NibrsErrorCodeType  values ('248', '760', 'Group B Arrest Segment', 'LEVEL 7 ARRESTS MUST HAVE A GROUP ''B'' OFFENSE', 'Group ''B'' Arrest Reports (Level 7) must contain a Group ''B'' Offense Code in Data Element 45 (UCR Arrest Offense). The offense code submitted is not a Group ''B'' offense code.');
+insert into NibrsErrorCodeType  values ('249', '761', 'Group B Arrest Segment', 'ARRESTEE AGE MUST BE 01–17 FOR A RUNAWAY OFFENSE', 'Data Element 47 (Age of Arrestee) must be 01 through 17 for offense code of 90I=Runaway on a Group ''B'' Arrest Report.');
+insert into NibrsErrorCodeType  values ('250', '797', 'Group B Arrest Segment', 'MISSING ARREST DATE FOR DELETE OF GROUP B ARREST', 'Data Element 42 (Arrest Date) is missing for a Group B Arrest Report with a Segment Action Type of D=Delete;must be populated with a valid data value and cannot be blank.');
+insert into NibrsErrorCodeType  values ('251', '798', 'Group B Arrest Segment', 'MISSING ARREST DATE FOR DELETE -ARREST TRANSACTION NUMBER MATCHES GROUP B ARREST REPORT WITH ARREST DATE OUTSIDE TWO YEAR WINDOW', 'Data Element 42 (Arrest Date) is missing for a Group B Arrest Report with a Segment Action Type of D=Delete; at least one Group B Arrest Report is on file that matches Data Element 41 (Arrest Transaction Number) with an Arrest Date outside the two year window.');
+insert into NibrsErrorCodeType  values ('252', '799', 'Group B Arrest Segment', 'MISSING ARREST DATE FOR DELETE -ARREST TRANSACTION NUMBER MATCHES MULTIPLE GROUP B ARREST REPORTS', 'Data Element 42 (Arrest Date) is missing for a Group B Arrest Report with a Segment Action Type of D=Delete; multiple Group B Arrest Reports are on file that match Data Element 41 (Arrest Transasction Number).');
+insert into NibrsErrorCodeType  values ('253', '1', 'Zero Report Segment', 'MUST BE POPULATED WITH A VALID DATA VALUE– MANDATORY FIELD', 'Mandatory Data Elements (Mandatory=Yes) must be populated with a valid data value and cannot be blank.');
+insert into NibrsErrorCodeType  values ('254', '90', 'Structure Check', 'ZERO-REPORTING MONTH IS NOT 01-12', 'A Segment Level 0 was submitted that had an invalid reporting month in positions 38 through 39. The data entered must be a valid month of 01 through 12.');
+insert into NibrsErrorCodeType  values ('255', '92', 'Structure Check', 'ZERO-REPORTING INCIDENT NUMBER MUST BE ALL ZEROS', 'A Segment Level 0 was submitted, but the incident number entered into positions 26 through 37 was not all zeros.');
+insert into NibrsErrorCodeType  values ('256', '93', 'Structure Check', 'ZERO-REPORTING MONTH/YEAR WAS PRIOR TO THE BASE DATE', 'A Segment Level 0 was submitted with a month and year entered into positions 38 through 43 that is earlier than January 1 of the previous year or before the date the agency converted over to NIBRS.');
+insert into NibrsErrorCodeType  values ('257', '94', 'Structure Check', 'ZERO-REPORTING MONTH/YEAR EXCEEDED MONTH/YEAR OF ELECTRONIC SUBMISSION', 'A Segment Level 0 was submitted with a month and year entered into positions 38 through 43 that was later than the Month of Electronic submission and Year of Electronic submission entered into positions 7 through 12. Note: Error Numbers 001, 015, 016, and 017 are also Zero-Reporting segment errors.');
+insert into NibrsErrorCodeType  values ('258', '90', 'Zero Report Segment', 'ZERO REPORT MONTH IS NOT 01–12', 'Zero Report Month must be a valid month, data values 01 through 12.');
+insert into NibrsErrorCodeType  values ('259', '92', 'Zero Report Segment', 'ZERO REPORT INCIDENT NUMBER MUST BE ALL ZEROS', 'Data Element 2 (Incident Number) in the Zero Report Segment (Level 0) must contain 12 zeros.');
+insert into NibrsErrorCodeType  values ('260', '93', 'Zero Report Segment', 'ZERO REPORT MONTH/YEAR IS PRIOR TO AGENCY CONVERSION TO THE NIBRS', 'Zero Report Month and Zero Report Year must be later than the month and year in the date the LEA converted to the NIBRS.');
+insert into NibrsErrorCodeType  values ('261', '94', 'Zero Report Segment', 'ZERO REPORT MONTH/YEAR EXCEEDED MONTH/YEAR OF SUBMISSION', 'Zero Report Month and Zero Report Year must be earlier than Month of Submission and Year of Submission.');
+insert into NibrsErrorCodeType  values ('262', '930', 'Structure Check', 'INVALID ORI – ORI MARKED FOR HISTORICAL REFERENCE ', 'ORI is no longer able to submit data because they have been marked for historical reference only. ');
+insert into NibrsErrorCodeType  values ('263', '931', 'Structure Check', 'INVALID ORI – ORI MARKED FOR HISTORICAL REFERENCE ', 'The ORI already exists in the reference table for a different agency. Validate that the ORI is accurate. ');
+insert into NibrsErrorCodeType  values ('264', '932', 'Structure Check', 'INVALID ORI - THE ORI INFORMATION IS DUPLICATED IN THE REFERENCE DATA ', 'The ORI submitted was not found in the reference data table. Verification is needed to ensure that the submitting agency is providing an accurate ORI for the data submission. ');
+insert into NibrsErrorCodeType  values ('265', '933', 'Structure Check', 'INVALID ORI - THE ORI IS COVERED BY ANOTHER AGENCY ', 'The ORI submitted is currently in a covered by status. Verification is needed to ensure that the information being provided is accurate and/or to ensure that the submitting agency is now providing its own information and is no longer in covered by status.');
+insert into NibrsErrorCodeType  values ('266', '934', 'Structure Check', 'INVALID ORI - THE ORI WAS NOT FOUND IN THE REFERENCE DATA ', 'The ORI submitted is in delete status. Verification is needed to ensure this is accurate. ');
+insert into NibrsErrorCodeType  values ('99999', '999', 'Unknown', 'Unknown', 'Unknown');
+insert into NibrsErrorCodeType  values ('99998', ' ', 'Blank', 'Blank', 'Blank');
+insert into DateType  values ('1827', '2015-01-01' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 1 , 'Thursday', 5, '01012015');
+insert into DateType  values ('1828', '2015-01-02' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 2 , 'Friday', 6, '01022015');
+insert into DateType  values ('1829', '2015-01-03' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 3 , 'Saturday', 7, '01032015');
+insert into DateType  values ('1830', '2015-01-04' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 4 , 'Sunday', 1, '01042015');
+insert into DateType  values ('1831', '2015-01-05' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 5 , 'Monday', 2, '01052015');
+insert into DateType  values ('1832', '2015-01-06' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 6 , 'Tuesday', 3, '01062015');
+insert into DateType  values ('1833', '2015-01-07' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 7 , 'Wednesday', 4, '01072015');
+insert into DateType  values ('1834', '2015-01-08' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 8 , 'Thursday', 5, '01082015');
+insert into DateType  values ('1835', '2015-01-09' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 9 , 'Friday', 6, '01092015');
+insert into DateType  values ('1836', '2015-01-10' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 10 , 'Saturday', 7, '01102015');
+insert into DateType  values ('1837', '2015-01-11' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 11 , 'Sunday', 1, '01112015');
+insert into DateType  values ('1838', '2015-01-12' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 12 , 'Monday', 2, '01122015');
+insert into DateType  values ('1839', '2015-01-13' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 13 , 'Tuesday', 3, '01132015');
+insert into DateType  values ('1840', '2015-01-14' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 14 , 'Wednesday', 4, '01142015');
+insert into DateType  values ('1841', '2015-01-15' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 15 , 'Thursday', 5, '01152015');
+insert into DateType  values ('1842', '2015-01-16' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 16 , 'Friday', 6, '01162015');
+insert into DateType  values ('1843', '2015-01-17' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 17 , 'Saturday', 7, '01172015');
+insert into DateType  values ('1844', '2015-01-18' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 18 , 'Sunday', 1, '01182015');
+insert into DateType  values ('1845', '2015-01-19' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 19 , 'Monday', 2, '01192015');
+insert into DateType  values ('1846', '2015-01-20' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 20 , 'Tuesday', 3, '01202015');
+insert into DateType  values ('1847', '2015-01-21' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 21 , 'Wednesday', 4, '01212015');
+insert into DateType  values ('1848', '2015-01-22' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 22 , 'Thursday', 5, '01222015');
+insert into DateType  values ('1849', '2015-01-23' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 23 , 'Friday', 6, '01232015');
+insert into DateType  values ('1850', '2015-01-24' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 24 , 'Saturday', 7, '01242015');
+insert into DateType  values ('1851', '2015-01-25' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 25 , 'Sunday', 1, '01252015');
+insert into DateType  values ('1852', '2015-01-26' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 26 , 'Monday', 2, '01262015');
+insert into DateType  values ('1853', '2015-01-27' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 27 , 'Tuesday', 3, '01272015');
+insert into DateType  values ('1854', '2015-01-28' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 28 , 'Wednesday', 4, '01282015');
+insert into DateType  values ('1855', '2015-01-29' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 29 , 'Thursday', 5, '01292015');
+insert into DateType  values ('1856', '2015-01-30' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 30 , 'Friday', 6, '01302015');
+insert into DateType  values ('1857', '2015-01-31' , 2015 , '2015', 1 , 1 , 'January', '2015-01' , 31 , 'Saturday', 7, '01312015');
+insert into DateType  values ('1858', '2015-02-01' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 32 , 'Sunday', 1, '02012015');
+insert into DateType  values ('1859', '2015-02-02' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 33 , 'Monday', 2, '02022015');
+insert into DateType  values ('1860', '2015-02-03' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 34 , 'Tuesday', 3, '02032015');
+insert into DateType  values ('1861', '2015-02-04' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 35 , 'Wednesday', 4, '02042015');
+insert into DateType  values ('1862', '2015-02-05' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 36 , 'Thursday', 5, '02052015');
+insert into DateType  values ('1863', '2015-02-06' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 37 , 'Friday', 6, '02062015');
+insert into DateType  values ('1864', '2015-02-07' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 38 , 'Saturday', 7, '02072015');
+insert into DateType  values ('1865', '2015-02-08' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 39 , 'Sunday', 1, '02082015');
+insert into DateType  values ('1866', '2015-02-09' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 40 , 'Monday', 2, '02092015');
+insert into DateType  values ('1867', '2015-02-10' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 41 , 'Tuesday', 3, '02102015');
+insert into DateType  values ('1868', '2015-02-11' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 42 , 'Wednesday', 4, '02112015');
+insert into DateType  values ('1869', '2015-02-12' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 43 , 'Thursday', 5, '02122015');
+insert into DateType  values ('1870', '2015-02-13' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 44 , 'Friday', 6, '02132015');
+insert into DateType  values ('1871', '2015-02-14' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 45 , 'Saturday', 7, '02142015');
+insert into DateType  values ('1872', '2015-02-15' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 46 , 'Sunday', 1, '02152015');
+insert into DateType  values ('1873', '2015-02-16' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 47 , 'Monday', 2, '02162015');
+insert into DateType  values ('1874', '2015-02-17' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 48 , 'Tuesday', 3, '02172015');
+insert into DateType  values ('1875', '2015-02-18' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 49 , 'Wednesday', 4, '02182015');
+insert into DateType  values ('1876', '2015-02-19' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 50 , 'Thursday', 5, '02192015');
+insert into DateType  values ('1877', '2015-02-20' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 51 , 'Friday', 6, '02202015');
+insert into DateType  values ('1878', '2015-02-21' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 52 , 'Saturday', 7, '02212015');
+insert into DateType  values ('1879', '2015-02-22' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 53 , 'Sunday', 1, '02222015');
+insert into DateType  values ('1880', '2015-02-23' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 54 , 'Monday', 2, '02232015');
+insert into DateType  values ('1881', '2015-02-24' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 55 , 'Tuesday', 3, '02242015');
+insert into DateType  values ('1882', '2015-02-25' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 56 , 'Wednesday', 4, '02252015');
+insert into DateType  values ('1883', '2015-02-26' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 57 , 'Thursday', 5, '02262015');
+insert into DateType  values ('1884', '2015-02-27' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 58 , 'Friday', 6, '02272015');
+insert into DateType  values ('1885', '2015-02-28' , 2015 , '2015', 1 , 2 , 'February', '2015-02' , 59 , 'Saturday', 7, '02282015');
+insert into DateType  values ('1886', '2015-03-01' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 60 , 'Sunday', 1, '03012015');
+insert into DateType  values ('1887', '2015-03-02' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 61 , 'Monday', 2, '03022015');
+insert into DateType  values ('1888', '2015-03-03' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 62 , 'Tuesday', 3, '03032015');
+insert into DateType  values ('1889', '2015-03-04' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 63 , 'Wednesday', 4, '03042015');
+insert into DateType  values ('1890', '2015-03-05' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 64 , 'Thursday', 5, '03052015');
+insert into DateType  values ('1891', '2015-03-06' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 65 , 'Friday', 6, '03062015');
+insert into DateType  values ('1892', '2015-03-07' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 66 , 'Saturday', 7, '03072015');
+insert into DateType  values ('1893', '2015-03-08' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 67 , 'Sunday', 1, '03082015');
+insert into DateType  values ('1894', '2015-03-09' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 68 , 'Monday', 2, '03092015');
+insert into DateType  values ('1895', '2015-03-10' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 69 , 'Tuesday', 3, '03102015');
+insert into DateType  values ('1896', '2015-03-11' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 70 , 'Wednesday', 4, '03112015');
+insert into DateType  values ('1897', '2015-03-12' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 71 , 'Thursday', 5, '03122015');
+insert into DateType  values ('1898', '2015-03-13' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 72 , 'Friday', 6, '03132015');
+insert into DateType  values ('1899', '2015-03-14' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 73 , 'Saturday', 7, '03142015');
+insert into DateType  values ('1900', '2015-03-15' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 74 , 'Sunday', 1, '03152015');
+insert into DateType  values ('1901', '2015-03-16' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 75 , 'Monday', 2, '03162015');
+insert into DateType  values ('1902', '2015-03-17' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 76 , 'Tuesday', 3, '03172015');
+insert into DateType  values ('1903', '2015-03-18' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 77 , 'Wednesday', 4, '03182015');
+insert into DateType  values ('1904', '2015-03-19' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 78 , 'Thursday', 5, '03192015');
+insert into DateType  values ('1905', '2015-03-20' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 79 , 'Friday', 6, '03202015');
+insert into DateType  values ('1906', '2015-03-21' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 80 , 'Saturday', 7, '03212015');
+insert into DateType  values ('1907', '2015-03-22' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 81 , 'Sunday', 1, '03222015');
+insert into DateType  values ('1908', '2015-03-23' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 82 , 'Monday', 2, '03232015');
+insert into DateType  values ('1909', '2015-03-24' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 83 , 'Tuesday', 3, '03242015');
+insert into DateType  values ('1910', '2015-03-25' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 84 , 'Wednesday', 4, '03252015');
+insert into DateType  values ('1911', '2015-03-26' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 85 , 'Thursday', 5, '03262015');
+insert into DateType  values ('1912', '2015-03-27' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 86 , 'Friday', 6, '03272015');
+insert into DateType  values ('1913', '2015-03-28' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 87 , 'Saturday', 7, '03282015');
+insert into DateType  values ('1914', '2015-03-29' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 88 , 'Sunday', 1, '03292015');
+insert into DateType  values ('1915', '2015-03-30' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 89 , 'Monday', 2, '03302015');
+insert into DateType  values ('1916', '2015-03-31' , 2015 , '2015', 1 , 3 , 'March', '2015-03' , 90 , 'Tuesday', 3, '03312015');
+insert into DateType  values ('1917', '2015-04-01' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 91 , 'Wednesday', 4, '04012015');
+insert into DateType  values ('1918', '2015-04-02' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 92 , 'Thursday', 5, '04022015');
+insert into DateType  values ('1919', '2015-04-03' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 93 , 'Friday', 6, '04032015');
+insert into DateType  values ('1920', '2015-04-04' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 94 , 'Saturday', 7, '04042015');
+insert into DateType  values ('1921', '2015-04-05' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 95 , 'Sunday', 1, '04052015');
+insert into DateType  values ('1922', '2015-04-06' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 96 , 'Monday', 2, '04062015');
+insert into DateType  values ('1923', '2015-04-07' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 97 , 'Tuesday', 3, '04072015');
+insert into DateType  values ('1924', '2015-04-08' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 98 , 'Wednesday', 4, '04082015');
+insert into DateType  values ('1925', '2015-04-09' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 99 , 'Thursday', 5, '04092015');
+insert into DateType  values ('1926', '2015-04-10' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 100 , 'Friday', 6, '04102015');
+insert into DateType  values ('1927', '2015-04-11' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 101 , 'Saturday', 7, '04112015');
+insert into DateType  values ('1928', '2015-04-12' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 102 , 'Sunday', 1, '04122015');
+insert into DateType  values ('1929', '2015-04-13' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 103 , 'Monday', 2, '04132015');
+insert into DateType  values ('1930', '2015-04-14' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 104 , 'Tuesday', 3, '04142015');
+insert into DateType  values ('1931', '2015-04-15' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 105 , 'Wednesday', 4, '04152015');
+insert into DateType  values ('1932', '2015-04-16' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 106 , 'Thursday', 5, '04162015');
+insert into DateType  values ('1933', '2015-04-17' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 107 , 'Friday', 6, '04172015');
+insert into DateType  values ('1934', '2015-04-18' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 108 , 'Saturday', 7, '04182015');
+insert into DateType  values ('1935', '2015-04-19' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 109 , 'Sunday', 1, '04192015');
+insert into DateType  values ('1936', '2015-04-20' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 110 , 'Monday', 2, '04202015');
+insert into DateType  values ('1937', '2015-04-21' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 111 , 'Tuesday', 3, '04212015');
+insert into DateType  values ('1938', '2015-04-22' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 112 , 'Wednesday', 4, '04222015');
+insert into DateType  values ('1939', '2015-04-23' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 113 , 'Thursday', 5, '04232015');
+insert into DateType  values ('1940', '2015-04-24' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 114 , 'Friday', 6, '04242015');
+insert into DateType  values ('1941', '2015-04-25' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 115 , 'Saturday', 7, '04252015');
+insert into DateType  values ('1942', '2015-04-26' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 116 , 'Sunday', 1, '04262015');
+insert into DateType  values ('1943', '2015-04-27' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 117 , 'Monday', 2, '04272015');
+insert into DateType  values ('1944', '2015-04-28' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 118 , 'Tuesday', 3, '04282015');
+insert into DateType  values ('1945', '2015-04-29' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 119 , 'Wednesday', 4, '04292015');
+insert into DateType  values ('1946', '2015-04-30' , 2015 , '2015', 2 , 4 , 'April', '2015-04' , 120 , 'Thursday', 5, '04302015');
+insert into DateType  values ('1947', '2015-05-01' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 121 , 'Friday', 6, '05012015');
+insert into DateType  values ('1948', '2015-05-02' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 122 , 'Saturday', 7, '05022015');
+insert into DateType  values ('1949', '2015-05-03' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 123 , 'Sunday', 1, '05032015');
+insert into DateType  values ('1950', '2015-05-04' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 124 , 'Monday', 2, '05042015');
+insert into DateType  values ('1951', '2015-05-05' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 125 , 'Tuesday', 3, '05052015');
+insert into DateType  values ('1952', '2015-05-06' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 126 , 'Wednesday', 4, '05062015');
+insert into DateType  values ('1953', '2015-05-07' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 127 , 'Thursday', 5, '05072015');
+insert into DateType  values ('1954', '2015-05-08' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 128 , 'Friday', 6, '05082015');
+insert into DateType  values ('1955', '2015-05-09' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 129 , 'Saturday', 7, '05092015');
+insert into DateType  values ('1956', '2015-05-10' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 130 , 'Sunday', 1, '05102015');
+insert into DateType  values ('1957', '2015-05-11' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 131 , 'Monday', 2, '05112015');
+insert into DateType  values ('1958', '2015-05-12' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 132 , 'Tuesday', 3, '05122015');
+insert into DateType  values ('1959', '2015-05-13' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 133 , 'Wednesday', 4, '05132015');
+insert into DateType  values ('1960', '2015-05-14' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 134 , 'Thursday', 5, '05142015');
+insert into DateType  values ('1961', '2015-05-15' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 135 , 'Friday', 6, '05152015');
+insert into DateType  values ('1962', '2015-05-16' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 136 , 'Saturday', 7, '05162015');
+insert into DateType  values ('1963', '2015-05-17' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 137 , 'Sunday', 1, '05172015');
+insert into DateType  values ('1964', '2015-05-18' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 138 , 'Monday', 2, '05182015');
+insert into DateType  values ('1965', '2015-05-19' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 139 , 'Tuesday', 3, '05192015');
+insert into DateType  values ('1966', '2015-05-20' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 140 , 'Wednesday', 4, '05202015');
+insert into DateType  values ('1967', '2015-05-21' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 141 , 'Thursday', 5, '05212015');
+insert into DateType  values ('1968', '2015-05-22' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 142 , 'Friday', 6, '05222015');
+insert into DateType  values ('1969', '2015-05-23' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 143 , 'Saturday', 7, '05232015');
+insert into DateType  values ('1970', '2015-05-24' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 144 , 'Sunday', 1, '05242015');
+insert into DateType  values ('1971', '2015-05-25' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 145 , 'Monday', 2, '05252015');
+insert into DateType  values ('1972', '2015-05-26' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 146 , 'Tuesday', 3, '05262015');
+insert into DateType  values ('1973', '2015-05-27' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 147 , 'Wednesday', 4, '05272015');
+insert into DateType  values ('1974', '2015-05-28' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 148 , 'Thursday', 5, '05282015');
+insert into DateType  values ('1975', '2015-05-29' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 149 , 'Friday', 6, '05292015');
+insert into DateType  values ('1976', '2015-05-30' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 150 , 'Saturday', 7, '05302015');
+insert into DateType  values ('1977', '2015-05-31' , 2015 , '2015', 2 , 5 , 'May', '2015-05' , 151 , 'Sunday', 1, '05312015');
+insert into DateType  values ('1978', '2015-06-01' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 152 , 'Monday', 2, '06012015');
+insert into DateType  values ('1979', '2015-06-02' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 153 , 'Tuesday', 3, '06022015');
+insert into DateType  values ('1980', '2015-06-03' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 154 , 'Wednesday', 4, '06032015');
+insert into DateType  values ('1981', '2015-06-04' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 155 , 'Thursday', 5, '06042015');
+insert into DateType  values ('1982', '2015-06-05' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 156 , 'Friday', 6, '06052015');
+insert into DateType  values ('1983', '2015-06-06' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 157 , 'Saturday', 7, '06062015');
+insert into DateType  values ('1984', '2015-06-07' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 158 , 'Sunday', 1, '06072015');
+insert into DateType  values ('1985', '2015-06-08' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 159 , 'Monday', 2, '06082015');
+insert into DateType  values ('1986', '2015-06-09' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 160 , 'Tuesday', 3, '06092015');
+insert into DateType  values ('1987', '2015-06-10' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 161 , 'Wednesday', 4, '06102015');
+insert into DateType  values ('1988', '2015-06-11' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 162 , 'Thursday', 5, '06112015');
+insert into DateType  values ('1989', '2015-06-12' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 163 , 'Friday', 6, '06122015');
+insert into DateType  values ('1990', '2015-06-13' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 164 , 'Saturday', 7, '06132015');
+insert into DateType  values ('1991', '2015-06-14' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 165 , 'Sunday', 1, '06142015');
+insert into DateType  values ('1992', '2015-06-15' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 166 , 'Monday', 2, '06152015');
+insert into DateType  values ('1993', '2015-06-16' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 167 , 'Tuesday', 3, '06162015');
+insert into DateType  values ('1994', '2015-06-17' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 168 , 'Wednesday', 4, '06172015');
+insert into DateType  values ('1995', '2015-06-18' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 169 , 'Thursday', 5, '06182015');
+insert into DateType  values ('1996', '2015-06-19' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 170 , 'Friday', 6, '06192015');
+insert into DateType  values ('1997', '2015-06-20' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 171 , 'Saturday', 7, '06202015');
+insert into DateType  values ('1998', '2015-06-21' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 172 , 'Sunday', 1, '06212015');
+insert into DateType  values ('1999', '2015-06-22' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 173 , 'Monday', 2, '06222015');
+insert into DateType  values ('2000', '2015-06-23' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 174 , 'Tuesday', 3, '06232015');
+insert into DateType  values ('2001', '2015-06-24' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 175 , 'Wednesday', 4, '06242015');
+insert into DateType  values ('2002', '2015-06-25' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 176 , 'Thursday', 5, '06252015');
+insert into DateType  values ('2003', '2015-06-26' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 177 , 'Friday', 6, '06262015');
+insert into DateType  values ('2004', '2015-06-27' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 178 , 'Saturday', 7, '06272015');
+insert into DateType  values ('2005', '2015-06-28' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 179 , 'Sunday', 1, '06282015');
+insert into DateType  values ('2006', '2015-06-29' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 180 , 'Monday', 2, '06292015');
+insert into DateType  values ('2007', '2015-06-30' , 2015 , '2015', 2 , 6 , 'June', '2015-06' , 181 , 'Tuesday', 3, '06302015');
+insert into DateType  values ('2008', '2015-07-01' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 182 , 'Wednesday', 4, '07012015');
+insert into DateType  values ('2009', '2015-07-02' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 183 , 'Thursday', 5, '07022015');
+insert into DateType  values ('2010', '2015-07-03' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 184 , 'Friday', 6, '07032015');
+insert into DateType  values ('2011', '2015-07-04' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 185 , 'Saturday', 7, '07042015');
+insert into DateType  values ('2012', '2015-07-05' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 186 , 'Sunday', 1, '07052015');
+insert into DateType  values ('2013', '2015-07-06' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 187 , 'Monday', 2, '07062015');
+insert into DateType  values ('2014', '2015-07-07' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 188 , 'Tuesday', 3, '07072015');
+insert into DateType  values ('2015', '2015-07-08' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 189 , 'Wednesday', 4, '07082015');
+insert into DateType  values ('2016', '2015-07-09' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 190 , 'Thursday', 5, '07092015');
+insert into DateType  values ('2017', '2015-07-10' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 191 , 'Friday', 6, '07102015');
+insert into DateType  values ('2018', '2015-07-11' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 192 , 'Saturday', 7, '07112015');
+insert into DateType  values ('2019', '2015-07-12' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 193 , 'Sunday', 1, '07122015');
+insert into DateType  values ('2020', '2015-07-13' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 194 , 'Monday', 2, '07132015');
+insert into DateType  values ('2021', '2015-07-14' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 195 , 'Tuesday', 3, '07142015');
+insert into DateType  values ('2022', '2015-07-15' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 196 , 'Wednesday', 4, '07152015');
+insert into DateType  values ('2023', '2015-07-16' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 197 , 'Thursday', 5, '07162015');
+insert into DateType  values ('2024', '2015-07-17' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 198 , 'Friday', 6, '07172015');
+insert into DateType  values ('2025', '2015-07-18' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 199 , 'Saturday', 7, '07182015');
+insert into DateType  values ('2026', '2015-07-19' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 200 , 'Sunday', 1, '07192015');
+insert into DateType  values ('2027', '2015-07-20' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 201 , 'Monday', 2, '07202015');
+insert into DateType  values ('2028', '2015-07-21' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 202 , 'Tuesday', 3, '07212015');
+insert into DateType  values ('2029', '2015-07-22' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 203 , 'Wednesday', 4, '07222015');
+insert into DateType  values ('2030', '2015-07-23' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 204 , 'Thursday', 5, '07232015');
+insert into DateType  values ('2031', '2015-07-24' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 205 , 'Friday', 6, '07242015');
+insert into DateType  values ('2032', '2015-07-25' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 206 , 'Saturday', 7, '07252015');
+insert into DateType  values ('2033', '2015-07-26' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 207 , 'Sunday', 1, '07262015');
+insert into DateType  values ('2034', '2015-07-27' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 208 , 'Monday', 2, '07272015');
+insert into DateType  values ('2035', '2015-07-28' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 209 , 'Tuesday', 3, '07282015');
+insert into DateType  values ('2036', '2015-07-29' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 210 , 'Wednesday', 4, '07292015');
+insert into DateType  values ('2037', '2015-07-30' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 211 , 'Thursday', 5, '07302015');
+insert into DateType  values ('2038', '2015-07-31' , 2015 , '2015', 3 , 7 , 'July', '2015-07' , 212 , 'Friday', 6, '07312015');
+insert into DateType  values ('2039', '2015-08-01' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 213 , 'Saturday', 7, '08012015');
+insert into DateType  values ('2040', '2015-08-02' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 214 , 'Sunday', 1, '08022015');
+insert into DateType  values ('2041', '2015-08-03' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 215 , 'Monday', 2, '08032015');
+insert into DateType  values ('2042', '2015-08-04' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 216 , 'Tuesday', 3, '08042015');
+insert into DateType  values ('2043', '2015-08-05' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 217 , 'Wednesday', 4, '08052015');
+insert into DateType  values ('2044', '2015-08-06' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 218 , 'Thursday', 5, '08062015');
+insert into DateType  values ('2045', '2015-08-07' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 219 , 'Friday', 6, '08072015');
+insert into DateType  values ('2046', '2015-08-08' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 220 , 'Saturday', 7, '08082015');
+insert into DateType  values ('2047', '2015-08-09' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 221 , 'Sunday', 1, '08092015');
+insert into DateType  values ('2048', '2015-08-10' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 222 , 'Monday', 2, '08102015');
+insert into DateType  values ('2049', '2015-08-11' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 223 , 'Tuesday', 3, '08112015');
+insert into DateType  values ('2050', '2015-08-12' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 224 , 'Wednesday', 4, '08122015');
+insert into DateType  values ('2051', '2015-08-13' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 225 , 'Thursday', 5, '08132015');
+insert into DateType  values ('2052', '2015-08-14' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 226 , 'Friday', 6, '08142015');
+insert into DateType  values ('2053', '2015-08-15' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 227 , 'Saturday', 7, '08152015');
+insert into DateType  values ('2054', '2015-08-16' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 228 , 'Sunday', 1, '08162015');
+insert into DateType  values ('2055', '2015-08-17' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 229 , 'Monday', 2, '08172015');
+insert into DateType  values ('2056', '2015-08-18' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 230 , 'Tuesday', 3, '08182015');
+insert into DateType  values ('2057', '2015-08-19' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 231 , 'Wednesday', 4, '08192015');
+insert into DateType  values ('2058', '2015-08-20' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 232 , 'Thursday', 5, '08202015');
+insert into DateType  values ('2059', '2015-08-21' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 233 , 'Friday', 6, '08212015');
+insert into DateType  values ('2060', '2015-08-22' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 234 , 'Saturday', 7, '08222015');
+insert into DateType  values ('2061', '2015-08-23' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 235 , 'Sunday', 1, '08232015');
+insert into DateType  values ('2062', '2015-08-24' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 236 , 'Monday', 2, '08242015');
+insert into DateType  values ('2063', '2015-08-25' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 237 , 'Tuesday', 3, '08252015');
+insert into DateType  values ('2064', '2015-08-26' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 238 , 'Wednesday', 4, '08262015');
+insert into DateType  values ('2065', '2015-08-27' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 239 , 'Thursday', 5, '08272015');
+insert into DateType  values ('2066', '2015-08-28' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 240 , 'Friday', 6, '08282015');
+insert into DateType  values ('2067', '2015-08-29' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 241 , 'Saturday', 7, '08292015');
+insert into DateType  values ('2068', '2015-08-30' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 242 , 'Sunday', 1, '08302015');
+insert into DateType  values ('2069', '2015-08-31' , 2015 , '2015', 3 , 8 , 'August', '2015-08' , 243 , 'Monday', 2, '08312015');
+insert into DateType  values ('2070', '2015-09-01' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 244 , 'Tuesday', 3, '09012015');
+insert into DateType  values ('2071', '2015-09-02' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 245 , 'Wednesday', 4, '09022015');
+insert into DateType  values ('2072', '2015-09-03' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 246 , 'Thursday', 5, '09032015');
+insert into DateType  values ('2073', '2015-09-04' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 247 , 'Friday', 6, '09042015');
+insert into DateType  values ('2074', '2015-09-05' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 248 , 'Saturday', 7, '09052015');
+insert into DateType  values ('2075', '2015-09-06' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 249 , 'Sunday', 1, '09062015');
+insert into DateType  values ('2076', '2015-09-07' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 250 , 'Monday', 2, '09072015');
+insert into DateType  values ('2077', '2015-09-08' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 251 , 'Tuesday', 3, '09082015');
+insert into DateType  values ('2078', '2015-09-09' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 252 , 'Wednesday', 4, '09092015');
+insert into DateType  values ('2079', '2015-09-10' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 253 , 'Thursday', 5, '09102015');
+insert into DateType  values ('2080', '2015-09-11' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 254 , 'Friday', 6, '09112015');
+insert into DateType  values ('2081', '2015-09-12' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 255 , 'Saturday', 7, '09122015');
+insert into DateType  values ('2082', '2015-09-13' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 256 , 'Sunday', 1, '09132015');
+insert into DateType  values ('2083', '2015-09-14' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 257 , 'Monday', 2, '09142015');
+insert into DateType  values ('2084', '2015-09-15' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 258 , 'Tuesday', 3, '09152015');
+insert into DateType  values ('2085', '2015-09-16' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 259 , 'Wednesday', 4, '09162015');
+insert into DateType  values ('2086', '2015-09-17' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 260 , 'Thursday', 5, '09172015');
+insert into DateType  values ('2087', '2015-09-18' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 261 , 'Friday', 6, '09182015');
+insert into DateType  values ('2088', '2015-09-19' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 262 , 'Saturday', 7, '09192015');
+insert into DateType  values ('2089', '2015-09-20' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 263 , 'Sunday', 1, '09202015');
+insert into DateType  values ('2090', '2015-09-21' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 264 , 'Monday', 2, '09212015');
+insert into DateType  values ('2091', '2015-09-22' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 265 , 'Tuesday', 3, '09222015');
+insert into DateType  values ('2092', '2015-09-23' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 266 , 'Wednesday', 4, '09232015');
+insert into DateType  values ('2093', '2015-09-24' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 267 , 'Thursday', 5, '09242015');
+insert into DateType  values ('2094', '2015-09-25' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 268 , 'Friday', 6, '09252015');
+insert into DateType  values ('2095', '2015-09-26' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 269 , 'Saturday', 7, '09262015');
+insert into DateType  values ('2096', '2015-09-27' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 270 , 'Sunday', 1, '09272015');
+insert into DateType  values ('2097', '2015-09-28' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 271 , 'Monday', 2, '09282015');
+insert into DateType  values ('2098', '2015-09-29' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 272 , 'Tuesday', 3, '09292015');
+insert into DateType  values ('2099', '2015-09-30' , 2015 , '2015', 3 , 9 , 'September', '2015-09' , 273 , 'Wednesday', 4, '09302015');
+insert into DateType  values ('2100', '2015-10-01' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 274 , 'Thursday', 5, '10012015');
+insert into DateType  values ('2101', '2015-10-02' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 275 , 'Friday', 6, '10022015');
+insert into DateType  values ('2102', '2015-10-03' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 276 , 'Saturday', 7, '10032015');
+insert into DateType  values ('2103', '2015-10-04' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 277 , 'Sunday', 1, '10042015');
+insert into DateType  values ('2104', '2015-10-05' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 278 , 'Monday', 2, '10052015');
+insert into DateType  values ('2105', '2015-10-06' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 279 , 'Tuesday', 3, '10062015');
+insert into DateType  values ('2106', '2015-10-07' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 280 , 'Wednesday', 4, '10072015');
+insert into DateType  values ('2107', '2015-10-08' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 281 , 'Thursday', 5, '10082015');
+insert into DateType  values ('2108', '2015-10-09' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 282 , 'Friday', 6, '10092015');
+insert into DateType  values ('2109', '2015-10-10' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 283 , 'Saturday', 7, '10102015');
+insert into DateType  values ('2110', '2015-10-11' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 284 , 'Sunday', 1, '10112015');
+insert into DateType  values ('2111', '2015-10-12' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 285 , 'Monday', 2, '10122015');
+insert into DateType  values ('2112', '2015-10-13' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 286 , 'Tuesday', 3, '10132015');
+insert into DateType  values ('2113', '2015-10-14' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 287 , 'Wednesday', 4, '10142015');
+insert into DateType  values ('2114', '2015-10-15' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 288 , 'Thursday', 5, '10152015');
+insert into DateType  values ('2115', '2015-10-16' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 289 , 'Friday', 6, '10162015');
+insert into DateType  values ('2116', '2015-10-17' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 290 , 'Saturday', 7, '10172015');
+insert into DateType  values ('2117', '2015-10-18' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 291 , 'Sunday', 1, '10182015');
+insert into DateType  values ('2118', '2015-10-19' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 292 , 'Monday', 2, '10192015');
+insert into DateType  values ('2119', '2015-10-20' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 293 , 'Tuesday', 3, '10202015');
+insert into DateType  values ('2120', '2015-10-21' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 294 , 'Wednesday', 4, '10212015');
+insert into DateType  values ('2121', '2015-10-22' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 295 , 'Thursday', 5, '10222015');
+insert into DateType  values ('2122', '2015-10-23' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 296 , 'Friday', 6, '10232015');
+insert into DateType  values ('2123', '2015-10-24' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 297 , 'Saturday', 7, '10242015');
+insert into DateType  values ('2124', '2015-10-25' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 298 , 'Sunday', 1, '10252015');
+insert into DateType  values ('2125', '2015-10-26' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 299 , 'Monday', 2, '10262015');
+insert into DateType  values ('2126', '2015-10-27' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 300 , 'Tuesday', 3, '10272015');
+insert into DateType  values ('2127', '2015-10-28' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 301 , 'Wednesday', 4, '10282015');
+insert into DateType  values ('2128', '2015-10-29' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 302 , 'Thursday', 5, '10292015');
+insert into DateType  values ('2129', '2015-10-30' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 303 , 'Friday', 6, '10302015');
+insert into DateType  values ('2130', '2015-10-31' , 2015 , '2015', 4 , 10 , 'October', '2015-10' , 304 , 'Saturday', 7, '10312015');
+insert into DateType  values ('2131', '2015-11-01' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 305 , 'Sunday', 1, '11012015');
+insert into DateType  values ('2132', '2015-11-02' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 306 , 'Monday', 2, '11022015');
+insert into DateType  values ('2133', '2015-11-03' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 307 , 'Tuesday', 3, '11032015');
+insert into DateType  values ('2134', '2015-11-04' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 308 , 'Wednesday', 4, '11042015');
+insert into DateType  values ('2135', '2015-11-05' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 309 , 'Thursday', 5, '11052015');
+insert into DateType  values ('2136', '2015-11-06' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 310 , 'Friday', 6, '11062015');
+insert into DateType  values ('2137', '2015-11-07' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 311 , 'Saturday', 7, '11072015');
+insert into DateType  values ('2138', '2015-11-08' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 312 , 'Sunday', 1, '11082015');
+insert into DateType  values ('2139', '2015-11-09' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 313 , 'Monday', 2, '11092015');
+insert into DateType  values ('2140', '2015-11-10' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 314 , 'Tuesday', 3, '11102015');
+insert into DateType  values ('2141', '2015-11-11' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 315 , 'Wednesday', 4, '11112015');
+insert into DateType  values ('2142', '2015-11-12' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 316 , 'Thursday', 5, '11122015');
+insert into DateType  values ('2143', '2015-11-13' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 317 , 'Friday', 6, '11132015');
+insert into DateType  values ('2144', '2015-11-14' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 318 , 'Saturday', 7, '11142015');
+insert into DateType  values ('2145', '2015-11-15' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 319 , 'Sunday', 1, '11152015');
+insert into DateType  values ('2146', '2015-11-16' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 320 , 'Monday', 2, '11162015');
+insert into DateType  values ('2147', '2015-11-17' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 321 , 'Tuesday', 3, '11172015');
+insert into DateType  values ('2148', '2015-11-18' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 322 , 'Wednesday', 4, '11182015');
+insert into DateType  values ('2149', '2015-11-19' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 323 , 'Thursday', 5, '11192015');
+insert into DateType  values ('2150', '2015-11-20' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 324 , 'Friday', 6, '11202015');
+insert into DateType  values ('2151', '2015-11-21' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 325 , 'Saturday', 7, '11212015');
+insert into DateType  values ('2152', '2015-11-22' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 326 , 'Sunday', 1, '11222015');
+insert into DateType  values ('2153', '2015-11-23' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 327 , 'Monday', 2, '11232015');
+insert into DateType  values ('2154', '2015-11-24' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 328 , 'Tuesday', 3, '11242015');
+insert into DateType  values ('2155', '2015-11-25' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 329 , 'Wednesday', 4, '11252015');
+insert into DateType  values ('2156', '2015-11-26' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 330 , 'Thursday', 5, '11262015');
+insert into DateType  values ('2157', '2015-11-27' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 331 , 'Friday', 6, '11272015');
+insert into DateType  values ('2158', '2015-11-28' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 332 , 'Saturday', 7, '11282015');
+insert into DateType  values ('2159', '2015-11-29' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 333 , 'Sunday', 1, '11292015');
+insert into DateType  values ('2160', '2015-11-30' , 2015 , '2015', 4 , 11 , 'November', '2015-11' , 334 , 'Monday', 2, '11302015');
+insert into DateType  values ('2161', '2015-12-01' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 335 , 'Tuesday', 3, '12012015');
+insert into DateType  values ('2162', '2015-12-02' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 336 , 'Wednesday', 4, '12022015');
+insert into DateType  values ('2163', '2015-12-03' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 337 , 'Thursday', 5, '12032015');
+insert into DateType  values ('2164', '2015-12-04' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 338 , 'Friday', 6, '12042015');
+insert into DateType  values ('2165', '2015-12-05' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 339 , 'Saturday', 7, '12052015');
+insert into DateType  values ('2166', '2015-12-06' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 340 , 'Sunday', 1, '12062015');
+insert into DateType  values ('2167', '2015-12-07' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 341 , 'Monday', 2, '12072015');
+insert into DateType  values ('2168', '2015-12-08' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 342 , 'Tuesday', 3, '12082015');
+insert into DateType  values ('2169', '2015-12-09' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 343 , 'Wednesday', 4, '12092015');
+insert into DateType  values ('2170', '2015-12-10' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 344 , 'Thursday', 5, '12102015');
+insert into DateType  values ('2171', '2015-12-11' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 345 , 'Friday', 6, '12112015');
+insert into DateType  values ('2172', '2015-12-12' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 346 , 'Saturday', 7, '12122015');
+insert into DateType  values ('2173', '2015-12-13' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 347 , 'Sunday', 1, '12132015');
+insert into DateType  values ('2174', '2015-12-14' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 348 , 'Monday', 2, '12142015');
+insert into DateType  values ('2175', '2015-12-15' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 349 , 'Tuesday', 3, '12152015');
+insert into DateType  values ('2176', '2015-12-16' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 350 , 'Wednesday', 4, '12162015');
+insert into DateType  values ('2177', '2015-12-17' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 351 , 'Thursday', 5, '12172015');
+insert into DateType  values ('2178', '2015-12-18' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 352 , 'Friday', 6, '12182015');
+insert into DateType  values ('2179', '2015-12-19' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 353 , 'Saturday', 7, '12192015');
+insert into DateType  values ('2180', '2015-12-20' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 354 , 'Sunday', 1, '12202015');
+insert into DateType  values ('2181', '2015-12-21' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 355 , 'Monday', 2, '12212015');
+insert into DateType  values ('2182', '2015-12-22' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 356 , 'Tuesday', 3, '12222015');
+insert into DateType  values ('2183', '2015-12-23' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 357 , 'Wednesday', 4, '12232015');
+insert into DateType  values ('2184', '2015-12-24' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 358 , 'Thursday', 5, '12242015');
+insert into DateType  values ('2185', '2015-12-25' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 359 , 'Friday', 6, '12252015');
+insert into DateType  values ('2186', '2015-12-26' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 360 , 'Saturday', 7, '12262015');
+insert into DateType  values ('2187', '2015-12-27' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 361 , 'Sunday', 1, '12272015');
+insert into DateType  values ('2188', '2015-12-28' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 362 , 'Monday', 2, '12282015');
+insert into DateType  values ('2189', '2015-12-29' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 363 , 'Tuesday', 3, '12292015');
+insert into DateType  values ('2190', '2015-12-30' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 364 , 'Wednesday', 4, '12302015');
+insert into DateType  values ('2191', '2015-12-31' , 2015 , '2015', 4 , 12 , 'December', '2015-12' , 365 , 'Thursday', 5, '12312015');
+insert into DateType  values ('2192', '2016-01-01' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 1 , 'Friday', 6, '01012016');
+insert into DateType  values ('2193', '2016-01-02' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 2 , 'Saturday', 7, '01022016');
+insert into DateType  values ('2194', '2016-01-03' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 3 , 'Sunday', 1, '01032016');
+insert into DateType  values ('2195', '2016-01-04' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 4 , 'Monday', 2, '01042016');
+insert into DateType  values ('2196', '2016-01-05' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 5 , 'Tuesday', 3, '01052016');
+insert into DateType  values ('2197', '2016-01-06' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 6 , 'Wednesday', 4, '01062016');
+insert into DateType  values ('2198', '2016-01-07' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 7 , 'Thursday', 5, '01072016');
+insert into DateType  values ('2199', '2016-01-08' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 8 , 'Friday', 6, '01082016');
+insert into DateType  values ('2200', '2016-01-09' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 9 , 'Saturday', 7, '01092016');
+insert into DateType  values ('2201', '2016-01-10' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 10 , 'Sunday', 1, '01102016');
+insert into DateType  values ('2202', '2016-01-11' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 11 , 'Monday', 2, '01112016');
+insert into DateType  values ('2203', '2016-01-12' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 12 , 'Tuesday', 3, '01122016');
+insert into DateType  values ('2204', '2016-01-13' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 13 , 'Wednesday', 4, '01132016');
+insert into DateType  values ('2205', '2016-01-14' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 14 , 'Thursday', 5, '01142016');
+insert into DateType  values ('2206', '2016-01-15' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 15 , 'Friday', 6, '01152016');
+insert into DateType  values ('2207', '2016-01-16' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 16 , 'Saturday', 7, '01162016');
+insert into DateType  values ('2208', '2016-01-17' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 17 , 'Sunday', 1, '01172016');
+insert into DateType  values ('2209', '2016-01-18' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 18 , 'Monday', 2, '01182016');
+insert into DateType  values ('2210', '2016-01-19' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 19 , 'Tuesday', 3, '01192016');
+insert into DateType  values ('2211', '2016-01-20' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 20 , 'Wednesday', 4, '01202016');
+insert into DateType  values ('2212', '2016-01-21' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 21 , 'Thursday', 5, '01212016');
+insert into DateType  values ('2213', '2016-01-22' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 22 , 'Friday', 6, '01222016');
+insert into DateType  values ('2214', '2016-01-23' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 23 , 'Saturday', 7, '01232016');
+insert into DateType  values ('2215', '2016-01-24' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 24 , 'Sunday', 1, '01242016');
+insert into DateType  values ('2216', '2016-01-25' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 25 , 'Monday', 2, '01252016');
+insert into DateType  values ('2217', '2016-01-26' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 26 , 'Tuesday', 3, '01262016');
+insert into DateType  values ('2218', '2016-01-27' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 27 , 'Wednesday', 4, '01272016');
+insert into DateType  values ('2219', '2016-01-28' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 28 , 'Thursday', 5, '01282016');
+insert into DateType  values ('2220', '2016-01-29' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 29 , 'Friday', 6, '01292016');
+insert into DateType  values ('2221', '2016-01-30' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 30 , 'Saturday', 7, '01302016');
+insert into DateType  values ('2222', '2016-01-31' , 2016 , '2016', 1 , 1 , 'January', '2016-01' , 31 , 'Sunday', 1, '01312016');
+insert into DateType  values ('2223', '2016-02-01' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 32 , 'Monday', 2, '02012016');
+insert into DateType  values ('2224', '2016-02-02' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 33 , 'Tuesday', 3, '02022016');
+insert into DateType  values ('2225', '2016-02-03' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 34 , 'Wednesday', 4, '02032016');
+insert into DateType  values ('2226', '2016-02-04' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 35 , 'Thursday', 5, '02042016');
+insert into DateType  values ('2227', '2016-02-05' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 36 , 'Friday', 6, '02052016');
+insert into DateType  values ('2228', '2016-02-06' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 37 , 'Saturday', 7, '02062016');
+insert into DateType  values ('2229', '2016-02-07' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 38 , 'Sunday', 1, '02072016');
+insert into DateType  values ('2230', '2016-02-08' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 39 , 'Monday', 2, '02082016');
+insert into DateType  values ('2231', '2016-02-09' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 40 , 'Tuesday', 3, '02092016');
+insert into DateType  values ('2232', '2016-02-10' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 41 , 'Wednesday', 4, '02102016');
+insert into DateType  values ('2233', '2016-02-11' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 42 , 'Thursday', 5, '02112016');
+insert into DateType  values ('2234', '2016-02-12' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 43 , 'Friday', 6, '02122016');
+insert into DateType  values ('2235', '2016-02-13' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 44 , 'Saturday', 7, '02132016');
+insert into DateType  values ('2236', '2016-02-14' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 45 , 'Sunday', 1, '02142016');
+insert into DateType  values ('2237', '2016-02-15' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 46 , 'Monday', 2, '02152016');
+insert into DateType  values ('2238', '2016-02-16' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 47 , 'Tuesday', 3, '02162016');
+insert into DateType  values ('2239', '2016-02-17' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 48 , 'Wednesday', 4, '02172016');
+insert into DateType  values ('2240', '2016-02-18' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 49 , 'Thursday', 5, '02182016');
+insert into DateType  values ('2241', '2016-02-19' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 50 , 'Friday', 6, '02192016');
+insert into DateType  values ('2242', '2016-02-20' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 51 , 'Saturday', 7, '02202016');
+insert into DateType  values ('2243', '2016-02-21' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 52 , 'Sunday', 1, '02212016');
+insert into DateType  values ('2244', '2016-02-22' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 53 , 'Monday', 2, '02222016');
+insert into DateType  values ('2245', '2016-02-23' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 54 , 'Tuesday', 3, '02232016');
+insert into DateType  values ('2246', '2016-02-24' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 55 , 'Wednesday', 4, '02242016');
+insert into DateType  values ('2247', '2016-02-25' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 56 , 'Thursday', 5, '02252016');
+insert into DateType  values ('2248', '2016-02-26' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 57 , 'Friday', 6, '02262016');
+insert into DateType  values ('2249', '2016-02-27' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 58 , 'Saturday', 7, '02272016');
+insert into DateType  values ('2250', '2016-02-28' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 59 , 'Sunday', 1, '02282016');
+insert into DateType  values ('2251', '2016-02-29' , 2016 , '2016', 1 , 2 , 'February', '2016-02' , 60 , 'Monday', 2, '02292016');
+insert into DateType  values ('2252', '2016-03-01' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 61 , 'Tuesday', 3, '03012016');
+insert into DateType  values ('2253', '2016-03-02' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 62 , 'Wednesday', 4, '03022016');
+insert into DateType  values ('2254', '2016-03-03' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 63 , 'Thursday', 5, '03032016');
+insert into DateType  values ('2255', '2016-03-04' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 64 , 'Friday', 6, '03042016');
+insert into DateType  values ('2256', '2016-03-05' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 65 , 'Saturday', 7, '03052016');
+insert into DateType  values ('2257', '2016-03-06' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 66 , 'Sunday', 1, '03062016');
+insert into DateType  values ('2258', '2016-03-07' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 67 , 'Monday', 2, '03072016');
+insert into DateType  values ('2259', '2016-03-08' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 68 , 'Tuesday', 3, '03082016');
+insert into DateType  values ('2260', '2016-03-09' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 69 , 'Wednesday', 4, '03092016');
+insert into DateType  values ('2261', '2016-03-10' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 70 , 'Thursday', 5, '03102016');
+insert into DateType  values ('2262', '2016-03-11' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 71 , 'Friday', 6, '03112016');
+insert into DateType  values ('2263', '2016-03-12' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 72 , 'Saturday', 7, '03122016');
+insert into DateType  values ('2264', '2016-03-13' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 73 , 'Sunday', 1, '03132016');
+insert into DateType  values ('2265', '2016-03-14' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 74 , 'Monday', 2, '03142016');
+insert into DateType  values ('2266', '2016-03-15' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 75 , 'Tuesday', 3, '03152016');
+insert into DateType  values ('2267', '2016-03-16' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 76 , 'Wednesday', 4, '03162016');
+insert into DateType  values ('2268', '2016-03-17' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 77 , 'Thursday', 5, '03172016');
+insert into DateType  values ('2269', '2016-03-18' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 78 , 'Friday', 6, '03182016');
+insert into DateType  values ('2270', '2016-03-19' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 79 , 'Saturday', 7, '03192016');
+insert into DateType  values ('2271', '2016-03-20' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 80 , 'Sunday', 1, '03202016');
+insert into DateType  values ('2272', '2016-03-21' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 81 , 'Monday', 2, '03212016');
+insert into DateType  values ('2273', '2016-03-22' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 82 , 'Tuesday', 3, '03222016');
+insert into DateType  values ('2274', '2016-03-23' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 83 , 'Wednesday', 4, '03232016');
+insert into DateType  values ('2275', '2016-03-24' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 84 , 'Thursday', 5, '03242016');
+insert into DateType  values ('2276', '2016-03-25' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 85 , 'Friday', 6, '03252016');
+insert into DateType  values ('2277', '2016-03-26' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 86 , 'Saturday', 7, '03262016');
+insert into DateType  values ('2278', '2016-03-27' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 87 , 'Sunday', 1, '03272016');
+insert into DateType  values ('2279', '2016-03-28' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 88 , 'Monday', 2, '03282016');
+insert into DateType  values ('2280', '2016-03-29' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 89 , 'Tuesday', 3, '03292016');
+insert into DateType  values ('2281', '2016-03-30' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 90 , 'Wednesday', 4, '03302016');
+insert into DateType  values ('2282', '2016-03-31' , 2016 , '2016', 1 , 3 , 'March', '2016-03' , 91 , 'Thursday', 5, '03312016');
+insert into DateType  values ('2283', '2016-04-01' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 92 , 'Friday', 6, '04012016');
+insert into DateType  values ('2284', '2016-04-02' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 93 , 'Saturday', 7, '04022016');
+insert into DateType  values ('2285', '2016-04-03' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 94 , 'Sunday', 1, '04032016');
+insert into DateType  values ('2286', '2016-04-04' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 95 , 'Monday', 2, '04042016');
+insert into DateType  values ('2287', '2016-04-05' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 96 , 'Tuesday', 3, '04052016');
+insert into DateType  values ('2288', '2016-04-06' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 97 , 'Wednesday', 4, '04062016');
+insert into DateType  values ('2289', '2016-04-07' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 98 , 'Thursday', 5, '04072016');
+insert into DateType  values ('2290', '2016-04-08' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 99 , 'Friday', 6, '04082016');
+insert into DateType  values ('2291', '2016-04-09' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 100 , 'Saturday', 7, '04092016');
+insert into DateType  values ('2292', '2016-04-10' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 101 , 'Sunday', 1, '04102016');
+insert into DateType  values ('2293', '2016-04-11' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 102 , 'Monday', 2, '04112016');
+insert into DateType  values ('2294', '2016-04-12' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 103 , 'Tuesday', 3, '04122016');
+insert into DateType  values ('2295', '2016-04-13' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 104 , 'Wednesday', 4, '04132016');
+insert into DateType  values ('2296', '2016-04-14' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 105 , 'Thursday', 5, '04142016');
+insert into DateType  values ('2297', '2016-04-15' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 106 , 'Friday', 6, '04152016');
+insert into DateType  values ('2298', '2016-04-16' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 107 , 'Saturday', 7, '04162016');
+insert into DateType  values ('2299', '2016-04-17' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 108 , 'Sunday', 1, '04172016');
+insert into DateType  values ('2300', '2016-04-18' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 109 , 'Monday', 2, '04182016');
+insert into DateType  values ('2301', '2016-04-19' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 110 , 'Tuesday', 3, '04192016');
+insert into DateType  values ('2302', '2016-04-20' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 111 , 'Wednesday', 4, '04202016');
+insert into DateType  values ('2303', '2016-04-21' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 112 , 'Thursday', 5, '04212016');
+insert into DateType  values ('2304', '2016-04-22' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 113 , 'Friday', 6, '04222016');
+insert into DateType  values ('2305', '2016-04-23' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 114 , 'Saturday', 7, '04232016');
+insert into DateType  values ('2306', '2016-04-24' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 115 , 'Sunday', 1, '04242016');
+insert into DateType  values ('2307', '2016-04-25' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 116 , 'Monday', 2, '04252016');
+insert into DateType  values ('2308', '2016-04-26' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 117 , 'Tuesday', 3, '04262016');
+insert into DateType  values ('2309', '2016-04-27' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 118 , 'Wednesday', 4, '04272016');
+insert into DateType  values ('2310', '2016-04-28' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 119 , 'Thursday', 5, '04282016');
+insert into DateType  values ('2311', '2016-04-29' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 120 , 'Friday', 6, '04292016');
+insert into DateType  values ('2312', '2016-04-30' , 2016 , '2016', 2 , 4 , 'April', '2016-04' , 121 , 'Saturday', 7, '04302016');
+insert into DateType  values ('2313', '2016-05-01' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 122 , 'Sunday', 1, '05012016');
+insert into DateType  values ('2314', '2016-05-02' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 123 , 'Monday', 2, '05022016');
+insert into DateType  values ('2315', '2016-05-03' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 124 , 'Tuesday', 3, '05032016');
+insert into DateType  values ('2316', '2016-05-04' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 125 , 'Wednesday', 4, '05042016');
+insert into DateType  values ('2317', '2016-05-05' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 126 , 'Thursday', 5, '05052016');
+insert into DateType  values ('2318', '2016-05-06' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 127 , 'Friday', 6, '05062016');
+insert into DateType  values ('2319', '2016-05-07' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 128 , 'Saturday', 7, '05072016');
+insert into DateType  values ('2320', '2016-05-08' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 129 , 'Sunday', 1, '05082016');
+insert into DateType  values ('2321', '2016-05-09' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 130 , 'Monday', 2, '05092016');
+insert into DateType  values ('2322', '2016-05-10' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 131 , 'Tuesday', 3, '05102016');
+insert into DateType  values ('2323', '2016-05-11' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 132 , 'Wednesday', 4, '05112016');
+insert into DateType  values ('2324', '2016-05-12' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 133 , 'Thursday', 5, '05122016');
+insert into DateType  values ('2325', '2016-05-13' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 134 , 'Friday', 6, '05132016');
+insert into DateType  values ('2326', '2016-05-14' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 135 , 'Saturday', 7, '05142016');
+insert into DateType  values ('2327', '2016-05-15' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 136 , 'Sunday', 1, '05152016');
+insert into DateType  values ('2328', '2016-05-16' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 137 , 'Monday', 2, '05162016');
+insert into DateType  values ('2329', '2016-05-17' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 138 , 'Tuesday', 3, '05172016');
+insert into DateType  values ('2330', '2016-05-18' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 139 , 'Wednesday', 4, '05182016');
+insert into DateType  values ('2331', '2016-05-19' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 140 , 'Thursday', 5, '05192016');
+insert into DateType  values ('2332', '2016-05-20' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 141 , 'Friday', 6, '05202016');
+insert into DateType  values ('2333', '2016-05-21' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 142 , 'Saturday', 7, '05212016');
+insert into DateType  values ('2334', '2016-05-22' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 143 , 'Sunday', 1, '05222016');
+insert into DateType  values ('2335', '2016-05-23' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 144 , 'Monday', 2, '05232016');
+insert into DateType  values ('2336', '2016-05-24' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 145 , 'Tuesday', 3, '05242016');
+insert into DateType  values ('2337', '2016-05-25' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 146 , 'Wednesday', 4, '05252016');
+insert into DateType  values ('2338', '2016-05-26' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 147 , 'Thursday', 5, '05262016');
+insert into DateType  values ('2339', '2016-05-27' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 148 , 'Friday', 6, '05272016');
+insert into DateType  values ('2340', '2016-05-28' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 149 , 'Saturday', 7, '05282016');
+insert into DateType  values ('2341', '2016-05-29' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 150 , 'Sunday', 1, '05292016');
+insert into DateType  values ('2342', '2016-05-30' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 151 , 'Monday', 2, '05302016');
+insert into DateType  values ('2343', '2016-05-31' , 2016 , '2016', 2 , 5 , 'May', '2016-05' , 152 , 'Tuesday', 3, '05312016');
+insert into DateType  values ('2344', '2016-06-01' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 153 , 'Wednesday', 4, '06012016');
+insert into DateType  values ('2345', '2016-06-02' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 154 , 'Thursday', 5, '06022016');
+insert into DateType  values ('2346', '2016-06-03' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 155 , 'Friday', 6, '06032016');
+insert into DateType  values ('2347', '2016-06-04' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 156 , 'Saturday', 7, '06042016');
+insert into DateType  values ('2348', '2016-06-05' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 157 , 'Sunday', 1, '06052016');
+insert into DateType  values ('2349', '2016-06-06' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 158 , 'Monday', 2, '06062016');
+insert into DateType  values ('2350', '2016-06-07' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 159 , 'Tuesday', 3, '06072016');
+insert into DateType  values ('2351', '2016-06-08' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 160 , 'Wednesday', 4, '06082016');
+insert into DateType  values ('2352', '2016-06-09' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 161 , 'Thursday', 5, '06092016');
+insert into DateType  values ('2353', '2016-06-10' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 162 , 'Friday', 6, '06102016');
+insert into DateType  values ('2354', '2016-06-11' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 163 , 'Saturday', 7, '06112016');
+insert into DateType  values ('2355', '2016-06-12' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 164 , 'Sunday', 1, '06122016');
+insert into DateType  values ('2356', '2016-06-13' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 165 , 'Monday', 2, '06132016');
+insert into DateType  values ('2357', '2016-06-14' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 166 , 'Tuesday', 3, '06142016');
+insert into DateType  values ('2358', '2016-06-15' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 167 , 'Wednesday', 4, '06152016');
+insert into DateType  values ('2359', '2016-06-16' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 168 , 'Thursday', 5, '06162016');
+insert into DateType  values ('2360', '2016-06-17' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 169 , 'Friday', 6, '06172016');
+insert into DateType  values ('2361', '2016-06-18' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 170 , 'Saturday', 7, '06182016');
+insert into DateType  values ('2362', '2016-06-19' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 171 , 'Sunday', 1, '06192016');
+insert into DateType  values ('2363', '2016-06-20' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 172 , 'Monday', 2, '06202016');
+insert into DateType  values ('2364', '2016-06-21' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 173 , 'Tuesday', 3, '06212016');
+insert into DateType  values ('2365', '2016-06-22' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 174 , 'Wednesday', 4, '06222016');
+insert into DateType  values ('2366', '2016-06-23' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 175 , 'Thursday', 5, '06232016');
+insert into DateType  values ('2367', '2016-06-24' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 176 , 'Friday', 6, '06242016');
+insert into DateType  values ('2368', '2016-06-25' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 177 , 'Saturday', 7, '06252016');
+insert into DateType  values ('2369', '2016-06-26' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 178 , 'Sunday', 1, '06262016');
+insert into DateType  values ('2370', '2016-06-27' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 179 , 'Monday', 2, '06272016');
+insert into DateType  values ('2371', '2016-06-28' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 180 , 'Tuesday', 3, '06282016');
+insert into DateType  values ('2372', '2016-06-29' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 181 , 'Wednesday', 4, '06292016');
+insert into DateType  values ('2373', '2016-06-30' , 2016 , '2016', 2 , 6 , 'June', '2016-06' , 182 , 'Thursday', 5, '06302016');
+insert into DateType  values ('2374', '2016-07-01' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 183 , 'Friday', 6, '07012016');
+insert into DateType  values ('2375', '2016-07-02' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 184 , 'Saturday', 7, '07022016');
+insert into DateType  values ('2376', '2016-07-03' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 185 , 'Sunday', 1, '07032016');
+insert into DateType  values ('2377', '2016-07-04' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 186 , 'Monday', 2, '07042016');
+insert into DateType  values ('2378', '2016-07-05' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 187 , 'Tuesday', 3, '07052016');
+insert into DateType  values ('2379', '2016-07-06' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 188 , 'Wednesday', 4, '07062016');
+insert into DateType  values ('2380', '2016-07-07' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 189 , 'Thursday', 5, '07072016');
+insert into DateType  values ('2381', '2016-07-08' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 190 , 'Friday', 6, '07082016');
+insert into DateType  values ('2382', '2016-07-09' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 191 , 'Saturday', 7, '07092016');
+insert into DateType  values ('2383', '2016-07-10' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 192 , 'Sunday', 1, '07102016');
+insert into DateType  values ('2384', '2016-07-11' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 193 , 'Monday', 2, '07112016');
+insert into DateType  values ('2385', '2016-07-12' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 194 , 'Tuesday', 3, '07122016');
+insert into DateType  values ('2386', '2016-07-13' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 195 , 'Wednesday', 4, '07132016');
+insert into DateType  values ('2387', '2016-07-14' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 196 , 'Thursday', 5, '07142016');
+insert into DateType  values ('2388', '2016-07-15' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 197 , 'Friday', 6, '07152016');
+insert into DateType  values ('2389', '2016-07-16' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 198 , 'Saturday', 7, '07162016');
+insert into DateType  values ('2390', '2016-07-17' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 199 , 'Sunday', 1, '07172016');
+insert into DateType  values ('2391', '2016-07-18' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 200 , 'Monday', 2, '07182016');
+insert into DateType  values ('2392', '2016-07-19' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 201 , 'Tuesday', 3, '07192016');
+insert into DateType  values ('2393', '2016-07-20' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 202 , 'Wednesday', 4, '07202016');
+insert into DateType  values ('2394', '2016-07-21' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 203 , 'Thursday', 5, '07212016');
+insert into DateType  values ('2395', '2016-07-22' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 204 , 'Friday', 6, '07222016');
+insert into DateType  values ('2396', '2016-07-23' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 205 , 'Saturday', 7, '07232016');
+insert into DateType  values ('2397', '2016-07-24' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 206 , 'Sunday', 1, '07242016');
+insert into DateType  values ('2398', '2016-07-25' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 207 , 'Monday', 2, '07252016');
+insert into DateType  values ('2399', '2016-07-26' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 208 , 'Tuesday', 3, '07262016');
+insert into DateType  values ('2400', '2016-07-27' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 209 , 'Wednesday', 4, '07272016');
+insert into DateType  values ('2401', '2016-07-28' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 210 , 'Thursday', 5, '07282016');
+insert into DateType  values ('2402', '2016-07-29' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 211 , 'Friday', 6, '07292016');
+insert into DateType  values ('2403', '2016-07-30' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 212 , 'Saturday', 7, '07302016');
+insert into DateType  values ('2404', '2016-07-31' , 2016 , '2016', 3 , 7 , 'July', '2016-07' , 213 , 'Sunday', 1, '07312016');
+insert into DateType  values ('2405', '2016-08-01' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 214 , 'Monday', 2, '08012016');
+insert into DateType  values ('2406', '2016-08-02' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 215 , 'Tuesday', 3, '08022016');
+insert into DateType  values ('2407', '2016-08-03' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 216 , 'Wednesday', 4, '08032016');
+insert into DateType  values ('2408', '2016-08-04' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 217 , 'Thursday', 5, '08042016');
+insert into DateType  values ('2409', '2016-08-05' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 218 , 'Friday', 6, '08052016');
+insert into DateType  values ('2410', '2016-08-06' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 219 , 'Saturday', 7, '08062016');
+insert into DateType  values ('2411', '2016-08-07' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 220 , 'Sunday', 1, '08072016');
+insert into DateType  values ('2412', '2016-08-08' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 221 , 'Monday', 2, '08082016');
+insert into DateType  values ('2413', '2016-08-09' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 222 , 'Tuesday', 3, '08092016');
+insert into DateType  values ('2414', '2016-08-10' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 223 , 'Wednesday', 4, '08102016');
+insert into DateType  values ('2415', '2016-08-11' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 224 , 'Thursday', 5, '08112016');
+insert into DateType  values ('2416', '2016-08-12' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 225 , 'Friday', 6, '08122016');
+insert into DateType  values ('2417', '2016-08-13' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 226 , 'Saturday', 7, '08132016');
+insert into DateType  values ('2418', '2016-08-14' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 227 , 'Sunday', 1, '08142016');
+insert into DateType  values ('2419', '2016-08-15' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 228 , 'Monday', 2, '08152016');
+insert into DateType  values ('2420', '2016-08-16' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 229 , 'Tuesday', 3, '08162016');
+insert into DateType  values ('2421', '2016-08-17' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 230 , 'Wednesday', 4, '08172016');
+insert into DateType  values ('2422', '2016-08-18' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 231 , 'Thursday', 5, '08182016');
+insert into DateType  values ('2423', '2016-08-19' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 232 , 'Friday', 6, '08192016');
+insert into DateType  values ('2424', '2016-08-20' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 233 , 'Saturday', 7, '08202016');
+insert into DateType  values ('2425', '2016-08-21' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 234 , 'Sunday', 1, '08212016');
+insert into DateType  values ('2426', '2016-08-22' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 235 , 'Monday', 2, '08222016');
+insert into DateType  values ('2427', '2016-08-23' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 236 , 'Tuesday', 3, '08232016');
+insert into DateType  values ('2428', '2016-08-24' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 237 , 'Wednesday', 4, '08242016');
+insert into DateType  values ('2429', '2016-08-25' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 238 , 'Thursday', 5, '08252016');
+insert into DateType  values ('2430', '2016-08-26' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 239 , 'Friday', 6, '08262016');
+insert into DateType  values ('2431', '2016-08-27' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 240 , 'Saturday', 7, '08272016');
+insert into DateType  values ('2432', '2016-08-28' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 241 , 'Sunday', 1, '08282016');
+insert into DateType  values ('2433', '2016-08-29' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 242 , 'Monday', 2, '08292016');
+insert into DateType  values ('2434', '2016-08-30' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 243 , 'Tuesday', 3, '08302016');
+insert into DateType  values ('2435', '2016-08-31' , 2016 , '2016', 3 , 8 , 'August', '2016-08' , 244 , 'Wednesday', 4, '08312016');
+insert into DateType  values ('2436', '2016-09-01' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 245 , 'Thursday', 5, '09012016');
+insert into DateType  values ('2437', '2016-09-02' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 246 , 'Friday', 6, '09022016');
+insert into DateType  values ('2438', '2016-09-03' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 247 , 'Saturday', 7, '09032016');
+insert into DateType  values ('2439', '2016-09-04' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 248 , 'Sunday', 1, '09042016');
+insert into DateType  values ('2440', '2016-09-05' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 249 , 'Monday', 2, '09052016');
+insert into DateType  values ('2441', '2016-09-06' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 250 , 'Tuesday', 3, '09062016');
+insert into DateType  values ('2442', '2016-09-07' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 251 , 'Wednesday', 4, '09072016');
+insert into DateType  values ('2443', '2016-09-08' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 252 , 'Thursday', 5, '09082016');
+insert into DateType  values ('2444', '2016-09-09' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 253 , 'Friday', 6, '09092016');
+insert into DateType  values ('2445', '2016-09-10' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 254 , 'Saturday', 7, '09102016');
+insert into DateType  values ('2446', '2016-09-11' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 255 , 'Sunday', 1, '09112016');
+insert into DateType  values ('2447', '2016-09-12' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 256 , 'Monday', 2, '09122016');
+insert into DateType  values ('2448', '2016-09-13' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 257 , 'Tuesday', 3, '09132016');
+insert into DateType  values ('2449', '2016-09-14' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 258 , 'Wednesday', 4, '09142016');
+insert into DateType  values ('2450', '2016-09-15' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 259 , 'Thursday', 5, '09152016');
+insert into DateType  values ('2451', '2016-09-16' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 260 , 'Friday', 6, '09162016');
+insert into DateType  values ('2452', '2016-09-17' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 261 , 'Saturday', 7, '09172016');
+insert into DateType  values ('2453', '2016-09-18' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 262 , 'Sunday', 1, '09182016');
+insert into DateType  values ('2454', '2016-09-19' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 263 , 'Monday', 2, '09192016');
+insert into DateType  values ('2455', '2016-09-20' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 264 , 'Tuesday', 3, '09202016');
+insert into DateType  values ('2456', '2016-09-21' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 265 , 'Wednesday', 4, '09212016');
+insert into DateType  values ('2457', '2016-09-22' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 266 , 'Thursday', 5, '09222016');
+insert into DateType  values ('2458', '2016-09-23' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 267 , 'Friday', 6, '09232016');
+insert into DateType  values ('2459', '2016-09-24' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 268 , 'Saturday', 7, '09242016');
+insert into DateType  values ('2460', '2016-09-25' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 269 , 'Sunday', 1, '09252016');
+insert into DateType  values ('2461', '2016-09-26' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 270 , 'Monday', 2, '09262016');
+insert into DateType  values ('2462', '2016-09-27' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 271 , 'Tuesday', 3, '09272016');
+insert into DateType  values ('2463', '2016-09-28' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 272 , 'Wednesday', 4, '09282016');
+insert into DateType  values ('2464', '2016-09-29' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 273 , 'Thursday', 5, '09292016');
+insert into DateType  values ('2465', '2016-09-30' , 2016 , '2016', 3 , 9 , 'September', '2016-09' , 274 , 'Friday', 6, '09302016');
+insert into DateType  values ('2466', '2016-10-01' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 275 , 'Saturday', 7, '10012016');
+insert into DateType  values ('2467', '2016-10-02' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 276 , 'Sunday', 1, '10022016');
+insert into DateType  values ('2468', '2016-10-03' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 277 , 'Monday', 2, '10032016');
+insert into DateType  values ('2469', '2016-10-04' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 278 , 'Tuesday', 3, '10042016');
+insert into DateType  values ('2470', '2016-10-05' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 279 , 'Wednesday', 4, '10052016');
+insert into DateType  values ('2471', '2016-10-06' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 280 , 'Thursday', 5, '10062016');
+insert into DateType  values ('2472', '2016-10-07' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 281 , 'Friday', 6, '10072016');
+insert into DateType  values ('2473', '2016-10-08' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 282 , 'Saturday', 7, '10082016');
+insert into DateType  values ('2474', '2016-10-09' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 283 , 'Sunday', 1, '10092016');
+insert into DateType  values ('2475', '2016-10-10' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 284 , 'Monday', 2, '10102016');
+insert into DateType  values ('2476', '2016-10-11' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 285 , 'Tuesday', 3, '10112016');
+insert into DateType  values ('2477', '2016-10-12' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 286 , 'Wednesday', 4, '10122016');
+insert into DateType  values ('2478', '2016-10-13' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 287 , 'Thursday', 5, '10132016');
+insert into DateType  values ('2479', '2016-10-14' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 288 , 'Friday', 6, '10142016');
+insert into DateType  values ('2480', '2016-10-15' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 289 , 'Saturday', 7, '10152016');
+insert into DateType  values ('2481', '2016-10-16' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 290 , 'Sunday', 1, '10162016');
+insert into DateType  values ('2482', '2016-10-17' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 291 , 'Monday', 2, '10172016');
+insert into DateType  values ('2483', '2016-10-18' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 292 , 'Tuesday', 3, '10182016');
+insert into DateType  values ('2484', '2016-10-19' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 293 , 'Wednesday', 4, '10192016');
+insert into DateType  values ('2485', '2016-10-20' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 294 , 'Thursday', 5, '10202016');
+insert into DateType  values ('2486', '2016-10-21' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 295 , 'Friday', 6, '10212016');
+insert into DateType  values ('2487', '2016-10-22' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 296 , 'Saturday', 7, '10222016');
+insert into DateType  values ('2488', '2016-10-23' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 297 , 'Sunday', 1, '10232016');
+insert into DateType  values ('2489', '2016-10-24' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 298 , 'Monday', 2, '10242016');
+insert into DateType  values ('2490', '2016-10-25' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 299 , 'Tuesday', 3, '10252016');
+insert into DateType  values ('2491', '2016-10-26' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 300 , 'Wednesday', 4, '10262016');
+insert into DateType  values ('2492', '2016-10-27' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 301 , 'Thursday', 5, '10272016');
+insert into DateType  values ('2493', '2016-10-28' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 302 , 'Friday', 6, '10282016');
+insert into DateType  values ('2494', '2016-10-29' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 303 , 'Saturday', 7, '10292016');
+insert into DateType  values ('2495', '2016-10-30' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 304 , 'Sunday', 1, '10302016');
+insert into DateType  values ('2496', '2016-10-31' , 2016 , '2016', 4 , 10 , 'October', '2016-10' , 305 , 'Monday', 2, '10312016');
+insert into DateType  values ('2497', '2016-11-01' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 306 , 'Tuesday', 3, '11012016');
+insert into DateType  values ('2498', '2016-11-02' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 307 , 'Wednesday', 4, '11022016');
+insert into DateType  values ('2499', '2016-11-03' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 308 , 'Thursday', 5, '11032016');
+insert into DateType  values ('2500', '2016-11-04' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 309 , 'Friday', 6, '11042016');
+insert into DateType  values ('2501', '2016-11-05' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 310 , 'Saturday', 7, '11052016');
+insert into DateType  values ('2502', '2016-11-06' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 311 , 'Sunday', 1, '11062016');
+insert into DateType  values ('2503', '2016-11-07' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 312 , 'Monday', 2, '11072016');
+insert into DateType  values ('2504', '2016-11-08' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 313 , 'Tuesday', 3, '11082016');
+insert into DateType  values ('2505', '2016-11-09' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 314 , 'Wednesday', 4, '11092016');
+insert into DateType  values ('2506', '2016-11-10' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 315 , 'Thursday', 5, '11102016');
+insert into DateType  values ('2507', '2016-11-11' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 316 , 'Friday', 6, '11112016');
+insert into DateType  values ('2508', '2016-11-12' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 317 , 'Saturday', 7, '11122016');
+insert into DateType  values ('2509', '2016-11-13' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 318 , 'Sunday', 1, '11132016');
+insert into DateType  values ('2510', '2016-11-14' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 319 , 'Monday', 2, '11142016');
+insert into DateType  values ('2511', '2016-11-15' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 320 , 'Tuesday', 3, '11152016');
+insert into DateType  values ('2512', '2016-11-16' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 321 , 'Wednesday', 4, '11162016');
+insert into DateType  values ('2513', '2016-11-17' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 322 , 'Thursday', 5, '11172016');
+insert into DateType  values ('2514', '2016-11-18' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 323 , 'Friday', 6, '11182016');
+insert into DateType  values ('2515', '2016-11-19' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 324 , 'Saturday', 7, '11192016');
+insert into DateType  values ('2516', '2016-11-20' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 325 , 'Sunday', 1, '11202016');
+insert into DateType  values ('2517', '2016-11-21' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 326 , 'Monday', 2, '11212016');
+insert into DateType  values ('2518', '2016-11-22' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 327 , 'Tuesday', 3, '11222016');
+insert into DateType  values ('2519', '2016-11-23' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 328 , 'Wednesday', 4, '11232016');
+insert into DateType  values ('2520', '2016-11-24' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 329 , 'Thursday', 5, '11242016');
+insert into DateType  values ('2521', '2016-11-25' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 330 , 'Friday', 6, '11252016');
+insert into DateType  values ('2522', '2016-11-26' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 331 , 'Saturday', 7, '11262016');
+insert into DateType  values ('2523', '2016-11-27' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 332 , 'Sunday', 1, '11272016');
+insert into DateType  values ('2524', '2016-11-28' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 333 , 'Monday', 2, '11282016');
+insert into DateType  values ('2525', '2016-11-29' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 334 , 'Tuesday', 3, '11292016');
+insert into DateType  values ('2526', '2016-11-30' , 2016 , '2016', 4 , 11 , 'November', '2016-11' , 335 , 'Wednesday', 4, '11302016');
+insert into DateType  values ('2527', '2016-12-01' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 336 , 'Thursday', 5, '12012016');
+insert into DateType  values ('2528', '2016-12-02' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 337 , 'Friday', 6, '12022016');
+insert into DateType  values ('2529', '2016-12-03' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 338 , 'Saturday', 7, '12032016');
+insert into DateType  values ('2530', '2016-12-04' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 339 , 'Sunday', 1, '12042016');
+insert into DateType  values ('2531', '2016-12-05' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 340 , 'Monday', 2, '12052016');
+insert into DateType  values ('2532', '2016-12-06' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 341 , 'Tuesday', 3, '12062016');
+insert into DateType  values ('2533', '2016-12-07' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 342 , 'Wednesday', 4, '12072016');
+insert into DateType  values ('2534', '2016-12-08' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 343 , 'Thursday', 5, '12082016');
+insert into DateType  values ('2535', '2016-12-09' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 344 , 'Friday', 6, '12092016');
+insert into DateType  values ('2536', '2016-12-10' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 345 , 'Saturday', 7, '12102016');
+insert into DateType  values ('2537', '2016-12-11' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 346 , 'Sunday', 1, '12112016');
+insert into DateType  values ('2538', '2016-12-12' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 347 , 'Monday', 2, '12122016');
+insert into DateType  values ('2539', '2016-12-13' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 348 , 'Tuesday', 3, '12132016');
+insert into DateType  values ('2540', '2016-12-14' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 349 , 'Wednesday', 4, '12142016');
+insert into DateType  values ('2541', '2016-12-15' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 350 , 'Thursday', 5, '12152016');
+insert into DateType  values ('2542', '2016-12-16' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 351 , 'Friday', 6, '12162016');
+insert into DateType  values ('2543', '2016-12-17' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 352 , 'Saturday', 7, '12172016');
+insert into DateType  values ('2544', '2016-12-18' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 353 , 'Sunday', 1, '12182016');
+insert into DateType  values ('2545', '2016-12-19' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 354 , 'Monday', 2, '12192016');
+insert into DateType  values ('2546', '2016-12-20' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 355 , 'Tuesday', 3, '12202016');
+insert into DateType  values ('2547', '2016-12-21' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 356 , 'Wednesday', 4, '12212016');
+insert into DateType  values ('2548', '2016-12-22' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 357 , 'Thursday', 5, '12222016');
+insert into DateType  values ('2549', '2016-12-23' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 358 , 'Friday', 6, '12232016');
+insert into DateType  values ('2550', '2016-12-24' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 359 , 'Saturday', 7, '12242016');
+insert into DateType  values ('2551', '2016-12-25' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 360 , 'Sunday', 1, '12252016');
+insert into DateType  values ('2552', '2016-12-26' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 361 , 'Monday', 2, '12262016');
+insert into DateType  values ('2553', '2016-12-27' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 362 , 'Tuesday', 3, '12272016');
+insert into DateType  values ('2554', '2016-12-28' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 363 , 'Wednesday', 4, '12282016');
+insert into DateType  values ('2555', '2016-12-29' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 364 , 'Thursday', 5, '12292016');
+insert into DateType  values ('2556', '2016-12-30' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 365 , 'Friday', 6, '12302016');
+insert into DateType  values ('2557', '2016-12-31' , 2016 , '2016', 4 , 12 , 'December', '2016-12' , 366 , 'Saturday', 7, '12312016');
+insert into DateType  values ('2558', '2017-01-01' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 1 , 'Sunday', 1, '01012017');
+insert into DateType  values ('2559', '2017-01-02' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 2 , 'Monday', 2, '01022017');
+insert into DateType  values ('2560', '2017-01-03' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 3 , 'Tuesday', 3, '01032017');
+insert into DateType  values ('2561', '2017-01-04' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 4 , 'Wednesday', 4, '01042017');
+insert into DateType  values ('2562', '2017-01-05' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 5 , 'Thursday', 5, '01052017');
+insert into DateType  values ('2563', '2017-01-06' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 6 , 'Friday', 6, '01062017');
+insert into DateType  values ('2564', '2017-01-07' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 7 , 'Saturday', 7, '01072017');
+insert into DateType  values ('2565', '2017-01-08' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 8 , 'Sunday', 1, '01082017');
+insert into DateType  values ('2566', '2017-01-09' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 9 , 'Monday', 2, '01092017');
+insert into DateType  values ('2567', '2017-01-10' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 10 , 'Tuesday', 3, '01102017');
+insert into DateType  values ('2568', '2017-01-11' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 11 , 'Wednesday', 4, '01112017');
+insert into DateType  values ('2569', '2017-01-12' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 12 , 'Thursday', 5, '01122017');
+insert into DateType  values ('2570', '2017-01-13' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 13 , 'Friday', 6, '01132017');
+insert into DateType  values ('2571', '2017-01-14' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 14 , 'Saturday', 7, '01142017');
+insert into DateType  values ('2572', '2017-01-15' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 15 , 'Sunday', 1, '01152017');
+insert into DateType  values ('2573', '2017-01-16' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 16 , 'Monday', 2, '01162017');
+insert into DateType  values ('2574', '2017-01-17' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 17 , 'Tuesday', 3, '01172017');
+insert into DateType  values ('2575', '2017-01-18' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 18 , 'Wednesday', 4, '01182017');
+insert into DateType  values ('2576', '2017-01-19' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 19 , 'Thursday', 5, '01192017');
+insert into DateType  values ('2577', '2017-01-20' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 20 , 'Friday', 6, '01202017');
+insert into DateType  values ('2578', '2017-01-21' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 21 , 'Saturday', 7, '01212017');
+insert into DateType  values ('2579', '2017-01-22' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 22 , 'Sunday', 1, '01222017');
+insert into DateType  values ('2580', '2017-01-23' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 23 , 'Monday', 2, '01232017');
+insert into DateType  values ('2581', '2017-01-24' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 24 , 'Tuesday', 3, '01242017');
+insert into DateType  values ('2582', '2017-01-25' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 25 , 'Wednesday', 4, '01252017');
+insert into DateType  values ('2583', '2017-01-26' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 26 , 'Thursday', 5, '01262017');
+insert into DateType  values ('2584', '2017-01-27' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 27 , 'Friday', 6, '01272017');
+insert into DateType  values ('2585', '2017-01-28' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 28 , 'Saturday', 7, '01282017');
+insert into DateType  values ('2586', '2017-01-29' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 29 , 'Sunday', 1, '01292017');
+insert into DateType  values ('2587', '2017-01-30' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 30 , 'Monday', 2, '01302017');
+insert into DateType  values ('2588', '2017-01-31' , 2017 , '2017', 1 , 1 , 'January', '2017-01' , 31 , 'Tuesday', 3, '01312017');
+insert into DateType  values ('2589', '2017-02-01' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 32 , 'Wednesday', 4, '02012017');
+insert into DateType  values ('2590', '2017-02-02' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 33 , 'Thursday', 5, '02022017');
+insert into DateType  values ('2591', '2017-02-03' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 34 , 'Friday', 6, '02032017');
+insert into DateType  values ('2592', '2017-02-04' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 35 , 'Saturday', 7, '02042017');
+insert into DateType  values ('2593', '2017-02-05' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 36 , 'Sunday', 1, '02052017');
+insert into DateType  values ('2594', '2017-02-06' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 37 , 'Monday', 2, '02062017');
+insert into DateType  values ('2595', '2017-02-07' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 38 , 'Tuesday', 3, '02072017');
+insert into DateType  values ('2596', '2017-02-08' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 39 , 'Wednesday', 4, '02082017');
+insert into DateType  values ('2597', '2017-02-09' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 40 , 'Thursday', 5, '02092017');
+insert into DateType  values ('2598', '2017-02-10' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 41 , 'Friday', 6, '02102017');
+insert into DateType  values ('2599', '2017-02-11' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 42 , 'Saturday', 7, '02112017');
+insert into DateType  values ('2600', '2017-02-12' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 43 , 'Sunday', 1, '02122017');
+insert into DateType  values ('2601', '2017-02-13' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 44 , 'Monday', 2, '02132017');
+insert into DateType  values ('2602', '2017-02-14' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 45 , 'Tuesday', 3, '02142017');
+insert into DateType  values ('2603', '2017-02-15' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 46 , 'Wednesday', 4, '02152017');
+insert into DateType  values ('2604', '2017-02-16' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 47 , 'Thursday', 5, '02162017');
+insert into DateType  values ('2605', '2017-02-17' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 48 , 'Friday', 6, '02172017');
+insert into DateType  values ('2606', '2017-02-18' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 49 , 'Saturday', 7, '02182017');
+insert into DateType  values ('2607', '2017-02-19' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 50 , 'Sunday', 1, '02192017');
+insert into DateType  values ('2608', '2017-02-20' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 51 , 'Monday', 2, '02202017');
+insert into DateType  values ('2609', '2017-02-21' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 52 , 'Tuesday', 3, '02212017');
+insert into DateType  values ('2610', '2017-02-22' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 53 , 'Wednesday', 4, '02222017');
+insert into DateType  values ('2611', '2017-02-23' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 54 , 'Thursday', 5, '02232017');
+insert into DateType  values ('2612', '2017-02-24' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 55 , 'Friday', 6, '02242017');
+insert into DateType  values ('2613', '2017-02-25' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 56 , 'Saturday', 7, '02252017');
+insert into DateType  values ('2614', '2017-02-26' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 57 , 'Sunday', 1, '02262017');
+insert into DateType  values ('2615', '2017-02-27' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 58 , 'Monday', 2, '02272017');
+insert into DateType  values ('2616', '2017-02-28' , 2017 , '2017', 1 , 2 , 'February', '2017-02' , 59 , 'Tuesday', 3, '02282017');
+insert into DateType  values ('2617', '2017-03-01' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 60 , 'Wednesday', 4, '03012017');
+insert into DateType  values ('2618', '2017-03-02' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 61 , 'Thursday', 5, '03022017');
+insert into DateType  values ('2619', '2017-03-03' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 62 , 'Friday', 6, '03032017');
+insert into DateType  values ('2620', '2017-03-04' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 63 , 'Saturday', 7, '03042017');
+insert into DateType  values ('2621', '2017-03-05' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 64 , 'Sunday', 1, '03052017');
+insert into DateType  values ('2622', '2017-03-06' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 65 , 'Monday', 2, '03062017');
+insert into DateType  values ('2623', '2017-03-07' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 66 , 'Tuesday', 3, '03072017');
+insert into DateType  values ('2624', '2017-03-08' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 67 , 'Wednesday', 4, '03082017');
+insert into DateType  values ('2625', '2017-03-09' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 68 , 'Thursday', 5, '03092017');
+insert into DateType  values ('2626', '2017-03-10' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 69 , 'Friday', 6, '03102017');
+insert into DateType  values ('2627', '2017-03-11' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 70 , 'Saturday', 7, '03112017');
+insert into DateType  values ('2628', '2017-03-12' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 71 , 'Sunday', 1, '03122017');
+insert into DateType  values ('2629', '2017-03-13' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 72 , 'Monday', 2, '03132017');
+insert into DateType  values ('2630', '2017-03-14' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 73 , 'Tuesday', 3, '03142017');
+insert into DateType  values ('2631', '2017-03-15' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 74 , 'Wednesday', 4, '03152017');
+insert into DateType  values ('2632', '2017-03-16' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 75 , 'Thursday', 5, '03162017');
+insert into DateType  values ('2633', '2017-03-17' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 76 , 'Friday', 6, '03172017');
+insert into DateType  values ('2634', '2017-03-18' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 77 , 'Saturday', 7, '03182017');
+insert into DateType  values ('2635', '2017-03-19' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 78 , 'Sunday', 1, '03192017');
+insert into DateType  values ('2636', '2017-03-20' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 79 , 'Monday', 2, '03202017');
+insert into DateType  values ('2637', '2017-03-21' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 80 , 'Tuesday', 3, '03212017');
+insert into DateType  values ('2638', '2017-03-22' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 81 , 'Wednesday', 4, '03222017');
+insert into DateType  values ('2639', '2017-03-23' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 82 , 'Thursday', 5, '03232017');
+insert into DateType  values ('2640', '2017-03-24' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 83 , 'Friday', 6, '03242017');
+insert into DateType  values ('2641', '2017-03-25' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 84 , 'Saturday', 7, '03252017');
+insert into DateType  values ('2642', '2017-03-26' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 85 , 'Sunday', 1, '03262017');
+insert into DateType  values ('2643', '2017-03-27' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 86 , 'Monday', 2, '03272017');
+insert into DateType  values ('2644', '2017-03-28' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 87 , 'Tuesday', 3, '03282017');
+insert into DateType  values ('2645', '2017-03-29' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 88 , 'Wednesday', 4, '03292017');
+insert into DateType  values ('2646', '2017-03-30' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 89 , 'Thursday', 5, '03302017');
+insert into DateType  values ('2647', '2017-03-31' , 2017 , '2017', 1 , 3 , 'March', '2017-03' , 90 , 'Friday', 6, '03312017');
+insert into DateType  values ('2648', '2017-04-01' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 91 , 'Saturday', 7, '04012017');
+insert into DateType  values ('2649', '2017-04-02' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 92 , 'Sunday', 1, '04022017');
+insert into DateType  values ('2650', '2017-04-03' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 93 , 'Monday', 2, '04032017');
+insert into DateType  values ('2651', '2017-04-04' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 94 , 'Tuesday', 3, '04042017');
+insert into DateType  values ('2652', '2017-04-05' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 95 , 'Wednesday', 4, '04052017');
+insert into DateType  values ('2653', '2017-04-06' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 96 , 'Thursday', 5, '04062017');
+insert into DateType  values ('2654', '2017-04-07' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 97 , 'Friday', 6, '04072017');
+insert into DateType  values ('2655', '2017-04-08' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 98 , 'Saturday', 7, '04082017');
+insert into DateType  values ('2656', '2017-04-09' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 99 , 'Sunday', 1, '04092017');
+insert into DateType  values ('2657', '2017-04-10' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 100 , 'Monday', 2, '04102017');
+insert into DateType  values ('2658', '2017-04-11' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 101 , 'Tuesday', 3, '04112017');
+insert into DateType  values ('2659', '2017-04-12' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 102 , 'Wednesday', 4, '04122017');
+insert into DateType  values ('2660', '2017-04-13' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 103 , 'Thursday', 5, '04132017');
+insert into DateType  values ('2661', '2017-04-14' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 104 , 'Friday', 6, '04142017');
+insert into DateType  values ('2662', '2017-04-15' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 105 , 'Saturday', 7, '04152017');
+insert into DateType  values ('2663', '2017-04-16' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 106 , 'Sunday', 1, '04162017');
+insert into DateType  values ('2664', '2017-04-17' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 107 , 'Monday', 2, '04172017');
+insert into DateType  values ('2665', '2017-04-18' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 108 , 'Tuesday', 3, '04182017');
+insert into DateType  values ('2666', '2017-04-19' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 109 , 'Wednesday', 4, '04192017');
+insert into DateType  values ('2667', '2017-04-20' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 110 , 'Thursday', 5, '04202017');
+insert into DateType  values ('2668', '2017-04-21' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 111 , 'Friday', 6, '04212017');
+insert into DateType  values ('2669', '2017-04-22' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 112 , 'Saturday', 7, '04222017');
+insert into DateType  values ('2670', '2017-04-23' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 113 , 'Sunday', 1, '04232017');
+insert into DateType  values ('2671', '2017-04-24' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 114 , 'Monday', 2, '04242017');
+insert into DateType  values ('2672', '2017-04-25' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 115 , 'Tuesday', 3, '04252017');
+insert into DateType  values ('2673', '2017-04-26' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 116 , 'Wednesday', 4, '04262017');
+insert into DateType  values ('2674', '2017-04-27' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 117 , 'Thursday', 5, '04272017');
+insert into DateType  values ('2675', '2017-04-28' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 118 , 'Friday', 6, '04282017');
+insert into DateType  values ('2676', '2017-04-29' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 119 , 'Saturday', 7, '04292017');
+insert into DateType  values ('2677', '2017-04-30' , 2017 , '2017', 2 , 4 , 'April', '2017-04' , 120 , 'Sunday', 1, '04302017');
+insert into DateType  values ('2678', '2017-05-01' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 121 , 'Monday', 2, '05012017');
+insert into DateType  values ('2679', '2017-05-02' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 122 , 'Tuesday', 3, '05022017');
+insert into DateType  values ('2680', '2017-05-03' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 123 , 'Wednesday', 4, '05032017');
+insert into DateType  values ('2681', '2017-05-04' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 124 , 'Thursday', 5, '05042017');
+insert into DateType  values ('2682', '2017-05-05' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 125 , 'Friday', 6, '05052017');
+insert into DateType  values ('2683', '2017-05-06' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 126 , 'Saturday', 7, '05062017');
+insert into DateType  values ('2684', '2017-05-07' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 127 , 'Sunday', 1, '05072017');
+insert into DateType  values ('2685', '2017-05-08' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 128 , 'Monday', 2, '05082017');
+insert into DateType  values ('2686', '2017-05-09' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 129 , 'Tuesday', 3, '05092017');
+insert into DateType  values ('2687', '2017-05-10' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 130 , 'Wednesday', 4, '05102017');
+insert into DateType  values ('2688', '2017-05-11' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 131 , 'Thursday', 5, '05112017');
+insert into DateType  values ('2689', '2017-05-12' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 132 , 'Friday', 6, '05122017');
+insert into DateType  values ('2690', '2017-05-13' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 133 , 'Saturday', 7, '05132017');
+insert into DateType  values ('2691', '2017-05-14' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 134 , 'Sunday', 1, '05142017');
+insert into DateType  values ('2692', '2017-05-15' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 135 , 'Monday', 2, '05152017');
+insert into DateType  values ('2693', '2017-05-16' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 136 , 'Tuesday', 3, '05162017');
+insert into DateType  values ('2694', '2017-05-17' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 137 , 'Wednesday', 4, '05172017');
+insert into DateType  values ('2695', '2017-05-18' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 138 , 'Thursday', 5, '05182017');
+insert into DateType  values ('2696', '2017-05-19' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 139 , 'Friday', 6, '05192017');
+insert into DateType  values ('2697', '2017-05-20' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 140 , 'Saturday', 7, '05202017');
+insert into DateType  values ('2698', '2017-05-21' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 141 , 'Sunday', 1, '05212017');
+insert into DateType  values ('2699', '2017-05-22' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 142 , 'Monday', 2, '05222017');
+insert into DateType  values ('2700', '2017-05-23' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 143 , 'Tuesday', 3, '05232017');
+insert into DateType  values ('2701', '2017-05-24' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 144 , 'Wednesday', 4, '05242017');
+insert into DateType  values ('2702', '2017-05-25' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 145 , 'Thursday', 5, '05252017');
+insert into DateType  values ('2703', '2017-05-26' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 146 , 'Friday', 6, '05262017');
+insert into DateType  values ('2704', '2017-05-27' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 147 , 'Saturday', 7, '05272017');
+insert into DateType  values ('2705', '2017-05-28' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 148 , 'Sunday', 1, '05282017');
+insert into DateType  values ('2706', '2017-05-29' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 149 , 'Monday', 2, '05292017');
+insert into DateType  values ('2707', '2017-05-30' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 150 , 'Tuesday', 3, '05302017');
+insert into DateType  values ('2708', '2017-05-31' , 2017 , '2017', 2 , 5 , 'May', '2017-05' , 151 , 'Wednesday', 4, '05312017');
+insert into DateType  values ('2709', '2017-06-01' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 152 , 'Thursday', 5, '06012017');
+insert into DateType  values ('2710', '2017-06-02' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 153 , 'Friday', 6, '06022017');
+insert into DateType  values ('2711', '2017-06-03' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 154 , 'Saturday', 7, '06032017');
+insert into DateType  values ('2712', '2017-06-04' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 155 , 'Sunday', 1, '06042017');
+insert into DateType  values ('2713', '2017-06-05' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 156 , 'Monday', 2, '06052017');
+insert into DateType  values ('2714', '2017-06-06' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 157 , 'Tuesday', 3, '06062017');
+insert into DateType  values ('2715', '2017-06-07' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 158 , 'Wednesday', 4, '06072017');
+insert into DateType  values ('2716', '2017-06-08' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 159 , 'Thursday', 5, '06082017');
+insert into DateType  values ('2717', '2017-06-09' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 160 , 'Friday', 6, '06092017');
+insert into DateType  values ('2718', '2017-06-10' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 161 , 'Saturday', 7, '06102017');
+insert into DateType  values ('2719', '2017-06-11' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 162 , 'Sunday', 1, '06112017');
+insert into DateType  values ('2720', '2017-06-12' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 163 , 'Monday', 2, '06122017');
+insert into DateType  values ('2721', '2017-06-13' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 164 , 'Tuesday', 3, '06132017');
+insert into DateType  values ('2722', '2017-06-14' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 165 , 'Wednesday', 4, '06142017');
+insert into DateType  values ('2723', '2017-06-15' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 166 , 'Thursday', 5, '06152017');
+insert into DateType  values ('2724', '2017-06-16' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 167 , 'Friday', 6, '06162017');
+insert into DateType  values ('2725', '2017-06-17' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 168 , 'Saturday', 7, '06172017');
+insert into DateType  values ('2726', '2017-06-18' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 169 , 'Sunday', 1, '06182017');
+insert into DateType  values ('2727', '2017-06-19' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 170 , 'Monday', 2, '06192017');
+insert into DateType  values ('2728', '2017-06-20' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 171 , 'Tuesday', 3, '06202017');
+insert into DateType  values ('2729', '2017-06-21' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 172 , 'Wednesday', 4, '06212017');
+insert into DateType  values ('2730', '2017-06-22' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 173 , 'Thursday', 5, '06222017');
+insert into DateType  values ('2731', '2017-06-23' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 174 , 'Friday', 6, '06232017');
+insert into DateType  values ('2732', '2017-06-24' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 175 , 'Saturday', 7, '06242017');
+insert into DateType  values ('2733', '2017-06-25' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 176 , 'Sunday', 1, '06252017');
+insert into DateType  values ('2734', '2017-06-26' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 177 , 'Monday', 2, '06262017');
+insert into DateType  values ('2735', '2017-06-27' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 178 , 'Tuesday', 3, '06272017');
+insert into DateType  values ('2736', '2017-06-28' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 179 , 'Wednesday', 4, '06282017');
+insert into DateType  values ('2737', '2017-06-29' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 180 , 'Thursday', 5, '06292017');
+insert into DateType  values ('2738', '2017-06-30' , 2017 , '2017', 2 , 6 , 'June', '2017-06' , 181 , 'Friday', 6, '06302017');
+insert into DateType  values ('2739', '2017-07-01' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 182 , 'Saturday', 7, '07012017');
+insert into DateType  values ('2740', '2017-07-02' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 183 , 'Sunday', 1, '07022017');
+insert into DateType  values ('2741', '2017-07-03' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 184 , 'Monday', 2, '07032017');
+insert into DateType  values ('2742', '2017-07-04' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 185 , 'Tuesday', 3, '07042017');
+insert into DateType  values ('2743', '2017-07-05' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 186 , 'Wednesday', 4, '07052017');
+insert into DateType  values ('2744', '2017-07-06' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 187 , 'Thursday', 5, '07062017');
+insert into DateType  values ('2745', '2017-07-07' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 188 , 'Friday', 6, '07072017');
+insert into DateType  values ('2746', '2017-07-08' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 189 , 'Saturday', 7, '07082017');
+insert into DateType  values ('2747', '2017-07-09' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 190 , 'Sunday', 1, '07092017');
+insert into DateType  values ('2748', '2017-07-10' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 191 , 'Monday', 2, '07102017');
+insert into DateType  values ('2749', '2017-07-11' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 192 , 'Tuesday', 3, '07112017');
+insert into DateType  values ('2750', '2017-07-12' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 193 , 'Wednesday', 4, '07122017');
+insert into DateType  values ('2751', '2017-07-13' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 194 , 'Thursday', 5, '07132017');
+insert into DateType  values ('2752', '2017-07-14' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 195 , 'Friday', 6, '07142017');
+insert into DateType  values ('2753', '2017-07-15' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 196 , 'Saturday', 7, '07152017');
+insert into DateType  values ('2754', '2017-07-16' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 197 , 'Sunday', 1, '07162017');
+insert into DateType  values ('2755', '2017-07-17' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 198 , 'Monday', 2, '07172017');
+insert into DateType  values ('2756', '2017-07-18' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 199 , 'Tuesday', 3, '07182017');
+insert into DateType  values ('2757', '2017-07-19' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 200 , 'Wednesday', 4, '07192017');
+insert into DateType  values ('2758', '2017-07-20' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 201 , 'Thursday', 5, '07202017');
+insert into DateType  values ('2759', '2017-07-21' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 202 , 'Friday', 6, '07212017');
+insert into DateType  values ('2760', '2017-07-22' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 203 , 'Saturday', 7, '07222017');
+insert into DateType  values ('2761', '2017-07-23' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 204 , 'Sunday', 1, '07232017');
+insert into DateType  values ('2762', '2017-07-24' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 205 , 'Monday', 2, '07242017');
+insert into DateType  values ('2763', '2017-07-25' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 206 , 'Tuesday', 3, '07252017');
+insert into DateType  values ('2764', '2017-07-26' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 207 , 'Wednesday', 4, '07262017');
+insert into DateType  values ('2765', '2017-07-27' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 208 , 'Thursday', 5, '07272017');
+insert into DateType  values ('2766', '2017-07-28' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 209 , 'Friday', 6, '07282017');
+insert into DateType  values ('2767', '2017-07-29' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 210 , 'Saturday', 7, '07292017');
+insert into DateType  values ('2768', '2017-07-30' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 211 , 'Sunday', 1, '07302017');
+insert into DateType  values ('2769', '2017-07-31' , 2017 , '2017', 3 , 7 , 'July', '2017-07' , 212 , 'Monday', 2, '07312017');
+insert into DateType  values ('2770', '2017-08-01' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 213 , 'Tuesday', 3, '08012017');
+insert into DateType  values ('2771', '2017-08-02' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 214 , 'Wednesday', 4, '08022017');
+insert into DateType  values ('2772', '2017-08-03' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 215 , 'Thursday', 5, '08032017');
+insert into DateType  values ('2773', '2017-08-04' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 216 , 'Friday', 6, '08042017');
+insert into DateType  values ('2774', '2017-08-05' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 217 , 'Saturday', 7, '08052017');
+insert into DateType  values ('2775', '2017-08-06' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 218 , 'Sunday', 1, '08062017');
+insert into DateType  values ('2776', '2017-08-07' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 219 , 'Monday', 2, '08072017');
+insert into DateType  values ('2777', '2017-08-08' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 220 , 'Tuesday', 3, '08082017');
+insert into DateType  values ('2778', '2017-08-09' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 221 , 'Wednesday', 4, '08092017');
+insert into DateType  values ('2779', '2017-08-10' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 222 , 'Thursday', 5, '08102017');
+insert into DateType  values ('2780', '2017-08-11' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 223 , 'Friday', 6, '08112017');
+insert into DateType  values ('2781', '2017-08-12' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 224 , 'Saturday', 7, '08122017');
+insert into DateType  values ('2782', '2017-08-13' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 225 , 'Sunday', 1, '08132017');
+insert into DateType  values ('2783', '2017-08-14' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 226 , 'Monday', 2, '08142017');
+insert into DateType  values ('2784', '2017-08-15' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 227 , 'Tuesday', 3, '08152017');
+insert into DateType  values ('2785', '2017-08-16' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 228 , 'Wednesday', 4, '08162017');
+insert into DateType  values ('2786', '2017-08-17' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 229 , 'Thursday', 5, '08172017');
+insert into DateType  values ('2787', '2017-08-18' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 230 , 'Friday', 6, '08182017');
+insert into DateType  values ('2788', '2017-08-19' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 231 , 'Saturday', 7, '08192017');
+insert into DateType  values ('2789', '2017-08-20' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 232 , 'Sunday', 1, '08202017');
+insert into DateType  values ('2790', '2017-08-21' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 233 , 'Monday', 2, '08212017');
+insert into DateType  values ('2791', '2017-08-22' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 234 , 'Tuesday', 3, '08222017');
+insert into DateType  values ('2792', '2017-08-23' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 235 , 'Wednesday', 4, '08232017');
+insert into DateType  values ('2793', '2017-08-24' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 236 , 'Thursday', 5, '08242017');
+insert into DateType  values ('2794', '2017-08-25' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 237 , 'Friday', 6, '08252017');
+insert into DateType  values ('2795', '2017-08-26' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 238 , 'Saturday', 7, '08262017');
+insert into DateType  values ('2796', '2017-08-27' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 239 , 'Sunday', 1, '08272017');
+insert into DateType  values ('2797', '2017-08-28' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 240 , 'Monday', 2, '08282017');
+insert into DateType  values ('2798', '2017-08-29' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 241 , 'Tuesday', 3, '08292017');
+insert into DateType  values ('2799', '2017-08-30' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 242 , 'Wednesday', 4, '08302017');
+insert into DateType  values ('2800', '2017-08-31' , 2017 , '2017', 3 , 8 , 'August', '2017-08' , 243 , 'Thursday', 5, '08312017');
+insert into DateType  values ('2801', '2017-09-01' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 244 , 'Friday', 6, '09012017');
+insert into DateType  values ('2802', '2017-09-02' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 245 , 'Saturday', 7, '09022017');
+insert into DateType  values ('2803', '2017-09-03' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 246 , 'Sunday', 1, '09032017');
+insert into DateType  values ('2804', '2017-09-04' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 247 , 'Monday', 2, '09042017');
+insert into DateType  values ('2805', '2017-09-05' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 248 , 'Tuesday', 3, '09052017');
+insert into DateType  values ('2806', '2017-09-06' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 249 , 'Wednesday', 4, '09062017');
+insert into DateType  values ('2807', '2017-09-07' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 250 , 'Thursday', 5, '09072017');
+insert into DateType  values ('2808', '2017-09-08' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 251 , 'Friday', 6, '09082017');
+insert into DateType  values ('2809', '2017-09-09' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 252 , 'Saturday', 7, '09092017');
+insert into DateType  values ('2810', '2017-09-10' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 253 , 'Sunday', 1, '09102017');
+insert into DateType  values ('2811', '2017-09-11' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 254 , 'Monday', 2, '09112017');
+insert into DateType  values ('2812', '2017-09-12' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 255 , 'Tuesday', 3, '09122017');
+insert into DateType  values ('2813', '2017-09-13' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 256 , 'Wednesday', 4, '09132017');
+insert into DateType  values ('2814', '2017-09-14' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 257 , 'Thursday', 5, '09142017');
+insert into DateType  values ('2815', '2017-09-15' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 258 , 'Friday', 6, '09152017');
+insert into DateType  values ('2816', '2017-09-16' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 259 , 'Saturday', 7, '09162017');
+insert into DateType  values ('2817', '2017-09-17' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 260 , 'Sunday', 1, '09172017');
+insert into DateType  values ('2818', '2017-09-18' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 261 , 'Monday', 2, '09182017');
+insert into DateType  values ('2819', '2017-09-19' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 262 , 'Tuesday', 3, '09192017');
+insert into DateType  values ('2820', '2017-09-20' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 263 , 'Wednesday', 4, '09202017');
+insert into DateType  values ('2821', '2017-09-21' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 264 , 'Thursday', 5, '09212017');
+insert into DateType  values ('2822', '2017-09-22' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 265 , 'Friday', 6, '09222017');
+insert into DateType  values ('2823', '2017-09-23' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 266 , 'Saturday', 7, '09232017');
+insert into DateType  values ('2824', '2017-09-24' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 267 , 'Sunday', 1, '09242017');
+insert into DateType  values ('2825', '2017-09-25' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 268 , 'Monday', 2, '09252017');
+insert into DateType  values ('2826', '2017-09-26' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 269 , 'Tuesday', 3, '09262017');
+insert into DateType  values ('2827', '2017-09-27' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 270 , 'Wednesday', 4, '09272017');
+insert into DateType  values ('2828', '2017-09-28' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 271 , 'Thursday', 5, '09282017');
+insert into DateType  values ('2829', '2017-09-29' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 272 , 'Friday', 6, '09292017');
+insert into DateType  values ('2830', '2017-09-30' , 2017 , '2017', 3 , 9 , 'September', '2017-09' , 273 , 'Saturday', 7, '09302017');
+insert into DateType  values ('2831', '2017-10-01' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 274 , 'Sunday', 1, '10012017');
+insert into DateType  values ('2832', '2017-10-02' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 275 , 'Monday', 2, '10022017');
+insert into DateType  values ('2833', '2017-10-03' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 276 , 'Tuesday', 3, '10032017');
+insert into DateType  values ('2834', '2017-10-04' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 277 , 'Wednesday', 4, '10042017');
+insert into DateType  values ('2835', '2017-10-05' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 278 , 'Thursday', 5, '10052017');
+insert into DateType  values ('2836', '2017-10-06' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 279 , 'Friday', 6, '10062017');
+insert into DateType  values ('2837', '2017-10-07' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 280 , 'Saturday', 7, '10072017');
+insert into DateType  values ('2838', '2017-10-08' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 281 , 'Sunday', 1, '10082017');
+insert into DateType  values ('2839', '2017-10-09' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 282 , 'Monday', 2, '10092017');
+insert into DateType  values ('2840', '2017-10-10' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 283 , 'Tuesday', 3, '10102017');
+insert into DateType  values ('2841', '2017-10-11' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 284 , 'Wednesday', 4, '10112017');
+insert into DateType  values ('2842', '2017-10-12' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 285 , 'Thursday', 5, '10122017');
+insert into DateType  values ('2843', '2017-10-13' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 286 , 'Friday', 6, '10132017');
+insert into DateType  values ('2844', '2017-10-14' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 287 , 'Saturday', 7, '10142017');
+insert into DateType  values ('2845', '2017-10-15' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 288 , 'Sunday', 1, '10152017');
+insert into DateType  values ('2846', '2017-10-16' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 289 , 'Monday', 2, '10162017');
+insert into DateType  values ('2847', '2017-10-17' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 290 , 'Tuesday', 3, '10172017');
+insert into DateType  values ('2848', '2017-10-18' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 291 , 'Wednesday', 4, '10182017');
+insert into DateType  values ('2849', '2017-10-19' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 292 , 'Thursday', 5, '10192017');
+insert into DateType  values ('2850', '2017-10-20' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 293 , 'Friday', 6, '10202017');
+insert into DateType  values ('2851', '2017-10-21' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 294 , 'Saturday', 7, '10212017');
+insert into DateType  values ('2852', '2017-10-22' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 295 , 'Sunday', 1, '10222017');
+insert into DateType  values ('2853', '2017-10-23' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 296 , 'Monday', 2, '10232017');
+insert into DateType  values ('2854', '2017-10-24' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 297 , 'Tuesday', 3, '10242017');
+insert into DateType  values ('2855', '2017-10-25' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 298 , 'Wednesday', 4, '10252017');
+insert into DateType  values ('2856', '2017-10-26' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 299 , 'Thursday', 5, '10262017');
+insert into DateType  values ('2857', '2017-10-27' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 300 , 'Friday', 6, '10272017');
+insert into DateType  values ('2858', '2017-10-28' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 301 , 'Saturday', 7, '10282017');
+insert into DateType  values ('2859', '2017-10-29' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 302 , 'Sunday', 1, '10292017');
+insert into DateType  values ('2860', '2017-10-30' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 303 , 'Monday', 2, '10302017');
+insert into DateType  values ('2861', '2017-10-31' , 2017 , '2017', 4 , 10 , 'October', '2017-10' , 304 , 'Tuesday', 3, '10312017');
+insert into DateType  values ('2862', '2017-11-01' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 305 , 'Wednesday', 4, '11012017');
+insert into DateType  values ('2863', '2017-11-02' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 306 , 'Thursday', 5, '11022017');
+insert into DateType  values ('2864', '2017-11-03' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 307 , 'Friday', 6, '11032017');
+insert into DateType  values ('2865', '2017-11-04' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 308 , 'Saturday', 7, '11042017');
+insert into DateType  values ('2866', '2017-11-05' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 309 , 'Sunday', 1, '11052017');
+insert into DateType  values ('2867', '2017-11-06' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 310 , 'Monday', 2, '11062017');
+insert into DateType  values ('2868', '2017-11-07' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 311 , 'Tuesday', 3, '11072017');
+insert into DateType  values ('2869', '2017-11-08' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 312 , 'Wednesday', 4, '11082017');
+insert into DateType  values ('2870', '2017-11-09' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 313 , 'Thursday', 5, '11092017');
+insert into DateType  values ('2871', '2017-11-10' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 314 , 'Friday', 6, '11102017');
+insert into DateType  values ('2872', '2017-11-11' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 315 , 'Saturday', 7, '11112017');
+insert into DateType  values ('2873', '2017-11-12' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 316 , 'Sunday', 1, '11122017');
+insert into DateType  values ('2874', '2017-11-13' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 317 , 'Monday', 2, '11132017');
+insert into DateType  values ('2875', '2017-11-14' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 318 , 'Tuesday', 3, '11142017');
+insert into DateType  values ('2876', '2017-11-15' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 319 , 'Wednesday', 4, '11152017');
+insert into DateType  values ('2877', '2017-11-16' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 320 , 'Thursday', 5, '11162017');
+insert into DateType  values ('2878', '2017-11-17' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 321 , 'Friday', 6, '11172017');
+insert into DateType  values ('2879', '2017-11-18' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 322 , 'Saturday', 7, '11182017');
+insert into DateType  values ('2880', '2017-11-19' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 323 , 'Sunday', 1, '11192017');
+insert into DateType  values ('2881', '2017-11-20' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 324 , 'Monday', 2, '11202017');
+insert into DateType  values ('2882', '2017-11-21' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 325 , 'Tuesday', 3, '11212017');
+insert into DateType  values ('2883', '2017-11-22' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 326 , 'Wednesday', 4, '11222017');
+insert into DateType  values ('2884', '2017-11-23' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 327 , 'Thursday', 5, '11232017');
+insert into DateType  values ('2885', '2017-11-24' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 328 , 'Friday', 6, '11242017');
+insert into DateType  values ('2886', '2017-11-25' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 329 , 'Saturday', 7, '11252017');
+insert into DateType  values ('2887', '2017-11-26' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 330 , 'Sunday', 1, '11262017');
+insert into DateType  values ('2888', '2017-11-27' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 331 , 'Monday', 2, '11272017');
+insert into DateType  values ('2889', '2017-11-28' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 332 , 'Tuesday', 3, '11282017');
+insert into DateType  values ('2890', '2017-11-29' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 333 , 'Wednesday', 4, '11292017');
+insert into DateType  values ('2891', '2017-11-30' , 2017 , '2017', 4 , 11 , 'November', '2017-11' , 334 , 'Thursday', 5, '11302017');
+insert into DateType  values ('2892', '2017-12-01' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 335 , 'Friday', 6, '12012017');
+insert into DateType  values ('2893', '2017-12-02' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 336 , 'Saturday', 7, '12022017');
+insert into DateType  values ('2894', '2017-12-03' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 337 , 'Sunday', 1, '12032017');
+insert into DateType  values ('2895', '2017-12-04' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 338 , 'Monday', 2, '12042017');
+insert into DateType  values ('2896', '2017-12-05' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 339 , 'Tuesday', 3, '12052017');
+insert into DateType  values ('2897', '2017-12-06' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 340 , 'Wednesday', 4, '12062017');
+insert into DateType  values ('2898', '2017-12-07' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 341 , 'Thursday', 5, '12072017');
+insert into DateType  values ('2899', '2017-12-08' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 342 , 'Friday', 6, '12082017');
+insert into DateType  values ('2900', '2017-12-09' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 343 , 'Saturday', 7, '12092017');
+insert into DateType  values ('2901', '2017-12-10' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 344 , 'Sunday', 1, '12102017');
+insert into DateType  values ('2902', '2017-12-11' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 345 , 'Monday', 2, '12112017');
+insert into DateType  values ('2903', '2017-12-12' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 346 , 'Tuesday', 3, '12122017');
+insert into DateType  values ('2904', '2017-12-13' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 347 , 'Wednesday', 4, '12132017');
+insert into DateType  values ('2905', '2017-12-14' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 348 , 'Thursday', 5, '12142017');
+insert into DateType  values ('2906', '2017-12-15' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 349 , 'Friday', 6, '12152017');
+insert into DateType  values ('2907', '2017-12-16' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 350 , 'Saturday', 7, '12162017');
+insert into DateType  values ('2908', '2017-12-17' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 351 , 'Sunday', 1, '12172017');
+insert into DateType  values ('2909', '2017-12-18' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 352 , 'Monday', 2, '12182017');
+insert into DateType  values ('2910', '2017-12-19' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 353 , 'Tuesday', 3, '12192017');
+insert into DateType  values ('2911', '2017-12-20' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 354 , 'Wednesday', 4, '12202017');
+insert into DateType  values ('2912', '2017-12-21' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 355 , 'Thursday', 5, '12212017');
+insert into DateType  values ('2913', '2017-12-22' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 356 , 'Friday', 6, '12222017');
+insert into DateType  values ('2914', '2017-12-23' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 357 , 'Saturday', 7, '12232017');
+insert into DateType  values ('2915', '2017-12-24' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 358 , 'Sunday', 1, '12242017');
+insert into DateType  values ('2916', '2017-12-25' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 359 , 'Monday', 2, '12252017');
+insert into DateType  values ('2917', '2017-12-26' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 360 , 'Tuesday', 3, '12262017');
+insert into DateType  values ('2918', '2017-12-27' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 361 , 'Wednesday', 4, '12272017');
+insert into DateType  values ('2919', '2017-12-28' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 362 , 'Thursday', 5, '12282017');
+insert into DateType  values ('2920', '2017-12-29' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 363 , 'Friday', 6, '12292017');
+insert into DateType  values ('2921', '2017-12-30' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 364 , 'Saturday', 7, '12302017');
+insert into DateType  values ('2922', '2017-12-31' , 2017 , '2017', 4 , 12 , 'December', '2017-12' , 365 , 'Sunday', 1, '12312017');
+insert into DateType  values ('2923', '2018-01-01' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 1 , 'Monday', 2, '01012018');
+insert into DateType  values ('2924', '2018-01-02' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 2 , 'Tuesday', 3, '01022018');
+insert into DateType  values ('2925', '2018-01-03' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 3 , 'Wednesday', 4, '01032018');
+insert into DateType  values ('2926', '2018-01-04' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 4 , 'Thursday', 5, '01042018');
+insert into DateType  values ('2927', '2018-01-05' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 5 , 'Friday', 6, '01052018');
+insert into DateType  values ('2928', '2018-01-06' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 6 , 'Saturday', 7, '01062018');
+insert into DateType  values ('2929', '2018-01-07' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 7 , 'Sunday', 1, '01072018');
+insert into DateType  values ('2930', '2018-01-08' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 8 , 'Monday', 2, '01082018');
+insert into DateType  values ('2931', '2018-01-09' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 9 , 'Tuesday', 3, '01092018');
+insert into DateType  values ('2932', '2018-01-10' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 10 , 'Wednesday', 4, '01102018');
+insert into DateType  values ('2933', '2018-01-11' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 11 , 'Thursday', 5, '01112018');
+insert into DateType  values ('2934', '2018-01-12' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 12 , 'Friday', 6, '01122018');
+insert into DateType  values ('2935', '2018-01-13' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 13 , 'Saturday', 7, '01132018');
+insert into DateType  values ('2936', '2018-01-14' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 14 , 'Sunday', 1, '01142018');
+insert into DateType  values ('2937', '2018-01-15' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 15 , 'Monday', 2, '01152018');
+insert into DateType  values ('2938', '2018-01-16' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 16 , 'Tuesday', 3, '01162018');
+insert into DateType  values ('2939', '2018-01-17' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 17 , 'Wednesday', 4, '01172018');
+insert into DateType  values ('2940', '2018-01-18' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 18 , 'Thursday', 5, '01182018');
+insert into DateType  values ('2941', '2018-01-19' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 19 , 'Friday', 6, '01192018');
+insert into DateType  values ('2942', '2018-01-20' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 20 , 'Saturday', 7, '01202018');
+insert into DateType  values ('2943', '2018-01-21' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 21 , 'Sunday', 1, '01212018');
+insert into DateType  values ('2944', '2018-01-22' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 22 , 'Monday', 2, '01222018');
+insert into DateType  values ('2945', '2018-01-23' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 23 , 'Tuesday', 3, '01232018');
+insert into DateType  values ('2946', '2018-01-24' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 24 , 'Wednesday', 4, '01242018');
+insert into DateType  values ('2947', '2018-01-25' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 25 , 'Thursday', 5, '01252018');
+insert into DateType  values ('2948', '2018-01-26' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 26 , 'Friday', 6, '01262018');
+insert into DateType  values ('2949', '2018-01-27' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 27 , 'Saturday', 7, '01272018');
+insert into DateType  values ('2950', '2018-01-28' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 28 , 'Sunday', 1, '01282018');
+insert into DateType  values ('2951', '2018-01-29' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 29 , 'Monday', 2, '01292018');
+insert into DateType  values ('2952', '2018-01-30' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 30 , 'Tuesday', 3, '01302018');
+insert into DateType  values ('2953', '2018-01-31' , 2018 , '2018', 1 , 1 , 'January', '2018-01' , 31 , 'Wednesday', 4, '01312018');
+insert into DateType  values ('2954', '2018-02-01' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 32 , 'Thursday', 5, '02012018');
+insert into DateType  values ('2955', '2018-02-02' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 33 , 'Friday', 6, '02022018');
+insert into DateType  values ('2956', '2018-02-03' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 34 , 'Saturday', 7, '02032018');
+insert into DateType  values ('2957', '2018-02-04' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 35 , 'Sunday', 1, '02042018');
+insert into DateType  values ('2958', '2018-02-05' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 36 , 'Monday', 2, '02052018');
+insert into DateType  values ('2959', '2018-02-06' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 37 , 'Tuesday', 3, '02062018');
+insert into DateType  values ('2960', '2018-02-07' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 38 , 'Wednesday', 4, '02072018');
+insert into DateType  values ('2961', '2018-02-08' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 39 , 'Thursday', 5, '02082018');
+insert into DateType  values ('2962', '2018-02-09' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 40 , 'Friday', 6, '02092018');
+insert into DateType  values ('2963', '2018-02-10' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 41 , 'Saturday', 7, '02102018');
+insert into DateType  values ('2964', '2018-02-11' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 42 , 'Sunday', 1, '02112018');
+insert into DateType  values ('2965', '2018-02-12' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 43 , 'Monday', 2, '02122018');
+insert into DateType  values ('2966', '2018-02-13' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 44 , 'Tuesday', 3, '02132018');
+insert into DateType  values ('2967', '2018-02-14' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 45 , 'Wednesday', 4, '02142018');
+insert into DateType  values ('2968', '2018-02-15' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 46 , 'Thursday', 5, '02152018');
+insert into DateType  values ('2969', '2018-02-16' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 47 , 'Friday', 6, '02162018');
+insert into DateType  values ('2970', '2018-02-17' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 48 , 'Saturday', 7, '02172018');
+insert into DateType  values ('2971', '2018-02-18' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 49 , 'Sunday', 1, '02182018');
+insert into DateType  values ('2972', '2018-02-19' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 50 , 'Monday', 2, '02192018');
+insert into DateType  values ('2973', '2018-02-20' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 51 , 'Tuesday', 3, '02202018');
+insert into DateType  values ('2974', '2018-02-21' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 52 , 'Wednesday', 4, '02212018');
+insert into DateType  values ('2975', '2018-02-22' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 53 , 'Thursday', 5, '02222018');
+insert into DateType  values ('2976', '2018-02-23' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 54 , 'Friday', 6, '02232018');
+insert into DateType  values ('2977', '2018-02-24' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 55 , 'Saturday', 7, '02242018');
+insert into DateType  values ('2978', '2018-02-25' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 56 , 'Sunday', 1, '02252018');
+insert into DateType  values ('2979', '2018-02-26' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 57 , 'Monday', 2, '02262018');
+insert into DateType  values ('2980', '2018-02-27' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 58 , 'Tuesday', 3, '02272018');
+insert into DateType  values ('2981', '2018-02-28' , 2018 , '2018', 1 , 2 , 'February', '2018-02' , 59 , 'Wednesday', 4, '02282018');
+insert into DateType  values ('2982', '2018-03-01' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 60 , 'Thursday', 5, '03012018');
+insert into DateType  values ('2983', '2018-03-02' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 61 , 'Friday', 6, '03022018');
+insert into DateType  values ('2984', '2018-03-03' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 62 , 'Saturday', 7, '03032018');
+insert into DateType  values ('2985', '2018-03-04' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 63 , 'Sunday', 1, '03042018');
+insert into DateType  values ('2986', '2018-03-05' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 64 , 'Monday', 2, '03052018');
+insert into DateType  values ('2987', '2018-03-06' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 65 , 'Tuesday', 3, '03062018');
+insert into DateType  values ('2988', '2018-03-07' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 66 , 'Wednesday', 4, '03072018');
+insert into DateType  values ('2989', '2018-03-08' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 67 , 'Thursday', 5, '03082018');
+insert into DateType  values ('2990', '2018-03-09' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 68 , 'Friday', 6, '03092018');
+insert into DateType  values ('2991', '2018-03-10' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 69 , 'Saturday', 7, '03102018');
+insert into DateType  values ('2992', '2018-03-11' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 70 , 'Sunday', 1, '03112018');
+insert into DateType  values ('2993', '2018-03-12' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 71 , 'Monday', 2, '03122018');
+insert into DateType  values ('2994', '2018-03-13' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 72 , 'Tuesday', 3, '03132018');
+insert into DateType  values ('2995', '2018-03-14' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 73 , 'Wednesday', 4, '03142018');
+insert into DateType  values ('2996', '2018-03-15' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 74 , 'Thursday', 5, '03152018');
+insert into DateType  values ('2997', '2018-03-16' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 75 , 'Friday', 6, '03162018');
+insert into DateType  values ('2998', '2018-03-17' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 76 , 'Saturday', 7, '03172018');
+insert into DateType  values ('2999', '2018-03-18' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 77 , 'Sunday', 1, '03182018');
+insert into DateType  values ('3000', '2018-03-19' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 78 , 'Monday', 2, '03192018');
+insert into DateType  values ('3001', '2018-03-20' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 79 , 'Tuesday', 3, '03202018');
+insert into DateType  values ('3002', '2018-03-21' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 80 , 'Wednesday', 4, '03212018');
+insert into DateType  values ('3003', '2018-03-22' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 81 , 'Thursday', 5, '03222018');
+insert into DateType  values ('3004', '2018-03-23' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 82 , 'Friday', 6, '03232018');
+insert into DateType  values ('3005', '2018-03-24' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 83 , 'Saturday', 7, '03242018');
+insert into DateType  values ('3006', '2018-03-25' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 84 , 'Sunday', 1, '03252018');
+insert into DateType  values ('3007', '2018-03-26' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 85 , 'Monday', 2, '03262018');
+insert into DateType  values ('3008', '2018-03-27' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 86 , 'Tuesday', 3, '03272018');
+insert into DateType  values ('3009', '2018-03-28' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 87 , 'Wednesday', 4, '03282018');
+insert into DateType  values ('3010', '2018-03-29' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 88 , 'Thursday', 5, '03292018');
+insert into DateType  values ('3011', '2018-03-30' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 89 , 'Friday', 6, '03302018');
+insert into DateType  values ('3012', '2018-03-31' , 2018 , '2018', 1 , 3 , 'March', '2018-03' , 90 , 'Saturday', 7, '03312018');
+insert into DateType  values ('3013', '2018-04-01' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 91 , 'Sunday', 1, '04012018');
+insert into DateType  values ('3014', '2018-04-02' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 92 , 'Monday', 2, '04022018');
+insert into DateType  values ('3015', '2018-04-03' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 93 , 'Tuesday', 3, '04032018');
+insert into DateType  values ('3016', '2018-04-04' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 94 , 'Wednesday', 4, '04042018');
+insert into DateType  values ('3017', '2018-04-05' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 95 , 'Thursday', 5, '04052018');
+insert into DateType  values ('3018', '2018-04-06' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 96 , 'Friday', 6, '04062018');
+insert into DateType  values ('3019', '2018-04-07' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 97 , 'Saturday', 7, '04072018');
+insert into DateType  values ('3020', '2018-04-08' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 98 , 'Sunday', 1, '04082018');
+insert into DateType  values ('3021', '2018-04-09' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 99 , 'Monday', 2, '04092018');
+insert into DateType  values ('3022', '2018-04-10' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 100 , 'Tuesday', 3, '04102018');
+insert into DateType  values ('3023', '2018-04-11' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 101 , 'Wednesday', 4, '04112018');
+insert into DateType  values ('3024', '2018-04-12' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 102 , 'Thursday', 5, '04122018');
+insert into DateType  values ('3025', '2018-04-13' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 103 , 'Friday', 6, '04132018');
+insert into DateType  values ('3026', '2018-04-14' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 104 , 'Saturday', 7, '04142018');
+insert into DateType  values ('3027', '2018-04-15' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 105 , 'Sunday', 1, '04152018');
+insert into DateType  values ('3028', '2018-04-16' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 106 , 'Monday', 2, '04162018');
+insert into DateType  values ('3029', '2018-04-17' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 107 , 'Tuesday', 3, '04172018');
+insert into DateType  values ('3030', '2018-04-18' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 108 , 'Wednesday', 4, '04182018');
+insert into DateType  values ('3031', '2018-04-19' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 109 , 'Thursday', 5, '04192018');
+insert into DateType  values ('3032', '2018-04-20' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 110 , 'Friday', 6, '04202018');
+insert into DateType  values ('3033', '2018-04-21' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 111 , 'Saturday', 7, '04212018');
+insert into DateType  values ('3034', '2018-04-22' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 112 , 'Sunday', 1, '04222018');
+insert into DateType  values ('3035', '2018-04-23' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 113 , 'Monday', 2, '04232018');
+insert into DateType  values ('3036', '2018-04-24' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 114 , 'Tuesday', 3, '04242018');
+insert into DateType  values ('3037', '2018-04-25' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 115 , 'Wednesday', 4, '04252018');
+insert into DateType  values ('3038', '2018-04-26' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 116 , 'Thursday', 5, '04262018');
+insert into DateType  values ('3039', '2018-04-27' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 117 , 'Friday', 6, '04272018');
+insert into DateType  values ('3040', '2018-04-28' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 118 , 'Saturday', 7, '04282018');
+insert into DateType  values ('3041', '2018-04-29' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 119 , 'Sunday', 1, '04292018');
+insert into DateType  values ('3042', '2018-04-30' , 2018 , '2018', 2 , 4 , 'April', '2018-04' , 120 , 'Monday', 2, '04302018');
+insert into DateType  values ('3043', '2018-05-01' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 121 , 'Tuesday', 3, '05012018');
+insert into DateType  values ('3044', '2018-05-02' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 122 , 'Wednesday', 4, '05022018');
+insert into DateType  values ('3045', '2018-05-03' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 123 , 'Thursday', 5, '05032018');
+insert into DateType  values ('3046', '2018-05-04' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 124 , 'Friday', 6, '05042018');
+insert into DateType  values ('3047', '2018-05-05' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 125 , 'Saturday', 7, '05052018');
+insert into DateType  values ('3048', '2018-05-06' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 126 , 'Sunday', 1, '05062018');
+insert into DateType  values ('3049', '2018-05-07' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 127 , 'Monday', 2, '05072018');
+insert into DateType  values ('3050', '2018-05-08' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 128 , 'Tuesday', 3, '05082018');
+insert into DateType  values ('3051', '2018-05-09' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 129 , 'Wednesday', 4, '05092018');
+insert into DateType  values ('3052', '2018-05-10' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 130 , 'Thursday', 5, '05102018');
+insert into DateType  values ('3053', '2018-05-11' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 131 , 'Friday', 6, '05112018');
+insert into DateType  values ('3054', '2018-05-12' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 132 , 'Saturday', 7, '05122018');
+insert into DateType  values ('3055', '2018-05-13' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 133 , 'Sunday', 1, '05132018');
+insert into DateType  values ('3056', '2018-05-14' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 134 , 'Monday', 2, '05142018');
+insert into DateType  values ('3057', '2018-05-15' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 135 , 'Tuesday', 3, '05152018');
+insert into DateType  values ('3058', '2018-05-16' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 136 , 'Wednesday', 4, '05162018');
+insert into DateType  values ('3059', '2018-05-17' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 137 , 'Thursday', 5, '05172018');
+insert into DateType  values ('3060', '2018-05-18' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 138 , 'Friday', 6, '05182018');
+insert into DateType  values ('3061', '2018-05-19' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 139 , 'Saturday', 7, '05192018');
+insert into DateType  values ('3062', '2018-05-20' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 140 , 'Sunday', 1, '05202018');
+insert into DateType  values ('3063', '2018-05-21' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 141 , 'Monday', 2, '05212018');
+insert into DateType  values ('3064', '2018-05-22' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 142 , 'Tuesday', 3, '05222018');
+insert into DateType  values ('3065', '2018-05-23' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 143 , 'Wednesday', 4, '05232018');
+insert into DateType  values ('3066', '2018-05-24' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 144 , 'Thursday', 5, '05242018');
+insert into DateType  values ('3067', '2018-05-25' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 145 , 'Friday', 6, '05252018');
+insert into DateType  values ('3068', '2018-05-26' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 146 , 'Saturday', 7, '05262018');
+insert into DateType  values ('3069', '2018-05-27' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 147 , 'Sunday', 1, '05272018');
+insert into DateType  values ('3070', '2018-05-28' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 148 , 'Monday', 2, '05282018');
+insert into DateType  values ('3071', '2018-05-29' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 149 , 'Tuesday', 3, '05292018');
+insert into DateType  values ('3072', '2018-05-30' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 150 , 'Wednesday', 4, '05302018');
+insert into DateType  values ('3073', '2018-05-31' , 2018 , '2018', 2 , 5 , 'May', '2018-05' , 151 , 'Thursday', 5, '05312018');
+insert into DateType  values ('3074', '2018-06-01' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 152 , 'Friday', 6, '06012018');
+insert into DateType  values ('3075', '2018-06-02' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 153 , 'Saturday', 7, '06022018');
+insert into DateType  values ('3076', '2018-06-03' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 154 , 'Sunday', 1, '06032018');
+insert into DateType  values ('3077', '2018-06-04' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 155 , 'Monday', 2, '06042018');
+insert into DateType  values ('3078', '2018-06-05' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 156 , 'Tuesday', 3, '06052018');
+insert into DateType  values ('3079', '2018-06-06' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 157 , 'Wednesday', 4, '06062018');
+insert into DateType  values ('3080', '2018-06-07' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 158 , 'Thursday', 5, '06072018');
+insert into DateType  values ('3081', '2018-06-08' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 159 , 'Friday', 6, '06082018');
+insert into DateType  values ('3082', '2018-06-09' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 160 , 'Saturday', 7, '06092018');
+insert into DateType  values ('3083', '2018-06-10' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 161 , 'Sunday', 1, '06102018');
+insert into DateType  values ('3084', '2018-06-11' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 162 , 'Monday', 2, '06112018');
+insert into DateType  values ('3085', '2018-06-12' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 163 , 'Tuesday', 3, '06122018');
+insert into DateType  values ('3086', '2018-06-13' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 164 , 'Wednesday', 4, '06132018');
+insert into DateType  values ('3087', '2018-06-14' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 165 , 'Thursday', 5, '06142018');
+insert into DateType  values ('3088', '2018-06-15' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 166 , 'Friday', 6, '06152018');
+insert into DateType  values ('3089', '2018-06-16' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 167 , 'Saturday', 7, '06162018');
+insert into DateType  values ('3090', '2018-06-17' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 168 , 'Sunday', 1, '06172018');
+insert into DateType  values ('3091', '2018-06-18' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 169 , 'Monday', 2, '06182018');
+insert into DateType  values ('3092', '2018-06-19' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 170 , 'Tuesday', 3, '06192018');
+insert into DateType  values ('3093', '2018-06-20' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 171 , 'Wednesday', 4, '06202018');
+insert into DateType  values ('3094', '2018-06-21' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 172 , 'Thursday', 5, '06212018');
+insert into DateType  values ('3095', '2018-06-22' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 173 , 'Friday', 6, '06222018');
+insert into DateType  values ('3096', '2018-06-23' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 174 , 'Saturday', 7, '06232018');
+insert into DateType  values ('3097', '2018-06-24' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 175 , 'Sunday', 1, '06242018');
+insert into DateType  values ('3098', '2018-06-25' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 176 , 'Monday', 2, '06252018');
+insert into DateType  values ('3099', '2018-06-26' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 177 , 'Tuesday', 3, '06262018');
+insert into DateType  values ('3100', '2018-06-27' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 178 , 'Wednesday', 4, '06272018');
+insert into DateType  values ('3101', '2018-06-28' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 179 , 'Thursday', 5, '06282018');
+insert into DateType  values ('3102', '2018-06-29' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 180 , 'Friday', 6, '06292018');
+insert into DateType  values ('3103', '2018-06-30' , 2018 , '2018', 2 , 6 , 'June', '2018-06' , 181 , 'Saturday', 7, '06302018');
+insert into DateType  values ('3104', '2018-07-01' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 182 , 'Sunday', 1, '07012018');
+insert into DateType  values ('3105', '2018-07-02' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 183 , 'Monday', 2, '07022018');
+insert into DateType  values ('3106', '2018-07-03' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 184 , 'Tuesday', 3, '07032018');
+insert into DateType  values ('3107', '2018-07-04' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 185 , 'Wednesday', 4, '07042018');
+insert into DateType  values ('3108', '2018-07-05' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 186 , 'Thursday', 5, '07052018');
+insert into DateType  values ('3109', '2018-07-06' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 187 , 'Friday', 6, '07062018');
+insert into DateType  values ('3110', '2018-07-07' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 188 , 'Saturday', 7, '07072018');
+insert into DateType  values ('3111', '2018-07-08' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 189 , 'Sunday', 1, '07082018');
+insert into DateType  values ('3112', '2018-07-09' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 190 , 'Monday', 2, '07092018');
+insert into DateType  values ('3113', '2018-07-10' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 191 , 'Tuesday', 3, '07102018');
+insert into DateType  values ('3114', '2018-07-11' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 192 , 'Wednesday', 4, '07112018');
+insert into DateType  values ('3115', '2018-07-12' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 193 , 'Thursday', 5, '07122018');
+insert into DateType  values ('3116', '2018-07-13' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 194 , 'Friday', 6, '07132018');
+insert into DateType  values ('3117', '2018-07-14' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 195 , 'Saturday', 7, '07142018');
+insert into DateType  values ('3118', '2018-07-15' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 196 , 'Sunday', 1, '07152018');
+insert into DateType  values ('3119', '2018-07-16' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 197 , 'Monday', 2, '07162018');
+insert into DateType  values ('3120', '2018-07-17' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 198 , 'Tuesday', 3, '07172018');
+insert into DateType  values ('3121', '2018-07-18' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 199 , 'Wednesday', 4, '07182018');
+insert into DateType  values ('3122', '2018-07-19' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 200 , 'Thursday', 5, '07192018');
+insert into DateType  values ('3123', '2018-07-20' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 201 , 'Friday', 6, '07202018');
+insert into DateType  values ('3124', '2018-07-21' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 202 , 'Saturday', 7, '07212018');
+insert into DateType  values ('3125', '2018-07-22' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 203 , 'Sunday', 1, '07222018');
+insert into DateType  values ('3126', '2018-07-23' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 204 , 'Monday', 2, '07232018');
+insert into DateType  values ('3127', '2018-07-24' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 205 , 'Tuesday', 3, '07242018');
+insert into DateType  values ('3128', '2018-07-25' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 206 , 'Wednesday', 4, '07252018');
+insert into DateType  values ('3129', '2018-07-26' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 207 , 'Thursday', 5, '07262018');
+insert into DateType  values ('3130', '2018-07-27' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 208 , 'Friday', 6, '07272018');
+insert into DateType  values ('3131', '2018-07-28' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 209 , 'Saturday', 7, '07282018');
+insert into DateType  values ('3132', '2018-07-29' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 210 , 'Sunday', 1, '07292018');
+insert into DateType  values ('3133', '2018-07-30' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 211 , 'Monday', 2, '07302018');
+insert into DateType  values ('3134', '2018-07-31' , 2018 , '2018', 3 , 7 , 'July', '2018-07' , 212 , 'Tuesday', 3, '07312018');
+insert into DateType  values ('3135', '2018-08-01' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 213 , 'Wednesday', 4, '08012018');
+insert into DateType  values ('3136', '2018-08-02' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 214 , 'Thursday', 5, '08022018');
+insert into DateType  values ('3137', '2018-08-03' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 215 , 'Friday', 6, '08032018');
+insert into DateType  values ('3138', '2018-08-04' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 216 , 'Saturday', 7, '08042018');
+insert into DateType  values ('3139', '2018-08-05' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 217 , 'Sunday', 1, '08052018');
+insert into DateType  values ('3140', '2018-08-06' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 218 , 'Monday', 2, '08062018');
+insert into DateType  values ('3141', '2018-08-07' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 219 , 'Tuesday', 3, '08072018');
+insert into DateType  values ('3142', '2018-08-08' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 220 , 'Wednesday', 4, '08082018');
+insert into DateType  values ('3143', '2018-08-09' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 221 , 'Thursday', 5, '08092018');
+insert into DateType  values ('3144', '2018-08-10' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 222 , 'Friday', 6, '08102018');
+insert into DateType  values ('3145', '2018-08-11' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 223 , 'Saturday', 7, '08112018');
+insert into DateType  values ('3146', '2018-08-12' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 224 , 'Sunday', 1, '08122018');
+insert into DateType  values ('3147', '2018-08-13' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 225 , 'Monday', 2, '08132018');
+insert into DateType  values ('3148', '2018-08-14' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 226 , 'Tuesday', 3, '08142018');
+insert into DateType  values ('3149', '2018-08-15' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 227 , 'Wednesday', 4, '08152018');
+insert into DateType  values ('3150', '2018-08-16' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 228 , 'Thursday', 5, '08162018');
+insert into DateType  values ('3151', '2018-08-17' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 229 , 'Friday', 6, '08172018');
+insert into DateType  values ('3152', '2018-08-18' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 230 , 'Saturday', 7, '08182018');
+insert into DateType  values ('3153', '2018-08-19' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 231 , 'Sunday', 1, '08192018');
+insert into DateType  values ('3154', '2018-08-20' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 232 , 'Monday', 2, '08202018');
+insert into DateType  values ('3155', '2018-08-21' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 233 , 'Tuesday', 3, '08212018');
+insert into DateType  values ('3156', '2018-08-22' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 234 , 'Wednesday', 4, '08222018');
+insert into DateType  values ('3157', '2018-08-23' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 235 , 'Thursday', 5, '08232018');
+insert into DateType  values ('3158', '2018-08-24' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 236 , 'Friday', 6, '08242018');
+insert into DateType  values ('3159', '2018-08-25' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 237 , 'Saturday', 7, '08252018');
+insert into DateType  values ('3160', '2018-08-26' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 238 , 'Sunday', 1, '08262018');
+insert into DateType  values ('3161', '2018-08-27' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 239 , 'Monday', 2, '08272018');
+insert into DateType  values ('3162', '2018-08-28' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 240 , 'Tuesday', 3, '08282018');
+insert into DateType  values ('3163', '2018-08-29' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 241 , 'Wednesday', 4, '08292018');
+insert into DateType  values ('3164', '2018-08-30' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 242 , 'Thursday', 5, '08302018');
+insert into DateType  values ('3165', '2018-08-31' , 2018 , '2018', 3 , 8 , 'August', '2018-08' , 243 , 'Friday', 6, '08312018');
+insert into DateType  values ('3166', '2018-09-01' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 244 , 'Saturday', 7, '09012018');
+insert into DateType  values ('3167', '2018-09-02' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 245 , 'Sunday', 1, '09022018');
+insert into DateType  values ('3168', '2018-09-03' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 246 , 'Monday', 2, '09032018');
+insert into DateType  values ('3169', '2018-09-04' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 247 , 'Tuesday', 3, '09042018');
+insert into DateType  values ('3170', '2018-09-05' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 248 , 'Wednesday', 4, '09052018');
+insert into DateType  values ('3171', '2018-09-06' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 249 , 'Thursday', 5, '09062018');
+insert into DateType  values ('3172', '2018-09-07' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 250 , 'Friday', 6, '09072018');
+insert into DateType  values ('3173', '2018-09-08' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 251 , 'Saturday', 7, '09082018');
+insert into DateType  values ('3174', '2018-09-09' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 252 , 'Sunday', 1, '09092018');
+insert into DateType  values ('3175', '2018-09-10' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 253 , 'Monday', 2, '09102018');
+insert into DateType  values ('3176', '2018-09-11' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 254 , 'Tuesday', 3, '09112018');
+insert into DateType  values ('3177', '2018-09-12' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 255 , 'Wednesday', 4, '09122018');
+insert into DateType  values ('3178', '2018-09-13' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 256 , 'Thursday', 5, '09132018');
+insert into DateType  values ('3179', '2018-09-14' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 257 , 'Friday', 6, '09142018');
+insert into DateType  values ('3180', '2018-09-15' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 258 , 'Saturday', 7, '09152018');
+insert into DateType  values ('3181', '2018-09-16' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 259 , 'Sunday', 1, '09162018');
+insert into DateType  values ('3182', '2018-09-17' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 260 , 'Monday', 2, '09172018');
+insert into DateType  values ('3183', '2018-09-18' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 261 , 'Tuesday', 3, '09182018');
+insert into DateType  values ('3184', '2018-09-19' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 262 , 'Wednesday', 4, '09192018');
+insert into DateType  values ('3185', '2018-09-20' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 263 , 'Thursday', 5, '09202018');
+insert into DateType  values ('3186', '2018-09-21' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 264 , 'Friday', 6, '09212018');
+insert into DateType  values ('3187', '2018-09-22' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 265 , 'Saturday', 7, '09222018');
+insert into DateType  values ('3188', '2018-09-23' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 266 , 'Sunday', 1, '09232018');
+insert into DateType  values ('3189', '2018-09-24' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 267 , 'Monday', 2, '09242018');
+insert into DateType  values ('3190', '2018-09-25' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 268 , 'Tuesday', 3, '09252018');
+insert into DateType  values ('3191', '2018-09-26' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 269 , 'Wednesday', 4, '09262018');
+insert into DateType  values ('3192', '2018-09-27' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 270 , 'Thursday', 5, '09272018');
+insert into DateType  values ('3193', '2018-09-28' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 271 , 'Friday', 6, '09282018');
+insert into DateType  values ('3194', '2018-09-29' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 272 , 'Saturday', 7, '09292018');
+insert into DateType  values ('3195', '2018-09-30' , 2018 , '2018', 3 , 9 , 'September', '2018-09' , 273 , 'Sunday', 1, '09302018');
+insert into DateType  values ('3196', '2018-10-01' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 274 , 'Monday', 2, '10012018');
+insert into DateType  values ('3197', '2018-10-02' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 275 , 'Tuesday', 3, '10022018');
+insert into DateType  values ('3198', '2018-10-03' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 276 , 'Wednesday', 4, '10032018');
+insert into DateType  values ('3199', '2018-10-04' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 277 , 'Thursday', 5, '10042018');
+insert into DateType  values ('3200', '2018-10-05' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 278 , 'Friday', 6, '10052018');
+insert into DateType  values ('3201', '2018-10-06' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 279 , 'Saturday', 7, '10062018');
+insert into DateType  values ('3202', '2018-10-07' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 280 , 'Sunday', 1, '10072018');
+insert into DateType  values ('3203', '2018-10-08' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 281 , 'Monday', 2, '10082018');
+insert into DateType  values ('3204', '2018-10-09' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 282 , 'Tuesday', 3, '10092018');
+insert into DateType  values ('3205', '2018-10-10' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 283 , 'Wednesday', 4, '10102018');
+insert into DateType  values ('3206', '2018-10-11' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 284 , 'Thursday', 5, '10112018');
+insert into DateType  values ('3207', '2018-10-12' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 285 , 'Friday', 6, '10122018');
+insert into DateType  values ('3208', '2018-10-13' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 286 , 'Saturday', 7, '10132018');
+insert into DateType  values ('3209', '2018-10-14' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 287 , 'Sunday', 1, '10142018');
+insert into DateType  values ('3210', '2018-10-15' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 288 , 'Monday', 2, '10152018');
+insert into DateType  values ('3211', '2018-10-16' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 289 , 'Tuesday', 3, '10162018');
+insert into DateType  values ('3212', '2018-10-17' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 290 , 'Wednesday', 4, '10172018');
+insert into DateType  values ('3213', '2018-10-18' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 291 , 'Thursday', 5, '10182018');
+insert into DateType  values ('3214', '2018-10-19' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 292 , 'Friday', 6, '10192018');
+insert into DateType  values ('3215', '2018-10-20' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 293 , 'Saturday', 7, '10202018');
+insert into DateType  values ('3216', '2018-10-21' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 294 , 'Sunday', 1, '10212018');
+insert into DateType  values ('3217', '2018-10-22' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 295 , 'Monday', 2, '10222018');
+insert into DateType  values ('3218', '2018-10-23' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 296 , 'Tuesday', 3, '10232018');
+insert into DateType  values ('3219', '2018-10-24' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 297 , 'Wednesday', 4, '10242018');
+insert into DateType  values ('3220', '2018-10-25' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 298 , 'Thursday', 5, '10252018');
+insert into DateType  values ('3221', '2018-10-26' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 299 , 'Friday', 6, '10262018');
+insert into DateType  values ('3222', '2018-10-27' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 300 , 'Saturday', 7, '10272018');
+insert into DateType  values ('3223', '2018-10-28' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 301 , 'Sunday', 1, '10282018');
+insert into DateType  values ('3224', '2018-10-29' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 302 , 'Monday', 2, '10292018');
+insert into DateType  values ('3225', '2018-10-30' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 303 , 'Tuesday', 3, '10302018');
+insert into DateType  values ('3226', '2018-10-31' , 2018 , '2018', 4 , 10 , 'October', '2018-10' , 304 , 'Wednesday', 4, '10312018');
+insert into DateType  values ('3227', '2018-11-01' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 305 , 'Thursday', 5, '11012018');
+insert into DateType  values ('3228', '2018-11-02' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 306 , 'Friday', 6, '11022018');
+insert into DateType  values ('3229', '2018-11-03' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 307 , 'Saturday', 7, '11032018');
+insert into DateType  values ('3230', '2018-11-04' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 308 , 'Sunday', 1, '11042018');
+insert into DateType  values ('3231', '2018-11-05' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 309 , 'Monday', 2, '11052018');
+insert into DateType  values ('3232', '2018-11-06' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 310 , 'Tuesday', 3, '11062018');
+insert into DateType  values ('3233', '2018-11-07' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 311 , 'Wednesday', 4, '11072018');
+insert into DateType  values ('3234', '2018-11-08' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 312 , 'Thursday', 5, '11082018');
+insert into DateType  values ('3235', '2018-11-09' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 313 , 'Friday', 6, '11092018');
+insert into DateType  values ('3236', '2018-11-10' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 314 , 'Saturday', 7, '11102018');
+insert into DateType  values ('3237', '2018-11-11' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 315 , 'Sunday', 1, '11112018');
+insert into DateType  values ('3238', '2018-11-12' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 316 , 'Monday', 2, '11122018');
+insert into DateType  values ('3239', '2018-11-13' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 317 , 'Tuesday', 3, '11132018');
+insert into DateType  values ('3240', '2018-11-14' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 318 , 'Wednesday', 4, '11142018');
+insert into DateType  values ('3241', '2018-11-15' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 319 , 'Thursday', 5, '11152018');
+insert into DateType  values ('3242', '2018-11-16' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 320 , 'Friday', 6, '11162018');
+insert into DateType  values ('3243', '2018-11-17' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 321 , 'Saturday', 7, '11172018');
+insert into DateType  values ('3244', '2018-11-18' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 322 , 'Sunday', 1, '11182018');
+insert into DateType  values ('3245', '2018-11-19' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 323 , 'Monday', 2, '11192018');
+insert into DateType  values ('3246', '2018-11-20' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 324 , 'Tuesday', 3, '11202018');
+insert into DateType  values ('3247', '2018-11-21' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 325 , 'Wednesday', 4, '11212018');
+insert into DateType  values ('3248', '2018-11-22' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 326 , 'Thursday', 5, '11222018');
+insert into DateType  values ('3249', '2018-11-23' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 327 , 'Friday', 6, '11232018');
+insert into DateType  values ('3250', '2018-11-24' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 328 , 'Saturday', 7, '11242018');
+insert into DateType  values ('3251', '2018-11-25' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 329 , 'Sunday', 1, '11252018');
+insert into DateType  values ('3252', '2018-11-26' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 330 , 'Monday', 2, '11262018');
+insert into DateType  values ('3253', '2018-11-27' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 331 , 'Tuesday', 3, '11272018');
+insert into DateType  values ('3254', '2018-11-28' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 332 , 'Wednesday', 4, '11282018');
+insert into DateType  values ('3255', '2018-11-29' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 333 , 'Thursday', 5, '11292018');
+insert into DateType  values ('3256', '2018-11-30' , 2018 , '2018', 4 , 11 , 'November', '2018-11' , 334 , 'Friday', 6, '11302018');
+insert into DateType  values ('3257', '2018-12-01' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 335 , 'Saturday', 7, '12012018');
+insert into DateType  values ('3258', '2018-12-02' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 336 , 'Sunday', 1, '12022018');
+insert into DateType  values ('3259', '2018-12-03' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 337 , 'Monday', 2, '12032018');
+insert into DateType  values ('3260', '2018-12-04' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 338 , 'Tuesday', 3, '12042018');
+insert into DateType  values ('3261', '2018-12-05' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 339 , 'Wednesday', 4, '12052018');
+insert into DateType  values ('3262', '2018-12-06' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 340 , 'Thursday', 5, '12062018');
+insert into DateType  values ('3263', '2018-12-07' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 341 , 'Friday', 6, '12072018');
+insert into DateType  values ('3264', '2018-12-08' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 342 , 'Saturday', 7, '12082018');
+insert into DateType  values ('3265', '2018-12-09' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 343 , 'Sunday', 1, '12092018');
+insert into DateType  values ('3266', '2018-12-10' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 344 , 'Monday', 2, '12102018');
+insert into DateType  values ('3267', '2018-12-11' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 345 , 'Tuesday', 3, '12112018');
+insert into DateType  values ('3268', '2018-12-12' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 346 , 'Wednesday', 4, '12122018');
+insert into DateType  values ('3269', '2018-12-13' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 347 , 'Thursday', 5, '12132018');
+insert into DateType  values ('3270', '2018-12-14' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 348 , 'Friday', 6, '12142018');
+insert into DateType  values ('3271', '2018-12-15' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 349 , 'Saturday', 7, '12152018');
+insert into DateType  values ('3272', '2018-12-16' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 350 , 'Sunday', 1, '12162018');
+insert into DateType  values ('3273', '2018-12-17' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 351 , 'Monday', 2, '12172018');
+insert into DateType  values ('3274', '2018-12-18' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 352 , 'Tuesday', 3, '12182018');
+insert into DateType  values ('3275', '2018-12-19' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 353 , 'Wednesday', 4, '12192018');
+insert into DateType  values ('3276', '2018-12-20' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 354 , 'Thursday', 5, '12202018');
+insert into DateType  values ('3277', '2018-12-21' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 355 , 'Friday', 6, '12212018');
+insert into DateType  values ('3278', '2018-12-22' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 356 , 'Saturday', 7, '12222018');
+insert into DateType  values ('3279', '2018-12-23' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 357 , 'Sunday', 1, '12232018');
+insert into DateType  values ('3280', '2018-12-24' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 358 , 'Monday', 2, '12242018');
+insert into DateType  values ('3281', '2018-12-25' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 359 , 'Tuesday', 3, '12252018');
+insert into DateType  values ('3282', '2018-12-26' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 360 , 'Wednesday', 4, '12262018');
+insert into DateType  values ('3283', '2018-12-27' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 361 , 'Thursday', 5, '12272018');
+insert into DateType  values ('3284', '2018-12-28' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 362 , 'Friday', 6, '12282018');
+insert into DateType  values ('3285', '2018-12-29' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 363 , 'Saturday', 7, '12292018');
+insert into DateType  values ('3286', '2018-12-30' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 364 , 'Sunday', 1, '12302018');
+insert into DateType  values ('3287', '2018-12-31' , 2018 , '2018', 4 , 12 , 'December', '2018-12' , 365 , 'Monday', 2, '12312018');
+insert into DateType  values ('3288', '2019-01-01' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 1 , 'Tuesday', 3, '01012019');
+insert into DateType  values ('3289', '2019-01-02' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 2 , 'Wednesday', 4, '01022019');
+insert into DateType  values ('3290', '2019-01-03' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 3 , 'Thursday', 5, '01032019');
+insert into DateType  values ('3291', '2019-01-04' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 4 , 'Friday', 6, '01042019');
+insert into DateType  values ('3292', '2019-01-05' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 5 , 'Saturday', 7, '01052019');
+insert into DateType  values ('3293', '2019-01-06' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 6 , 'Sunday', 1, '01062019');
+insert into DateType  values ('3294', '2019-01-07' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 7 , 'Monday', 2, '01072019');
+insert into DateType  values ('3295', '2019-01-08' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 8 , 'Tuesday', 3, '01082019');
+insert into DateType  values ('3296', '2019-01-09' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 9 , 'Wednesday', 4, '01092019');
+insert into DateType  values ('3297', '2019-01-10' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 10 , 'Thursday', 5, '01102019');
+insert into DateType  values ('3298', '2019-01-11' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 11 , 'Friday', 6, '01112019');
+insert into DateType  values ('3299', '2019-01-12' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 12 , 'Saturday', 7, '01122019');
+insert into DateType  values ('3300', '2019-01-13' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 13 , 'Sunday', 1, '01132019');
+insert into DateType  values ('3301', '2019-01-14' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 14 , 'Monday', 2, '01142019');
+insert into DateType  values ('3302', '2019-01-15' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 15 , 'Tuesday', 3, '01152019');
+insert into DateType  values ('3303', '2019-01-16' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 16 , 'Wednesday', 4, '01162019');
+insert into DateType  values ('3304', '2019-01-17' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 17 , 'Thursday', 5, '01172019');
+insert into DateType  values ('3305', '2019-01-18' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 18 , 'Friday', 6, '01182019');
+insert into DateType  values ('3306', '2019-01-19' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 19 , 'Saturday', 7, '01192019');
+insert into DateType  values ('3307', '2019-01-20' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 20 , 'Sunday', 1, '01202019');
+insert into DateType  values ('3308', '2019-01-21' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 21 , 'Monday', 2, '01212019');
+insert into DateType  values ('3309', '2019-01-22' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 22 , 'Tuesday', 3, '01222019');
+insert into DateType  values ('3310', '2019-01-23' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 23 , 'Wednesday', 4, '01232019');
+insert into DateType  values ('3311', '2019-01-24' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 24 , 'Thursday', 5, '01242019');
+insert into DateType  values ('3312', '2019-01-25' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 25 , 'Friday', 6, '01252019');
+insert into DateType  values ('3313', '2019-01-26' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 26 , 'Saturday', 7, '01262019');
+insert into DateType  values ('3314', '2019-01-27' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 27 , 'Sunday', 1, '01272019');
+insert into DateType  values ('3315', '2019-01-28' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 28 , 'Monday', 2, '01282019');
+insert into DateType  values ('3316', '2019-01-29' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 29 , 'Tuesday', 3, '01292019');
+insert into DateType  values ('3317', '2019-01-30' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 30 , 'Wednesday', 4, '01302019');
+insert into DateType  values ('3318', '2019-01-31' , 2019 , '2019', 1 , 1 , 'January', '2019-01' , 31 , 'Thursday', 5, '01312019');
+insert into DateType  values ('3319', '2019-02-01' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 32 , 'Friday', 6, '02012019');
+insert into DateType  values ('3320', '2019-02-02' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 33 , 'Saturday', 7, '02022019');
+insert into DateType  values ('3321', '2019-02-03' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 34 , 'Sunday', 1, '02032019');
+insert into DateType  values ('3322', '2019-02-04' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 35 , 'Monday', 2, '02042019');
+insert into DateType  values ('3323', '2019-02-05' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 36 , 'Tuesday', 3, '02052019');
+insert into DateType  values ('3324', '2019-02-06' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 37 , 'Wednesday', 4, '02062019');
+insert into DateType  values ('3325', '2019-02-07' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 38 , 'Thursday', 5, '02072019');
+insert into DateType  values ('3326', '2019-02-08' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 39 , 'Friday', 6, '02082019');
+insert into DateType  values ('3327', '2019-02-09' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 40 , 'Saturday', 7, '02092019');
+insert into DateType  values ('3328', '2019-02-10' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 41 , 'Sunday', 1, '02102019');
+insert into DateType  values ('3329', '2019-02-11' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 42 , 'Monday', 2, '02112019');
+insert into DateType  values ('3330', '2019-02-12' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 43 , 'Tuesday', 3, '02122019');
+insert into DateType  values ('3331', '2019-02-13' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 44 , 'Wednesday', 4, '02132019');
+insert into DateType  values ('3332', '2019-02-14' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 45 , 'Thursday', 5, '02142019');
+insert into DateType  values ('3333', '2019-02-15' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 46 , 'Friday', 6, '02152019');
+insert into DateType  values ('3334', '2019-02-16' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 47 , 'Saturday', 7, '02162019');
+insert into DateType  values ('3335', '2019-02-17' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 48 , 'Sunday', 1, '02172019');
+insert into DateType  values ('3336', '2019-02-18' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 49 , 'Monday', 2, '02182019');
+insert into DateType  values ('3337', '2019-02-19' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 50 , 'Tuesday', 3, '02192019');
+insert into DateType  values ('3338', '2019-02-20' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 51 , 'Wednesday', 4, '02202019');
+insert into DateType  values ('3339', '2019-02-21' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 52 , 'Thursday', 5, '02212019');
+insert into DateType  values ('3340', '2019-02-22' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 53 , 'Friday', 6, '02222019');
+insert into DateType  values ('3341', '2019-02-23' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 54 , 'Saturday', 7, '02232019');
+insert into DateType  values ('3342', '2019-02-24' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 55 , 'Sunday', 1, '02242019');
+insert into DateType  values ('3343', '2019-02-25' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 56 , 'Monday', 2, '02252019');
+insert into DateType  values ('3344', '2019-02-26' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 57 , 'Tuesday', 3, '02262019');
+insert into DateType  values ('3345', '2019-02-27' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 58 , 'Wednesday', 4, '02272019');
+insert into DateType  values ('3346', '2019-02-28' , 2019 , '2019', 1 , 2 , 'February', '2019-02' , 59 , 'Thursday', 5, '02282019');
+insert into DateType  values ('3347', '2019-03-01' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 60 , 'Friday', 6, '03012019');
+insert into DateType  values ('3348', '2019-03-02' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 61 , 'Saturday', 7, '03022019');
+insert into DateType  values ('3349', '2019-03-03' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 62 , 'Sunday', 1, '03032019');
+insert into DateType  values ('3350', '2019-03-04' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 63 , 'Monday', 2, '03042019');
+insert into DateType  values ('3351', '2019-03-05' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 64 , 'Tuesday', 3, '03052019');
+insert into DateType  values ('3352', '2019-03-06' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 65 , 'Wednesday', 4, '03062019');
+insert into DateType  values ('3353', '2019-03-07' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 66 , 'Thursday', 5, '03072019');
+insert into DateType  values ('3354', '2019-03-08' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 67 , 'Friday', 6, '03082019');
+insert into DateType  values ('3355', '2019-03-09' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 68 , 'Saturday', 7, '03092019');
+insert into DateType  values ('3356', '2019-03-10' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 69 , 'Sunday', 1, '03102019');
+insert into DateType  values ('3357', '2019-03-11' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 70 , 'Monday', 2, '03112019');
+insert into DateType  values ('3358', '2019-03-12' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 71 , 'Tuesday', 3, '03122019');
+insert into DateType  values ('3359', '2019-03-13' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 72 , 'Wednesday', 4, '03132019');
+insert into DateType  values ('3360', '2019-03-14' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 73 , 'Thursday', 5, '03142019');
+insert into DateType  values ('3361', '2019-03-15' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 74 , 'Friday', 6, '03152019');
+insert into DateType  values ('3362', '2019-03-16' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 75 , 'Saturday', 7, '03162019');
+insert into DateType  values ('3363', '2019-03-17' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 76 , 'Sunday', 1, '03172019');
+insert into DateType  values ('3364', '2019-03-18' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 77 , 'Monday', 2, '03182019');
+insert into DateType  values ('3365', '2019-03-19' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 78 , 'Tuesday', 3, '03192019');
+insert into DateType  values ('3366', '2019-03-20' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 79 , 'Wednesday', 4, '03202019');
+insert into DateType  values ('3367', '2019-03-21' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 80 , 'Thursday', 5, '03212019');
+insert into DateType  values ('3368', '2019-03-22' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 81 , 'Friday', 6, '03222019');
+insert into DateType  values ('3369', '2019-03-23' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 82 , 'Saturday', 7, '03232019');
+insert into DateType  values ('3370', '2019-03-24' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 83 , 'Sunday', 1, '03242019');
+insert into DateType  values ('3371', '2019-03-25' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 84 , 'Monday', 2, '03252019');
+insert into DateType  values ('3372', '2019-03-26' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 85 , 'Tuesday', 3, '03262019');
+insert into DateType  values ('3373', '2019-03-27' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 86 , 'Wednesday', 4, '03272019');
+insert into DateType  values ('3374', '2019-03-28' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 87 , 'Thursday', 5, '03282019');
+insert into DateType  values ('3375', '2019-03-29' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 88 , 'Friday', 6, '03292019');
+insert into DateType  values ('3376', '2019-03-30' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 89 , 'Saturday', 7, '03302019');
+insert into DateType  values ('3377', '2019-03-31' , 2019 , '2019', 1 , 3 , 'March', '2019-03' , 90 , 'Sunday', 1, '03312019');
+insert into DateType  values ('3378', '2019-04-01' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 91 , 'Monday', 2, '04012019');
+insert into DateType  values ('3379', '2019-04-02' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 92 , 'Tuesday', 3, '04022019');
+insert into DateType  values ('3380', '2019-04-03' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 93 , 'Wednesday', 4, '04032019');
+insert into DateType  values ('3381', '2019-04-04' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 94 , 'Thursday', 5, '04042019');
+insert into DateType  values ('3382', '2019-04-05' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 95 , 'Friday', 6, '04052019');
+insert into DateType  values ('3383', '2019-04-06' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 96 , 'Saturday', 7, '04062019');
+insert into DateType  values ('3384', '2019-04-07' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 97 , 'Sunday', 1, '04072019');
+insert into DateType  values ('3385', '2019-04-08' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 98 , 'Monday', 2, '04082019');
+insert into DateType  values ('3386', '2019-04-09' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 99 , 'Tuesday', 3, '04092019');
+insert into DateType  values ('3387', '2019-04-10' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 100 , 'Wednesday', 4, '04102019');
+insert into DateType  values ('3388', '2019-04-11' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 101 , 'Thursday', 5, '04112019');
+insert into DateType  values ('3389', '2019-04-12' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 102 , 'Friday', 6, '04122019');
+insert into DateType  values ('3390', '2019-04-13' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 103 , 'Saturday', 7, '04132019');
+insert into DateType  values ('3391', '2019-04-14' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 104 , 'Sunday', 1, '04142019');
+insert into DateType  values ('3392', '2019-04-15' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 105 , 'Monday', 2, '04152019');
+insert into DateType  values ('3393', '2019-04-16' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 106 , 'Tuesday', 3, '04162019');
+insert into DateType  values ('3394', '2019-04-17' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 107 , 'Wednesday', 4, '04172019');
+insert into DateType  values ('3395', '2019-04-18' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 108 , 'Thursday', 5, '04182019');
+insert into DateType  values ('3396', '2019-04-19' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 109 , 'Friday', 6, '04192019');
+insert into DateType  values ('3397', '2019-04-20' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 110 , 'Saturday', 7, '04202019');
+insert into DateType  values ('3398', '2019-04-21' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 111 , 'Sunday', 1, '04212019');
+insert into DateType  values ('3399', '2019-04-22' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 112 , 'Monday', 2, '04222019');
+insert into DateType  values ('3400', '2019-04-23' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 113 , 'Tuesday', 3, '04232019');
+insert into DateType  values ('3401', '2019-04-24' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 114 , 'Wednesday', 4, '04242019');
+insert into DateType  values ('3402', '2019-04-25' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 115 , 'Thursday', 5, '04252019');
+insert into DateType  values ('3403', '2019-04-26' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 116 , 'Friday', 6, '04262019');
+insert into DateType  values ('3404', '2019-04-27' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 117 , 'Saturday', 7, '04272019');
+insert into DateType  values ('3405', '2019-04-28' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 118 , 'Sunday', 1, '04282019');
+insert into DateType  values ('3406', '2019-04-29' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 119 , 'Monday', 2, '04292019');
+insert into DateType  values ('3407', '2019-04-30' , 2019 , '2019', 2 , 4 , 'April', '2019-04' , 120 , 'Tuesday', 3, '04302019');
+insert into DateType  values ('3408', '2019-05-01' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 121 , 'Wednesday', 4, '05012019');
+insert into DateType  values ('3409', '2019-05-02' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 122 , 'Thursday', 5, '05022019');
+insert into DateType  values ('3410', '2019-05-03' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 123 , 'Friday', 6, '05032019');
+insert into DateType  values ('3411', '2019-05-04' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 124 , 'Saturday', 7, '05042019');
+insert into DateType  values ('3412', '2019-05-05' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 125 , 'Sunday', 1, '05052019');
+insert into DateType  values ('3413', '2019-05-06' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 126 , 'Monday', 2, '05062019');
+insert into DateType  values ('3414', '2019-05-07' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 127 , 'Tuesday', 3, '05072019');
+insert into DateType  values ('3415', '2019-05-08' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 128 , 'Wednesday', 4, '05082019');
+insert into DateType  values ('3416', '2019-05-09' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 129 , 'Thursday', 5, '05092019');
+insert into DateType  values ('3417', '2019-05-10' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 130 , 'Friday', 6, '05102019');
+insert into DateType  values ('3418', '2019-05-11' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 131 , 'Saturday', 7, '05112019');
+insert into DateType  values ('3419', '2019-05-12' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 132 , 'Sunday', 1, '05122019');
+insert into DateType  values ('3420', '2019-05-13' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 133 , 'Monday', 2, '05132019');
+insert into DateType  values ('3421', '2019-05-14' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 134 , 'Tuesday', 3, '05142019');
+insert into DateType  values ('3422', '2019-05-15' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 135 , 'Wednesday', 4, '05152019');
+insert into DateType  values ('3423', '2019-05-16' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 136 , 'Thursday', 5, '05162019');
+insert into DateType  values ('3424', '2019-05-17' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 137 , 'Friday', 6, '05172019');
+insert into DateType  values ('3425', '2019-05-18' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 138 , 'Saturday', 7, '05182019');
+insert into DateType  values ('3426', '2019-05-19' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 139 , 'Sunday', 1, '05192019');
+insert into DateType  values ('3427', '2019-05-20' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 140 , 'Monday', 2, '05202019');
+insert into DateType  values ('3428', '2019-05-21' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 141 , 'Tuesday', 3, '05212019');
+insert into DateType  values ('3429', '2019-05-22' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 142 , 'Wednesday', 4, '05222019');
+insert into DateType  values ('3430', '2019-05-23' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 143 , 'Thursday', 5, '05232019');
+insert into DateType  values ('3431', '2019-05-24' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 144 , 'Friday', 6, '05242019');
+insert into DateType  values ('3432', '2019-05-25' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 145 , 'Saturday', 7, '05252019');
+insert into DateType  values ('3433', '2019-05-26' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 146 , 'Sunday', 1, '05262019');
+insert into DateType  values ('3434', '2019-05-27' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 147 , 'Monday', 2, '05272019');
+insert into DateType  values ('3435', '2019-05-28' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 148 , 'Tuesday', 3, '05282019');
+insert into DateType  values ('3436', '2019-05-29' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 149 , 'Wednesday', 4, '05292019');
+insert into DateType  values ('3437', '2019-05-30' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 150 , 'Thursday', 5, '05302019');
+insert into DateType  values ('3438', '2019-05-31' , 2019 , '2019', 2 , 5 , 'May', '2019-05' , 151 , 'Friday', 6, '05312019');
+insert into DateType  values ('3439', '2019-06-01' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 152 , 'Saturday', 7, '06012019');
+insert into DateType  values ('3440', '2019-06-02' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 153 , 'Sunday', 1, '06022019');
+insert into DateType  values ('3441', '2019-06-03' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 154 , 'Monday', 2, '06032019');
+insert into DateType  values ('3442', '2019-06-04' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 155 , 'Tuesday', 3, '06042019');
+insert into DateType  values ('3443', '2019-06-05' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 156 , 'Wednesday', 4, '06052019');
+insert into DateType  values ('3444', '2019-06-06' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 157 , 'Thursday', 5, '06062019');
+insert into DateType  values ('3445', '2019-06-07' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 158 , 'Friday', 6, '06072019');
+insert into DateType  values ('3446', '2019-06-08' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 159 , 'Saturday', 7, '06082019');
+insert into DateType  values ('3447', '2019-06-09' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 160 , 'Sunday', 1, '06092019');
+insert into DateType  values ('3448', '2019-06-10' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 161 , 'Monday', 2, '06102019');
+insert into DateType  values ('3449', '2019-06-11' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 162 , 'Tuesday', 3, '06112019');
+insert into DateType  values ('3450', '2019-06-12' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 163 , 'Wednesday', 4, '06122019');
+insert into DateType  values ('3451', '2019-06-13' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 164 , 'Thursday', 5, '06132019');
+insert into DateType  values ('3452', '2019-06-14' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 165 , 'Friday', 6, '06142019');
+insert into DateType  values ('3453', '2019-06-15' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 166 , 'Saturday', 7, '06152019');
+insert into DateType  values ('3454', '2019-06-16' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 167 , 'Sunday', 1, '06162019');
+insert into DateType  values ('3455', '2019-06-17' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 168 , 'Monday', 2, '06172019');
+insert into DateType  values ('3456', '2019-06-18' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 169 , 'Tuesday', 3, '06182019');
+insert into DateType  values ('3457', '2019-06-19' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 170 , 'Wednesday', 4, '06192019');
+insert into DateType  values ('3458', '2019-06-20' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 171 , 'Thursday', 5, '06202019');
+insert into DateType  values ('3459', '2019-06-21' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 172 , 'Friday', 6, '06212019');
+insert into DateType  values ('3460', '2019-06-22' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 173 , 'Saturday', 7, '06222019');
+insert into DateType  values ('3461', '2019-06-23' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 174 , 'Sunday', 1, '06232019');
+insert into DateType  values ('3462', '2019-06-24' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 175 , 'Monday', 2, '06242019');
+insert into DateType  values ('3463', '2019-06-25' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 176 , 'Tuesday', 3, '06252019');
+insert into DateType  values ('3464', '2019-06-26' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 177 , 'Wednesday', 4, '06262019');
+insert into DateType  values ('3465', '2019-06-27' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 178 , 'Thursday', 5, '06272019');
+insert into DateType  values ('3466', '2019-06-28' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 179 , 'Friday', 6, '06282019');
+insert into DateType  values ('3467', '2019-06-29' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 180 , 'Saturday', 7, '06292019');
+insert into DateType  values ('3468', '2019-06-30' , 2019 , '2019', 2 , 6 , 'June', '2019-06' , 181 , 'Sunday', 1, '06302019');
+insert into DateType  values ('3469', '2019-07-01' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 182 , 'Monday', 2, '07012019');
+insert into DateType  values ('3470', '2019-07-02' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 183 , 'Tuesday', 3, '07022019');
+insert into DateType  values ('3471', '2019-07-03' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 184 , 'Wednesday', 4, '07032019');
+insert into DateType  values ('3472', '2019-07-04' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 185 , 'Thursday', 5, '07042019');
+insert into DateType  values ('3473', '2019-07-05' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 186 , 'Friday', 6, '07052019');
+insert into DateType  values ('3474', '2019-07-06' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 187 , 'Saturday', 7, '07062019');
+insert into DateType  values ('3475', '2019-07-07' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 188 , 'Sunday', 1, '07072019');
+insert into DateType  values ('3476', '2019-07-08' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 189 , 'Monday', 2, '07082019');
+insert into DateType  values ('3477', '2019-07-09' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 190 , 'Tuesday', 3, '07092019');
+insert into DateType  values ('3478', '2019-07-10' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 191 , 'Wednesday', 4, '07102019');
+insert into DateType  values ('3479', '2019-07-11' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 192 , 'Thursday', 5, '07112019');
+insert into DateType  values ('3480', '2019-07-12' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 193 , 'Friday', 6, '07122019');
+insert into DateType  values ('3481', '2019-07-13' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 194 , 'Saturday', 7, '07132019');
+insert into DateType  values ('3482', '2019-07-14' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 195 , 'Sunday', 1, '07142019');
+insert into DateType  values ('3483', '2019-07-15' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 196 , 'Monday', 2, '07152019');
+insert into DateType  values ('3484', '2019-07-16' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 197 , 'Tuesday', 3, '07162019');
+insert into DateType  values ('3485', '2019-07-17' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 198 , 'Wednesday', 4, '07172019');
+insert into DateType  values ('3486', '2019-07-18' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 199 , 'Thursday', 5, '07182019');
+insert into DateType  values ('3487', '2019-07-19' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 200 , 'Friday', 6, '07192019');
+insert into DateType  values ('3488', '2019-07-20' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 201 , 'Saturday', 7, '07202019');
+insert into DateType  values ('3489', '2019-07-21' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 202 , 'Sunday', 1, '07212019');
+insert into DateType  values ('3490', '2019-07-22' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 203 , 'Monday', 2, '07222019');
+insert into DateType  values ('3491', '2019-07-23' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 204 , 'Tuesday', 3, '07232019');
+insert into DateType  values ('3492', '2019-07-24' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 205 , 'Wednesday', 4, '07242019');
+insert into DateType  values ('3493', '2019-07-25' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 206 , 'Thursday', 5, '07252019');
+insert into DateType  values ('3494', '2019-07-26' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 207 , 'Friday', 6, '07262019');
+insert into DateType  values ('3495', '2019-07-27' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 208 , 'Saturday', 7, '07272019');
+insert into DateType  values ('3496', '2019-07-28' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 209 , 'Sunday', 1, '07282019');
+insert into DateType  values ('3497', '2019-07-29' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 210 , 'Monday', 2, '07292019');
+insert into DateType  values ('3498', '2019-07-30' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 211 , 'Tuesday', 3, '07302019');
+insert into DateType  values ('3499', '2019-07-31' , 2019 , '2019', 3 , 7 , 'July', '2019-07' , 212 , 'Wednesday', 4, '07312019');
+insert into DateType  values ('3500', '2019-08-01' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 213 , 'Thursday', 5, '08012019');
+insert into DateType  values ('3501', '2019-08-02' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 214 , 'Friday', 6, '08022019');
+insert into DateType  values ('3502', '2019-08-03' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 215 , 'Saturday', 7, '08032019');
+insert into DateType  values ('3503', '2019-08-04' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 216 , 'Sunday', 1, '08042019');
+insert into DateType  values ('3504', '2019-08-05' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 217 , 'Monday', 2, '08052019');
+insert into DateType  values ('3505', '2019-08-06' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 218 , 'Tuesday', 3, '08062019');
+insert into DateType  values ('3506', '2019-08-07' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 219 , 'Wednesday', 4, '08072019');
+insert into DateType  values ('3507', '2019-08-08' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 220 , 'Thursday', 5, '08082019');
+insert into DateType  values ('3508', '2019-08-09' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 221 , 'Friday', 6, '08092019');
+insert into DateType  values ('3509', '2019-08-10' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 222 , 'Saturday', 7, '08102019');
+insert into DateType  values ('3510', '2019-08-11' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 223 , 'Sunday', 1, '08112019');
+insert into DateType  values ('3511', '2019-08-12' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 224 , 'Monday', 2, '08122019');
+insert into DateType  values ('3512', '2019-08-13' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 225 , 'Tuesday', 3, '08132019');
+insert into DateType  values ('3513', '2019-08-14' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 226 , 'Wednesday', 4, '08142019');
+insert into DateType  values ('3514', '2019-08-15' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 227 , 'Thursday', 5, '08152019');
+insert into DateType  values ('3515', '2019-08-16' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 228 , 'Friday', 6, '08162019');
+insert into DateType  values ('3516', '2019-08-17' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 229 , 'Saturday', 7, '08172019');
+insert into DateType  values ('3517', '2019-08-18' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 230 , 'Sunday', 1, '08182019');
+insert into DateType  values ('3518', '2019-08-19' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 231 , 'Monday', 2, '08192019');
+insert into DateType  values ('3519', '2019-08-20' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 232 , 'Tuesday', 3, '08202019');
+insert into DateType  values ('3520', '2019-08-21' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 233 , 'Wednesday', 4, '08212019');
+insert into DateType  values ('3521', '2019-08-22' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 234 , 'Thursday', 5, '08222019');
+insert into DateType  values ('3522', '2019-08-23' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 235 , 'Friday', 6, '08232019');
+insert into DateType  values ('3523', '2019-08-24' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 236 , 'Saturday', 7, '08242019');
+insert into DateType  values ('3524', '2019-08-25' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 237 , 'Sunday', 1, '08252019');
+insert into DateType  values ('3525', '2019-08-26' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 238 , 'Monday', 2, '08262019');
+insert into DateType  values ('3526', '2019-08-27' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 239 , 'Tuesday', 3, '08272019');
+insert into DateType  values ('3527', '2019-08-28' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 240 , 'Wednesday', 4, '08282019');
+insert into DateType  values ('3528', '2019-08-29' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 241 , 'Thursday', 5, '08292019');
+insert into DateType  values ('3529', '2019-08-30' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 242 , 'Friday', 6, '08302019');
+insert into DateType  values ('3530', '2019-08-31' , 2019 , '2019', 3 , 8 , 'August', '2019-08' , 243 , 'Saturday', 7, '08312019');
+insert into DateType  values ('3531', '2019-09-01' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 244 , 'Sunday', 1, '09012019');
+insert into DateType  values ('3532', '2019-09-02' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 245 , 'Monday', 2, '09022019');
+insert into DateType  values ('3533', '2019-09-03' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 246 , 'Tuesday', 3, '09032019');
+insert into DateType  values ('3534', '2019-09-04' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 247 , 'Wednesday', 4, '09042019');
+insert into DateType  values ('3535', '2019-09-05' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 248 , 'Thursday', 5, '09052019');
+insert into DateType  values ('3536', '2019-09-06' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 249 , 'Friday', 6, '09062019');
+insert into DateType  values ('3537', '2019-09-07' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 250 , 'Saturday', 7, '09072019');
+insert into DateType  values ('3538', '2019-09-08' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 251 , 'Sunday', 1, '09082019');
+insert into DateType  values ('3539', '2019-09-09' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 252 , 'Monday', 2, '09092019');
+insert into DateType  values ('3540', '2019-09-10' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 253 , 'Tuesday', 3, '09102019');
+insert into DateType  values ('3541', '2019-09-11' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 254 , 'Wednesday', 4, '09112019');
+insert into DateType  values ('3542', '2019-09-12' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 255 , 'Thursday', 5, '09122019');
+insert into DateType  values ('3543', '2019-09-13' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 256 , 'Friday', 6, '09132019');
+insert into DateType  values ('3544', '2019-09-14' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 257 , 'Saturday', 7, '09142019');
+insert into DateType  values ('3545', '2019-09-15' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 258 , 'Sunday', 1, '09152019');
+insert into DateType  values ('3546', '2019-09-16' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 259 , 'Monday', 2, '09162019');
+insert into DateType  values ('3547', '2019-09-17' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 260 , 'Tuesday', 3, '09172019');
+insert into DateType  values ('3548', '2019-09-18' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 261 , 'Wednesday', 4, '09182019');
+insert into DateType  values ('3549', '2019-09-19' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 262 , 'Thursday', 5, '09192019');
+insert into DateType  values ('3550', '2019-09-20' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 263 , 'Friday', 6, '09202019');
+insert into DateType  values ('3551', '2019-09-21' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 264 , 'Saturday', 7, '09212019');
+insert into DateType  values ('3552', '2019-09-22' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 265 , 'Sunday', 1, '09222019');
+insert into DateType  values ('3553', '2019-09-23' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 266 , 'Monday', 2, '09232019');
+insert into DateType  values ('3554', '2019-09-24' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 267 , 'Tuesday', 3, '09242019');
+insert into DateType  values ('3555', '2019-09-25' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 268 , 'Wednesday', 4, '09252019');
+insert into DateType  values ('3556', '2019-09-26' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 269 , 'Thursday', 5, '09262019');
+insert into DateType  values ('3557', '2019-09-27' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 270 , 'Friday', 6, '09272019');
+insert into DateType  values ('3558', '2019-09-28' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 271 , 'Saturday', 7, '09282019');
+insert into DateType  values ('3559', '2019-09-29' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 272 , 'Sunday', 1, '09292019');
+insert into DateType  values ('3560', '2019-09-30' , 2019 , '2019', 3 , 9 , 'September', '2019-09' , 273 , 'Monday', 2, '09302019');
+insert into DateType  values ('3561', '2019-10-01' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 274 , 'Tuesday', 3, '10012019');
+insert into DateType  values ('3562', '2019-10-02' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 275 , 'Wednesday', 4, '10022019');
+insert into DateType  values ('3563', '2019-10-03' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 276 , 'Thursday', 5, '10032019');
+insert into DateType  values ('3564', '2019-10-04' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 277 , 'Friday', 6, '10042019');
+insert into DateType  values ('3565', '2019-10-05' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 278 , 'Saturday', 7, '10052019');
+insert into DateType  values ('3566', '2019-10-06' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 279 , 'Sunday', 1, '10062019');
+insert into DateType  values ('3567', '2019-10-07' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 280 , 'Monday', 2, '10072019');
+insert into DateType  values ('3568', '2019-10-08' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 281 , 'Tuesday', 3, '10082019');
+insert into DateType  values ('3569', '2019-10-09' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 282 , 'Wednesday', 4, '10092019');
+insert into DateType  values ('3570', '2019-10-10' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 283 , 'Thursday', 5, '10102019');
+insert into DateType  values ('3571', '2019-10-11' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 284 , 'Friday', 6, '10112019');
+insert into DateType  values ('3572', '2019-10-12' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 285 , 'Saturday', 7, '10122019');
+insert into DateType  values ('3573', '2019-10-13' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 286 , 'Sunday', 1, '10132019');
+insert into DateType  values ('3574', '2019-10-14' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 287 , 'Monday', 2, '10142019');
+insert into DateType  values ('3575', '2019-10-15' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 288 , 'Tuesday', 3, '10152019');
+insert into DateType  values ('3576', '2019-10-16' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 289 , 'Wednesday', 4, '10162019');
+insert into DateType  values ('3577', '2019-10-17' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 290 , 'Thursday', 5, '10172019');
+insert into DateType  values ('3578', '2019-10-18' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 291 , 'Friday', 6, '10182019');
+insert into DateType  values ('3579', '2019-10-19' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 292 , 'Saturday', 7, '10192019');
+insert into DateType  values ('3580', '2019-10-20' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 293 , 'Sunday', 1, '10202019');
+insert into DateType  values ('3581', '2019-10-21' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 294 , 'Monday', 2, '10212019');
+insert into DateType  values ('3582', '2019-10-22' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 295 , 'Tuesday', 3, '10222019');
+insert into DateType  values ('3583', '2019-10-23' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 296 , 'Wednesday', 4, '10232019');
+insert into DateType  values ('3584', '2019-10-24' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 297 , 'Thursday', 5, '10242019');
+insert into DateType  values ('3585', '2019-10-25' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 298 , 'Friday', 6, '10252019');
+insert into DateType  values ('3586', '2019-10-26' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 299 , 'Saturday', 7, '10262019');
+insert into DateType  values ('3587', '2019-10-27' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 300 , 'Sunday', 1, '10272019');
+insert into DateType  values ('3588', '2019-10-28' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 301 , 'Monday', 2, '10282019');
+insert into DateType  values ('3589', '2019-10-29' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 302 , 'Tuesday', 3, '10292019');
+insert into DateType  values ('3590', '2019-10-30' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 303 , 'Wednesday', 4, '10302019');
+insert into DateType  values ('3591', '2019-10-31' , 2019 , '2019', 4 , 10 , 'October', '2019-10' , 304 , 'Thursday', 5, '10312019');
+insert into DateType  values ('3592', '2019-11-01' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 305 , 'Friday', 6, '11012019');
+insert into DateType  values ('3593', '2019-11-02' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 306 , 'Saturday', 7, '11022019');
+insert into DateType  values ('3594', '2019-11-03' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 307 , 'Sunday', 1, '11032019');
+insert into DateType  values ('3595', '2019-11-04' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 308 , 'Monday', 2, '11042019');
+insert into DateType  values ('3596', '2019-11-05' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 309 , 'Tuesday', 3, '11052019');
+insert into DateType  values ('3597', '2019-11-06' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 310 , 'Wednesday', 4, '11062019');
+insert into DateType  values ('3598', '2019-11-07' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 311 , 'Thursday', 5, '11072019');
+insert into DateType  values ('3599', '2019-11-08' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 312 , 'Friday', 6, '11082019');
+insert into DateType  values ('3600', '2019-11-09' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 313 , 'Saturday', 7, '11092019');
+insert into DateType  values ('3601', '2019-11-10' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 314 , 'Sunday', 1, '11102019');
+insert into DateType  values ('3602', '2019-11-11' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 315 , 'Monday', 2, '11112019');
+insert into DateType  values ('3603', '2019-11-12' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 316 , 'Tuesday', 3, '11122019');
+insert into DateType  values ('3604', '2019-11-13' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 317 , 'Wednesday', 4, '11132019');
+insert into DateType  values ('3605', '2019-11-14' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 318 , 'Thursday', 5, '11142019');
+insert into DateType  values ('3606', '2019-11-15' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 319 , 'Friday', 6, '11152019');
+insert into DateType  values ('3607', '2019-11-16' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 320 , 'Saturday', 7, '11162019');
+insert into DateType  values ('3608', '2019-11-17' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 321 , 'Sunday', 1, '11172019');
+insert into DateType  values ('3609', '2019-11-18' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 322 , 'Monday', 2, '11182019');
+insert into DateType  values ('3610', '2019-11-19' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 323 , 'Tuesday', 3, '11192019');
+insert into DateType  values ('3611', '2019-11-20' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 324 , 'Wednesday', 4, '11202019');
+insert into DateType  values ('3612', '2019-11-21' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 325 , 'Thursday', 5, '11212019');
+insert into DateType  values ('3613', '2019-11-22' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 326 , 'Friday', 6, '11222019');
+insert into DateType  values ('3614', '2019-11-23' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 327 , 'Saturday', 7, '11232019');
+insert into DateType  values ('3615', '2019-11-24' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 328 , 'Sunday', 1, '11242019');
+insert into DateType  values ('3616', '2019-11-25' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 329 , 'Monday', 2, '11252019');
+insert into DateType  values ('3617', '2019-11-26' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 330 , 'Tuesday', 3, '11262019');
+insert into DateType  values ('3618', '2019-11-27' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 331 , 'Wednesday', 4, '11272019');
+insert into DateType  values ('3619', '2019-11-28' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 332 , 'Thursday', 5, '11282019');
+insert into DateType  values ('3620', '2019-11-29' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 333 , 'Friday', 6, '11292019');
+insert into DateType  values ('3621', '2019-11-30' , 2019 , '2019', 4 , 11 , 'November', '2019-11' , 334 , 'Saturday', 7, '11302019');
+insert into DateType  values ('3622', '2019-12-01' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 335 , 'Sunday', 1, '12012019');
+insert into DateType  values ('3623', '2019-12-02' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 336 , 'Monday', 2, '12022019');
+insert into DateType  values ('3624', '2019-12-03' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 337 , 'Tuesday', 3, '12032019');
+insert into DateType  values ('3625', '2019-12-04' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 338 , 'Wednesday', 4, '12042019');
+insert into DateType  values ('3626', '2019-12-05' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 339 , 'Thursday', 5, '12052019');
+insert into DateType  values ('3627', '2019-12-06' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 340 , 'Friday', 6, '12062019');
+insert into DateType  values ('3628', '2019-12-07' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 341 , 'Saturday', 7, '12072019');
+insert into DateType  values ('3629', '2019-12-08' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 342 , 'Sunday', 1, '12082019');
+insert into DateType  values ('3630', '2019-12-09' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 343 , 'Monday', 2, '12092019');
+insert into DateType  values ('3631', '2019-12-10' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 344 , 'Tuesday', 3, '12102019');
+insert into DateType  values ('3632', '2019-12-11' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 345 , 'Wednesday', 4, '12112019');
+insert into DateType  values ('3633', '2019-12-12' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 346 , 'Thursday', 5, '12122019');
+insert into DateType  values ('3634', '2019-12-13' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 347 , 'Friday', 6, '12132019');
+insert into DateType  values ('3635', '2019-12-14' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 348 , 'Saturday', 7, '12142019');
+insert into DateType  values ('3636', '2019-12-15' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 349 , 'Sunday', 1, '12152019');
+insert into DateType  values ('3637', '2019-12-16' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 350 , 'Monday', 2, '12162019');
+insert into DateType  values ('3638', '2019-12-17' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 351 , 'Tuesday', 3, '12172019');
+insert into DateType  values ('3639', '2019-12-18' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 352 , 'Wednesday', 4, '12182019');
+insert into DateType  values ('3640', '2019-12-19' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 353 , 'Thursday', 5, '12192019');
+insert into DateType  values ('3641', '2019-12-20' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 354 , 'Friday', 6, '12202019');
+insert into DateType  values ('3642', '2019-12-21' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 355 , 'Saturday', 7, '12212019');
+insert into DateType  values ('3643', '2019-12-22' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 356 , 'Sunday', 1, '12222019');
+insert into DateType  values ('3644', '2019-12-23' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 357 , 'Monday', 2, '12232019');
+insert into DateType  values ('3645', '2019-12-24' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 358 , 'Tuesday', 3, '12242019');
+insert into DateType  values ('3646', '2019-12-25' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 359 , 'Wednesday', 4, '12252019');
+insert into DateType  values ('3647', '2019-12-26' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 360 , 'Thursday', 5, '12262019');
+insert into DateType  values ('3648', '2019-12-27' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 361 , 'Friday', 6, '12272019');
+insert into DateType  values ('3649', '2019-12-28' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 362 , 'Saturday', 7, '12282019');
+insert into DateType  values ('3650', '2019-12-29' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 363 , 'Sunday', 1, '12292019');
+insert into DateType  values ('3651', '2019-12-30' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 364 , 'Monday', 2, '12302019');
+insert into DateType  values ('3652', '2019-12-31' , 2019 , '2019', 4 , 12 , 'December', '2019-12' , 365 , 'Tuesday', 3, '12312019');
+insert into DateType  values ('99999', '1889-01-01' , 0 , 'UNK', 0 , 0 , 'Unknown', 'Unknown' , 0 , 'Unknown', 0, 'Unknown');
+insert into DateType  values ('99998', '1890-01-01' , 0 , 'BLK', 0 , 0 , 'Blank', 'Blank' , 0 , 'Blank', 0, 'Blank');
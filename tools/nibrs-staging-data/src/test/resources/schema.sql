@@ -17,7 +17,7 @@
 /*
  * When update the DDL from the SQL Power ddl generator,  need to add " AUTO_INCREMENT" to all the pkIds. 
  */
-Drop schema if exists search_nibrs_staging;
+Drop schema if exists search_nibrs_staging CASCADE;
 
 CREATE schema search_nibrs_staging;
 
@@ -63,7 +63,7 @@ CREATE TABLE NibrsErrorCodeType (
 CREATE TABLE Submission (
                 SubmissionID IDENTITY NOT NULL,
                 IncidentIdentifier VARCHAR(50) NOT NULL,
-                MessageIdentifier INTEGER NOT NULL,
+                MessageIdentifier BIGINT NOT NULL,
                 RequestFilePath VARCHAR(300) NOT NULL,
                 ResponseFilePath VARCHAR(300),
                 AcceptedIndicator BOOLEAN DEFAULT false NOT NULL,
@@ -448,6 +448,7 @@ CREATE TABLE ArrestReportSegment (
                 StateCode CHAR(2) NOT NULL,
                 MonthOfTape VARCHAR(2),
                 YearOfTape VARCHAR(4),
+                SubmissionPeriod INT,
                 CityIndicator VARCHAR(4),
                 AgencyID INTEGER NOT NULL,
                 ORI VARCHAR(9),
@@ -469,6 +470,8 @@ CREATE TABLE ArrestReportSegment (
                 SubmissionID INTEGER,
                 OwnerId INTEGER,
                 ReportTimestamp TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+                CurrentVersionIndicator BOOLEAN DEFAULT FALSE NOT NULL,
+                CurrentOwnerVersionIndicator BOOLEAN DEFAULT FALSE NOT NULL,
                 CONSTRAINT ArresteReport_pk PRIMARY KEY (ArrestReportSegmentID)
 );
 
@@ -488,6 +491,7 @@ CREATE TABLE AdministrativeSegment (
                 StateCode CHAR(2) NOT NULL,
                 MonthOfTape VARCHAR(2),
                 YearOfTape VARCHAR(4),
+                SubmissionPeriod INT,
                 CityIndicator VARCHAR(4),
                 ORI VARCHAR(9),
                 AgencyID INTEGER NOT NULL,
@@ -503,6 +507,8 @@ CREATE TABLE AdministrativeSegment (
                 SubmissionID INTEGER,
                 OwnerId INTEGER,
                 ReportTimestamp TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+                CurrentVersionIndicator BOOLEAN DEFAULT FALSE NOT NULL,
+                CurrentOwnerVersionIndicator BOOLEAN DEFAULT FALSE NOT NULL,
                 CONSTRAINT AdministrativeSegment_pk PRIMARY KEY (AdministrativeSegmentID)
 );
 
@@ -1292,4 +1298,24 @@ ALTER TABLE BiasMotivation ADD CONSTRAINT OffenseSegment_BiasMotivation_fk
 FOREIGN KEY (OffenseSegmentID)
 REFERENCES OffenseSegment (OffenseSegmentID)
 ON DELETE NO ACTION
-ON UPDATE NO ACTION;
\ No newline at end of file
+ON UPDATE NO ACTION;
+
+CREATE TABLE IdGenerator (
+                GeneratorName VARCHAR(50) NOT NULL,
+                LastId INTEGER NOT NULL,
+                PRIMARY KEY (GeneratorName)
+);
+
+CREATE INDEX idx_current_version_agencyid ON AdministrativeSegment (CurrentVersionIndicator, AgencyID, IncidentDate);
+CREATE INDEX idx_incidentdate_current_version ON AdministrativeSegment (IncidentDate, CurrentVersionIndicator);
+CREATE INDEX idx_agencyid_submission_period ON AdministrativeSegment (AgencyID, SubmissionPeriod);
+CREATE INDEX idx_exceptionalclearancedate ON AdministrativeSegment (ExceptionalClearanceDate);
+CREATE INDEX idx_ori_submission_period ON AdministrativeSegment (ORI, SubmissionPeriod);
+CREATE INDEX idx_arrestdate ON ArresteeSegment (ArrestDate, AdministrativeSegmentID);
+CREATE INDEX idx_arrest_current_version_agencyid ON ArrestReportSegment (CurrentVersionIndicator, AgencyID, ArrestDate);
+CREATE INDEX idx_arrest_ori_submission_period ON ArrestReportSegment (ORI, SubmissionPeriod);
+CREATE INDEX idx_arrest_agencyid_submission_period ON ArrestReportSegment (AgencyID, SubmissionPeriod);
+CREATE INDEX idx_arrestdate_current_version ON ArrestReportSegment (ArrestDate, CurrentVersionIndicator);
+CREATE INDEX idx_report_timestamp ON AdministrativeSegment (ReportTimestamp, AdministrativeSegmentID);
+CREATE INDEX idx_arrest_report_timestamp ON ArrestReportSegment (ReportTimestamp, ArrestReportSegmentID);
+CREATE INDEX idx_precertificationerror_timestamp ON PreCertificationError (PreCertificationErrorTimestamp, PreCertificationErrorId);
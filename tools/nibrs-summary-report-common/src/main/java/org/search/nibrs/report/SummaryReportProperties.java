@@ -29,6 +29,10 @@ public class SummaryReportProperties {
 	private String summaryReportOutputPath = ".";
 	private List<String> stateRaceCodeTitles = new ArrayList<>();
 	private int yellowRaceCodeColumnCount = 3;
+	/**
+	 * The number of rows the streaming exporters keep in memory before flushing them to the temporary file.
+	 */
+	private int streamingRowAccessWindowSize = 100;
 	
 	public String getStagingDataRestServiceBaseUrl() {
 		return stagingDataRestServiceBaseUrl;
@@ -68,4 +72,12 @@ public class SummaryReportProperties {
 		this.yellowRaceCodeColumnCount = yellowRaceCodeColumnCount;
 	}
 
-}
\ No newline at end of file
+	public int getStreamingRowAccessWindowSize() {
+		return streamingRowAccessWindowSize;
+	}
+
+	public void setStreamingRowAccessWindowSize(int streamingRowAccessWindowSize) {
+		this.streamingRowAccessWindowSize = streamingRowAccessWindowSize;
+	}
+
+}
@@ -14,7 +14,6 @@
  * limitations under the License.
  */
 package org.search.nibrs.report.service;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 
@@ -25,16 +24,16 @@ import org.apache.poi.ss.usermodel.BorderStyle;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
 import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.PrintSetup;
 import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.RegionUtil;
-import org.apache.poi.xssf.usermodel.XSSFFont;
-import org.apache.poi.xssf.usermodel.XSSFRichTextString;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.search.nibrs.model.reports.cargotheft.CargoTheftFormRow;
 import org.search.nibrs.model.reports.cargotheft.CargoTheftReport;
@@ -49,35 +48,39 @@ public class CargoTheftReportExporter {
 	@Autowired
 	private SummaryReportProperties appProperties;
 	
-	XSSFFont boldFont; 
-	XSSFFont normalWeightFont; 
+	Font boldFont; 
+	Font normalWeightFont; 
 	CellStyle wrappedStyle;
 	CellStyle vTopWrappedStyle;
 	CellStyle wrappedBorderedStyle;
 	CellStyle centeredWrappedBorderedStyle;
 	CellStyle centeredStyle;
+	CellStyle boldCenteredStyle;
 	CellStyle yellowForeGround;
 
 	public void exportCargoTheftReport(CargoTheftReport cargoTheftReport){
-        XSSFWorkbook workbook = createWorkbook(cargoTheftReport);
+        SXSSFWorkbook workbook = createWorkbook(cargoTheftReport);
         
-        try {
-        	String fileName = appProperties.getSummaryReportOutputPath() + "/CargoTheftReport-" + cargoTheftReport.getOri() + "-" + cargoTheftReport.getYear() + "-" + StringUtils.leftPad(String.valueOf(cargoTheftReport.getMonth()), 2, '0') + ".xlsx"; 
-            FileOutputStream outputStream = new FileOutputStream(fileName);
+        String fileName = appProperties.getSummaryReportOutputPath() + "/CargoTheftReport-" + cargoTheftReport.getOri() + "-" + cargoTheftReport.getYear() + "-" + StringUtils.leftPad(String.valueOf(cargoTheftReport.getMonth()), 2, '0') + ".xlsx"; 
+        try (FileOutputStream outputStream = new FileOutputStream(fileName)) {
             workbook.write(outputStream);
             workbook.close();
             System.out.println("The Supplementary Homicide Report is writen to fileName: " + fileName);
-        } catch (FileNotFoundException e) {
-            e.printStackTrace();
         } catch (IOException e) {
             e.printStackTrace();
+        } finally {
+            workbook.dispose();
         }
 
         System.out.println("Done");
     }
 
-	public XSSFWorkbook createWorkbook(CargoTheftReport cargoTheftReport) {
-		XSSFWorkbook workbook = new XSSFWorkbook();
+	/**
+	 * Builds the listing in a streaming workbook that keeps only the last rows of the sheet in memory. 
+	 * The caller writes it out and calls dispose() to delete the temporary file backing the flushed rows.
+	 */
+	public SXSSFWorkbook createWorkbook(CargoTheftReport cargoTheftReport) {
+		SXSSFWorkbook workbook = new SXSSFWorkbook(new XSSFWorkbook(), appProperties.getStreamingRowAccessWindowSize());
         
         wrappedStyle = workbook.createCellStyle();
         wrappedStyle.setWrapText(true);
@@ -107,6 +110,10 @@ public class CargoTheftReportExporter {
         normalWeightFont = workbook.createFont();
         normalWeightFont.setBold(false);
         
+        boldCenteredStyle = workbook.createCellStyle(); 
+        boldCenteredStyle.cloneStyleFrom(centeredStyle);
+        boldCenteredStyle.setFont(boldFont);
+        
         yellowForeGround = workbook.createCellStyle();
         yellowForeGround.cloneStyleFrom(centeredWrappedBorderedStyle);
         yellowForeGround.setFillForegroundColor(IndexedColors.YELLOW.index);
@@ -116,8 +123,8 @@ public class CargoTheftReportExporter {
 		return workbook;
 	}
 
-	private void createWorkSheet(CargoTheftReport cargoTheftReport, XSSFWorkbook workbook) {
-		XSSFSheet sheet = workbook.createSheet("Cargo Theft Incident Reports");
+	private void createWorkSheet(CargoTheftReport cargoTheftReport, SXSSFWorkbook workbook) {
+		Sheet sheet = workbook.createSheet("Cargo Theft Incident Reports");
 		sheet.setFitToPage(true);
 		PrintSetup ps = sheet.getPrintSetup();
 		ps.setFitWidth( (short) 1);
@@ -142,7 +149,7 @@ public class CargoTheftReportExporter {
 	}
 
 
-	private int createEmptyRow(XSSFSheet sheet, int rowNum) {
+	private int createEmptyRow(Sheet sheet, int rowNum) {
 		Row row = sheet.createRow(rowNum);
 		for (int colNum = 0; colNum < 3; colNum++) {
 			Cell cell = row.createCell(colNum);
@@ -151,7 +158,7 @@ public class CargoTheftReportExporter {
 		return rowNum;
 	}
 	
-	private void setColumnsWidth(XSSFSheet sheet) {
+	private void setColumnsWidth(Sheet sheet) {
 		sheet.setColumnWidth(0, 900 * sheet.getDefaultColumnWidth());
 		for (int i = 1; i < 4; i++) {
 			sheet.setColumnWidth(i, 475 * sheet.getDefaultColumnWidth());
@@ -159,21 +166,18 @@ public class CargoTheftReportExporter {
 	}
 
 
-	private int createTitleRow(XSSFSheet sheet, int rowNum) {
+	private int createTitleRow(Sheet sheet, int rowNum) {
 		Row row = sheet.createRow(rowNum++);
     	row.setHeightInPoints((3*sheet.getDefaultRowHeightInPoints()));
 		Cell cell = row.createCell(0);
 		
-		cell.setCellStyle(centeredStyle);
-		 
-		XSSFRichTextString s1 = new XSSFRichTextString("Cargo Theft Incident Reports");
-		s1.applyFont(boldFont);
-		cell.setCellValue(s1);
+		cell.setCellStyle(boldCenteredStyle);
+		cell.setCellValue("Cargo Theft Incident Reports");
 		sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 4));
 		return rowNum;
 	}
     
-	private int createHeaderRow(XSSFSheet sheet, int rowNum, boolean nonNegligent) {
+	private int createHeaderRow(Sheet sheet, int rowNum, boolean nonNegligent) {
 		
 		CellRangeAddress mergedRegions = new CellRangeAddress(rowNum, rowNum, 0, 2);
 		sheet.addMergedRegion(mergedRegions);
@@ -205,7 +209,7 @@ public class CargoTheftReportExporter {
 		return rowNum;
 	}
 
-    private void writeCargoTheftFormRow(XSSFSheet sheet, CargoTheftFormRow cargoTheftFormRow, int rowNum) {
+    private void writeCargoTheftFormRow(Sheet sheet, CargoTheftFormRow cargoTheftFormRow, int rowNum) {
     	Row row = sheet.createRow(rowNum);
     	int colNum = 0;
     	Cell cell = row.createCell(colNum++);
@@ -14,9 +14,9 @@
  * limitations under the License.
  */
 package org.search.nibrs.report.service;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
@@ -33,15 +33,16 @@ import org.apache.poi.ss.usermodel.HorizontalAlignment;
 import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.PrintSetup;
 import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.RegionUtil;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.DefaultIndexedColorMap;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 import org.apache.poi.xssf.usermodel.XSSFColor;
 import org.apache.poi.xssf.usermodel.XSSFFont;
-import org.apache.poi.xssf.usermodel.XSSFRichTextString;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.apache.poi.xssf.usermodel.extensions.XSSFCellBorder.BorderSide;
 import org.search.nibrs.model.reports.ReturnAFormRow;
@@ -56,6 +57,10 @@ import org.springframework.stereotype.Service;
 @Service
 public class ReturnARecordCardExporter {
 	private static final Log log = LogFactory.getLog(ReturnARecordCardExporter.class);
+	/*
+	 * The rows of a record card sheet, which are written out of order and have their borders set after the tables are filled. 
+	 */
+	private static final int RECORD_CARD_ROW_COUNT = 77; 
 	
 	@Autowired
 	private SummaryReportProperties appProperties;
@@ -75,6 +80,18 @@ public class ReturnARecordCardExporter {
 	private XSSFCellStyle blueLeftFont8NoWrapStyle;
 	private XSSFCellStyle rightDefaultStyle;
 	private XSSFCellStyle rightGrayStyle;
+	private XSSFCellStyle blueBoldLeftStyle;
+	private XSSFCellStyle blueCenteredStyle;
+	private XSSFCellStyle blueBold8TopCenteredStyle;
+	private XSSFCellStyle greyBoldCenteredStyle;
+	private XSSFCellStyle centeredNormalTahoma;
+	private XSSFCellStyle centeredNormalCalibri;
+	private XSSFCellStyle rightCalibri;
+	private XSSFCellStyle centeredCalibri;
+	private XSSFCellStyle leftCalibri;
+	private XSSFCellStyle titleStyle;
+	private XSSFCellStyle tableTitleStyle;
+	private XSSFCellStyle versionStyle;
 	private XSSFFont boldSmallerFont;
 	private XSSFFont normalWeightFont;
 	private XSSFFont normalCalibriFont;
@@ -84,25 +101,33 @@ public class ReturnARecordCardExporter {
 	
 	private DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("MMM dd, YYYY"); 
     public void exportReturnARecordCardReport(ReturnARecordCardReport returnARecordCardReport){
-        XSSFWorkbook workbook = createReturnARecordCardWorkbook(returnARecordCardReport);
+        SXSSFWorkbook workbook = createReturnARecordCardWorkbook(returnARecordCardReport);
 		
-        try {
-        	String fileName = appProperties.getSummaryReportOutputPath() + "/ReturnARecordCard-" + 
+        String fileName = appProperties.getSummaryReportOutputPath() + "/ReturnARecordCard-" + 
         			returnARecordCardReport.getStateName() + "-" + returnARecordCardReport.getYear()  + ".xlsx"; 
-            FileOutputStream outputStream = new FileOutputStream(fileName);
+        try (FileOutputStream outputStream = new FileOutputStream(fileName)) {
             workbook.write(outputStream);
             workbook.close();
             log.info("The return A record card is writen to fileName: " + fileName);
-        } catch (FileNotFoundException e) {
-            e.printStackTrace();
         } catch (IOException e) {
             e.printStackTrace();
+        } finally {
+            workbook.dispose();
         }
 
     }
     
-	public XSSFWorkbook createReturnARecordCardWorkbook(ReturnARecordCardReport returnARecordCardReport) {
-		XSSFWorkbook workbook = new XSSFWorkbook();
+	/**
+	 * Builds one sheet per agency in a streaming workbook, flushing each sheet to the temporary file once it is complete. 
+	 * The caller writes it out and calls dispose() to delete the temporary files.
+	 */
+	public SXSSFWorkbook createReturnARecordCardWorkbook(ReturnARecordCardReport returnARecordCardReport) {
+		SXSSFWorkbook streamingWorkbook = new SXSSFWorkbook(new XSSFWorkbook(), 
+				Math.max(appProperties.getStreamingRowAccessWindowSize(), RECORD_CARD_ROW_COUNT));
+		/*
+		 * The styles are shared by every sheet, and are created on the backing workbook to keep their XSSF types. 
+		 */
+		XSSFWorkbook workbook = streamingWorkbook.getXSSFWorkbook();
         normalWeightFont = workbook.createFont();
         normalWeightFont.setBold(false);
         normalWeightFont.setFontName("Tahoma");
@@ -146,6 +171,36 @@ public class ReturnARecordCardExporter {
         rightAlignedStyle = workbook.createCellStyle();
         rightAlignedStyle.setAlignment(HorizontalAlignment.RIGHT);
         
+        XSSFFont normalTahomaFont = workbook.createFont();
+        normalTahomaFont.setBold(false);
+        normalTahomaFont.setFontName("Tahoma");
+        normalTahomaFont.setFontHeightInPoints(Short.valueOf("10"));
+        rightAlignedStyle.setFont(normalTahomaFont);
+        
+        XSSFFont titleFont = workbook.createFont();
+        titleFont.setBold(true);
+        titleFont.setFontName("Calibri");
+        titleFont.setFontHeightInPoints(Short.valueOf("12"));
+        titleStyle = workbook.createCellStyle();
+        titleStyle.cloneStyleFrom(centeredStyle);
+        titleStyle.setFont(titleFont);
+        
+        XSSFFont tableTitleFont = workbook.createFont();
+        tableTitleFont.setBold(true);
+        tableTitleFont.setFontName("Calibri");
+        tableTitleFont.setFontHeightInPoints(Short.valueOf("10"));
+        tableTitleStyle = workbook.createCellStyle();
+        tableTitleStyle.cloneStyleFrom(centeredStyle);
+        tableTitleStyle.setFont(tableTitleFont);
+        
+        XSSFFont versionFont = workbook.createFont();
+        versionFont.setBold(false);
+        versionFont.setFontName("Calibri");
+        versionFont.setFontHeightInPoints(Short.valueOf("10"));
+        versionStyle = workbook.createCellStyle();
+        versionStyle.cloneStyleFrom(rightAlignedStyle);
+        versionStyle.setFont(versionFont);
+        
         Font boldFont = workbook.createFont();
         boldFont.setFontName("Tahoma");
         boldFont.setFontHeightInPoints(Short.parseShort("8"));
@@ -215,20 +270,60 @@ public class ReturnARecordCardExporter {
 	    rightDefaultStyle.cloneStyleFrom(defaultStyle);
 	    rightDefaultStyle.setAlignment(HorizontalAlignment.RIGHT);
 
+		blueBoldLeftStyle = workbook.createCellStyle();
+		blueBoldLeftStyle.cloneStyleFrom(blueForeGround);
+		blueBoldLeftStyle.setFont(boldSmallerFont);
+		
+		blueCenteredStyle = workbook.createCellStyle();
+		blueCenteredStyle.cloneStyleFrom(blueForeGround);
+		blueCenteredStyle.setAlignment(HorizontalAlignment.CENTER);
+		blueCenteredStyle.setFont(normalWeightFont);
+		
+		blueBold8TopCenteredStyle = workbook.createCellStyle();
+		blueBold8TopCenteredStyle.cloneStyleFrom(blueBoldForeGround);
+		blueBold8TopCenteredStyle.setVerticalAlignment(VerticalAlignment.TOP);
+		blueBold8TopCenteredStyle.setAlignment(HorizontalAlignment.CENTER);
+		
+		greyBoldCenteredStyle = workbook.createCellStyle();
+		greyBoldCenteredStyle.cloneStyleFrom(grayForeGround);
+		greyBoldCenteredStyle.setAlignment(HorizontalAlignment.CENTER);
+		greyBoldCenteredStyle.setFont(boldSmallerFont);
+		
+		centeredNormalTahoma = workbook.createCellStyle(); 
+		centeredNormalTahoma.cloneStyleFrom(centeredStyle);
+		centeredNormalTahoma.setFont(normalWeightFont);
+		
+		centeredNormalCalibri = workbook.createCellStyle(); 
+		centeredNormalCalibri.cloneStyleFrom(centeredStyle);
+		centeredNormalCalibri.setVerticalAlignment(VerticalAlignment.TOP);
+		centeredNormalCalibri.setFont(normalCalibriFont);
+		
+		rightCalibri = workbook.createCellStyle(); 
+		rightCalibri.cloneStyleFrom(rightAlignedStyle);
+		rightCalibri.setFont(boldCalibriFont);
+		
+		centeredCalibri = workbook.createCellStyle(); 
+		centeredCalibri.cloneStyleFrom(centeredStyle);
+		centeredCalibri.setFont(boldCalibriFont);
+		
+		leftCalibri = workbook.createCellStyle(); 
+		leftCalibri.setAlignment(HorizontalAlignment.LEFT);;
+		leftCalibri.setFont(boldCalibriFont);
+
 
         Font underlineFont = workbook.createFont();
         underlineFont.setUnderline(Font.U_SINGLE);
         
-    	createReturnARecordCardSheet(workbook, boldFont, normalWeightFont, returnARecordCardReport);
-		return workbook;
+    	createReturnARecordCardSheet(streamingWorkbook, boldFont, normalWeightFont, returnARecordCardReport);
+		return streamingWorkbook;
 	}
 
-	private void createReturnARecordCardSheet(XSSFWorkbook workbook, Font boldFont, 
+	private void createReturnARecordCardSheet(SXSSFWorkbook workbook, Font boldFont, 
 			XSSFFont normalWeightFont, ReturnARecordCardReport returnARecordCardReport) {
 		
 		for (ReturnARecordCard returnARecordCard: returnARecordCardReport.getReturnARecordCards().values()) {
 			int rowNum = 0;
-	        XSSFSheet sheet = workbook.createSheet(returnARecordCard.getOri());
+	        SXSSFSheet sheet = workbook.createSheet(returnARecordCard.getOri());
 			sheet.setFitToPage(true);
 			PrintSetup ps = sheet.getPrintSetup();
 			ps.setLandscape(true);
@@ -236,8 +331,6 @@ public class ReturnARecordCardExporter {
 			ps.setFitHeight( (short) 0);
 	
 	        sheet.setColumnWidth(2, 750 * sheet.getDefaultColumnWidth());
-	        CellStyle wrappedStyle = workbook.createCellStyle();
-	        wrappedStyle.setWrapText(true);
 	        
 	    	rowNum = createReturnARecordTitleRow(sheet, rowNum);
 	    	rowNum = createMetaDataRows(sheet, rowNum, returnARecordCard);
@@ -248,12 +341,18 @@ public class ReturnARecordCardExporter {
 	    	createArsonTable(boldFont, normalWeightFont, returnARecordCard, sheet);
 	    	createTotalOffensesAndClearancesTable(boldFont, normalWeightFont, returnARecordCard, sheet);
 	    	createVersionRow(sheet, 76, "Version 18.17 2018-09-14");
+	    	
+	    	try {
+	    		sheet.flushRows();
+	    	} catch (IOException e) {
+	    		throw new UncheckedIOException("Failed to flush the record card sheet of " + returnARecordCard.getOri(), e);
+	    	}
 		}
         
 	}
 
 	private void createArsonTable(Font boldFont, XSSFFont normalWeightFont2, ReturnARecordCard returnARecordCard,
-			XSSFSheet sheet) {
+			Sheet sheet) {
 		int rowNum = 42; 
 		rowNum = createSimpleTableTitle(sheet, rowNum, "Arson");
 		rowNum = createHeaderRow(sheet, rowNum, boldFont, normalWeightFont);
@@ -282,7 +381,7 @@ public class ReturnARecordCardExporter {
 	}
 
 	private void createHumanTraffickingTable(Font boldFont, XSSFFont normalWeightFont2,
-			ReturnARecordCard returnARecordCard, XSSFSheet sheet) {
+			ReturnARecordCard returnARecordCard, Sheet sheet) {
 		int rowNum = 37; 
 		rowNum = createSimpleTableTitle(sheet, rowNum, "Human Trafficking");
 		rowNum = createHeaderRow(sheet, rowNum, boldFont, normalWeightFont);
@@ -314,7 +413,7 @@ public class ReturnARecordCardExporter {
 		
 	}
 
-	private void writeSimpleRecordCardRow(ReturnARecordCardRow returnARecordCardRow, XSSFSheet sheet, int rowNum, String header) {
+	private void writeSimpleRecordCardRow(ReturnARecordCardRow returnARecordCardRow, Sheet sheet, int rowNum, String header) {
 		sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum, 0, 2));
 		Row row = sheet.createRow(rowNum);
 		Cell cell = row.createCell(0); 
@@ -326,7 +425,7 @@ public class ReturnARecordCardExporter {
 	}
 
 	private void createTotalOffensesAndClearancesTable(Font boldFont, XSSFFont normalWeightFont2,
-			ReturnARecordCard returnARecordCard, XSSFSheet sheet) {
+			ReturnARecordCard returnARecordCard, Sheet sheet) {
 		int rowNum = 55; 
 		rowNum = createSimpleTableTitle(sheet, rowNum, "Total Offenses and Clearances");
 		rowNum = createOffenseAndClearanceTableMetaData(sheet, rowNum);
@@ -426,7 +525,7 @@ public class ReturnARecordCardExporter {
 		
 	}
 
-	private void writeOffensesAndClearancesTotalRow(XSSFSheet sheet,
+	private void writeOffensesAndClearancesTotalRow(Sheet sheet,
 			ReturnAFormRow returnAFormRow, int rowNum, int cellNum) {
 		Row row = sheet.getRow(rowNum);
 		Cell cell = row.createCell(cellNum);
@@ -442,7 +541,7 @@ public class ReturnARecordCardExporter {
 		cell.setCellStyle(rightGrayStyle);
 	}
 
-	private void writeOffensesAndClearancesTotalRow(XSSFSheet sheet, ReturnARecordCardRow returnARecordCardRow,
+	private void writeOffensesAndClearancesTotalRow(Sheet sheet, ReturnARecordCardRow returnARecordCardRow,
 			int rowNum, int cellNum) {
 		Row row = sheet.getRow(rowNum);
 		Cell cell = row.createCell(cellNum);
@@ -458,7 +557,7 @@ public class ReturnARecordCardExporter {
 		cell.setCellStyle(rightGrayStyle);
 	}
 	
-	private void createOffenseAndClearanceTableHeaders(XSSFSheet sheet, Row row, int cellNum) {
+	private void createOffenseAndClearanceTableHeaders(Sheet sheet, Row row, int cellNum) {
 		int nextCellNum = cellNum + 3; 
 		if (cellNum > 0) {
 			sheet.addMergedRegion(new CellRangeAddress(row.getRowNum(), row.getRowNum(), cellNum, cellNum + 4));
@@ -484,30 +583,18 @@ public class ReturnARecordCardExporter {
 		
 	}
 
-	private int createOffenseAndClearanceTableMetaData(XSSFSheet sheet, int rowNum) {
-		XSSFCellStyle rightCalibri = sheet.getWorkbook().createCellStyle(); 
-		rightCalibri.cloneStyleFrom(rightAlignedStyle);
-		rightCalibri.setFont(boldCalibriFont);
-		
+	private int createOffenseAndClearanceTableMetaData(Sheet sheet, int rowNum) {
 		Row row = sheet.createRow(rowNum);
 		sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum, 0, 4));
 		Cell cell = row.createCell(0);
 		cell.setCellValue("A = Actual Count");
 		cell.setCellStyle(rightCalibri);
 		
-		XSSFCellStyle centeredCalibri = sheet.getWorkbook().createCellStyle(); 
-		centeredCalibri.cloneStyleFrom(centeredStyle);
-		centeredCalibri.setFont(boldCalibriFont);
-		
 		sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum, 5, 10));
 		cell=row.createCell(5); 
 		cell.setCellValue("C = Cleared Count");
 		cell.setCellStyle(centeredCalibri);
 		
-		XSSFCellStyle leftCalibri = sheet.getWorkbook().createCellStyle(); 
-		leftCalibri.setAlignment(HorizontalAlignment.LEFT);;
-		leftCalibri.setFont(boldCalibriFont);
-		
 		sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum, 11, 17));
 		cell=row.createCell(11); 
 		cell.setCellValue("JC = Juvenile Cleared Count");
@@ -517,7 +604,7 @@ public class ReturnARecordCardExporter {
 	}
 
 	private void createSimpleAssaultTable(Font boldFont, XSSFFont normalWeightFont2,
-			ReturnARecordCard returnARecordCard, XSSFSheet sheet) {
+			ReturnARecordCard returnARecordCard, Sheet sheet) {
 		int rowNum = 46; 
 		rowNum = createSimpleTableTitle(sheet, rowNum, "Simple Assault");
 		rowNum = createHeaderRow(sheet, rowNum, boldFont, normalWeightFont);
@@ -545,42 +632,26 @@ public class ReturnARecordCardExporter {
 		
 	}
 
-	private int createSimpleTableTitle(XSSFSheet sheet, int rowNum, String title) {
-        XSSFFont boldWeightFont = sheet.getWorkbook().createFont();
-        boldWeightFont.setBold(true);
-        boldWeightFont.setFontName("Calibri");
-        boldWeightFont.setFontHeightInPoints(Short.valueOf("10"));
-
+	private int createSimpleTableTitle(Sheet sheet, int rowNum, String title) {
 		Row row = sheet.createRow(rowNum);
 		Cell cell = row.createCell(0);
-		cell.setCellStyle(centeredStyle);
-		 
-		XSSFRichTextString s1 = new XSSFRichTextString(title);
-		s1.applyFont(boldWeightFont);
-		cell.setCellValue(s1);
+		cell.setCellStyle(tableTitleStyle);
+		cell.setCellValue(title);
 		sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum, 0, 17));
 		return ++rowNum;
 	}
 
-	private int createVersionRow(XSSFSheet sheet, int rowNum, String version) {
-		XSSFFont normalWeightFont = sheet.getWorkbook().createFont();
-		normalWeightFont.setBold(false);
-		normalWeightFont.setFontName("Calibri");
-		normalWeightFont.setFontHeightInPoints(Short.valueOf("10"));
-		
+	private int createVersionRow(Sheet sheet, int rowNum, String version) {
 		Row row = sheet.createRow(rowNum);
 		Cell cell = row.createCell(0);
-		cell.setCellStyle(rightAlignedStyle);
-		
-		XSSFRichTextString s1 = new XSSFRichTextString(version);
-		s1.applyFont(normalWeightFont);
-		cell.setCellValue(s1);
+		cell.setCellStyle(versionStyle);
+		cell.setCellValue(version);
 		sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum, 0, 17));
 		return ++rowNum;
 	}
 	
 	private void createReportedOffenseTable(Font boldFont, XSSFFont normalWeightFont, ReturnARecordCard returnARecordCard, int rowNum,
-			XSSFSheet sheet) {
+			Sheet sheet) {
 		rowNum = createHeaderRow(sheet, rowNum, boldFont, normalWeightFont);
 		
 		int grandTotalRowNum = rowNum; 
@@ -625,7 +696,7 @@ public class ReturnARecordCardExporter {
 		RegionUtil.setRightBorderColor(borderColor.getIndex(), tableUpperRight, sheet);
 	}
 	
-	private void writeReportedOffensesRow(XSSFSheet sheet, ReturnARecordCardRowName rowName,
+	private void writeReportedOffensesRow(Sheet sheet, ReturnARecordCardRowName rowName,
 			ReturnARecordCardRow returnARecordCardRow, int rowNum, Font boldFont) {
         
     	Row row = sheet.getRow(rowNum);
@@ -677,7 +748,7 @@ public class ReturnARecordCardExporter {
 		}
 	}
 
-	private void createRowHeaders(XSSFSheet sheet, int rowNum, Font boldFont, XSSFFont normalWeightFont) {
+	private void createRowHeaders(Sheet sheet, int rowNum, Font boldFont, XSSFFont normalWeightFont) {
 		sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum, 0, 2));
 		Row row = sheet.createRow(rowNum++);
 		Cell cell = row.createCell(0); 
@@ -689,7 +760,7 @@ public class ReturnARecordCardExporter {
 
 	}
 
-	private void createSimpleOffenseClearanceRowHeader(XSSFSheet sheet, int rowNum, int cellNum, String header) {
+	private void createSimpleOffenseClearanceRowHeader(Sheet sheet, int rowNum, int cellNum, String header) {
 		Row row;
 		Cell cell;
 		
@@ -703,7 +774,7 @@ public class ReturnARecordCardExporter {
 		cell.setCellStyle(blueLeftNoWrapStyle);
 	}
 
-	private void createPropertyRowHeaders(XSSFSheet sheet, int rowNum, int cellNum) {
+	private void createPropertyRowHeaders(Sheet sheet, int rowNum, int cellNum) {
 		Row row;
 		Cell cell;
 		
@@ -802,7 +873,7 @@ public class ReturnARecordCardExporter {
 		cell.setCellStyle(blueLeftNoWrapStyle);
 	}
 
-	private int createViolentRowHeaders(XSSFSheet sheet, int rowNum) {
+	private int createViolentRowHeaders(Sheet sheet, int rowNum) {
 		Row row;
 		Cell cell;
 		sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum+15, 0, 0));
@@ -913,26 +984,7 @@ public class ReturnARecordCardExporter {
 		return rowNum;
 	}
 
-	private int createHeaderRow(XSSFSheet sheet, int rowNum, Font boldFont, XSSFFont normalWeightFont) {
-		XSSFCellStyle blueBoldLeftStyle = sheet.getWorkbook().createCellStyle();
-		blueBoldLeftStyle.cloneStyleFrom(blueForeGround);
-		blueBoldLeftStyle.setFont(boldSmallerFont);
-		
-		XSSFCellStyle blueCenteredStyle = sheet.getWorkbook().createCellStyle();
-		blueCenteredStyle.cloneStyleFrom(blueForeGround);
-		blueCenteredStyle.setAlignment(HorizontalAlignment.CENTER);
-		blueCenteredStyle.setFont(normalWeightFont);
-		
-		XSSFCellStyle blueBold8TopCenteredStyle = sheet.getWorkbook().createCellStyle();
-		blueBold8TopCenteredStyle.cloneStyleFrom(blueBoldForeGround);
-		blueBold8TopCenteredStyle.setVerticalAlignment(VerticalAlignment.TOP);
-		blueBold8TopCenteredStyle.setAlignment(HorizontalAlignment.CENTER);
-		
-		XSSFCellStyle greyBoldCenteredStyle = sheet.getWorkbook().createCellStyle();
-		greyBoldCenteredStyle.cloneStyleFrom(grayForeGround);
-		greyBoldCenteredStyle.setAlignment(HorizontalAlignment.CENTER);
-		greyBoldCenteredStyle.setFont(boldSmallerFont);
-		
+	private int createHeaderRow(Sheet sheet, int rowNum, Font boldFont, XSSFFont normalWeightFont) {
 		sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum+1, 0, 2));
 		Row row = sheet.createRow(rowNum);
 		Cell cell = row.createCell(0);
@@ -972,11 +1024,7 @@ public class ReturnARecordCardExporter {
 		return ++rowNum;
 	}
 
-	private int createMetaDataRows(XSSFSheet sheet, int rowNum, ReturnARecordCard returnARecordCard) {
-		XSSFCellStyle centeredNormalTahoma = sheet.getWorkbook().createCellStyle(); 
-		centeredNormalTahoma.cloneStyleFrom(centeredStyle);
-		centeredNormalTahoma.setFont(normalWeightFont);
-		
+	private int createMetaDataRows(Sheet sheet, int rowNum, ReturnARecordCard returnARecordCard) {
 		Row row = sheet.createRow(rowNum);
 		Cell cell = row.createCell(0);
 		cell.setCellValue(returnARecordCard.getYear());
@@ -1020,11 +1068,6 @@ public class ReturnARecordCardExporter {
 		cell.setCellValue("Revised");
 		cell.setCellStyle(centeredNormalTahoma);
 		
-		XSSFCellStyle centeredNormalCalibri = sheet.getWorkbook().createCellStyle(); 
-		centeredNormalCalibri.cloneStyleFrom(centeredStyle);
-		centeredNormalCalibri.setVerticalAlignment(VerticalAlignment.TOP);
-		centeredNormalCalibri.setFont(normalCalibriFont);
-		
 		row = sheet.createRow(++rowNum);
 		cell = row.createCell(0);
 		cell.setCellValue("Year");
@@ -1071,29 +1114,14 @@ public class ReturnARecordCardExporter {
 		return ++rowNum;
 	}
 
-	private int createReturnARecordTitleRow(XSSFSheet sheet, int rowNum) {
-		
-        XSSFFont normalWeightFont = sheet.getWorkbook().createFont();
-        normalWeightFont.setBold(false);
-        normalWeightFont.setFontName("Tahoma");
-        normalWeightFont.setFontHeightInPoints(Short.valueOf("10"));
-        
-        XSSFFont boldWeightFont = sheet.getWorkbook().createFont();
-        boldWeightFont.setBold(true);
-        boldWeightFont.setFontName("Calibri");
-        boldWeightFont.setFontHeightInPoints(Short.valueOf("12"));
-
+	private int createReturnARecordTitleRow(Sheet sheet, int rowNum) {
 		rowNum++; 
 		Row row = sheet.createRow(rowNum++);
 		Cell cell = row.createCell(0);
-		cell.setCellStyle(centeredStyle);
-		 
-		XSSFRichTextString s1 = new XSSFRichTextString("Return A Record Card");
-		s1.applyFont(boldWeightFont);
-		cell.setCellValue(s1);
+		cell.setCellStyle(titleStyle);
+		cell.setCellValue("Return A Record Card");
 		sheet.addMergedRegion(new CellRangeAddress(1, 1, 0, 17));
 		
-		rightAlignedStyle.setFont(normalWeightFont);
 		row = sheet.createRow(rowNum++);
 		cell = row.createCell(0);
 		cell.setCellStyle(rightAlignedStyle);
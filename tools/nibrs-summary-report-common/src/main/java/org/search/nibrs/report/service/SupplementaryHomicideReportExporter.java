@@ -14,7 +14,6 @@
  * limitations under the License.
  */
 package org.search.nibrs.report.service;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.Arrays;
@@ -32,12 +31,11 @@ import org.apache.poi.ss.usermodel.HorizontalAlignment;
 import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.PrintSetup;
 import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.RegionUtil;
-import org.apache.poi.xssf.usermodel.XSSFFont;
-import org.apache.poi.xssf.usermodel.XSSFRichTextString;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.search.nibrs.model.reports.supplementaryhomicide.Person;
 import org.search.nibrs.model.reports.supplementaryhomicide.SupplementaryHomicideReport;
@@ -49,42 +47,51 @@ import org.springframework.stereotype.Service;
 @Service
 public class SupplementaryHomicideReportExporter {
 	private static final Log log = LogFactory.getLog(SupplementaryHomicideReportExporter.class);
+	/*
+	 * The title and header rows of the negligent sheet, which get their borders after the last of them is created. 
+	 */
+	private static final int HEADER_ROW_COUNT = 8; 
 	
 	@Autowired
 	private SummaryReportProperties appProperties;
 	
-	XSSFFont boldFont; 
-	XSSFFont italicFont; 
-	XSSFFont normalWeightFont; 
-	XSSFFont underlineFont;
+	Font boldFont; 
+	Font italicFont; 
+	Font normalWeightFont; 
+	Font underlineFont;
 	CellStyle wrappedStyle;
 	CellStyle vTopWrappedStyle;
 	CellStyle wrappedBorderedStyle;
 	CellStyle centeredWrappedBorderedStyle;
 	CellStyle centeredStyle;
+	CellStyle boldCenteredStyle;
 	CellStyle greyForeGround;
 	CellStyle rotateStyle; 
 
 	public void exportSupplementaryHomicideReport(SupplementaryHomicideReport supplementaryHomicideReport){
-        XSSFWorkbook workbook = createWorkbook(supplementaryHomicideReport, true);
+        SXSSFWorkbook workbook = createWorkbook(supplementaryHomicideReport, true);
         
-        try {
-        	String fileName = appProperties.getSummaryReportOutputPath() + "/SupplementaryHomicideReport-" + supplementaryHomicideReport.getOri() + "-" + supplementaryHomicideReport.getYear() + "-" + StringUtils.leftPad(String.valueOf(supplementaryHomicideReport.getMonth()), 2, '0') + ".xlsx"; 
-            FileOutputStream outputStream = new FileOutputStream(fileName);
+        String fileName = appProperties.getSummaryReportOutputPath() + "/SupplementaryHomicideReport-" + supplementaryHomicideReport.getOri() + "-" + supplementaryHomicideReport.getYear() + "-" + StringUtils.leftPad(String.valueOf(supplementaryHomicideReport.getMonth()), 2, '0') + ".xlsx"; 
+        try (FileOutputStream outputStream = new FileOutputStream(fileName)) {
             workbook.write(outputStream);
             workbook.close();
             System.out.println("The Supplementary Homicide Report is writen to fileName: " + fileName);
-        } catch (FileNotFoundException e) {
-            e.printStackTrace();
         } catch (IOException e) {
             e.printStackTrace();
+        } finally {
+            workbook.dispose();
         }
 
         System.out.println("Done");
     }
 
-	public XSSFWorkbook createWorkbook(SupplementaryHomicideReport supplementaryHomicideReport, boolean withStateRace) {
-		XSSFWorkbook workbook = new XSSFWorkbook();
+	/**
+	 * Builds the report in a streaming workbook that keeps only the last rows of each sheet in memory. 
+	 * The caller writes it out and calls dispose() to delete the temporary files backing the flushed rows.
+	 */
+	public SXSSFWorkbook createWorkbook(SupplementaryHomicideReport supplementaryHomicideReport, boolean withStateRace) {
+		SXSSFWorkbook workbook = new SXSSFWorkbook(new XSSFWorkbook(), 
+				Math.max(appProperties.getStreamingRowAccessWindowSize(), HEADER_ROW_COUNT));
         
         wrappedStyle = workbook.createCellStyle();
         wrappedStyle.setWrapText(true);
@@ -128,6 +135,10 @@ public class SupplementaryHomicideReportExporter {
         italicFont=workbook.createFont(); 
         italicFont.setItalic(true);
         
+        boldCenteredStyle = workbook.createCellStyle(); 
+        boldCenteredStyle.cloneStyleFrom(centeredStyle);
+        boldCenteredStyle.setFont(boldFont);
+        
         greyForeGround = workbook.createCellStyle();
         greyForeGround.cloneStyleFrom(wrappedStyle);
         greyForeGround.setAlignment(HorizontalAlignment.LEFT);
@@ -140,8 +151,8 @@ public class SupplementaryHomicideReportExporter {
 		return workbook;
 	}
 	
-	private void createNonNegligentSheet(SupplementaryHomicideReport supplementaryHomicideReport, XSSFWorkbook workbook, boolean withStateRace) {
-		XSSFSheet sheet = workbook.createSheet("SHR-non-negligent");
+	private void createNonNegligentSheet(SupplementaryHomicideReport supplementaryHomicideReport, SXSSFWorkbook workbook, boolean withStateRace) {
+		Sheet sheet = workbook.createSheet("SHR-non-negligent");
 		sheet.setFitToPage(true);
 		PrintSetup ps = sheet.getPrintSetup();
 		ps.setLandscape(true);
@@ -154,6 +165,7 @@ public class SupplementaryHomicideReportExporter {
     	rowNum = createMurderAndNonNegligentTitleRow(sheet, rowNum, withStateRace);
     	
 		rowNum = createSupplementaryHomicideReportHeaderRow(sheet, rowNum, true, withStateRace);
+		setBordersToMergedCells(sheet, 0, rowNum);
 		
         for (SupplementaryHomicideReportRow supplementaryHomicideReportRow: supplementaryHomicideReport.getMurderAndNonNegligenceManslaughter()){
         	writeSupplementaryHomicideReportRow(sheet, supplementaryHomicideReportRow, rowNum++, withStateRace);
@@ -163,13 +175,12 @@ public class SupplementaryHomicideReportExporter {
 	    	rowNum = createEmptyRow(sheet, rowNum++, withStateRace);
 		}
 
-		setBordersToMergedCells(sheet, 0, rowNum);
 		addAdministrativeInformation(sheet, rowNum, supplementaryHomicideReport, withStateRace);
-		setColumnsWidth(sheet, withStateRace);
+		setColumnsWidth(sheet, supplementaryHomicideReport.getMurderAndNonNegligenceManslaughter(), withStateRace);
 	}
 
-	private void createNegligentSheet(SupplementaryHomicideReport supplementaryHomicideReport, XSSFWorkbook workbook, boolean withStateRace) {
-		XSSFSheet sheet = workbook.createSheet("SHR-negligent");
+	private void createNegligentSheet(SupplementaryHomicideReport supplementaryHomicideReport, SXSSFWorkbook workbook, boolean withStateRace) {
+		Sheet sheet = workbook.createSheet("SHR-negligent");
 		sheet.setFitToPage(true);
 		PrintSetup ps = sheet.getPrintSetup();
 		ps.setLandscape(true);
@@ -182,6 +193,7 @@ public class SupplementaryHomicideReportExporter {
 		rowNum = createNegligentTitleRow(sheet, rowNum, withStateRace);
 		
 		rowNum = createSupplementaryHomicideReportHeaderRow(sheet, rowNum, false, withStateRace);
+		setBordersToMergedCells(sheet, 1, rowNum);
 		
 		for (SupplementaryHomicideReportRow supplementaryHomicideReportRow: supplementaryHomicideReport.getManslaughterByNegligence()){
 			writeSupplementaryHomicideReportRow(sheet, supplementaryHomicideReportRow, rowNum++, withStateRace);
@@ -191,14 +203,12 @@ public class SupplementaryHomicideReportExporter {
 	    	rowNum = createEmptyRow(sheet, rowNum, withStateRace);
 		}
 
-		setBordersToMergedCells(sheet, 1, rowNum+1);
-		
 		rowNum = addAsteriskInformation(sheet, rowNum, withStateRace);
 		
-		setColumnsWidth(sheet, withStateRace);
+		setColumnsWidth(sheet, supplementaryHomicideReport.getManslaughterByNegligence(), withStateRace);
 	}
 
-	private int addAsteriskInformation(XSSFSheet sheet, int rowNum, boolean withStateRace) {
+	private int addAsteriskInformation(Sheet sheet, int rowNum, boolean withStateRace) {
 		int extraSteps = 0 ;
 		if (withStateRace) {
 			extraSteps += 2; 
@@ -286,36 +296,44 @@ public class SupplementaryHomicideReportExporter {
 		return rowNum;
 	}
 
-	private int createEmptyRow(XSSFSheet sheet, int rowNum, boolean withStateRace) {
+	private int createEmptyRow(Sheet sheet, int rowNum, boolean withStateRace) {
 		int extraSteps = 0 ;
 		if (withStateRace) {
 			extraSteps += 2; 
 		}
 		Row row = sheet.createRow(rowNum);
-		for (int colNum = 0; colNum < 15  + extraSteps; colNum++) {
+		for (int colNum = 0; colNum < 17  + extraSteps; colNum++) {
 			Cell cell = row.createCell(colNum);
 			cell.setCellStyle(wrappedBorderedStyle);
 		}
-		Cell cell = row.createCell(15);
-        sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum, 15 + extraSteps, 16 + extraSteps));
-		cell.setCellStyle(wrappedBorderedStyle);
+        sheet.addMergedRegionUnsafe(new CellRangeAddress(rowNum, rowNum, 15 + extraSteps, 16 + extraSteps));
 		return rowNum;
 	}
 	
-	private void setColumnsWidth(XSSFSheet sheet, boolean withStateRace) {
+	/*
+	 * The incident number and the situation are the only values in the autosized columns outside merged regions, 
+	 * so they are sized from the report rows rather than by scanning every merged region of the sheet for each cell. 
+	 */
+	private void setColumnsWidth(Sheet sheet, List<SupplementaryHomicideReportRow> supplementaryHomicideReportRows, boolean withStateRace) {
 		int extraSteps = 0 ;
 		if (withStateRace) {
 			extraSteps += 2; 
 		}
-		sheet.autoSizeColumn(0);
 		
 		for (int i = 1; i < 10 + extraSteps; i++) {
 			sheet.setColumnWidth(i, 100 * sheet.getDefaultColumnWidth());
 		}
-		sheet.autoSizeColumn(1);
-		sheet.autoSizeColumn(10 + extraSteps);
-		sheet.autoSizeColumn(11 + extraSteps);
-		sheet.autoSizeColumn(12 + extraSteps);
+		
+		int incidentNumberLength = 0; 
+		int situationLength = 0; 
+		for (SupplementaryHomicideReportRow supplementaryHomicideReportRow: supplementaryHomicideReportRows) {
+			incidentNumberLength = Math.max(incidentNumberLength, 
+					StringUtils.length(supplementaryHomicideReportRow.getIncidentNumber()));
+			situationLength = Math.max(situationLength, 
+					StringUtils.length(supplementaryHomicideReportRow.getHomicideSituation().code));
+		}
+		setColumnWidthToLength(sheet, 0, incidentNumberLength);
+		setColumnWidthToLength(sheet, 1, situationLength);
 		for (int i = 13 + extraSteps; i < 15 + extraSteps; i++) {
 			sheet.setColumnWidth(i, 850 * sheet.getDefaultColumnWidth());
 		}
@@ -323,7 +341,7 @@ public class SupplementaryHomicideReportExporter {
 		sheet.setColumnWidth(16 + extraSteps, 475 * sheet.getDefaultColumnWidth());
 	}
 
-	private int addAdministrativeInformation(XSSFSheet sheet, int rowNum, SupplementaryHomicideReport supplementaryHomicideReport, boolean withStateRace) {
+	private int addAdministrativeInformation(Sheet sheet, int rowNum, SupplementaryHomicideReport supplementaryHomicideReport, boolean withStateRace) {
 		
 		int extraSteps = 0 ;
 		if (withStateRace) {
@@ -485,7 +503,7 @@ public class SupplementaryHomicideReportExporter {
 		return rowNum;
 	}
 
-	private int createNegligentTitleRow(XSSFSheet sheet, int rowNum, boolean withStateRace) {
+	private int createNegligentTitleRow(Sheet sheet, int rowNum, boolean withStateRace) {
 		
 		int extraSteps = 0 ;
 		if (withStateRace) {
@@ -494,11 +512,8 @@ public class SupplementaryHomicideReportExporter {
 		Row row = sheet.createRow(rowNum++);
     	row.setHeightInPoints((2*sheet.getDefaultRowHeightInPoints()));
 		Cell cell = row.createCell(0);
-		cell.setCellStyle(centeredStyle);
-		 
-		XSSFRichTextString s1 = new XSSFRichTextString("SUPPLEMENTARY HOMICIDE REPORT");
-		s1.applyFont(boldFont);
-		cell.setCellValue(s1);
+		cell.setCellStyle(boldCenteredStyle);
+		cell.setCellValue("SUPPLEMENTARY HOMICIDE REPORT");
 		sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 16 + extraSteps));
 		
 		row = sheet.createRow(rowNum++);
@@ -506,38 +521,34 @@ public class SupplementaryHomicideReportExporter {
 		cell = row.createCell(0);
 		cell.setCellStyle(vTopWrappedStyle);
 		
-		XSSFRichTextString s2 = new XSSFRichTextString("1b. Manslaughter by Negligence \n");
-		s2.applyFont(normalWeightFont);
-		s2.append("      Do not list traffic fatalities, accidental deaths, or death due to the negligence of the victim. "
-				+ "List below all other negligent manslaughters, regardless of prosecutive action taken.", normalWeightFont);
-		cell.setCellValue(s2);
+		cell.setCellValue("1b. Manslaughter by Negligence \n"
+				+ "      Do not list traffic fatalities, accidental deaths, or death due to the negligence of the victim. "
+				+ "List below all other negligent manslaughters, regardless of prosecutive action taken.");
 		sheet.addMergedRegion(new CellRangeAddress(1, 1, 0, 16 + extraSteps));
 		
 		return rowNum;
 	}
     
-	private int createMurderAndNonNegligentTitleRow(XSSFSheet sheet, int rowNum, boolean withStateRace) {
+	private int createMurderAndNonNegligentTitleRow(Sheet sheet, int rowNum, boolean withStateRace) {
 		Row row = sheet.createRow(rowNum++);
 		row.setHeightInPoints((10*sheet.getDefaultRowHeightInPoints()));
 		Cell cell = row.createCell(0);
 		cell.setCellStyle(vTopWrappedStyle);
 
-		XSSFRichTextString s2 = new XSSFRichTextString("This report is authorized by law Title 28, Section 534, U.S. Code. "
+		cell.setCellValue("This report is authorized by law Title 28, Section 534, U.S. Code. "
 				+ "Your cooperation in using this form to list data pertaining to all homicides reported on your " 
 				+ "Return A will assist the FBI in compiling comprehensive, accurate data regarding this important classification "
 				+ "on a timely basis. Any questions regarding this report may be addressed to the FBI, Criminal Justice Information "
 				+ "Services Division, Attention: Uniform Crime Reports/Module E-3, 1000 Custer Hollow Road, Clarksburg, West "
 				+ "Virginia 26306; telephone 304-625-4830, facsimile 304-625-3566. Under the Paperwork Reduction Act, you are not "
 				+ "required to complete this form unless it contains a valid OMB control number. "
-				+ "The form takes approximately 9 minutes to complete. ");
-		s2.applyFont(normalWeightFont);
-		s2.append("\n\n1a. Murder and Nonnegligent Manslaughter\n", normalWeightFont);
-		s2.append("               List below for each category specific information for each murder and nonnegligent homicide and/or "
+				+ "The form takes approximately 9 minutes to complete. "
+				+ "\n\n1a. Murder and Nonnegligent Manslaughter\n"
+				+ "               List below for each category specific information for each murder and nonnegligent homicide and/or "
 				+ "justifiable homicide shown in item 1a of the monthly Return A. In\n" + 
 				"addition, for justifiable homicide list all justifiable killings of felons by a citizen or by a peace officer in the "
 				+ "line of duty. A brief explanation in the circumstances column regarding unfounded homicide offenses will aid the "
-				+ "national Uniform Crime Reporting Program in editing the reports.", normalWeightFont);
-		cell.setCellValue(s2);
+				+ "national Uniform Crime Reporting Program in editing the reports.");
 		
 		int extraSteps = 0; 
 		if (withStateRace) {
@@ -548,7 +559,7 @@ public class SupplementaryHomicideReportExporter {
 		return rowNum;
 	}
 	
-	private int createSupplementaryHomicideReportHeaderRow(XSSFSheet sheet, int rowNum, boolean nonNegligent, boolean withStateRace) {
+	private int createSupplementaryHomicideReportHeaderRow(Sheet sheet, int rowNum, boolean nonNegligent, boolean withStateRace) {
 		
 		int extraSteps = 0; 
 		sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum + 5, 0, 0));
@@ -647,7 +658,7 @@ public class SupplementaryHomicideReportExporter {
 		return rowNum;
 	}
 
-    private void writeSupplementaryHomicideReportRow(XSSFSheet sheet, SupplementaryHomicideReportRow supplementaryHomicideReportRow, 
+    private void writeSupplementaryHomicideReportRow(Sheet sheet, SupplementaryHomicideReportRow supplementaryHomicideReportRow, 
     		int rowNum, boolean withStateRace) {
     	
 		int extraSteps = 0 ;
@@ -685,10 +696,12 @@ public class SupplementaryHomicideReportExporter {
 		cell.setCellValue(supplementaryHomicideReportRow.getRelationshipOfVictimToOffender());
 		
 		cell = row.createCell(colNum++);
-		sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum,15 + extraSteps,16 + extraSteps));
+		sheet.addMergedRegionUnsafe(new CellRangeAddress(rowNum, rowNum,15 + extraSteps,16 + extraSteps));
 		cell.setCellStyle(wrappedBorderedStyle);
 		cell.setCellValue(StringUtils.join(supplementaryHomicideReportRow.getCircumstances(), ','));
 		
+		cell = row.createCell(colNum++);
+		cell.setCellStyle(wrappedBorderedStyle);
 	}
 
 	private void addPersonCells(Row row, int colNum, Person person, boolean withStateRace) {
@@ -716,14 +729,18 @@ public class SupplementaryHomicideReportExporter {
 		cell.setCellStyle(wrappedBorderedStyle);
 	}
     
-    private void setBordersToMergedCells(XSSFSheet sheet, int minRowNum, int maxRowNum) {
+	private void setColumnWidthToLength(Sheet sheet, int columnIndex, int length) {
+		if (length > 0) {
+			sheet.setColumnWidth(columnIndex, Math.min(length + 2, 255) * 256);
+		}
+	}
+	
+    private void setBordersToMergedCells(Sheet sheet, int minRowNum, int maxRowNum) {
         int numMerged = sheet.getNumMergedRegions();
         for (int i = 0; i < numMerged; i++) {
             CellRangeAddress mergedRegions = sheet.getMergedRegion(i);
 
-            System.out.println("CellRangeAddress:" + mergedRegions);
             if (mergedRegions.getFirstRow() > minRowNum && mergedRegions.getFirstRow() < maxRowNum) {
-            	System.out.println("Add borders");
 	            RegionUtil.setBorderLeft(BorderStyle.THIN, mergedRegions, sheet);
 	            RegionUtil.setBorderRight(BorderStyle.THIN, mergedRegions, sheet);
 	            RegionUtil.setBorderTop(BorderStyle.THIN, mergedRegions, sheet);
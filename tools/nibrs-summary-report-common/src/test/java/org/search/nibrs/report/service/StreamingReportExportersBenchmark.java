@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.report.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.search.nibrs.model.reports.ReturnARecordCardReport;
+import org.search.nibrs.model.reports.cargotheft.CargoTheftReport;
+import org.search.nibrs.model.reports.supplementaryhomicide.SupplementaryHomicideReport;
+import org.search.nibrs.report.SummaryReportProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Peak heap and latency of exporting the record card, the supplementary homicide report and the cargo theft report.  Not run
+ * as part of the unit test suite; run the main method with the test classpath, optionally passing the number of record card
+ * agencies, homicide rows and cargo theft rows (default 300, 20000 and 50000).  Each report is exported with the default row
+ * access window and with a window holding every row in memory, which approximates the in-memory workbooks the exporters built
+ * before they streamed.  The peak heap is the sum of the peaks of the heap pools above the heap used before the export, so it
+ * overstates the peak a little, the same way for both windows.
+ */
+public class StreamingReportExportersBenchmark {
+
+	private static final int IN_MEMORY_WINDOW_SIZE = Integer.MAX_VALUE;
+
+	public static void main(String[] args) throws IOException {
+		int agencyCount = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+		int homicideRowCount = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+		int cargoTheftRowCount = args.length > 2 ? Integer.parseInt(args[2]) : 50000;
+
+		ReturnARecordCardReport returnARecordCardReport = StreamingReportExportersTest.returnARecordCardReport(agencyCount);
+		SupplementaryHomicideReport supplementaryHomicideReport =
+				StreamingReportExportersTest.supplementaryHomicideReport(homicideRowCount, homicideRowCount / 10);
+		CargoTheftReport cargoTheftReport = StreamingReportExportersTest.cargoTheftReport(cargoTheftRowCount);
+
+		File outputFolder = Files.createTempDirectory("summary-report-benchmark").toFile();
+		try {
+			int streamingWindowSize = new SummaryReportProperties().getStreamingRowAccessWindowSize();
+			for (int windowSize : new int[] {streamingWindowSize, IN_MEMORY_WINDOW_SIZE}) {
+				SummaryReportProperties appProperties = new SummaryReportProperties();
+				appProperties.setSummaryReportOutputPath(outputFolder.getAbsolutePath());
+				appProperties.setStreamingRowAccessWindowSize(windowSize);
+				String windowName = windowSize == IN_MEMORY_WINDOW_SIZE ? "every row in memory" : "a window of " + windowSize + " rows";
+
+				ReturnARecordCardExporter returnARecordCardExporter = new ReturnARecordCardExporter();
+				ReflectionTestUtils.setField(returnARecordCardExporter, "appProperties", appProperties);
+				SupplementaryHomicideReportExporter supplementaryHomicideReportExporter = new SupplementaryHomicideReportExporter();
+				ReflectionTestUtils.setField(supplementaryHomicideReportExporter, "appProperties", appProperties);
+				CargoTheftReportExporter cargoTheftReportExporter = new CargoTheftReportExporter();
+				ReflectionTestUtils.setField(cargoTheftReportExporter, "appProperties", appProperties);
+
+				// warm up the JIT with a run that is not reported
+				returnARecordCardExporter.exportReturnARecordCardReport(returnARecordCardReport);
+				supplementaryHomicideReportExporter.exportSupplementaryHomicideReport(supplementaryHomicideReport);
+				cargoTheftReportExporter.exportCargoTheftReport(cargoTheftReport);
+
+				report(String.format("Record card of %d agencies with %s", agencyCount, windowName),
+						() -> returnARecordCardExporter.exportReturnARecordCardReport(returnARecordCardReport));
+				report(String.format("Supplementary homicide report of %d rows with %s", homicideRowCount, windowName),
+						() -> supplementaryHomicideReportExporter.exportSupplementaryHomicideReport(supplementaryHomicideReport));
+				report(String.format("Cargo theft report of %d rows with %s", cargoTheftRowCount, windowName),
+						() -> cargoTheftReportExporter.exportCargoTheftReport(cargoTheftReport));
+			}
+		}
+		finally {
+			for (File file : outputFolder.listFiles()) {
+				file.delete();
+			}
+			outputFolder.delete();
+		}
+	}
+
+	private static void report(String name, Runnable export) {
+		List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+				.filter(memoryPool -> memoryPool.getType() == MemoryType.HEAP)
+				.collect(Collectors.toList());
+
+		System.gc();
+		long usedBefore = heapPools.stream().mapToLong(memoryPool -> memoryPool.getUsage().getUsed()).sum();
+		heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+		long start = System.nanoTime();
+		export.run();
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		long peakUsed = heapPools.stream().mapToLong(memoryPool -> memoryPool.getPeakUsage().getUsed()).sum();
+		System.out.println(String.format("%s: %d ms, peak heap %.1f MB",
+				name, elapsedMillis, (peakUsed - usedBefore) / (1024.0 * 1024.0)));
+	}
+
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.report.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.util.DefaultTempFileCreationStrategy;
+import org.apache.poi.util.TempFile;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.search.nibrs.model.reports.ReturnARecordCard;
+import org.search.nibrs.model.reports.ReturnARecordCardReport;
+import org.search.nibrs.model.reports.cargotheft.CargoTheftFormRow;
+import org.search.nibrs.model.reports.cargotheft.CargoTheftReport;
+import org.search.nibrs.model.reports.supplementaryhomicide.HomicideSituation;
+import org.search.nibrs.model.reports.supplementaryhomicide.Person;
+import org.search.nibrs.model.reports.supplementaryhomicide.SupplementaryHomicideReport;
+import org.search.nibrs.model.reports.supplementaryhomicide.SupplementaryHomicideReportRow;
+import org.search.nibrs.report.SummaryReportProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Exports the record card, the supplementary homicide report and the cargo theft report with a row access window small enough
+ * to flush rows to the temporary files, then reads the written workbooks back.
+ */
+public class StreamingReportExportersTest {
+
+	private static final int ROW_ACCESS_WINDOW_SIZE = 10;
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File outputFolder;
+	private File poiTempFolder;
+	private SummaryReportProperties appProperties;
+
+	@Before
+	public void setUp() throws IOException {
+		outputFolder = temporaryFolder.newFolder("output");
+		poiTempFolder = temporaryFolder.newFolder("poifiles");
+		TempFile.setTempFileCreationStrategy(new DefaultTempFileCreationStrategy(poiTempFolder));
+
+		appProperties = new SummaryReportProperties();
+		appProperties.setSummaryReportOutputPath(outputFolder.getAbsolutePath());
+		appProperties.setStreamingRowAccessWindowSize(ROW_ACCESS_WINDOW_SIZE);
+	}
+
+	@After
+	public void tearDown() {
+		TempFile.setTempFileCreationStrategy(new DefaultTempFileCreationStrategy());
+	}
+
+	@Test
+	public void testReturnARecordCardReport() throws IOException {
+		ReturnARecordCardExporter exporter = new ReturnARecordCardExporter();
+		ReflectionTestUtils.setField(exporter, "appProperties", appProperties);
+
+		exporter.exportReturnARecordCardReport(returnARecordCardReport(3));
+		assertTemporaryFilesDisposed();
+
+		try (XSSFWorkbook workbook = read("ReturnARecordCard-Washington-2018.xlsx")) {
+			assertEquals(3, workbook.getNumberOfSheets());
+			for (int i = 0; i < 3; i++) {
+				Sheet sheet = workbook.getSheet(ori(i));
+				assertNotNull(sheet);
+				assertEquals("Return A Record Card", stringValue(sheet, 1, 0));
+				assertEquals("Agency " + i, stringValue(sheet, 3, 2));
+				assertEquals(ori(i), stringValue(sheet, 3, 6));
+				assertEquals(2018, numericValue(sheet, 3, 0));
+
+				assertEquals("Arson", stringValue(sheet, 45, 0));
+				assertEquals(i + 1, numericValue(sheet, 45, 3));
+				assertEquals(i + 1, numericValue(sheet, 45, 17));
+
+				assertEquals("Version 18.17 2018-09-14", stringValue(sheet, 76, 0));
+			}
+		}
+	}
+
+	@Test
+	public void testSupplementaryHomicideReport() throws IOException {
+		SupplementaryHomicideReportExporter exporter = new SupplementaryHomicideReportExporter();
+		ReflectionTestUtils.setField(exporter, "appProperties", appProperties);
+
+		exporter.exportSupplementaryHomicideReport(supplementaryHomicideReport(30, 3));
+		assertTemporaryFilesDisposed();
+
+		try (XSSFWorkbook workbook = read("SupplementaryHomicideReport-WA0000001-2018-06.xlsx")) {
+			Sheet sheet = workbook.getSheet("SHR-non-negligent");
+			int firstRowNum = firstHomicideRowNum(sheet);
+			for (int i = 0; i < 30; i++) {
+				int rowNum = firstRowNum + i;
+				assertEquals(incidentNumber(i), stringValue(sheet, rowNum, 0));
+				assertEquals(homicideSituation(i).code, stringValue(sheet, rowNum, 1));
+				assertEquals("25", stringValue(sheet, rowNum, 2));
+				assertEquals("W", stringValue(sheet, rowNum, 5));
+				assertEquals("11,12", stringValue(sheet, rowNum, 15));
+				assertEquals("Circumstance " + i, stringValue(sheet, rowNum, 17));
+				assertMergedRegion(sheet, rowNum, 17, 18);
+			}
+			assertEquals("06/2018", stringValue(sheet, firstRowNum + 30 + 4, 0));
+			assertEquals("WA0000001", stringValue(sheet, firstRowNum + 30 + 4, 3));
+
+			/*
+			 * The incident number and situation columns are wide enough for their longest values.
+			 */
+			assertEquals((incidentNumber(0).length() + 2) * 256, sheet.getColumnWidth(0));
+			assertEquals(3 * 256, sheet.getColumnWidth(1));
+
+			sheet = workbook.getSheet("SHR-negligent");
+			firstRowNum = firstHomicideRowNum(sheet);
+			for (int i = 0; i < 3; i++) {
+				assertEquals(incidentNumber(i), stringValue(sheet, firstRowNum + i, 0));
+			}
+		}
+	}
+
+	@Test
+	public void testSupplementaryHomicideReportWithoutHomicides() throws IOException {
+		SupplementaryHomicideReportExporter exporter = new SupplementaryHomicideReportExporter();
+		ReflectionTestUtils.setField(exporter, "appProperties", appProperties);
+
+		exporter.exportSupplementaryHomicideReport(supplementaryHomicideReport(0, 0));
+		assertTemporaryFilesDisposed();
+
+		try (XSSFWorkbook workbook = read("SupplementaryHomicideReport-WA0000001-2018-06.xlsx")) {
+			Sheet sheet = workbook.getSheet("SHR-non-negligent");
+			int emptyRowNum = firstHomicideRowNum(sheet);
+
+			/*
+			 * The empty row has a bordered cell in every column, with the last two merged into the circumstances box.
+			 */
+			Row row = sheet.getRow(emptyRowNum);
+			for (int colNum = 0; colNum < 19; colNum++) {
+				CellStyle cellStyle = row.getCell(colNum).getCellStyle();
+				assertEquals(BorderStyle.THIN, cellStyle.getBorderTopEnum());
+				assertEquals(BorderStyle.THIN, cellStyle.getBorderBottomEnum());
+				assertEquals(BorderStyle.THIN, cellStyle.getBorderLeftEnum());
+				assertEquals(BorderStyle.THIN, cellStyle.getBorderRightEnum());
+			}
+			assertMergedRegion(sheet, emptyRowNum, 17, 18);
+			assertEquals("06/2018", stringValue(sheet, emptyRowNum + 4, 0));
+		}
+	}
+
+	@Test
+	public void testCargoTheftReport() throws IOException {
+		CargoTheftReportExporter exporter = new CargoTheftReportExporter();
+		ReflectionTestUtils.setField(exporter, "appProperties", appProperties);
+
+		exporter.exportCargoTheftReport(cargoTheftReport(30));
+		assertTemporaryFilesDisposed();
+
+		try (XSSFWorkbook workbook = read("CargoTheftReport-WA0000001-2018-06.xlsx")) {
+			Sheet sheet = workbook.getSheet("Cargo Theft Incident Reports");
+			assertEquals("Cargo Theft Incident Reports", stringValue(sheet, 0, 0));
+			assertEquals("INCIDENT NUMBER", stringValue(sheet, 2, 0));
+			for (int i = 0; i < 30; i++) {
+				assertEquals(incidentNumber(i), stringValue(sheet, 3 + i, 0));
+				assertEquals("201806" + String.format("%02d", i % 28 + 1), stringValue(sheet, 3 + i, 1));
+				assertEquals("I", stringValue(sheet, 3 + i, 2));
+			}
+			assertEquals(32, sheet.getLastRowNum());
+		}
+	}
+
+	static ReturnARecordCardReport returnARecordCardReport(int agencyCount) {
+		ReturnARecordCardReport returnARecordCardReport = new ReturnARecordCardReport(2018);
+		returnARecordCardReport.setStateName("Washington");
+		for (int i = 0; i < agencyCount; i++) {
+			ReturnARecordCard returnARecordCard = new ReturnARecordCard(ori(i), 2018);
+			returnARecordCard.setAgencyName("Agency " + i);
+			returnARecordCard.setStateName("Washington");
+			returnARecordCard.setPopulation(10000 + i);
+			returnARecordCard.getArsonRow().increaseMonthNumber(i + 1, 0);
+			returnARecordCard.getArsonRow().increaseFirstHalfSubtotal(i + 1);
+			returnARecordCard.getArsonRow().increaseTotal(i + 1);
+			returnARecordCardReport.getReturnARecordCards().put(i, returnARecordCard);
+		}
+		return returnARecordCardReport;
+	}
+
+	static SupplementaryHomicideReport supplementaryHomicideReport(int nonNegligentCount, int negligentCount) {
+		SupplementaryHomicideReport supplementaryHomicideReport = new SupplementaryHomicideReport("WA0000001", 2018, 6);
+		supplementaryHomicideReport.setAgencyName("Agency 0");
+		supplementaryHomicideReport.setStateName("Washington");
+		for (int i = 0; i < nonNegligentCount; i++) {
+			supplementaryHomicideReport.getMurderAndNonNegligenceManslaughter().add(supplementaryHomicideReportRow(i));
+		}
+		for (int i = 0; i < negligentCount; i++) {
+			supplementaryHomicideReport.getManslaughterByNegligence().add(supplementaryHomicideReportRow(i));
+		}
+		return supplementaryHomicideReport;
+	}
+
+	static CargoTheftReport cargoTheftReport(int rowCount) {
+		CargoTheftReport cargoTheftReport = new CargoTheftReport("WA0000001", 2018, 6);
+		for (int i = 0; i < rowCount; i++) {
+			cargoTheftReport.getCargoTheftRows().add(new CargoTheftFormRow(incidentNumber(i), LocalDate.of(2018, 6, i % 28 + 1), "I"));
+		}
+		return cargoTheftReport;
+	}
+
+	private static SupplementaryHomicideReportRow supplementaryHomicideReportRow(int i) {
+		SupplementaryHomicideReportRow supplementaryHomicideReportRow = new SupplementaryHomicideReportRow();
+		supplementaryHomicideReportRow.setIncidentNumber(incidentNumber(i));
+		supplementaryHomicideReportRow.setHomicideSituation(homicideSituation(i));
+		supplementaryHomicideReportRow.setVictim(new Person("25", "M", "W", "W", "N"));
+		supplementaryHomicideReportRow.setOffender(new Person("30", "F", "B", "B", "N"));
+		supplementaryHomicideReportRow.setWeaponUsed(Arrays.asList("11", "12"));
+		supplementaryHomicideReportRow.setRelationshipOfVictimToOffender("AQ");
+		supplementaryHomicideReportRow.setCircumstances(Collections.singletonList("Circumstance " + i));
+		return supplementaryHomicideReportRow;
+	}
+
+	private static String ori(int i) {
+		return String.format("WA%07d", i + 1);
+	}
+
+	private static String incidentNumber(int i) {
+		return String.format("INC-%08d", i);
+	}
+
+	private static HomicideSituation homicideSituation(int i) {
+		return HomicideSituation.values()[i % HomicideSituation.values().length];
+	}
+
+	private XSSFWorkbook read(String fileName) throws IOException {
+		File file = new File(outputFolder, fileName);
+		assertTrue(fileName + " was not written", file.isFile());
+		try (FileInputStream inputStream = new FileInputStream(file)) {
+			return new XSSFWorkbook(inputStream);
+		}
+	}
+
+	private void assertTemporaryFilesDisposed() {
+		String[] temporaryFiles = poiTempFolder.list();
+		assertArrayEquals(new String[0], temporaryFiles);
+	}
+
+	/**
+	 * The first row below the six header rows, which start with the "Incident" cell.
+	 */
+	private static int firstHomicideRowNum(Sheet sheet) {
+		for (Row row : sheet) {
+			Cell cell = row.getCell(0);
+			if (cell != null && "Incident".equals(cell.getStringCellValue())) {
+				return row.getRowNum() + 6;
+			}
+		}
+		throw new AssertionError("No header row in " + sheet.getSheetName());
+	}
+
+	private static void assertMergedRegion(Sheet sheet, int rowNum, int firstColumn, int lastColumn) {
+		for (CellRangeAddress mergedRegion : sheet.getMergedRegions()) {
+			if (mergedRegion.getFirstRow() == rowNum && mergedRegion.getLastRow() == rowNum
+					&& mergedRegion.getFirstColumn() == firstColumn && mergedRegion.getLastColumn() == lastColumn) {
+				return;
+			}
+		}
+		throw new AssertionError("No merged region at row " + rowNum + " columns " + firstColumn + "-" + lastColumn);
+	}
+
+	private static String stringValue(Sheet sheet, int rowNum, int colNum) {
+		return sheet.getRow(rowNum).getCell(colNum).getStringCellValue();
+	}
+
+	private static int numericValue(Sheet sheet, int rowNum, int colNum) {
+		return (int) sheet.getRow(rowNum).getCell(colNum).getNumericCellValue();
+	}
+
+}
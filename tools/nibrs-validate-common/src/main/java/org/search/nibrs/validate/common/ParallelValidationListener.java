@@ -0,0 +1,126 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validate.common;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.importer.ReportListener;
+import org.search.nibrs.model.AbstractReport;
+
+/**
+ * ReportListener that sits between an incident builder and a downstream listener, validating each report on a pool of worker
+ * threads while the builder goes on parsing.
+ * <br/>
+ * Reports are handed to the downstream listener in the order the builder created them, with the builder's errors followed by
+ * the validation errors, and always on the builder's (calling) thread, so downstream listeners need not be thread-safe.  At most
+ * maxReportsInFlight reports are held at once; when that many are outstanding, the builder waits for the oldest one to finish.
+ */
+final class ParallelValidationListener implements ReportListener {
+
+	private final ReportListener downstreamListener;
+	private final Function<AbstractReport, List<NIBRSError>> reportValidator;
+	private final ExecutorService executorService;
+	private final int maxReportsInFlight;
+	private final Deque<PendingReport> pendingReports = new ArrayDeque<>();
+
+	ParallelValidationListener(ReportListener downstreamListener, Function<AbstractReport, List<NIBRSError>> reportValidator,
+			ExecutorService executorService, int maxReportsInFlight) {
+		this.downstreamListener = downstreamListener;
+		this.reportValidator = reportValidator;
+		this.executorService = executorService;
+		this.maxReportsInFlight = Math.max(maxReportsInFlight, 1);
+	}
+
+	@Override
+	public void newReport(AbstractReport report, List<NIBRSError> errorList) {
+		if (pendingReports.size() >= maxReportsInFlight) {
+			deliver(pendingReports.poll());
+		}
+		pendingReports.add(new PendingReport(report, errorList, executorService.submit(() -> reportValidator.apply(report))));
+		while (!pendingReports.isEmpty() && pendingReports.peek().validationErrors.isDone()) {
+			deliver(pendingReports.poll());
+		}
+	}
+
+	/**
+	 * Wait for all outstanding reports to be validated, and hand them to the downstream listener.  Call once the builder is done.
+	 */
+	void finish() {
+		while (!pendingReports.isEmpty()) {
+			deliver(pendingReports.poll());
+		}
+	}
+
+	/**
+	 * Abandon all outstanding reports, e.g. after the builder or a downstream listener has failed.
+	 */
+	void cancel() {
+		for (PendingReport pendingReport : pendingReports) {
+			pendingReport.validationErrors.cancel(true);
+		}
+		pendingReports.clear();
+	}
+
+	int getPendingReportCount() {
+		return pendingReports.size();
+	}
+
+	private void deliver(PendingReport pendingReport) {
+		List<NIBRSError> validationErrors;
+		try {
+			validationErrors = pendingReport.validationErrors.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while validating report " + pendingReport.report.getUniqueReportDescription(), e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		}
+		List<NIBRSError> errorList = new ArrayList<>(pendingReport.errorList.size() + validationErrors.size());
+		errorList.addAll(pendingReport.errorList);
+		errorList.addAll(validationErrors);
+		downstreamListener.newReport(pendingReport.report, errorList);
+	}
+
+	private static final class PendingReport {
+
+		private final AbstractReport report;
+		private final List<NIBRSError> errorList;
+		private final Future<List<NIBRSError>> validationErrors;
+
+		PendingReport(AbstractReport report, List<NIBRSError> errorList, Future<List<NIBRSError>> validationErrors) {
+			this.report = report;
+			this.errorList = errorList;
+			this.validationErrors = validationErrors;
+		}
+
+	}
+
+}
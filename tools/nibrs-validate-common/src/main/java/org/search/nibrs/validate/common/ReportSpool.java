@@ -0,0 +1,158 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validate.common;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Append-only spool of serialized objects in a temporary file, so that a large number of reports can be held for later processing
+ * without keeping them in memory.
+ * <br/>
+ * Each record is the length of the serialized object followed by the object serialized on its own, so records do not share
+ * back-references and the writer never holds on to what it has written; the file as a whole is gzipped, which takes care of the
+ * class descriptors repeated in every record.  Objects are added first, then read back (any number of times) once adding is done.
+ * The owner is responsible for deleting the spool when it is no longer needed.
+ */
+public class ReportSpool<T extends Serializable> {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final Class<T> recordClass;
+	private final File file;
+	private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream();
+	private DataOutputStream outputStream;
+	private int size;
+	private boolean deleted;
+
+	public ReportSpool(Class<T> recordClass) throws IOException {
+		this.recordClass = recordClass;
+		file = File.createTempFile("nibrs-" + recordClass.getSimpleName() + "-", ".spool");
+		outputStream = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE), BUFFER_SIZE));
+	}
+
+	/**
+	 * Append an object to the spool.
+	 */
+	public synchronized void add(T record) {
+		if (outputStream == null) {
+			throw new IllegalStateException("Cannot add to the spool once it has been read or deleted");
+		}
+		try {
+			recordBuffer.reset();
+			try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(recordBuffer)) {
+				objectOutputStream.writeObject(record);
+			}
+			outputStream.writeInt(recordBuffer.size());
+			recordBuffer.writeTo(outputStream);
+			size++;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to write to spool file " + file, e);
+		}
+	}
+
+	/**
+	 * The number of objects added to the spool.
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Read the objects back, in the order they were added, handing them to the consumer in lists of (at most) batchSize.  Only one batch
+	 * is held in memory at a time.  No more objects can be added once the spool has been read.
+	 */
+	public synchronized void forEachBatch(int batchSize, Consumer<List<T>> batchConsumer) {
+		if (deleted) {
+			throw new IllegalStateException("The spool file " + file + " has been deleted");
+		}
+		finishWriting();
+		int batchLimit = Math.max(batchSize, 1);
+		try (DataInputStream inputStream = new DataInputStream(new GZIPInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE), BUFFER_SIZE))) {
+			List<T> batch = new ArrayList<>(Math.min(batchLimit, size));
+			byte[] recordBytes = new byte[0];
+			for (int i = 0; i < size; i++) {
+				int length = inputStream.readInt();
+				if (recordBytes.length < length) {
+					recordBytes = new byte[length];
+				}
+				inputStream.readFully(recordBytes, 0, length);
+				try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(recordBytes, 0, length))) {
+					batch.add(recordClass.cast(objectInputStream.readObject()));
+				}
+				if (batch.size() == batchLimit) {
+					batchConsumer.accept(batch);
+					batch = new ArrayList<>(batchLimit);
+				}
+			}
+			if (!batch.isEmpty()) {
+				batchConsumer.accept(batch);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to read spool file " + file, e);
+		} catch (ClassNotFoundException e) {
+			throw new IllegalStateException("Failed to read spool file " + file, e);
+		}
+	}
+
+	/**
+	 * Delete the spool file.  The spool cannot be used afterwards.
+	 */
+	public synchronized void delete() {
+		if (!deleted) {
+			deleted = true;
+			try {
+				finishWriting();
+			} finally {
+				file.delete();
+			}
+		}
+	}
+
+	private void finishWriting() {
+		if (outputStream != null) {
+			try {
+				outputStream.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException("Failed to write to spool file " + file, e);
+			} finally {
+				outputStream = null;
+			}
+		}
+	}
+
+	File getFile() {
+		return file;
+	}
+
+}
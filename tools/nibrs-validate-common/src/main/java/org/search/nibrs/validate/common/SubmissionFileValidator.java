@@ -15,36 +15,147 @@
  */
 package org.search.nibrs.validate.common;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import javax.xml.parsers.ParserConfigurationException;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.tika.exception.TikaException;
+import org.search.nibrs.common.NIBRSError;
 import org.search.nibrs.flatfile.importer.IncidentBuilder;
+import org.search.nibrs.importer.AbstractIncidentBuilder;
 import org.search.nibrs.importer.ReportListener;
+import org.search.nibrs.model.AbstractReport;
 import org.search.nibrs.util.NibrsFileUtils;
+import org.search.nibrs.validation.SubmissionValidator;
+import org.search.nibrs.validation.ValidatorProperties;
 import org.search.nibrs.xmlfile.importer.XmlIncidentBuilder;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.xml.sax.SAXException;
 
 @Component
-public class SubmissionFileValidator {
+public class SubmissionFileValidator implements DisposableBean {
 	private static final Log log = LogFactory.getLog(SubmissionFileValidator.class);
+	private static final int ZIP_BUFFER_SIZE = 64 * 1024;
+	/**
+	 * The media types validateInputStream parses.
+	 */
+	private static final Set<String> SUPPORTED_MEDIA_TYPES = 
+			new HashSet<>(Arrays.asList("text/xml", "application/xml", "text/plain", "application/octet-stream"));
 	@Autowired
 	XmlIncidentBuilder xmlIncidentBuilder;
 
 	@Autowired
 	IncidentBuilder incidentBuilder;
 	
+	@Autowired
+	SubmissionValidator submissionValidator;
+	
+	@Autowired
+	ValidatorProperties validatorProperties;
+	
+	private volatile ExecutorService validationExecutorService;
+	
+	/**
+	 * Parse and validate the reports in the specified file.  Unlike validateFile, the listener does not need to validate the reports itself:
+	 * it receives each report with the errors from parsing it followed by the errors from SubmissionValidator.validateReport.
+	 * @param validatedReportListener the listener that receives each validated report, in file order, on the calling thread
+	 * @param file the submission file
+	 */
+	public void validateReports(ReportListener validatedReportListener, 
+			File file) throws ParserConfigurationException, IOException, TikaException, SAXException {
+		String fileType = NibrsFileUtils.getMediaType(file);
+		FileInputStream inputStream = new FileInputStream(file);
+		validateReports(validatedReportListener, fileType, inputStream, file.getAbsolutePath());
+	}
+	
+	/**
+	 * Parse and validate the reports in the specified stream.  When validator.parallelism is more than 1, the stream is parsed on the calling
+	 * thread while the reports are validated on a pool of that many threads, with at most validator.maxReportsInFlight reports outstanding;
+	 * the listener still receives the reports in stream order, on the calling thread.
+	 * @param validatedReportListener the listener that receives each report with its parsing errors followed by its validation errors
+	 */
+	public void validateReports(ReportListener validatedReportListener, String fileContentType,
+			InputStream stream, String readerLocationName) throws ParserConfigurationException, IOException {
+		
+		if (validatorProperties.getParallelism() <= 1) {
+			ReportListener validatingListener = (AbstractReport report, List<NIBRSError> errorList) -> {
+				List<NIBRSError> reportErrorList = new ArrayList<>(errorList);
+				reportErrorList.addAll(submissionValidator.validateReport(report));
+				validatedReportListener.newReport(report, reportErrorList);
+			};
+			validateInputStream(validatingListener, fileContentType, stream, readerLocationName);
+			return;
+		}
+		
+		ParallelValidationListener parallelValidationListener = new ParallelValidationListener(validatedReportListener, 
+				submissionValidator::validateReport, getValidationExecutorService(), validatorProperties.getMaxReportsInFlight());
+		boolean finished = false;
+		try {
+			validateInputStream(parallelValidationListener, fileContentType, stream, readerLocationName);
+			parallelValidationListener.finish();
+			finished = true;
+		} finally {
+			if (!finished) {
+				parallelValidationListener.cancel();
+			}
+		}
+	}
+	
+	/**
+	 * Parse and validate the submission files in the zip archive read from the specified stream, as validateReports does for each of them.
+	 * Each entry is streamed straight from the archive into the parser, after its media type has been detected from the first part of it, 
+	 * so no entry is ever held in memory as a whole.  An entry whose name gives a type that is not parsed, such as .csv or .log, is 
+	 * typed by its content alone.  Entries are read one after the other, as the archive has to be, while their reports 
+	 * are validated concurrently on the validation pool (when validator.parallelism is more than 1).
+	 * @param validatedReportListener the listener that receives each report with its parsing errors followed by its validation errors
+	 */
+	public void validateZippedReports(ReportListener validatedReportListener, InputStream stream) throws IOException {
+		try (ZipInputStream zippedStream = new ZipInputStream(new BufferedInputStream(stream, ZIP_BUFFER_SIZE))) {
+			ZipEntry zipEntry = zippedStream.getNextEntry();
+			while (zipEntry != null) {
+				if (!zipEntry.isDirectory()) {
+					log.info("Unzipping " + zipEntry.getName());
+					// Tika marks the stream, reads no more than it needs to detect the type (well within the buffer) and resets it
+					InputStream entryStream = new BufferedInputStream(new EntryInputStream(zippedStream), ZIP_BUFFER_SIZE);
+					String mediaType = NibrsFileUtils.getMediaType(entryStream, zipEntry.getName());
+					if (!SUPPORTED_MEDIA_TYPES.contains(mediaType)) {
+						// a flat file named .csv, .log or the like, which Tika types by its name; the content decides instead
+						mediaType = NibrsFileUtils.getMediaType(entryStream);
+					}
+					try {
+						validateReports(validatedReportListener, mediaType, entryStream, zipEntry.getName());
+					} catch (ParserConfigurationException e) {
+						log.error("Got exception while parsing the file " + zipEntry.getName(), e);
+					}
+				}
+				zippedStream.closeEntry();
+				zipEntry = zippedStream.getNextEntry();
+			}
+		}
+	}
 	
 	public void validateFile(ReportListener validatorListener, 
 			File file) throws ParserConfigurationException, IOException, TikaException, SAXException {
@@ -59,20 +170,24 @@ public class SubmissionFileValidator {
 		switch (fileContentType){
 		case "text/xml":
 		case "application/xml":
-			if (!xmlIncidentBuilder.getListeners().contains(validatorListener)) {
-				xmlIncidentBuilder.addIncidentListener(validatorListener);
+			boolean addedXmlListener = addListener(xmlIncidentBuilder, validatorListener);
+			try {
+				xmlIncidentBuilder.buildIncidents(stream, readerLocationName);
+			} finally {
+				removeListener(xmlIncidentBuilder, validatorListener, addedXmlListener);
 			}
-			xmlIncidentBuilder.buildIncidents(stream, readerLocationName);
 
 			break; 
 		case "text/plain": 
 		case "application/octet-stream": 
 			Reader inputReader = new BufferedReader(new InputStreamReader(stream));
 
-			if (!incidentBuilder.getListeners().contains(validatorListener)) {
-				incidentBuilder.addIncidentListener(validatorListener);
+			boolean addedListener = addListener(incidentBuilder, validatorListener);
+			try {
+				incidentBuilder.buildIncidents(inputReader, readerLocationName);
+			} finally {
+				removeListener(incidentBuilder, validatorListener, addedListener);
 			}
-			incidentBuilder.buildIncidents(inputReader, readerLocationName);
 			inputReader.close();
 			break;
 		default:
@@ -81,6 +196,65 @@ public class SubmissionFileValidator {
 		
 		stream.close();
 	}
+	
+	private boolean addListener(AbstractIncidentBuilder builder, ReportListener listener) {
+		if (builder.getListeners().contains(listener)) {
+			return false;
+		}
+		builder.addIncidentListener(listener);
+		return true;
+	}
+	
+	private void removeListener(AbstractIncidentBuilder builder, ReportListener listener, boolean added) {
+		if (added) {
+			builder.removeIncidentListener(listener);
+		}
+	}
+	
+	private ExecutorService getValidationExecutorService() {
+		ExecutorService ret = validationExecutorService;
+		if (ret == null) {
+			synchronized (this) {
+				ret = validationExecutorService;
+				if (ret == null) {
+					int parallelism = validatorProperties.getParallelism();
+					log.info("Validating reports with " + parallelism + " threads");
+					ret = Executors.newFixedThreadPool(parallelism, new ValidationThreadFactory());
+					validationExecutorService = ret;
+				}
+			}
+		}
+		return ret;
+	}
+
+	@Override
+	public void destroy() {
+		if (validationExecutorService != null) {
+			validationExecutorService.shutdownNow();
+		}
+	}
+	
+	/**
+	 * The stream of the current zip entry, which the parsers may close without closing the archive.
+	 */
+	private static final class EntryInputStream extends FilterInputStream {
+		EntryInputStream(ZipInputStream zippedStream) {
+			super(zippedStream);
+		}
+		@Override
+		public void close() {
+		}
+	}
+	
+	private static final class ValidationThreadFactory implements ThreadFactory {
+		private final AtomicInteger threadCount = new AtomicInteger();
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "nibrs-validation-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
 
 	
 }
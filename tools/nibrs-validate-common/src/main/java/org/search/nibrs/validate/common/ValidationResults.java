@@ -15,9 +15,11 @@
  */
 package org.search.nibrs.validate.common;
 
+import java.io.IOException;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang.builder.ToStringBuilder;
@@ -43,6 +45,10 @@ public class ValidationResults{
 	private LocalTime validateTimestamp;
 	private Integer ownerId; 
 	private String filenames; 
+	private ReportSpool<GroupAIncidentReport> groupAIncidentReportSpool;
+	private ReportSpool<GroupBArrestReport> groupBArrestReportSpool;
+	private boolean spooledReportsClaimed;
+	private boolean spooledReportsDiscarded;
 	
 	public ValidationResults() {
 		super();
@@ -50,6 +56,25 @@ public class ValidationResults{
 		reportsWithoutErrors = new ArrayList<>();
 	}
 
+	/**
+	 * Create results that write the valid Group A and Group B reports added with addValidReport to spool files on disk, rather than
+	 * holding them in memory (the report lists stay empty).  Read them back with forEachGroupAIncidentReportBatch and
+	 * forEachGroupBArrestReportBatch, and call discardSpooledReports when done with them.  Whatever processes the reports claims them
+	 * first with claimSpooledReports, so that the results can be replaced or their session can end without deleting the spool files
+	 * from under it; see discardUnclaimedSpooledReports.
+	 */
+	public static ValidationResults withSpooledReports() throws IOException {
+		ValidationResults validationResults = new ValidationResults();
+		validationResults.groupAIncidentReportSpool = new ReportSpool<>(GroupAIncidentReport.class);
+		try {
+			validationResults.groupBArrestReportSpool = new ReportSpool<>(GroupBArrestReport.class);
+		} catch (IOException e) {
+			validationResults.groupAIncidentReportSpool.delete();
+			throw e;
+		}
+		return validationResults;
+	}
+
 	public List<NIBRSError> getErrorList() {
 		return errorList;
 	}
@@ -89,7 +114,7 @@ public class ValidationResults{
 
 	public List<NIBRSError> getFilteredErrorList() {
 		return this.getErrorList().stream()
-				.filter(error->error.getReport() != null)
+				.filter(NIBRSError::hasReport)
 				.collect(Collectors.toList());
 	}
 
@@ -157,4 +182,102 @@ public class ValidationResults{
 		this.validReportCount++;
 	}
 
+	/**
+	 * Add a report without errors: a Group A or Group B report is counted as valid, and either spooled or added to the report lists.
+	 */
+	public void addValidReport(AbstractReport report) {
+		if (!isSpooled()) {
+			reportsWithoutErrors.add(report);
+		}
+		if (report instanceof GroupAIncidentReport) {
+			if (isSpooled()) {
+				groupAIncidentReportSpool.add((GroupAIncidentReport) report);
+			} else {
+				groupAIncidentReports.add((GroupAIncidentReport) report);
+			}
+			increaseValidReportCount();
+		}
+		else if (report instanceof GroupBArrestReport) {
+			if (isSpooled()) {
+				groupBArrestReportSpool.add((GroupBArrestReport) report);
+			} else {
+				groupBArrestReports.add((GroupBArrestReport) report);
+			}
+			increaseValidReportCount();
+		}
+	}
+
+	public boolean isSpooled() {
+		return groupAIncidentReportSpool != null;
+	}
+
+	/**
+	 * Hand the valid Group A incident reports to the consumer in lists of (at most) batchSize, whether they are spooled or not.
+	 */
+	public void forEachGroupAIncidentReportBatch(int batchSize, Consumer<List<GroupAIncidentReport>> batchConsumer) {
+		if (isSpooled()) {
+			groupAIncidentReportSpool.forEachBatch(batchSize, batchConsumer);
+		} else {
+			forEachBatch(groupAIncidentReports, batchSize, batchConsumer);
+		}
+	}
+
+	/**
+	 * Hand the valid Group B arrest reports to the consumer in lists of (at most) batchSize, whether they are spooled or not.
+	 */
+	public void forEachGroupBArrestReportBatch(int batchSize, Consumer<List<GroupBArrestReport>> batchConsumer) {
+		if (isSpooled()) {
+			groupBArrestReportSpool.forEachBatch(batchSize, batchConsumer);
+		} else {
+			forEachBatch(groupBArrestReports, batchSize, batchConsumer);
+		}
+	}
+
+	/**
+	 * Claim the spooled reports for processing.  Once claimed, discardUnclaimedSpooledReports leaves the spool files alone, and the
+	 * processing is responsible for calling discardSpooledReports when it is done.
+	 * @return false if the reports have already been claimed or discarded, in which case the caller must not process them
+	 */
+	public synchronized boolean claimSpooledReports() {
+		if (spooledReportsClaimed || spooledReportsDiscarded) {
+			return false;
+		}
+		spooledReportsClaimed = true;
+		return true;
+	}
+
+	/**
+	 * Delete the spool files, if the reports are spooled.  The valid reports cannot be read back afterwards.
+	 */
+	public synchronized void discardSpooledReports() {
+		if (isSpooled() && !spooledReportsDiscarded) {
+			spooledReportsDiscarded = true;
+			try {
+				groupAIncidentReportSpool.delete();
+			} finally {
+				groupBArrestReportSpool.delete();
+			}
+		}
+	}
+
+	/**
+	 * Delete the spool files, if the reports are spooled and have not been claimed for processing: for results that are being replaced,
+	 * or whose session has ended.
+	 * @return whether the spool files were discarded (or there were none)
+	 */
+	public synchronized boolean discardUnclaimedSpooledReports() {
+		if (spooledReportsClaimed) {
+			return false;
+		}
+		discardSpooledReports();
+		return true;
+	}
+
+	private static <T> void forEachBatch(List<T> reports, int batchSize, Consumer<List<T>> batchConsumer) {
+		int batchLimit = Math.max(batchSize, 1);
+		for (int i = 0; i < reports.size(); i += batchLimit) {
+			batchConsumer.accept(reports.subList(i, Math.min(i + batchLimit, reports.size())));
+		}
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validate.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.model.GroupAIncidentReport;
+
+public class ParallelValidationListenerTest {
+
+	private ExecutorService executorService;
+
+	@Before
+	public void setUp() {
+		executorService = Executors.newFixedThreadPool(4);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		executorService.shutdownNow();
+		executorService.awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void testReportsDeliveredInOrderOnCallingThread() {
+		List<String> deliveredIdentifiers = new ArrayList<>();
+		List<Integer> deliveredErrorCounts = new ArrayList<>();
+		Thread callingThread = Thread.currentThread();
+		ParallelValidationListener listener = new ParallelValidationListener((AbstractReport report, List<NIBRSError> errorList) -> {
+			assertEquals(callingThread, Thread.currentThread());
+			deliveredIdentifiers.add(report.getIdentifier());
+			deliveredErrorCounts.add(errorList.size());
+		}, report -> {
+			// finish out of order
+			sleep(ThreadLocalRandom.current().nextInt(5));
+			return Collections.singletonList(new NIBRSError());
+		}, executorService, 8);
+
+		List<String> expectedIdentifiers = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			expectedIdentifiers.add("INC-" + i);
+			listener.newReport(newReport("INC-" + i), Collections.singletonList(new NIBRSError()));
+			assertTrue(listener.getPendingReportCount() <= 8);
+		}
+		listener.finish();
+
+		assertEquals(expectedIdentifiers, deliveredIdentifiers);
+		assertEquals(Collections.nCopies(50, 2), deliveredErrorCounts);
+		assertEquals(0, listener.getPendingReportCount());
+	}
+
+	@Test
+	public void testValidationFailureIsRethrown() {
+		ParallelValidationListener listener = new ParallelValidationListener((AbstractReport report, List<NIBRSError> errorList) -> {}, report -> {
+			throw new IllegalArgumentException(report.getIdentifier());
+		}, executorService, 1);
+		try {
+			// the failure surfaces from whichever call delivers the report, depending on how quickly the validation finishes
+			listener.newReport(newReport("INC-1"), Collections.emptyList());
+			listener.finish();
+			fail("Expected the validator's exception");
+		} catch (IllegalArgumentException e) {
+			assertEquals("INC-1", e.getMessage());
+		}
+	}
+
+	private static AbstractReport newReport(String identifier) {
+		GroupAIncidentReport report = new GroupAIncidentReport();
+		report.setIncidentNumber(identifier);
+		return report;
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
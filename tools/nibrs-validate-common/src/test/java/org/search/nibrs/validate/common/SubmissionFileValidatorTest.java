@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validate.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.flatfile.importer.IncidentBuilder;
+import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.validation.SubmissionValidator;
+import org.search.nibrs.validation.ValidatorProperties;
+import org.search.nibrs.xmlfile.importer.XmlIncidentBuilder;
+
+public class SubmissionFileValidatorTest {
+
+	private static final String INCIDENT_1 =
+		"00881I022003    TN006000002-000895   20020102 10N                                      N\n" +
+		"00712I022003    TN006000002-000895   220CN  20  N            88        \n" +
+		"00465I022003    TN006000002-000895   0124  MW \n";
+
+	private static final String INCIDENT_2 =
+		"00881I022003    TN006000002-003178   20020116 12N                                      Y\n" +
+		"00712I022003    TN006000002-003178   220CN  20  N            88        \n" +
+		"00465I022003    TN006000002-003178   0124  MW \n";
+
+	private SubmissionFileValidator submissionFileValidator;
+
+	@Before
+	public void setUp() throws Exception {
+		submissionFileValidator = new SubmissionFileValidator();
+		submissionFileValidator.incidentBuilder = new IncidentBuilder();
+		submissionFileValidator.xmlIncidentBuilder = new XmlIncidentBuilder();
+		submissionFileValidator.validatorProperties = new ValidatorProperties();
+		submissionFileValidator.validatorProperties.setParallelism(2);
+		submissionFileValidator.submissionValidator = new SubmissionValidator() {
+			@Override
+			public List<NIBRSError> validateReport(AbstractReport report) {
+				return Collections.emptyList();
+			}
+		};
+	}
+
+	@After
+	public void tearDown() {
+		submissionFileValidator.destroy();
+	}
+
+	@Test
+	public void testValidateZippedReports() throws Exception {
+		ByteArrayOutputStream zipBytes = new ByteArrayOutputStream();
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(zipBytes)) {
+			zipOutputStream.putNextEntry(new ZipEntry("january/"));
+			zipOutputStream.closeEntry();
+			addEntry(zipOutputStream, "january/incidents-1.txt", INCIDENT_1);
+			addEntry(zipOutputStream, "january/incidents-2.txt", INCIDENT_2);
+		}
+
+		List<String> identifiers = new ArrayList<>();
+		boolean[] closed = new boolean[1];
+		ByteArrayInputStream zipStream = new ByteArrayInputStream(zipBytes.toByteArray()) {
+			@Override
+			public void close() throws IOException {
+				closed[0] = true;
+				super.close();
+			}
+		};
+		submissionFileValidator.validateZippedReports((AbstractReport report, List<NIBRSError> errorList) -> identifiers.add(report.getIdentifier()), zipStream);
+
+		assertEquals(Arrays.asList("02-000895", "02-003178"), identifiers);
+		assertTrue(closed[0]);
+	}
+
+	@Test
+	public void testValidateZippedReportsTypesEntriesWithOtherNamesByTheirContent() throws Exception {
+		ByteArrayOutputStream zipBytes = new ByteArrayOutputStream();
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(zipBytes)) {
+			addEntry(zipOutputStream, "incidents-1.csv", INCIDENT_1);
+			addEntry(zipOutputStream, "incidents-2.log", INCIDENT_2);
+		}
+
+		List<String> identifiers = new ArrayList<>();
+		submissionFileValidator.validateZippedReports((AbstractReport report, List<NIBRSError> errorList) -> identifiers.add(report.getIdentifier()), 
+				new ByteArrayInputStream(zipBytes.toByteArray()));
+
+		assertEquals(Arrays.asList("02-000895", "02-003178"), identifiers);
+	}
+
+	private static void addEntry(ZipOutputStream zipOutputStream, String name, String content) throws IOException {
+		zipOutputStream.putNextEntry(new ZipEntry(name));
+		zipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+		zipOutputStream.closeEntry();
+	}
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validate.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.search.nibrs.common.ParsedObject;
+import org.search.nibrs.model.ArresteeSegment;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.GroupBArrestReport;
+import org.search.nibrs.model.OffenseSegment;
+import org.search.nibrs.model.VictimSegment;
+import org.search.nibrs.model.ZeroReport;
+
+public class ValidationResultsTest {
+
+	@Test
+	public void testSpooledReports() throws Exception {
+		ValidationResults validationResults = ValidationResults.withSpooledReports();
+		assertTrue(validationResults.isSpooled());
+		List<String> expectedIdentifiers = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			expectedIdentifiers.add("INC-" + i);
+			validationResults.addValidReport(newIncident("INC-" + i));
+		}
+		validationResults.addValidReport(newArrest("ARR-1"));
+		validationResults.addValidReport(new ZeroReport());
+
+		assertEquals(Integer.valueOf(26), validationResults.getValidReportCount());
+		assertTrue(validationResults.getReportsWithoutErrors().isEmpty());
+		assertTrue(validationResults.getGroupAIncidentReports().isEmpty());
+
+		// the spool can be read more than once
+		for (int pass = 0; pass < 2; pass++) {
+			List<Integer> batchSizes = new ArrayList<>();
+			List<String> identifiers = new ArrayList<>();
+			validationResults.forEachGroupAIncidentReportBatch(10, batch -> {
+				batchSizes.add(batch.size());
+				for (GroupAIncidentReport incident : batch) {
+					identifiers.add(incident.getIdentifier());
+					assertEquals("13A", incident.getOffenses().get(0).getUcrOffenseCode());
+					assertEquals(Integer.valueOf(1), incident.getVictims().get(0).getOffenderNumberRelated(0).getValue());
+					assertTrue(incident.getVictims().get(0).getParentReport() == incident);
+				}
+			});
+			assertEquals(Arrays.asList(10, 10, 5), batchSizes);
+			assertEquals(expectedIdentifiers, identifiers);
+		}
+
+		List<String> arrestIdentifiers = new ArrayList<>();
+		validationResults.forEachGroupBArrestReportBatch(10, batch -> batch.forEach(arrest -> arrestIdentifiers.add(arrest.getIdentifier())));
+		assertEquals(Arrays.asList("ARR-1"), arrestIdentifiers);
+
+		try {
+			validationResults.addValidReport(newIncident("INC-LATE"));
+			fail("Should not be able to add to a spool once it has been read");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+
+		File file = getGroupAIncidentReportSpoolFile(validationResults);
+		assertTrue(file.exists());
+		validationResults.discardSpooledReports();
+		assertFalse(file.exists());
+		// discarding is idempotent
+		validationResults.discardSpooledReports();
+	}
+
+	@Test
+	public void testClaimedSpooledReports() throws Exception {
+		ValidationResults validationResults = ValidationResults.withSpooledReports();
+		validationResults.addValidReport(newIncident("INC-1"));
+		File file = getGroupAIncidentReportSpoolFile(validationResults);
+
+		assertTrue(validationResults.claimSpooledReports());
+		// claimed once only
+		assertFalse(validationResults.claimSpooledReports());
+		// a replaced upload, or the end of the session, leaves claimed reports to the processing
+		assertFalse(validationResults.discardUnclaimedSpooledReports());
+		assertTrue(file.exists());
+		List<String> identifiers = new ArrayList<>();
+		validationResults.forEachGroupAIncidentReportBatch(10, batch -> batch.forEach(incident -> identifiers.add(incident.getIdentifier())));
+		assertEquals(Arrays.asList("INC-1"), identifiers);
+		validationResults.discardSpooledReports();
+		assertFalse(file.exists());
+	}
+
+	@Test
+	public void testUnclaimedSpooledReports() throws Exception {
+		ValidationResults validationResults = ValidationResults.withSpooledReports();
+		validationResults.addValidReport(newIncident("INC-1"));
+		File file = getGroupAIncidentReportSpoolFile(validationResults);
+
+		assertTrue(validationResults.discardUnclaimedSpooledReports());
+		assertFalse(file.exists());
+		// processing requested after the reports were discarded must not start
+		assertFalse(validationResults.claimSpooledReports());
+	}
+
+	@Test
+	public void testReportsInMemory() {
+		ValidationResults validationResults = new ValidationResults();
+		assertFalse(validationResults.isSpooled());
+		for (int i = 0; i < 5; i++) {
+			validationResults.addValidReport(newIncident("INC-" + i));
+		}
+		validationResults.addValidReport(new ZeroReport());
+
+		assertEquals(Integer.valueOf(5), validationResults.getValidReportCount());
+		assertEquals(6, validationResults.getReportsWithoutErrors().size());
+		assertEquals(5, validationResults.getGroupAIncidentReports().size());
+
+		List<Integer> batchSizes = new ArrayList<>();
+		validationResults.forEachGroupAIncidentReportBatch(2, batch -> batchSizes.add(batch.size()));
+		assertEquals(Arrays.asList(2, 2, 1), batchSizes);
+		validationResults.forEachGroupBArrestReportBatch(2, batch -> fail("There are no Group B reports"));
+		validationResults.discardSpooledReports();
+		assertEquals(5, validationResults.getGroupAIncidentReports().size());
+	}
+
+	private static File getGroupAIncidentReportSpoolFile(ValidationResults validationResults) throws Exception {
+		Field field = ValidationResults.class.getDeclaredField("groupAIncidentReportSpool");
+		field.setAccessible(true);
+		return ((ReportSpool<?>) field.get(validationResults)).getFile();
+	}
+
+	private static GroupAIncidentReport newIncident(String incidentNumber) {
+		GroupAIncidentReport incident = new GroupAIncidentReport();
+		incident.setOri("WA1234567");
+		incident.setIncidentNumber(incidentNumber);
+		incident.setReportActionType('I');
+		OffenseSegment offense = new OffenseSegment();
+		offense.setUcrOffenseCode("13A");
+		incident.addOffense(offense);
+		VictimSegment victim = new VictimSegment();
+		victim.setUcrOffenseCodeConnection(0, "13A");
+		victim.setOffenderNumberRelated(0, new ParsedObject<>(1));
+		incident.addVictim(victim);
+		return incident;
+	}
+
+	private static GroupBArrestReport newArrest(String arrestTransactionNumber) {
+		GroupBArrestReport arrest = new GroupBArrestReport();
+		arrest.setOri("WA1234567");
+		arrest.setReportActionType('A');
+		ArresteeSegment arrestee = new ArresteeSegment(ArresteeSegment.GROUP_B_ARRESTEE_SEGMENT_TYPE_IDENTIFIER);
+		arrestee.setArrestTransactionNumber(arrestTransactionNumber);
+		arrest.addArrestee(arrestee);
+		return arrest;
+	}
+
+}
@@ -26,6 +26,18 @@ import org.springframework.context.annotation.Configuration;
 public class ValidatorProperties {
 
 	private final Map<String, String> stateToFbiRaceCodeMapping = new HashMap<>();
+	
+	/**
+	 * Number of threads that validate reports while a submission file is still being parsed.  1 (the default) validates each
+	 * report on the parsing thread, as it is built.
+	 */
+	private int parallelism = 1;
+	
+	/**
+	 * Maximum number of reports parsed but not yet handed to the listener, when validating in parallel.  Parsing waits for the
+	 * oldest report once this many are outstanding.  0 (the default) means 4 per validation thread.
+	 */
+	private int maxReportsInFlight = 0;
 
 	public ValidatorProperties() {
 		super();
@@ -41,4 +53,20 @@ public class ValidatorProperties {
         return stateToFbiRaceCodeMapping;
     }
 
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	public int getMaxReportsInFlight() {
+		return maxReportsInFlight > 0 ? maxReportsInFlight : 4 * Math.max(parallelism, 1);
+	}
+
+	public void setMaxReportsInFlight(int maxReportsInFlight) {
+		this.maxReportsInFlight = maxReportsInFlight;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.groupa;
+
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ValidationTarget;
+import org.search.nibrs.validation.rules.Rule;
+
+/**
+ * A rule that reads data derived from the whole incident from a GroupAIncidentValidationContext.  GroupAIncidentReportValidator
+ * passes every such rule the context it created for the incident; applied on its own, the rule creates one.
+ *
+ * @param <T> The class of subjects to which the rule applies
+ */
+abstract class GroupAIncidentContextRule<T extends ValidationTarget> implements Rule<T> {
+
+	@Override
+	public final NIBRSError apply(T subject) {
+		return apply(subject, GroupAIncidentValidationContext.forTarget(subject));
+	}
+
+	/**
+	 * Apply the rule to the subject object.
+	 * @param subject the object under test/validation
+	 * @param context the context of the incident that the subject is (or belongs to)
+	 * @return the error object representing the result of validation (or null if the subject passes the test)
+	 */
+	abstract NIBRSError apply(T subject, GroupAIncidentValidationContext context);
+
+}
@@ -127,7 +127,7 @@ public class GroupAIncidentReportRulesFactory {
 
 	private List<Rule<GroupAIncidentReport>> rulesList = new ArrayList<>();
 	private Set<String> cargoTheftOffenses = new HashSet<>();
-	private Set<String> trueExceptionalClearanceCodes = new HashSet<>();
+	private Set<String> trueExceptionalClearanceCodes;
 	private ValidatorProperties validatorProperties;
 
 	public static GroupAIncidentReportRulesFactory instance(ValidatorProperties validatorProperties) {
@@ -152,8 +152,7 @@ public class GroupAIncidentReportRulesFactory {
 		cargoTheftOffenses.add(OffenseCode._510.code);
 		cargoTheftOffenses.add(OffenseCode._270.code);
 		
-		trueExceptionalClearanceCodes = ClearedExceptionallyCode.codeSet();
-		trueExceptionalClearanceCodes.remove(ClearedExceptionallyCode.N.code);
+		trueExceptionalClearanceCodes = ClearedExceptionallyCode.applicableCodeSet();
 		
 		rulesList.add(getRule101("ori", "1"));
 		rulesList.add(getRule101("incidentNumber", "2"));
@@ -218,9 +217,9 @@ public class GroupAIncidentReportRulesFactory {
 	}
 
 	Rule<GroupAIncidentReport> getRule560() {
-		return new Rule<GroupAIncidentReport>() {
+		return new GroupAIncidentContextRule<GroupAIncidentReport>() {
 			@Override
-			public NIBRSError apply(GroupAIncidentReport subject) {
+			NIBRSError apply(GroupAIncidentReport subject, GroupAIncidentValidationContext context) {
 				NIBRSError ret = null;
 				
 				List<VictimSegment> victimsOfRape = subject.getVictims().stream()
@@ -229,13 +228,13 @@ public class GroupAIncidentReportRulesFactory {
 				
 				if (victimsOfRape.size() > 0) {
 					for (VictimSegment vs : victimsOfRape) {
-						List<Integer> validRelatedOffenderNumbers = vs.getDistinctValidRelatedOffenderNumberList(); 
+						List<Integer> validRelatedOffenderNumbers = context.getVictimContext(vs).getDistinctValidRelatedOffenderNumbers(); 
 						if (validRelatedOffenderNumbers.size() > 0 
 							 && !validRelatedOffenderNumbers.contains(Integer.valueOf(0))){;
 							String victimSex = vs.getSex();
 							Set<String> relatedOffenderSexes = 
 									subject.getOffenders().stream()
-									.filter(offense->vs.isVictimOfOffender(offense))
+									.filter(offense->validRelatedOffenderNumbers.contains(offense.getOffenderSequenceNumber().getValue()))
 									.map(offense->offense.getSex())
 									.collect(Collectors.toSet()); 
 							relatedOffenderSexes.remove(victimSex);
@@ -21,6 +21,7 @@ import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ValidationTarget;
 import org.search.nibrs.model.ArresteeSegment;
 import org.search.nibrs.model.GroupAIncidentReport;
 import org.search.nibrs.model.OffenderSegment;
@@ -62,54 +63,41 @@ public class GroupAIncidentReportValidator {
 		groupAArresteeSegmentRules = ArresteeSegmentRulesFactory.instance(ArresteeSegmentRulesFactory.GROUP_A_ARRESTEE_MODE, validatorProperties).getRulesList();
 	}
 
+	/**
+	 * Validate the incident and all of its segments.  The rules run segment by segment (all of the offense rules against the first offense, then
+	 * against the second, and so on), and the rules that need data derived from the whole incident share one GroupAIncidentValidationContext.
+	 * @param groupAIncidentReport the incident
+	 * @return the errors found
+	 */
 	public List<NIBRSError> validate(GroupAIncidentReport groupAIncidentReport) {
 		
 		List<NIBRSError> ret = new ArrayList<NIBRSError>();
+		GroupAIncidentValidationContext context = new GroupAIncidentValidationContext(groupAIncidentReport);
 		
-		for (Rule<GroupAIncidentReport> r : incidentReportRules) {
-			NIBRSError e = r.apply(groupAIncidentReport);
-			if (e != null) {
-				ret.add(e);
-			}
-		}
+		applyRules(incidentReportRules, groupAIncidentReport, context, ret);
 		
-		for (Rule<OffenseSegment> r : offenseSegmentRules) {
-			for (OffenseSegment s : groupAIncidentReport.getOffenses()) {
-				NIBRSError e = r.apply(s);
-				if (e != null) {
-					ret.add(e);
-				}
-			}
+		for (OffenseSegment s : groupAIncidentReport.getOffenses()) {
+			applyRules(offenseSegmentRules, s, context, ret);
 		}
 		
-		for (Rule<PropertySegment> r : propertySegmentRules) {
-			for (PropertySegment s : groupAIncidentReport.getProperties()) {
-				NIBRSError e = r.apply(s);
-				if (e != null) {
-					ret.add(e);
-				}
-			}
+		for (PropertySegment s : groupAIncidentReport.getProperties()) {
+			applyRules(propertySegmentRules, s, context, ret);
 		}
 
-		for (Rule<VictimSegment> r : victimSegmentRules) {
-			for (VictimSegment s : groupAIncidentReport.getVictims()) {
-				NIBRSError nibrsError = r.apply(s);
+		for (VictimSegment s : groupAIncidentReport.getVictims()) {
+			for (Rule<VictimSegment> r : victimSegmentRules) {
+				NIBRSError nibrsError = applyRule(r, s, context);
 				processVictimSegmentError(ret, nibrsError);
 			}
 		}
 
-		for (Rule<OffenderSegment> r : offenderSegmentRules) {
-			for (OffenderSegment s : groupAIncidentReport.getOffenders()) {
-				NIBRSError nibrsError = r.apply(s);
-				if (nibrsError != null) {
-					ret.add(nibrsError);
-				}
-			}
+		for (OffenderSegment s : groupAIncidentReport.getOffenders()) {
+			applyRules(offenderSegmentRules, s, context, ret);
 		}
 
-		for (Rule<ArresteeSegment> r : groupAArresteeSegmentRules) {
-			for (ArresteeSegment s : groupAIncidentReport.getArrestees()) {
-				NIBRSError nibrsError = r.apply(s);
+		for (ArresteeSegment s : groupAIncidentReport.getArrestees()) {
+			for (Rule<ArresteeSegment> r : groupAArresteeSegmentRules) {
+				NIBRSError nibrsError = applyRule(r, s, context);
 				processArresteeSegmentError(ret, nibrsError);
 			}
 		}
@@ -117,6 +105,23 @@ public class GroupAIncidentReportValidator {
 		return ret;
 		
 	}
+	
+	private static <T extends ValidationTarget> void applyRules(List<Rule<T>> rules, T subject, GroupAIncidentValidationContext context, List<NIBRSError> ret) {
+		for (Rule<T> r : rules) {
+			NIBRSError e = applyRule(r, subject, context);
+			if (e != null) {
+				ret.add(e);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends ValidationTarget> NIBRSError applyRule(Rule<T> rule, T subject, GroupAIncidentValidationContext context) {
+		if (rule instanceof GroupAIncidentContextRule) {
+			return ((GroupAIncidentContextRule<T>) rule).apply(subject, context);
+		}
+		return rule.apply(subject);
+	}
 
 	private void processArresteeSegmentError(List<NIBRSError> ret,
 			NIBRSError nibrsError) {
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.groupa;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.search.nibrs.common.ParsedObject;
+import org.search.nibrs.common.ValidationTarget;
+import org.search.nibrs.model.AbstractSegment;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.OffenderSegment;
+import org.search.nibrs.model.VictimSegment;
+import org.search.nibrs.model.codes.OffenseCode;
+
+/**
+ * Data derived from a Group A incident that many segment rules need, computed once per incident rather than once per rule.
+ * <br/>
+ * GroupAIncidentReportValidator creates the context for each incident it validates and passes it to the rules that take one (the
+ * GroupAIncidentContextRule subclasses); those rules applied on their own, outside of the validator, create a context for the
+ * incident on the spot, so they behave the same either way.  The context assumes the incident is not modified while it is
+ * being validated.
+ */
+final class GroupAIncidentValidationContext {
+
+	private final Set<String> victimConnectedOffenseCodes = new HashSet<>();
+	private final Map<Integer, OffenderSegment> offendersBySequenceNumber = new HashMap<>();
+	private final Set<Integer> offenderSequenceNumbers;
+	private final Map<VictimSegment, VictimContext> victimContexts = new IdentityHashMap<>();
+
+	GroupAIncidentValidationContext(GroupAIncidentReport incident) {
+		Set<Integer> sequenceNumbers = new HashSet<>();
+		if (incident != null) {
+			for (VictimSegment victim : incident.getVictims()) {
+				victimConnectedOffenseCodes.addAll(victim.getUcrOffenseCodeList());
+			}
+			for (OffenderSegment offender : incident.getOffenders()) {
+				Integer sequenceNumber = offender.getOffenderSequenceNumber().getValue();
+				sequenceNumbers.add(sequenceNumber);
+				if (sequenceNumber != null) {
+					// first one wins, as with GroupAIncidentReport.getOffenderForSequenceNumber
+					offendersBySequenceNumber.putIfAbsent(sequenceNumber, offender);
+				}
+			}
+		}
+		offenderSequenceNumbers = Collections.unmodifiableSet(sequenceNumbers);
+	}
+
+	/**
+	 * Create a context for the incident that the specified target (the incident itself, or one of its segments) belongs to.
+	 */
+	static GroupAIncidentValidationContext forTarget(ValidationTarget target) {
+		if (target instanceof AbstractSegment) {
+			return new GroupAIncidentValidationContext((GroupAIncidentReport) ((AbstractSegment) target).getParentReport());
+		}
+		return new GroupAIncidentValidationContext((GroupAIncidentReport) target);
+	}
+
+	VictimContext getVictimContext(VictimSegment victim) {
+		return victimContexts.computeIfAbsent(victim, VictimContext::new);
+	}
+
+	/**
+	 * Whether any of the incident's victim segments is connected to the specified UCR offense code value (as entered, including null
+	 * for an empty connection).
+	 */
+	boolean isConnectedToAnyVictim(String ucrOffenseCode) {
+		return victimConnectedOffenseCodes.contains(ucrOffenseCode);
+	}
+
+	/**
+	 * The sequence numbers of the incident's offender segments, including null for any whose sequence number did not parse.
+	 */
+	Set<Integer> getOffenderSequenceNumbers() {
+		return offenderSequenceNumbers;
+	}
+
+	/**
+	 * Equivalent to GroupAIncidentReport.getOffenderForSequenceNumber, without the scan.
+	 */
+	OffenderSegment getOffenderForSequenceNumber(Integer sequenceNumber) {
+		return sequenceNumber == null ? null : offendersBySequenceNumber.get(sequenceNumber);
+	}
+
+	private static void addOffenseCode(Set<OffenseCode> codes, String code) {
+		OffenseCode offenseCode = OffenseCode.forCode(code);
+		// forCode ignores case, but the rules compare codes exactly
+		if (offenseCode != null && offenseCode.code.equals(code)) {
+			codes.add(offenseCode);
+		}
+	}
+
+	/**
+	 * Data derived from a victim segment's offense connections and related offenders.
+	 */
+	static final class VictimContext {
+
+		private final List<String> distinctConnectedOffenseCodeValues;
+		private final Set<OffenseCode> connectedOffenseCodes;
+		private final boolean connectedToCrimeAgainstPerson;
+		private final boolean connectedToCrimeAgainstProperty;
+		private final boolean connectedToCrimeAgainstSociety;
+		private final List<Integer> distinctValidRelatedOffenderNumbers;
+		private final int validRelatedOffenderNumberCount;
+
+		private VictimContext(VictimSegment victim) {
+			List<String> distinctValues = new ArrayList<>();
+			Set<OffenseCode> codes = EnumSet.noneOf(OffenseCode.class);
+			boolean person = false;
+			boolean property = false;
+			boolean society = false;
+			for (String code : victim.getUcrOffenseCodeConnection()) {
+				if (code != null && !distinctValues.contains(code)) {
+					distinctValues.add(code);
+				}
+				addOffenseCode(codes, code);
+				person |= OffenseCode.isCrimeAgainstPersonCode(code);
+				property |= OffenseCode.isCrimeAgainstPropertyCode(code);
+				society |= OffenseCode.isCrimeAgainstSocietyCode(code);
+			}
+			distinctConnectedOffenseCodeValues = Collections.unmodifiableList(distinctValues);
+			connectedOffenseCodes = Collections.unmodifiableSet(codes);
+			connectedToCrimeAgainstPerson = person;
+			connectedToCrimeAgainstProperty = property;
+			connectedToCrimeAgainstSociety = society;
+			distinctValidRelatedOffenderNumbers = Collections.unmodifiableList(victim.getDistinctValidRelatedOffenderNumberList());
+			int count = 0;
+			for (ParsedObject<Integer> offenderNumberRelated : victim.getOffenderNumberRelated()) {
+				if (!(offenderNumberRelated.isInvalid() || offenderNumberRelated.isMissing() || offenderNumberRelated.getValue() == null)) {
+					count++;
+				}
+			}
+			validRelatedOffenderNumberCount = count;
+		}
+
+		/**
+		 * The distinct, non-null UCR offense code values the victim is connected to, as entered and in the order entered.
+		 */
+		List<String> getDistinctConnectedOffenseCodeValues() {
+			return distinctConnectedOffenseCodeValues;
+		}
+
+		/**
+		 * The (valid) UCR offense codes the victim is connected to.
+		 */
+		Set<OffenseCode> getConnectedOffenseCodes() {
+			return connectedOffenseCodes;
+		}
+
+		boolean isConnectedTo(OffenseCode offenseCode) {
+			return connectedOffenseCodes.contains(offenseCode);
+		}
+
+		/**
+		 * Equivalent to OffenseCode.containsCrimeAgainstPersonCode(victim.getUcrOffenseCodeList()).
+		 */
+		boolean isConnectedToCrimeAgainstPerson() {
+			return connectedToCrimeAgainstPerson;
+		}
+
+		/**
+		 * Equivalent to OffenseCode.containsCrimeAgainstPropertyCode(victim.getUcrOffenseCodeList()).
+		 */
+		boolean isConnectedToCrimeAgainstProperty() {
+			return connectedToCrimeAgainstProperty;
+		}
+
+		/**
+		 * Equivalent to OffenseCode.containsCrimeAgainstSocietyCode(victim.getUcrOffenseCodeList()).
+		 */
+		boolean isConnectedToCrimeAgainstSociety() {
+			return connectedToCrimeAgainstSociety;
+		}
+
+		/**
+		 * Equivalent to victim.getDistinctValidRelatedOffenderNumberList(), which must not be modified.
+		 */
+		List<Integer> getDistinctValidRelatedOffenderNumbers() {
+			return distinctValidRelatedOffenderNumbers;
+		}
+
+		/**
+		 * The number of offender-number-related values that parsed to a number (not necessarily distinct).
+		 */
+		int getValidRelatedOffenderNumberCount() {
+			return validRelatedOffenderNumberCount;
+		}
+
+	}
+
+}
@@ -28,9 +28,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.search.nibrs.common.NIBRSError;
 import org.search.nibrs.common.ParsedObject;
-import org.search.nibrs.model.GroupAIncidentReport;
 import org.search.nibrs.model.OffenseSegment;
-import org.search.nibrs.model.VictimSegment;
 import org.search.nibrs.model.codes.AutomaticWeaponIndicatorCode;
 import org.search.nibrs.model.codes.BiasMotivationCode;
 import org.search.nibrs.model.codes.LocationTypeCode;
@@ -204,19 +202,12 @@ public class OffenseSegmentRulesFactory {
 	}
 	
 	Rule<OffenseSegment> getRule065() {
-		return new Rule<OffenseSegment>() {
+		return new GroupAIncidentContextRule<OffenseSegment>() {
 			@Override
-			public NIBRSError apply(OffenseSegment subject) {
+			NIBRSError apply(OffenseSegment subject, GroupAIncidentValidationContext context) {
 				NIBRSError e = null;
 				String ucrCode = subject.getUcrOffenseCode();
-				boolean found = false;
-				for (VictimSegment vs : ((GroupAIncidentReport) subject.getParentReport()).getVictims()) {
-					if (vs.getUcrOffenseCodeList().contains(ucrCode)) {
-						found = true;
-						break;
-					}
-				}
-				if (!found) {
+				if (!context.isConnectedToAnyVictim(ucrCode)) {
 					e = subject.getErrorTemplate();
 					e.setValue(ucrCode);
 					e.setDataElementIdentifier("L 2");
@@ -515,20 +506,20 @@ public class OffenseSegmentRulesFactory {
 	
 
 	Rule<OffenseSegment> getRule220() {
+		final Set<String> applicableOffenses = new HashSet<>();
+		applicableOffenses.addAll(Arrays.asList(new String[] {
+			OffenseCode._250.code,
+			OffenseCode._280.code,
+			OffenseCode._35A.code,
+			OffenseCode._35B.code,
+			OffenseCode._39C.code,
+			OffenseCode._370.code,
+			OffenseCode._520.code,
+			OffenseCode._720.code
+		}));
 		return new NotAllBlankRule<OffenseSegment>("typeOfCriminalActivity", "12", OffenseSegment.class, NIBRSErrorCode._220) {
 			@Override
 			public boolean ignore(OffenseSegment o) {
-				Set<String> applicableOffenses = new HashSet<>();
-				applicableOffenses.addAll(Arrays.asList(new String[] {
-					OffenseCode._250.code,
-					OffenseCode._280.code,
-					OffenseCode._35A.code,
-					OffenseCode._35B.code,
-					OffenseCode._39C.code,
-					OffenseCode._370.code,
-					OffenseCode._520.code,
-					OffenseCode._720.code
-				}));
 				String offenseCode = o.getUcrOffenseCode();
 				return offenseCode == null || !applicableOffenses.contains(offenseCode);
 			}
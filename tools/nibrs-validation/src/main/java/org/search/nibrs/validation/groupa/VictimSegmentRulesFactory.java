@@ -19,8 +19,10 @@ import static org.search.nibrs.util.ArrayUtils.allNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -50,6 +52,7 @@ import org.search.nibrs.util.ArrayUtils;
 import org.search.nibrs.validation.PersonSegmentRulesFactory;
 import org.search.nibrs.validation.ValidationConstants;
 import org.search.nibrs.validation.ValidatorProperties;
+import org.search.nibrs.validation.groupa.GroupAIncidentValidationContext.VictimContext;
 import org.search.nibrs.validation.rules.AbstractBeanPropertyRule;
 import org.search.nibrs.validation.rules.DuplicateCodedValueRule;
 import org.search.nibrs.validation.rules.NotAllBlankRule;
@@ -226,16 +229,12 @@ public class VictimSegmentRulesFactory {
 	}	
 
 	Rule<VictimSegment> getRule070() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment subject) {
+			NIBRSError apply(VictimSegment subject, GroupAIncidentValidationContext context) {
 				NIBRSError e = null;
-				GroupAIncidentReport parent = (GroupAIncidentReport) subject.getParentReport();
-				List<Integer> related = new ArrayList<>();
-				related.addAll(subject.getDistinctValidRelatedOffenderNumberList());
-				related.removeIf(element -> element == null);
-				for (Integer offenderNumber : related) {
-					OffenderSegment matchedOffender = parent.getOffenderForSequenceNumber(offenderNumber);
+				for (Integer offenderNumber : context.getVictimContext(subject).getDistinctValidRelatedOffenderNumbers()) {
+					OffenderSegment matchedOffender = context.getOffenderForSequenceNumber(offenderNumber);
 					if (matchedOffender == null) {
 						e = subject.getErrorTemplate();
 						e.setNIBRSErrorCode(NIBRSErrorCode._070);
@@ -252,20 +251,17 @@ public class VictimSegmentRulesFactory {
 	}
 	
 	Rule<VictimSegment> getRule085_31() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment subject) {
+			NIBRSError apply(VictimSegment subject, GroupAIncidentValidationContext context) {
 				NIBRSError e = null;
 				GroupAIncidentReport parent = (GroupAIncidentReport) subject.getParentReport();
 				
 				if (parent.getOffenderCount() >= 3 
-						&& subject.isPerson()
-						&& (subject.getUcrOffenseCodeList().contains(OffenseCode._120.code)||
-							OffenseCode.containsCrimeAgainstPersonCode(subject.getUcrOffenseCodeList()))
-						){
-					long relatedOffenderCount = subject.getOffenderNumberRelatedList().stream()
-							.filter(item->!(item.isInvalid() || item.isMissing() ||item.getValue() == null)).count();
-					if (relatedOffenderCount < 2){
+						&& subject.isPerson()){
+					VictimContext victimContext = context.getVictimContext(subject);
+					if ((victimContext.isConnectedTo(OffenseCode._120) || victimContext.isConnectedToCrimeAgainstPerson())
+							&& victimContext.getValidRelatedOffenderNumberCount() < 2){
 						e = subject.getErrorTemplate();
 						e.setNIBRSErrorCode(NIBRSErrorCode._085);
 						e.setDataElementIdentifier("34");
@@ -280,20 +276,17 @@ public class VictimSegmentRulesFactory {
 	}
 	
 	Rule<VictimSegment> getRule085() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment subject) {
+			NIBRSError apply(VictimSegment subject, GroupAIncidentValidationContext context) {
 				NIBRSError e = null;
 				GroupAIncidentReport parent = (GroupAIncidentReport) subject.getParentReport();
 				
 				if (parent.getOffenderCount() >= 2 
-						&& subject.isPerson()
-						&& (OffenseCode.containsCrimeAgainstPropertyCode(subject.getUcrOffenseCodeList())||
-							OffenseCode.containsCrimeAgainstPersonCode(subject.getUcrOffenseCodeList()))
-						){
-					long relatedOffenderCount = subject.getOffenderNumberRelatedList().stream()
-							.filter(item->!(item.isInvalid() || item.isMissing() ||item.getValue() == null)).count();
-					if (relatedOffenderCount < 2){
+						&& subject.isPerson()){
+					VictimContext victimContext = context.getVictimContext(subject);
+					if ((victimContext.isConnectedToCrimeAgainstProperty() || victimContext.isConnectedToCrimeAgainstPerson())
+							&& victimContext.getValidRelatedOffenderNumberCount() < 2){
 						e = subject.getErrorTemplate();
 						e.setNIBRSErrorCode(NIBRSErrorCode._085);
 						e.setDataElementIdentifier("34");
@@ -331,21 +324,17 @@ public class VictimSegmentRulesFactory {
 	}
 	
 	Rule<VictimSegment> getRule401ForVictimConnectedToUcrOffenseCode() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 
 				NIBRSError e = null;
 				NIBRSError errorTemplate = victimSegment.getErrorTemplate();
 				errorTemplate.setDataElementIdentifier("24");
 				errorTemplate.setNIBRSErrorCode(NIBRSErrorCode._401);
 
-				Set<String> offenseCodeSet = new HashSet<>();
-				offenseCodeSet.addAll(victimSegment.getUcrOffenseCodeList());
-				offenseCodeSet.removeIf(Objects::isNull);
-
-				if (offenseCodeSet.isEmpty()) {
+				if (context.getVictimContext(victimSegment).getDistinctConnectedOffenseCodeValues().isEmpty()) {
 					
 					e = errorTemplate;
 					e.setValue(null);
@@ -358,22 +347,21 @@ public class VictimSegmentRulesFactory {
 		};
 	}	
 	Rule<VictimSegment> getRule404ForVictimConnectedToUcrOffenseCode() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 				
 				NIBRSError e = null;
 				NIBRSError errorTemplate = victimSegment.getErrorTemplate();
 				errorTemplate.setDataElementIdentifier("24");
 				errorTemplate.setNIBRSErrorCode(NIBRSErrorCode._404);
 				
-				Set<String> offenseCodeSet = new HashSet<>();
-				offenseCodeSet.addAll(victimSegment.getUcrOffenseCodeList());
-				offenseCodeSet.removeIf(Objects::isNull);
+				List<String> offenseCodeValues = context.getVictimContext(victimSegment).getDistinctConnectedOffenseCodeValues();
 				
-				if (!offenseCodeSet.isEmpty()) {
+				if (!offenseCodeValues.isEmpty()) {
 					
+					Set<String> offenseCodeSet = new HashSet<>(offenseCodeValues);
 					offenseCodeSet.removeAll(OffenseCode.codeSet());
 					
 					if (!offenseCodeSet.isEmpty()) {
@@ -389,9 +377,9 @@ public class VictimSegmentRulesFactory {
 	}	
 	
 	Rule<VictimSegment> getRule404OffenderNumberToBeRelated() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 
 				NIBRSError e = null;
 				NIBRSError errorTemplate = victimSegment.getErrorTemplate();
@@ -399,16 +387,9 @@ public class VictimSegmentRulesFactory {
 				errorTemplate.setNIBRSErrorCode(NIBRSErrorCode._404);
 
 				Set<Integer> victimRelatedOffenderNumberSet = new HashSet<>();
-				victimRelatedOffenderNumberSet.addAll(victimSegment.getDistinctValidRelatedOffenderNumberList());
-				victimRelatedOffenderNumberSet.removeIf(item -> item == null);
+				victimRelatedOffenderNumberSet.addAll(context.getVictimContext(victimSegment).getDistinctValidRelatedOffenderNumbers());
 
-				GroupAIncidentReport parent = (GroupAIncidentReport) victimSegment.getParentReport();
-				Set<Integer> offenderSegmentSequenceNumbers = new HashSet<>();
-				for (OffenderSegment os : parent.getOffenders()) {
-					offenderSegmentSequenceNumbers.add(os.getOffenderSequenceNumber().getValue());
-				}
-
-				victimRelatedOffenderNumberSet.removeAll(offenderSegmentSequenceNumbers);
+				victimRelatedOffenderNumberSet.removeAll(context.getOffenderSequenceNumbers());
 				// for whatever reason, empirical evidence suggests that FBI does not count zero-related offenders as invalid
 				victimRelatedOffenderNumberSet.removeIf(item -> item == 0);
 
@@ -424,19 +405,15 @@ public class VictimSegmentRulesFactory {
 	}
 
 	Rule<VictimSegment> getRule401OffenderNumberToBeRelated() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 				
 				NIBRSError e = null;
 				boolean victimRelatedOffenderMissing = allNull(victimSegment.getOffenderNumberRelated());
-				boolean crimeAgainstPersonAndRobberyOffense = 
-						victimSegment.getUcrOffenseCodeList().contains(OffenseCode._120.code) 
-						|| OffenseCode.containsCrimeAgainstPersonCode(victimSegment.getUcrOffenseCodeList());
-
 				if ( victimRelatedOffenderMissing 
 						&& victimSegment.isPerson() 
-						&& crimeAgainstPersonAndRobberyOffense ) {
+						&& isConnectedToCrimeAgainstPersonOrRobbery(context.getVictimContext(victimSegment)) ) {
 					NIBRSError errorTemplate = victimSegment.getErrorTemplate();
 					errorTemplate.setDataElementIdentifier("34");
 					errorTemplate.setNIBRSErrorCode(NIBRSErrorCode._401);
@@ -474,11 +451,7 @@ public class VictimSegmentRulesFactory {
 		return new NotAllBlankRule<VictimSegment>("typeOfInjury", "33", VictimSegment.class, NIBRSErrorCode._401) {
 			@Override
 			public boolean ignore(VictimSegment o) {
-				List<String> offenseCodeList = o.getUcrOffenseCodeList()
-					.stream()
-					.filter(INJURY_OFFENSE_LIST::contains)
-					.distinct()
-					.collect(Collectors.toList());
+				List<String> offenseCodeList = getDistinctInjuryOffenseCodes(o);
 				
 				return !(((offenseCodeList.size() == 1 && offenseCodeList.contains("120") && "I".equals(o.getTypeOfVictim())))
 						||( (offenseCodeList.size() > 1 || ( offenseCodeList.size() == 1 && !offenseCodeList.contains("120")) )&& o.isPerson())); 
@@ -490,11 +463,7 @@ public class VictimSegmentRulesFactory {
 		return new ValidValueListRule<VictimSegment>("typeOfInjury", "33", VictimSegment.class, NIBRSErrorCode._404, TypeInjuryCode.codeSet(), false) {
 			@Override
 			public boolean ignore(VictimSegment o) {
-				List<String> offenseCodeList = o.getUcrOffenseCodeList()
-					.stream()
-					.filter(INJURY_OFFENSE_LIST::contains)
-					.distinct()
-					.collect(Collectors.toList());
+				List<String> offenseCodeList = getDistinctInjuryOffenseCodes(o);
 				
 				return ArrayUtils.allNull(o.getTypeOfInjury()) && 
 						!(((offenseCodeList.size() == 1 && offenseCodeList.contains("120") && "I".equals(o.getTypeOfVictim())))
@@ -534,24 +503,21 @@ public class VictimSegmentRulesFactory {
 	}
 
 	Rule<VictimSegment> getRule404ForAggravatedAssaultHomicideCircumstances() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 				
 				NIBRSError e = null;
 
 				List<String> aahcList = new ArrayList<>();
 				aahcList.addAll(victimSegment.getAggravatedAssaultHomicideCircumstancesList());
 				aahcList.removeIf(item -> item == null);
-				List<String> applicableOffenses = victimSegment.getUcrOffenseCodeList().stream()
-						.filter(Objects::nonNull)
-						.filter(OffenseCode::isAggravatedAssaultHomicideCircumstancesOffense)
-						.collect(Collectors.toList());
+				List<String> offenseCodeValues = context.getVictimContext(victimSegment).getDistinctConnectedOffenseCodeValues();
 				boolean isMandatory = victimSegment.isAggravatedAssaultHomicideCircumstancesMandatory();
 				if (isMandatory) {
 					Set<String> validAggravatedAssaultHomicideCodes = new HashSet<>();
 					
-					for (String offense : applicableOffenses) {
+					for (String offense : offenseCodeValues) {
 						switch (offense) {
 						case "13A":
 						case "09A": 
@@ -598,9 +564,9 @@ public class VictimSegmentRulesFactory {
 	}
 
 	Rule<VictimSegment> getRule404ForRelationshipOfVictimToOffender() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 				
 				NIBRSError e = null;
 				
@@ -611,9 +577,7 @@ public class VictimSegmentRulesFactory {
 				for (int i= 0; i<relatedOffenderNumbers.size(); i++){
 					ParsedObject<Integer> offenderNumber = relatedOffenderNumbers.get(i);
 					String relationship = relationships.get(i);
-					boolean isMandatory = !isEmpty(offenderNumber) &&
-							(OffenseCode.containsCrimeAgainstPersonCode(victimSegment.getUcrOffenseCodeList())
-									|| OffenseCode.containsCrimeAgainstPropertyCode(victimSegment.getUcrOffenseCodeList())); 
+					boolean isMandatory = !isEmpty(offenderNumber) && isConnectedToCrimeAgainstPersonOrProperty(context.getVictimContext(victimSegment)); 
 							
 					if ((isMandatory && (StringUtils.isBlank(relationship) || !RelationshipOfVictimToOffenderCode.codeSet().contains(relationship)))
 						||(!isMandatory && (StringUtils.isNotBlank(relationship)) && !RelationshipOfVictimToOffenderCode.codeSet().contains(relationship))) {
@@ -639,9 +603,9 @@ public class VictimSegmentRulesFactory {
 	}
 	
 	Rule<VictimSegment> getRule404ForRelationshipOfVictimToOffender_31() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 				
 				NIBRSError e = null;
 				
@@ -652,9 +616,7 @@ public class VictimSegmentRulesFactory {
 				for (int i= 0; i<relatedOffenderNumbers.size(); i++){
 					ParsedObject<Integer> offenderNumber = relatedOffenderNumbers.get(i);
 					String relationship = relationships.get(i);
-					boolean isMandatory = !isEmpty(offenderNumber) &&
-							(OffenseCode.containsCrimeAgainstPersonCode(victimSegment.getUcrOffenseCodeList())
-									|| OffenseCode.containsCrimeAgainstPropertyCode(victimSegment.getUcrOffenseCodeList())); 
+					boolean isMandatory = !isEmpty(offenderNumber) && isConnectedToCrimeAgainstPersonOrProperty(context.getVictimContext(victimSegment)); 
 							
 					if ((isMandatory && (StringUtils.isBlank(relationship) || (!RelationshipOfVictimToOffenderCode.codeSet().contains(relationship) && !"HR".equalsIgnoreCase(relationship))))
 						||(!isMandatory && (StringUtils.isNotBlank(relationship)) && !RelationshipOfVictimToOffenderCode.codeSet().contains(relationship) && !"HR".equalsIgnoreCase(relationship))) {
@@ -794,12 +756,12 @@ public class VictimSegmentRulesFactory {
 	}
 
 	Rule<VictimSegment> getRule419ForTypeOfInjury() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 
 				NIBRSError e = null;
-				List<String> offenseList = victimSegment.getUcrOffenseCodeList();
+				List<String> offenseList = context.getVictimContext(victimSegment).getDistinctConnectedOffenseCodeValues();
 				List<String> typeOfInjuryList = new ArrayList<>();
 				typeOfInjuryList.addAll(victimSegment.getTypeOfInjuryList());
 				typeOfInjuryList.removeIf(item -> item == null);
@@ -826,10 +788,10 @@ public class VictimSegmentRulesFactory {
 	}
 
 	Rule<VictimSegment> getRule419ForAggravatedAssaultHomicideCircumstances() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 
 				NIBRSError e = null;
 
@@ -837,9 +799,7 @@ public class VictimSegmentRulesFactory {
 				aahc.addAll(victimSegment.getAggravatedAssaultHomicideCircumstancesList());
 				aahc.removeIf(item -> item == null);
 
-				List<String> ucrOffenseList = new ArrayList<>();
-				ucrOffenseList.addAll(victimSegment.getUcrOffenseCodeList());
-				ucrOffenseList.removeIf(item -> item == null);
+				List<String> ucrOffenseList = context.getVictimContext(victimSegment).getDistinctConnectedOffenseCodeValues();
 
 				List<String> assaultHomicideOffenses = Arrays.asList(OffenseCode._09A.code, OffenseCode._09B.code, OffenseCode._09C.code, OffenseCode._13A.code);
 
@@ -982,22 +942,17 @@ public class VictimSegmentRulesFactory {
 	}
 
 	Rule<VictimSegment> getRule458ForOffenderNumberToBeRelated() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 				
 				NIBRSError e = null;
 				
-				List<String> offenseList = new ArrayList<>();
-				offenseList.addAll(victimSegment.getUcrOffenseCodeList());
-				offenseList.removeIf(item -> item == null);
-
-				List<Integer> offenderList = new ArrayList<>();
-				offenderList.addAll(victimSegment.getDistinctValidRelatedOffenderNumberList());
-				offenderList.removeIf(item -> item == null);
+				List<Integer> offenderList = context.getVictimContext(victimSegment).getDistinctValidRelatedOffenderNumbers();
 
 				if (!victimSegment.isPerson() && !offenderList.isEmpty()) {
+					offenderList = new ArrayList<>(offenderList);
 					e = victimSegment.getErrorTemplate();
 					e.setDataElementIdentifier("34");
 					e.setNIBRSErrorCode(NIBRSErrorCode._458);
@@ -1011,22 +966,18 @@ public class VictimSegmentRulesFactory {
 	}
 
 	Rule<VictimSegment> getRule459ForOffenderNumberToBeRelated() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 
 				NIBRSError e = null;
 
-				List<Integer> offenderNumberList = new ArrayList<>();
-				offenderNumberList.addAll(victimSegment.getDistinctValidRelatedOffenderNumberList());
-				offenderNumberList.removeIf(item -> item == null);
+				VictimContext victimContext = context.getVictimContext(victimSegment);
+				List<Integer> offenderNumberList = victimContext.getDistinctValidRelatedOffenderNumbers();
 
-				List<String> offenseCodeList = new ArrayList<>();
-				offenseCodeList.addAll(victimSegment.getUcrOffenseCodeList());
-				offenseCodeList.removeIf(item -> item == null);
-
-				if (!offenderNumberList.isEmpty() && !(OffenseCode.containsCrimeAgainstPersonCode(offenseCodeList) 
-						|| OffenseCode.containsCrimeAgainstPropertyCode(offenseCodeList))) {
+				if (!offenderNumberList.isEmpty() && !(victimContext.isConnectedToCrimeAgainstPerson() 
+						|| victimContext.isConnectedToCrimeAgainstProperty())) {
+					offenderNumberList = new ArrayList<>(offenderNumberList);
 					e = victimSegment.getErrorTemplate();
 					e.setDataElementIdentifier("34");
 					e.setNIBRSErrorCode(NIBRSErrorCode._459);
@@ -1088,9 +1039,9 @@ public class VictimSegmentRulesFactory {
 	}
 	
 	Rule<VictimSegment> getRule476() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 				NIBRSError e = null;
 				GroupAIncidentReport parent = (GroupAIncidentReport) victimSegment.getParentReport();
 				int spouseCount = 0;
@@ -1099,7 +1050,7 @@ public class VictimSegmentRulesFactory {
 					String relationship = victimSegment.getVictimOffenderRelationship(i);
 					ParsedObject<Integer> offenderSequenceNumberPO = offenderNumbersRelated[i];
 					if (!(offenderSequenceNumberPO.isMissing() || offenderSequenceNumberPO.isInvalid()) && RelationshipOfVictimToOffenderCode.SE.code.equals(relationship)) {
-						OffenderSegment os = parent.getOffenderForSequenceNumber(offenderSequenceNumberPO.getValue());
+						OffenderSegment os = context.getOffenderForSequenceNumber(offenderSequenceNumberPO.getValue());
 						List<VictimSegment> siblingVictims = new ArrayList<>();
 						siblingVictims.addAll(parent.getVictimsOfOffender(os));
 						siblingVictims.remove(victimSegment);
@@ -1175,12 +1126,12 @@ public class VictimSegmentRulesFactory {
 	}
 
 	Rule<VictimSegment> getRule464ForTypeOfVictim() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 				NIBRSError e = null;
 				List<String> offenseCodeList = new ArrayList<>();
-				offenseCodeList.addAll(victimSegment.getUcrOffenseCodeList());
+				offenseCodeList.addAll(context.getVictimContext(victimSegment).getDistinctConnectedOffenseCodeValues());
 				offenseCodeList.removeIf(item -> !OffenseCode.isCrimeAgainstPersonCode(item));
 				if (!offenseCodeList.isEmpty() && !victimSegment.isPerson()) {
 					e = victimSegment.getErrorTemplate();
@@ -1194,11 +1145,11 @@ public class VictimSegmentRulesFactory {
 	}
 
 	Rule<VictimSegment> getRule465ForTypeOfVictim() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 				NIBRSError e = null;
-				if (OffenseCode.containsCrimeAgainstSocietyCode(victimSegment.getUcrOffenseCodeList()) && !TypeOfVictimCode.S.code.equals(victimSegment.getTypeOfVictim())) {
+				if (!TypeOfVictimCode.S.code.equals(victimSegment.getTypeOfVictim()) && context.getVictimContext(victimSegment).isConnectedToCrimeAgainstSociety()) {
 					e = victimSegment.getErrorTemplate();
 					e.setNIBRSErrorCode(NIBRSErrorCode._465);
 					e.setDataElementIdentifier("25");
@@ -1211,11 +1162,11 @@ public class VictimSegmentRulesFactory {
 	}
 
 	Rule<VictimSegment> getRule467ForTypeOfVictim() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 				NIBRSError e = null;
-				if (TypeOfVictimCode.S.code.equals(victimSegment.getTypeOfVictim()) && OffenseCode.containsCrimeAgainstPropertyCode(victimSegment.getUcrOffenseCodeList())) {
+				if (TypeOfVictimCode.S.code.equals(victimSegment.getTypeOfVictim()) && context.getVictimContext(victimSegment).isConnectedToCrimeAgainstProperty()) {
 					e = victimSegment.getErrorTemplate();
 					e.setDataElementIdentifier("25");
 					e.setNIBRSErrorCode(NIBRSErrorCode._467);
@@ -1227,13 +1178,13 @@ public class VictimSegmentRulesFactory {
 	}
 	
 	Rule<VictimSegment> getRule468ForRelationshipOfVictimToOffender() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 
 				NIBRSError e = null;
 				List<String> victimOffenderRelationshipList = victimSegment.getVictimOffenderRelationshipList();
-				List<Integer> offenderNumRelatedList = victimSegment.getDistinctValidRelatedOffenderNumberList();
+				List<Integer> offenderNumRelatedList = context.getVictimContext(victimSegment).getDistinctValidRelatedOffenderNumbers();
 				
 				for (int i=0;i < offenderNumRelatedList.size() && e == null;i++) {
 					Integer offenderNumber = offenderNumRelatedList.get(i);
@@ -1391,11 +1342,10 @@ public class VictimSegmentRulesFactory {
 	}
 
 	Rule<VictimSegment> getRule472() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 				NIBRSError e = null;
-				GroupAIncidentReport incident = (GroupAIncidentReport) victimSegment.getParentReport();
 				List<Integer> offenderNumberList = Arrays.stream(victimSegment.getOffenderNumberRelated())
 						.filter(Objects::nonNull)
 						.filter(item->item.getValue() != null)
@@ -1406,7 +1356,7 @@ public class VictimSegmentRulesFactory {
 					Integer offenderNumber = offenderNumberList.get(i);
 					String relationship = relationshipList.get(i);
 					if (offenderNumber != null) {
-						OffenderSegment os = incident.getOffenderForSequenceNumber(offenderNumber);
+						OffenderSegment os = context.getOffenderForSequenceNumber(offenderNumber);
 						if (os != null 
 							 && (os.getAge() == null || os.getAge().isUnknown()) 
 							 && (os.getSex() == null || os.getSex().equals(SexOfOffenderCode.U.code)) 
@@ -1452,16 +1402,14 @@ public class VictimSegmentRulesFactory {
 	}
 	
 	Rule<VictimSegment> getRule477() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 				NIBRSError e = null;
 				NIBRSError errorTemplate = victimSegment.getErrorTemplate();
 				errorTemplate.setNIBRSErrorCode(NIBRSErrorCode._477);
 				errorTemplate.setDataElementIdentifier("31");
-				List<String> offenseList = new ArrayList<>();
-				offenseList.addAll(victimSegment.getUcrOffenseCodeList());
-				offenseList.removeIf(item -> item == null);
+				List<String> offenseList = context.getVictimContext(victimSegment).getDistinctConnectedOffenseCodeValues();
 				List<String> aahc = new ArrayList<>();
 				aahc.addAll(victimSegment.getAggravatedAssaultHomicideCircumstancesList());
 				aahc.removeIf(item -> item == null);
@@ -1516,20 +1464,16 @@ public class VictimSegmentRulesFactory {
 	}
 	
 	Rule<VictimSegment> getRule478() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 				NIBRSError e = null;
 				NIBRSError errorTemplate = victimSegment.getErrorTemplate();
 				errorTemplate.setDataElementIdentifier("24");
 				errorTemplate.setNIBRSErrorCode(NIBRSErrorCode._478);
 				errorTemplate.setValue(null);
 				
-				List<String> offenseList = victimSegment.getUcrOffenseCodeList()
-						.stream()
-						.distinct()
-						.filter(Objects::nonNull)
-						.collect(Collectors.toList());
+				List<String> offenseList = context.getVictimContext(victimSegment).getDistinctConnectedOffenseCodeValues();
 
 				if (offenseList.size() > 1){
 					for (int i=0; i< offenseList.size(); i++){
@@ -1554,18 +1498,17 @@ public class VictimSegmentRulesFactory {
 	}
 	
 	Rule<VictimSegment> getRule479() {
-		return new Rule<VictimSegment>() {
+		return new GroupAIncidentContextRule<VictimSegment>() {
 			@Override
-			public NIBRSError apply(VictimSegment victimSegment) {
+			NIBRSError apply(VictimSegment victimSegment, GroupAIncidentValidationContext context) {
 				NIBRSError e = null;
 				List<String> typeOfInjuryList = victimSegment.getTypeOfInjuryList()
 						.stream()
 						.filter(Objects::nonNull)
 						.collect(Collectors.toList());
-				boolean containsOnly13B = victimSegment.getUcrOffenseCodeList().stream()
-						.filter(Objects::nonNull)
-						.distinct()
-						.allMatch(item->Objects.equals(item, OffenseCode._13B.code));
+				List<String> offenseList = context.getVictimContext(victimSegment).getDistinctConnectedOffenseCodeValues();
+				boolean containsOnly13B = offenseList.isEmpty()
+						|| (offenseList.size() == 1 && OffenseCode._13B.code.equals(offenseList.get(0)));
 				boolean containsOnlyMinorInjuries = typeOfInjuryList
 						.stream()
 						.allMatch(injury->Objects.equals(injury, TypeInjuryCode.N.code) ||
@@ -1622,23 +1565,36 @@ public class VictimSegmentRulesFactory {
 			return StringUtils.substringAfter(this.name(), "_");
 		}
 		
-		public static Rule478OffenseCode valueOfAny(String code){
-			code = StringUtils.prependIfMissing(StringUtils.trimToEmpty(code), "_");
-			
-			if (Rule478OffenseCode.codeSet().contains(code)){
-				return Rule478OffenseCode.valueOf(code);
-			}
-			else {
-				return null;
+		private static final Map<String, Rule478OffenseCode> VALUES_BY_CODE = new HashMap<>();
+		
+		static {
+			for (Rule478OffenseCode value : values()) {
+				VALUES_BY_CODE.put(value.name(), value);
+				VALUES_BY_CODE.put(value.toString(), value);
 			}
 		}
 		
-		public static List<String> codeSet(){
-			return Arrays.asList(Rule478OffenseCode.values())
-					.stream()
-					.map(item->item.name())
-					.collect(Collectors.toList());
+		public static Rule478OffenseCode valueOfAny(String code){
+			return VALUES_BY_CODE.get(StringUtils.trimToEmpty(code));
+		}
+	}
+	
+	private static List<String> getDistinctInjuryOffenseCodes(VictimSegment victimSegment) {
+		List<String> injuryOffenseCodes = new ArrayList<>();
+		for (String offenseCode : victimSegment.getUcrOffenseCodeConnection()) {
+			if (INJURY_OFFENSE_LIST.contains(offenseCode) && !injuryOffenseCodes.contains(offenseCode)) {
+				injuryOffenseCodes.add(offenseCode);
+			}
 		}
+		return injuryOffenseCodes;
+	}
+	
+	private static boolean isConnectedToCrimeAgainstPersonOrRobbery(VictimContext victimContext) {
+		return victimContext.isConnectedTo(OffenseCode._120) || victimContext.isConnectedToCrimeAgainstPerson();
+	}
+	
+	private static boolean isConnectedToCrimeAgainstPersonOrProperty(VictimContext victimContext) {
+		return victimContext.isConnectedToCrimeAgainstPerson() || victimContext.isConnectedToCrimeAgainstProperty();
 	}
 	
 	private boolean[][] rule478ExclusionTable = new boolean[][]{
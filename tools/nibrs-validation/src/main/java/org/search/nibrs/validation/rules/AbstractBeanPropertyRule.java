@@ -19,6 +19,13 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -29,7 +36,8 @@ import org.search.nibrs.model.GroupBArrestReport;
 import org.search.nibrs.model.codes.NIBRSErrorCode;
 
 /**
- * Abstract base class for rules that obtain values to test from a named bean property.
+ * Abstract base class for rules that obtain values to test from a named bean property.  The property's getter is looked up once, when the
+ * rule is constructed, and bound to a Function, so that applying the rule is a plain method call rather than a reflective one.
  *
  * @param <T> The class of subjects to which this rule applies
  */
@@ -41,6 +49,7 @@ public abstract class AbstractBeanPropertyRule<T extends ValidationTarget> imple
 	protected PropertyDescriptor property;
 	protected String dataElementIdentifier;
 	protected NIBRSErrorCode errorCode;
+	private final Function<T, Object> propertyReader;
 	
 	protected AbstractBeanPropertyRule(String propertyName, String dataElementIdentifier, Class<T> subjectClass, NIBRSErrorCode errorCode) {
 		try {
@@ -59,30 +68,58 @@ public abstract class AbstractBeanPropertyRule<T extends ValidationTarget> imple
 			// this really should never happen...
 			throw new RuntimeException(e);
 		}
+		this.propertyReader = createPropertyReader(property.getReadMethod());
 		this.dataElementIdentifier = dataElementIdentifier;
 		this.errorCode = errorCode;
 	}
-
+	
 	@Override
 	public final NIBRSError apply(T subject) {
 		NIBRSError ret = null;
 		if (!ignore(subject)) {
-			try {
-				Object value = property.getReadMethod().invoke(subject, new Object[0]);
-				if (propertyViolatesRule(value, subject)) {
-					ret = subject.getErrorTemplate();
-					ret.setNIBRSErrorCode(errorCode);
-					ret.setValue(value);
-					ret.setDataElementIdentifier(dataElementIdentifier);
-				}
-			} catch (ReflectiveOperationException e) {
-				// this really should never happen...
-				throw new RuntimeException(e);
+			Object value = propertyReader.apply(subject);
+			if (propertyViolatesRule(value, subject)) {
+				ret = subject.getErrorTemplate();
+				ret.setNIBRSErrorCode(errorCode);
+				ret.setValue(value);
+				ret.setDataElementIdentifier(dataElementIdentifier);
 			}
 		}
 		return ret;
 	}
 	
+	/**
+	 * Bind the getter to a Function with LambdaMetafactory, which the JIT can inline like a method reference.  Getters that the metafactory cannot
+	 * link to (e.g., declared on a non-public class) fall back to a MethodHandle, which still avoids per-call argument arrays and access checks.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> Function<T, Object> createPropertyReader(Method readMethod) {
+		MethodHandle getter;
+		try {
+			readMethod.setAccessible(true);
+			getter = MethodHandles.lookup().unreflect(readMethod);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// this really should never happen...
+			throw new RuntimeException("Cannot access property getter " + readMethod, e);
+		}
+		try {
+			CallSite callSite = LambdaMetafactory.metafactory(MethodHandles.lookup(), "apply", MethodType.methodType(Function.class), 
+					MethodType.methodType(Object.class, Object.class), getter, MethodType.methodType(Object.class, readMethod.getDeclaringClass()));
+			return (Function<T, Object>) callSite.getTarget().invoke();
+		} catch (Throwable t) {
+			MethodHandle genericGetter = getter.asType(MethodType.methodType(Object.class, Object.class));
+			return subject -> {
+				try {
+					return genericGetter.invokeExact(subject);
+				} catch (RuntimeException | Error e) {
+					throw e;
+				} catch (Throwable e) {
+					throw new RuntimeException(e);
+				}
+			};
+		}
+	}
+	
 	/**
 	 * Templated method that derived types can override to determine if the rule should be ignored for a particular incident.
 	 */
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.validation.groupa.GroupAIncidentReportValidator;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ * JMH benchmark of the full Group A rule set.  Each invocation validates the baseline incident plus every rule violation
+ * exemplar, so that both the passing and the failing paths of each rule are exercised.  Not run as part of the unit test
+ * suite; run the main method with the test classpath.  The gc profiler is enabled so that allocation is reported alongside
+ * throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GroupAIncidentReportValidatorBenchmark {
+
+	private GroupAIncidentReportValidator validator;
+	private List<GroupAIncidentReport> incidents;
+
+	@Setup
+	public void setUp() {
+		((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+		validator = new GroupAIncidentReportValidator(new ValidatorProperties());
+		incidents = new ArrayList<>();
+		incidents.add(BaselineIncidentFactory.getBaselineIncident());
+		Set<Integer> ruleNumbers = new TreeSet<>();
+		ruleNumbers.addAll(AdministrativeRuleViolationExemplarFactory.getInstance().getGroupATweakerMap().keySet());
+		ruleNumbers.addAll(OffenseRuleViolationExemplarFactory.getInstance().getGroupATweakerMap().keySet());
+		ruleNumbers.addAll(PropertyRuleViolationExemplarFactory.getInstance().getGroupATweakerMap().keySet());
+		ruleNumbers.addAll(VictimRuleViolationExemplarFactory.getInstance().getGroupATweakerMap().keySet());
+		ruleNumbers.addAll(OffenderRuleViolationExemplarFactory.getInstance().getGroupATweakerMap().keySet());
+		ruleNumbers.addAll(ArresteeRuleViolationExemplarFactory.getInstance().getGroupATweakerMap().keySet());
+		for (Integer ruleNumber : ruleNumbers) {
+			// a few exemplars cannot be built, or are malformed in ways the rules do not guard against; leave those out
+			try {
+				for (GroupAIncidentReport incident : RuleViolationExemplarFactory.getInstance().getGroupAIncidentsThatViolateRule(ruleNumber)) {
+					validator.validate(incident);
+					incidents.add(incident);
+				}
+			} catch (RuntimeException e) {
+				continue;
+			}
+		}
+	}
+
+	@Benchmark
+	public void validateGroupAIncidents(Blackhole blackhole) {
+		for (GroupAIncidentReport incident : incidents) {
+			blackhole.consume(validator.validate(incident));
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(GroupAIncidentReportValidatorBenchmark.class.getSimpleName()).addProfiler("gc").build();
+		new Runner(options).run();
+	}
+
+}
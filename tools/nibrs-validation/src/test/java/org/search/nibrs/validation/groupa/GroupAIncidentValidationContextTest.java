@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.groupa;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import org.junit.Test;
+import org.search.nibrs.common.ParsedObject;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.OffenderSegment;
+import org.search.nibrs.model.OffenseSegment;
+import org.search.nibrs.model.VictimSegment;
+import org.search.nibrs.model.codes.OffenseCode;
+import org.search.nibrs.validation.groupa.GroupAIncidentValidationContext.VictimContext;
+
+public class GroupAIncidentValidationContextTest {
+
+	@Test
+	public void testContextForTarget() {
+		GroupAIncidentReport incident = buildIncident();
+		VictimSegment victim = incident.getVictims().get(0);
+		assertSame(incident.getOffenders().get(0), GroupAIncidentValidationContext.forTarget(incident).getOffenderForSequenceNumber(1));
+		assertSame(incident.getOffenders().get(0), GroupAIncidentValidationContext.forTarget(victim).getOffenderForSequenceNumber(1));
+		GroupAIncidentValidationContext context = new GroupAIncidentValidationContext(incident);
+		assertSame(context.getVictimContext(victim), context.getVictimContext(victim));
+		assertNotSame(context.getVictimContext(victim), GroupAIncidentValidationContext.forTarget(victim).getVictimContext(victim));
+	}
+
+	@Test
+	public void testContextRuleAppliedAlone() {
+		GroupAIncidentReport incident = buildIncident();
+		OffenseSegment offense = incident.getOffenses().get(0);
+		GroupAIncidentContextRule<OffenseSegment> rule = (GroupAIncidentContextRule<OffenseSegment>) new OffenseSegmentRulesFactory().getRule065();
+		assertNull(rule.apply(offense));
+		assertNull(rule.apply(offense, new GroupAIncidentValidationContext(incident)));
+		offense.setUcrOffenseCode("23H");
+		assertEquals("23H", rule.apply(offense).getValue());
+		assertEquals("23H", rule.apply(offense, new GroupAIncidentValidationContext(incident)).getValue());
+	}
+
+	@Test
+	public void testDerivedData() {
+		GroupAIncidentReport incident = buildIncident();
+		OffenseSegment offense = new OffenseSegment();
+		offense.setUcrOffenseCode("23H");
+		incident.addOffense(offense);
+		OffenderSegment offender = new OffenderSegment();
+		offender.setOffenderSequenceNumber(new ParsedObject<>(1));
+		// duplicate sequence number; the first offender wins
+		incident.addOffender(offender);
+		VictimSegment victim = incident.getVictims().get(0);
+		victim.setUcrOffenseCodeConnection(1, "23H");
+		victim.setOffenderNumberRelated(1, new ParsedObject<>(1));
+		victim.setOffenderNumberRelated(2, ParsedObject.getInvalidParsedObject());
+
+		GroupAIncidentValidationContext context = new GroupAIncidentValidationContext(incident);
+		assertTrue(context.isConnectedToAnyVictim("13A"));
+		assertTrue(context.isConnectedToAnyVictim("23H"));
+		assertFalse(context.isConnectedToAnyVictim("09A"));
+		assertEquals(Collections.singleton(1), context.getOffenderSequenceNumbers());
+		assertSame(incident.getOffenders().get(0), context.getOffenderForSequenceNumber(1));
+		assertNull(context.getOffenderForSequenceNumber(2));
+		assertNull(context.getOffenderForSequenceNumber(null));
+
+		VictimContext victimContext = context.getVictimContext(victim);
+		assertEquals(Arrays.asList("13A", "23H"), victimContext.getDistinctConnectedOffenseCodeValues());
+		assertEquals(EnumSet.of(OffenseCode._13A, OffenseCode._23H), victimContext.getConnectedOffenseCodes());
+		assertTrue(victimContext.isConnectedTo(OffenseCode._23H));
+		assertFalse(victimContext.isConnectedTo(OffenseCode._09A));
+		assertTrue(victimContext.isConnectedToCrimeAgainstPerson());
+		assertTrue(victimContext.isConnectedToCrimeAgainstProperty());
+		assertFalse(victimContext.isConnectedToCrimeAgainstSociety());
+		assertEquals(Arrays.asList(1), victimContext.getDistinctValidRelatedOffenderNumbers());
+		assertEquals(2, victimContext.getValidRelatedOffenderNumberCount());
+	}
+
+	private GroupAIncidentReport buildIncident() {
+		GroupAIncidentReport incident = new GroupAIncidentReport();
+		OffenseSegment offense = new OffenseSegment();
+		offense.setUcrOffenseCode("13A");
+		incident.addOffense(offense);
+		VictimSegment victim = new VictimSegment();
+		victim.setUcrOffenseCodeConnection(0, "13A");
+		victim.setOffenderNumberRelated(0, new ParsedObject<>(1));
+		incident.addVictim(victim);
+		OffenderSegment offender = new OffenderSegment();
+		offender.setOffenderSequenceNumber(new ParsedObject<>(1));
+		incident.addOffender(offender);
+		return incident;
+	}
+
+}
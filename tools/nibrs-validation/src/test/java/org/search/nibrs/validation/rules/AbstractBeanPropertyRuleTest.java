@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ValidationTarget;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+
+public class AbstractBeanPropertyRuleTest {
+
+	public static class TestSubject implements ValidationTarget {
+		private int count;
+		private String name;
+		public int getCount() {
+			return count;
+		}
+		public String getName() {
+			return name;
+		}
+		@Override
+		public NIBRSError getErrorTemplate() {
+			return new NIBRSError();
+		}
+	}
+
+	private static final class HiddenTestSubject extends TestSubject {
+		private char code = 'X';
+		@SuppressWarnings("unused")
+		public char getCode() {
+			return code;
+		}
+	}
+
+	private static final class EqualsRule<T extends ValidationTarget> extends AbstractBeanPropertyRule<T> {
+		private final Object violatingValue;
+		EqualsRule(String propertyName, Class<T> subjectClass, Object violatingValue) {
+			super(propertyName, "1", subjectClass, NIBRSErrorCode._101);
+			this.violatingValue = violatingValue;
+		}
+		@Override
+		protected boolean propertyViolatesRule(Object value, T subject) {
+			return violatingValue.equals(value);
+		}
+	}
+
+	@Test
+	public void testNamedProperty() {
+		TestSubject subject = new TestSubject();
+		subject.count = 3;
+		subject.name = "foo";
+		NIBRSError e = new EqualsRule<>("count", TestSubject.class, 3).apply(subject);
+		assertEquals(3, e.getValue());
+		assertEquals("1", e.getDataElementIdentifier());
+		assertEquals(NIBRSErrorCode._101, e.getNIBRSErrorCode());
+		assertEquals("foo", new EqualsRule<>("name", TestSubject.class, "foo").apply(subject).getValue());
+		assertNull(new EqualsRule<>("name", TestSubject.class, "bar").apply(subject));
+	}
+
+	@Test
+	public void testPropertyOfNonPublicClass() {
+		HiddenTestSubject subject = new HiddenTestSubject();
+		assertEquals('X', new EqualsRule<>("code", HiddenTestSubject.class, 'X').apply(subject).getValue());
+		subject.code = 'Y';
+		assertNull(new EqualsRule<>("code", HiddenTestSubject.class, 'X').apply(subject));
+	}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.rules;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.model.OffenseSegment;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+
+/**
+ * JMH benchmark of applying a bean property rule with the bound getter, against reading the same property with Method.invoke
+ * as the rules did before the getters were bound.  Not run as part of the unit test suite; run the main method with the test
+ * classpath.  The gc profiler is enabled so that allocation is reported alongside the time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeanPropertyReadBenchmark {
+
+	private OffenseSegment offenseSegment;
+	private NotBlankRule<OffenseSegment> rule;
+	private Method readMethod;
+
+	@Setup
+	public void setUp() throws Exception {
+		offenseSegment = new OffenseSegment();
+		offenseSegment.setUcrOffenseCode("13A");
+		rule = new NotBlankRule<>("ucrOffenseCode", "6", OffenseSegment.class, NIBRSErrorCode._201);
+		for (PropertyDescriptor pd : Introspector.getBeanInfo(OffenseSegment.class).getPropertyDescriptors()) {
+			if ("ucrOffenseCode".equals(pd.getName())) {
+				readMethod = pd.getReadMethod();
+			}
+		}
+	}
+
+	@Benchmark
+	public NIBRSError boundGetter() {
+		return rule.apply(offenseSegment);
+	}
+
+	@Benchmark
+	public Object reflectiveGetter() throws Exception {
+		Object value = readMethod.invoke(offenseSegment);
+		return value == null || value.toString().trim().isEmpty() ? offenseSegment.getErrorTemplate() : null;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(BeanPropertyReadBenchmark.class.getSimpleName()).addProfiler("gc").build();
+		new Runner(options).run();
+	}
+
+}
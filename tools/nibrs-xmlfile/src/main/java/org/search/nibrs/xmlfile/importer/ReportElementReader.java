@@ -0,0 +1,171 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.xmlfile.importer;
+
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.lang3.StringUtils;
+import org.search.nibrs.xml.NibrsNamespaceContext.Namespace;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Pulls the nibrs:Report elements of a nibrs:Submission off of a stream one at a time, with StAX.  Each report is returned
+ * as the document element of its own small DOM, so that the existing XPath-based report building works unchanged, while
+ * the memory held at any one time is bounded by the largest single report rather than by the whole submission.
+ */
+class ReportElementReader implements AutoCloseable {
+
+	private static final String SUBMISSION_ELEMENT_NAME = "Submission";
+	private static final String REPORT_ELEMENT_NAME = "Report";
+
+	private final XMLStreamReader reader;
+	private final DocumentBuilder documentBuilder;
+	private final Map<String, String> submissionNamespaces = new LinkedHashMap<>();
+	private int depth = 0;
+	private boolean inSubmission = false;
+
+	ReportElementReader(InputStream inputStream, XMLInputFactory xmlInputFactory, DocumentBuilder documentBuilder) throws XMLStreamException {
+		this.reader = xmlInputFactory.createXMLStreamReader(inputStream);
+		this.documentBuilder = documentBuilder;
+	}
+
+	/**
+	 * Create a StAX factory configured for reading submissions: namespace aware, with adjacent text coalesced (as the DOM parser
+	 * would), and with DTDs and external entities disabled.
+	 */
+	static XMLInputFactory createXmlInputFactory() {
+		XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+		xmlInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+		xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+		xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		return xmlInputFactory;
+	}
+
+	/**
+	 * Read the next nibrs:Report element that is a child of the root nibrs:Submission element.
+	 * @return the report element, or null if there are no more reports in the submission
+	 * @throws XMLStreamException if the stream is not well-formed XML
+	 */
+	Element nextReportElement() throws XMLStreamException {
+		while (reader.hasNext()) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+				if (depth == 1) {
+					inSubmission = isNibrsElement(SUBMISSION_ELEMENT_NAME);
+					for (int i = 0; i < reader.getNamespaceCount(); i++) {
+						submissionNamespaces.put(StringUtils.defaultString(reader.getNamespacePrefix(i)), reader.getNamespaceURI(i));
+					}
+				} else if (depth == 2 && inSubmission && isNibrsElement(REPORT_ELEMENT_NAME)) {
+					return readReportElement();
+				}
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			}
+		}
+		return null;
+	}
+
+	private boolean isNibrsElement(String localName) {
+		return Namespace.NIBRS.uri.equals(reader.getNamespaceURI()) && localName.equals(reader.getLocalName());
+	}
+
+	/**
+	 * Copy the element the reader is positioned on, and all of its content, into a new DOM.  Leaves the reader on the matching end tag.
+	 */
+	private Element readReportElement() throws XMLStreamException {
+		Document document = documentBuilder.newDocument();
+		Element reportElement = createElement(document);
+		// carry the submission's namespace declarations down, so the report stands on its own (e.g., when serialized)
+		for (Map.Entry<String, String> namespace : submissionNamespaces.entrySet()) {
+			String localName = namespace.getKey().isEmpty() ? XMLConstants.XMLNS_ATTRIBUTE : namespace.getKey();
+			if (!reportElement.hasAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, localName)) {
+				reportElement.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, xmlnsAttributeName(namespace.getKey()), namespace.getValue());
+			}
+		}
+		document.appendChild(reportElement);
+
+		Node current = reportElement;
+		int reportDepth = 1;
+		while (reportDepth > 0) {
+			switch (reader.next()) {
+			case XMLStreamConstants.START_ELEMENT:
+				Element element = createElement(document);
+				current.appendChild(element);
+				current = element;
+				reportDepth++;
+				break;
+			case XMLStreamConstants.END_ELEMENT:
+				current = current.getParentNode();
+				reportDepth--;
+				break;
+			case XMLStreamConstants.CHARACTERS:
+			case XMLStreamConstants.CDATA:
+			case XMLStreamConstants.SPACE:
+				current.appendChild(document.createTextNode(reader.getText()));
+				break;
+			case XMLStreamConstants.COMMENT:
+				current.appendChild(document.createComment(reader.getText()));
+				break;
+			default:
+				break;
+			}
+		}
+		depth--;
+		return reportElement;
+	}
+
+	private Element createElement(Document document) {
+		Element element = document.createElementNS(reader.getNamespaceURI(), qualifiedName(reader.getPrefix(), reader.getLocalName()));
+		for (int i = 0; i < reader.getNamespaceCount(); i++) {
+			element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, xmlnsAttributeName(reader.getNamespacePrefix(i)), reader.getNamespaceURI(i));
+		}
+		for (int i = 0; i < reader.getAttributeCount(); i++) {
+			String namespaceURI = StringUtils.trimToNull(reader.getAttributeNamespace(i));
+			element.setAttributeNS(namespaceURI, qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)), reader.getAttributeValue(i));
+		}
+		return element;
+	}
+
+	private static String qualifiedName(String prefix, String localName) {
+		return StringUtils.isEmpty(prefix) ? localName : prefix + ":" + localName;
+	}
+
+	private static String xmlnsAttributeName(String prefix) {
+		return StringUtils.isEmpty(prefix) ? XMLConstants.XMLNS_ATTRIBUTE : XMLConstants.XMLNS_ATTRIBUTE + ":" + prefix;
+	}
+
+	/**
+	 * Close the StAX reader.  Note that, per the StAX API, this does not close the underlying input stream.
+	 */
+	@Override
+	public void close() throws XMLStreamException {
+		reader.close();
+	}
+
+}
@@ -34,6 +34,7 @@ import java.util.Optional;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
 
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -67,7 +68,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.stereotype.Component;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -92,6 +92,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 	NibrsXmlFileProperties nibrsXmlFileProperties;
 
 	private DocumentBuilder documentBuilder; 
+	private XMLInputFactory xmlInputFactory;
 	private List<String> automaticWeaponCodes = Arrays.asList("11A", "12A", "13A", "14A", "15A");
 
 	public XmlIncidentBuilder() throws ParserConfigurationException {
@@ -116,6 +117,8 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 
 		documentBuilder = documentBuilderFactory.newDocumentBuilder();
 		documentBuilder.setEntityResolver(new NullResolver());
+		
+		xmlInputFactory = ReportElementReader.createXmlInputFactory();
 	}
 
 	public void addIncidentListener(ReportListener listener) {
@@ -127,7 +130,8 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 	}
 
 	/**
-	 * Read NIBRS incidents in the XML format from the input stream.
+	 * Read NIBRS incidents in the XML format from the input stream.  The submission is streamed; each nibrs:Report is
+	 * read into its own small DOM, built, and handed to the listeners before the next one is read.
 	 * @param reader the source of the data
 	 * @throws Exception 
 	 */
@@ -139,19 +143,17 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 		
 		List<NIBRSError> errorList = new ArrayList<NIBRSError>();
 		
-		Document document;
-		
-		try {
-			document = documentBuilder.parse(inputStream);
-			NodeList reportElements = (NodeList) XmlUtils.xPathNodeListSearch(document, "nibrs:Submission/nibrs:Report");
+		try (ReportElementReader reportElementReader = new ReportElementReader(inputStream, xmlInputFactory, documentBuilder)) {
 			
-			for(int i=0; i < reportElements.getLength(); i++){
+			Element reportNode;
+			int reportIndex = 0;
+			
+			while ((reportNode = reportElementReader.nextReportElement()) != null) {
+				reportIndex++;
 				ReportSource reportSource = new ReportSource();
-				reportSource.setSourceLocation(String.valueOf(i+1));
+				reportSource.setSourceLocation(String.valueOf(reportIndex));
 				reportSource.setSourceName(readerLocationName);
 				
-				Element reportNode = (Element)reportElements.item(i);
-				
 				ReportBaseData reportBaseData = new ReportBaseData();
 				List<NIBRSError> reportBaseDataErrors = reportBaseData.setData(reportSource, reportNode);
 				errorList.addAll(reportBaseDataErrors);
@@ -296,7 +298,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 			
 			newArrestee.setArresteeSequenceNumber(sequenceNumber);
 			
-			Node arrestNode = XmlUtils.xPathNodeSearch(reportElement, "j:Arrest[@s:id = ../j:ArrestSubjectAssociation[j:Subject/@s:ref='"+ arresteeId +  "']/nc:Activity/@s:ref]");
+			Node arrestNode = XmlUtils.xPathNodeSearch(reportElement, "j:Arrest[@s:id = ../j:ArrestSubjectAssociation[j:Subject/@s:ref = $ref]/nc:Activity/@s:ref]", "ref", arresteeId);
 			
 			if (arrestNode != null){
 				newArrestee.setArrestTransactionNumber(XmlUtils.xPathStringSearch(arrestNode, "nc:ActivityIdentification/nc:IdentificationID"));
@@ -342,7 +344,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 			}
 			
 			String personRef = XmlUtils.xPathStringSearch(arresteeElement, "nc:RoleOfPerson/@s:ref");
-			Node personNode = XmlUtils.xPathNodeSearch(reportElement, "nc:Person[@s:id ='" + personRef + "']");
+			Node personNode = XmlUtils.xPathNodeSearch(reportElement, "nc:Person[@s:id = $ref]", "ref", personRef);
 			
 			newArrestee.setAge(parseAgeNode(personNode, newArrestee));
 			newArrestee.setSex(XmlUtils.xPathStringSearch(personNode, "j:PersonSexCode"));
@@ -602,7 +604,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 			
 			newArrestee.setArresteeSequenceNumber(sequenceNumber);
 			
-			Node arrestNode = XmlUtils.xPathNodeSearch(reportElement, "j:Arrest[@s:id = ../j:ArrestSubjectAssociation[j:Subject/@s:ref='"+ arresteeId +  "']/nc:Activity/@s:ref]");
+			Node arrestNode = XmlUtils.xPathNodeSearch(reportElement, "j:Arrest[@s:id = ../j:ArrestSubjectAssociation[j:Subject/@s:ref = $ref]/nc:Activity/@s:ref]", "ref", arresteeId);
 			
 			if (arrestNode != null){
 				newArrestee.setArrestTransactionNumber(XmlUtils.xPathStringSearch(arrestNode, "nc:ActivityIdentification/nc:IdentificationID"));
@@ -647,7 +649,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 			}
 			
 			String personRef = XmlUtils.xPathStringSearch(arresteeElement, "nc:RoleOfPerson/@s:ref");
-			Node personNode = XmlUtils.xPathNodeSearch(reportElement, "nc:Person[@s:id ='" + personRef + "']");
+			Node personNode = XmlUtils.xPathNodeSearch(reportElement, "nc:Person[@s:id = $ref]", "ref", personRef);
 			
 			newArrestee.setAge(parseAgeNode(personNode, newArrestee));
 			newArrestee.setSex(XmlUtils.xPathStringSearch(personNode, "j:PersonSexCode"));
@@ -699,7 +701,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 			}
 			
 			String personRef = XmlUtils.xPathStringSearch(offenderElement, "nc:RoleOfPerson/@s:ref");
-			Node personNode = XmlUtils.xPathNodeSearch(reportElement, "nc:Person[@s:id ='" + personRef + "']");
+			Node personNode = XmlUtils.xPathNodeSearch(reportElement, "nc:Person[@s:id = $ref]", "ref", personRef);
 			
 			newOffender.setAge(parseAgeNode(personNode, newOffender));
 			newOffender.setSex(XmlUtils.xPathStringSearch(personNode, "j:PersonSexCode"));
@@ -755,20 +757,20 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 				}
 			}
 
-			NodeList offenseUcrCodeNodes = XmlUtils.xPathNodeListSearch(reportElement, "j:Offense[@s:id = ../j:OffenseVictimAssociation[j:Victim/@s:ref = '" 
-						+ victimId + "']/j:Offense/@s:ref]/nibrs:OffenseUCRCode");
+			NodeList offenseUcrCodeNodes = XmlUtils.xPathNodeListSearch(reportElement, 
+					"j:Offense[@s:id = ../j:OffenseVictimAssociation[j:Victim/@s:ref = $ref]/j:Offense/@s:ref]/nibrs:OffenseUCRCode", "ref", victimId);
 			for (int j = 0; j < offenseUcrCodeNodes.getLength() && j < VictimSegment.UCR_OFFENSE_CODE_CONNECTION_COUNT; j++) {
 				Element offenseUcrCode = (Element) offenseUcrCodeNodes.item(j);
 				newVictim.setUcrOffenseCodeConnection(j, offenseUcrCode.getTextContent());
 			}
 			
-			NodeList subjectVictimAssociations = XmlUtils.xPathNodeListSearch(reportElement, "j:SubjectVictimAssociation[j:Victim/@s:ref = '"+ victimId + "']"); 
+			NodeList subjectVictimAssociations = XmlUtils.xPathNodeListSearch(reportElement, "j:SubjectVictimAssociation[j:Victim/@s:ref = $ref]", "ref", victimId); 
 			for (int j = 0; j < subjectVictimAssociations.getLength() && j < VictimSegment.OFFENDER_NUMBER_RELATED_COUNT; j++){
 				Element subjectVictimAssociation = ( Element ) subjectVictimAssociations.item(j); 
 				String offenderRef = XmlUtils.xPathStringSearch(subjectVictimAssociation, "j:Subject/@s:ref");
 				
 				String offenderNumberRelatedString = 
-						XmlUtils.xPathStringSearch(reportElement, "j:Subject[@s:id='"+ offenderRef + "']/j:SubjectSequenceNumberText");
+						XmlUtils.xPathStringSearch(reportElement, "j:Subject[@s:id = $ref]/j:SubjectSequenceNumberText", "ref", offenderRef);
 				
 				ParsedObject<Integer> offenderNumberRelated = newVictim.getOffenderNumberRelated(j);
 				offenderNumberRelated.setInvalid(false);
@@ -808,7 +810,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 			newVictim.setTypeOfVictim(XmlUtils.xPathStringSearch(victimElement, "j:VictimCategoryCode"));
 			
 			String personRef = XmlUtils.xPathStringSearch(victimElement, "nc:RoleOfPerson/@s:ref");
-			Node personNode = XmlUtils.xPathNodeSearch(reportElement, "nc:Person[@s:id ='" + personRef + "']");
+			Node personNode = XmlUtils.xPathNodeSearch(reportElement, "nc:Person[@s:id = $ref]", "ref", personRef);
 			
 			newVictim.setAge(parseAgeNode(personNode, newVictim));
 			newVictim.setSex(XmlUtils.xPathStringSearch(personNode, "j:PersonSexCode"));
@@ -824,7 +826,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 				newVictim.setTypeOfInjury(j, injuryCategoryCode.getTextContent());
 			}
 
-			Node enforcementOfficialNode = XmlUtils.xPathNodeSearch(reportElement, "j:EnforcementOfficial[nc:RoleOfPerson/@s:ref = '" + personRef + "']"); 
+			Node enforcementOfficialNode = XmlUtils.xPathNodeSearch(reportElement, "j:EnforcementOfficial[nc:RoleOfPerson/@s:ref = $ref]", "ref", personRef); 
 			
 			if (enforcementOfficialNode != null){
 				newVictim.setTypeOfOfficerActivityCircumstance(XmlUtils.xPathStringSearch(enforcementOfficialNode, 
@@ -1107,7 +1109,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 			String offenseAttemptedIndicatorString = XmlUtils.xPathStringSearch(offenseElement, "j:OffenseAttemptedIndicator"); 
 			Boolean offenseAttemptedIndicator = BooleanUtils.toBooleanObject(offenseAttemptedIndicatorString); 
 			newOffense.setOffenseAttemptedCompleted(BooleanUtils.toString(offenseAttemptedIndicator, "A", "C", null));
-			newOffense.setLocationType(XmlUtils.xPathStringSearch(reportElement, "nc:Location[@s:id = ../j:OffenseLocationAssociation[j:Offense/@s:ref = '" + offenseId + "']/nc:Location/@s:ref]/nibrs:LocationCategoryCode"));
+			newOffense.setLocationType(XmlUtils.xPathStringSearch(reportElement, "nc:Location[@s:id = ../j:OffenseLocationAssociation[j:Offense/@s:ref = $ref]/nc:Location/@s:ref]/nibrs:LocationCategoryCode", "ref", offenseId));
 			
 			String premisesEnteredString = XmlUtils.xPathStringSearch(offenseElement, "j:OffenseStructuresEnteredQuantity");
 			ParsedObject<Integer> premisesEntered = newOffense.getNumberOfPremisesEntered();
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.xmlfile.importer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.search.nibrs.xml.XmlUtils;
+import org.w3c.dom.Element;
+
+public class ReportElementReaderTest {
+
+	private static final String SUBMISSION =
+			"<nibrs:Submission xmlns:nibrs=\"http://fbi.gov/cjis/nibrs/2019\" xmlns:nc=\"http://release.niem.gov/niem/niem-core/3.0/\" "
+			+ "xmlns:s=\"http://release.niem.gov/niem/structures/3.0/\">"
+			+ "<nibrs:MessageMetadata><nibrs:Report><nc:IdentificationID>nested</nc:IdentificationID></nibrs:Report></nibrs:MessageMetadata>"
+			+ "<nibrs:Report><nc:Incident s:id=\"Incident1\"><nc:ActivityIdentification><nc:IdentificationID>"
+			+ "<![CDATA[INC]]>-1</nc:IdentificationID></nc:ActivityIdentification></nc:Incident></nibrs:Report>"
+			+ "<nibrs:Report><nc:Incident s:id=\"Incident2\"><nc:ActivityIdentification><nc:IdentificationID>INC-2</nc:IdentificationID>"
+			+ "</nc:ActivityIdentification></nc:Incident></nibrs:Report>"
+			+ "</nibrs:Submission>";
+
+	private DocumentBuilder documentBuilder;
+
+	@Before
+	public void setUp() throws Exception {
+		DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+		documentBuilderFactory.setNamespaceAware(true);
+		documentBuilder = documentBuilderFactory.newDocumentBuilder();
+	}
+
+	@Test
+	public void testReportsAreReadOneAtATime() throws Exception {
+		InputStream inputStream = new ByteArrayInputStream(SUBMISSION.getBytes(StandardCharsets.UTF_8));
+		try (ReportElementReader reader = new ReportElementReader(inputStream, ReportElementReader.createXmlInputFactory(), documentBuilder)) {
+
+			Element report = reader.nextReportElement();
+			assertSame(report, report.getOwnerDocument().getDocumentElement());
+			assertEquals("INC-1", XmlUtils.xPathStringSearch(report, "nc:Incident/nc:ActivityIdentification/nc:IdentificationID"));
+			assertEquals("Incident1", XmlUtils.xPathStringSearch(report, "nc:Incident/@s:id"));
+
+			report = reader.nextReportElement();
+			assertEquals("INC-2", XmlUtils.xPathStringSearch(report, "nc:Incident/nc:ActivityIdentification/nc:IdentificationID"));
+			assertEquals("http://fbi.gov/cjis/nibrs/2019", report.getAttribute("xmlns:nibrs"));
+
+			assertNull(reader.nextReportElement());
+		}
+	}
+
+	@Test
+	public void testSameReportsAsDom() throws Exception {
+		File sampleFile = new File("src/test/resources/iep-sample/nibrs_AllFields_Sample.xml");
+		int domReportCount = XmlUtils.xPathNodeListSearch(documentBuilder.parse(sampleFile), "nibrs:Submission/nibrs:Report").getLength();
+		int streamedReportCount = 0;
+		try (InputStream inputStream = new FileInputStream(sampleFile);
+				ReportElementReader reader = new ReportElementReader(inputStream, ReportElementReader.createXmlInputFactory(), documentBuilder)) {
+			while (reader.nextReportElement() != null) {
+				streamedReportCount++;
+			}
+		}
+		assertEquals(domReportCount, streamedReportCount);
+	}
+
+}
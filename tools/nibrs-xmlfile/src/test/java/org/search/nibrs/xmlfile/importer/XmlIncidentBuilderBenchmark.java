@@ -0,0 +1,89 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.xmlfile.importer;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.xmlfile.NibrsXmlFileProperties;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ * JMH benchmark of the per-report cost of building reports from a NIEM XML submission.  Not run as part of the unit test
+ * suite; run the main method with the test classpath, from the module directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XmlIncidentBuilderBenchmark {
+
+	@Param({"nibrs_AllFields_Sample.xml", "nibrs_GroupBArrest_Sample_multipleArrestees.xml"})
+	public String sampleFile;
+
+	private byte[] submission;
+	private XmlIncidentBuilder incidentBuilder;
+	private AbstractReport lastReport;
+
+	@Setup
+	public void setUp() throws Exception {
+		// the builder logs every report at INFO; keep that out of the measurement
+		((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+		submission = Files.readAllBytes(Paths.get("src/test/resources/iep-sample", sampleFile));
+		incidentBuilder = new XmlIncidentBuilder(new NibrsXmlFileProperties());
+		incidentBuilder.addIncidentListener((AbstractReport newReport, List<NIBRSError> errorList) -> lastReport = newReport);
+	}
+
+	/**
+	 * Each sample submission holds a single report, so this is the per-report parse and build cost.
+	 */
+	@Benchmark
+	public AbstractReport buildReport() throws Exception {
+		incidentBuilder.buildIncidents(new ByteArrayInputStream(submission), "benchmark");
+		return lastReport;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(XmlIncidentBuilderBenchmark.class.getSimpleName()).addProfiler("gc").build();
+		new Runner(options).run();
+	}
+
+}
@@ -28,6 +28,7 @@ public class AppProperties {
 	private Boolean allowSubmitToFbi = true;
 	private Boolean privateSummaryReportSite=false; 
 	private String xmlDocumentDownloadRootFolder = "/tmp/nibrs/xmlDownload";
+	private String submittingAgencyOri = "SUBORI123";
 	
 	private Boolean securityEnabled = false;
 	private Boolean allowAccessWithoutSamlToken = false;
@@ -48,6 +49,14 @@ public class AppProperties {
 	
 	private String restServiceBaseUrl = "http://localhost:9080";
 	
+	private Integer persistBatchSize = 30;
+	private Integer persistMinBatchSize = 10;
+	private Integer persistMaxBatchSize = 200;
+	private Integer persistInFlightWindow = 4;
+	private Integer persistTargetLatencyMillis = 2000;
+	private Integer persistExecutorPoolSize = 4;
+	private Integer persistExecutorQueueCapacity = 100;
+	
 	private final Map<String, String> externalLinksMapping = new HashMap<>();
 	private final Map<String, String> aboutLinksMapping = new HashMap<>();
 
@@ -183,6 +192,14 @@ public class AppProperties {
 		this.xmlDocumentDownloadRootFolder = xmlDocumentDownloadRootFolder;
 	}
 
+	public String getSubmittingAgencyOri() {
+		return submittingAgencyOri;
+	}
+
+	public void setSubmittingAgencyOri(String submittingAgencyOri) {
+		this.submittingAgencyOri = submittingAgencyOri;
+	}
+
 	public Boolean getFlatFileToXmlFileConversion() {
 		return flatFileToXmlFileConversion;
 	}
@@ -207,4 +224,60 @@ public class AppProperties {
 		this.useStateRaceInSummaryReport = useStateRaceInSummaryReport;
 	}
 
+	public Integer getPersistBatchSize() {
+		return persistBatchSize;
+	}
+
+	public void setPersistBatchSize(Integer persistBatchSize) {
+		this.persistBatchSize = persistBatchSize;
+	}
+
+	public Integer getPersistMinBatchSize() {
+		return persistMinBatchSize;
+	}
+
+	public void setPersistMinBatchSize(Integer persistMinBatchSize) {
+		this.persistMinBatchSize = persistMinBatchSize;
+	}
+
+	public Integer getPersistMaxBatchSize() {
+		return persistMaxBatchSize;
+	}
+
+	public void setPersistMaxBatchSize(Integer persistMaxBatchSize) {
+		this.persistMaxBatchSize = persistMaxBatchSize;
+	}
+
+	public Integer getPersistInFlightWindow() {
+		return persistInFlightWindow;
+	}
+
+	public void setPersistInFlightWindow(Integer persistInFlightWindow) {
+		this.persistInFlightWindow = persistInFlightWindow;
+	}
+
+	public Integer getPersistTargetLatencyMillis() {
+		return persistTargetLatencyMillis;
+	}
+
+	public void setPersistTargetLatencyMillis(Integer persistTargetLatencyMillis) {
+		this.persistTargetLatencyMillis = persistTargetLatencyMillis;
+	}
+
+	public Integer getPersistExecutorPoolSize() {
+		return persistExecutorPoolSize;
+	}
+
+	public void setPersistExecutorPoolSize(Integer persistExecutorPoolSize) {
+		this.persistExecutorPoolSize = persistExecutorPoolSize;
+	}
+
+	public Integer getPersistExecutorQueueCapacity() {
+		return persistExecutorQueueCapacity;
+	}
+
+	public void setPersistExecutorQueueCapacity(Integer persistExecutorQueueCapacity) {
+		this.persistExecutorQueueCapacity = persistExecutorQueueCapacity;
+	}
+
 }
\ No newline at end of file
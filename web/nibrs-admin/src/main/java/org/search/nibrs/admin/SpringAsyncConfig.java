@@ -15,11 +15,35 @@
  */
 package org.search.nibrs.admin;
 
+import javax.annotation.Resource;
+
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableAsync
 public class SpringAsyncConfig { 
 	
-}
\ No newline at end of file
+	public static final String REPORT_PERSIST_EXECUTOR = "reportPersistExecutor";
+	
+	@Resource
+	AppProperties appProperties;
+	
+	/**
+	 * The threads persisting the valid reports of the uploads, bounded so a few large uploads can not take over the 
+	 * application's threads.  An upload waits in the queue when all the threads are busy.
+	 */
+	@Bean(name = REPORT_PERSIST_EXECUTOR)
+	public ThreadPoolTaskExecutor reportPersistExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(appProperties.getPersistExecutorPoolSize());
+		executor.setMaxPoolSize(appProperties.getPersistExecutorPoolSize());
+		executor.setQueueCapacity(appProperties.getPersistExecutorQueueCapacity());
+		executor.setThreadNamePrefix("report-persist-");
+		executor.setWaitForTasksToCompleteOnShutdown(false);
+		return executor;
+	}
+	
+}
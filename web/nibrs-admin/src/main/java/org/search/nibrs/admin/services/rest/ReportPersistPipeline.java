@@ -0,0 +1,206 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.admin.services.rest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.search.nibrs.admin.AppProperties;
+import org.search.nibrs.admin.uploadfile.ReportProcessProgress;
+import org.search.nibrs.model.AbstractReport;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Posts the reports of one type to the staging data rest service without waiting for each response: up to
+ * persistInFlightWindow batches are in flight, and the reader of the reports only waits when the window is full.
+ *
+ * The batch size starts at persistBatchSize and follows the observed latency, halving when a post takes longer than
+ * persistTargetLatencyMillis and growing by a quarter when it takes less than half of it.  A batch holding a report
+ * that is still in flight in another batch waits for the posts in flight, so the versions of a report are persisted
+ * in the order of the file.
+ */
+final class ReportPersistPipeline<T extends AbstractReport> {
+
+	private final Log log = LogFactory.getLog(this.getClass());
+
+	private final String reportsDescription;
+	private final Function<List<T>, Mono<String>> post;
+	private final ReportProcessProgress progress;
+
+	private final int minBatchSize;
+	private final int maxBatchSize;
+	private final long targetLatencyMillis;
+	private final int inFlightWindow;
+
+	private final Semaphore inFlight;
+	private final AtomicInteger batchSize;
+	private final Set<String> inFlightIdentifiers = ConcurrentHashMap.newKeySet();
+	private final AtomicReference<RuntimeException> abortCause = new AtomicReference<>();
+	private List<T> pending = new ArrayList<>();
+
+	/**
+	 * @param reportsDescription the reports in the log messages, e.g. "group A incident reports"
+	 * @param post the request posting a batch
+	 */
+	ReportPersistPipeline(String reportsDescription, Function<List<T>, Mono<String>> post, ReportProcessProgress progress,
+			AppProperties appProperties) {
+		this.reportsDescription = reportsDescription;
+		this.post = post;
+		this.progress = progress;
+		minBatchSize = Math.max(1, appProperties.getPersistMinBatchSize());
+		maxBatchSize = Math.max(minBatchSize, appProperties.getPersistMaxBatchSize());
+		targetLatencyMillis = appProperties.getPersistTargetLatencyMillis();
+		inFlightWindow = Math.max(1, appProperties.getPersistInFlightWindow());
+		inFlight = new Semaphore(inFlightWindow);
+		batchSize = new AtomicInteger(Math.min(maxBatchSize, Math.max(minBatchSize, appProperties.getPersistBatchSize())));
+	}
+
+	/**
+	 * Add reports in file order, posting a batch whenever enough reports are pending.
+	 */
+	void add(List<T> reports) {
+		for (T report : reports) {
+			pending.add(report);
+			if (pending.size() >= batchSize.get()) {
+				send();
+			}
+		}
+	}
+
+	/**
+	 * Post the pending reports and wait for all the posts in flight to finish.
+	 * @throws RuntimeException the connection failure that aborted the pipeline
+	 */
+	void finish() {
+		if (!pending.isEmpty()) {
+			send();
+		}
+		awaitInFlight();
+		checkAborted();
+	}
+
+	private void send() {
+		checkAborted();
+		List<T> batch = pending;
+		pending = new ArrayList<>();
+
+		Set<String> identifiers = batch.stream()
+				.map(AbstractReport::getIdentifier)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		if (!Collections.disjoint(inFlightIdentifiers, identifiers)) {
+			awaitInFlight();
+		}
+
+		acquire(1);
+		if (abortCause.get() != null) {
+			inFlight.release();
+			checkAborted();
+		}
+		inFlightIdentifiers.addAll(identifiers);
+
+		long start = System.nanoTime();
+		Mono.defer(() -> post.apply(batch))
+			.doFinally(signal -> {
+				inFlightIdentifiers.removeAll(identifiers);
+				inFlight.release();
+			})
+			.subscribe(
+				response -> {},
+				error -> failed(batch, error),
+				() -> persisted(batch, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+	}
+
+	private void persisted(List<T> batch, long latencyMillis) {
+		progress.increaseProcessedCount(batch.size());
+		progress.increasePersistedCount(batch.size());
+
+		int nextBatchSize = batchSize.updateAndGet(size -> {
+			if (latencyMillis > targetLatencyMillis) {
+				return Math.max(minBatchSize, size / 2);
+			}
+			else if (latencyMillis < targetLatencyMillis / 2) {
+				return Math.min(maxBatchSize, size + Math.max(1, size / 4));
+			}
+			return size;
+		});
+		log.info("Progress: " + progress.getProcessedCount() + "/" + progress.getTotalCount() + ", posted " + batch.size()
+			+ " " + reportsDescription + " in " + latencyMillis + " ms, next batch size " + nextBatchSize);
+	}
+
+	private void failed(List<T> batch, Throwable error) {
+		List<String> identifiers = batch.stream()
+				.map(AbstractReport::getIdentifier)
+				.collect(Collectors.toList());
+
+		if (error instanceof WebClientRequestException || error instanceof ResourceAccessException) {
+			log.error("Failed to connect to the rest service to process the " + reportsDescription + " with Identifiers " + identifiers);
+			abortCause.compareAndSet(null, (RuntimeException) error);
+			progress.setAborted(true);
+			return;
+		}
+
+		progress.increaseProcessedCount(batch.size());
+		batch.stream()
+			.map(AbstractReport::getUniqueReportDescription)
+			.forEach(item -> progress.addFailedToProcess(item));
+		log.warn("Failed to persist " + reportsDescription + " " + identifiers);
+		log.error(error);
+		log.info("Progress: " + progress.getProcessedCount() + "/" + progress.getTotalCount());
+	}
+
+	private void awaitInFlight() {
+		acquire(inFlightWindow);
+		inFlight.release(inFlightWindow);
+	}
+
+	private void acquire(int permits) {
+		try {
+			inFlight.acquire(permits);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			progress.setAborted(true);
+			throw new IllegalStateException("Interrupted while persisting the " + reportsDescription, e);
+		}
+	}
+
+	/**
+	 * Throw the connection failure that aborted the pipeline, once the other posts in flight are done and counted.
+	 */
+	private void checkAborted() {
+		RuntimeException cause = abortCause.get();
+		if (cause != null) {
+			awaitInFlight();
+			throw cause;
+		}
+	}
+
+}
@@ -15,6 +15,7 @@
  */
 package org.search.nibrs.admin.services.rest;
 
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.LinkedHashMap;
@@ -25,13 +26,14 @@ import java.util.stream.Collectors;
 
 import javax.annotation.Resource;
 
-import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.search.nibrs.admin.AppProperties;
+import org.search.nibrs.admin.SpringAsyncConfig;
 import org.search.nibrs.admin.security.AuthUser;
 import org.search.nibrs.admin.uploadfile.ReportProcessProgress;
 import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.model.AbstractReport;
 import org.search.nibrs.model.GroupAIncidentReport;
 import org.search.nibrs.model.GroupBArrestReport;
 import org.search.nibrs.stagingdata.model.FileUploadLogs;
@@ -45,18 +47,17 @@ import org.search.nibrs.stagingdata.model.search.PrecertErrorSearchRequest;
 import org.search.nibrs.stagingdata.model.search.SearchResult;
 import org.search.nibrs.stagingdata.model.segment.AdministrativeSegment;
 import org.search.nibrs.stagingdata.model.segment.ArrestReportSegment;
-import org.search.nibrs.util.CustomPair;
 import org.search.nibrs.validate.common.ValidationResults;
+import org.search.nibrs.validation.ValidatorProperties;
+import org.search.nibrs.xml.exporter.NibrsNiemDocumentWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientRequestException;
 
 @Service
 @Profile({"incident-search"})
@@ -65,14 +66,18 @@ public class RestService{
 
 	private final WebClient webClient;
 	
+	private final NibrsNiemDocumentWriter niemDocumentWriter;
+	
 	private DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS");
 
 	@Resource
 	AppProperties appProperties;
 
 	@Autowired
-	public RestService(WebClient.Builder webClientBuilder, AppProperties appProperties) {
+	public RestService(WebClient.Builder webClientBuilder, AppProperties appProperties, ValidatorProperties validatorProperties) {
 		this.webClient = webClientBuilder.baseUrl(appProperties.getRestServiceBaseUrl()).build();
+		this.niemDocumentWriter = new NibrsNiemDocumentWriter(appProperties.getSubmittingAgencyOri(), 
+				NibrsNiemDocumentWriter.getDefaultNonNumericAgeCodeMapping(), validatorProperties.getStateToFbiRaceCodeMapping());
 	}
 	
 	public LinkedHashMap<String, Integer> getAgencies(Integer ownerId) {
@@ -156,96 +161,6 @@ public class RestService{
 				.block();
 	}
 	
-	public void persistGroupBReport(List<GroupBArrestReport> groupBArrestReports, ReportProcessProgress persistReportTask) {
-		try{
-			webClient.post().uri("/arrestReports")
-			.body(BodyInserters.fromValue(groupBArrestReports))
-			.retrieve()
-			.bodyToMono(String.class)
-			.block();
-			
-			persistReportTask.increaseProcessedCount(groupBArrestReports.size());
-			persistReportTask.increasePersistedCount(groupBArrestReports.size());
-			log.info("Progress: " + persistReportTask.getProcessedCount() + "/" + persistReportTask.getTotalCount());
-		}
-		catch(WebClientRequestException wre){
-			List<String> identifiers = groupBArrestReports.stream()
-					.map(GroupBArrestReport::getIdentifier)
-					.collect(Collectors.toList());
-			log.error("Failed to connect to the rest service to process the Group B Arrest Reports " + 
-					" with Identifiers " + identifiers);
-			persistReportTask.setAborted(true);
-			throw wre;
-		}
-		catch(ResourceAccessException rae){
-			List<String> identifiers = groupBArrestReports.stream()
-					.map(GroupBArrestReport::getIdentifier)
-					.collect(Collectors.toList());
-			log.error("Failed to connect to the rest service to process the Group B Arrest Reports " + 
-					" with Identifiers " + identifiers);
-			persistReportTask.setAborted(true);
-			throw rae;
-		}
-		catch(Exception e){
-			persistReportTask.increaseProcessedCount(groupBArrestReports.size());
-			groupBArrestReports.stream()
-				.map(GroupBArrestReport::getUniqueReportDescription)
-				.forEach(item->persistReportTask.addFailedToProcess(item));
-			List<String> identifiers = groupBArrestReports.stream()
-					.map(GroupBArrestReport::getIdentifier)
-					.collect(Collectors.toList());
-			log.warn("Failed to persist incident " + identifiers);
-			log.error(e);
-			log.info("Progress: " + persistReportTask.getProcessedCount() + "/" + persistReportTask.getTotalCount());
-		}
-	}
-	
-	public void persistGroupAReport(List<GroupAIncidentReport> groupAIncidentReports, ReportProcessProgress persistReportTask) {
-		
-		try {
-			log.info("About to post for group A incident report " + groupAIncidentReports.size());
-			webClient.post().uri("/groupAIncidentReports")
-				.body(BodyInserters.fromValue(groupAIncidentReports))
-				.retrieve()
-				.bodyToMono(String.class)
-				.block();
-			persistReportTask.increaseProcessedCount(groupAIncidentReports.size());
-			persistReportTask.increasePersistedCount(groupAIncidentReports.size());
-			log.info("Progress: " + persistReportTask.getProcessedCount() + "/" + persistReportTask.getTotalCount());
-		}
-		catch(WebClientRequestException wre){
-			List<String> identifiers = groupAIncidentReports.stream()
-					.map(GroupAIncidentReport::getIncidentNumber)
-					.collect(Collectors.toList());
-			log.error("Failed to connect to the rest service to process the group A reports " + 
-					"  Identifiers " + identifiers);
-			persistReportTask.setAborted(true);
-			throw wre;
-		}
-		catch(ResourceAccessException rae){
-			List<String> identifiers = groupAIncidentReports.stream()
-					.map(GroupAIncidentReport::getIncidentNumber)
-					.collect(Collectors.toList());
-			log.error("Failed to connect to the rest service to process the group A reports " + 
-					"  Identifiers " + identifiers);
-			persistReportTask.setAborted(true);
-			throw rae;
-		}
-		catch(Exception e){
-			persistReportTask.increaseProcessedCount(groupAIncidentReports.size());
-			
-			groupAIncidentReports.stream()
-				.map(GroupAIncidentReport::getUniqueReportDescription)
-				.forEach(item->persistReportTask.addFailedToProcess(item));
-			List<String> identifiers = groupAIncidentReports.stream()
-					.map(GroupAIncidentReport::getIncidentNumber)
-					.collect(Collectors.toList());
-			log.warn("Failed to persist incident " + identifiers);
-			log.error(e);
-			log.info("Progress: " + persistReportTask.getProcessedCount() + "/" + persistReportTask.getTotalCount());
-		}
-	}
-	
 	public String generateSubmissionFiles(IncidentSearchRequest incidentSearchRequest) {
 		SubmissionTrigger submissionTrigger = new SubmissionTrigger(incidentSearchRequest);
 		log.info("submissionTrigger: " + submissionTrigger);
@@ -307,6 +222,7 @@ public class RestService{
 		String response = ""; 
 		String deleteGroupAIncidentsResponse = "";
 		String deleteGroupBArrestsResponse = "";
+		String deletePreCertificationErrorsResponse = "";
 		try { 
 			deleteGroupAIncidentsResponse = webClient.method(HttpMethod.DELETE)
 					.uri("/groupAIncidentReports")
@@ -320,36 +236,61 @@ public class RestService{
 					.retrieve()
 					.bodyToMono(String.class)
 					.block();
+			deletePreCertificationErrorsResponse = webClient.method(HttpMethod.DELETE)
+					.uri("/preCertificationErrors")
+					.body(BodyInserters.fromValue(incidentDeleteRequest))
+					.retrieve()
+					.bodyToMono(String.class)
+					.block();
 			
-			response = deleteGroupAIncidentsResponse + "\n" + deleteGroupBArrestsResponse;
+			response = deleteGroupAIncidentsResponse + "\n" + deleteGroupBArrestsResponse + "\n" + deletePreCertificationErrorsResponse;
 		}
 		catch(Throwable e) {
-			log.error("Got error when calling the delete services of /groupAIncidentReports or /arrestReports ", e);
+			log.error("Got error when calling the delete services of /groupAIncidentReports, /arrestReports or /preCertificationErrors ", e);
 			response = "Failed to process the request, please report the error or check back later."; 
 		}
 		
 		return response; 
 	}
 	
-	@Async
+	@Async(SpringAsyncConfig.REPORT_PERSIST_EXECUTOR)
 	public void persistValidReportsAsync(ReportProcessProgress persistReportTask, ValidationResults validationResults) {
 		log.info("Execute method asynchronously. "
 			      + Thread.currentThread().getName());
 		persistReportTask.setStarted(true);
-		for(List<GroupAIncidentReport> groupAIncidentReports: ListUtils.partition(validationResults.getGroupAIncidentReports(), 30)){
-			groupAIncidentReports.forEach(report-> report.setOwnerId(validationResults.getOwnerId()));
-			this.persistGroupAReport(groupAIncidentReports, persistReportTask);
+		try {
+			ReportPersistPipeline<GroupAIncidentReport> groupAPipeline = 
+					newPersistPipeline("group A incident reports", "/groupAIncidentReports", persistReportTask);
+			validationResults.forEachGroupAIncidentReportBatch(appProperties.getPersistMinBatchSize(), groupAIncidentReports -> {
+				groupAIncidentReports.forEach(report-> report.setOwnerId(validationResults.getOwnerId()));
+				groupAPipeline.add(groupAIncidentReports);
+			});
+			groupAPipeline.finish();
+			
+			ReportPersistPipeline<GroupBArrestReport> groupBPipeline = 
+					newPersistPipeline("group B arrest reports", "/arrestReports", persistReportTask);
+			validationResults.forEachGroupBArrestReportBatch(appProperties.getPersistMinBatchSize(), groupBArrestReports -> {
+				groupBArrestReports.forEach(report-> report.setOwnerId(validationResults.getOwnerId()));
+				groupBPipeline.add(groupBArrestReports);
+			});
+			groupBPipeline.finish();
 		}
-		
-		List<List<GroupBArrestReport>> groupBArrestReportsSublists = 
-				ListUtils.partition(validationResults.getGroupBArrestReports(), 30); 
-		for(List<GroupBArrestReport> groupBArrestReports: groupBArrestReportsSublists){
-			groupBArrestReports.forEach(report-> report.setOwnerId(validationResults.getOwnerId()));
-			this.persistGroupBReport(groupBArrestReports, persistReportTask);
+		finally {
+			validationResults.discardSpooledReports();
 		}
 		
 	}
 	
+	private <T extends AbstractReport> ReportPersistPipeline<T> newPersistPipeline(String reportsDescription, String uri, 
+			ReportProcessProgress persistReportTask) {
+		return new ReportPersistPipeline<T>(reportsDescription, 
+				reports -> webClient.post().uri(uri)
+					.body(BodyInserters.fromValue(reports))
+					.retrieve()
+					.bodyToMono(String.class), 
+				persistReportTask, appProperties);
+	}
+	
 	public String persistPreCertificationErrors(List<NIBRSError> nibrsErrors, Integer ownerId) {
 		log.info("Execute method asynchronously. "
 				+ Thread.currentThread().getName());
@@ -429,17 +370,17 @@ public class RestService{
 		String outputFolder = getRootFolderPath(authUser);
 		reportConversionProgress.setOutputFolder(outputFolder);
 
-		for(List<GroupAIncidentReport> groupAIncidentReports: ListUtils.partition(validationToConvertResults.getGroupAIncidentReports(), 50)){
-			CustomPair<String, List<GroupAIncidentReport>> groupAIncidentsToConvert = 
-					new CustomPair<String, List<GroupAIncidentReport>>(outputFolder, groupAIncidentReports); 
-			this.convertGroupAReport(groupAIncidentsToConvert, reportConversionProgress);
+		try {
+			validationToConvertResults.forEachGroupAIncidentReportBatch(50, groupAIncidentReports -> {
+				this.convertGroupAReport(groupAIncidentReports, outputFolder, reportConversionProgress);
+			});
+			
+			validationToConvertResults.forEachGroupBArrestReportBatch(50, groupBArrestReports -> {
+				this.convertGroupBReport(groupBArrestReports, outputFolder, reportConversionProgress);
+			});
 		}
-		
-		List<List<GroupBArrestReport>> groupBArrestReportsSublists = ListUtils.partition(validationToConvertResults.getGroupBArrestReports(), 50);
-		for(List<GroupBArrestReport> groupBArrestReports: groupBArrestReportsSublists){
-			CustomPair<String, List<GroupBArrestReport>> groupBArrestsToConvert = 
-					new CustomPair<String, List<GroupBArrestReport>>(outputFolder, groupBArrestReports); 
-			this.convertGroupBReport(groupBArrestsToConvert, reportConversionProgress);
+		finally {
+			validationToConvertResults.discardSpooledReports();
 		}
 	}
 
@@ -457,80 +398,36 @@ public class RestService{
 		return outputFolder;
 	}
 
-	private void convertGroupBReport(CustomPair<String, List<GroupBArrestReport>> groupBArrestsToConvert,
+	private void convertGroupBReport(List<GroupBArrestReport> groupBArrestReports, String outputFolder,
 			ReportProcessProgress reportConversionProgress) {
-		
-		List<GroupBArrestReport> groupBArrestReports = groupBArrestsToConvert.getValue();
-		try{
-			webClient.post().uri("/arrestReportsToXml")
-			.body(BodyInserters.fromValue(groupBArrestsToConvert))
-			.retrieve()
-			.bodyToMono(String.class)
-			.block();
-			
-			reportConversionProgress.increaseProcessedCount(groupBArrestReports.size());
-			log.info("Progress: " + reportConversionProgress.getProcessedCount() + "/" + reportConversionProgress.getTotalCount());
+		for (GroupBArrestReport groupBArrestReport : groupBArrestReports) {
+			convertReport(groupBArrestReport, outputFolder, reportConversionProgress);
 		}
-		catch(ResourceAccessException rae){
-			List<String> identifiers = groupBArrestReports.stream()
-					.map(GroupBArrestReport::getIdentifier)
-					.collect(Collectors.toList());
-			log.error("Failed to connect to the rest service to process the Group B Arrest Reports " + 
-					" with Identifiers " + identifiers);
-			reportConversionProgress.setAborted(true);
-			throw rae;
-		}
-		catch(Exception e){
-			reportConversionProgress.increaseProcessedCount(groupBArrestReports.size());
-			groupBArrestReports.stream()
-				.map(GroupBArrestReport::getUniqueReportDescription)
-				.forEach(item->reportConversionProgress.addFailedToProcess(item));
-			List<String> identifiers = groupBArrestReports.stream()
-					.map(GroupBArrestReport::getIdentifier)
-					.collect(Collectors.toList());
-			log.warn("Failed to persist incident " + identifiers);
-			log.error(e);
-			log.info("Progress: " + reportConversionProgress.getProcessedCount() + "/" + reportConversionProgress.getTotalCount());
-		}
-		
+		log.info("Progress: " + reportConversionProgress.getProcessedCount() + "/" + reportConversionProgress.getTotalCount());
 	}
 
-	private void convertGroupAReport(CustomPair<String, List<GroupAIncidentReport>> groupAToConvertPair,
+	private void convertGroupAReport(List<GroupAIncidentReport> groupAIncidentReports, String outputFolder,
 			ReportProcessProgress reportConversionProgress) {
-		List<GroupAIncidentReport> groupAIncidentReports = groupAToConvertPair.getValue(); 
-		try {
-			log.info("About to post for group A incident report " + groupAIncidentReports.size());
-			webClient.post().uri("/groupAIncidentReportsToXml")
-				.body(BodyInserters.fromValue(groupAToConvertPair))
-				.retrieve()
-				.bodyToMono(String.class)
-				.block();
-			reportConversionProgress.increaseProcessedCount(groupAIncidentReports.size());
-			log.info("Progress: " + reportConversionProgress.getProcessedCount() + "/" + reportConversionProgress.getTotalCount());
+		log.info("About to convert group A incident reports " + groupAIncidentReports.size());
+		for (GroupAIncidentReport groupAIncidentReport : groupAIncidentReports) {
+			convertReport(groupAIncidentReport, outputFolder, reportConversionProgress);
 		}
-		catch(ResourceAccessException rae){
-			List<String> identifiers = groupAIncidentReports.stream()
-					.map(GroupAIncidentReport::getIncidentNumber)
-					.collect(Collectors.toList());
-			log.error("Failed to connect to the rest service to process the group A reports " + 
-					"  Identifiers " + identifiers);
-			reportConversionProgress.setAborted(true);
-			throw rae;
+		log.info("Progress: " + reportConversionProgress.getProcessedCount() + "/" + reportConversionProgress.getTotalCount());
+	}
+
+	/**
+	 * Write one report to the output folder, so that a report the writer chokes on is the only one recorded as failed. 
+	 */
+	private void convertReport(AbstractReport report, String outputFolder, ReportProcessProgress reportConversionProgress) {
+		try {
+			niemDocumentWriter.writeToFolder(report, Paths.get(outputFolder));
 		}
-		catch(Exception e){
-			reportConversionProgress.increaseProcessedCount(groupAIncidentReports.size());
-			
-			groupAIncidentReports.stream()
-				.map(GroupAIncidentReport::getUniqueReportDescription)
-				.forEach(item->reportConversionProgress.addFailedToProcess(item));
-			List<String> identifiers = groupAIncidentReports.stream()
-					.map(GroupAIncidentReport::getIncidentNumber)
-					.collect(Collectors.toList());
-			log.warn("Failed to persist incident " + identifiers);
+		catch (Exception e) {
+			reportConversionProgress.addFailedToProcess(report.getUniqueReportDescription());
+			log.warn("Failed to convert report " + report.getIdentifier());
 			log.error(e);
-			log.info("Progress: " + reportConversionProgress.getProcessedCount() + "/" + reportConversionProgress.getTotalCount());
 		}
-		
+		reportConversionProgress.increaseProcessedCount(1);
 	}
 
 	public void saveFileUploadLogs(FileUploadLogs fileUploadLogs) {
@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.admin.summaryreport;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
@@ -29,6 +28,8 @@ import javax.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.search.nibrs.admin.AppProperties;
 import org.search.nibrs.admin.security.AuthUser;
@@ -130,7 +131,11 @@ public class SummaryReportController {
 	    return "/summaryReports/searchForm::summaryReportForm";
 	}
 	
-	private void downloadReport(HttpServletResponse response, XSSFWorkbook workbook, String fileName) throws IOException {
+	/*
+	 * Writes the workbook straight to the response. Streaming workbooks are disposed afterwards to delete 
+	 * the temporary files holding their flushed rows. 
+	 */
+	private void downloadReport(HttpServletResponse response, Workbook workbook, String fileName) throws IOException {
 		String mimeType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
 		// set content attributes for the response
 		response.setContentType(mimeType);
@@ -145,16 +150,13 @@ public class SummaryReportController {
 		// get output stream of the response
 		OutputStream outStream = response.getOutputStream();
 		
-		try (ByteArrayOutputStream baos = new ByteArrayOutputStream(8192)) { 
-            try { 
-                workbook.write(baos); 
-            } finally { 
-                workbook.close(); 
-            }
-            
-            baos.writeTo(outStream);
-            baos.close(); 
+		try { 
+            workbook.write(outStream); 
         } finally{
+        	workbook.close(); 
+        	if (workbook instanceof SXSSFWorkbook) {
+        		((SXSSFWorkbook) workbook).dispose(); 
+        	}
         	outStream.close();
         }
 		log.info("The report is writen to fileName: " + fileName);
@@ -174,7 +176,7 @@ public class SummaryReportController {
 	public void getReturnARecordCardByRequest(@ModelAttribute SummaryReportRequest summaryReportRequest,
 			HttpServletResponse response, Map<String, Object> model) throws IOException{
 		ReturnARecordCardReport returnARecordCardReport = restClient.getReturnARecordCardByRequest(summaryReportRequest);
-		XSSFWorkbook workbook = returnARecordCardExporter.createReturnARecordCardWorkbook(returnARecordCardReport);
+		SXSSFWorkbook workbook = returnARecordCardExporter.createReturnARecordCardWorkbook(returnARecordCardReport);
 		String fileName = getFileName("ReturnARecordCard", returnARecordCardReport.getStateName(), null, returnARecordCardReport.getYear(), 0);
 		
 		downloadReport(response, workbook, fileName);
@@ -256,7 +258,7 @@ public class SummaryReportController {
 			HttpServletResponse response, Map<String, Object> model) throws IOException{
 		log.info("get shrReports");
 		SupplementaryHomicideReport supplementaryHomicideReport = restClient.getSupplementaryHomicideReportByRequest(summaryReportRequest);
-		XSSFWorkbook workbook = supplementaryHomicideReportExporter.createWorkbook(supplementaryHomicideReport, false);
+		SXSSFWorkbook workbook = supplementaryHomicideReportExporter.createWorkbook(supplementaryHomicideReport, false);
 		String fileName = getFileName("SupplementaryHomicideReport", supplementaryHomicideReport.getStateName(), supplementaryHomicideReport.getOri(), 
 				supplementaryHomicideReport.getYear(), supplementaryHomicideReport.getMonth());
 		downloadReport(response, workbook, fileName);
@@ -267,7 +269,7 @@ public class SummaryReportController {
 			HttpServletResponse response, Map<String, Object> model) throws IOException{
 		log.info("get shrReports with state race codes");
 		SupplementaryHomicideReport supplementaryHomicideReport = restClient.getSupplementaryHomicideReportByRequest(summaryReportRequest);
-		XSSFWorkbook workbook = supplementaryHomicideReportExporter.createWorkbook(supplementaryHomicideReport, true);
+		SXSSFWorkbook workbook = supplementaryHomicideReportExporter.createWorkbook(supplementaryHomicideReport, true);
 		String fileName = getFileName("SupplementaryHomicideReport-StateRace", supplementaryHomicideReport.getStateName(), supplementaryHomicideReport.getOri(), 
 				supplementaryHomicideReport.getYear(), supplementaryHomicideReport.getMonth());
 		downloadReport(response, workbook, fileName);
@@ -278,7 +280,7 @@ public class SummaryReportController {
 			HttpServletResponse response, Map<String, Object> model) throws IOException{
 		log.info("get cargo theft report");
         CargoTheftReport cargoTheftReport = restClient.getCargoTheftReportByRequest(summaryReportRequest);
-		XSSFWorkbook workbook = cargoTheftReportExporter.createWorkbook(cargoTheftReport);
+		SXSSFWorkbook workbook = cargoTheftReportExporter.createWorkbook(cargoTheftReport);
 		String fileName = getFileName("CargoTheftReport", cargoTheftReport.getStateName(), cargoTheftReport.getOri(), 
 				cargoTheftReport.getYear(), cargoTheftReport.getMonth());
 		downloadReport(response, workbook, fileName);
@@ -15,21 +15,26 @@
  */
 package org.search.nibrs.admin.uploadfile;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.apache.commons.lang.builder.ToStringStyle;
 
+/**
+ * The progress of persisting or converting the valid reports of an upload.  The counts are updated by the threads 
+ * handling the responses of the requests in flight while the status requests read them, so they are thread-safe.
+ */
 public class ReportProcessProgress{
 
-	private Integer totalCount;
-	private Integer processedCount = 0;
-	private Integer persistedCount = 0;
-	private List<String> failedToProcess = new ArrayList<>(); 
-	private boolean aborted = false;
-	private boolean started = false; 
-	private String outputFolder;
+	private volatile Integer totalCount;
+	private final AtomicInteger processedCount = new AtomicInteger();
+	private final AtomicInteger persistedCount = new AtomicInteger();
+	private final List<String> failedToProcess = new CopyOnWriteArrayList<>(); 
+	private volatile boolean aborted = false;
+	private volatile boolean started = false; 
+	private volatile String outputFolder;
 	
 	public ReportProcessProgress() {
 		super();
@@ -59,15 +64,15 @@ public class ReportProcessProgress{
 	}
 
 	public Integer getProcessedCount() {
-		return processedCount;
+		return processedCount.get();
 	}
 
 	public void increaseProcessedCount() {
-		this.processedCount ++;
+		this.processedCount.incrementAndGet();
 	}
 
 	public void increaseProcessedCount(int count) {
-		this.processedCount += count ;
+		this.processedCount.addAndGet(count);
 	}
 	
 	public Integer getTotalCount() {
@@ -91,7 +96,7 @@ public class ReportProcessProgress{
 	}
 	
 	public boolean isComplete() {
-		return this.processedCount.equals(this.totalCount);
+		return this.totalCount != null && this.processedCount.get() == this.totalCount.intValue();
 	}
 
 	public boolean isStarted() {
@@ -111,15 +116,15 @@ public class ReportProcessProgress{
 	}
 
 	public Integer getPersistedCount() {
-		return persistedCount;
+		return persistedCount.get();
 	}
 
 	public void increasePersistedCount() {
-		this.persistedCount ++;
+		this.persistedCount.incrementAndGet();
 	}
 
 	public void increasePersistedCount(int count) {
-		this.persistedCount += count ;
+		this.persistedCount.addAndGet(count);
 	}
 	
 }
\ No newline at end of file
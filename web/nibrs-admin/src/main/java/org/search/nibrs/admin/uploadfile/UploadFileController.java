@@ -15,19 +15,12 @@
  */
 package org.search.nibrs.admin.uploadfile;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 
 import javax.annotation.Resource;
 import javax.servlet.http.HttpServletRequest;
@@ -44,14 +37,10 @@ import org.search.nibrs.common.NIBRSError;
 import org.search.nibrs.common.NIBRSJsonError;
 import org.search.nibrs.importer.ReportListener;
 import org.search.nibrs.model.AbstractReport;
-import org.search.nibrs.model.GroupAIncidentReport;
-import org.search.nibrs.model.GroupBArrestReport;
 import org.search.nibrs.stagingdata.model.FileUploadLogs;
 import org.search.nibrs.stagingdata.model.Owner;
-import org.search.nibrs.util.NibrsFileUtils;
 import org.search.nibrs.validate.common.SubmissionFileValidator;
 import org.search.nibrs.validate.common.ValidationResults;
-import org.search.nibrs.validation.SubmissionValidator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -78,9 +67,6 @@ public class UploadFileController {
     @Autowired
     private DownloadService downloadService;
 
-    @Autowired
-	SubmissionValidator submissionValidator;
-	
 	@Autowired
 	SubmissionFileValidator submissionFileValidator;
 
@@ -118,6 +104,7 @@ public class UploadFileController {
 
 		log.info("processing file: " + multipartFiles.length);
 		
+		discardValidReports((ValidationResults) model.getAttribute("validationResults"));
 		ValidationResults validationResults = getNibrsErrors(multipartFiles); 
 		Integer ownerId = (Integer) model.getAttribute("ownerId");
 		validationResults.setOwnerId(ownerId);
@@ -135,6 +122,7 @@ public class UploadFileController {
     	
     	log.info("processing file: " + multipartFiles.length);
     	
+    	discardValidReports((ValidationResults) model.getAttribute("validationToConvertResults"));
     	ValidationResults validationToConvertResults = getNibrsErrors(multipartFiles); 
     	model.addAttribute("validationToConvertResults", validationToConvertResults);
     	
@@ -150,7 +138,9 @@ public class UploadFileController {
     	
     	log.info("processing file: " + multipartFiles.length);
     	
-    	List<NIBRSError> filteredErrorList = getNibrsErrors(multipartFiles).getFilteredErrorList(); 
+    	ValidationResults validationResults = getNibrsErrors(multipartFiles); 
+    	validationResults.discardSpooledReports();
+    	List<NIBRSError> filteredErrorList = validationResults.getFilteredErrorList(); 
     	
     	//Translate NIBRSError to a simplified JSON error class so it can be more easily consumed 
     	
@@ -174,9 +164,9 @@ public class UploadFileController {
 		
 		nibrsJsonError.setSourceLocation(nibrsError.getContext().getSourceLocation());
 		
-		nibrsJsonError.setActionType(nibrsError.getReport().getReportActionType());
+		nibrsJsonError.setActionType(nibrsError.getReportActionType());
 		
-		nibrsJsonError.setOri(nibrsError.getReport().getOri());
+		nibrsJsonError.setOri(nibrsError.getOri());
 		
 		nibrsJsonError.setIncidentNumber(nibrsError.getReportUniqueIdentifier());
 		
@@ -214,31 +204,36 @@ public class UploadFileController {
     
 	private ValidationResults getNibrsErrors(MultipartFile[] multipartFiles)
 			throws IOException, ParserConfigurationException {
-		ValidationResults validationResults = new ValidationResults();
+		ValidationResults validationResults = ValidationResults.withSpooledReports();
 		ReportListener validatorListener = new ReportListener() {
 			@Override
 			public void newReport(AbstractReport report, List<NIBRSError> el) {
 				validationResults.getErrorList().addAll(el);
-				validationResults.getErrorList().addAll(submissionValidator.validateReport(report));
 				addReportWithoutErrors(validationResults, report);
 			}
 		};
 		
 		List<String> filenames = new ArrayList<>(); 
-		for (MultipartFile multipartFile: multipartFiles){
-			
-			if (!acceptedFileTypes.contains(multipartFile.getContentType())){
-				throw new IllegalArgumentException("The file type is not supported"); 
-			}
-			filenames.add(multipartFile.getOriginalFilename());
-			if (multipartFile.getContentType().equals("application/zip") || multipartFile.getContentType().equals("application/x-zip-compressed")){
-				validateZippedFile( validatorListener, multipartFile.getInputStream());
-			}
-			else {
-				submissionFileValidator.validateInputStream(
-						validatorListener, multipartFile.getContentType(), multipartFile.getInputStream(), "console");
+		try {
+			for (MultipartFile multipartFile: multipartFiles){
+				
+				if (!acceptedFileTypes.contains(multipartFile.getContentType())){
+					throw new IllegalArgumentException("The file type is not supported"); 
+				}
+				filenames.add(multipartFile.getOriginalFilename());
+				if (multipartFile.getContentType().equals("application/zip") || multipartFile.getContentType().equals("application/x-zip-compressed")){
+					submissionFileValidator.validateZippedReports(validatorListener, multipartFile.getInputStream());
+				}
+				else {
+					submissionFileValidator.validateReports(
+							validatorListener, multipartFile.getContentType(), multipartFile.getInputStream(), "console");
+				}
+				
 			}
-			
+		}
+		catch (IOException | ParserConfigurationException | RuntimeException e) {
+			validationResults.discardSpooledReports();
+			throw e; 
 		}
 		
 		validationResults.setFilenames(StringUtils.join(filenames, ", ")); 
@@ -263,53 +258,25 @@ public class UploadFileController {
 		return "testFiles";
 	}
 	
-
-	/**
-	 * Get only the first entry of the zipped resource. 
-	 * @param multipartFile
-	 * @return
-	 * @throws IOException
-	 */
-	private void validateZippedFile(ReportListener validatorlistener, InputStream inputStream) throws IOException {
-		ZipInputStream zippedStream = new ZipInputStream(inputStream);
-
-		ZipEntry zipEntry = zippedStream.getNextEntry();
-		while ( zipEntry != null)
-		{
-			log.info("Unzipping " + zipEntry.getName());
-	        ByteArrayOutputStream bout = new ByteArrayOutputStream();
-	        for (int c = zippedStream.read(); c != -1; c = zippedStream.read()) {
-	          bout.write(c);
-	        }
-	        
-	        zippedStream.closeEntry();
-			
-			ByteArrayInputStream inStream = new ByteArrayInputStream( bout.toByteArray() );
-			bout.close();
-			
-		    String mediaType = NibrsFileUtils.getMediaType(inStream, zipEntry.getName());
-
-		    try {
-		    	submissionFileValidator.validateInputStream(validatorlistener, mediaType, inStream, "console");
-			} catch (ParserConfigurationException e) {
-				log.error("Got exception while parsing the file " + zipEntry.getName(), e);
-			}
-			zipEntry = zippedStream.getNextEntry();
-		}
-		zippedStream.close();
-        inputStream.close();
-	}
-	
 	@PostMapping("/validIncidentsAsync")
 	public @ResponseBody String persistIncidentReportsAsync(Map<String, Object> model) {
 		
 		ValidationResults validationResults = (ValidationResults) model.get("validationResults");
-		List<AbstractReport> validReports = validationResults.getReportsWithoutErrors(); 
-		logCountsOfReports(validReports);
+		logCountsOfReports(validationResults);
 		
 		ReportProcessProgress persistReportTask = (ReportProcessProgress) model.get("persistReportTask");
 		
-		restService.persistValidReportsAsync(persistReportTask, validationResults);
+		if (!validationResults.claimSpooledReports()) {
+			log.warn("The valid reports are already being processed or have been discarded"); 
+			return "The valid reports are already being processed or have been replaced by a new upload.";
+		}
+		try {
+			restService.persistValidReportsAsync(persistReportTask, validationResults);
+		}
+		catch (RuntimeException e) {
+			validationResults.discardSpooledReports();
+			throw e; 
+		}
 		
 		log.info("called the aync method"); 
 		return "Server processing the valid reports.";
@@ -319,8 +286,7 @@ public class UploadFileController {
 	public @ResponseBody String convertIncidentReportsAsync(Map<String, Object> model) {
 		
 		ValidationResults validationToConvertResults = (ValidationResults) model.get("validationToConvertResults");
-		List<AbstractReport> validReports = validationToConvertResults.getReportsWithoutErrors(); 
-		logCountsOfReports(validReports);
+		logCountsOfReports(validationToConvertResults);
 		
 		ReportProcessProgress reportConversionProgress = (ReportProcessProgress) model.get("reportConversionProgress");
 		
@@ -328,8 +294,18 @@ public class UploadFileController {
 		if (!appProperties.getPrivateSummaryReportSite()) {
 			authUser = (AuthUser) model.get("authUser"); 
 		}
-		restService.convertValidReportsAsync(reportConversionProgress, validationToConvertResults, 
-				authUser);
+		if (!validationToConvertResults.claimSpooledReports()) {
+			log.warn("The valid reports are already being processed or have been discarded"); 
+			return "The valid reports are already being processed or have been replaced by a new upload.";
+		}
+		try {
+			restService.convertValidReportsAsync(reportConversionProgress, validationToConvertResults, 
+					authUser);
+		}
+		catch (RuntimeException e) {
+			validationToConvertResults.discardSpooledReports();
+			throw e; 
+		}
 		
 		log.info("called the conversion aync method"); 
 		return "Server processing the valid reports.";
@@ -376,17 +352,25 @@ public class UploadFileController {
 		return reportConversionProgress;
 	}
 	
-	private void logCountsOfReports(List<AbstractReport> abstractReports) {
-		Set<String> incidentNumbers = new HashSet<>();
-		abstractReports.forEach(item->incidentNumbers.add(item.getIdentifier()));
-		log.info("about to process " + abstractReports.size() + " reports with " + incidentNumbers.size() + " distinct identifiers. ");
+	private void logCountsOfReports(ValidationResults validationResults) {
+		log.info("about to process " + validationResults.getValidReportCount() + " valid reports out of " 
+				+ validationResults.getTotalReportCount() + " reports. ");
 	}	
 	
+	/**
+	 * Delete the spooled valid reports of results about to be replaced in the session, unless they have been claimed 
+	 * for processing, in which case the processing deletes them when done. 
+	 */
+	private void discardValidReports(ValidationResults validationResults) {
+		if (validationResults != null) {
+			validationResults.discardUnclaimedSpooledReports();
+		}
+	}
+	
 	private void addReportWithoutErrors(ValidationResults validationResults, AbstractReport report) {
 		validationResults.increaseTotalReportCount();
 		if (validationResults.getErrorList().isEmpty()){
-			validationResults.getReportsWithoutErrors().add(report);
-			allocateTheReport(validationResults, report);
+			validationResults.addValidReport(report);
 		}
 		else{
 			boolean isReportWithoutError = true; 
@@ -407,23 +391,11 @@ public class UploadFileController {
 			}
 			
 			if (isReportWithoutError) {
-				validationResults.getReportsWithoutErrors().add(report);
-				allocateTheReport(validationResults, report);
+				validationResults.addValidReport(report);
 			}
 		}
 	}
 
-
-	private void allocateTheReport(ValidationResults validationResults, AbstractReport report) {
-		if (report instanceof GroupAIncidentReport) {
-			validationResults.getGroupAIncidentReports().add((GroupAIncidentReport) report);
-			validationResults.increaseValidReportCount();
-		}
-		else if(report instanceof GroupBArrestReport) {
-			validationResults.getGroupBArrestReports().add((GroupBArrestReport) report);
-			validationResults.increaseValidReportCount();
-		}
-	}
 	
     @GetMapping("/downloadZipFile")
     public void downloadZipFile(HttpServletResponse response, Map<String, Object> model) {
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.admin.uploadfile;
+
+import java.util.Collections;
+
+import javax.servlet.http.HttpSession;
+import javax.servlet.http.HttpSessionEvent;
+import javax.servlet.http.HttpSessionListener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.search.nibrs.validate.common.ValidationResults;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes the spooled valid reports of the upload results held in a session when the session ends, unless they have been claimed for 
+ * processing, in which case the processing deletes them when done.  
+ */
+@Component
+public class ValidationResultsSessionListener implements HttpSessionListener {
+	private final Log log = LogFactory.getLog(this.getClass());
+
+	@Override
+	public void sessionDestroyed(HttpSessionEvent se) {
+		HttpSession session = se.getSession();
+		for (String attributeName : Collections.list(session.getAttributeNames())) {
+			Object attribute = session.getAttribute(attributeName);
+			if (attribute instanceof ValidationResults 
+					&& ((ValidationResults) attribute).discardUnclaimedSpooledReports()) {
+				log.debug("Discarded the spooled reports of session attribute " + attributeName);
+			}
+		}
+	}
+
+}
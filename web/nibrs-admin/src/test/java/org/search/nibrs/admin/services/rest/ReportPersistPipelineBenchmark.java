@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.admin.services.rest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.search.nibrs.admin.AppProperties;
+import org.search.nibrs.admin.uploadfile.ReportProcessProgress;
+import org.search.nibrs.model.GroupAIncidentReport;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Throughput benchmark of ReportPersistPipeline against a simulated staging data rest service, whose posts take a fixed
+ * latency per request plus a latency per report.  Not run as part of the unit test suite; run the main method with the test
+ * classpath, optionally passing the number of reports, the in-flight window and the fixed and per report latencies in
+ * milliseconds (default 3000, 4, 20 and 2).  Compares the pipeline with the given window to one batch of persistBatchSize
+ * reports at a time, the way the reports were posted before the pipeline.
+ */
+public class ReportPersistPipelineBenchmark {
+
+	public static void main(String[] args) {
+		int reportCount = args.length > 0 ? Integer.parseInt(args[0]) : 3000;
+		int inFlightWindow = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+		int requestLatencyMillis = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+		double reportLatencyMillis = args.length > 3 ? Double.parseDouble(args[3]) : 2;
+
+		List<GroupAIncidentReport> reports = ReportPersistPipelineTest.incidents(reportCount, reportCount);
+
+		AppProperties sequential = new AppProperties();
+		sequential.setPersistInFlightWindow(1);
+		sequential.setPersistMinBatchSize(sequential.getPersistBatchSize());
+		sequential.setPersistMaxBatchSize(sequential.getPersistBatchSize());
+
+		AppProperties pipelined = new AppProperties();
+		pipelined.setPersistInFlightWindow(inFlightWindow);
+
+		// warm up the JIT and the reactor schedulers with a run that is not reported
+		run(reports, sequential, requestLatencyMillis, reportLatencyMillis);
+		run(reports, pipelined, requestLatencyMillis, reportLatencyMillis);
+
+		long sequentialMillis = run(reports, sequential, requestLatencyMillis, reportLatencyMillis);
+		long pipelinedMillis = run(reports, pipelined, requestLatencyMillis, reportLatencyMillis);
+
+		System.out.println(String.format("Persisted %d reports one batch of %d at a time in %d ms: %.1f reports/second",
+				reportCount, sequential.getPersistBatchSize(), sequentialMillis, reportCount * 1000.0 / Math.max(sequentialMillis, 1)));
+		System.out.println(String.format("Persisted %d reports with a window of %d in %d ms: %.1f reports/second, %.1f times faster",
+				reportCount, inFlightWindow, pipelinedMillis, reportCount * 1000.0 / Math.max(pipelinedMillis, 1),
+				sequentialMillis / (double) Math.max(pipelinedMillis, 1)));
+	}
+
+	private static long run(List<GroupAIncidentReport> reports, AppProperties appProperties, int requestLatencyMillis,
+			double reportLatencyMillis) {
+		Random random = new Random(42);
+		ReportProcessProgress progress = new ReportProcessProgress(reports.size());
+		ReportPersistPipeline<GroupAIncidentReport> pipeline = new ReportPersistPipeline<>("incidents", batch -> {
+			long latencyMillis = requestLatencyMillis + Math.round(batch.size() * reportLatencyMillis * (0.5 + random.nextDouble()));
+			return Mono.delay(Duration.ofMillis(latencyMillis)).map(tick -> "OK");
+		}, progress, appProperties);
+
+		long start = System.nanoTime();
+		pipeline.add(reports);
+		pipeline.finish();
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		if (progress.getPersistedCount() != reports.size()) {
+			throw new IllegalStateException("Persisted " + progress.getPersistedCount() + " of " + reports.size() + " reports");
+		}
+		return elapsedMillis;
+	}
+
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.admin.services.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.search.nibrs.admin.AppProperties;
+import org.search.nibrs.admin.uploadfile.ReportProcessProgress;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.springframework.web.client.ResourceAccessException;
+
+import reactor.core.publisher.Mono;
+
+public class ReportPersistPipelineTest {
+
+	private AppProperties appProperties;
+
+	@Before
+	public void setUp() {
+		appProperties = new AppProperties();
+		appProperties.setPersistBatchSize(20);
+		appProperties.setPersistMinBatchSize(10);
+		appProperties.setPersistMaxBatchSize(50);
+		appProperties.setPersistInFlightWindow(3);
+		appProperties.setPersistTargetLatencyMillis(10000);
+	}
+
+	@Test
+	public void testInFlightWindow() {
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		List<Integer> postedCounts = Collections.synchronizedList(new ArrayList<>());
+		ReportProcessProgress progress = new ReportProcessProgress(500);
+		ReportPersistPipeline<GroupAIncidentReport> pipeline = new ReportPersistPipeline<>("incidents", batch -> {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			return Mono.delay(Duration.ofMillis(30))
+					.doOnNext(tick -> {
+						inFlight.decrementAndGet();
+						postedCounts.add(batch.size());
+					})
+					.map(tick -> "OK");
+		}, progress, appProperties);
+
+		pipeline.add(incidents(500, 500));
+		assertTrue(maxInFlight.get() <= 3);
+		pipeline.finish();
+
+		assertEquals(0, inFlight.get());
+		assertEquals(3, maxInFlight.get());
+		assertEquals(500, postedCounts.stream().mapToInt(Integer::intValue).sum());
+		assertEquals(500, progress.getProcessedCount().intValue());
+		assertEquals(500, progress.getPersistedCount().intValue());
+		assertTrue(progress.isComplete());
+		assertTrue(progress.getFailedToProcess().isEmpty());
+		assertFalse(progress.isAborted());
+	}
+
+	@Test
+	public void testVersionOrdering() {
+		// 300 reports, 3 versions of each of 100 incidents, the versions 100 reports apart in the file
+		List<GroupAIncidentReport> reports = incidents(300, 100);
+		Map<String, List<Integer>> postedVersions = new HashMap<>();
+		Map<String, AtomicInteger> inFlightVersions = new HashMap<>();
+		reports.forEach(report -> inFlightVersions.put(report.getIncidentNumber(), new AtomicInteger()));
+		AtomicInteger overlaps = new AtomicInteger();
+
+		ReportProcessProgress progress = new ReportProcessProgress(reports.size());
+		ReportPersistPipeline<GroupAIncidentReport> pipeline = new ReportPersistPipeline<>("incidents", batch -> {
+			batch.forEach(report -> {
+				if (inFlightVersions.get(report.getIncidentNumber()).incrementAndGet() > 1) {
+					overlaps.incrementAndGet();
+				}
+			});
+			return Mono.delay(Duration.ofMillis(batch.size() % 3 * 20))
+					.doOnNext(tick -> batch.forEach(report -> {
+						inFlightVersions.get(report.getIncidentNumber()).decrementAndGet();
+						synchronized (postedVersions) {
+							postedVersions.computeIfAbsent(report.getIncidentNumber(), key -> new ArrayList<>())
+								.add(Integer.valueOf(report.getOri()));
+						}
+					}))
+					.map(tick -> "OK");
+		}, progress, appProperties);
+
+		// add the reports in uneven chunks, as the spool reader does
+		for (int i = 0; i < reports.size(); i += 7) {
+			pipeline.add(reports.subList(i, Math.min(i + 7, reports.size())));
+		}
+		pipeline.finish();
+
+		assertEquals(0, overlaps.get());
+		assertEquals(100, postedVersions.size());
+		postedVersions.values().forEach(versions -> assertEquals(Arrays.asList(0, 1, 2), versions));
+		assertEquals(300, progress.getPersistedCount().intValue());
+	}
+
+	@Test
+	public void testBatchSizeGrowsBelowTargetLatency() {
+		List<Integer> batchSizes = new ArrayList<>();
+		ReportProcessProgress progress = new ReportProcessProgress(300);
+		ReportPersistPipeline<GroupAIncidentReport> pipeline = new ReportPersistPipeline<>("incidents",
+				recordingPost(batchSizes, 0), progress, appProperties);
+
+		pipeline.add(incidents(300, 300));
+		pipeline.finish();
+
+		// grows by a quarter up to the maximum, the last batch holds the rest
+		assertEquals(Arrays.asList(20, 25, 31, 38, 47, 50, 50, 39), batchSizes);
+		assertEquals(300, progress.getPersistedCount().intValue());
+	}
+
+	@Test
+	public void testBatchSizeHalvesAboveTargetLatency() {
+		appProperties.setPersistBatchSize(40);
+		appProperties.setPersistTargetLatencyMillis(1);
+		List<Integer> batchSizes = new ArrayList<>();
+		ReportProcessProgress progress = new ReportProcessProgress(100);
+		ReportPersistPipeline<GroupAIncidentReport> pipeline = new ReportPersistPipeline<>("incidents",
+				recordingPost(batchSizes, 5), progress, appProperties);
+
+		pipeline.add(incidents(100, 100));
+		pipeline.finish();
+
+		// halves down to the minimum
+		assertEquals(Arrays.asList(40, 20, 10, 10, 10, 10), batchSizes);
+		assertEquals(100, progress.getPersistedCount().intValue());
+	}
+
+	@Test
+	public void testBatchSizeBounds() {
+		appProperties.setPersistBatchSize(500);
+		List<Integer> batchSizes = new ArrayList<>();
+		ReportPersistPipeline<GroupAIncidentReport> pipeline = new ReportPersistPipeline<>("incidents",
+				recordingPost(batchSizes, 0), new ReportProcessProgress(60), appProperties);
+		pipeline.add(incidents(60, 60));
+		pipeline.finish();
+		assertEquals(Arrays.asList(50, 10), batchSizes);
+
+		appProperties.setPersistBatchSize(1);
+		batchSizes.clear();
+		pipeline = new ReportPersistPipeline<>("incidents", recordingPost(batchSizes, 0), new ReportProcessProgress(10),
+				appProperties);
+		pipeline.add(incidents(10, 10));
+		pipeline.finish();
+		assertEquals(Arrays.asList(10), batchSizes);
+	}
+
+	@Test
+	public void testAbortOnConnectionFailure() {
+		appProperties.setPersistInFlightWindow(1);
+		ResourceAccessException connectionFailure = new ResourceAccessException("Connection refused");
+		AtomicInteger postCount = new AtomicInteger();
+		ReportProcessProgress progress = new ReportProcessProgress(100);
+		ReportPersistPipeline<GroupAIncidentReport> pipeline = new ReportPersistPipeline<>("incidents", batch -> {
+			postCount.incrementAndGet();
+			return Mono.error(connectionFailure);
+		}, progress, appProperties);
+
+		try {
+			pipeline.add(incidents(100, 100));
+			pipeline.finish();
+			fail("The connection failure should abort the pipeline");
+		} catch (ResourceAccessException e) {
+			assertSame(connectionFailure, e);
+		}
+
+		assertEquals(1, postCount.get());
+		assertTrue(progress.isAborted());
+		assertEquals(0, progress.getProcessedCount().intValue());
+		assertEquals(0, progress.getPersistedCount().intValue());
+	}
+
+	@Test
+	public void testAbortWaitsForPostsInFlight() {
+		ResourceAccessException connectionFailure = new ResourceAccessException("Connection refused");
+		AtomicInteger postCount = new AtomicInteger();
+		ReportProcessProgress progress = new ReportProcessProgress(200);
+		ReportPersistPipeline<GroupAIncidentReport> pipeline = new ReportPersistPipeline<>("incidents", batch -> {
+			if (postCount.incrementAndGet() == 2) {
+				return Mono.delay(Duration.ofMillis(20)).then(Mono.error(connectionFailure));
+			}
+			return Mono.delay(Duration.ofMillis(50)).map(tick -> "OK");
+		}, progress, appProperties);
+
+		try {
+			pipeline.add(incidents(200, 200));
+			pipeline.finish();
+			fail("The connection failure should abort the pipeline");
+		} catch (ResourceAccessException e) {
+			assertSame(connectionFailure, e);
+		}
+
+		// no batch is posted after the failure is seen, and the batches in flight are accounted for
+		assertTrue(postCount.get() < 10);
+		assertTrue(progress.isAborted());
+		assertEquals(progress.getPersistedCount(), progress.getProcessedCount());
+		assertTrue(progress.getPersistedCount() < 200);
+	}
+
+	@Test
+	public void testFailedBatchIsReportedAndPipelineContinues() {
+		ReportProcessProgress progress = new ReportProcessProgress(60);
+		AtomicInteger postCount = new AtomicInteger();
+		ReportPersistPipeline<GroupAIncidentReport> pipeline = new ReportPersistPipeline<>("incidents", batch -> {
+			if (postCount.incrementAndGet() == 2) {
+				return Mono.error(new IllegalStateException("500 Internal Server Error"));
+			}
+			return Mono.just("OK");
+		}, progress, appProperties);
+
+		List<GroupAIncidentReport> reports = incidents(60, 60);
+		pipeline.add(reports);
+		pipeline.finish();
+
+		assertEquals(3, postCount.get());
+		assertFalse(progress.isAborted());
+		assertTrue(progress.isComplete());
+		assertEquals(35, progress.getPersistedCount().intValue());
+		assertEquals(reports.subList(20, 45).stream().map(GroupAIncidentReport::getUniqueReportDescription)
+				.collect(Collectors.toList()), progress.getFailedToProcess());
+	}
+
+	private Function<List<GroupAIncidentReport>, Mono<String>> recordingPost(List<Integer> batchSizes, long latencyMillis) {
+		return batch -> Mono.fromCallable(() -> {
+			batchSizes.add(batch.size());
+			Thread.sleep(latencyMillis);
+			return "OK";
+		});
+	}
+
+	/**
+	 * count reports numbered 0 to distinctCount - 1 over and over, the ORI holding the version of the incident.
+	 */
+	static List<GroupAIncidentReport> incidents(int count, int distinctCount) {
+		List<GroupAIncidentReport> reports = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			GroupAIncidentReport report = new GroupAIncidentReport();
+			report.setIncidentNumber("INC-" + (i % distinctCount));
+			report.setOri(String.valueOf(i / distinctCount));
+			reports.add(report);
+		}
+		return reports;
+	}
+
+}
@@ -15,16 +15,11 @@
  */
 package org.search.nibrs.web.uploadfile;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 
 import javax.annotation.Resource;
 import javax.servlet.http.HttpServletRequest;
@@ -38,9 +33,7 @@ import org.search.nibrs.common.NIBRSError;
 import org.search.nibrs.common.NIBRSJsonError;
 import org.search.nibrs.importer.ReportListener;
 import org.search.nibrs.model.AbstractReport;
-import org.search.nibrs.util.NibrsFileUtils;
 import org.search.nibrs.validate.common.SubmissionFileValidator;
-import org.search.nibrs.validation.SubmissionValidator;
 import org.search.nibrs.web.AppProperties;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
@@ -63,9 +56,6 @@ public class UploadFileController {
 	@Resource
 	AppProperties appProperties;
 
-	@Autowired
-	SubmissionValidator submissionValidator;
-
 	@Autowired
 	SubmissionFileValidator submissionFileValidator;
 	
@@ -140,9 +130,9 @@ public class UploadFileController {
 		
 		nibrsJsonError.setSourceLocation(nibrsError.getContext().getSourceLocation());
 		
-		nibrsJsonError.setActionType(nibrsError.getReport().getReportActionType());
+		nibrsJsonError.setActionType(nibrsError.getReportActionType());
 		
-		nibrsJsonError.setOri(nibrsError.getReport().getOri());
+		nibrsJsonError.setOri(nibrsError.getOri());
 		
 		nibrsJsonError.setIncidentNumber(nibrsError.getReportUniqueIdentifier());
 		
@@ -185,7 +175,6 @@ public class UploadFileController {
 			@Override
 			public void newReport(AbstractReport report, List<NIBRSError> el) {
 				errorList.addAll(el);
-				errorList.addAll(submissionValidator.validateReport(report));
 			}
 		};
 		
@@ -195,17 +184,17 @@ public class UploadFileController {
 			}
 			
 			if (multipartFile.getContentType().equals("application/zip") || multipartFile.getContentType().equals("application/x-zip-compressed")){
-				validateZippedFile( validatorListener, multipartFile.getInputStream());
+				submissionFileValidator.validateZippedReports(validatorListener, multipartFile.getInputStream());
 			}
 			else {
-				submissionFileValidator.validateInputStream(
+				submissionFileValidator.validateReports(
 						validatorListener, multipartFile.getContentType(), multipartFile.getInputStream(), "console");
 			}
 			
 		}
 		
 		List<NIBRSError> filteredErrorList = errorList.stream()
-				.filter(error->error.getReport() != null)
+				.filter(NIBRSError::hasReport)
 				.collect(Collectors.toList());
 		return filteredErrorList;
 	}
@@ -234,42 +223,5 @@ public class UploadFileController {
 		return "testFiles";
 	}
 	
-
-	/**
-	 * Get only the first entry of the zipped resource. 
-	 * @param multipartFile
-	 * @return
-	 * @throws IOException
-	 */
-	private void validateZippedFile(ReportListener validatorlistener, InputStream inputStream) throws IOException {
-		ZipInputStream zippedStream = new ZipInputStream(inputStream);
-
-		ZipEntry zipEntry = zippedStream.getNextEntry();
-		while ( zipEntry != null)
-		{
-			log.info("Unzipping " + zipEntry.getName());
-	        ByteArrayOutputStream bout = new ByteArrayOutputStream();
-	        for (int c = zippedStream.read(); c != -1; c = zippedStream.read()) {
-	          bout.write(c);
-	        }
-	        
-	        zippedStream.closeEntry();
-			
-			ByteArrayInputStream inStream = new ByteArrayInputStream( bout.toByteArray() );
-			bout.close();
-			
-		    String mediaType = NibrsFileUtils.getMediaType(inStream);
-
-		    try {
-		    	submissionFileValidator.validateInputStream(validatorlistener, mediaType, inStream, "console");
-			} catch (ParserConfigurationException e) {
-				log.error("Got exception while parsing the file " + zipEntry.getName(), e);
-			}
-			zipEntry = zippedStream.getNextEntry();
-		}
-		zippedStream.close();
-        inputStream.close();
-	}
-	
 }
 